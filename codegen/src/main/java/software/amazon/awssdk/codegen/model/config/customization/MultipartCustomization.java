@@ -19,6 +19,8 @@ public class MultipartCustomization {
     private String multipartConfigurationClass;
     private String multipartConfigMethodDoc;
     private String multipartEnableMethodDoc;
+    private String syncMultipartEnableMethodDoc;
+    private String contextParamKeyClass;
     private String contextParamEnabledKey;
     private String contextParamConfigKey;
 
@@ -46,6 +48,34 @@ public class MultipartCustomization {
         this.multipartEnableMethodDoc = multipartEnableMethodDoc;
     }
 
+    /**
+     * The javadoc of the multipartEnabled method of the sync client builder. Defaults to {@link #getMultipartEnableMethodDoc()}
+     * when not set.
+     */
+    public String getSyncMultipartEnableMethodDoc() {
+        return syncMultipartEnableMethodDoc != null ? syncMultipartEnableMethodDoc : multipartEnableMethodDoc;
+    }
+
+    public void setSyncMultipartEnableMethodDoc(String syncMultipartEnableMethodDoc) {
+        this.syncMultipartEnableMethodDoc = syncMultipartEnableMethodDoc;
+    }
+
+    /**
+     * The fully qualified name of the class that declares the {@link #getContextParamEnabledKey()} and
+     * {@link #getContextParamConfigKey()} fields.
+     */
+    public String getContextParamKeyClass() {
+        return contextParamKeyClass;
+    }
+
+    public void setContextParamKeyClass(String contextParamKeyClass) {
+        this.contextParamKeyClass = contextParamKeyClass;
+    }
+
+    /**
+     * The name of the field of {@link #getContextParamKeyClass()} holding the client context param key of the multipart
+     * enabled flag.
+     */
     public String getContextParamEnabledKey() {
         return contextParamEnabledKey;
     }
@@ -54,6 +84,10 @@ public class MultipartCustomization {
         this.contextParamEnabledKey = contextParamEnabledKey;
     }
 
+    /**
+     * The name of the field of {@link #getContextParamKeyClass()} holding the client context param key of the multipart
+     * configuration.
+     */
     public String getContextParamConfigKey() {
         return contextParamConfigKey;
     }
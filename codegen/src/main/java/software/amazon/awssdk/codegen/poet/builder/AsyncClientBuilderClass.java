@@ -170,7 +170,8 @@ public class AsyncClientBuilderClass implements ClassSpec {
                          .addModifiers(Modifier.PUBLIC)
                          .returns(builderInterfaceName)
                          .addParameter(Boolean.class, "enabled")
-                         .addStatement("clientContextParams.put($N, enabled)",
+                         .addStatement("clientContextParams.put($T.$L, enabled)",
+                                       PoetUtils.classNameFromFqcn(multipartCustomization.getContextParamKeyClass()),
                                        multipartCustomization.getContextParamEnabledKey())
                          .addStatement("return this")
                          .build();
@@ -184,7 +185,8 @@ public class AsyncClientBuilderClass implements ClassSpec {
                          .addModifiers(Modifier.PUBLIC)
                          .addParameter(ParameterSpec.builder(mulitpartConfigClassName, "multipartConfig").build())
                          .returns(builderInterfaceName)
-                         .addStatement("clientContextParams.put($N, multipartConfig)",
+                         .addStatement("clientContextParams.put($T.$L, multipartConfig)",
+                                       PoetUtils.classNameFromFqcn(multipartCustomization.getContextParamKeyClass()),
                                        multipartCustomization.getContextParamConfigKey())
                          .addStatement("return this")
                          .build();
@@ -41,6 +41,7 @@ import software.amazon.awssdk.core.interceptor.InterceptorContext;
 import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
 import software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute;
 import software.amazon.awssdk.core.internal.InternalCoreExecutionAttribute;
+import software.amazon.awssdk.core.internal.metrics.MetricSampler;
 import software.amazon.awssdk.core.internal.util.HttpChecksumResolver;
 import software.amazon.awssdk.core.signer.Signer;
 import software.amazon.awssdk.endpoints.EndpointProvider;
@@ -63,7 +64,7 @@ public final class AwsExecutionContextBuilder {
         // Don't edit this without considering those
 
         SdkRequest originalRequest = executionParams.getInput();
-        MetricCollector metricCollector = resolveMetricCollector(executionParams);
+        MetricCollector metricCollector = resolveMetricCollector(executionParams, clientConfig);
 
         ExecutionAttributes executionAttributes = mergeExecutionAttributeOverrides(
             executionParams.executionAttributes(),
@@ -106,8 +107,7 @@ public final class AwsExecutionContextBuilder {
                           clientConfig.option(AwsClientOption.USE_GLOBAL_ENDPOINT))
             .putAttribute(RESOLVED_CHECKSUM_SPECS, HttpChecksumResolver.resolveChecksumSpecs(executionAttributes));
 
-        ExecutionInterceptorChain executionInterceptorChain =
-                new ExecutionInterceptorChain(clientConfig.option(SdkClientOption.EXECUTION_INTERCEPTORS));
+        ExecutionInterceptorChain executionInterceptorChain = resolveInterceptorChain(clientConfig);
 
         InterceptorContext interceptorContext = InterceptorContext.builder()
                                                      .request(originalRequest)
@@ -194,12 +194,26 @@ public final class AwsExecutionContextBuilder {
         return executionAttributes;
     }
 
-    private static MetricCollector resolveMetricCollector(ClientExecutionParams<?, ?> params) {
+    private static MetricCollector resolveMetricCollector(ClientExecutionParams<?, ?> params,
+                                                          SdkClientConfiguration clientConfig) {
         MetricCollector metricCollector = params.getMetricCollector();
         if (metricCollector == null) {
             metricCollector = MetricCollector.create("ApiCall");
         }
-        return metricCollector;
+        return MetricSampler.executionCollector(metricCollector, params.getInput(),
+                                                clientConfig.option(SdkClientOption.METRIC_SAMPLING_POLICY));
+    }
+
+    /**
+     * Returns the interceptor chain that was created when the client was built, or creates one if the client configuration
+     * does not contain it.
+     */
+    private static ExecutionInterceptorChain resolveInterceptorChain(SdkClientConfiguration clientConfig) {
+        ExecutionInterceptorChain interceptorChain = clientConfig.option(SdkClientOption.EXECUTION_INTERCEPTOR_CHAIN);
+        if (interceptorChain == null) {
+            interceptorChain = new ExecutionInterceptorChain(clientConfig.option(SdkClientOption.EXECUTION_INTERCEPTORS));
+        }
+        return interceptorChain;
     }
 
     private static boolean isAuthenticatedRequest(ExecutionAttributes executionAttributes) {
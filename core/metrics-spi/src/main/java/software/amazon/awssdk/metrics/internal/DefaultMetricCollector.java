@@ -15,12 +15,15 @@
 
 package software.amazon.awssdk.metrics.internal;
 
+import java.time.Instant;
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
 import software.amazon.awssdk.metrics.MetricCollection;
 import software.amazon.awssdk.metrics.MetricCollector;
 import software.amazon.awssdk.metrics.MetricRecord;
@@ -29,15 +32,34 @@ import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.ToString;
 import software.amazon.awssdk.utils.Validate;
 
+/**
+ * A lock-free {@link MetricCollector}.
+ * <p>
+ * Every metric created with {@link SdkMetric#create} has a slot in this collector, indexed by {@link DefaultSdkMetric#index()},
+ * which holds the values reported for that metric in a linked list that is prepended to with a compare-and-set. Metrics
+ * without a slot (created after this collector, or not created with {@link SdkMetric#create}) share a separate list. Reporting
+ * a metric therefore allocates a single list node, and {@link #collect()} only takes a snapshot of the slots: the values are
+ * grouped per metric when they are read from the returned {@link MetricCollection}.
+ */
 @SdkInternalApi
+@ThreadSafe
 public final class DefaultMetricCollector implements MetricCollector {
     private static final Logger log = Logger.loggerFor(DefaultMetricCollector.class);
+
+    private static final AtomicReferenceFieldUpdater<DefaultMetricCollector, Node> UNINDEXED_METRICS =
+        AtomicReferenceFieldUpdater.newUpdater(DefaultMetricCollector.class, Node.class, "unindexedMetrics");
+
+    private static final AtomicReferenceFieldUpdater<DefaultMetricCollector, Node> CHILDREN =
+        AtomicReferenceFieldUpdater.newUpdater(DefaultMetricCollector.class, Node.class, "children");
+
     private final String name;
-    private final Map<SdkMetric<?>, List<MetricRecord<?>>> metrics = new LinkedHashMap<>();
-    private final List<MetricCollector> children = new ArrayList<>();
+    private final AtomicReferenceArray<Node> metrics;
+    private volatile Node unindexedMetrics;
+    private volatile Node children;
 
     public DefaultMetricCollector(String name) {
         this.name = name;
+        this.metrics = new AtomicReferenceArray<>(DefaultSdkMetric.count());
     }
 
     @Override
@@ -46,25 +68,35 @@ public final class DefaultMetricCollector implements MetricCollector {
     }
 
     @Override
-    public synchronized <T> void reportMetric(SdkMetric<T> metric, T data) {
-        metrics.computeIfAbsent(metric, (m) -> new ArrayList<>())
-               .add(new DefaultMetricRecord<>(metric, data));
+    public <T> void reportMetric(SdkMetric<T> metric, T data) {
+        Node node = new Node(metric, data);
+        int index = index(metric);
+        if (index < 0) {
+            prepend(UNINDEXED_METRICS, node);
+            return;
+        }
+
+        do {
+            node.next = metrics.get(index);
+        } while (!metrics.compareAndSet(index, node.next, node));
     }
 
     @Override
-    public synchronized MetricCollector createChild(String name) {
+    public MetricCollector createChild(String name) {
         MetricCollector child = new DefaultMetricCollector(name);
-        children.add(child);
+        prepend(CHILDREN, new Node(null, child));
         return child;
     }
 
     @Override
-    public synchronized MetricCollection collect() {
-        List<MetricCollection> collectedChildren = children.stream()
-                .map(MetricCollector::collect)
-                .collect(Collectors.toList());
+    public MetricCollection collect() {
+        List<MetricCollection> collectedChildren = new ArrayList<>();
+        for (Node child = children; child != null; child = child.next) {
+            collectedChildren.add(((MetricCollector) child.value).collect());
+        }
+        Collections.reverse(collectedChildren);
 
-        DefaultMetricCollection metricRecords = new DefaultMetricCollection(name, metrics, collectedChildren);
+        MetricCollection metricRecords = new CollectedMetrics(name, snapshot(), unindexedMetrics, collectedChildren);
 
         log.debug(() -> "Collected metrics records: " + metricRecords);
         return metricRecords;
@@ -78,6 +110,162 @@ public final class DefaultMetricCollector implements MetricCollector {
     @Override
     public String toString() {
         return ToString.builder("DefaultMetricCollector")
-            .add("metrics", metrics).build();
+                       .add("metrics", records(snapshot(), unindexedMetrics))
+                       .build();
+    }
+
+    private int index(SdkMetric<?> metric) {
+        if (!(metric instanceof DefaultSdkMetric)) {
+            return -1;
+        }
+        int index = ((DefaultSdkMetric<?>) metric).index();
+        return index < metrics.length() ? index : -1;
+    }
+
+    private void prepend(AtomicReferenceFieldUpdater<DefaultMetricCollector, Node> list, Node node) {
+        do {
+            node.next = list.get(this);
+        } while (!list.compareAndSet(this, node.next, node));
+    }
+
+    private Node[] snapshot() {
+        Node[] snapshot = new Node[metrics.length()];
+        for (int i = 0; i < snapshot.length; i++) {
+            snapshot[i] = metrics.get(i);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Returns the records in the provided lists. The records are grouped by metric, in the order of the metrics' indexes,
+     * followed by the records of the unindexed metrics. Within each list, the records are in the order they were reported.
+     */
+    private static List<MetricRecord<?>> records(Node[] metrics, Node unindexedMetrics) {
+        List<MetricRecord<?>> records = new ArrayList<>();
+        for (Node head : metrics) {
+            addRecords(records, head);
+        }
+        addRecords(records, unindexedMetrics);
+        return records;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void addRecords(List<MetricRecord<?>> records, Node head) {
+        if (head == null) {
+            return;
+        }
+        for (Node node = head; node != null; node = node.next) {
+            records.add(null);
+        }
+        int index = records.size();
+        for (Node node = head; node != null; node = node.next) {
+            records.set(--index, new DefaultMetricRecord<>((SdkMetric<Object>) node.metric, node.value));
+        }
+    }
+
+    /**
+     * A reported metric value, or a child collector.
+     */
+    private static final class Node {
+        private final SdkMetric<?> metric;
+        private final Object value;
+        private Node next;
+
+        private Node(SdkMetric<?> metric, Object value) {
+            this.metric = metric;
+            this.value = value;
+        }
+    }
+
+    /**
+     * The {@link MetricCollection} returned by {@link #collect()}, which reads the values from the collected lists on demand.
+     */
+    private static final class CollectedMetrics implements MetricCollection {
+        private final String name;
+        private final Node[] metrics;
+        private final Node unindexedMetrics;
+        private final List<MetricCollection> children;
+        private final Instant creationTime;
+
+        /**
+         * The records of this collection, created the first time the collection is iterated over and then shared with every
+         * later iteration, so that publishers that iterate over a collection more than once do not allocate for every record.
+         */
+        private volatile List<MetricRecord<?>> records;
+
+        private CollectedMetrics(String name, Node[] metrics, Node unindexedMetrics, List<MetricCollection> children) {
+            this.name = name;
+            this.metrics = metrics;
+            this.unindexedMetrics = unindexedMetrics;
+            this.children = Collections.unmodifiableList(children);
+            this.creationTime = Instant.now();
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public <T> List<T> metricValues(SdkMetric<T> metric) {
+            Node head = unindexedMetrics;
+            if (metric instanceof DefaultSdkMetric) {
+                int index = ((DefaultSdkMetric<?>) metric).index();
+                if (index < metrics.length) {
+                    head = metrics[index];
+                }
+            }
+
+            List<T> values = null;
+            for (Node node = head; node != null; node = node.next) {
+                if (metric.equals(node.metric)) {
+                    if (values == null) {
+                        values = new ArrayList<>();
+                    }
+                    values.add((T) node.value);
+                }
+            }
+
+            if (values == null) {
+                return Collections.emptyList();
+            }
+            Collections.reverse(values);
+            return Collections.unmodifiableList(values);
+        }
+
+        @Override
+        public List<MetricCollection> children() {
+            return children;
+        }
+
+        @Override
+        public Instant creationTime() {
+            return creationTime;
+        }
+
+        @Override
+        public Iterator<MetricRecord<?>> iterator() {
+            return cachedRecords().iterator();
+        }
+
+        private List<MetricRecord<?>> cachedRecords() {
+            List<MetricRecord<?>> result = records;
+            if (result == null) {
+                // Concurrent first iterations may each create the records, which is harmless because they are equal.
+                result = Collections.unmodifiableList(DefaultMetricCollector.records(metrics, unindexedMetrics));
+                records = result;
+            }
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return ToString.builder("MetricCollection")
+                           .add("name", name)
+                           .add("metrics", cachedRecords())
+                           .add("children", children)
+                           .build();
+        }
     }
 }
@@ -19,6 +19,7 @@ import java.util.Collections;
 import java.util.EnumSet;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import software.amazon.awssdk.annotations.SdkInternalApi;
@@ -33,7 +34,9 @@ import software.amazon.awssdk.utils.Validate;
 @SdkInternalApi
 public final class DefaultSdkMetric<T> extends AttributeMap.Key<T> implements SdkMetric<T> {
     private static final ConcurrentHashMap<SdkMetric<?>, Boolean> SDK_METRICS = new ConcurrentHashMap<>();
+    private static final AtomicInteger NEXT_INDEX = new AtomicInteger();
 
+    private final int index;
     private final String name;
     private final Class<T> clzz;
     private final Set<MetricCategory> categories;
@@ -46,6 +49,7 @@ public final class DefaultSdkMetric<T> extends AttributeMap.Key<T> implements Sd
         this.level = Validate.notNull(level, "level must not be null");
         Validate.notEmpty(categories, "categories must not be empty");
         this.categories = EnumSet.copyOf(categories);
+        this.index = NEXT_INDEX.getAndIncrement();
     }
 
     /**
@@ -77,6 +81,21 @@ public final class DefaultSdkMetric<T> extends AttributeMap.Key<T> implements Sd
         return clzz;
     }
 
+    /**
+     * @return The dense index of this metric, which is assigned when the metric is created and is used by
+     * {@link DefaultMetricCollector} to store the values of this metric.
+     */
+    int index() {
+        return index;
+    }
+
+    /**
+     * @return The number of metrics created so far, which is one greater than the highest {@link #index()}.
+     */
+    static int count() {
+        return NEXT_INDEX.get();
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
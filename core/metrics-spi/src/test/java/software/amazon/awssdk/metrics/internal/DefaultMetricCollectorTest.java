@@ -17,6 +17,12 @@ package software.amazon.awssdk.metrics.internal;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.junit.AfterClass;
 import org.junit.Rule;
@@ -26,10 +32,12 @@ import software.amazon.awssdk.metrics.MetricCategory;
 import software.amazon.awssdk.metrics.MetricCollection;
 import software.amazon.awssdk.metrics.MetricCollector;
 import software.amazon.awssdk.metrics.MetricLevel;
+import software.amazon.awssdk.metrics.MetricRecord;
 import software.amazon.awssdk.metrics.SdkMetric;
 
 public class DefaultMetricCollectorTest {
     private static final SdkMetric<Integer> M1 = SdkMetric.create("m1", Integer.class, MetricLevel.INFO, MetricCategory.CORE);
+    private static final SdkMetric<String> M2 = SdkMetric.create("m2", String.class, MetricLevel.INFO, MetricCategory.CORE);
 
     @Rule
     public ExpectedException thrown = ExpectedException.none();
@@ -70,4 +78,66 @@ public class DefaultMetricCollectorTest {
         MetricCollection collected = parent.collect();
         assertThat(collected.children().stream().map(MetricCollection::name)).containsExactly(childNames);
     }
+
+    @Test
+    public void testCollect_metricNotReported_returnsEmptyList() {
+        MetricCollector collector = MetricCollector.create("collector");
+        collector.reportMetric(M2, "value");
+        assertThat(collector.collect().metricValues(M1)).isEmpty();
+    }
+
+    @Test
+    public void testCollect_metricCreatedAfterCollector_inCollection() {
+        MetricCollector collector = MetricCollector.create("collector");
+        SdkMetric<Integer> metric = SdkMetric.create("createdAfterCollector", Integer.class, MetricLevel.INFO,
+                                                     MetricCategory.CORE);
+        collector.reportMetric(metric, 1);
+        collector.reportMetric(M1, 2);
+        collector.reportMetric(metric, 3);
+
+        MetricCollection collection = collector.collect();
+        assertThat(collection.metricValues(metric)).containsExactly(1, 3);
+        assertThat(collection.metricValues(M1)).containsExactly(2);
+    }
+
+    @Test
+    public void testIterator_returnsRecordsOfEachMetricInReportedOrder() {
+        MetricCollector collector = MetricCollector.create("collector");
+        collector.reportMetric(M1, 1);
+        collector.reportMetric(M2, "a");
+        collector.reportMetric(M1, 2);
+        collector.reportMetric(M2, "b");
+
+        List<Object> m1Values = new ArrayList<>();
+        List<Object> m2Values = new ArrayList<>();
+        for (MetricRecord<?> record : collector.collect()) {
+            (record.metric().equals(M1) ? m1Values : m2Values).add(record.value());
+        }
+        assertThat(m1Values).containsExactly(1, 2);
+        assertThat(m2Values).containsExactly("a", "b");
+    }
+
+    @Test
+    public void testReportMetric_concurrentReports_allReportedMetricsInCollection() {
+        MetricCollector collector = MetricCollector.create("collector");
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            CompletableFuture.allOf(IntStream.range(0, 8)
+                                             .mapToObj(t -> CompletableFuture.runAsync(() -> {
+                                                 for (int i = 0; i < 1000; i++) {
+                                                     collector.reportMetric(M1, t * 1000 + i);
+                                                 }
+                                                 collector.createChild("child" + t);
+                                             }, executor))
+                                             .toArray(CompletableFuture[]::new))
+                             .join();
+        } finally {
+            executor.shutdown();
+        }
+
+        MetricCollection collection = collector.collect();
+        assertThat(collection.metricValues(M1)).containsExactlyInAnyOrder(IntStream.range(0, 8000).boxed()
+                                                                                   .toArray(Integer[]::new));
+        assertThat(collection.children()).hasSize(8);
+    }
 }
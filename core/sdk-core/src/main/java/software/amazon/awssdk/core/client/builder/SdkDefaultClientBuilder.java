@@ -34,8 +34,10 @@ import static software.amazon.awssdk.core.client.config.SdkClientOption.CRC32_FR
 import static software.amazon.awssdk.core.client.config.SdkClientOption.ENDPOINT_OVERRIDDEN;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.EXECUTION_ATTRIBUTES;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.EXECUTION_INTERCEPTORS;
+import static software.amazon.awssdk.core.client.config.SdkClientOption.EXECUTION_INTERCEPTOR_CHAIN;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.INTERNAL_USER_AGENT;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.METRIC_PUBLISHERS;
+import static software.amazon.awssdk.core.client.config.SdkClientOption.METRIC_SAMPLING_POLICY;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.PROFILE_FILE;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.PROFILE_FILE_SUPPLIER;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.PROFILE_NAME;
@@ -62,6 +64,7 @@ import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
 import software.amazon.awssdk.core.CompressionConfiguration;
@@ -72,10 +75,13 @@ import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.core.interceptor.ClasspathInterceptorChainFactory;
 import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptorChain;
 import software.amazon.awssdk.core.internal.http.loader.DefaultSdkAsyncHttpClientBuilder;
 import software.amazon.awssdk.core.internal.http.loader.DefaultSdkHttpClientBuilder;
 import software.amazon.awssdk.core.internal.http.pipeline.stages.ApplyUserAgentStage;
 import software.amazon.awssdk.core.internal.interceptor.HttpChecksumValidationInterceptor;
+import software.amazon.awssdk.core.internal.metrics.SamplingMetricPublisher;
+import software.amazon.awssdk.core.metrics.MetricSamplingPolicy;
 import software.amazon.awssdk.core.retry.RetryMode;
 import software.amazon.awssdk.core.retry.RetryPolicy;
 import software.amazon.awssdk.core.util.SdkUserAgent;
@@ -240,6 +246,7 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
                                                                          .orElse(null));
         builder.option(PROFILE_NAME, clientOverrideConfiguration.defaultProfileName().orElse(null));
         builder.option(METRIC_PUBLISHERS, clientOverrideConfiguration.metricPublishers());
+        builder.option(METRIC_SAMPLING_POLICY, clientOverrideConfiguration.metricSamplingPolicy().orElse(null));
         builder.option(EXECUTION_ATTRIBUTES, clientOverrideConfiguration.executionAttributes());
         builder.option(TOKEN_SIGNER, clientOverrideConfiguration.advancedOption(TOKEN_SIGNER).orElse(null));
         builder.option(COMPRESSION_CONFIGURATION, clientOverrideConfiguration.compressionConfiguration().orElse(null));
@@ -385,14 +392,32 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
      */
     private SdkClientConfiguration finalizeConfiguration(SdkClientConfiguration config) {
         RetryPolicy retryPolicy = resolveRetryPolicy(config);
+        List<ExecutionInterceptor> executionInterceptors = resolveExecutionInterceptors(config);
         return config.toBuilder()
                      .option(SCHEDULED_EXECUTOR_SERVICE, resolveScheduledExecutorService(config))
-                     .option(EXECUTION_INTERCEPTORS, resolveExecutionInterceptors(config))
+                     .option(EXECUTION_INTERCEPTORS, executionInterceptors)
+                     .option(EXECUTION_INTERCEPTOR_CHAIN, new ExecutionInterceptorChain(executionInterceptors))
                      .option(RETRY_POLICY, retryPolicy)
                      .option(CLIENT_USER_AGENT, resolveClientUserAgent(config, retryPolicy))
+                     .option(METRIC_PUBLISHERS, resolveMetricPublishers(config))
                      .build();
     }
 
+    /**
+     * Wraps the metric publishers of the client so that they only publish the API calls selected by the metric sampling
+     * policy, if one is configured.
+     */
+    private List<MetricPublisher> resolveMetricPublishers(SdkClientConfiguration config) {
+        List<MetricPublisher> metricPublishers = config.option(METRIC_PUBLISHERS);
+        MetricSamplingPolicy samplingPolicy = config.option(METRIC_SAMPLING_POLICY);
+        if (samplingPolicy == null || metricPublishers == null || metricPublishers.isEmpty()) {
+            return metricPublishers;
+        }
+        return Collections.unmodifiableList(metricPublishers.stream()
+                                                            .map(p -> new SamplingMetricPublisher(p, samplingPolicy))
+                                                            .collect(Collectors.toList()));
+    }
+
     private String resolveClientUserAgent(SdkClientConfiguration config, RetryPolicy retryPolicy) {
         return ApplyUserAgentStage.resolveClientUserAgent(config.option(USER_AGENT_PREFIX),
                                                           config.option(INTERNAL_USER_AGENT),
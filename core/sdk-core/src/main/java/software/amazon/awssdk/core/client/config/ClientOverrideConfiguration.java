@@ -32,6 +32,7 @@ import software.amazon.awssdk.core.RequestOverrideConfiguration;
 import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.metrics.MetricSamplingPolicy;
 import software.amazon.awssdk.core.retry.RetryMode;
 import software.amazon.awssdk.core.retry.RetryPolicy;
 import software.amazon.awssdk.core.sync.ResponseTransformer;
@@ -63,6 +64,7 @@ public final class ClientOverrideConfiguration
     private final ProfileFile defaultProfileFile;
     private final String defaultProfileName;
     private final List<MetricPublisher> metricPublishers;
+    private final MetricSamplingPolicy metricSamplingPolicy;
     private final ExecutionAttributes executionAttributes;
     private final ScheduledExecutorService scheduledExecutorService;
     private final CompressionConfiguration compressionConfiguration;
@@ -80,6 +82,7 @@ public final class ClientOverrideConfiguration
         this.defaultProfileFile = builder.defaultProfileFile();
         this.defaultProfileName = builder.defaultProfileName();
         this.metricPublishers = Collections.unmodifiableList(new ArrayList<>(builder.metricPublishers()));
+        this.metricSamplingPolicy = builder.metricSamplingPolicy();
         this.executionAttributes = ExecutionAttributes.unmodifiableExecutionAttributes(builder.executionAttributes());
         this.scheduledExecutorService = builder.scheduledExecutorService();
         this.compressionConfiguration = builder.compressionConfiguration();
@@ -99,6 +102,7 @@ public final class ClientOverrideConfiguration
             .defaultProfileName(defaultProfileName)
             .executionAttributes(executionAttributes)
             .metricPublishers(metricPublishers)
+            .metricSamplingPolicy(metricSamplingPolicy)
             .scheduledExecutorService(scheduledExecutorService)
             .compressionConfiguration(compressionConfiguration);
     }
@@ -225,6 +229,15 @@ public final class ClientOverrideConfiguration
         return metricPublishers;
     }
 
+    /**
+     * The policy that decides which API calls have their metrics published to the {@link #metricPublishers()}.
+     *
+     * @see Builder#metricSamplingPolicy(MetricSamplingPolicy)
+     */
+    public Optional<MetricSamplingPolicy> metricSamplingPolicy() {
+        return Optional.ofNullable(metricSamplingPolicy);
+    }
+
     /**
      *  Returns the additional execution attributes to be added for this client.
      *
@@ -256,6 +269,7 @@ public final class ClientOverrideConfiguration
                        .add("profileFile", defaultProfileFile)
                        .add("profileName", defaultProfileName)
                        .add("scheduledExecutorService", scheduledExecutorService)
+                       .add("metricSamplingPolicy", metricSamplingPolicy)
                        .add("compressionConfiguration", compressionConfiguration)
                        .build();
     }
@@ -513,6 +527,32 @@ public final class ClientOverrideConfiguration
 
         List<MetricPublisher> metricPublishers();
 
+        /**
+         * Configure the policy that decides which API calls have their metrics collected and published to the metric
+         * publishers of this client. By default, the metrics of every API call are published.
+         *
+         * <p>
+         * API calls that are not sampled by the policy are executed without collecting metrics, which reduces the overhead of
+         * publishing metrics from clients with a high request rate. Requests that configure their own metric publishers are
+         * always collected.
+         *
+         * @param metricSamplingPolicy The metric sampling policy.
+         * @see MetricSamplingPolicy
+         */
+        Builder metricSamplingPolicy(MetricSamplingPolicy metricSamplingPolicy);
+
+        /**
+         * Configure the policy that decides which API calls have their metrics collected and published to the metric
+         * publishers of this client.
+         *
+         * @see #metricSamplingPolicy(MetricSamplingPolicy)
+         */
+        default Builder metricSamplingPolicy(Consumer<MetricSamplingPolicy.Builder> metricSamplingPolicy) {
+            return metricSamplingPolicy(MetricSamplingPolicy.builder().applyMutation(metricSamplingPolicy).build());
+        }
+
+        MetricSamplingPolicy metricSamplingPolicy();
+
         /**
          * Sets the additional execution attributes collection for this client.
          * @param executionAttributes Execution attributes map for this client.
@@ -559,6 +599,7 @@ public final class ClientOverrideConfiguration
         private ProfileFile defaultProfileFile;
         private String defaultProfileName;
         private List<MetricPublisher> metricPublishers = new ArrayList<>();
+        private MetricSamplingPolicy metricSamplingPolicy;
         private ExecutionAttributes.Builder executionAttributes = ExecutionAttributes.builder();
         private ScheduledExecutorService scheduledExecutorService;
         private CompressionConfiguration compressionConfiguration;
@@ -738,6 +779,21 @@ public final class ClientOverrideConfiguration
             return Collections.unmodifiableList(metricPublishers);
         }
 
+        @Override
+        public Builder metricSamplingPolicy(MetricSamplingPolicy metricSamplingPolicy) {
+            this.metricSamplingPolicy = metricSamplingPolicy;
+            return this;
+        }
+
+        public void setMetricSamplingPolicy(MetricSamplingPolicy metricSamplingPolicy) {
+            metricSamplingPolicy(metricSamplingPolicy);
+        }
+
+        @Override
+        public MetricSamplingPolicy metricSamplingPolicy() {
+            return metricSamplingPolicy;
+        }
+
         @Override
         public Builder executionAttributes(ExecutionAttributes executionAttributes) {
             Validate.paramNotNull(executionAttributes, "executionAttributes");
@@ -27,6 +27,8 @@ import software.amazon.awssdk.core.CompressionConfiguration;
 import software.amazon.awssdk.core.ServiceConfiguration;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptorChain;
+import software.amazon.awssdk.core.metrics.MetricSamplingPolicy;
 import software.amazon.awssdk.core.retry.RetryMode;
 import software.amazon.awssdk.core.retry.RetryPolicy;
 import software.amazon.awssdk.endpoints.EndpointProvider;
@@ -58,6 +60,13 @@ public final class SdkClientOption<T> extends ClientOption<T> {
     public static final SdkClientOption<List<ExecutionInterceptor>> EXECUTION_INTERCEPTORS =
             new SdkClientOption<>(new UnsafeValueType(List.class));
 
+    /**
+     * The chain of the {@link #EXECUTION_INTERCEPTORS}, which is created once when the client is built and shared by all of its
+     * requests.
+     */
+    public static final SdkClientOption<ExecutionInterceptorChain> EXECUTION_INTERCEPTOR_CHAIN =
+            new SdkClientOption<>(ExecutionInterceptorChain.class);
+
     /**
      * The effective endpoint the client is configured to make requests to. If the client has been configured with
      * an endpoint override then this value will be the provided endpoint value.
@@ -153,6 +162,12 @@ public final class SdkClientOption<T> extends ClientOption<T> {
     public static final SdkClientOption<List<MetricPublisher>> METRIC_PUBLISHERS =
             new SdkClientOption<>(new UnsafeValueType(List.class));
 
+    /**
+     * The policy that decides which API calls have their metrics published to the {@link #METRIC_PUBLISHERS}.
+     */
+    public static final SdkClientOption<MetricSamplingPolicy> METRIC_SAMPLING_POLICY =
+            new SdkClientOption<>(MetricSamplingPolicy.class);
+
     /**
      * Option to specify if the default signer has been overridden on the client.
      */
@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.core.interceptor;
 
+import java.util.Arrays;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -45,8 +46,15 @@ import software.amazon.awssdk.annotations.SdkPublicApi;
 @SdkPublicApi
 public final class ExecutionAttribute<T> {
     private static final ConcurrentMap<String, ExecutionAttribute<?>> NAME_HISTORY = new ConcurrentHashMap<>();
-    
+    private static final Object REGISTRATION_LOCK = new Object();
+
+    /**
+     * The attributes by index. The array is replaced when an attribute is created, so that it can be read without locking.
+     */
+    private static volatile ExecutionAttribute<?>[] byIndex = new ExecutionAttribute<?>[0];
+
     private final String name;
+    private final int index;
 
     /**
      * Creates a new {@link ExecutionAttribute} bound to the provided type param.
@@ -56,6 +64,31 @@ public final class ExecutionAttribute<T> {
     public ExecutionAttribute(String name) {
         this.name = name;
         ensureUnique();
+        this.index = register(this);
+    }
+
+    /**
+     * Assigns the next dense index to a newly created attribute. The index identifies the slot of the attribute in
+     * {@link ExecutionAttributes}.
+     */
+    private static int register(ExecutionAttribute<?> attribute) {
+        synchronized (REGISTRATION_LOCK) {
+            ExecutionAttribute<?>[] attributes = Arrays.copyOf(byIndex, byIndex.length + 1);
+            attributes[attributes.length - 1] = attribute;
+            byIndex = attributes;
+            return attributes.length - 1;
+        }
+    }
+
+    /**
+     * @return the attribute that was assigned the given index
+     */
+    static ExecutionAttribute<?> forIndex(int index) {
+        return byIndex[index];
+    }
+
+    int index() {
+        return index;
     }
 
     private void ensureUnique() {
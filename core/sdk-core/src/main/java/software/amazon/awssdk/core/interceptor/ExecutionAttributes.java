@@ -15,9 +15,11 @@
 
 package software.amazon.awssdk.core.interceptor;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import software.amazon.awssdk.annotations.NotThreadSafe;
 import software.amazon.awssdk.annotations.SdkPublicApi;
@@ -35,14 +37,30 @@ import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
 @SdkPublicApi
 @NotThreadSafe
 public class ExecutionAttributes implements ToCopyableBuilder<ExecutionAttributes.Builder, ExecutionAttributes> {
-    private final Map<ExecutionAttribute<?>, Object> attributes;
+    /**
+     * Stored in the slot of an attribute that was explicitly set to null, to tell it apart from an attribute that was not set.
+     */
+    private static final Object NULL_VALUE = new Object();
+
+    private static final Object[] NO_VALUES = new Object[0];
+
+    /**
+     * The values of the attributes, indexed by {@link ExecutionAttribute#index()}. The array is allocated when the first
+     * attribute is set, and grows up to the highest index that is set.
+     */
+    private Object[] values;
 
     public ExecutionAttributes() {
-        this.attributes = new HashMap<>(32);
+        this.values = NO_VALUES;
     }
 
     protected ExecutionAttributes(Map<? extends ExecutionAttribute<?>, ?> attributes) {
-        this.attributes = new HashMap<>(attributes);
+        this();
+        attributes.forEach(this::setValue);
+    }
+
+    private ExecutionAttributes(Object[] values) {
+        this.values = values;
     }
 
     /**
@@ -51,14 +69,14 @@ public class ExecutionAttributes implements ToCopyableBuilder<ExecutionAttribute
      */
     @SuppressWarnings("unchecked") // Cast is safe due to implementation of {@link #putAttribute}
     public <U> U getAttribute(ExecutionAttribute<U> attribute) {
-        return (U) attributes.get(attribute);
+        return (U) unmask(slot(values, attribute.index()));
     }
 
     /**
      * Retrieve the collection of attributes.
      */
     public Map<ExecutionAttribute<?>, Object> getAttributes() {
-        return Collections.unmodifiableMap(attributes);
+        return Collections.unmodifiableMap(toMap(values));
     }
 
     /**
@@ -66,14 +84,14 @@ public class ExecutionAttributes implements ToCopyableBuilder<ExecutionAttribute
      * This will return Optional Value.
      */
     public <U> Optional<U> getOptionalAttribute(ExecutionAttribute<U> attribute) {
-        return Optional.ofNullable((U) attributes.get(attribute));
+        return Optional.ofNullable(getAttribute(attribute));
     }
 
     /**
      * Update or set the provided attribute in this collection of attributes.
      */
     public <U> ExecutionAttributes putAttribute(ExecutionAttribute<U> attribute, U value) {
-        this.attributes.put(attribute, value);
+        setValue(attribute, value);
         return this;
     }
 
@@ -81,9 +99,9 @@ public class ExecutionAttributes implements ToCopyableBuilder<ExecutionAttribute
      * Merge attributes of a higher precedence into the current lower precedence collection.
      */
     public ExecutionAttributes merge(ExecutionAttributes lowerPrecedenceExecutionAttributes) {
-        Map<ExecutionAttribute<?>, Object> copiedAttributes = new HashMap<>(this.attributes);
-        lowerPrecedenceExecutionAttributes.getAttributes().forEach(copiedAttributes::putIfAbsent);
-        return new ExecutionAttributes(copiedAttributes);
+        ExecutionAttributes merged = new ExecutionAttributes(copyOf(values));
+        merged.putAbsentValues(lowerPrecedenceExecutionAttributes.values);
+        return merged;
     }
 
     /**
@@ -91,7 +109,7 @@ public class ExecutionAttributes implements ToCopyableBuilder<ExecutionAttribute
      */
     public void putAbsentAttributes(ExecutionAttributes lowerPrecedenceExecutionAttributes) {
         if (lowerPrecedenceExecutionAttributes != null) {
-            lowerPrecedenceExecutionAttributes.getAttributes().forEach(attributes::putIfAbsent);
+            putAbsentValues(lowerPrecedenceExecutionAttributes.values);
         }
     }
 
@@ -99,7 +117,9 @@ public class ExecutionAttributes implements ToCopyableBuilder<ExecutionAttribute
      * Set the provided attribute in this collection of attributes if it does not already exist in the collection.
      */
     public <U> ExecutionAttributes putAttributeIfAbsent(ExecutionAttribute<U> attribute, U value) {
-        attributes.putIfAbsent(attribute, value);
+        if (getAttribute(attribute) == null) {
+            setValue(attribute, value);
+        }
         return this;
     }
 
@@ -113,7 +133,21 @@ public class ExecutionAttributes implements ToCopyableBuilder<ExecutionAttribute
     }
 
     public ExecutionAttributes copy() {
-        return toBuilder().build();
+        return new ExecutionAttributes(copyOf(values));
+    }
+
+    private void setValue(ExecutionAttribute<?> attribute, Object value) {
+        values = ensureCapacity(values, attribute.index());
+        values[attribute.index()] = mask(value);
+    }
+
+    private void putAbsentValues(Object[] lowerPrecedenceValues) {
+        values = ensureCapacity(values, lowerPrecedenceValues.length - 1);
+        for (int i = 0; i < lowerPrecedenceValues.length; i++) {
+            if (lowerPrecedenceValues[i] != null && unmask(values[i]) == null) {
+                values[i] = lowerPrecedenceValues[i];
+            }
+        }
     }
 
     @Override
@@ -128,18 +162,31 @@ public class ExecutionAttributes implements ToCopyableBuilder<ExecutionAttribute
 
         ExecutionAttributes that = (ExecutionAttributes) o;
 
-        return attributes != null ? attributes.equals(that.attributes) : that.attributes == null;
+        int length = Math.max(values.length, that.values.length);
+        for (int i = 0; i < length; i++) {
+            if (!Objects.equals(slot(values, i), slot(that.values, i))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
     public int hashCode() {
-        return attributes != null ? attributes.hashCode() : 0;
+        // Consistent with the hash code of the map returned by getAttributes()
+        int hashCode = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                hashCode += ExecutionAttribute.forIndex(i).hashCode() ^ Objects.hashCode(unmask(values[i]));
+            }
+        }
+        return hashCode;
     }
 
     @Override
     public String toString() {
         return ToString.builder("ExecutionAttributes")
-                       .add("attributes", attributes.keySet())
+                       .add("attributes", toMap(values).keySet())
                        .build();
     }
 
@@ -147,9 +194,42 @@ public class ExecutionAttributes implements ToCopyableBuilder<ExecutionAttribute
         return new UnmodifiableExecutionAttributes(attributes);
     }
 
+    private static Object slot(Object[] values, int index) {
+        return index < values.length ? values[index] : null;
+    }
+
+    private static Object[] copyOf(Object[] values) {
+        return values.length == 0 ? NO_VALUES : values.clone();
+    }
+
+    private static Object[] ensureCapacity(Object[] values, int index) {
+        if (index < values.length) {
+            return values;
+        }
+        return Arrays.copyOf(values, index + 1);
+    }
+
+    private static Object mask(Object value) {
+        return value == null ? NULL_VALUE : value;
+    }
+
+    private static Object unmask(Object value) {
+        return value == NULL_VALUE ? null : value;
+    }
+
+    private static Map<ExecutionAttribute<?>, Object> toMap(Object[] values) {
+        Map<ExecutionAttribute<?>, Object> attributes = new HashMap<>();
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                attributes.put(ExecutionAttribute.forIndex(i), unmask(values[i]));
+            }
+        }
+        return attributes;
+    }
+
     private static class UnmodifiableExecutionAttributes extends ExecutionAttributes {
         UnmodifiableExecutionAttributes(ExecutionAttributes executionAttributes) {
-            super(executionAttributes.attributes);
+            super(copyOf(executionAttributes.values));
         }
 
         @Override
@@ -165,13 +245,14 @@ public class ExecutionAttributes implements ToCopyableBuilder<ExecutionAttribute
 
     public static final class Builder implements CopyableBuilder<ExecutionAttributes.Builder, ExecutionAttributes> {
 
-        private final Map<ExecutionAttribute<?>, Object> executionAttributes = new HashMap<>();
+        private final ExecutionAttributes executionAttributes;
 
         private Builder() {
+            this.executionAttributes = new ExecutionAttributes();
         }
 
         private Builder(ExecutionAttributes attributes) {
-            this.executionAttributes.putAll(attributes.attributes);
+            this.executionAttributes = attributes.copy();
         }
 
         /**
@@ -179,7 +260,7 @@ public class ExecutionAttributes implements ToCopyableBuilder<ExecutionAttribute
          */
         public <T> ExecutionAttributes.Builder put(ExecutionAttribute<T> key, T value) {
             Validate.notNull(key, "Key to set must not be null.");
-            executionAttributes.put(key, value);
+            executionAttributes.setValue(key, value);
             return this;
         }
 
@@ -187,13 +268,13 @@ public class ExecutionAttributes implements ToCopyableBuilder<ExecutionAttribute
          * Adds all the attributes from the map provided.
          */
         public ExecutionAttributes.Builder putAll(Map<? extends ExecutionAttribute<?>, ?> attributes) {
-            executionAttributes.putAll(attributes);
+            attributes.forEach(executionAttributes::setValue);
             return this;
         }
 
         @Override
         public ExecutionAttributes build() {
-            return new ExecutionAttributes(executionAttributes);
+            return executionAttributes.copy();
         }
     }
-}
\ No newline at end of file
+}
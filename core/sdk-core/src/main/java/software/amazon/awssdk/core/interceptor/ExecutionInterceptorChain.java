@@ -16,12 +16,14 @@
 package software.amazon.awssdk.core.interceptor;
 
 import java.io.InputStream;
+import java.lang.reflect.Method;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.function.Consumer;
+import java.util.Set;
 import org.reactivestreams.Publisher;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.core.SdkRequest;
@@ -43,53 +45,89 @@ import software.amazon.awssdk.utils.Validate;
  * Interceptors are invoked in forward order up to {@link #beforeTransmission} and in reverse order after (and including)
  * {@link #afterTransmission}. This ensures the last interceptors to modify the request are the first interceptors to see the
  * response.
+ *
+ * <p>Most interceptors only override one or two of the {@link ExecutionInterceptor} methods, so the chain determines up front
+ * which interceptors override each method and only invokes those. The methods that modify a message only rebuild the
+ * {@link InterceptorContext} when an interceptor returns a different message than the one it was given.
  */
 @SdkProtectedApi
 public class ExecutionInterceptorChain {
     private static final Logger LOG = Logger.loggerFor(ExecutionInterceptorChain.class);
 
+    private static final ClassValue<Set<Hook>> OVERRIDDEN_HOOKS = new ClassValue<Set<Hook>>() {
+        @Override
+        protected Set<Hook> computeValue(Class<?> type) {
+            return overriddenHooks(type);
+        }
+    };
+
     private final List<ExecutionInterceptor> interceptors;
 
+    /**
+     * The interceptors that override each {@link Hook}, indexed by {@link Hook#ordinal()}, in the order they were provided.
+     */
+    private final ExecutionInterceptor[][] interceptorsByHook;
+
     /**
      * Create a chain that will execute the provided interceptors in the order they are provided.
      */
     public ExecutionInterceptorChain(List<ExecutionInterceptor> interceptors) {
         this.interceptors = new ArrayList<>(Validate.paramNotNull(interceptors, "interceptors"));
+        this.interceptorsByHook = new ExecutionInterceptor[Hook.values().length][];
+        for (Hook hook : Hook.values()) {
+            interceptorsByHook[hook.ordinal()] = this.interceptors.stream()
+                                                                  .filter(i -> OVERRIDDEN_HOOKS.get(i.getClass()).contains(hook))
+                                                                  .toArray(ExecutionInterceptor[]::new);
+        }
         LOG.debug(() -> "Creating an interceptor chain that will apply interceptors in the following order: " + interceptors);
     }
 
     public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes executionAttributes) {
-        interceptors.forEach(i -> i.beforeExecution(context, executionAttributes));
+        for (ExecutionInterceptor interceptor : interceptors(Hook.BEFORE_EXECUTION)) {
+            interceptor.beforeExecution(context, executionAttributes);
+        }
     }
 
     public InterceptorContext modifyRequest(InterceptorContext context, ExecutionAttributes executionAttributes) {
         InterceptorContext result = context;
-        for (ExecutionInterceptor interceptor : interceptors) {
+        for (ExecutionInterceptor interceptor : interceptors(Hook.MODIFY_REQUEST)) {
             SdkRequest interceptorResult = interceptor.modifyRequest(result, executionAttributes);
             validateInterceptorResult(result.request(), interceptorResult, interceptor, "modifyRequest");
 
-            result = result.copy(b -> b.request(interceptorResult));
+            if (interceptorResult != result.request()) {
+                result = result.copy(b -> b.request(interceptorResult));
+            }
         }
         return result;
     }
 
     public void beforeMarshalling(Context.BeforeMarshalling context, ExecutionAttributes executionAttributes) {
-        interceptors.forEach(i -> i.beforeMarshalling(context, executionAttributes));
+        for (ExecutionInterceptor interceptor : interceptors(Hook.BEFORE_MARSHALLING)) {
+            interceptor.beforeMarshalling(context, executionAttributes);
+        }
     }
 
     public void afterMarshalling(Context.AfterMarshalling context, ExecutionAttributes executionAttributes) {
-        interceptors.forEach(i -> i.afterMarshalling(context, executionAttributes));
+        for (ExecutionInterceptor interceptor : interceptors(Hook.AFTER_MARSHALLING)) {
+            interceptor.afterMarshalling(context, executionAttributes);
+        }
     }
 
     public InterceptorContext modifyHttpRequestAndHttpContent(InterceptorContext context,
                                                               ExecutionAttributes executionAttributes) {
         InterceptorContext result = context;
-        for (ExecutionInterceptor interceptor : interceptors) {
+        for (ExecutionInterceptor interceptor : interceptors(Hook.MODIFY_HTTP_REQUEST)) {
             AsyncRequestBody asyncRequestBody = interceptor.modifyAsyncHttpContent(result, executionAttributes).orElse(null);
             RequestBody requestBody = interceptor.modifyHttpContent(result, executionAttributes).orElse(null);
             SdkHttpRequest interceptorResult = interceptor.modifyHttpRequest(result, executionAttributes);
             validateInterceptorResult(result.httpRequest(), interceptorResult, interceptor, "modifyHttpRequest");
 
+            if (interceptorResult == result.httpRequest()
+                && asyncRequestBody == result.asyncRequestBody().orElse(null)
+                && requestBody == result.requestBody().orElse(null)) {
+                continue;
+            }
+
             InterceptorContext.Builder builder = result.toBuilder();
 
             applySdkHttpFullRequestHack(result, builder);
@@ -129,25 +167,33 @@ public class ExecutionInterceptorChain {
     }
 
     public void beforeTransmission(Context.BeforeTransmission context, ExecutionAttributes executionAttributes) {
-        interceptors.forEach(i -> i.beforeTransmission(context, executionAttributes));
+        for (ExecutionInterceptor interceptor : interceptors(Hook.BEFORE_TRANSMISSION)) {
+            interceptor.beforeTransmission(context, executionAttributes);
+        }
     }
 
     public void afterTransmission(Context.AfterTransmission context, ExecutionAttributes executionAttributes) {
-        reverseForEach(i -> i.afterTransmission(context, executionAttributes));
+        ExecutionInterceptor[] hookInterceptors = interceptors(Hook.AFTER_TRANSMISSION);
+        for (int i = hookInterceptors.length - 1; i >= 0; i--) {
+            hookInterceptors[i].afterTransmission(context, executionAttributes);
+        }
     }
 
     public InterceptorContext modifyHttpResponse(InterceptorContext context,
                                                  ExecutionAttributes executionAttributes) {
         InterceptorContext result = context;
 
-        for (int i = interceptors.size() - 1; i >= 0; i--) {
+        ExecutionInterceptor[] hookInterceptors = interceptors(Hook.MODIFY_HTTP_RESPONSE);
+        for (int i = hookInterceptors.length - 1; i >= 0; i--) {
             SdkHttpResponse interceptorResult =
-                interceptors.get(i).modifyHttpResponse(result, executionAttributes);
-            validateInterceptorResult(result.httpResponse(), interceptorResult, interceptors.get(i), "modifyHttpResponse");
+                hookInterceptors[i].modifyHttpResponse(result, executionAttributes);
+            validateInterceptorResult(result.httpResponse(), interceptorResult, hookInterceptors[i], "modifyHttpResponse");
 
-            InputStream response = interceptors.get(i).modifyHttpResponseContent(result, executionAttributes).orElse(null);
+            InputStream response = hookInterceptors[i].modifyHttpResponseContent(result, executionAttributes).orElse(null);
 
-            result = result.toBuilder().httpResponse(interceptorResult).responseBody(response).build();
+            if (interceptorResult != result.httpResponse() || response != result.responseBody().orElse(null)) {
+                result = result.toBuilder().httpResponse(interceptorResult).responseBody(response).build();
+            }
         }
 
         return result;
@@ -157,58 +203,79 @@ public class ExecutionInterceptorChain {
                                                       ExecutionAttributes executionAttributes) {
         InterceptorContext result = context;
 
-        for (int i = interceptors.size() - 1; i >= 0; i--) {
-            ExecutionInterceptor interceptor = interceptors.get(i);
+        ExecutionInterceptor[] hookInterceptors = interceptors(Hook.MODIFY_ASYNC_HTTP_RESPONSE);
+        for (int i = hookInterceptors.length - 1; i >= 0; i--) {
+            ExecutionInterceptor interceptor = hookInterceptors[i];
 
             Publisher<ByteBuffer> newResponsePublisher =
                 interceptor.modifyAsyncHttpResponseContent(result, executionAttributes).orElse(null);
 
-            result = result.toBuilder()
-                           .responsePublisher(newResponsePublisher)
-                           .build();
+            if (newResponsePublisher != result.responsePublisher().orElse(null)) {
+                result = result.toBuilder()
+                               .responsePublisher(newResponsePublisher)
+                               .build();
+            }
         }
 
         return result;
     }
 
     public void beforeUnmarshalling(Context.BeforeUnmarshalling context, ExecutionAttributes executionAttributes) {
-        reverseForEach(i -> i.beforeUnmarshalling(context, executionAttributes));
+        ExecutionInterceptor[] hookInterceptors = interceptors(Hook.BEFORE_UNMARSHALLING);
+        for (int i = hookInterceptors.length - 1; i >= 0; i--) {
+            hookInterceptors[i].beforeUnmarshalling(context, executionAttributes);
+        }
     }
 
     public void afterUnmarshalling(Context.AfterUnmarshalling context, ExecutionAttributes executionAttributes) {
-        reverseForEach(i -> i.afterUnmarshalling(context, executionAttributes));
+        ExecutionInterceptor[] hookInterceptors = interceptors(Hook.AFTER_UNMARSHALLING);
+        for (int i = hookInterceptors.length - 1; i >= 0; i--) {
+            hookInterceptors[i].afterUnmarshalling(context, executionAttributes);
+        }
     }
 
     public InterceptorContext modifyResponse(InterceptorContext context, ExecutionAttributes executionAttributes) {
         InterceptorContext result = context;
-        for (int i = interceptors.size() - 1; i >= 0; i--) {
-            SdkResponse interceptorResult = interceptors.get(i).modifyResponse(result, executionAttributes);
-            validateInterceptorResult(result.response(), interceptorResult, interceptors.get(i), "modifyResponse");
-
-            result = result.copy(b -> b.response(interceptorResult));
+        ExecutionInterceptor[] hookInterceptors = interceptors(Hook.MODIFY_RESPONSE);
+        for (int i = hookInterceptors.length - 1; i >= 0; i--) {
+            SdkResponse interceptorResult = hookInterceptors[i].modifyResponse(result, executionAttributes);
+            validateInterceptorResult(result.response(), interceptorResult, hookInterceptors[i], "modifyResponse");
+
+            if (interceptorResult != result.response()) {
+                result = result.copy(b -> b.response(interceptorResult));
+            }
         }
 
         return result;
     }
 
     public void afterExecution(Context.AfterExecution context, ExecutionAttributes executionAttributes) {
-        reverseForEach(i -> i.afterExecution(context, executionAttributes));
+        ExecutionInterceptor[] hookInterceptors = interceptors(Hook.AFTER_EXECUTION);
+        for (int i = hookInterceptors.length - 1; i >= 0; i--) {
+            hookInterceptors[i].afterExecution(context, executionAttributes);
+        }
     }
 
     public DefaultFailedExecutionContext modifyException(DefaultFailedExecutionContext context,
                                                          ExecutionAttributes executionAttributes) {
         DefaultFailedExecutionContext result = context;
-        for (int i = interceptors.size() - 1; i >= 0; i--) {
-            Throwable interceptorResult = interceptors.get(i).modifyException(result, executionAttributes);
-            validateInterceptorResult(result.exception(), interceptorResult, interceptors.get(i), "modifyException");
-            result = result.copy(b -> b.exception(interceptorResult));
+        ExecutionInterceptor[] hookInterceptors = interceptors(Hook.MODIFY_EXCEPTION);
+        for (int i = hookInterceptors.length - 1; i >= 0; i--) {
+            Throwable interceptorResult = hookInterceptors[i].modifyException(result, executionAttributes);
+            validateInterceptorResult(result.exception(), interceptorResult, hookInterceptors[i], "modifyException");
+
+            if (interceptorResult != result.exception()) {
+                result = result.copy(b -> b.exception(interceptorResult));
+            }
         }
 
         return result;
     }
 
     public void onExecutionFailure(Context.FailedExecution context, ExecutionAttributes executionAttributes) {
-        interceptors.forEach(i -> i.onExecutionFailure(context, executionAttributes));
+        for (ExecutionInterceptor interceptor : interceptors(Hook.ON_EXECUTION_FAILURE)) {
+            interceptor.onExecutionFailure(context, executionAttributes);
+        }
     }
 
     /**
@@ -229,12 +296,67 @@ public class ExecutionInterceptorChain {
                               interceptor, newMessage.getClass(), methodName, originalMessage.getClass());
     }
 
+    private ExecutionInterceptor[] interceptors(Hook hook) {
+        return interceptorsByHook[hook.ordinal()];
+    }
+
+    /**
+     * Determine which hooks the provided interceptor type overrides. If this cannot be determined for a hook, it is assumed
+     * to be overridden.
+     */
+    private static Set<Hook> overriddenHooks(Class<?> interceptorType) {
+        Set<Hook> result = EnumSet.noneOf(Hook.class);
+        for (Hook hook : Hook.values()) {
+            for (Method method : hook.methods) {
+                if (overrides(interceptorType, method)) {
+                    result.add(hook);
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    private static boolean overrides(Class<?> interceptorType, Method method) {
+        try {
+            return interceptorType.getMethod(method.getName(), method.getParameterTypes()).getDeclaringClass()
+                   != ExecutionInterceptor.class;
+        } catch (NoSuchMethodException | SecurityException e) {
+            return true;
+        }
+    }
+
     /**
-     * Execute the provided action against the interceptors in this chain in the reverse order they are configured.
+     * The points in the chain at which interceptors are invoked, along with the {@link ExecutionInterceptor} methods that are
+     * called at that point.
      */
-    private void reverseForEach(Consumer<ExecutionInterceptor> action) {
-        for (int i = interceptors.size() - 1; i >= 0; i--) {
-            action.accept(interceptors.get(i));
+    private enum Hook {
+        BEFORE_EXECUTION("beforeExecution"),
+        MODIFY_REQUEST("modifyRequest"),
+        BEFORE_MARSHALLING("beforeMarshalling"),
+        AFTER_MARSHALLING("afterMarshalling"),
+        MODIFY_HTTP_REQUEST("modifyHttpRequest", "modifyHttpContent", "modifyAsyncHttpContent"),
+        BEFORE_TRANSMISSION("beforeTransmission"),
+        AFTER_TRANSMISSION("afterTransmission"),
+        MODIFY_HTTP_RESPONSE("modifyHttpResponse", "modifyHttpResponseContent"),
+        MODIFY_ASYNC_HTTP_RESPONSE("modifyAsyncHttpResponseContent"),
+        BEFORE_UNMARSHALLING("beforeUnmarshalling"),
+        AFTER_UNMARSHALLING("afterUnmarshalling"),
+        MODIFY_RESPONSE("modifyResponse"),
+        AFTER_EXECUTION("afterExecution"),
+        MODIFY_EXCEPTION("modifyException"),
+        ON_EXECUTION_FAILURE("onExecutionFailure");
+
+        private final List<Method> methods = new ArrayList<>();
+
+        Hook(String... methodNames) {
+            for (String methodName : methodNames) {
+                for (Method method : ExecutionInterceptor.class.getMethods()) {
+                    if (method.getName().equals(methodName)) {
+                        methods.add(method);
+                    }
+                }
+            }
         }
     }
 }
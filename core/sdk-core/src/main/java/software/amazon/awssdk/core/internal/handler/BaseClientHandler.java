@@ -38,6 +38,7 @@ import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
 import software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute;
 import software.amazon.awssdk.core.internal.InternalCoreExecutionAttribute;
 import software.amazon.awssdk.core.internal.io.SdkLengthAwareInputStream;
+import software.amazon.awssdk.core.internal.metrics.MetricSampler;
 import software.amazon.awssdk.core.internal.util.MetricUtils;
 import software.amazon.awssdk.core.metrics.CoreMetric;
 import software.amazon.awssdk.core.signer.Signer;
@@ -207,8 +208,7 @@ public abstract class BaseClientHandler {
                           clientConfiguration.option(SdkClientOption.PROFILE_FILE_SUPPLIER))
             .putAttribute(SdkExecutionAttribute.PROFILE_NAME, clientConfiguration.option(SdkClientOption.PROFILE_NAME));
 
-        ExecutionInterceptorChain interceptorChain =
-            new ExecutionInterceptorChain(clientConfiguration.option(SdkClientOption.EXECUTION_INTERCEPTORS));
+        ExecutionInterceptorChain interceptorChain = resolveInterceptorChain();
 
         InterceptorContext interceptorContext = InterceptorContext.builder()
                                                                   .request(originalRequest)
@@ -228,6 +228,18 @@ public abstract class BaseClientHandler {
                                .build();
     }
 
+    /**
+     * Returns the interceptor chain that was created when the client was built, or creates one if the client configuration
+     * does not contain it.
+     */
+    private ExecutionInterceptorChain resolveInterceptorChain() {
+        ExecutionInterceptorChain interceptorChain = clientConfiguration.option(SdkClientOption.EXECUTION_INTERCEPTOR_CHAIN);
+        if (interceptorChain == null) {
+            interceptorChain = new ExecutionInterceptorChain(clientConfiguration.option(SdkClientOption.EXECUTION_INTERCEPTORS));
+        }
+        return interceptorChain;
+    }
+
     protected boolean isCalculateCrc32FromCompressedData() {
         return clientConfiguration.option(SdkClientOption.CRC32_FROM_COMPRESSED_DATA_ENABLED);
     }
@@ -333,6 +345,7 @@ public abstract class BaseClientHandler {
         if (metricCollector == null) {
             metricCollector = MetricCollector.create("ApiCall");
         }
-        return metricCollector;
+        return MetricSampler.executionCollector(metricCollector, params.getInput(),
+                                                clientConfiguration.option(SdkClientOption.METRIC_SAMPLING_POLICY));
     }
 }
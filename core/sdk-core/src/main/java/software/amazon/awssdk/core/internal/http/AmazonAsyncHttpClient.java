@@ -27,6 +27,7 @@ import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.http.ExecutionContext;
+import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipelineBuilder;
 import software.amazon.awssdk.core.internal.http.pipeline.stages.AfterExecutionInterceptorsStage;
 import software.amazon.awssdk.core.internal.http.pipeline.stages.ApplyTransactionIdStage;
@@ -55,11 +56,44 @@ import software.amazon.awssdk.utils.SdkAutoCloseable;
 //TODO: come up with better name
 public final class AmazonAsyncHttpClient implements SdkAutoCloseable {
     private final HttpClientDependencies httpClientDependencies;
+    private final RequestPipeline<SdkHttpFullRequest, CompletableFuture<Object>> requestPipeline;
 
     public AmazonAsyncHttpClient(SdkClientConfiguration clientConfiguration) {
         this.httpClientDependencies = HttpClientDependencies.builder()
                                                             .clientConfiguration(clientConfiguration)
                                                             .build();
+        this.requestPipeline = buildRequestPipeline(httpClientDependencies);
+    }
+
+    /**
+     * Builds the stages that execute a request. The stages only hold client-level configuration, and the state of a request,
+     * such as its response handler, is carried by its {@link RequestExecutionContext}, so the pipeline is built once and
+     * shared by all requests made by this client.
+     */
+    private static RequestPipeline<SdkHttpFullRequest, CompletableFuture<Object>> buildRequestPipeline(
+        HttpClientDependencies httpClientDependencies) {
+        return RequestPipelineBuilder
+                .first(RequestPipelineBuilder
+                        .first(MakeRequestMutableStage::new)
+                        .then(ApplyTransactionIdStage::new)
+                        .then(ApplyUserAgentStage::new)
+                        .then(MergeCustomHeadersStage::new)
+                        .then(MergeCustomQueryParamsStage::new)
+                        .then(() -> new CompressRequestStage(httpClientDependencies))
+                        .then(() -> new HttpChecksumStage(ClientType.ASYNC))
+                        .then(MakeRequestImmutableStage::new)
+                        .then(RequestPipelineBuilder
+                                .first(AsyncSigningStage::new)
+                                .then(AsyncBeforeTransmissionExecutionInterceptorsStage::new)
+                                .then(d -> new MakeAsyncHttpRequestStage<Object>(d))
+                                .wrappedWith(AsyncApiCallAttemptMetricCollectionStage::new)
+                                .wrappedWith(AsyncRetryableStage::new)
+                                .then(async(() -> new UnwrapResponseContainer<>()))
+                                .then(async(() -> new AfterExecutionInterceptorsStage<>()))
+                                .wrappedWith(AsyncExecutionFailureExceptionReportingStage::new)
+                                .wrappedWith(AsyncApiCallTimeoutTrackingStage::new)
+                                .wrappedWith(AsyncApiCallMetricCollectionStage::new)::build)::build)
+                .build(httpClientDependencies);
     }
 
     /**
@@ -161,33 +195,14 @@ public final class AmazonAsyncHttpClient implements SdkAutoCloseable {
         }
 
         @Override
+        @SuppressWarnings("unchecked")
         public <OutputT> CompletableFuture<OutputT> execute(
             TransformingAsyncResponseHandler<Response<OutputT>> responseHandler) {
 
             try {
-                return RequestPipelineBuilder
-                        .first(RequestPipelineBuilder
-                                .first(MakeRequestMutableStage::new)
-                                .then(ApplyTransactionIdStage::new)
-                                .then(ApplyUserAgentStage::new)
-                                .then(MergeCustomHeadersStage::new)
-                                .then(MergeCustomQueryParamsStage::new)
-                                .then(() -> new CompressRequestStage(httpClientDependencies))
-                                .then(() -> new HttpChecksumStage(ClientType.ASYNC))
-                                .then(MakeRequestImmutableStage::new)
-                                .then(RequestPipelineBuilder
-                                        .first(AsyncSigningStage::new)
-                                        .then(AsyncBeforeTransmissionExecutionInterceptorsStage::new)
-                                        .then(d -> new MakeAsyncHttpRequestStage<>(responseHandler, d))
-                                        .wrappedWith(AsyncApiCallAttemptMetricCollectionStage::new)
-                                        .wrappedWith((deps, wrapped) -> new AsyncRetryableStage<>(responseHandler, deps, wrapped))
-                                        .then(async(() -> new UnwrapResponseContainer<>()))
-                                        .then(async(() -> new AfterExecutionInterceptorsStage<>()))
-                                        .wrappedWith(AsyncExecutionFailureExceptionReportingStage::new)
-                                        .wrappedWith(AsyncApiCallTimeoutTrackingStage::new)
-                                        .wrappedWith(AsyncApiCallMetricCollectionStage::new)::build)::build)
-                        .build(httpClientDependencies)
-                        .execute(request, createRequestExecutionDependencies());
+                CompletableFuture<?> future = requestPipeline.execute(request,
+                                                                      createRequestExecutionDependencies(responseHandler));
+                return (CompletableFuture<OutputT>) future;
             } catch (RuntimeException e) {
                 throw ThrowableUtils.asSdkException(e);
             } catch (Exception e) {
@@ -195,11 +210,13 @@ public final class AmazonAsyncHttpClient implements SdkAutoCloseable {
             }
         }
 
-        private RequestExecutionContext createRequestExecutionDependencies() {
+        private RequestExecutionContext createRequestExecutionDependencies(
+            TransformingAsyncResponseHandler<?> responseHandler) {
             return RequestExecutionContext.builder()
                                           .requestProvider(requestProvider)
                                           .originalRequest(originalRequest)
                                           .executionContext(executionContext)
+                                          .asyncResponseHandler(responseHandler)
                                           .build();
         }
 
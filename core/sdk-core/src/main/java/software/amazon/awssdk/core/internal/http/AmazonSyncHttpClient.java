@@ -25,6 +25,7 @@ import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.http.ExecutionContext;
 import software.amazon.awssdk.core.http.HttpResponseHandler;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipelineBuilder;
 import software.amazon.awssdk.core.internal.http.pipeline.stages.AfterExecutionInterceptorsStage;
 import software.amazon.awssdk.core.internal.http.pipeline.stages.AfterTransmissionExecutionInterceptorsStage;
@@ -58,11 +59,52 @@ import software.amazon.awssdk.utils.SdkAutoCloseable;
 // TODO come up with better name
 public final class AmazonSyncHttpClient implements SdkAutoCloseable {
     private final HttpClientDependencies httpClientDependencies;
+    private final RequestPipeline<SdkHttpFullRequest, Object> requestPipeline;
 
     public AmazonSyncHttpClient(SdkClientConfiguration clientConfiguration) {
         this.httpClientDependencies = HttpClientDependencies.builder()
                                                             .clientConfiguration(clientConfiguration)
                                                             .build();
+        this.requestPipeline = buildRequestPipeline(httpClientDependencies);
+    }
+
+    /**
+     * Builds the stages that execute a request. The stages only hold client-level configuration, and the state of a request,
+     * such as its response handler, is carried by its {@link RequestExecutionContext}, so the pipeline is built once and
+     * shared by all requests made by this client.
+     */
+    private static RequestPipeline<SdkHttpFullRequest, Object> buildRequestPipeline(
+        HttpClientDependencies httpClientDependencies) {
+        return RequestPipelineBuilder
+            // Start of mutating request
+            .first(RequestPipelineBuilder
+                       .first(MakeRequestMutableStage::new)
+                       .then(ApplyTransactionIdStage::new)
+                       .then(ApplyUserAgentStage::new)
+                       .then(MergeCustomHeadersStage::new)
+                       .then(MergeCustomQueryParamsStage::new)
+                       .then(() -> new CompressRequestStage(httpClientDependencies))
+                       .then(() -> new HttpChecksumStage(ClientType.SYNC))
+                       .then(MakeRequestImmutableStage::new)
+                       // End of mutating request
+                       .then(RequestPipelineBuilder
+                                 .first(SigningStage::new)
+                                 .then(BeforeTransmissionExecutionInterceptorsStage::new)
+                                 .then(MakeHttpRequestStage::new)
+                                 .then(AfterTransmissionExecutionInterceptorsStage::new)
+                                 .then(BeforeUnmarshallingExecutionInterceptorsStage::new)
+                                 .then(() -> new HandleResponseStage<Object>())
+                                 .wrappedWith(ApiCallAttemptTimeoutTrackingStage::new)
+                                 .wrappedWith(TimeoutExceptionHandlingStage::new)
+                                 .wrappedWith((deps, wrapped) -> new ApiCallAttemptMetricCollectionStage<>(wrapped))
+                                 .wrappedWith(RetryableStage::new)::build)
+                       .wrappedWith(StreamManagingStage::new)
+                       .wrappedWith(ApiCallTimeoutTrackingStage::new)::build)
+            .wrappedWith((deps, wrapped) -> new ApiCallMetricCollectionStage<>(wrapped))
+            .then(() -> new UnwrapResponseContainer<>())
+            .then(() -> new AfterExecutionInterceptorsStage<>())
+            .wrappedWith(ExecutionFailureExceptionReportingStage::new)
+            .build(httpClientDependencies);
     }
 
     /**
@@ -155,6 +197,7 @@ public final class AmazonSyncHttpClient implements SdkAutoCloseable {
         }
 
         @Override
+        @SuppressWarnings("unchecked")
         public <OutputT> OutputT execute(HttpResponseHandler<Response<OutputT>> responseHandler) {
             // TODO: We currently have two ways of passing messages to the HTTP client: through the request or through the
             // execution interceptor context. We should combine these two methods when we refactor the way request execution
@@ -165,37 +208,8 @@ public final class AmazonSyncHttpClient implements SdkAutoCloseable {
             }
 
             try {
-                return RequestPipelineBuilder
-                    // Start of mutating request
-                    .first(RequestPipelineBuilder
-                               .first(MakeRequestMutableStage::new)
-                               .then(ApplyTransactionIdStage::new)
-                               .then(ApplyUserAgentStage::new)
-                               .then(MergeCustomHeadersStage::new)
-                               .then(MergeCustomQueryParamsStage::new)
-                               .then(() -> new CompressRequestStage(httpClientDependencies))
-                               .then(() -> new HttpChecksumStage(ClientType.SYNC))
-                               .then(MakeRequestImmutableStage::new)
-                               // End of mutating request
-                               .then(RequestPipelineBuilder
-                                         .first(SigningStage::new)
-                                         .then(BeforeTransmissionExecutionInterceptorsStage::new)
-                                         .then(MakeHttpRequestStage::new)
-                                         .then(AfterTransmissionExecutionInterceptorsStage::new)
-                                         .then(BeforeUnmarshallingExecutionInterceptorsStage::new)
-                                         .then(() -> new HandleResponseStage<>(responseHandler))
-                                         .wrappedWith(ApiCallAttemptTimeoutTrackingStage::new)
-                                         .wrappedWith(TimeoutExceptionHandlingStage::new)
-                                         .wrappedWith((deps, wrapped) -> new ApiCallAttemptMetricCollectionStage<>(wrapped))
-                                         .wrappedWith(RetryableStage::new)::build)
-                               .wrappedWith(StreamManagingStage::new)
-                               .wrappedWith(ApiCallTimeoutTrackingStage::new)::build)
-                               .wrappedWith((deps, wrapped) -> new ApiCallMetricCollectionStage<>(wrapped))
-                    .then(() -> new UnwrapResponseContainer<>())
-                    .then(() -> new AfterExecutionInterceptorsStage<>())
-                    .wrappedWith(ExecutionFailureExceptionReportingStage::new)
-                    .build(httpClientDependencies)
-                    .execute(request, createRequestExecutionDependencies());
+                Object response = requestPipeline.execute(request, createRequestExecutionDependencies(responseHandler));
+                return (OutputT) response;
             } catch (RuntimeException e) {
                 throw e;
             } catch (Exception e) {
@@ -203,10 +217,11 @@ public final class AmazonSyncHttpClient implements SdkAutoCloseable {
             }
         }
 
-        private RequestExecutionContext createRequestExecutionDependencies() {
+        private RequestExecutionContext createRequestExecutionDependencies(HttpResponseHandler<?> responseHandler) {
             return RequestExecutionContext.builder()
                                           .originalRequest(originalRequest)
                                           .executionContext(executionContext)
+                                          .responseHandler(responseHandler)
                                           .build();
         }
 
@@ -17,10 +17,12 @@ package software.amazon.awssdk.core.internal.http;
 
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.RequestOverrideConfiguration;
+import software.amazon.awssdk.core.Response;
 import software.amazon.awssdk.core.SdkRequest;
 import software.amazon.awssdk.core.SdkRequestOverrideConfiguration;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.http.ExecutionContext;
+import software.amazon.awssdk.core.http.HttpResponseHandler;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.interceptor.ExecutionInterceptorChain;
 import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
@@ -41,6 +43,8 @@ public final class RequestExecutionContext {
     private AsyncRequestBody requestProvider;
     private final SdkRequest originalRequest;
     private final ExecutionContext executionContext;
+    private final HttpResponseHandler<?> responseHandler;
+    private final TransformingAsyncResponseHandler<?> asyncResponseHandler;
     private TimeoutTracker apiCallTimeoutTracker;
     private TimeoutTracker apiCallAttemptTimeoutTracker;
     private MetricCollector attemptMetricCollector;
@@ -49,6 +53,8 @@ public final class RequestExecutionContext {
         this.requestProvider = builder.requestProvider;
         this.originalRequest = Validate.paramNotNull(builder.originalRequest, "originalRequest");
         this.executionContext = Validate.paramNotNull(builder.executionContext, "executionContext");
+        this.responseHandler = builder.responseHandler;
+        this.asyncResponseHandler = builder.asyncResponseHandler;
     }
 
     /**
@@ -81,6 +87,24 @@ public final class RequestExecutionContext {
         return originalRequest;
     }
 
+    /**
+     * @return The handler that converts the HTTP response of a request made by {@link AmazonSyncHttpClient} into a
+     * {@link Response}.
+     */
+    @SuppressWarnings("unchecked")
+    public <OutputT> HttpResponseHandler<Response<OutputT>> responseHandler() {
+        return (HttpResponseHandler<Response<OutputT>>) responseHandler;
+    }
+
+    /**
+     * @return The handler that converts the HTTP response of a request made by {@link AmazonAsyncHttpClient} into a
+     * {@link Response}.
+     */
+    @SuppressWarnings("unchecked")
+    public <OutputT> TransformingAsyncResponseHandler<Response<OutputT>> asyncResponseHandler() {
+        return (TransformingAsyncResponseHandler<Response<OutputT>>) asyncResponseHandler;
+    }
+
     public RequestOverrideConfiguration requestConfig() {
         return originalRequest.overrideConfiguration()
                               // ugly but needed to avoid capture of capture and creating a type mismatch
@@ -144,6 +168,8 @@ public final class RequestExecutionContext {
         private AsyncRequestBody requestProvider;
         private SdkRequest originalRequest;
         private ExecutionContext executionContext;
+        private HttpResponseHandler<?> responseHandler;
+        private TransformingAsyncResponseHandler<?> asyncResponseHandler;
 
         public Builder requestProvider(AsyncRequestBody requestProvider) {
             this.requestProvider = requestProvider;
@@ -160,6 +186,16 @@ public final class RequestExecutionContext {
             return this;
         }
 
+        public Builder responseHandler(HttpResponseHandler<?> responseHandler) {
+            this.responseHandler = responseHandler;
+            return this;
+        }
+
+        public Builder asyncResponseHandler(TransformingAsyncResponseHandler<?> asyncResponseHandler) {
+            this.asyncResponseHandler = asyncResponseHandler;
+            return this;
+        }
+
         public RequestExecutionContext build() {
             return new RequestExecutionContext(this);
         }
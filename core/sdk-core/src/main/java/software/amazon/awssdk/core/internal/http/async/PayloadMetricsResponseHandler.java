@@ -0,0 +1,63 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.async;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import org.reactivestreams.Publisher;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.internal.http.TransformingAsyncResponseHandler;
+import software.amazon.awssdk.core.internal.metrics.PayloadMetricsPublisher;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.metrics.MetricCollector;
+
+/**
+ * Async response handler decorator that reports the size, throughput and stalls of the response body to the metric collector
+ * of the API call attempt.
+ *
+ * @param <T> the type of the result
+ * @see PayloadMetricsPublisher
+ */
+@SdkInternalApi
+public final class PayloadMetricsResponseHandler<T> implements TransformingAsyncResponseHandler<T> {
+    private final TransformingAsyncResponseHandler<T> delegate;
+    private final MetricCollector metricCollector;
+
+    public PayloadMetricsResponseHandler(TransformingAsyncResponseHandler<T> delegate, MetricCollector metricCollector) {
+        this.delegate = delegate;
+        this.metricCollector = metricCollector;
+    }
+
+    @Override
+    public void onHeaders(SdkHttpResponse headers) {
+        delegate.onHeaders(headers);
+    }
+
+    @Override
+    public void onStream(Publisher<ByteBuffer> stream) {
+        delegate.onStream(PayloadMetricsPublisher.trackResponseBody(stream, metricCollector));
+    }
+
+    @Override
+    public void onError(Throwable error) {
+        delegate.onError(error);
+    }
+
+    @Override
+    public CompletableFuture<T> prepare() {
+        return delegate.prepare();
+    }
+}
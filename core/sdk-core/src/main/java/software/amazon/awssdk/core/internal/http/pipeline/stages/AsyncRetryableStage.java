@@ -45,28 +45,25 @@ import software.amazon.awssdk.utils.CompletableFutureUtils;
 public final class AsyncRetryableStage<OutputT> implements RequestPipeline<SdkHttpFullRequest,
     CompletableFuture<Response<OutputT>>> {
 
-    private final TransformingAsyncResponseHandler<Response<OutputT>> responseHandler;
     private final RequestPipeline<SdkHttpFullRequest, CompletableFuture<Response<OutputT>>> requestPipeline;
     private final ScheduledExecutorService scheduledExecutor;
     private final HttpClientDependencies dependencies;
     private final RateLimitingTokenBucket rateLimitingTokenBucket;
 
-    public AsyncRetryableStage(TransformingAsyncResponseHandler<Response<OutputT>> responseHandler,
-                               HttpClientDependencies dependencies,
+    public AsyncRetryableStage(HttpClientDependencies dependencies,
                                RequestPipeline<SdkHttpFullRequest, CompletableFuture<Response<OutputT>>> requestPipeline) {
-        this.responseHandler = responseHandler;
         this.dependencies = dependencies;
         this.scheduledExecutor = dependencies.clientConfiguration().option(SdkClientOption.SCHEDULED_EXECUTOR_SERVICE);
-        this.rateLimitingTokenBucket = new RateLimitingTokenBucket();
+        // Like the synchronous RetryableStage, the token bucket is created by the RetryableStageHelper of each request when
+        // rate limiting is enabled
+        this.rateLimitingTokenBucket = null;
         this.requestPipeline = requestPipeline;
     }
 
     @SdkTestInternalApi
-    public AsyncRetryableStage(TransformingAsyncResponseHandler<Response<OutputT>> responseHandler,
-                               HttpClientDependencies dependencies,
+    public AsyncRetryableStage(HttpClientDependencies dependencies,
                                RequestPipeline<SdkHttpFullRequest, CompletableFuture<Response<OutputT>>> requestPipeline,
                                RateLimitingTokenBucket rateLimitingTokenBucket) {
-        this.responseHandler = responseHandler;
         this.dependencies = dependencies;
         this.scheduledExecutor = dependencies.clientConfiguration().option(SdkClientOption.SCHEDULED_EXECUTOR_SERVICE);
         this.requestPipeline = requestPipeline;
@@ -83,10 +80,12 @@ public final class AsyncRetryableStage<OutputT> implements RequestPipeline<SdkHt
         private final AsyncRequestBody originalRequestBody;
         private final RequestExecutionContext context;
         private final RetryableStageHelper retryableStageHelper;
+        private final TransformingAsyncResponseHandler<Response<OutputT>> responseHandler;
 
         private RetryingExecutor(SdkHttpFullRequest request, RequestExecutionContext context) {
             this.originalRequestBody = context.requestProvider();
             this.context = context;
+            this.responseHandler = context.asyncResponseHandler();
             this.retryableStageHelper = new RetryableStageHelper(request, context, rateLimitingTokenBucket, dependencies);
         }
 
@@ -39,10 +39,12 @@ import software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute;
 import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
 import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
 import software.amazon.awssdk.core.internal.http.TransformingAsyncResponseHandler;
+import software.amazon.awssdk.core.internal.http.async.PayloadMetricsResponseHandler;
 import software.amazon.awssdk.core.internal.http.async.SimpleHttpContentPublisher;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
 import software.amazon.awssdk.core.internal.http.timers.TimeoutTracker;
 import software.amazon.awssdk.core.internal.http.timers.TimerUtils;
+import software.amazon.awssdk.core.internal.metrics.PayloadMetricsPublisher;
 import software.amazon.awssdk.core.internal.util.MetricUtils;
 import software.amazon.awssdk.core.metrics.CoreMetric;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
@@ -51,6 +53,7 @@ import software.amazon.awssdk.http.async.AsyncExecuteRequest;
 import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
 import software.amazon.awssdk.http.async.SdkHttpContentPublisher;
 import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.NoOpMetricCollector;
 import software.amazon.awssdk.utils.CompletableFutureUtils;
 import software.amazon.awssdk.utils.Logger;
 
@@ -64,14 +67,11 @@ public final class MakeAsyncHttpRequestStage<OutputT>
     private static final Logger log = Logger.loggerFor(MakeAsyncHttpRequestStage.class);
 
     private final SdkAsyncHttpClient sdkAsyncHttpClient;
-    private final TransformingAsyncResponseHandler<Response<OutputT>> responseHandler;
     private final Executor futureCompletionExecutor;
     private final ScheduledExecutorService timeoutExecutor;
     private final Duration apiCallAttemptTimeout;
 
-    public MakeAsyncHttpRequestStage(TransformingAsyncResponseHandler<Response<OutputT>> responseHandler,
-                                     HttpClientDependencies dependencies) {
-        this.responseHandler = responseHandler;
+    public MakeAsyncHttpRequestStage(HttpClientDependencies dependencies) {
         this.futureCompletionExecutor =
                 dependencies.clientConfiguration().option(SdkAdvancedAsyncClientOption.FUTURE_COMPLETION_EXECUTOR);
         this.sdkAsyncHttpClient = dependencies.clientConfiguration().option(SdkClientOption.ASYNC_HTTP_CLIENT);
@@ -122,6 +122,7 @@ public final class MakeAsyncHttpRequestStage<OutputT>
 
         CompletableFuture<Response<OutputT>> responseFuture = new CompletableFuture<>();
 
+        TransformingAsyncResponseHandler<Response<OutputT>> responseHandler = context.asyncResponseHandler();
         CompletableFuture<Response<OutputT>> responseHandlerFuture = responseHandler.prepare();
 
         SdkHttpContentPublisher requestProvider = context.requestProvider() == null
@@ -130,6 +131,13 @@ public final class MakeAsyncHttpRequestStage<OutputT>
         // Set content length if it hasn't been set already.
         SdkHttpFullRequest requestWithContentLength = getRequestWithContentLength(request, requestProvider);
 
+        // Track the request and response bodies, unless the metrics of this attempt are not collected
+        MetricCollector attemptMetricCollector = context.attemptMetricCollector();
+        if (attemptMetricCollector != null && !(attemptMetricCollector instanceof NoOpMetricCollector)) {
+            requestProvider = PayloadMetricsPublisher.trackRequestBody(requestProvider, attemptMetricCollector);
+            responseHandler = new PayloadMetricsResponseHandler<>(responseHandler, attemptMetricCollector);
+        }
+
         MetricCollector httpMetricCollector = MetricUtils.createHttpMetricsCollector(context);
 
         AsyncExecuteRequest.Builder executeRequestBuilder = AsyncExecuteRequest.builder()
@@ -0,0 +1,68 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.metrics;
+
+import java.util.concurrent.ThreadLocalRandom;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.core.metrics.MetricSamplingPolicy;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.NoOpMetricCollector;
+
+/**
+ * Applies a {@link MetricSamplingPolicy} to the metric collector of an API call.
+ */
+@SdkInternalApi
+public final class MetricSampler {
+    private MetricSampler() {
+    }
+
+    /**
+     * Decides whether the API call is sampled, and returns the metric collector that should be used for its execution.
+     *
+     * <p>
+     * A sampled call reports the sample rate to the API call collector and collects all of its metrics. An unsampled call is
+     * executed with an {@link UnsampledMetricCollector}, and the {@link SamplingMetricPublisher} decides whether a summary of
+     * it is still published. Calls that are published to the request's own metric publishers are always sampled.
+     *
+     * @param apiCallCollector The collector created for the API call.
+     * @param request The request being executed.
+     * @param policy The sampling policy of the client, or null if metrics are not sampled.
+     */
+    public static MetricCollector executionCollector(MetricCollector apiCallCollector, SdkRequest request,
+                                                     MetricSamplingPolicy policy) {
+        if (policy == null || apiCallCollector instanceof NoOpMetricCollector || hasRequestMetricPublishers(request)) {
+            return apiCallCollector;
+        }
+
+        if (isSampled(policy.sampleRate())) {
+            apiCallCollector.reportMetric(CoreMetric.SAMPLE_RATE, policy.sampleRate());
+            return apiCallCollector;
+        }
+        return new UnsampledMetricCollector(apiCallCollector);
+    }
+
+    private static boolean isSampled(double sampleRate) {
+        return sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    private static boolean hasRequestMetricPublishers(SdkRequest request) {
+        return request.overrideConfiguration()
+                      .map(c -> !c.metricPublishers().isEmpty())
+                      .orElse(false);
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.metrics;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.http.async.SdkHttpContentPublisher;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.SdkMetric;
+
+/**
+ * Wraps the publisher of a request or response body to report the number of bytes it published, its throughput and its
+ * longest stall to the metric collector of an API call attempt.
+ *
+ * <p>
+ * The throughput is measured from the first to the last part of the body, and the stall is the longest time between two
+ * consecutive parts, which includes both the time spent waiting on the network and the time spent waiting on the consumer of
+ * the body to request more data. Tracking a part costs a {@link System#nanoTime()} call, and nothing is allocated per part.
+ *
+ * <p>
+ * The metrics are reported when the body completes or fails, before the terminal signal is forwarded to the subscriber, so that
+ * they are part of the attempt's metrics when the body is consumed before the API call completes. A response body that is
+ * consumed after the API call completed, for example through
+ * {@link software.amazon.awssdk.core.async.AsyncResponseTransformer#toPublisher()}, reports its metrics after the metrics of
+ * the API call were collected, so they are not published.
+ */
+@SdkInternalApi
+public final class PayloadMetricsPublisher implements SdkHttpContentPublisher {
+    private final Publisher<ByteBuffer> delegate;
+    private final Optional<Long> contentLength;
+    private final MetricCollector metricCollector;
+    private final SdkMetric<Long> bytesMetric;
+    private final SdkMetric<Double> throughputMetric;
+    private final SdkMetric<Duration> stallMetric;
+
+    private PayloadMetricsPublisher(Publisher<ByteBuffer> delegate,
+                                    Optional<Long> contentLength,
+                                    MetricCollector metricCollector,
+                                    SdkMetric<Long> bytesMetric,
+                                    SdkMetric<Double> throughputMetric,
+                                    SdkMetric<Duration> stallMetric) {
+        this.delegate = delegate;
+        this.contentLength = contentLength;
+        this.metricCollector = metricCollector;
+        this.bytesMetric = bytesMetric;
+        this.throughputMetric = throughputMetric;
+        this.stallMetric = stallMetric;
+    }
+
+    /**
+     * Wraps the publisher of a request body to report {@link CoreMetric#REQUEST_BYTES_WRITTEN},
+     * {@link CoreMetric#WRITE_THROUGHPUT} and {@link CoreMetric#MAX_WRITE_STALL_DURATION}.
+     */
+    public static SdkHttpContentPublisher trackRequestBody(SdkHttpContentPublisher requestBody,
+                                                           MetricCollector metricCollector) {
+        return new PayloadMetricsPublisher(requestBody, requestBody.contentLength(), metricCollector,
+                                           CoreMetric.REQUEST_BYTES_WRITTEN,
+                                           CoreMetric.WRITE_THROUGHPUT,
+                                           CoreMetric.MAX_WRITE_STALL_DURATION);
+    }
+
+    /**
+     * Wraps the publisher of a response body to report {@link CoreMetric#RESPONSE_BYTES_READ},
+     * {@link CoreMetric#READ_THROUGHPUT} and {@link CoreMetric#MAX_READ_STALL_DURATION}.
+     */
+    public static Publisher<ByteBuffer> trackResponseBody(Publisher<ByteBuffer> responseBody,
+                                                          MetricCollector metricCollector) {
+        return new PayloadMetricsPublisher(responseBody, Optional.empty(), metricCollector,
+                                           CoreMetric.RESPONSE_BYTES_READ,
+                                           CoreMetric.READ_THROUGHPUT,
+                                           CoreMetric.MAX_READ_STALL_DURATION);
+    }
+
+    @Override
+    public Optional<Long> contentLength() {
+        return contentLength;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super ByteBuffer> subscriber) {
+        delegate.subscribe(new PayloadMetricsSubscriber(subscriber));
+    }
+
+    /**
+     * Tracks the parts of the body. Reactive streams signals are serialized, so the state does not need to be synchronized.
+     */
+    private final class PayloadMetricsSubscriber implements Subscriber<ByteBuffer> {
+        private final Subscriber<? super ByteBuffer> subscriber;
+        private long bytes;
+        private long firstPartNanos;
+        private long lastPartNanos;
+        private long maxStallNanos;
+        private boolean started;
+        private boolean reported;
+
+        private PayloadMetricsSubscriber(Subscriber<? super ByteBuffer> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            subscriber.onSubscribe(subscription);
+        }
+
+        @Override
+        public void onNext(ByteBuffer part) {
+            long now = System.nanoTime();
+            if (!started) {
+                started = true;
+                firstPartNanos = now;
+            } else {
+                maxStallNanos = Math.max(maxStallNanos, now - lastPartNanos);
+            }
+            lastPartNanos = now;
+            bytes += part.remaining();
+            subscriber.onNext(part);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            reportMetrics();
+            subscriber.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            reportMetrics();
+            subscriber.onComplete();
+        }
+
+        private void reportMetrics() {
+            if (reported) {
+                return;
+            }
+            reported = true;
+
+            metricCollector.reportMetric(bytesMetric, bytes);
+            long transferNanos = lastPartNanos - firstPartNanos;
+            if (transferNanos > 0) {
+                double bytesPerSecond = (double) bytes * TimeUnit.SECONDS.toNanos(1) / transferNanos;
+                metricCollector.reportMetric(throughputMetric, bytesPerSecond);
+                metricCollector.reportMetric(stallMetric, Duration.ofNanos(maxStallNanos));
+            }
+        }
+    }
+}
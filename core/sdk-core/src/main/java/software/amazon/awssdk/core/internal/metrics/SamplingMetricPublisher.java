@@ -0,0 +1,170 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.metrics;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.core.metrics.MetricSamplingPolicy;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.awssdk.metrics.MetricRecord;
+import software.amazon.awssdk.metrics.SdkMetric;
+import software.amazon.awssdk.utils.ToString;
+
+/**
+ * Wraps a client-level {@link MetricPublisher} to only publish the API calls selected by a {@link MetricSamplingPolicy}.
+ *
+ * <p>
+ * A call that was sampled by {@link MetricSampler} is published with its sample rate. A call that failed, was retried or was
+ * slow, as configured by the policy, is always published, with a sample rate of 1.0 since it would have been published
+ * regardless of whether it was sampled. All other calls are dropped.
+ */
+@SdkInternalApi
+public final class SamplingMetricPublisher implements MetricPublisher {
+    private static final Double ALWAYS_SAMPLED = 1.0;
+
+    private final MetricPublisher delegate;
+    private final MetricSamplingPolicy policy;
+
+    public SamplingMetricPublisher(MetricPublisher delegate, MetricSamplingPolicy policy) {
+        this.delegate = delegate;
+        this.policy = policy;
+    }
+
+    @Override
+    public void publish(MetricCollection metricCollection) {
+        List<Double> sampleRate = metricCollection.metricValues(CoreMetric.SAMPLE_RATE);
+        if (isAlwaysSampled(metricCollection)) {
+            if (sampleRate.size() == 1 && ALWAYS_SAMPLED.equals(sampleRate.get(0))) {
+                delegate.publish(metricCollection);
+            } else {
+                delegate.publish(new AlwaysSampledMetricCollection(metricCollection));
+            }
+        } else if (!sampleRate.isEmpty()) {
+            delegate.publish(metricCollection);
+        }
+    }
+
+    private boolean isAlwaysSampled(MetricCollection metricCollection) {
+        if (policy.alwaysSampleFailures() && metricCollection.metricValues(CoreMetric.API_CALL_SUCCESSFUL).contains(false)) {
+            return true;
+        }
+
+        if (policy.alwaysSampleRetries()) {
+            for (Integer retryCount : metricCollection.metricValues(CoreMetric.RETRY_COUNT)) {
+                if (retryCount != null && retryCount > 0) {
+                    return true;
+                }
+            }
+        }
+
+        Duration slowCallThreshold = policy.slowCallThreshold().orElse(null);
+        if (slowCallThreshold != null) {
+            for (Duration duration : metricCollection.metricValues(CoreMetric.API_CALL_DURATION)) {
+                if (duration != null && duration.compareTo(slowCallThreshold) > 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+    /**
+     * A view of a metric collection that reports a sample rate of 1.0.
+     */
+    private static final class AlwaysSampledMetricCollection implements MetricCollection {
+        private static final MetricRecord<Double> SAMPLE_RATE_RECORD = new MetricRecord<Double>() {
+            @Override
+            public SdkMetric<Double> metric() {
+                return CoreMetric.SAMPLE_RATE;
+            }
+
+            @Override
+            public Double value() {
+                return ALWAYS_SAMPLED;
+            }
+
+            @Override
+            public String toString() {
+                return ToString.builder("MetricRecord")
+                               .add("metric", CoreMetric.SAMPLE_RATE.name())
+                               .add("value", ALWAYS_SAMPLED)
+                               .build();
+            }
+        };
+
+        private final MetricCollection delegate;
+
+        private AlwaysSampledMetricCollection(MetricCollection delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public String name() {
+            return delegate.name();
+        }
+
+        @Override
+        public Iterator<MetricRecord<?>> iterator() {
+            return records().iterator();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> List<T> metricValues(SdkMetric<T> metric) {
+            if (metric == CoreMetric.SAMPLE_RATE) {
+                return (List<T>) Collections.singletonList(ALWAYS_SAMPLED);
+            }
+            return delegate.metricValues(metric);
+        }
+
+        @Override
+        public List<MetricCollection> children() {
+            return delegate.children();
+        }
+
+        @Override
+        public Instant creationTime() {
+            return delegate.creationTime();
+        }
+
+        @Override
+        public String toString() {
+            return ToString.builder("MetricCollection")
+                           .add("name", name())
+                           .add("metrics", records().collect(Collectors.toList()))
+                           .add("children", children())
+                           .build();
+        }
+
+        private Stream<MetricRecord<?>> records() {
+            return Stream.concat(delegate.stream().filter(r -> r.metric() != CoreMetric.SAMPLE_RATE),
+                                 Stream.of(SAMPLE_RATE_RECORD));
+        }
+    }
+}
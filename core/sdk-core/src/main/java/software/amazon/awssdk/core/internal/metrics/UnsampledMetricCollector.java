@@ -0,0 +1,63 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.metrics;
+
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.NoOpMetricCollector;
+import software.amazon.awssdk.metrics.SdkMetric;
+
+/**
+ * The metric collector used for the execution of an API call that was not sampled by the client's
+ * {@link software.amazon.awssdk.core.metrics.MetricSamplingPolicy}.
+ *
+ * <p>
+ * Only the metrics needed to decide whether a summary of the call must still be published, the API call duration and the
+ * retry count, are forwarded to the API call collector. All other metrics are dropped, and the attempts and the HTTP client
+ * are given a {@link NoOpMetricCollector}.
+ */
+@SdkInternalApi
+public final class UnsampledMetricCollector implements MetricCollector {
+    private final MetricCollector apiCallCollector;
+
+    UnsampledMetricCollector(MetricCollector apiCallCollector) {
+        this.apiCallCollector = apiCallCollector;
+    }
+
+    @Override
+    public String name() {
+        return apiCallCollector.name();
+    }
+
+    @Override
+    public <T> void reportMetric(SdkMetric<T> metric, T data) {
+        if (metric == CoreMetric.API_CALL_DURATION || metric == CoreMetric.RETRY_COUNT) {
+            apiCallCollector.reportMetric(metric, data);
+        }
+    }
+
+    @Override
+    public MetricCollector createChild(String name) {
+        return NoOpMetricCollector.create();
+    }
+
+    @Override
+    public MetricCollection collect() {
+        return apiCallCollector.collect();
+    }
+}
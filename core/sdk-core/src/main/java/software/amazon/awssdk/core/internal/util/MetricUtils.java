@@ -26,6 +26,7 @@ import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
+import software.amazon.awssdk.core.internal.metrics.UnsampledMetricCollector;
 import software.amazon.awssdk.core.metrics.CoreMetric;
 import software.amazon.awssdk.http.HttpMetric;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
@@ -73,7 +74,8 @@ public final class MetricUtils {
      * Collect the SERVICE_ENDPOINT metric for this request.
      */
     public static void collectServiceEndpointMetrics(MetricCollector metricCollector, SdkHttpFullRequest httpRequest) {
-        if (metricCollector != null && !(metricCollector instanceof NoOpMetricCollector) && httpRequest != null) {
+        if (metricCollector != null && !(metricCollector instanceof NoOpMetricCollector)
+            && !(metricCollector instanceof UnsampledMetricCollector) && httpRequest != null) {
             // Only interested in the service endpoint so don't include any path, query, or fragment component
             URI requestUri = httpRequest.getUri();
             try {
@@ -51,6 +51,14 @@ public final class CoreMetric {
     public static final SdkMetric<Integer> RETRY_COUNT =
         metric("RetryCount", Integer.class, MetricLevel.ERROR);
 
+    /**
+     * The probability, between 0.0 and 1.0, with which the metrics of the API call were published. Publishers that aggregate
+     * values should weight the values of the API call by the inverse of this probability. This is only present when a
+     * {@link MetricSamplingPolicy} is configured on the client.
+     */
+    public static final SdkMetric<Double> SAMPLE_RATE =
+        metric("SampleRate", Double.class, MetricLevel.ERROR);
+
     /**
      * The endpoint for the service.
      */
@@ -113,6 +121,56 @@ public final class CoreMetric {
     public static final SdkMetric<Duration> UNMARSHALLING_DURATION =
         metric("UnmarshallingDuration", Duration.class, MetricLevel.INFO);
 
+    /**
+     * The number of bytes of the request body that were sent to the HTTP client. This is only reported by async clients.
+     */
+    public static final SdkMetric<Long> REQUEST_BYTES_WRITTEN =
+        metric("RequestBytesWritten", Long.class, MetricLevel.INFO);
+
+    /**
+     * The rate, in bytes per second, at which the request body was sent to the HTTP client, measured from the first to the last
+     * part of the body. This is only reported by async clients, for request bodies that are sent in more than one part.
+     */
+    public static final SdkMetric<Double> WRITE_THROUGHPUT =
+        metric("WriteThroughput", Double.class, MetricLevel.INFO);
+
+    /**
+     * The longest time between sending two consecutive parts of the request body to the HTTP client. A long stall indicates
+     * that either the network or the {@link software.amazon.awssdk.core.async.AsyncRequestBody} was slow to produce data. This
+     * is only reported by async clients, for request bodies that are sent in more than one part.
+     */
+    public static final SdkMetric<Duration> MAX_WRITE_STALL_DURATION =
+        metric("MaxWriteStallDuration", Duration.class, MetricLevel.INFO);
+
+    /**
+     * The number of bytes of the response body that were received from the HTTP client. This is only reported by async
+     * clients.
+     *
+     * <p>Note: For streaming operations, this is only reported if the response payload is read before the API call completes.
+     */
+    public static final SdkMetric<Long> RESPONSE_BYTES_READ =
+        metric("ResponseBytesRead", Long.class, MetricLevel.INFO);
+
+    /**
+     * The rate, in bytes per second, at which the response body was received from the HTTP client, measured from the first to
+     * the last part of the body. This is only reported by async clients, for response bodies that are received in more than
+     * one part.
+     *
+     * <p>Note: For streaming operations, this is only reported if the response payload is read before the API call completes.
+     */
+    public static final SdkMetric<Double> READ_THROUGHPUT =
+        metric("ReadThroughput", Double.class, MetricLevel.INFO);
+
+    /**
+     * The longest time between receiving two consecutive parts of the response body from the HTTP client. A long stall
+     * indicates that either the network or the {@link software.amazon.awssdk.core.async.AsyncResponseTransformer} was slow to
+     * consume data. This is only reported by async clients, for response bodies that are received in more than one part.
+     *
+     * <p>Note: For streaming operations, this is only reported if the response payload is read before the API call completes.
+     */
+    public static final SdkMetric<Duration> MAX_READ_STALL_DURATION =
+        metric("MaxReadStallDuration", Duration.class, MetricLevel.INFO);
+
     /**
      * The request ID of the service request.
      */
@@ -0,0 +1,220 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.metrics;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.builder.CopyableBuilder;
+import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
+
+/**
+ * Controls which API calls of a client have their metrics collected and published to the client's metric publishers.
+ *
+ * <p>
+ * A call is sampled with the probability given by {@link #sampleRate()}. The metrics of a call that is not sampled are not
+ * collected, unless the call failed, was retried or took longer than the {@link #slowCallThreshold()}, in which case a
+ * summary of the call containing the API call level metrics is still published. Every published collection reports the
+ * probability with which it was published as {@link CoreMetric#SAMPLE_RATE}, so that publishers can re-weight the values
+ * they aggregate.
+ *
+ * <p>
+ * Sampling only applies to the metric publishers configured on the client. Requests that configure their own metric
+ * publishers are always collected.
+ *
+ * @see software.amazon.awssdk.core.client.config.ClientOverrideConfiguration.Builder#metricSamplingPolicy(MetricSamplingPolicy)
+ */
+@SdkPublicApi
+public final class MetricSamplingPolicy implements ToCopyableBuilder<MetricSamplingPolicy.Builder, MetricSamplingPolicy> {
+    private final double sampleRate;
+    private final boolean alwaysSampleFailures;
+    private final boolean alwaysSampleRetries;
+    private final Duration slowCallThreshold;
+
+    private MetricSamplingPolicy(DefaultBuilder builder) {
+        Validate.isTrue(builder.sampleRate >= 0.0 && builder.sampleRate <= 1.0,
+                        "sampleRate must be between 0.0 and 1.0, inclusive, but was %s", builder.sampleRate);
+        this.sampleRate = builder.sampleRate;
+        this.alwaysSampleFailures = builder.alwaysSampleFailures;
+        this.alwaysSampleRetries = builder.alwaysSampleRetries;
+        this.slowCallThreshold = Validate.isPositiveOrNull(builder.slowCallThreshold, "slowCallThreshold");
+    }
+
+    /**
+     * The probability, between 0.0 and 1.0, with which the metrics of an API call are collected.
+     */
+    public double sampleRate() {
+        return sampleRate;
+    }
+
+    /**
+     * Whether a summary of the API call is always published when the call fails, regardless of whether it was sampled.
+     */
+    public boolean alwaysSampleFailures() {
+        return alwaysSampleFailures;
+    }
+
+    /**
+     * Whether a summary of the API call is always published when the call was retried, regardless of whether it was
+     * sampled.
+     */
+    public boolean alwaysSampleRetries() {
+        return alwaysSampleRetries;
+    }
+
+    /**
+     * If set, a summary of the API call is always published when the call took longer than this duration, regardless of
+     * whether it was sampled.
+     */
+    public Optional<Duration> slowCallThreshold() {
+        return Optional.ofNullable(slowCallThreshold);
+    }
+
+    /**
+     * Create a {@link MetricSamplingPolicy.Builder}, used to create a {@link MetricSamplingPolicy}.
+     */
+    public static Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    @Override
+    public Builder toBuilder() {
+        return new DefaultBuilder(this);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        MetricSamplingPolicy that = (MetricSamplingPolicy) o;
+
+        return Double.compare(that.sampleRate, sampleRate) == 0
+               && alwaysSampleFailures == that.alwaysSampleFailures
+               && alwaysSampleRetries == that.alwaysSampleRetries
+               && Objects.equals(slowCallThreshold, that.slowCallThreshold);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Double.hashCode(sampleRate);
+        result = 31 * result + (alwaysSampleFailures ? 1 : 0);
+        result = 31 * result + (alwaysSampleRetries ? 1 : 0);
+        result = 31 * result + Objects.hashCode(slowCallThreshold);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("MetricSamplingPolicy")
+                       .add("sampleRate", sampleRate)
+                       .add("alwaysSampleFailures", alwaysSampleFailures)
+                       .add("alwaysSampleRetries", alwaysSampleRetries)
+                       .add("slowCallThreshold", slowCallThreshold)
+                       .build();
+    }
+
+    public interface Builder extends CopyableBuilder<Builder, MetricSamplingPolicy> {
+
+        /**
+         * Configures the probability, between 0.0 and 1.0 inclusive, with which the metrics of an API call are collected.
+         * The default value is 1.0.
+         *
+         * @param sampleRate The sample rate.
+         * @return This object for method chaining.
+         */
+        Builder sampleRate(double sampleRate);
+
+        /**
+         * Configures whether a summary of the API call is always published when the call fails. The default value is true.
+         *
+         * @param alwaysSampleFailures Whether failed calls are always published.
+         * @return This object for method chaining.
+         */
+        Builder alwaysSampleFailures(boolean alwaysSampleFailures);
+
+        /**
+         * Configures whether a summary of the API call is always published when the call was retried. The default value is
+         * true.
+         *
+         * @param alwaysSampleRetries Whether retried calls are always published.
+         * @return This object for method chaining.
+         */
+        Builder alwaysSampleRetries(boolean alwaysSampleRetries);
+
+        /**
+         * Configures the duration above which a summary of the API call is always published. By default, slow calls are
+         * not treated differently from other calls.
+         *
+         * @param slowCallThreshold The slow call threshold.
+         * @return This object for method chaining.
+         */
+        Builder slowCallThreshold(Duration slowCallThreshold);
+    }
+
+    private static final class DefaultBuilder implements Builder {
+        private double sampleRate = 1.0;
+        private boolean alwaysSampleFailures = true;
+        private boolean alwaysSampleRetries = true;
+        private Duration slowCallThreshold;
+
+        private DefaultBuilder() {
+        }
+
+        private DefaultBuilder(MetricSamplingPolicy policy) {
+            this.sampleRate = policy.sampleRate;
+            this.alwaysSampleFailures = policy.alwaysSampleFailures;
+            this.alwaysSampleRetries = policy.alwaysSampleRetries;
+            this.slowCallThreshold = policy.slowCallThreshold;
+        }
+
+        @Override
+        public Builder sampleRate(double sampleRate) {
+            this.sampleRate = sampleRate;
+            return this;
+        }
+
+        @Override
+        public Builder alwaysSampleFailures(boolean alwaysSampleFailures) {
+            this.alwaysSampleFailures = alwaysSampleFailures;
+            return this;
+        }
+
+        @Override
+        public Builder alwaysSampleRetries(boolean alwaysSampleRetries) {
+            this.alwaysSampleRetries = alwaysSampleRetries;
+            return this;
+        }
+
+        @Override
+        public Builder slowCallThreshold(Duration slowCallThreshold) {
+            this.slowCallThreshold = slowCallThreshold;
+            return this;
+        }
+
+        @Override
+        public MetricSamplingPolicy build() {
+            return new MetricSamplingPolicy(this);
+        }
+    }
+}
@@ -192,6 +192,21 @@ public class ClientOverrideConfigurationTest {
         assertThat(overrideConfig.metricPublishers()).containsExactly(publishers.get(0), publishers.get(1), thirdAdded);
     }
 
+    @Test
+    public void metricSamplingPolicy_preservedByToBuilder() {
+        ClientOverrideConfiguration overrideConfig = ClientOverrideConfiguration.builder()
+                                                                                .metricSamplingPolicy(p -> p.sampleRate(0.25))
+                                                                                .build();
+
+        assertThat(overrideConfig.metricSamplingPolicy()).hasValueSatisfying(p -> {
+            assertThat(p.sampleRate()).isEqualTo(0.25);
+            assertThat(p.alwaysSampleFailures()).isTrue();
+            assertThat(p.alwaysSampleRetries()).isTrue();
+            assertThat(p.slowCallThreshold()).isEmpty();
+        });
+        assertThat(overrideConfig.toBuilder().build().metricSamplingPolicy()).isEqualTo(overrideConfig.metricSamplingPolicy());
+    }
+
     @Test
     public void executionAttributes_createsCopy() {
         ExecutionAttributes executionAttributes = new ExecutionAttributes();
@@ -125,6 +125,25 @@ public class AmazonHttpClientTest {
     }
 
 
+    @Test
+    public void consecutiveRequests_shouldUseTheirOwnResponseHandler() throws Exception {
+        HttpResponseHandler<String> firstHandler = mock(HttpResponseHandler.class);
+        when(firstHandler.handle(any(), any())).thenReturn("first");
+        HttpResponseHandler<String> secondHandler = mock(HttpResponseHandler.class);
+        when(secondHandler.handle(any(), any())).thenReturn("second");
+
+        Assert.assertEquals("first", execute(firstHandler));
+        Assert.assertEquals("second", execute(secondHandler));
+    }
+
+    private String execute(HttpResponseHandler<String> responseHandler) {
+        return client.requestExecutionBuilder()
+                     .request(ValidSdkObjects.sdkHttpFullRequest().build())
+                     .originalRequest(NoopTestRequest.builder().build())
+                     .executionContext(ClientExecutionAndRequestTimerTestUtils.executionContext(null))
+                     .execute(combinedSyncResponseHandler(responseHandler, null));
+    }
+
     @Test
     public void testUserAgentPrefixAndSuffixAreAdded() {
         String prefix = "somePrefix";
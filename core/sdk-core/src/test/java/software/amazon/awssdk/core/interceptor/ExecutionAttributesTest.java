@@ -16,7 +16,9 @@
 package software.amazon.awssdk.core.interceptor;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 
+import java.util.UUID;
 import org.junit.jupiter.api.Test;
 
 public class ExecutionAttributesTest {
@@ -80,4 +82,68 @@ public class ExecutionAttributesTest {
 
         assertThat(executionAttributes1.hashCode()).isEqualTo(executionAttributes2.hashCode());
     }
+
+    @Test
+    public void putAttribute_attributeCreatedAfterCollection_isStored() {
+        ExecutionAttributes executionAttributes = new ExecutionAttributes();
+        ExecutionAttribute<String> attribute = new ExecutionAttribute<>("Attr-" + UUID.randomUUID());
+
+        executionAttributes.putAttribute(attribute, "value");
+
+        assertThat(executionAttributes.getAttribute(attribute)).isEqualTo("value");
+        assertThat(executionAttributes.getAttributes()).containsExactly(entry(attribute, "value"));
+    }
+
+    @Test
+    public void getAttribute_attributeCreatedAfterCollection_returnsNull() {
+        ExecutionAttributes executionAttributes = ExecutionAttributes.builder().put(ATTR_1, "hello").build();
+        ExecutionAttribute<String> attribute = new ExecutionAttribute<>("Attr-" + UUID.randomUUID());
+
+        assertThat(executionAttributes.getAttribute(attribute)).isNull();
+        assertThat(executionAttributes.getOptionalAttribute(attribute)).isEmpty();
+    }
+
+    @Test
+    public void putAttribute_nullValue_isIncludedInAttributes() {
+        ExecutionAttributes executionAttributes = new ExecutionAttributes().putAttribute(ATTR_1, null);
+
+        assertThat(executionAttributes.getAttribute(ATTR_1)).isNull();
+        assertThat(executionAttributes.getAttributes()).containsOnlyKeys(ATTR_1);
+        assertThat(executionAttributes).isNotEqualTo(new ExecutionAttributes());
+
+        executionAttributes.putAttributeIfAbsent(ATTR_1, "hello");
+        assertThat(executionAttributes.getAttribute(ATTR_1)).isEqualTo("hello");
+    }
+
+    @Test
+    public void merge_keepsHigherPrecedenceValues() {
+        ExecutionAttributes higher = ExecutionAttributes.builder().put(ATTR_1, "higher").build();
+        ExecutionAttributes lower = ExecutionAttributes.builder().put(ATTR_1, "lower").put(ATTR_2, "lower").build();
+
+        ExecutionAttributes merged = higher.merge(lower);
+
+        assertThat(merged.getAttributes()).containsOnly(entry(ATTR_1, "higher"), entry(ATTR_2, "lower"));
+        assertThat(higher.getAttribute(ATTR_2)).isNull();
+    }
+
+    @Test
+    public void copy_isIndependentOfOriginal() {
+        ExecutionAttributes original = ExecutionAttributes.builder().put(ATTR_1, "hello").build();
+
+        ExecutionAttributes copy = original.copy();
+        copy.putAttribute(ATTR_1, "changed").putAttribute(ATTR_2, "world");
+
+        assertThat(original.getAttributes()).containsOnly(entry(ATTR_1, "hello"));
+        assertThat(copy.getAttributes()).containsOnly(entry(ATTR_1, "changed"), entry(ATTR_2, "world"));
+    }
+
+    @Test
+    public void hashCode_isConsistentWithAttributesMap() {
+        ExecutionAttributes executionAttributes = ExecutionAttributes.builder()
+                .put(ATTR_1, "hello")
+                .put(ATTR_2, null)
+                .build();
+
+        assertThat(executionAttributes.hashCode()).isEqualTo(executionAttributes.getAttributes().hashCode());
+    }
 }
@@ -0,0 +1,137 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.interceptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import utils.ValidSdkObjects;
+
+public class ExecutionInterceptorChainTest {
+    private final List<String> invocations = new ArrayList<>();
+
+    @Test
+    public void hooks_onlyInvokeInterceptorsThatOverrideThem() {
+        ExecutionInterceptorChain chain = new ExecutionInterceptorChain(Arrays.asList(new BeforeExecutionInterceptor("first"),
+                                                                                      new AfterExecutionInterceptor("second"),
+                                                                                      new BeforeExecutionInterceptor("third")));
+        InterceptorContext context = context();
+        ExecutionAttributes attributes = new ExecutionAttributes();
+
+        chain.beforeExecution(context, attributes);
+        chain.beforeMarshalling(context, attributes);
+        chain.afterExecution(context, attributes);
+
+        assertThat(invocations).containsExactly("first.beforeExecution", "third.beforeExecution", "second.afterExecution");
+    }
+
+    @Test
+    public void hooks_inheritedOverride_isInvoked() {
+        ExecutionInterceptorChain chain = new ExecutionInterceptorChain(Arrays.asList(new AfterExecutionInterceptor("first"),
+                                                                                      new InheritingInterceptor("second")));
+        InterceptorContext context = context();
+
+        chain.afterExecution(context, new ExecutionAttributes());
+
+        assertThat(invocations).containsExactly("second.afterExecution", "first.afterExecution");
+    }
+
+    @Test
+    public void modifyRequest_unchanged_returnsSameContext() {
+        ExecutionInterceptorChain chain = new ExecutionInterceptorChain(Arrays.asList(new NoOpModifyInterceptor(),
+                                                                                      new BeforeExecutionInterceptor("first")));
+        InterceptorContext context = context();
+        ExecutionAttributes attributes = new ExecutionAttributes();
+
+        assertThat(chain.modifyRequest(context, attributes)).isSameAs(context);
+        assertThat(chain.modifyHttpRequestAndHttpContent(context, attributes)).isSameAs(context);
+    }
+
+    @Test
+    public void modifyHttpRequest_changed_returnsModifiedContext() {
+        SdkHttpRequest modifiedRequest = ValidSdkObjects.sdkHttpFullRequest().putHeader("Modified", "true").build();
+        ExecutionInterceptor interceptor = new ExecutionInterceptor() {
+            @Override
+            public SdkHttpRequest modifyHttpRequest(Context.ModifyHttpRequest context, ExecutionAttributes executionAttributes) {
+                return modifiedRequest;
+            }
+        };
+        ExecutionInterceptorChain chain = new ExecutionInterceptorChain(Arrays.asList(interceptor, new NoOpModifyInterceptor()));
+        InterceptorContext context = context();
+
+        InterceptorContext result = chain.modifyHttpRequestAndHttpContent(context, new ExecutionAttributes());
+
+        assertThat(result).isNotSameAs(context);
+        assertThat(result.httpRequest()).isSameAs(modifiedRequest);
+        assertThat(result.request()).isSameAs(context.request());
+    }
+
+    private static InterceptorContext context() {
+        return InterceptorContext.builder()
+                                 .request(ValidSdkObjects.sdkRequest())
+                                 .httpRequest(ValidSdkObjects.sdkHttpFullRequest().build())
+                                 .build();
+    }
+
+    private class BeforeExecutionInterceptor implements ExecutionInterceptor {
+        private final String name;
+
+        private BeforeExecutionInterceptor(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes executionAttributes) {
+            invocations.add(name + ".beforeExecution");
+        }
+    }
+
+    private class AfterExecutionInterceptor implements ExecutionInterceptor {
+        protected final String name;
+
+        private AfterExecutionInterceptor(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public void afterExecution(Context.AfterExecution context, ExecutionAttributes executionAttributes) {
+            invocations.add(name + ".afterExecution");
+        }
+    }
+
+    private class InheritingInterceptor extends AfterExecutionInterceptor {
+        private InheritingInterceptor(String name) {
+            super(name);
+        }
+    }
+
+    private static class NoOpModifyInterceptor implements ExecutionInterceptor {
+        @Override
+        public SdkRequest modifyRequest(Context.ModifyRequest context, ExecutionAttributes executionAttributes) {
+            return context.request();
+        }
+
+        @Override
+        public SdkHttpRequest modifyHttpRequest(Context.ModifyHttpRequest context, ExecutionAttributes executionAttributes) {
+            return context.httpRequest();
+        }
+    }
+}
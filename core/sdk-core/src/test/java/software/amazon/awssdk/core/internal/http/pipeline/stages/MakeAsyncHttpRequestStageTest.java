@@ -89,39 +89,30 @@ public class MakeAsyncHttpRequestStageTest {
 
     @Test
     public void apiCallAttemptTimeoutEnabled_shouldInvokeExecutor() throws Exception {
-        stage = new MakeAsyncHttpRequestStage<>(
-            combinedAsyncResponseHandler(AsyncResponseHandlerTestUtils.noOpResponseHandler(),
-                                         AsyncResponseHandlerTestUtils.noOpResponseHandler()),
-            clientDependencies(Duration.ofMillis(1000)));
+        stage = new MakeAsyncHttpRequestStage<>(clientDependencies(Duration.ofMillis(1000)));
 
         CompletableFuture<SdkHttpFullRequest> requestFuture = CompletableFuture.completedFuture(
                 ValidSdkObjects.sdkHttpFullRequest().build());
-        stage.execute(requestFuture, requestContext());
+        stage.execute(requestFuture, requestContext(noOpResponseHandler()));
 
         verify(timeoutExecutor, times(1)).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
     }
 
     @Test
     public void apiCallAttemptTimeoutNotEnabled_shouldNotInvokeExecutor() throws Exception {
-        stage = new MakeAsyncHttpRequestStage<>(
-            combinedAsyncResponseHandler(AsyncResponseHandlerTestUtils.noOpResponseHandler(),
-                                         AsyncResponseHandlerTestUtils.noOpResponseHandler()),
-            clientDependencies(null));
+        stage = new MakeAsyncHttpRequestStage<>(clientDependencies(null));
 
         CompletableFuture<SdkHttpFullRequest> requestFuture = CompletableFuture.completedFuture(
                 ValidSdkObjects.sdkHttpFullRequest().build());
 
-        stage.execute(requestFuture, requestContext());
+        stage.execute(requestFuture, requestContext(noOpResponseHandler()));
 
         verify(timeoutExecutor, never()).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
     }
 
     @Test
     public void testExecute_contextContainsMetricCollector_addsChildToExecuteRequest() {
-        stage = new MakeAsyncHttpRequestStage<>(
-                combinedAsyncResponseHandler(AsyncResponseHandlerTestUtils.noOpResponseHandler(),
-                        AsyncResponseHandlerTestUtils.noOpResponseHandler()),
-                clientDependencies(null));
+        stage = new MakeAsyncHttpRequestStage<>(clientDependencies(null));
 
         SdkHttpFullRequest sdkHttpRequest = SdkHttpFullRequest.builder()
                 .method(SdkHttpMethod.GET)
@@ -141,6 +132,7 @@ public class MakeAsyncHttpRequestStageTest {
         RequestExecutionContext context = RequestExecutionContext.builder()
                 .originalRequest(ValidSdkObjects.sdkRequest())
                 .executionContext(executionContext)
+                .asyncResponseHandler(noOpResponseHandler())
                 .build();
 
         context.attemptMetricCollector(mockCollector);
@@ -177,12 +169,12 @@ public class MakeAsyncHttpRequestStageTest {
         CompletableFuture prepareFuture = new CompletableFuture();
         when(mockHandler.prepare()).thenReturn(prepareFuture);
 
-        stage = new MakeAsyncHttpRequestStage<>(mockHandler, dependencies);
+        stage = new MakeAsyncHttpRequestStage<>(dependencies);
 
         CompletableFuture<SdkHttpFullRequest> requestFuture = CompletableFuture.completedFuture(
             ValidSdkObjects.sdkHttpFullRequest().build());
 
-        CompletableFuture executeFuture = stage.execute(requestFuture, requestContext());
+        CompletableFuture executeFuture = stage.execute(requestFuture, requestContext(mockHandler));
 
         long testThreadId = Thread.currentThread().getId();
         CompletableFuture afterWhenComplete =
@@ -212,12 +204,12 @@ public class MakeAsyncHttpRequestStageTest {
         CompletableFuture prepareFuture = spy(new CompletableFuture());
         when(mockHandler.prepare()).thenReturn(prepareFuture);
 
-        stage = new MakeAsyncHttpRequestStage<>(mockHandler, dependencies);
+        stage = new MakeAsyncHttpRequestStage<>(dependencies);
 
         CompletableFuture<SdkHttpFullRequest> requestFuture = CompletableFuture.completedFuture(
             ValidSdkObjects.sdkHttpFullRequest().build());
 
-        CompletableFuture executeFuture = stage.execute(requestFuture, requestContext());
+        CompletableFuture executeFuture = stage.execute(requestFuture, requestContext(mockHandler));
 
         try {
             CompletableFuture afterHandle =
@@ -251,11 +243,17 @@ public class MakeAsyncHttpRequestStageTest {
                                      .build();
     }
 
-    private RequestExecutionContext requestContext() {
+    private TransformingAsyncResponseHandler<?> noOpResponseHandler() {
+        return combinedAsyncResponseHandler(AsyncResponseHandlerTestUtils.noOpResponseHandler(),
+                                            AsyncResponseHandlerTestUtils.noOpResponseHandler());
+    }
+
+    private RequestExecutionContext requestContext(TransformingAsyncResponseHandler<?> responseHandler) {
         ExecutionContext executionContext = ClientExecutionAndRequestTimerTestUtils.executionContext(ValidSdkObjects.sdkHttpFullRequest().build());
         return RequestExecutionContext.builder()
                                       .executionContext(executionContext)
                                       .originalRequest(NoopTestRequest.builder().build())
+                                      .asyncResponseHandler(responseHandler)
                                       .build();
     }
 }
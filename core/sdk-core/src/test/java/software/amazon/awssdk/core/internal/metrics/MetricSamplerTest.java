@@ -0,0 +1,95 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import java.time.Duration;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.SdkRequestOverrideConfiguration;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.core.metrics.MetricSamplingPolicy;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.awssdk.metrics.NoOpMetricCollector;
+import utils.ValidSdkObjects;
+
+class MetricSamplerTest {
+    private static final SdkRequest REQUEST = ValidSdkObjects.sdkRequest();
+
+    @Test
+    void noPolicy_returnsApiCallCollector() {
+        MetricCollector apiCall = MetricCollector.create("ApiCall");
+        assertThat(MetricSampler.executionCollector(apiCall, REQUEST, null)).isSameAs(apiCall);
+        assertThat(apiCall.collect().metricValues(CoreMetric.SAMPLE_RATE)).isEmpty();
+    }
+
+    @Test
+    void noOpCollector_returnsNoOpCollector() {
+        MetricCollector noOp = NoOpMetricCollector.create();
+        assertThat(MetricSampler.executionCollector(noOp, REQUEST, policy(0.0))).isSameAs(noOp);
+    }
+
+    @Test
+    void sampled_reportsSampleRate() {
+        MetricCollector apiCall = MetricCollector.create("ApiCall");
+        MetricCollector execution = MetricSampler.executionCollector(apiCall, REQUEST, policy(1.0));
+
+        assertThat(execution).isSameAs(apiCall);
+        assertThat(apiCall.collect().metricValues(CoreMetric.SAMPLE_RATE)).containsExactly(1.0);
+    }
+
+    @Test
+    void notSampled_onlyForwardsSummaryMetrics() {
+        MetricCollector apiCall = MetricCollector.create("ApiCall");
+        MetricCollector execution = MetricSampler.executionCollector(apiCall, REQUEST, policy(0.0));
+
+        assertThat(execution).isInstanceOf(UnsampledMetricCollector.class);
+        assertThat(execution.createChild("ApiCallAttempt")).isInstanceOf(NoOpMetricCollector.class);
+
+        execution.reportMetric(CoreMetric.API_CALL_DURATION, Duration.ofMillis(10));
+        execution.reportMetric(CoreMetric.RETRY_COUNT, 1);
+        execution.reportMetric(CoreMetric.MARSHALLING_DURATION, Duration.ofMillis(1));
+
+        MetricCollection collection = apiCall.collect();
+        assertThat(collection.metricValues(CoreMetric.API_CALL_DURATION)).containsExactly(Duration.ofMillis(10));
+        assertThat(collection.metricValues(CoreMetric.RETRY_COUNT)).containsExactly(1);
+        assertThat(collection.metricValues(CoreMetric.MARSHALLING_DURATION)).isEmpty();
+        assertThat(collection.metricValues(CoreMetric.SAMPLE_RATE)).isEmpty();
+        assertThat(collection.children()).isEmpty();
+    }
+
+    @Test
+    void requestMetricPublishers_alwaysSampled() {
+        SdkRequest request = mock(SdkRequest.class);
+        doReturn(Optional.of(SdkRequestOverrideConfiguration.builder()
+                                                            .addMetricPublisher(mock(MetricPublisher.class))
+                                                            .build()))
+            .when(request).overrideConfiguration();
+        MetricCollector apiCall = MetricCollector.create("ApiCall");
+
+        assertThat(MetricSampler.executionCollector(apiCall, request, policy(0.0))).isSameAs(apiCall);
+    }
+
+    private static MetricSamplingPolicy policy(double sampleRate) {
+        return MetricSamplingPolicy.builder().sampleRate(sampleRate).build();
+    }
+}
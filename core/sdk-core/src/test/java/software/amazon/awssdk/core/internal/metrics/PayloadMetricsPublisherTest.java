@@ -0,0 +1,113 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.reactivex.Flowable;
+import io.reactivex.subscribers.TestSubscriber;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscriber;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.http.async.SdkHttpContentPublisher;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.utils.async.SimplePublisher;
+
+class PayloadMetricsPublisherTest {
+    private MetricCollector metricCollector;
+
+    @BeforeEach
+    void setUp() {
+        metricCollector = MetricCollector.create("ApiCallAttempt");
+    }
+
+    @Test
+    void requestBody_multipleParts_reportsBytesThroughputAndStall() throws InterruptedException {
+        SimplePublisher<ByteBuffer> body = new SimplePublisher<>();
+        SdkHttpContentPublisher tracked = PayloadMetricsPublisher.trackRequestBody(contentPublisher(body, 30L),
+                                                                                   metricCollector);
+        TestSubscriber<ByteBuffer> subscriber = Flowable.fromPublisher(tracked).test();
+
+        body.send(ByteBuffer.wrap(new byte[10]));
+        Thread.sleep(50);
+        body.send(ByteBuffer.wrap(new byte[20]));
+        body.complete();
+        subscriber.awaitTerminalEvent();
+
+        subscriber.assertComplete().assertValueCount(2);
+        assertThat(tracked.contentLength()).hasValue(30L);
+
+        MetricCollection metrics = metricCollector.collect();
+        assertThat(metrics.metricValues(CoreMetric.REQUEST_BYTES_WRITTEN)).containsExactly(30L);
+        assertThat(metrics.metricValues(CoreMetric.WRITE_THROUGHPUT)).hasSize(1);
+        assertThat(metrics.metricValues(CoreMetric.WRITE_THROUGHPUT).get(0)).isPositive().isLessThan(30.0 / 0.05);
+        assertThat(metrics.metricValues(CoreMetric.MAX_WRITE_STALL_DURATION)).hasSize(1);
+        assertThat(metrics.metricValues(CoreMetric.MAX_WRITE_STALL_DURATION).get(0))
+            .isGreaterThanOrEqualTo(Duration.ofMillis(50));
+        assertThat(metrics.metricValues(CoreMetric.RESPONSE_BYTES_READ)).isEmpty();
+    }
+
+    @Test
+    void responseBody_singlePart_reportsOnlyBytes() {
+        Flowable.fromPublisher(PayloadMetricsPublisher.trackResponseBody(AsyncRequestBody.fromString("hello"), metricCollector))
+                .test()
+                .awaitDone(5, TimeUnit.SECONDS)
+                .assertComplete();
+
+        MetricCollection metrics = metricCollector.collect();
+        assertThat(metrics.metricValues(CoreMetric.RESPONSE_BYTES_READ)).containsExactly(5L);
+        assertThat(metrics.metricValues(CoreMetric.READ_THROUGHPUT)).isEmpty();
+        assertThat(metrics.metricValues(CoreMetric.MAX_READ_STALL_DURATION)).isEmpty();
+        assertThat(metrics.metricValues(CoreMetric.REQUEST_BYTES_WRITTEN)).isEmpty();
+    }
+
+    @Test
+    void responseBody_failed_reportsBytesReadBeforeFailure() {
+        SimplePublisher<ByteBuffer> body = new SimplePublisher<>();
+        TestSubscriber<ByteBuffer> subscriber =
+            Flowable.fromPublisher(PayloadMetricsPublisher.trackResponseBody(body, metricCollector)).test();
+
+        body.send(ByteBuffer.wrap(new byte[10]));
+        body.send(ByteBuffer.wrap(new byte[10]));
+        body.error(new IOException("Connection reset"));
+        subscriber.awaitTerminalEvent();
+
+        subscriber.assertError(IOException.class);
+        assertThat(metricCollector.collect().metricValues(CoreMetric.RESPONSE_BYTES_READ)).containsExactly(20L);
+    }
+
+    private static SdkHttpContentPublisher contentPublisher(SimplePublisher<ByteBuffer> body, long contentLength) {
+        return new SdkHttpContentPublisher() {
+            @Override
+            public Optional<Long> contentLength() {
+                return Optional.of(contentLength);
+            }
+
+            @Override
+            public void subscribe(Subscriber<? super ByteBuffer> subscriber) {
+                body.subscribe(subscriber);
+            }
+        };
+    }
+}
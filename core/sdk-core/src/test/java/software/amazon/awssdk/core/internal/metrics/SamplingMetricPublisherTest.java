@@ -0,0 +1,134 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.core.metrics.MetricSamplingPolicy;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.awssdk.metrics.MetricRecord;
+
+class SamplingMetricPublisherTest {
+    private MetricPublisher delegate;
+    private SamplingMetricPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(MetricPublisher.class);
+        publisher = new SamplingMetricPublisher(delegate, MetricSamplingPolicy.builder()
+                                                                              .sampleRate(0.1)
+                                                                              .slowCallThreshold(Duration.ofSeconds(1))
+                                                                              .build());
+    }
+
+    @Test
+    void sampledCall_publishedWithSampleRate() {
+        MetricCollection collection = apiCall(true, 0.1, 0, Duration.ofMillis(10));
+
+        publisher.publish(collection);
+
+        verify(delegate).publish(collection);
+    }
+
+    @Test
+    void unsampledCall_dropped() {
+        publisher.publish(apiCall(true, null, 0, Duration.ofMillis(10)));
+
+        verify(delegate, never()).publish(any());
+    }
+
+    @Test
+    void unsampledFailedCall_publishedWithSampleRateOfOne() {
+        assertThat(publishedSampleRate(apiCall(false, null, 0, Duration.ofMillis(10)))).containsExactly(1.0);
+    }
+
+    @Test
+    void unsampledRetriedCall_publishedWithSampleRateOfOne() {
+        assertThat(publishedSampleRate(apiCall(true, null, 2, Duration.ofMillis(10)))).containsExactly(1.0);
+    }
+
+    @Test
+    void unsampledSlowCall_publishedWithSampleRateOfOne() {
+        assertThat(publishedSampleRate(apiCall(true, null, 0, Duration.ofSeconds(2)))).containsExactly(1.0);
+    }
+
+    @Test
+    void sampledFailedCall_sampleRateReplacedWithOne() {
+        MetricCollection published = published(apiCall(false, 0.1, 0, Duration.ofMillis(10)));
+
+        assertThat(published.metricValues(CoreMetric.SAMPLE_RATE)).containsExactly(1.0);
+        List<Object> sampleRates = published.stream()
+                                            .filter(r -> r.metric() == CoreMetric.SAMPLE_RATE)
+                                            .map(MetricRecord::value)
+                                            .collect(Collectors.toList());
+        assertThat(sampleRates).containsExactly(1.0);
+        assertThat(published.metricValues(CoreMetric.API_CALL_SUCCESSFUL)).containsExactly(false);
+    }
+
+    @Test
+    void failuresNotAlwaysSampled_unsampledFailedCallDropped() {
+        publisher = new SamplingMetricPublisher(delegate, MetricSamplingPolicy.builder()
+                                                                              .sampleRate(0.1)
+                                                                              .alwaysSampleFailures(false)
+                                                                              .build());
+
+        publisher.publish(apiCall(false, null, 0, Duration.ofMillis(10)));
+
+        verify(delegate, never()).publish(any());
+    }
+
+    @Test
+    void close_closesDelegate() {
+        publisher.close();
+
+        verify(delegate).close();
+    }
+
+    private List<Double> publishedSampleRate(MetricCollection collection) {
+        return published(collection).metricValues(CoreMetric.SAMPLE_RATE);
+    }
+
+    private MetricCollection published(MetricCollection collection) {
+        publisher.publish(collection);
+        ArgumentCaptor<MetricCollection> captor = ArgumentCaptor.forClass(MetricCollection.class);
+        verify(delegate).publish(captor.capture());
+        return captor.getValue();
+    }
+
+    private static MetricCollection apiCall(boolean successful, Double sampleRate, int retryCount, Duration duration) {
+        MetricCollector collector = MetricCollector.create("ApiCall");
+        if (sampleRate != null) {
+            collector.reportMetric(CoreMetric.SAMPLE_RATE, sampleRate);
+        }
+        collector.reportMetric(CoreMetric.API_CALL_SUCCESSFUL, successful);
+        collector.reportMetric(CoreMetric.RETRY_COUNT, retryCount);
+        collector.reportMetric(CoreMetric.API_CALL_DURATION, duration);
+        return collector.collect();
+    }
+}
@@ -121,6 +121,51 @@ public final class HttpMetric {
     public static final SdkMetric<Duration> CONCURRENCY_ACQUIRE_DURATION =
         metric("ConcurrencyAcquireDuration", Duration.class, MetricLevel.INFO);
 
+    /**
+     * True if the request was sent on a connection that had already been established by an earlier request, false if a new
+     * connection was established for the request.
+     *
+     * <p>For HTTP/2 operations, a connection is only considered new for the first stream that is created on it.
+     */
+    public static final SdkMetric<Boolean> CONNECTION_REUSED =
+        metric("ConnectionReused", Boolean.class, MetricLevel.INFO);
+
+    /**
+     * The time taken to resolve the IP address of the host that a new connection is established to.
+     *
+     * <p>This is only reported when a new connection was established for the request. See {@link #CONNECTION_REUSED}.
+     */
+    public static final SdkMetric<Duration> DNS_RESOLUTION_DURATION =
+        metric("DnsResolutionDuration", Duration.class, MetricLevel.INFO);
+
+    /**
+     * The time taken to establish the TCP connection of a new connection, after its host's IP address was resolved.
+     *
+     * <p>This is only reported when a new connection was established for the request. See {@link #CONNECTION_REUSED}.
+     */
+    public static final SdkMetric<Duration> TCP_CONNECT_DURATION =
+        metric("TcpConnectDuration", Duration.class, MetricLevel.INFO);
+
+    /**
+     * The time taken to perform the TLS handshake of a new connection, after its TCP connection was established.
+     *
+     * <p>This is only reported when a new connection was established for the request and TLS is enabled. See
+     * {@link #CONNECTION_REUSED}.
+     */
+    public static final SdkMetric<Duration> TLS_HANDSHAKE_DURATION =
+        metric("TlsHandshakeDuration", Duration.class, MetricLevel.INFO);
+
+    /**
+     * The time between the HTTP client starting to send the request on an established connection and receiving the start of
+     * the response (the status line and headers for HTTP/1, or the headers frame for HTTP/2).
+     *
+     * <p>This includes the time taken to send the request body, and excludes the time taken to acquire and establish the
+     * connection. When it is high while the connection durations are low, the latency is caused by the service or the
+     * network, rather than by the client establishing connections.
+     */
+    public static final SdkMetric<Duration> TIME_TO_FIRST_BYTE =
+        metric("TimeToFirstByte", Duration.class, MetricLevel.INFO);
+
     private HttpMetric() {
     }
 
@@ -27,6 +27,7 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.HttpMetric;
 import software.amazon.awssdk.http.apache.ApacheHttpClient;
 import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.SdkMetric;
 
 @SdkInternalApi
 public final class ClientConnectionRequestFactory {
@@ -39,6 +40,16 @@ public final class ClientConnectionRequestFactory {
     private ClientConnectionRequestFactory() {
     }
 
+    /**
+     * Reports the given metric to the request-level {@link MetricCollector} of the current thread, if one is set.
+     */
+    public static <T> void reportMetric(SdkMetric<T> metric, T value) {
+        MetricCollector metricCollector = THREAD_LOCAL_REQUEST_METRIC_COLLECTOR.get();
+        if (metricCollector != null) {
+            metricCollector.reportMetric(metric, value);
+        }
+    }
+
     /**
      * Returns a wrapped instance of {@link ConnectionRequest}
      * to capture the necessary performance metrics.
@@ -53,7 +64,8 @@ public final class ClientConnectionRequestFactory {
     }
 
     /**
-     * Measures the latency of {@link ConnectionRequest#get(long, java.util.concurrent.TimeUnit)}.
+     * Measures the latency of {@link ConnectionRequest#get(long, java.util.concurrent.TimeUnit)}, and whether the leased
+     * connection is an already established one.
      */
     private static class InstrumentedConnectionRequest extends DelegatingConnectionRequest {
 
@@ -66,7 +78,10 @@ public final class ClientConnectionRequestFactory {
                                                                                 ConnectionPoolTimeoutException {
             Instant startTime = Instant.now();
             try {
-                return super.get(timeout, timeUnit);
+                HttpClientConnection connection = super.get(timeout, timeUnit);
+                // A connection that is newly created by the pool is not bound to a socket until it is connected
+                reportMetric(HttpMetric.CONNECTION_REUSED, connection.isOpen());
+                return connection;
             } finally {
                 Duration elapsed = Duration.between(startTime, Instant.now());
                 MetricCollector metricCollector = THREAD_LOCAL_REQUEST_METRIC_COLLECTOR.get();
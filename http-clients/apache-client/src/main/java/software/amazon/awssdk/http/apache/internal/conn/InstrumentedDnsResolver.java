@@ -0,0 +1,53 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.apache.internal.conn;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import org.apache.http.conn.DnsResolver;
+import org.apache.http.impl.conn.SystemDefaultDnsResolver;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.HttpMetric;
+
+/**
+ * A {@link DnsResolver} that measures the time taken to resolve the host of a new connection, and reports it as
+ * {@link HttpMetric#DNS_RESOLUTION_DURATION}.
+ */
+@SdkInternalApi
+public final class InstrumentedDnsResolver implements DnsResolver {
+    private final DnsResolver delegate;
+
+    private InstrumentedDnsResolver(DnsResolver delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Wraps the given resolver, or the system default resolver if it is null.
+     */
+    public static DnsResolver wrap(DnsResolver delegate) {
+        return new InstrumentedDnsResolver(delegate == null ? SystemDefaultDnsResolver.INSTANCE : delegate);
+    }
+
+    @Override
+    public InetAddress[] resolve(String host) throws UnknownHostException {
+        long start = System.nanoTime();
+        InetAddress[] addresses = delegate.resolve(host);
+        ClientConnectionRequestFactory.reportMetric(HttpMetric.DNS_RESOLUTION_DURATION,
+                                                    Duration.ofNanos(System.nanoTime() - start));
+        return addresses;
+    }
+}
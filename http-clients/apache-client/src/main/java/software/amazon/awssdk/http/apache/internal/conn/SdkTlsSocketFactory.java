@@ -18,6 +18,7 @@ package software.amazon.awssdk.http.apache.internal.conn;
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.Socket;
+import java.time.Duration;
 import java.util.Arrays;
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.SSLContext;
@@ -26,6 +27,7 @@ import org.apache.http.HttpHost;
 import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.protocol.HttpContext;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.HttpMetric;
 import software.amazon.awssdk.http.apache.internal.net.SdkSocket;
 import software.amazon.awssdk.http.apache.internal.net.SdkSslSocket;
 import software.amazon.awssdk.utils.Logger;
@@ -34,6 +36,7 @@ import software.amazon.awssdk.utils.Logger;
 public class SdkTlsSocketFactory extends SSLConnectionSocketFactory {
 
     private static final Logger log = Logger.loggerFor(SdkTlsSocketFactory.class);
+    private static final String TLS_HANDSHAKE_START_TIME = "aws.tls.handshake.start-time-nanos";
     private final SSLContext sslContext;
 
     public SdkTlsSocketFactory(final SSLContext sslContext, final HostnameVerifier hostnameVerifier) {
@@ -62,8 +65,16 @@ public class SdkTlsSocketFactory extends SSLConnectionSocketFactory {
             final HttpContext context) throws IOException {
         log.trace(() -> String.format("Connecting to %s:%s", remoteAddress.getAddress(), remoteAddress.getPort()));
 
+        long connectStart = System.nanoTime();
         Socket connectedSocket = super.connectSocket(connectTimeout, socket, host, remoteAddress, localAddress, context);
 
+        // The super class performs the TLS handshake via createLayeredSocket after the TCP connection is established, so the
+        // TCP connection ends when the handshake starts.
+        Object handshakeStart = context == null ? null : context.removeAttribute(TLS_HANDSHAKE_START_TIME);
+        long connectEnd = handshakeStart instanceof Long ? (Long) handshakeStart : System.nanoTime();
+        ClientConnectionRequestFactory.reportMetric(HttpMetric.TCP_CONNECT_DURATION,
+                                                    Duration.ofNanos(connectEnd - connectStart));
+
         if (connectedSocket instanceof SSLSocket) {
             return new SdkSslSocket((SSLSocket) connectedSocket);
         }
@@ -71,4 +82,20 @@ public class SdkTlsSocketFactory extends SSLConnectionSocketFactory {
         return new SdkSocket(connectedSocket);
     }
 
+    @Override
+    public Socket createLayeredSocket(final Socket socket,
+                                      final String target,
+                                      final int port,
+                                      final HttpContext context) throws IOException {
+        long handshakeStart = System.nanoTime();
+        if (context != null) {
+            context.setAttribute(TLS_HANDSHAKE_START_TIME, handshakeStart);
+        }
+
+        Socket layeredSocket = super.createLayeredSocket(socket, target, port, context);
+        ClientConnectionRequestFactory.reportMetric(HttpMetric.TLS_HANDSHAKE_DURATION,
+                                                    Duration.ofNanos(System.nanoTime() - handshakeStart));
+        return layeredSocket;
+    }
+
 }
@@ -0,0 +1,45 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.apache.internal.impl;
+
+import java.io.IOException;
+import java.time.Duration;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpException;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.protocol.HttpRequestExecutor;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.http.apache.internal.conn.ClientConnectionRequestFactory;
+
+/**
+ * An {@link HttpRequestExecutor} that reports the time between starting to send a request on an established connection and
+ * receiving the response headers as {@link HttpMetric#TIME_TO_FIRST_BYTE}.
+ */
+@SdkInternalApi
+public final class MetricReportingHttpRequestExecutor extends HttpRequestExecutor {
+
+    @Override
+    public HttpResponse execute(HttpRequest request, HttpClientConnection conn, HttpContext context)
+            throws IOException, HttpException {
+        long start = System.nanoTime();
+        HttpResponse response = super.execute(request, conn, context);
+        ClientConnectionRequestFactory.reportMetric(HttpMetric.TIME_TO_FIRST_BYTE, Duration.ofNanos(System.nanoTime() - start));
+        return response;
+    }
+}
@@ -18,8 +18,14 @@ package software.amazon.awssdk.http.apache;
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
 import static com.github.tomakehurst.wiremock.client.WireMock.any;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlMatching;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
 import static org.assertj.core.api.Assertions.assertThat;
 import static software.amazon.awssdk.http.HttpMetric.CONCURRENCY_ACQUIRE_DURATION;
+import static software.amazon.awssdk.http.HttpMetric.CONNECTION_REUSED;
+import static software.amazon.awssdk.http.HttpMetric.DNS_RESOLUTION_DURATION;
+import static software.amazon.awssdk.http.HttpMetric.TCP_CONNECT_DURATION;
+import static software.amazon.awssdk.http.HttpMetric.TIME_TO_FIRST_BYTE;
+import static software.amazon.awssdk.http.HttpMetric.TLS_HANDSHAKE_DURATION;
 
 import com.github.tomakehurst.wiremock.WireMockServer;
 import java.io.IOException;
@@ -33,11 +39,14 @@ import org.junit.rules.ExpectedException;
 import software.amazon.awssdk.http.HttpExecuteRequest;
 import software.amazon.awssdk.http.HttpExecuteResponse;
 import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpConfigurationOption;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.http.SdkHttpMethod;
 import software.amazon.awssdk.http.SdkHttpRequest;
 import software.amazon.awssdk.metrics.MetricCollection;
 import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.utils.AttributeMap;
+import software.amazon.awssdk.utils.IoUtils;
 
 
 public class ApacheMetricsTest {
@@ -49,7 +58,7 @@ public class ApacheMetricsTest {
 
     @BeforeClass
     public static void setUp() throws IOException {
-        wireMockServer = new WireMockServer();
+        wireMockServer = new WireMockServer(wireMockConfig().dynamicPort().dynamicHttpsPort());
         wireMockServer.start();
     }
 
@@ -82,11 +91,64 @@ public class ApacheMetricsTest {
         assertThat(collection.metricValues(CONCURRENCY_ACQUIRE_DURATION)).isNotEmpty();
     }
 
+    @Test
+    public void newConnection_connectionTimingsAreRecorded() throws IOException {
+        client = ApacheHttpClient.create();
+        MetricCollector collector = MetricCollector.create("test");
+        makeRequestWithMetrics(client, collector);
+
+        MetricCollection collection = collector.collect();
+
+        assertThat(collection.metricValues(CONNECTION_REUSED)).containsExactly(false);
+        assertThat(collection.metricValues(DNS_RESOLUTION_DURATION)).hasSize(1);
+        assertThat(collection.metricValues(TCP_CONNECT_DURATION)).hasSize(1);
+        assertThat(collection.metricValues(TLS_HANDSHAKE_DURATION)).isEmpty();
+        assertThat(collection.metricValues(TIME_TO_FIRST_BYTE)).hasSize(1);
+    }
+
+    @Test
+    public void reusedConnection_connectionTimingsAreNotRecorded() throws IOException {
+        client = ApacheHttpClient.create();
+        IoUtils.drainInputStream(makeRequestWithMetrics(client, MetricCollector.create("first")).responseBody().get());
+
+        MetricCollector collector = MetricCollector.create("test");
+        makeRequestWithMetrics(client, collector);
+
+        MetricCollection collection = collector.collect();
+
+        assertThat(collection.metricValues(CONNECTION_REUSED)).containsExactly(true);
+        assertThat(collection.metricValues(DNS_RESOLUTION_DURATION)).isEmpty();
+        assertThat(collection.metricValues(TCP_CONNECT_DURATION)).isEmpty();
+        assertThat(collection.metricValues(TIME_TO_FIRST_BYTE)).hasSize(1);
+    }
+
+    @Test
+    public void newTlsConnection_tlsHandshakeDurationIsRecorded() throws IOException {
+        client = ApacheHttpClient.builder()
+                                 .buildWithDefaults(AttributeMap.builder()
+                                                                .put(SdkHttpConfigurationOption.TRUST_ALL_CERTIFICATES, true)
+                                                                .build());
+        MetricCollector collector = MetricCollector.create("test");
+        makeRequestWithMetrics(client, collector, "https", wireMockServer.httpsPort());
+
+        MetricCollection collection = collector.collect();
+
+        assertThat(collection.metricValues(CONNECTION_REUSED)).containsExactly(false);
+        assertThat(collection.metricValues(TCP_CONNECT_DURATION)).hasSize(1);
+        assertThat(collection.metricValues(TLS_HANDSHAKE_DURATION)).hasSize(1);
+        assertThat(collection.metricValues(TIME_TO_FIRST_BYTE)).hasSize(1);
+    }
+
     private HttpExecuteResponse makeRequestWithMetrics(SdkHttpClient httpClient, MetricCollector metricCollector) throws IOException {
+        return makeRequestWithMetrics(httpClient, metricCollector, "http", wireMockServer.port());
+    }
+
+    private HttpExecuteResponse makeRequestWithMetrics(SdkHttpClient httpClient, MetricCollector metricCollector,
+                                                       String protocol, int port) throws IOException {
         SdkHttpRequest httpRequest = SdkHttpFullRequest.builder()
                                                        .method(SdkHttpMethod.GET)
-                                                       .protocol("http")
-                                                       .host("localhost:" + wireMockServer.port())
+                                                       .protocol(protocol)
+                                                       .host("localhost:" + port)
                                                        .build();
 
         HttpExecuteRequest request = HttpExecuteRequest.builder()
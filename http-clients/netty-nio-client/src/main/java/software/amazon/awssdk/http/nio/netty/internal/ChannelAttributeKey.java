@@ -73,6 +73,12 @@ public final class ChannelAttributeKey {
     public static final AttributeKey<ChannelDiagnostics> CHANNEL_DIAGNOSTICS = NettyUtils.getOrCreateAttributeKey(
         "aws.http.nio.netty.async.channelDiagnostics");
 
+    /**
+     * The {@link ConnectionTimings} of a connection channel, which are reported by the first request made on the connection.
+     */
+    public static final AttributeKey<ConnectionTimings> CONNECTION_TIMINGS = NettyUtils.getOrCreateAttributeKey(
+        "aws.http.nio.netty.async.connectionTimings");
+
     /**
      * {@link AttributeKey} to keep track of whether the streaming is completed and this is set to true when we receive the *
      * {@link LastHttpContent}.
@@ -107,6 +113,13 @@ public final class ChannelAttributeKey {
     static final AttributeKey<Long> RESPONSE_DATA_READ = NettyUtils.getOrCreateAttributeKey(
         "aws.http.nio.netty.async.responseDataRead");
 
+    /**
+     * The time at which the current request started being written to the channel, used to measure the time to first byte.
+     * This is only set when metrics are enabled, and cleared once the response has been received.
+     */
+    static final AttributeKey<Long> REQUEST_WRITE_TIME_NANOS = NettyUtils.getOrCreateAttributeKey(
+        "aws.http.nio.netty.async.requestWriteTimeNanos");
+
     static final AttributeKey<CompletableFuture<Void>> EXECUTE_FUTURE_KEY = NettyUtils.getOrCreateAttributeKey(
             "aws.http.nio.netty.async.executeFuture");
 
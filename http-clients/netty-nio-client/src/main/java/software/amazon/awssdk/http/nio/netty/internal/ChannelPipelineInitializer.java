@@ -16,6 +16,7 @@
 package software.amazon.awssdk.http.nio.netty.internal;
 
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.CHANNEL_DIAGNOSTICS;
+import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.CONNECTION_TIMINGS;
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.HTTP2_CONNECTION;
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.HTTP2_INITIAL_WINDOW_SIZE;
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.PROTOCOL_FUTURE;
@@ -91,12 +92,21 @@ public final class ChannelPipelineInitializer extends AbstractChannelPoolHandler
     public void channelCreated(Channel ch) {
         ch.attr(CHANNEL_DIAGNOSTICS).set(new ChannelDiagnostics(ch));
         ch.attr(PROTOCOL_FUTURE).set(new CompletableFuture<>());
+        ConnectionTimings connectionTimings = new ConnectionTimings();
+        ch.attr(CONNECTION_TIMINGS).set(connectionTimings);
         ChannelPipeline pipeline = ch.pipeline();
+
+        // Channels that are tunnelled through a proxy are already connected when they are initialized
+        if (!ch.isActive()) {
+            pipeline.addLast(ConnectionTimingHandler.getInstance());
+        }
+
         if (sslCtx != null) {
 
             SslHandler sslHandler = newSslHandler(sslCtx, ch.alloc(), poolKey.getHost(), poolKey.getPort(),
                                                   configuration.tlsHandshakeTimeout());
 
+            connectionTimings.tlsHandshakeStarted(sslHandler.handshakeFuture(), ch.isActive());
             pipeline.addLast(sslHandler);
             pipeline.addLast(SslCloseCompletionEventHandler.getInstance());
 
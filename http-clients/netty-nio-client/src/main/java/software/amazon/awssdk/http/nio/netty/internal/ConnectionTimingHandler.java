@@ -0,0 +1,58 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.CONNECTION_TIMINGS;
+
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import java.net.SocketAddress;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Records when a new channel starts connecting to the remote host, after its address has been resolved, and when it has
+ * connected in the {@link ConnectionTimings} of the channel. The handler removes itself once the channel starts connecting.
+ */
+@SdkInternalApi
+@ChannelHandler.Sharable
+public final class ConnectionTimingHandler extends ChannelOutboundHandlerAdapter {
+    private static final ConnectionTimingHandler INSTANCE = new ConnectionTimingHandler();
+
+    private ConnectionTimingHandler() {
+    }
+
+    public static ConnectionTimingHandler getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public void connect(ChannelHandlerContext ctx, SocketAddress remoteAddress, SocketAddress localAddress,
+                        ChannelPromise promise) {
+        ConnectionTimings timings = ctx.channel().attr(CONNECTION_TIMINGS).get();
+        if (timings != null) {
+            timings.connectStarted();
+            promise.addListener(f -> {
+                if (f.isSuccess()) {
+                    timings.connected();
+                }
+            });
+        }
+        ctx.connect(remoteAddress, localAddress, promise);
+        ctx.pipeline().remove(this);
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import io.netty.channel.Channel;
+import io.netty.util.concurrent.Future;
+import java.time.Duration;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.SdkMetric;
+
+/**
+ * The time taken to establish a connection, which is reported to the metric collector of the first request that is made on
+ * the connection. This is only accessed from the event loop of the connection's channel.
+ */
+@SdkInternalApi
+@NotThreadSafe
+public final class ConnectionTimings {
+    private final long creationTimeNanos;
+    private Long connectStartTimeNanos;
+    private Long connectedTimeNanos;
+    private Long tlsHandshakeStartTimeNanos;
+    private Long tlsHandshakeCompletedTimeNanos;
+    private Future<Channel> tlsHandshakeFuture;
+    private boolean claimed;
+
+    public ConnectionTimings() {
+        this.creationTimeNanos = System.nanoTime();
+    }
+
+    /**
+     * Invoked when the address of the remote host has been resolved, and the channel starts connecting to it.
+     */
+    public void connectStarted() {
+        connectStartTimeNanos = System.nanoTime();
+    }
+
+    /**
+     * Invoked when the channel has connected to the remote host.
+     */
+    public void connected() {
+        connectedTimeNanos = System.nanoTime();
+    }
+
+    /**
+     * Invoked when the TLS handler has been added to the channel. The handshake starts once the channel is connected, or
+     * immediately if the channel is already connected (e.g. because it is tunnelled through a proxy).
+     */
+    public void tlsHandshakeStarted(Future<Channel> handshakeFuture, boolean channelActive) {
+        this.tlsHandshakeFuture = handshakeFuture;
+        if (channelActive) {
+            tlsHandshakeStartTimeNanos = System.nanoTime();
+        }
+        handshakeFuture.addListener(f -> {
+            if (f.isSuccess()) {
+                tlsHandshakeCompletedTimeNanos = System.nanoTime();
+            }
+        });
+    }
+
+    /**
+     * Claims the timings for the current request.
+     *
+     * @return true if this is the first request made on the connection, false if the connection is being reused.
+     */
+    public boolean claim() {
+        if (claimed) {
+            return false;
+        }
+        claimed = true;
+        return true;
+    }
+
+    /**
+     * Reports the timings of the phases of establishing the connection that have been measured. The TLS handshake duration is
+     * reported once the handshake completes, if it is still in progress.
+     */
+    public void report(MetricCollector metricCollector) {
+        if (connectStartTimeNanos != null) {
+            reportDuration(metricCollector, HttpMetric.DNS_RESOLUTION_DURATION, creationTimeNanos, connectStartTimeNanos);
+            if (connectedTimeNanos != null) {
+                reportDuration(metricCollector, HttpMetric.TCP_CONNECT_DURATION, connectStartTimeNanos, connectedTimeNanos);
+            }
+        }
+
+        if (tlsHandshakeFuture != null) {
+            if (tlsHandshakeFuture.isDone()) {
+                reportTlsHandshake(metricCollector);
+            } else {
+                tlsHandshakeFuture.addListener(f -> reportTlsHandshake(metricCollector));
+            }
+        }
+    }
+
+    /**
+     * Returns the time at which the request that started being written at the given time could start being sent to the remote
+     * host, which is when the TLS handshake completed if the request was written while it was still in progress.
+     */
+    public long requestStartTimeNanos(long writeTimeNanos) {
+        if (tlsHandshakeCompletedTimeNanos != null && tlsHandshakeCompletedTimeNanos - writeTimeNanos > 0) {
+            return tlsHandshakeCompletedTimeNanos;
+        }
+        return writeTimeNanos;
+    }
+
+    private void reportTlsHandshake(MetricCollector metricCollector) {
+        Long handshakeStart = tlsHandshakeStartTimeNanos != null ? tlsHandshakeStartTimeNanos : connectedTimeNanos;
+        if (handshakeStart != null && tlsHandshakeCompletedTimeNanos != null) {
+            reportDuration(metricCollector, HttpMetric.TLS_HANDSHAKE_DURATION, handshakeStart, tlsHandshakeCompletedTimeNanos);
+        }
+    }
+
+    private static void reportDuration(MetricCollector metricCollector,
+                                       SdkMetric<Duration> metric,
+                                       long startNanos,
+                                       long endNanos) {
+        metricCollector.reportMetric(metric, Duration.ofNanos(endNanos - startNanos));
+    }
+}
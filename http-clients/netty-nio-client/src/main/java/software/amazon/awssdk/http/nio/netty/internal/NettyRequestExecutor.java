@@ -22,6 +22,7 @@ import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.IN_USE;
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.KEEP_ALIVE;
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.REQUEST_CONTEXT_KEY;
+import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.REQUEST_WRITE_TIME_NANOS;
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.RESPONSE_COMPLETE_KEY;
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.RESPONSE_CONTENT_LENGTH;
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.RESPONSE_DATA_READ;
@@ -198,7 +199,9 @@ public final class NettyRequestExecutor {
         channel.attr(STREAMING_COMPLETE_KEY).set(false);
         channel.attr(RESPONSE_CONTENT_LENGTH).set(null);
         channel.attr(RESPONSE_DATA_READ).set(null);
+        channel.attr(REQUEST_WRITE_TIME_NANOS).set(null);
         channel.attr(CHANNEL_DIAGNOSTICS).get().incrementRequestCount();
+        NettyRequestMetrics.publishConnectionMetrics(context.metricCollector(), channel);
         channel.config().setOption(ChannelOption.AUTO_READ, false);
     }
 
@@ -244,6 +247,9 @@ public final class NettyRequestExecutor {
                                                             TimeUnit.MILLISECONDS));
         StreamedRequest streamedRequest = new StreamedRequest(request,
                                                               context.executeRequest().requestContentPublisher());
+        if (NettyRequestMetrics.metricsAreEnabled(context.metricCollector())) {
+            channel.attr(REQUEST_WRITE_TIME_NANOS).set(System.nanoTime());
+        }
         channel.writeAndFlush(streamedRequest)
                .addListener(wireCall -> {
                    // Done writing so remove the idle write timeout handler
@@ -25,6 +25,7 @@ import java.util.Optional;
 import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.Http2Metric;
+import software.amazon.awssdk.http.HttpMetric;
 import software.amazon.awssdk.metrics.MetricCollector;
 import software.amazon.awssdk.metrics.NoOpMetricCollector;
 
@@ -63,6 +64,49 @@ public class NettyRequestMetrics {
         });
     }
 
+    /**
+     * Publish whether the connection of the provided channel is reused to the provided collector, along with the time taken
+     * to establish the connection if this is the first request made on it. For HTTP/2, the connection is the parent of the
+     * stream channel.
+     */
+    public static void publishConnectionMetrics(MetricCollector metricCollector, Channel channel) {
+        ConnectionTimings connectionTimings = connectionTimings(channel);
+        if (connectionTimings == null) {
+            return;
+        }
+
+        boolean newConnection = connectionTimings.claim();
+        if (!metricsAreEnabled(metricCollector)) {
+            return;
+        }
+
+        metricCollector.reportMetric(HttpMetric.CONNECTION_REUSED, !newConnection);
+        if (newConnection) {
+            connectionTimings.report(metricCollector);
+        }
+    }
+
+    /**
+     * Publish the time to first byte of the current request of the provided channel to the provided collector. This should be
+     * invoked when the response headers are received.
+     */
+    public static void publishTimeToFirstByte(MetricCollector metricCollector, Channel channel) {
+        Long writeTime = channel.attr(ChannelAttributeKey.REQUEST_WRITE_TIME_NANOS).getAndSet(null);
+        if (writeTime == null || !metricsAreEnabled(metricCollector)) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        ConnectionTimings connectionTimings = connectionTimings(channel);
+        long requestStart = connectionTimings == null ? writeTime : connectionTimings.requestStartTimeNanos(writeTime);
+        metricCollector.reportMetric(HttpMetric.TIME_TO_FIRST_BYTE, Duration.ofNanos(now - requestStart));
+    }
+
+    private static ConnectionTimings connectionTimings(Channel channel) {
+        Channel connection = channel.parent() == null ? channel : channel.parent();
+        return connection.attr(ChannelAttributeKey.CONNECTION_TIMINGS).get();
+    }
+
     private static Optional<Http2Connection> getHttp2Connection(Channel channel) {
         Channel parentChannel = channel.parent();
         if (parentChannel == null) {
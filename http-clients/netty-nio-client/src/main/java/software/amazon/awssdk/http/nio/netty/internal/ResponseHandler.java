@@ -95,6 +95,7 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
             channelContext.channel().attr(RESPONSE_STATUS_CODE).set(response.status().code());
             channelContext.channel().attr(RESPONSE_CONTENT_LENGTH).set(responseContentLength(response));
             channelContext.channel().attr(KEEP_ALIVE).set(shouldKeepAlive(response));
+            NettyRequestMetrics.publishTimeToFirstByte(requestContext.metricCollector(), channelContext.channel());
             requestContext.handler().onHeaders(sdkResponse);
         }
 
@@ -735,6 +735,60 @@ public class NettyNioAsyncHttpClientWireMockTest {
         assertThat(metrics.metricValues(HttpMetric.AVAILABLE_CONCURRENCY).get(0)).isBetween(0, 1);
     }
 
+    @Test
+    public void connectionMetricsAreCollectedForNewAndReusedConnections() throws Exception {
+        SdkAsyncHttpClient customClient = NettyNioAsyncHttpClient.builder()
+                                                                 .maxConcurrency(1)
+                                                                 .build();
+        URI uri = URI.create("http://localhost:" + mockServer.port());
+
+        try {
+            MetricCollection newConnectionMetrics = makeRequestAndCollectMetrics(customClient, uri);
+            assertThat(newConnectionMetrics.metricValues(HttpMetric.CONNECTION_REUSED)).containsExactly(false);
+            assertThat(newConnectionMetrics.metricValues(HttpMetric.DNS_RESOLUTION_DURATION)).hasSize(1);
+            assertThat(newConnectionMetrics.metricValues(HttpMetric.TCP_CONNECT_DURATION)).hasSize(1);
+            assertThat(newConnectionMetrics.metricValues(HttpMetric.TLS_HANDSHAKE_DURATION)).isEmpty();
+            assertThat(newConnectionMetrics.metricValues(HttpMetric.TIME_TO_FIRST_BYTE)).hasSize(1);
+
+            MetricCollection reusedConnectionMetrics = makeRequestAndCollectMetrics(customClient, uri);
+            assertThat(reusedConnectionMetrics.metricValues(HttpMetric.CONNECTION_REUSED)).containsExactly(true);
+            assertThat(reusedConnectionMetrics.metricValues(HttpMetric.DNS_RESOLUTION_DURATION)).isEmpty();
+            assertThat(reusedConnectionMetrics.metricValues(HttpMetric.TCP_CONNECT_DURATION)).isEmpty();
+            assertThat(reusedConnectionMetrics.metricValues(HttpMetric.TIME_TO_FIRST_BYTE)).hasSize(1);
+        } finally {
+            customClient.close();
+        }
+    }
+
+    @Test
+    public void tlsHandshakeDurationIsCollectedForNewTlsConnections() throws Exception {
+        SdkAsyncHttpClient customClient = NettyNioAsyncHttpClient.builder().buildWithDefaults(mapWithTrustAllCerts());
+        URI uri = URI.create("https://localhost:" + mockServer.httpsPort());
+
+        try {
+            MetricCollection metrics = makeRequestAndCollectMetrics(customClient, uri);
+            assertThat(metrics.metricValues(HttpMetric.CONNECTION_REUSED)).containsExactly(false);
+            assertThat(metrics.metricValues(HttpMetric.TCP_CONNECT_DURATION)).hasSize(1);
+            assertThat(metrics.metricValues(HttpMetric.TLS_HANDSHAKE_DURATION)).hasSize(1);
+            assertThat(metrics.metricValues(HttpMetric.TIME_TO_FIRST_BYTE)).hasSize(1);
+        } finally {
+            customClient.close();
+        }
+    }
+
+    private MetricCollection makeRequestAndCollectMetrics(SdkAsyncHttpClient client, URI uri) throws Exception {
+        stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withBody(randomAlphabetic(10))));
+        RecordingResponseHandler recorder = new RecordingResponseHandler();
+        client.execute(AsyncExecuteRequest.builder()
+                                          .request(createRequest(uri))
+                                          .requestContentPublisher(createProvider(""))
+                                          .responseHandler(recorder)
+                                          .metricCollector(recorder.collector)
+                                          .build());
+        recorder.completeFuture.get(5, TimeUnit.SECONDS);
+        return recorder.collector.collect();
+    }
+
     private void verifyChannelRelease(Channel channel) throws InterruptedException {
         Thread.sleep(1000);
         assertThat(channel.attr(AttributeKey.valueOf("channelPool")).get()).isNull();
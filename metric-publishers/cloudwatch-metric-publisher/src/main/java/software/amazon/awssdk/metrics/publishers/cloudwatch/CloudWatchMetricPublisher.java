@@ -60,6 +60,7 @@ import software.amazon.awssdk.services.cloudwatch.model.MetricDatum;
 import software.amazon.awssdk.services.cloudwatch.model.PutMetricDataRequest;
 import software.amazon.awssdk.services.cloudwatch.model.StatisticSet;
 import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+import software.amazon.awssdk.utils.Validate;
 
 /**
  * An implementation of {@link MetricPublisher} that aggregates and uploads metrics to Amazon CloudWatch on a periodic basis.
@@ -232,7 +233,8 @@ public final class CloudWatchMetricPublisher implements MetricPublisher {
                                                                resolveDimensions(builder),
                                                                resolveMetricCategories(builder),
                                                                resolveMetricLevel(builder),
-                                                               resolveDetailedMetrics(builder));
+                                                               resolveDetailedMetrics(builder),
+                                                               builder.detailedMetricsRelativeError);
         this.metricUploader = new MetricUploader(resolveClient(builder));
         this.maximumCallsPerUpload = resolveMaximumCallsPerUpload(builder);
 
@@ -395,6 +397,7 @@ public final class CloudWatchMetricPublisher implements MetricPublisher {
         private Collection<MetricCategory> metricCategories;
         private MetricLevel metricLevel;
         private Collection<SdkMetric<?>> detailedMetrics;
+        private Double detailedMetricsRelativeError;
 
         private Builder() {
         }
@@ -566,7 +569,8 @@ public final class CloudWatchMetricPublisher implements MetricPublisher {
          * <p>In addition to additional heap memory usage, detailed metrics can result in more requests being sent to CloudWatch,
          * which can also introduce additional usage cost. The {@link #maximumCallsPerUpload(Integer)} acts as a safeguard against
          * too many calls being made, but if you configure multiple {@code detailedMetrics}, you may need to increase the
-         * {@code maximumCallsPerUpload} limit.
+         * {@code maximumCallsPerUpload} limit. Configuring a {@link #detailedMetricsRelativeError(Double)} bounds both the
+         * memory usage and the number of values uploaded for each detailed metric.
          */
         public Builder detailedMetrics(Collection<SdkMetric<?>> detailedMetrics) {
             this.detailedMetrics = new ArrayList<>(detailedMetrics);
@@ -580,6 +584,33 @@ public final class CloudWatchMetricPublisher implements MetricPublisher {
             return detailedMetrics(Arrays.asList(detailedMetrics));
         }
 
+        /**
+         * Configure the relative error that is acceptable for the values of the {@link #detailedMetrics(Collection)} that are
+         * uploaded to CloudWatch, in exchange for a bounded amount of memory and number of uploaded values.
+         *
+         * <p>If this is not specified, every unique value of a detailed metric is stored in memory and uploaded to CloudWatch.
+         * Metrics with a high number of unique values, like latencies, can then use a lot of memory and need multiple
+         * put-metric-data calls to be uploaded.
+         *
+         * <p>If this is specified, a detailed metric with more unique values within a minute than fit in a single
+         * {@link MetricDatum} has its values grouped into logarithmically-sized buckets. Each bucket is uploaded as a single
+         * value that is within the given relative error of the values in the bucket. For example, with a relative error of
+         * {@code 0.01}, a latency of 250 milliseconds is uploaded as a value between 247.5 and 252.5 milliseconds, and
+         * latencies between 1 millisecond and 1 minute are uploaded as at most 551 different values. Percentiles queried in
+         * CloudWatch have the same relative error.
+         *
+         * <p>The value must be greater than 0 and less than 1.
+         */
+        public Builder detailedMetricsRelativeError(Double detailedMetricsRelativeError) {
+            if (detailedMetricsRelativeError != null) {
+                Validate.isTrue(detailedMetricsRelativeError > 0 && detailedMetricsRelativeError < 1,
+                                "detailedMetricsRelativeError must be greater than 0 and less than 1, but was %s",
+                                detailedMetricsRelativeError);
+            }
+            this.detailedMetricsRelativeError = detailedMetricsRelativeError;
+            return this;
+        }
+
         /**
          * Build a {@link CloudWatchMetricPublisher} using the configuration currently configured on this publisher.
          */
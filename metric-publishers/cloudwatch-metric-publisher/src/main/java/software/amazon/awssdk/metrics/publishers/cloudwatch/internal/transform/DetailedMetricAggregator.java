@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.metrics.publishers.cloudwatch.internal.transform;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -29,19 +30,36 @@ import software.amazon.awssdk.services.cloudwatch.model.StandardUnit;
 /**
  * An implementation of {@link MetricAggregator} that stores all values and counts for a given metric/dimension pair
  * until they can be added to a {@link MetricDatum}.
+ *
+ * <p>If a relative error is configured, the values are moved to a {@link LogBucketedHistogram} once there are more unique
+ * values than fit in a single {@code MetricDatum}. From then on, the memory used and the number of values uploaded are
+ * bounded, and each uploaded value is within the relative error of the values it represents.
  */
 @SdkInternalApi
 class DetailedMetricAggregator implements MetricAggregator {
+    /**
+     * The maximum number of unique values that CloudWatch accepts in a single {@link MetricDatum}.
+     */
+    static final int MAX_EXACT_VALUES = 150;
+
     private final SdkMetric<?> metric;
     private final List<Dimension> dimensions;
     private final StandardUnit unit;
 
-    private final Map<Double, DetailedMetrics> metricDetails = new HashMap<>();
+    private final Double relativeError;
+
+    private Map<Double, DetailedMetrics> metricDetails = new HashMap<>();
+    private LogBucketedHistogram histogram;
 
     DetailedMetricAggregator(MetricAggregatorKey key, StandardUnit unit) {
+        this(key, unit, null);
+    }
+
+    DetailedMetricAggregator(MetricAggregatorKey key, StandardUnit unit, Double relativeError) {
         this.metric = key.metric();
         this.dimensions = key.dimensions();
         this.unit = unit;
+        this.relativeError = relativeError;
     }
 
     @Override
@@ -56,7 +74,18 @@ class DetailedMetricAggregator implements MetricAggregator {
 
     @Override
     public void addMetricValue(double value) {
+        if (histogram != null) {
+            histogram.add(value, 1);
+            return;
+        }
+
         metricDetails.computeIfAbsent(value, v -> new DetailedMetrics(value)).metricCount++;
+
+        if (relativeError != null && metricDetails.size() > MAX_EXACT_VALUES) {
+            histogram = new LogBucketedHistogram(relativeError);
+            metricDetails.values().forEach(m -> histogram.add(m.metricValue, m.metricCount));
+            metricDetails = null;
+        }
     }
 
     @Override
@@ -65,7 +94,13 @@ class DetailedMetricAggregator implements MetricAggregator {
     }
 
     public Collection<DetailedMetrics> detailedMetrics() {
-        return Collections.unmodifiableCollection(metricDetails.values());
+        if (histogram == null) {
+            return Collections.unmodifiableCollection(metricDetails.values());
+        }
+
+        List<DetailedMetrics> result = new ArrayList<>(histogram.bucketCount());
+        histogram.forEachBucket((value, count) -> result.add(new DetailedMetrics(value, count)));
+        return Collections.unmodifiableList(result);
     }
 
     public static class DetailedMetrics {
@@ -76,6 +111,11 @@ class DetailedMetricAggregator implements MetricAggregator {
             this.metricValue = metricValue;
         }
 
+        private DetailedMetrics(double metricValue, int metricCount) {
+            this.metricValue = metricValue;
+            this.metricCount = metricCount;
+        }
+
         public double metricValue() {
             return metricValue;
         }
@@ -0,0 +1,194 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.cloudwatch.internal.transform;
+
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * A histogram that approximates metric values by grouping them into logarithmically-sized buckets, so that the memory used
+ * does not depend on the number of unique values that are added.
+ *
+ * <p>A positive value {@code v} is added to the bucket with index {@code ceil(log(v) / log(gamma))}, where
+ * {@code gamma = (1 + relativeError) / (1 - relativeError)}, and every value in a bucket is represented by a single value that
+ * is within the relative error of all of them. Negative values are bucketed by their magnitude, and zeros are counted
+ * separately.
+ *
+ * <p>The buckets of each sign are stored in a dense array. When the values of a sign span more than {@link #MAX_BUCKETS}
+ * buckets, the lowest buckets are merged, so the relative error is only guaranteed for the largest values. For latencies,
+ * these are the values that matter for high percentiles.
+ */
+@SdkInternalApi
+@NotThreadSafe
+final class LogBucketedHistogram {
+    /**
+     * The maximum number of buckets stored for each sign.
+     */
+    static final int MAX_BUCKETS = 2048;
+
+    private final double gamma;
+    private final double logGamma;
+    private final BucketStore positiveBuckets = new BucketStore();
+    private final BucketStore negativeBuckets = new BucketStore();
+    private int zeroCount;
+
+    LogBucketedHistogram(double relativeError) {
+        this.gamma = (1 + relativeError) / (1 - relativeError);
+        this.logGamma = Math.log(gamma);
+    }
+
+    /**
+     * Add the provided value to this histogram the given number of times.
+     */
+    void add(double value, int count) {
+        if (value > 0) {
+            positiveBuckets.add(index(value), count);
+        } else if (value < 0) {
+            negativeBuckets.add(index(-value), count);
+        } else {
+            zeroCount += count;
+        }
+    }
+
+    /**
+     * The number of non-empty buckets in this histogram.
+     */
+    int bucketCount() {
+        return positiveBuckets.nonEmptyBuckets() + negativeBuckets.nonEmptyBuckets() + (zeroCount > 0 ? 1 : 0);
+    }
+
+    /**
+     * Invoke the provided consumer with the representative value and the count of every non-empty bucket, in ascending order
+     * of value.
+     */
+    void forEachBucket(BucketConsumer consumer) {
+        for (int i = negativeBuckets.maxIndex; i >= negativeBuckets.minIndex; i--) {
+            int count = negativeBuckets.count(i);
+            if (count > 0) {
+                consumer.accept(-value(i), count);
+            }
+        }
+
+        if (zeroCount > 0) {
+            consumer.accept(0, zeroCount);
+        }
+
+        for (int i = positiveBuckets.minIndex; i <= positiveBuckets.maxIndex; i++) {
+            int count = positiveBuckets.count(i);
+            if (count > 0) {
+                consumer.accept(value(i), count);
+            }
+        }
+    }
+
+    private int index(double value) {
+        return (int) Math.ceil(Math.log(value) / logGamma);
+    }
+
+    /**
+     * The value that represents the bucket with the given index, which holds the values in {@code (gamma^(index - 1),
+     * gamma^index]}.
+     */
+    private double value(int index) {
+        return 2 * Math.pow(gamma, index) / (1 + gamma);
+    }
+
+    @FunctionalInterface
+    interface BucketConsumer {
+        void accept(double value, int count);
+    }
+
+    /**
+     * The counts of a contiguous range of bucket indexes, stored in an array that is grown as needed.
+     */
+    private static final class BucketStore {
+        private static final int INITIAL_CAPACITY = 64;
+
+        private int[] counts;
+        private int offset;
+        private int minIndex = 0;
+        private int maxIndex = -1;
+
+        private void add(int index, int count) {
+            if (counts == null) {
+                counts = new int[INITIAL_CAPACITY];
+                offset = index - INITIAL_CAPACITY / 2;
+                minIndex = index;
+                maxIndex = index;
+            } else if (index < minIndex) {
+                // Values below the range that can be stored are merged into the lowest bucket.
+                index = Math.max(index, maxIndex - MAX_BUCKETS + 1);
+                ensureCapacity(index, maxIndex);
+                minIndex = Math.min(minIndex, index);
+            } else if (index > maxIndex) {
+                int lowestIndex = index - MAX_BUCKETS + 1;
+                if (lowestIndex > minIndex) {
+                    mergeBucketsBelow(lowestIndex);
+                }
+                ensureCapacity(minIndex, index);
+                maxIndex = index;
+            }
+
+            counts[index - offset] += count;
+        }
+
+        private void mergeBucketsBelow(int lowestIndex) {
+            int merged = 0;
+            for (int i = minIndex; i < lowestIndex && i <= maxIndex; i++) {
+                merged += counts[i - offset];
+                counts[i - offset] = 0;
+            }
+
+            ensureCapacity(lowestIndex, Math.max(lowestIndex, maxIndex));
+            minIndex = lowestIndex;
+            maxIndex = Math.max(lowestIndex, maxIndex);
+            counts[lowestIndex - offset] += merged;
+        }
+
+        private void ensureCapacity(int newMinIndex, int newMaxIndex) {
+            if (newMinIndex >= offset && newMaxIndex < offset + counts.length) {
+                return;
+            }
+
+            int span = newMaxIndex - newMinIndex + 1;
+            int[] newCounts = new int[Math.max(span * 2, INITIAL_CAPACITY)];
+            int newOffset = newMinIndex - (newCounts.length - span) / 2;
+
+            int copyFrom = Math.max(minIndex, newOffset);
+            int copyTo = Math.min(Math.min(maxIndex, offset + counts.length - 1), newOffset + newCounts.length - 1);
+            if (copyFrom <= copyTo) {
+                System.arraycopy(counts, copyFrom - offset, newCounts, copyFrom - newOffset, copyTo - copyFrom + 1);
+            }
+
+            counts = newCounts;
+            offset = newOffset;
+        }
+
+        private int count(int index) {
+            return counts[index - offset];
+        }
+
+        private int nonEmptyBuckets() {
+            int result = 0;
+            for (int i = minIndex; i <= maxIndex; i++) {
+                if (counts[i - offset] > 0) {
+                    result++;
+                }
+            }
+            return result;
+        }
+    }
+}
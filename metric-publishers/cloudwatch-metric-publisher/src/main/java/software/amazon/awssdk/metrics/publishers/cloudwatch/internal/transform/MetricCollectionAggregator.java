@@ -81,8 +81,18 @@ public class MetricCollectionAggregator {
                                       Set<MetricCategory> metricCategories,
                                       MetricLevel metricLevel,
                                       Set<SdkMetric<?>> detailedMetrics) {
+        this(namespace, dimensions, metricCategories, metricLevel, detailedMetrics, null);
+    }
+
+    public MetricCollectionAggregator(String namespace,
+                                      Set<SdkMetric<String>> dimensions,
+                                      Set<MetricCategory> metricCategories,
+                                      MetricLevel metricLevel,
+                                      Set<SdkMetric<?>> detailedMetrics,
+                                      Double detailedMetricsRelativeError) {
         this.namespace = namespace;
-        this.timeBucketedMetrics = new TimeBucketedMetrics(dimensions, metricCategories, metricLevel, detailedMetrics);
+        this.timeBucketedMetrics = new TimeBucketedMetrics(dimensions, metricCategories, metricLevel, detailedMetrics,
+                                                           detailedMetricsRelativeError);
     }
 
     /**
@@ -62,6 +62,11 @@ class TimeBucketedMetrics {
      */
     private final Set<SdkMetric<?>> detailedMetrics;
 
+    /**
+     * The relative error of the values of the {@link #detailedMetrics}, or null if their exact values should be kept.
+     */
+    private final Double detailedMetricsRelativeError;
+
     /**
      * The metric categories for which we should aggregate values. Any categories outside of this set will have their values
      * ignored/dropped.
@@ -84,9 +89,11 @@ class TimeBucketedMetrics {
     TimeBucketedMetrics(Set<SdkMetric<String>> dimensions,
                         Set<MetricCategory> metricCategories,
                         MetricLevel metricLevel,
-                        Set<SdkMetric<?>> detailedMetrics) {
+                        Set<SdkMetric<?>> detailedMetrics,
+                        Double detailedMetricsRelativeError) {
         this.dimensions = dimensions;
         this.detailedMetrics = detailedMetrics;
+        this.detailedMetricsRelativeError = detailedMetricsRelativeError;
         this.metricCategories = metricCategories;
         this.metricLevel = metricLevel;
         this.metricCategoriesContainsAll = metricCategories.contains(MetricCategory.ALL);
@@ -170,7 +177,7 @@ class TimeBucketedMetrics {
         SdkMetric<?> metric = aggregatorKey.metric();
         StandardUnit metricUnit = unitFor(metric);
         if (detailedMetrics.contains(metric)) {
-            return new DetailedMetricAggregator(aggregatorKey, metricUnit);
+            return new DetailedMetricAggregator(aggregatorKey, metricUnit, detailedMetricsRelativeError);
         } else {
             return new SummaryMetricAggregator(aggregatorKey, metricUnit);
         }
@@ -0,0 +1,109 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.cloudwatch.internal.transform;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class LogBucketedHistogramTest {
+    @Test
+    public void bucketValuesAreWithinRelativeError() {
+        double relativeError = 0.01;
+        Random random = new Random(0);
+        for (int i = 0; i < 10_000; i++) {
+            double value = Math.exp(random.nextDouble() * 20 - 5);
+            LogBucketedHistogram histogram = new LogBucketedHistogram(relativeError);
+            histogram.add(value, 1);
+
+            List<Double> values = values(histogram);
+            assertThat(values).hasSize(1);
+            assertThat(values.get(0)).isCloseTo(value, within(value * relativeError));
+        }
+    }
+
+    @Test
+    public void bucketsAreInAscendingOrder() {
+        LogBucketedHistogram histogram = new LogBucketedHistogram(0.01);
+        histogram.add(100, 1);
+        histogram.add(-2, 3);
+        histogram.add(0, 2);
+        histogram.add(1, 1);
+        histogram.add(-200, 1);
+
+        List<Double> values = values(histogram);
+        assertThat(values).hasSize(5).isSorted();
+        assertThat(values.get(2)).isEqualTo(0.0);
+        assertThat(histogram.bucketCount()).isEqualTo(5);
+        assertThat(totalCount(histogram)).isEqualTo(8);
+    }
+
+    @Test
+    public void closeValuesShareBucket() {
+        LogBucketedHistogram histogram = new LogBucketedHistogram(0.05);
+        for (int i = 0; i < 1000; i++) {
+            histogram.add(1000 + i / 100.0, 1);
+        }
+
+        assertThat(histogram.bucketCount()).isEqualTo(1);
+        assertThat(totalCount(histogram)).isEqualTo(1000);
+    }
+
+    @Test
+    public void bucketCountIsBounded() {
+        LogBucketedHistogram histogram = new LogBucketedHistogram(0.0001);
+        for (int i = 1; i <= 100_000; i++) {
+            histogram.add(i, 1);
+        }
+        for (int i = 1; i <= 100_000; i++) {
+            histogram.add(1.0 / i, 1);
+        }
+
+        assertThat(histogram.bucketCount()).isLessThanOrEqualTo(LogBucketedHistogram.MAX_BUCKETS);
+        assertThat(totalCount(histogram)).isEqualTo(200_000);
+
+        // The largest values keep their relative error
+        List<Double> values = values(histogram);
+        assertThat(values.get(values.size() - 1)).isCloseTo(100_000, within(100_000 * 0.0001));
+    }
+
+    @Test
+    public void valuesAddedInDescendingOrder_bucketCountIsBounded() {
+        LogBucketedHistogram histogram = new LogBucketedHistogram(0.0001);
+        for (int i = 100_000; i >= 1; i--) {
+            histogram.add(i, 1);
+        }
+
+        assertThat(histogram.bucketCount()).isLessThanOrEqualTo(LogBucketedHistogram.MAX_BUCKETS);
+        assertThat(totalCount(histogram)).isEqualTo(100_000);
+    }
+
+    private static List<Double> values(LogBucketedHistogram histogram) {
+        List<Double> values = new ArrayList<>();
+        histogram.forEachBucket((value, count) -> values.add(value));
+        return values;
+    }
+
+    private static long totalCount(LogBucketedHistogram histogram) {
+        long[] total = new long[1];
+        histogram.forEachBucket((value, count) -> total[0] += count);
+        return total[0];
+    }
+}
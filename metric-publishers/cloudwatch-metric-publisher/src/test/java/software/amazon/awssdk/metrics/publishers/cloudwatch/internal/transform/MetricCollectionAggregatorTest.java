@@ -17,6 +17,7 @@ package software.amazon.awssdk.metrics.publishers.cloudwatch.internal.transform;
 
 import static java.time.temporal.ChronoUnit.HOURS;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.time.Duration;
@@ -336,6 +337,50 @@ public class MetricCollectionAggregatorTest {
         });
     }
 
+    @Test
+    public void detailedMetricsWithRelativeError_fewUniqueValues_valuesAreExact() {
+        MetricCollectionAggregator aggregator = aggregatorWithRelativeError(0.01, HttpMetric.MAX_CONCURRENCY);
+        for (int i = 0; i < DetailedMetricAggregator.MAX_EXACT_VALUES; i++) {
+            MetricCollector collector = collector();
+            collector.reportMetric(HttpMetric.MAX_CONCURRENCY, i);
+            aggregator.addCollection(collectToFixedTime(collector));
+        }
+
+        assertThat(aggregator.getRequests()).hasOnlyOneElementSatisfying(request -> {
+            assertThat(request.metricData()).hasOnlyOneElementSatisfying(metricData -> {
+                assertThat(metricData.values()).hasSize(DetailedMetricAggregator.MAX_EXACT_VALUES);
+                assertThat(metricData.values()).contains(1.0, 100.0, 149.0);
+            });
+        });
+    }
+
+    @Test
+    public void detailedMetricsWithRelativeError_manyUniqueValues_valuesAreBucketed() {
+        SdkMetric<Duration> metric = someMetric(Duration.class);
+        MetricCollectionAggregator aggregator = aggregatorWithRelativeError(0.01, metric);
+        for (int i = 1; i <= 60_000; i++) {
+            MetricCollector collector = collector();
+            collector.reportMetric(metric, Duration.ofMillis(i));
+            aggregator.addCollection(collectToFixedTime(collector));
+        }
+
+        List<PutMetricDataRequest> requests = aggregator.getRequests();
+        List<Double> values = requests.stream()
+                                      .flatMap(r -> r.metricData().stream())
+                                      .flatMap(m -> m.values().stream())
+                                      .collect(Collectors.toList());
+        double totalCount = requests.stream()
+                                    .flatMap(r -> r.metricData().stream())
+                                    .flatMap(m -> m.counts().stream())
+                                    .mapToDouble(Double::doubleValue)
+                                    .sum();
+
+        assertThat(values.size()).isBetween(DetailedMetricAggregator.MAX_EXACT_VALUES, 551);
+        assertThat(values).isSorted();
+        assertThat(values.get(values.size() - 1)).isCloseTo(60_000, within(600.0));
+        assertThat(totalCount).isEqualTo(60_000.0);
+    }
+
     @Test
     public void metricsFromOtherCategoriesAreIgnored() {
         MetricCollectionAggregator aggregator = defaultAggregator();
@@ -427,6 +472,15 @@ public class MetricCollectionAggregatorTest {
                                               Stream.of(detailedMetrics).collect(Collectors.toSet()));
     }
 
+    private MetricCollectionAggregator aggregatorWithRelativeError(double relativeError, SdkMetric<?>... detailedMetrics) {
+        return new MetricCollectionAggregator(DEFAULT_NAMESPACE,
+                                              DEFAULT_DIMENSIONS,
+                                              DEFAULT_CATEGORIES,
+                                              DEFAULT_METRIC_LEVEL,
+                                              Stream.of(detailedMetrics).collect(Collectors.toSet()),
+                                              relativeError);
+    }
+
     private MetricCollector collector() {
         return MetricCollector.create("test");
     }
@@ -0,0 +1,319 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.emf;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.metrics.MetricCategory;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricLevel;
+import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.awssdk.metrics.SdkMetric;
+import software.amazon.awssdk.metrics.publishers.emf.internal.EmfMetricAggregator;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * An implementation of {@link MetricPublisher} that aggregates metrics and writes them as CloudWatch
+ * <a href="https://docs.aws.amazon.com/AmazonCloudWatch/latest/monitoring/CloudWatch_Embedded_Metric_Format_Specification.html">
+ * Embedded Metric Format (EMF)</a> log events, one JSON object per line.
+ *
+ * <p>CloudWatch extracts the metrics from the EMF log events that are delivered to CloudWatch Logs, for example by AWS Lambda
+ * for everything that is written to standard output, or by the CloudWatch agent for log files. Unlike the
+ * {@code CloudWatchMetricPublisher}, this publisher does not make any calls to CloudWatch and does not start any threads.
+ *
+ * <p><b>Overview</b>
+ *
+ * <p>This publisher aggregates metric values in memory by the minute in which they were collected and by their
+ * {@link Builder#dimensions(Collection)}. The values of one set of dimension values are written as a single log event when:
+ * (1) one of their metrics has collected the maximum of 100 values that EMF allows in a log event, (2) the
+ * {@link Builder#flushFrequency(Duration)} has elapsed, which is checked whenever metrics are published, or (3)
+ * {@link #flush()} or {@link #close()} is called.
+ *
+ * <p>Publishing metrics does not allocate memory once their dimension values and metrics have been seen since the last flush,
+ * so that the publisher adds as little overhead as possible to the calls whose metrics it publishes.
+ *
+ * <p><b>Configuring AWS SDK clients to write client metrics</b>
+ *
+ * <p>
+ * Create an {@link EmfMetricPublisher}, and configure it via
+ * {@link ClientOverrideConfiguration.Builder#addMetricPublisher(MetricPublisher)}
+ *
+ * <pre>
+ *     EmfMetricPublisher emfMetricPublisher = EmfMetricPublisher.create();
+ *     S3Client s3 = S3Client.builder()
+ *                           .overrideConfiguration(o -> o.addMetricPublisher(emfMetricPublisher))
+ *                           .build();
+ * </pre>
+ *
+ * <p>In AWS Lambda, the execution environment may be frozen as soon as the function handler returns. Call {@link #flush()} at
+ * the end of each invocation to make sure that the metrics of the invocation are written.
+ */
+@ThreadSafe
+@SdkPublicApi
+public final class EmfMetricPublisher implements MetricPublisher {
+    private static final Logger log = Logger.loggerFor(EmfMetricPublisher.class);
+
+    private static final String DEFAULT_NAMESPACE = "AwsSdk/JavaSdk2";
+    private static final Duration DEFAULT_FLUSH_FREQUENCY = Duration.ofMinutes(1);
+    private static final Set<SdkMetric<String>> DEFAULT_DIMENSIONS = Stream.of(CoreMetric.SERVICE_ID,
+                                                                               CoreMetric.OPERATION_NAME)
+                                                                           .collect(Collectors.toSet());
+    private static final Set<MetricCategory> DEFAULT_METRIC_CATEGORIES = Collections.singleton(MetricCategory.ALL);
+    private static final MetricLevel DEFAULT_METRIC_LEVEL = MetricLevel.INFO;
+    private static final byte[] LINE_SEPARATOR = {'\n'};
+
+    /**
+     * The aggregator that takes {@link MetricCollection}s and converts them into EMF log events. This aggregator is *not*
+     * thread safe, so it should only ever be accessed while holding the lock on this publisher.
+     */
+    private final EmfMetricAggregator metricAggregator;
+
+    /**
+     * The stream to which the EMF log events are written.
+     */
+    private final OutputStream outputStream;
+
+    private final long flushFrequencyInMillis;
+
+    /**
+     * The time, in milliseconds since the epoch, after which the next call to {@link #publish(MetricCollection)} flushes the
+     * aggregated metrics.
+     */
+    private long nextFlushTimeInMillis;
+
+    private EmfMetricPublisher(Builder builder) {
+        this.metricAggregator = new EmfMetricAggregator(resolveNamespace(builder),
+                                                        resolveDimensions(builder),
+                                                        resolveMetricCategories(builder),
+                                                        resolveMetricLevel(builder),
+                                                        this::writeLogEvent);
+        this.outputStream = resolveOutputStream(builder);
+        this.flushFrequencyInMillis = resolveFlushFrequency(builder).toMillis();
+        this.nextFlushTimeInMillis = System.currentTimeMillis() + flushFrequencyInMillis;
+    }
+
+    private String resolveNamespace(Builder builder) {
+        return builder.namespace == null ? DEFAULT_NAMESPACE : builder.namespace;
+    }
+
+    private Set<SdkMetric<String>> resolveDimensions(Builder builder) {
+        return builder.dimensions == null ? DEFAULT_DIMENSIONS : new HashSet<>(builder.dimensions);
+    }
+
+    private Set<MetricCategory> resolveMetricCategories(Builder builder) {
+        return builder.metricCategories == null ? DEFAULT_METRIC_CATEGORIES : new HashSet<>(builder.metricCategories);
+    }
+
+    private MetricLevel resolveMetricLevel(Builder builder) {
+        return builder.metricLevel == null ? DEFAULT_METRIC_LEVEL : builder.metricLevel;
+    }
+
+    private Duration resolveFlushFrequency(Builder builder) {
+        return builder.flushFrequency == null ? DEFAULT_FLUSH_FREQUENCY : builder.flushFrequency;
+    }
+
+    private OutputStream resolveOutputStream(Builder builder) {
+        return builder.outputStream == null ? System.out : builder.outputStream;
+    }
+
+    @Override
+    public void publish(MetricCollection metricCollection) {
+        try {
+            synchronized (this) {
+                metricAggregator.addCollection(metricCollection);
+
+                long now = System.currentTimeMillis();
+                if (now >= nextFlushTimeInMillis) {
+                    metricAggregator.flush();
+                    nextFlushTimeInMillis = now + flushFrequencyInMillis;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn(() -> "Failed to publish AWS SDK client-side metrics as EMF log events.", e);
+        }
+    }
+
+    /**
+     * Write all metrics that were published to this publisher since they were last written.
+     */
+    public synchronized void flush() {
+        metricAggregator.flush();
+        nextFlushTimeInMillis = System.currentTimeMillis() + flushFrequencyInMillis;
+    }
+
+    /**
+     * Write all metrics that were published to this publisher since they were last written. This does not close the
+     * {@link Builder#outputStream(OutputStream)}.
+     */
+    @Override
+    public void close() {
+        flush();
+    }
+
+    private void writeLogEvent(byte[] logEvent) {
+        try {
+            outputStream.write(logEvent);
+            outputStream.write(LINE_SEPARATOR);
+            outputStream.flush();
+        } catch (IOException e) {
+            log.warn(() -> "Failed to write AWS SDK client-side metrics as an EMF log event.", e);
+        }
+    }
+
+    /**
+     * Create a new {@link Builder} that can be used to create {@link EmfMetricPublisher}s.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Create an {@link EmfMetricPublisher} using all default values.
+     */
+    public static EmfMetricPublisher create() {
+        return builder().build();
+    }
+
+    /**
+     * Builder class to construct {@link EmfMetricPublisher} instances. See the individual properties for which configuration
+     * settings are available.
+     */
+    public static final class Builder {
+        private String namespace;
+        private OutputStream outputStream;
+        private Duration flushFrequency;
+        private Collection<SdkMetric<String>> dimensions;
+        private Collection<MetricCategory> metricCategories;
+        private MetricLevel metricLevel;
+
+        private Builder() {
+        }
+
+        /**
+         * Configure the CloudWatch namespace of all metrics written by this publisher.
+         *
+         * <p>If this is not specified, {@code AwsSdk/JavaSdk2} will be used.
+         */
+        public Builder namespace(String namespace) {
+            this.namespace = namespace;
+            return this;
+        }
+
+        /**
+         * Configure the {@link OutputStream} to which the EMF log events are written, each followed by a line separator. The
+         * stream is not closed when the publisher is closed.
+         *
+         * <p>If this is not specified, the log events are written to {@link System#out}.
+         */
+        public Builder outputStream(OutputStream outputStream) {
+            this.outputStream = outputStream;
+            return this;
+        }
+
+        /**
+         * Configure the longest amount of time that metrics are aggregated in memory before they are written. The elapsed time
+         * is checked whenever metrics are published, because this publisher does not start a background thread. Use
+         * {@link EmfMetricPublisher#flush()} to write the metrics at a specific point, like the end of an AWS Lambda invocation.
+         *
+         * <p>Smaller values result in more, smaller log events. Larger values increase the time it takes for metric data to
+         * appear in CloudWatch.
+         *
+         * <p>If this is not specified, metrics are written at least once a minute.
+         */
+        public Builder flushFrequency(Duration flushFrequency) {
+            this.flushFrequency = Validate.isPositiveOrNull(flushFrequency, "flushFrequency");
+            return this;
+        }
+
+        /**
+         * Configure the {@link SdkMetric}s that are used as the dimensions metrics are aggregated under. At most 30 dimensions
+         * are allowed by EMF.
+         *
+         * <p>If this is not specified, {@link CoreMetric#SERVICE_ID} and {@link CoreMetric#OPERATION_NAME} are used, allowing
+         * you to compare metrics for different services and operations.
+         *
+         * <p><b>Warning:</b> Each unique combination of dimension values is a separate CloudWatch metric, which has an
+         * associated monetary cost. Avoid dimensions with a large number of unique values.
+         */
+        public Builder dimensions(Collection<SdkMetric<String>> dimensions) {
+            Validate.isTrue(dimensions.size() <= EmfMetricAggregator.MAX_DIMENSIONS,
+                            "At most %s dimensions are allowed, but %s were configured.",
+                            EmfMetricAggregator.MAX_DIMENSIONS, dimensions.size());
+            this.dimensions = new ArrayList<>(dimensions);
+            return this;
+        }
+
+        /**
+         * @see #dimensions(Collection)
+         */
+        @SafeVarargs
+        public final Builder dimensions(SdkMetric<String>... dimensions) {
+            return dimensions(Arrays.asList(dimensions));
+        }
+
+        /**
+         * Configure the {@link MetricCategory}s that should be written by this publisher.
+         *
+         * <p>If this is not specified, {@link MetricCategory#ALL} is used.
+         *
+         * <p>Note: The {@link #dimensions(Collection)} are not affected by this setting.
+         */
+        public Builder metricCategories(Collection<MetricCategory> metricCategories) {
+            this.metricCategories = new ArrayList<>(metricCategories);
+            return this;
+        }
+
+        /**
+         * @see #metricCategories(Collection)
+         */
+        public Builder metricCategories(MetricCategory... metricCategories) {
+            return metricCategories(Arrays.asList(metricCategories));
+        }
+
+        /**
+         * Configure the {@link MetricLevel} that should be written by this publisher.
+         *
+         * <p>If this is not specified, {@link MetricLevel#INFO} is used.
+         *
+         * <p>Note: The {@link #dimensions(Collection)} are not affected by this setting.
+         */
+        public Builder metricLevel(MetricLevel metricLevel) {
+            this.metricLevel = metricLevel;
+            return this;
+        }
+
+        /**
+         * Build an {@link EmfMetricPublisher} using the configuration currently configured on this builder.
+         */
+        public EmfMetricPublisher build() {
+            return new EmfMetricPublisher(this);
+        }
+    }
+}
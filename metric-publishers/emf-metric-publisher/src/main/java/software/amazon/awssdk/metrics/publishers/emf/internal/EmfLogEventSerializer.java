@@ -0,0 +1,139 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.emf.internal;
+
+import java.util.List;
+import java.util.function.Consumer;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.protocols.jsoncore.JsonWriter;
+
+/**
+ * Serializes the values of a {@link MetricGroup} into CloudWatch Embedded Metric Format (EMF) log events. Each event is a
+ * single JSON object of the following form:
+ *
+ * <pre>
+ * {
+ *   "_aws": {
+ *     "Timestamp": 1574109732000,
+ *     "CloudWatchMetrics": [{
+ *       "Namespace": "AwsSdk/JavaSdk2",
+ *       "Dimensions": [["ServiceId", "OperationName"]],
+ *       "Metrics": [{"Name": "ApiCallDuration", "Unit": "Milliseconds"}]
+ *     }]
+ *   },
+ *   "ServiceId": "DynamoDB",
+ *   "OperationName": "GetItem",
+ *   "ApiCallDuration": [12.0, 15.0]
+ * }
+ * </pre>
+ */
+@SdkInternalApi
+@ThreadSafe
+final class EmfLogEventSerializer {
+    private final String namespace;
+
+    EmfLogEventSerializer(String namespace) {
+        this.namespace = namespace;
+    }
+
+    /**
+     * Serialize the values of the provided group, passing each log event to the provided consumer. More than one event is
+     * created when the group has values for more than {@link EmfMetricAggregator#MAX_METRICS_PER_LOG_EVENT} metrics.
+     */
+    void serialize(MetricGroup group, Consumer<byte[]> logEventConsumer) {
+        List<MetricValues> metrics = group.metrics();
+        int startIndex = 0;
+        int metricsInEvent = 0;
+        for (int i = 0; i < metrics.size(); i++) {
+            if (metrics.get(i).isEmpty()) {
+                continue;
+            }
+            if (metricsInEvent == EmfMetricAggregator.MAX_METRICS_PER_LOG_EVENT) {
+                logEventConsumer.accept(logEvent(group, metrics, startIndex, i));
+                startIndex = i;
+                metricsInEvent = 0;
+            }
+            metricsInEvent++;
+        }
+
+        if (metricsInEvent > 0) {
+            logEventConsumer.accept(logEvent(group, metrics, startIndex, metrics.size()));
+        }
+    }
+
+    private byte[] logEvent(MetricGroup group, List<MetricValues> metrics, int startIndex, int endIndex) {
+        JsonWriter writer = JsonWriter.create();
+        writer.writeStartObject();
+
+        writer.writeFieldName("_aws");
+        writer.writeStartObject();
+        writer.writeFieldName("Timestamp");
+        writer.writeValue(group.timeBucket());
+        writer.writeFieldName("CloudWatchMetrics");
+        writer.writeStartArray();
+        writer.writeStartObject();
+        writer.writeFieldName("Namespace");
+        writer.writeValue(namespace);
+        writer.writeFieldName("Dimensions");
+        writer.writeStartArray();
+        writer.writeStartArray();
+        for (String dimensionName : group.dimensionNames()) {
+            writer.writeValue(dimensionName);
+        }
+        writer.writeEndArray();
+        writer.writeEndArray();
+        writer.writeFieldName("Metrics");
+        writer.writeStartArray();
+        for (int i = startIndex; i < endIndex; i++) {
+            MetricValues values = metrics.get(i);
+            if (!values.isEmpty()) {
+                writer.writeStartObject();
+                writer.writeFieldName("Name");
+                writer.writeValue(values.metric().name());
+                writer.writeFieldName("Unit");
+                writer.writeValue(values.unit());
+                writer.writeEndObject();
+            }
+        }
+        writer.writeEndArray();
+        writer.writeEndObject();
+        writer.writeEndArray();
+        writer.writeEndObject();
+
+        List<String> dimensionNames = group.dimensionNames();
+        List<String> dimensionValues = group.dimensionValues();
+        for (int i = 0; i < dimensionNames.size(); i++) {
+            writer.writeFieldName(dimensionNames.get(i));
+            writer.writeValue(dimensionValues.get(i));
+        }
+
+        for (int i = startIndex; i < endIndex; i++) {
+            MetricValues values = metrics.get(i);
+            if (!values.isEmpty()) {
+                writer.writeFieldName(values.metric().name());
+                writer.writeStartArray();
+                for (int j = 0; j < values.count(); j++) {
+                    writer.writeValue(values.value(j));
+                }
+                writer.writeEndArray();
+            }
+        }
+
+        writer.writeEndObject();
+        return writer.getBytes();
+    }
+}
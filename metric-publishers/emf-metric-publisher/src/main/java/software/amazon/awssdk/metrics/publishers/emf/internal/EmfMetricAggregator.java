@@ -0,0 +1,289 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.emf.internal;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.metrics.MetricCategory;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricLevel;
+import software.amazon.awssdk.metrics.MetricRecord;
+import software.amazon.awssdk.metrics.SdkMetric;
+
+/**
+ * Aggregates {@link MetricCollection}s by: (1) the minute in which they occurred, and (2) the dimensions in the collection, and
+ * writes the aggregated values as CloudWatch Embedded Metric Format (EMF) log events.
+ *
+ * <p>The values of each set of dimension values are written as a single log event when one of their metrics reaches the
+ * {@link #MAX_VALUES_PER_METRIC} limit imposed by EMF, when a value from a later minute is added, or when {@link #flush()} is
+ * called.
+ *
+ * <p>Adding a collection does not allocate once its dimension values and metrics have been seen since the last flush: the
+ * dimension values are resolved by walking a tree of the previously seen values, and the metric values are stored in
+ * fixed-size arrays that are reused after every write.
+ *
+ * <p><b>Warning:</b> This class is *not* thread-safe.
+ */
+@SdkInternalApi
+@NotThreadSafe
+public final class EmfMetricAggregator {
+    /**
+     * The maximum number of values of a single metric in an EMF log event. This limit is imposed by EMF.
+     */
+    public static final int MAX_VALUES_PER_METRIC = 100;
+
+    /**
+     * The maximum number of metrics that an EMF log event can reference. This limit is imposed by EMF.
+     */
+    public static final int MAX_METRICS_PER_LOG_EVENT = 100;
+
+    /**
+     * The maximum number of dimensions in an EMF dimension set. This limit is imposed by EMF.
+     */
+    public static final int MAX_DIMENSIONS = 30;
+
+    private static final long MILLIS_PER_MINUTE = Duration.ofMinutes(1).toMillis();
+
+    /**
+     * The dimensions that should be used for aggregating metrics, sorted by name in descending order so that "ServiceId" is
+     * before "OperationName" when the default dimensions are used. These are optional values: a collection that does not
+     * include a dimension is aggregated with whatever dimensions are available.
+     */
+    private final SdkMetric<String>[] dimensions;
+
+    /**
+     * Scratch space for the dimension values of the collection that is being added, indexed like {@link #dimensions}.
+     */
+    private final String[] dimensionValues;
+
+    private final Set<MetricCategory> metricCategories;
+    private final boolean metricCategoriesContainsAll;
+    private final MetricLevel metricLevel;
+
+    /**
+     * Whether the values of a metric should be reported, based on the {@link #metricCategories} and {@link #metricLevel}. This
+     * is cached so that the categories of a metric are not iterated for every record.
+     */
+    private final Map<SdkMetric<?>, Boolean> reportedMetrics = new IdentityHashMap<>();
+    private final EmfLogEventSerializer serializer;
+    private final Consumer<byte[]> logEventConsumer;
+
+    /**
+     * The root of the tree that maps the dimension values of a collection to its {@link MetricGroup}. The tree has one level
+     * for every dimension.
+     */
+    private DimensionNode dimensionTree = new DimensionNode();
+    private final List<MetricGroup> groups = new ArrayList<>();
+
+    @SuppressWarnings("unchecked")
+    public EmfMetricAggregator(String namespace,
+                               Set<SdkMetric<String>> dimensions,
+                               Set<MetricCategory> metricCategories,
+                               MetricLevel metricLevel,
+                               Consumer<byte[]> logEventConsumer) {
+        List<SdkMetric<String>> sortedDimensions = new ArrayList<>(dimensions);
+        sortedDimensions.sort(Comparator.comparing(SdkMetric<String>::name).reversed());
+        this.dimensions = sortedDimensions.toArray(new SdkMetric[0]);
+        this.dimensionValues = new String[this.dimensions.length];
+        this.metricCategories = metricCategories;
+        this.metricCategoriesContainsAll = metricCategories.contains(MetricCategory.ALL);
+        this.metricLevel = metricLevel;
+        this.serializer = new EmfLogEventSerializer(namespace);
+        this.logEventConsumer = logEventConsumer;
+    }
+
+    /**
+     * Add a collection to this aggregator. This may write the log events of the collection's group, if the collection
+     * completes it.
+     */
+    public void addCollection(MetricCollection collection) {
+        MetricGroup group = groupFor(collection);
+
+        long timeBucket = collection.creationTime().toEpochMilli();
+        timeBucket -= timeBucket % MILLIS_PER_MINUTE;
+        if (timeBucket != group.timeBucket() && group.hasValues()) {
+            write(group);
+        }
+        group.timeBucket(timeBucket);
+
+        addMetrics(collection, group);
+    }
+
+    /**
+     * Write the log events of all values that were added via {@link #addCollection(MetricCollection)}. This method resets the
+     * state of this {@code EmfMetricAggregator}.
+     */
+    public void flush() {
+        for (int i = 0; i < groups.size(); i++) {
+            MetricGroup group = groups.get(i);
+            if (group.hasValues()) {
+                write(group);
+            }
+        }
+
+        // Forget the groups, so that the dimension values that are no longer used do not accumulate over time.
+        groups.clear();
+        dimensionTree = new DimensionNode();
+    }
+
+    @SdkTestInternalApi
+    List<MetricGroup> groups() {
+        return groups;
+    }
+
+    private void addMetrics(MetricCollection collection, MetricGroup group) {
+        for (MetricRecord<?> metricRecord : collection) {
+            if (shouldReport(metricRecord)) {
+                addMetric(metricRecord, group);
+            }
+        }
+
+        List<MetricCollection> children = collection.children();
+        for (int i = 0; i < children.size(); i++) {
+            addMetrics(children.get(i), group);
+        }
+    }
+
+    private void addMetric(MetricRecord<?> metricRecord, MetricGroup group) {
+        Class<?> metricType = metricRecord.metric().valueClass();
+        double value;
+        String unit = "None";
+
+        if (Duration.class.isAssignableFrom(metricType)) {
+            value = ((Duration) metricRecord.value()).toMillis();
+            unit = "Milliseconds";
+        } else if (Number.class.isAssignableFrom(metricType)) {
+            value = ((Number) metricRecord.value()).doubleValue();
+        } else if (Boolean.class.isAssignableFrom(metricType)) {
+            value = (Boolean) metricRecord.value() ? 1.0 : 0.0;
+        } else {
+            return;
+        }
+
+        // JSON cannot represent these values.
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            return;
+        }
+
+        MetricValues values = group.metricValues(metricRecord.metric(), unit);
+        if (values.isFull()) {
+            write(group);
+        }
+        values.add(value);
+    }
+
+    private MetricGroup groupFor(MetricCollection collection) {
+        for (int i = 0; i < dimensions.length; i++) {
+            dimensionValues[i] = null;
+        }
+        for (MetricRecord<?> metricRecord : collection) {
+            for (int i = 0; i < dimensions.length; i++) {
+                if (dimensions[i].equals(metricRecord.metric())) {
+                    dimensionValues[i] = (String) metricRecord.value();
+                }
+            }
+        }
+
+        DimensionNode node = dimensionTree;
+        for (String dimensionValue : dimensionValues) {
+            node = node.child(dimensionValue);
+        }
+
+        if (node.group == null) {
+            node.group = newGroup();
+            groups.add(node.group);
+        }
+        return node.group;
+    }
+
+    private MetricGroup newGroup() {
+        List<String> names = new ArrayList<>();
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < dimensions.length; i++) {
+            if (dimensionValues[i] != null) {
+                names.add(dimensions[i].name());
+                values.add(dimensionValues[i]);
+            }
+        }
+        return new MetricGroup(Collections.unmodifiableList(names), Collections.unmodifiableList(values));
+    }
+
+    private void write(MetricGroup group) {
+        serializer.serialize(group, logEventConsumer);
+        group.reset();
+    }
+
+    private boolean shouldReport(MetricRecord<?> metricRecord) {
+        SdkMetric<?> metric = metricRecord.metric();
+        Boolean shouldReport = reportedMetrics.get(metric);
+        if (shouldReport == null) {
+            shouldReport = isSupportedCategory(metric) && isSupportedLevel(metric);
+            reportedMetrics.put(metric, shouldReport);
+        }
+        return shouldReport;
+    }
+
+    private boolean isSupportedCategory(SdkMetric<?> metric) {
+        return metricCategoriesContainsAll ||
+               metric.categories()
+                     .stream()
+                     .anyMatch(metricCategories::contains);
+    }
+
+    private boolean isSupportedLevel(SdkMetric<?> metric) {
+        return metricLevel.includesLevel(metric.level());
+    }
+
+    /**
+     * A node in the tree of dimension values. The children of a node at depth {@code n} are keyed by the value of the
+     * {@code n}th dimension, and the leaves hold the {@link MetricGroup} of their path.
+     */
+    private static final class DimensionNode {
+        private Map<String, DimensionNode> children;
+        private DimensionNode absentChild;
+        private MetricGroup group;
+
+        private DimensionNode child(String dimensionValue) {
+            if (dimensionValue == null) {
+                if (absentChild == null) {
+                    absentChild = new DimensionNode();
+                }
+                return absentChild;
+            }
+
+            if (children == null) {
+                children = new HashMap<>();
+            }
+            DimensionNode child = children.get(dimensionValue);
+            if (child == null) {
+                child = new DimensionNode();
+                children.put(dimensionValue, child);
+            }
+            return child;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.emf.internal;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.metrics.SdkMetric;
+
+/**
+ * The metrics that were collected for one set of dimension values, which are written together in the same EMF log events.
+ */
+@SdkInternalApi
+@NotThreadSafe
+final class MetricGroup {
+    private final List<String> dimensionNames;
+    private final List<String> dimensionValues;
+
+    /**
+     * The values of each metric, in the order in which the metrics were first collected.
+     */
+    private final List<MetricValues> metrics = new ArrayList<>();
+    private final Map<SdkMetric<?>, MetricValues> metricsByKey = new IdentityHashMap<>();
+
+    /**
+     * The start of the minute during which the values of this group were collected.
+     */
+    private long timeBucket;
+
+    MetricGroup(List<String> dimensionNames, List<String> dimensionValues) {
+        this.dimensionNames = dimensionNames;
+        this.dimensionValues = dimensionValues;
+    }
+
+    List<String> dimensionNames() {
+        return dimensionNames;
+    }
+
+    List<String> dimensionValues() {
+        return dimensionValues;
+    }
+
+    List<MetricValues> metrics() {
+        return metrics;
+    }
+
+    long timeBucket() {
+        return timeBucket;
+    }
+
+    void timeBucket(long timeBucket) {
+        this.timeBucket = timeBucket;
+    }
+
+    boolean hasValues() {
+        for (int i = 0; i < metrics.size(); i++) {
+            if (!metrics.get(i).isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Retrieve the values of the provided metric, creating them the first time the metric is collected for this group.
+     */
+    MetricValues metricValues(SdkMetric<?> metric, String unit) {
+        MetricValues values = metricsByKey.get(metric);
+        if (values == null) {
+            values = new MetricValues(metric, unit);
+            metricsByKey.put(metric, values);
+            metrics.add(values);
+        }
+        return values;
+    }
+
+    void reset() {
+        for (int i = 0; i < metrics.size(); i++) {
+            metrics.get(i).reset();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.emf.internal;
+
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.metrics.SdkMetric;
+
+/**
+ * The values of a single metric that have been collected for a {@link MetricGroup} since it was last written. The values are
+ * held in a fixed-size array that is reused after every write, so that adding a value never allocates.
+ */
+@SdkInternalApi
+@NotThreadSafe
+final class MetricValues {
+    private final SdkMetric<?> metric;
+    private final String unit;
+    private final double[] values = new double[EmfMetricAggregator.MAX_VALUES_PER_METRIC];
+    private int count;
+
+    MetricValues(SdkMetric<?> metric, String unit) {
+        this.metric = metric;
+        this.unit = unit;
+    }
+
+    SdkMetric<?> metric() {
+        return metric;
+    }
+
+    /**
+     * The EMF unit of this metric's values.
+     */
+    String unit() {
+        return unit;
+    }
+
+    boolean isEmpty() {
+        return count == 0;
+    }
+
+    boolean isFull() {
+        return count == values.length;
+    }
+
+    int count() {
+        return count;
+    }
+
+    double value(int index) {
+        return values[index];
+    }
+
+    void add(double value) {
+        values[count++] = value;
+    }
+
+    void reset() {
+        count = 0;
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.emf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import software.amazon.awssdk.protocols.jsoncore.JsonNode;
+
+/**
+ * Parses EMF log events and validates them against the
+ * <a href="https://docs.aws.amazon.com/AmazonCloudWatch/latest/monitoring/CloudWatch_Embedded_Metric_Format_Specification.html">
+ * Embedded Metric Format specification</a>.
+ */
+public final class EmfLogEvents {
+    private static final Set<String> VALID_UNITS = new HashSet<>(Arrays.asList(
+        "Seconds", "Microseconds", "Milliseconds", "Bytes", "Kilobytes", "Megabytes", "Gigabytes", "Terabytes", "Bits",
+        "Kilobits", "Megabits", "Gigabits", "Terabits", "Percent", "Count", "Bytes/Second", "Kilobytes/Second",
+        "Megabytes/Second", "Gigabytes/Second", "Terabytes/Second", "Bits/Second", "Kilobits/Second", "Megabits/Second",
+        "Gigabits/Second", "Terabits/Second", "Count/Second", "None"));
+
+    private EmfLogEvents() {
+    }
+
+    /**
+     * Parse the newline-delimited log events in the provided output, validating each of them.
+     */
+    public static List<JsonNode> parse(byte[] output) {
+        List<JsonNode> logEvents = new ArrayList<>();
+        String text = new String(output, StandardCharsets.UTF_8);
+        if (text.isEmpty()) {
+            return logEvents;
+        }
+
+        assertThat(text).endsWith("\n");
+        for (String line : text.split("\n")) {
+            JsonNode logEvent = JsonNode.parser().parse(line);
+            assertValid(logEvent);
+            logEvents.add(logEvent);
+        }
+        return logEvents;
+    }
+
+    public static void assertValid(JsonNode logEvent) {
+        assertThat(logEvent.isObject()).isTrue();
+        Map<String, JsonNode> root = logEvent.asObject();
+
+        JsonNode metadata = root.get("_aws");
+        assertThat(metadata).isNotNull();
+        assertThat(metadata.isObject()).isTrue();
+
+        JsonNode timestamp = metadata.field("Timestamp").orElse(null);
+        assertThat(timestamp).isNotNull();
+        assertThat(timestamp.isNumber()).isTrue();
+        assertThat(Long.parseLong(timestamp.asNumber())).isPositive();
+
+        List<JsonNode> directives = metadata.field("CloudWatchMetrics").map(JsonNode::asArray).orElse(null);
+        assertThat(directives).isNotEmpty();
+        for (JsonNode directive : directives) {
+            assertValidDirective(directive, root);
+        }
+    }
+
+    private static void assertValidDirective(JsonNode directive, Map<String, JsonNode> root) {
+        String namespace = directive.field("Namespace").map(JsonNode::asString).orElse(null);
+        assertThat(namespace).isNotEmpty().hasSizeLessThanOrEqualTo(1024);
+
+        List<JsonNode> dimensionSets = directive.field("Dimensions").map(JsonNode::asArray).orElse(null);
+        assertThat(dimensionSets).isNotNull();
+        for (JsonNode dimensionSet : dimensionSets) {
+            List<JsonNode> dimensions = dimensionSet.asArray();
+            assertThat(dimensions).hasSizeLessThanOrEqualTo(30);
+            for (JsonNode dimension : dimensions) {
+                JsonNode dimensionValue = root.get(dimension.asString());
+                assertThat(dimensionValue).as("Value of dimension %s", dimension.asString()).isNotNull();
+                assertThat(dimensionValue.isString()).isTrue();
+            }
+        }
+
+        List<JsonNode> metrics = directive.field("Metrics").map(JsonNode::asArray).orElse(null);
+        assertThat(metrics).isNotNull().hasSizeLessThanOrEqualTo(100);
+        for (JsonNode metric : metrics) {
+            String name = metric.field("Name").map(JsonNode::asString).orElse(null);
+            assertThat(name).isNotEmpty().hasSizeLessThanOrEqualTo(1024);
+            metric.field("Unit").ifPresent(unit -> assertThat(VALID_UNITS).contains(unit.asString()));
+
+            JsonNode value = root.get(name);
+            assertThat(value).as("Value of metric %s", name).isNotNull();
+            if (value.isArray()) {
+                assertThat(value.asArray()).isNotEmpty().hasSizeLessThanOrEqualTo(100)
+                                           .allSatisfy(v -> assertThat(v.isNumber()).isTrue());
+            } else {
+                assertThat(value.isNumber()).isTrue();
+            }
+        }
+    }
+
+    /**
+     * Retrieve the values of the provided metric in the provided log event.
+     */
+    public static List<Double> values(JsonNode logEvent, String metricName) {
+        List<Double> result = new ArrayList<>();
+        logEvent.field(metricName).ifPresent(values -> values.asArray()
+                                                             .forEach(v -> result.add(Double.parseDouble(v.asNumber()))));
+        return result;
+    }
+
+    /**
+     * Retrieve the names of the dimensions in the first dimension set of the provided log event.
+     */
+    public static List<String> dimensionNames(JsonNode logEvent) {
+        List<String> result = new ArrayList<>();
+        JsonNode directive = logEvent.field("_aws").get().field("CloudWatchMetrics").get().asArray().get(0);
+        directive.field("Dimensions").get().asArray().get(0).asArray().forEach(d -> result.add(d.asString()));
+        return result;
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.emf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCategory;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.MetricLevel;
+import software.amazon.awssdk.metrics.SdkMetric;
+import software.amazon.awssdk.protocols.jsoncore.JsonNode;
+
+public class EmfMetricPublisherTest {
+    private ByteArrayOutputStream output;
+
+    @BeforeEach
+    public void setup() {
+        output = new ByteArrayOutputStream();
+    }
+
+    @Test
+    public void publish_doesNotWriteBeforeFlush() {
+        try (EmfMetricPublisher publisher = publisherBuilder().build()) {
+            publisher.publish(apiCall("DynamoDB", "GetItem", 10));
+            assertThat(output.size()).isZero();
+        }
+    }
+
+    @Test
+    public void flush_writesOneLogEventPerDimensionValues() {
+        try (EmfMetricPublisher publisher = publisherBuilder().namespace("MyNamespace").build()) {
+            publisher.publish(apiCall("DynamoDB", "GetItem", 10));
+            publisher.publish(apiCall("DynamoDB", "GetItem", 20));
+            publisher.publish(apiCall("DynamoDB", "PutItem", 30));
+            publisher.flush();
+
+            List<JsonNode> logEvents = EmfLogEvents.parse(output.toByteArray());
+            assertThat(logEvents).hasSize(2);
+
+            JsonNode getItem = logEvents.get(0);
+            assertThat(EmfLogEvents.dimensionNames(getItem)).containsExactly("ServiceId", "OperationName");
+            assertThat(getItem.field("ServiceId").get().asString()).isEqualTo("DynamoDB");
+            assertThat(getItem.field("OperationName").get().asString()).isEqualTo("GetItem");
+            assertThat(EmfLogEvents.values(getItem, "ApiCallDuration")).containsExactly(10.0, 20.0);
+            assertThat(EmfLogEvents.values(getItem, "ApiCallSuccessful")).containsExactly(1.0, 1.0);
+            assertThat(EmfLogEvents.values(getItem, "RetryCount")).containsExactly(0.0, 0.0);
+
+            JsonNode directive = getItem.field("_aws").get().field("CloudWatchMetrics").get().asArray().get(0);
+            assertThat(directive.field("Namespace").get().asString()).isEqualTo("MyNamespace");
+            assertThat(directive.field("Metrics").get().asArray())
+                .anySatisfy(m -> {
+                    assertThat(m.field("Name").get().asString()).isEqualTo("ApiCallDuration");
+                    assertThat(m.field("Unit").get().asString()).isEqualTo("Milliseconds");
+                });
+
+            assertThat(logEvents.get(1).field("OperationName").get().asString()).isEqualTo("PutItem");
+            assertThat(EmfLogEvents.values(logEvents.get(1), "ApiCallDuration")).containsExactly(30.0);
+        }
+    }
+
+    @Test
+    public void flush_includesChildCollections() {
+        try (EmfMetricPublisher publisher = publisherBuilder().build()) {
+            MetricCollector collector = MetricCollector.create("ApiCall");
+            collector.reportMetric(CoreMetric.SERVICE_ID, "DynamoDB");
+            collector.reportMetric(CoreMetric.OPERATION_NAME, "GetItem");
+            MetricCollector attempt = collector.createChild("ApiCallAttempt");
+            attempt.reportMetric(CoreMetric.SERVICE_CALL_DURATION, Duration.ofMillis(5));
+            attempt.createChild("HttpClient").reportMetric(HttpMetric.LEASED_CONCURRENCY, 3);
+
+            publisher.publish(collector.collect());
+            publisher.flush();
+
+            JsonNode logEvent = EmfLogEvents.parse(output.toByteArray()).get(0);
+            assertThat(EmfLogEvents.values(logEvent, "ServiceCallDuration")).containsExactly(5.0);
+            assertThat(EmfLogEvents.values(logEvent, "LeasedConcurrency")).containsExactly(3.0);
+        }
+    }
+
+    @Test
+    public void flush_missingDimension_usesAvailableDimensions() {
+        try (EmfMetricPublisher publisher = publisherBuilder().build()) {
+            MetricCollector collector = MetricCollector.create("ApiCall");
+            collector.reportMetric(CoreMetric.SERVICE_ID, "DynamoDB");
+            collector.reportMetric(CoreMetric.RETRY_COUNT, 2);
+            publisher.publish(collector.collect());
+            publisher.flush();
+
+            JsonNode logEvent = EmfLogEvents.parse(output.toByteArray()).get(0);
+            assertThat(EmfLogEvents.dimensionNames(logEvent)).containsExactly("ServiceId");
+            assertThat(logEvent.field("OperationName")).isEmpty();
+        }
+    }
+
+    @Test
+    public void publish_moreThanMaximumValues_writesFullLogEvents() {
+        try (EmfMetricPublisher publisher = publisherBuilder().build()) {
+            for (int i = 0; i < 250; i++) {
+                publisher.publish(apiCall("DynamoDB", "GetItem", i));
+            }
+
+            List<JsonNode> logEvents = EmfLogEvents.parse(output.toByteArray());
+            assertThat(logEvents).hasSize(2);
+            assertThat(EmfLogEvents.values(logEvents.get(0), "ApiCallDuration")).hasSize(100);
+
+            publisher.flush();
+            logEvents = EmfLogEvents.parse(output.toByteArray());
+            assertThat(logEvents).hasSize(3);
+
+            List<Double> allValues = new ArrayList<>();
+            logEvents.forEach(e -> allValues.addAll(EmfLogEvents.values(e, "ApiCallDuration")));
+            assertThat(allValues).hasSize(250);
+            assertThat(allValues.get(249)).isEqualTo(249.0);
+        }
+    }
+
+    @Test
+    public void publish_afterFlushFrequency_writesLogEvents() throws InterruptedException {
+        try (EmfMetricPublisher publisher = publisherBuilder().flushFrequency(Duration.ofMillis(1)).build()) {
+            Thread.sleep(5);
+            publisher.publish(apiCall("DynamoDB", "GetItem", 10));
+            assertThat(EmfLogEvents.parse(output.toByteArray())).hasSize(1);
+        }
+    }
+
+    @Test
+    public void close_writesLogEvents() {
+        EmfMetricPublisher publisher = publisherBuilder().build();
+        publisher.publish(apiCall("DynamoDB", "GetItem", 10));
+        publisher.close();
+        assertThat(EmfLogEvents.parse(output.toByteArray())).hasSize(1);
+    }
+
+    @Test
+    public void metricCategoriesAndLevel_filterMetrics() {
+        try (EmfMetricPublisher publisher = publisherBuilder().metricCategories(MetricCategory.HTTP_CLIENT)
+                                                              .metricLevel(MetricLevel.INFO)
+                                                              .build()) {
+            MetricCollector collector = MetricCollector.create("ApiCall");
+            collector.reportMetric(CoreMetric.SERVICE_ID, "DynamoDB");
+            collector.reportMetric(CoreMetric.OPERATION_NAME, "GetItem");
+            collector.reportMetric(CoreMetric.RETRY_COUNT, 0);
+            collector.reportMetric(HttpMetric.HTTP_STATUS_CODE, 200);
+            collector.reportMetric(HttpMetric.LEASED_CONCURRENCY, 1);
+
+            publisher.publish(collector.collect());
+            publisher.flush();
+
+            JsonNode logEvent = EmfLogEvents.parse(output.toByteArray()).get(0);
+            assertThat(EmfLogEvents.values(logEvent, "LeasedConcurrency")).containsExactly(1.0);
+            assertThat(logEvent.field("RetryCount")).isEmpty();
+            assertThat(logEvent.field("HttpStatusCode")).isEmpty();
+            assertThat(logEvent.field("ServiceId").get().asString()).isEqualTo("DynamoDB");
+        }
+    }
+
+    @Test
+    public void nonNumericAndNonFiniteValues_areNotWritten() {
+        SdkMetric<Double> doubleMetric = SdkMetric.create("EmfPublisherTestDouble", Double.class, MetricLevel.INFO,
+                                                          MetricCategory.CUSTOM);
+        try (EmfMetricPublisher publisher = publisherBuilder().build()) {
+            MetricCollector collector = MetricCollector.create("ApiCall");
+            collector.reportMetric(CoreMetric.SERVICE_ID, "DynamoDB");
+            collector.reportMetric(CoreMetric.AWS_REQUEST_ID, "request-id");
+            collector.reportMetric(doubleMetric, Double.NaN);
+            collector.reportMetric(doubleMetric, 1.5);
+
+            publisher.publish(collector.collect());
+            publisher.flush();
+
+            JsonNode logEvent = EmfLogEvents.parse(output.toByteArray()).get(0);
+            assertThat(EmfLogEvents.values(logEvent, "EmfPublisherTestDouble")).containsExactly(1.5);
+            assertThat(logEvent.field("AwsRequestId")).isEmpty();
+        }
+    }
+
+    @Test
+    public void tooManyDimensions_throwsException() {
+        List<SdkMetric<String>> dimensions = new ArrayList<>();
+        for (int i = 0; i < 31; i++) {
+            dimensions.add(SdkMetric.create("EmfPublisherTestDimension" + i, String.class, MetricLevel.INFO,
+                                            MetricCategory.CUSTOM));
+        }
+        assertThatThrownBy(() -> EmfMetricPublisher.builder().dimensions(dimensions))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("30");
+    }
+
+    private EmfMetricPublisher.Builder publisherBuilder() {
+        return EmfMetricPublisher.builder().outputStream(output);
+    }
+
+    private static MetricCollection apiCall(String serviceId, String operationName, long durationMillis) {
+        MetricCollector collector = MetricCollector.create("ApiCall");
+        collector.reportMetric(CoreMetric.SERVICE_ID, serviceId);
+        collector.reportMetric(CoreMetric.OPERATION_NAME, operationName);
+        collector.reportMetric(CoreMetric.API_CALL_SUCCESSFUL, true);
+        collector.reportMetric(CoreMetric.RETRY_COUNT, 0);
+        collector.reportMetric(CoreMetric.API_CALL_DURATION, Duration.ofMillis(durationMillis));
+        return new FixedTimeMetricCollection(collector.collect());
+    }
+}
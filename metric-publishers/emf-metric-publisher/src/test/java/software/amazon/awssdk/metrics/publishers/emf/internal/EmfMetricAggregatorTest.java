@@ -0,0 +1,138 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.emf.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.metrics.MetricCategory;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.MetricLevel;
+import software.amazon.awssdk.metrics.SdkMetric;
+import software.amazon.awssdk.metrics.publishers.emf.EmfLogEvents;
+import software.amazon.awssdk.metrics.publishers.emf.FixedTimeMetricCollection;
+import software.amazon.awssdk.protocols.jsoncore.JsonNode;
+
+public class EmfMetricAggregatorTest {
+    private static final Instant MINUTE = Instant.parse("2023-09-01T12:00:00Z");
+
+    private final List<JsonNode> logEvents = new ArrayList<>();
+
+    private final EmfMetricAggregator aggregator =
+        new EmfMetricAggregator("Namespace",
+                                Collections.singleton(CoreMetric.SERVICE_ID),
+                                Collections.singleton(MetricCategory.ALL),
+                                MetricLevel.TRACE,
+                                logEvent -> {
+                                    JsonNode node = JsonNode.parser().parse(logEvent);
+                                    EmfLogEvents.assertValid(node);
+                                    logEvents.add(node);
+                                });
+
+    @Test
+    public void addCollection_laterMinute_writesEarlierMinute() {
+        aggregator.addCollection(apiCall(MINUTE.plusSeconds(10), 1));
+        aggregator.addCollection(apiCall(MINUTE.plusSeconds(50), 2));
+        assertThat(logEvents).isEmpty();
+
+        aggregator.addCollection(apiCall(MINUTE.plusSeconds(70), 3));
+        assertThat(logEvents).hasSize(1);
+        assertThat(timestamp(logEvents.get(0))).isEqualTo(MINUTE.toEpochMilli());
+        assertThat(EmfLogEvents.values(logEvents.get(0), "ApiCallDuration")).containsExactly(1.0, 2.0);
+
+        aggregator.flush();
+        assertThat(logEvents).hasSize(2);
+        assertThat(timestamp(logEvents.get(1))).isEqualTo(MINUTE.plusSeconds(60).toEpochMilli());
+        assertThat(EmfLogEvents.values(logEvents.get(1), "ApiCallDuration")).containsExactly(3.0);
+    }
+
+    @Test
+    public void flush_moreThanMaximumMetrics_splitsLogEvents() {
+        MetricCollector collector = MetricCollector.create("Custom");
+        collector.reportMetric(CoreMetric.SERVICE_ID, "Service");
+        for (int i = 0; i < 150; i++) {
+            SdkMetric<Integer> metric = SdkMetric.create("EmfAggregatorTestMetric" + i, Integer.class, MetricLevel.INFO,
+                                                         MetricCategory.CUSTOM);
+            collector.reportMetric(metric, i);
+        }
+
+        aggregator.addCollection(new FixedTimeMetricCollection(collector.collect(), MINUTE));
+        aggregator.flush();
+
+        assertThat(logEvents).hasSize(2);
+        assertThat(metricNames(logEvents.get(0))).hasSize(EmfMetricAggregator.MAX_METRICS_PER_LOG_EVENT);
+        assertThat(metricNames(logEvents.get(1))).hasSize(50);
+        assertThat(EmfLogEvents.values(logEvents.get(1), "EmfAggregatorTestMetric149")).containsExactly(149.0);
+    }
+
+    @Test
+    public void flush_noValues_writesNothing() {
+        aggregator.flush();
+        aggregator.addCollection(apiCall(MINUTE, 1));
+        aggregator.flush();
+        aggregator.flush();
+        assertThat(logEvents).hasSize(1);
+    }
+
+    @Test
+    public void addCollection_afterWrite_reusesValues() {
+        aggregator.addCollection(apiCall(MINUTE, 1));
+        MetricGroup group = onlyGroup();
+        MetricValues values = group.metrics().get(0);
+
+        for (int i = 0; i < EmfMetricAggregator.MAX_VALUES_PER_METRIC; i++) {
+            aggregator.addCollection(apiCall(MINUTE, 2));
+        }
+
+        assertThat(logEvents).hasSize(1);
+        assertThat(onlyGroup()).isSameAs(group);
+        assertThat(group.metrics().get(0)).isSameAs(values);
+        assertThat(values.count()).isEqualTo(1);
+    }
+
+    private MetricGroup onlyGroup() {
+        List<MetricGroup> groups = aggregator.groups();
+        assertThat(groups).hasSize(1);
+        return groups.get(0);
+    }
+
+    private static MetricCollection apiCall(Instant time, long durationMillis) {
+        MetricCollector collector = MetricCollector.create("ApiCall");
+        collector.reportMetric(CoreMetric.SERVICE_ID, "Service");
+        collector.reportMetric(CoreMetric.API_CALL_DURATION, Duration.ofMillis(durationMillis));
+        return new FixedTimeMetricCollection(collector.collect(), time);
+    }
+
+    private static long timestamp(JsonNode logEvent) {
+        return Long.parseLong(logEvent.field("_aws").get().field("Timestamp").get().asNumber());
+    }
+
+    private static List<String> metricNames(JsonNode logEvent) {
+        JsonNode directive = logEvent.field("_aws").get().field("CloudWatchMetrics").get().asArray().get(0);
+        return directive.field("Metrics").get().asArray()
+                        .stream()
+                        .map(m -> m.field("Name").get().asString())
+                        .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,403 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.jmx;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.awssdk.metrics.MetricRecord;
+import software.amazon.awssdk.metrics.SdkMetric;
+import software.amazon.awssdk.metrics.publishers.jmx.internal.OperationMetrics;
+import software.amazon.awssdk.metrics.publishers.jmx.internal.OperationMetricsMBean;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * An implementation of {@link MetricPublisher} that keeps rolling latency histograms of the API calls to each operation of
+ * each service in memory, and exposes them as JMX MBeans and through {@link #snapshot()}, for live dashboards of the
+ * latency percentiles without sending the metrics anywhere.
+ *
+ * <p><b>Overview</b>
+ *
+ * <p>The metrics of each API call are aggregated under its {@link CoreMetric#SERVICE_ID} and
+ * {@link CoreMetric#OPERATION_NAME}. For each operation, the publisher counts the API calls and failed API calls, and keeps a
+ * histogram of the values of each of the {@link Builder#metrics(Collection)}, including those of the API call attempts. The
+ * values are kept for a {@link Builder#rollingWindow(Duration)}, which is split into 4 slices: the snapshots include the
+ * values of the current slice and of the 3 slices before it, so a snapshot with the default window of one minute includes
+ * the values of the last 45 to 60 seconds.
+ *
+ * <p>Publishing the metrics of an API call does not acquire any locks, except the first time an operation is seen, so the
+ * publisher can be shared by clients that are used by many threads. The percentiles of the histograms are within 2% of a
+ * value that was published.
+ *
+ * <p>The memory used by the publisher is bounded: each operation uses a fixed amount of memory, about 20 KiB per metric, and
+ * the metrics of at most {@link Builder#maxOperations(Integer)} operations are kept. The metrics of other operations are
+ * ignored.
+ *
+ * <p><b>JMX</b>
+ *
+ * <p>Each operation is registered as an MBean in the platform MBean server, with a name like
+ * {@code software.amazon.awssdk:type=OperationMetrics,publisher=default,serviceId=DynamoDB,operationName=GetItem}. It has
+ * the attributes {@code CallCount} and {@code FailedCallCount}, and for each metric, like {@code ApiCallDuration}, the
+ * attributes {@code ApiCallDurationCount}, {@code ApiCallDurationMin}, {@code ApiCallDurationMean},
+ * {@code ApiCallDurationMax}, {@code ApiCallDurationP50}, {@code ApiCallDurationP90}, {@code ApiCallDurationP99} and
+ * {@code ApiCallDurationP999}, in milliseconds. The MBeans are unregistered when the publisher is closed.
+ *
+ * <p><b>Configuring AWS SDK clients to publish client metrics</b>
+ *
+ * <p>
+ * Create a {@link JmxMetricPublisher}, and configure it via
+ * {@link ClientOverrideConfiguration.Builder#addMetricPublisher(MetricPublisher)}
+ *
+ * <pre>
+ *     JmxMetricPublisher jmxMetricPublisher = JmxMetricPublisher.create();
+ *     DynamoDbClient dynamoDb = DynamoDbClient.builder()
+ *                                             .overrideConfiguration(o -> o.addMetricPublisher(jmxMetricPublisher))
+ *                                             .build();
+ *
+ *     jmxMetricPublisher.snapshot("DynamoDB", "GetItem")
+ *                       .flatMap(s -> s.latency(CoreMetric.API_CALL_DURATION))
+ *                       .ifPresent(l -> System.out.println("GetItem p99: " + l.percentile(99)));
+ * </pre>
+ */
+@ThreadSafe
+@SdkPublicApi
+public final class JmxMetricPublisher implements MetricPublisher {
+    static final String OBJECT_NAME_DOMAIN = "software.amazon.awssdk";
+
+    private static final Logger log = Logger.loggerFor(JmxMetricPublisher.class);
+
+    private static final String DEFAULT_PUBLISHER_NAME = "default";
+    private static final List<SdkMetric<Duration>> DEFAULT_METRICS =
+        Collections.unmodifiableList(Arrays.asList(CoreMetric.API_CALL_DURATION, CoreMetric.SERVICE_CALL_DURATION));
+    private static final Duration DEFAULT_ROLLING_WINDOW = Duration.ofMinutes(1);
+    private static final int DEFAULT_MAX_OPERATIONS = 100;
+    private static final int SLICE_COUNT = 4;
+
+    private final String publisherName;
+    private final List<SdkMetric<Duration>> metrics;
+    private final Duration rollingWindow;
+    private final int maxOperations;
+    private final MBeanServer mBeanServer;
+    private final LongSupplier nanoClock;
+
+    /**
+     * The metrics of each operation of each service. Operations are only added while holding the lock on this publisher,
+     * but they are read without it.
+     */
+    private final ConcurrentMap<String, ConcurrentMap<String, OperationMetrics>> operations = new ConcurrentHashMap<>();
+
+    /**
+     * The name of the MBean of each operation. This should only be accessed while holding the lock on this publisher.
+     */
+    private final Map<OperationMetrics, ObjectName> mBeanNames = new IdentityHashMap<>();
+
+    /**
+     * The number of operations whose metrics are kept. This is only modified while holding the lock on this publisher, but it
+     * is read without it, so that the metrics of operations that exceed the maximum are ignored without acquiring the lock.
+     */
+    private final AtomicInteger operationCount = new AtomicInteger();
+    private boolean loggedMaxOperations;
+    private boolean closed;
+
+    private JmxMetricPublisher(Builder builder) {
+        this.publisherName = builder.publisherName == null ? DEFAULT_PUBLISHER_NAME : builder.publisherName;
+        this.metrics = builder.metrics == null ? DEFAULT_METRICS : Collections.unmodifiableList(new ArrayList<>(builder.metrics));
+        this.rollingWindow = builder.rollingWindow == null ? DEFAULT_ROLLING_WINDOW : builder.rollingWindow;
+        this.maxOperations = builder.maxOperations == null ? DEFAULT_MAX_OPERATIONS : builder.maxOperations;
+        this.mBeanServer = resolveMBeanServer(builder);
+        this.nanoClock = builder.nanoClock == null ? System::nanoTime : builder.nanoClock;
+    }
+
+    private MBeanServer resolveMBeanServer(Builder builder) {
+        if (Boolean.FALSE.equals(builder.registerMBeans)) {
+            return null;
+        }
+        return builder.mBeanServer == null ? ManagementFactory.getPlatformMBeanServer() : builder.mBeanServer;
+    }
+
+    @Override
+    public void publish(MetricCollection metricCollection) {
+        try {
+            OperationMetrics operationMetrics = operationMetrics(metricCollection);
+            if (operationMetrics != null) {
+                operationMetrics.record(metricCollection);
+            }
+        } catch (RuntimeException e) {
+            log.warn(() -> "Failed to record AWS SDK client-side metrics in the JMX metric publisher.", e);
+        }
+    }
+
+    /**
+     * Take a snapshot of the metrics of all operations whose metrics were published, ordered by service ID and operation
+     * name.
+     */
+    public List<OperationMetricsSnapshot> snapshot() {
+        List<OperationMetricsSnapshot> snapshots = new ArrayList<>();
+        operations.values().forEach(serviceOperations -> serviceOperations.values().forEach(o -> snapshots.add(o.snapshot())));
+        snapshots.sort(Comparator.comparing(OperationMetricsSnapshot::serviceId)
+                                 .thenComparing(OperationMetricsSnapshot::operationName));
+        return snapshots;
+    }
+
+    /**
+     * Take a snapshot of the metrics of the given operation, if its metrics were published.
+     */
+    public Optional<OperationMetricsSnapshot> snapshot(String serviceId, String operationName) {
+        return Optional.ofNullable(operations.get(serviceId))
+                       .map(serviceOperations -> serviceOperations.get(operationName))
+                       .map(OperationMetrics::snapshot);
+    }
+
+    /**
+     * Unregister the MBeans of this publisher, and discard the metrics that were published to it. Metrics that are published
+     * after the publisher is closed are ignored.
+     */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        if (mBeanServer != null) {
+            mBeanNames.values().forEach(this::unregisterMBean);
+        }
+        mBeanNames.clear();
+        operations.clear();
+    }
+
+    private OperationMetrics operationMetrics(MetricCollection metricCollection) {
+        String serviceId = null;
+        String operationName = null;
+        for (MetricRecord<?> record : metricCollection) {
+            if (record.metric() == CoreMetric.SERVICE_ID) {
+                serviceId = (String) record.value();
+            } else if (record.metric() == CoreMetric.OPERATION_NAME) {
+                operationName = (String) record.value();
+            }
+        }
+
+        if (serviceId == null || operationName == null) {
+            return null;
+        }
+
+        Map<String, OperationMetrics> serviceOperations = operations.get(serviceId);
+        OperationMetrics operationMetrics = serviceOperations == null ? null : serviceOperations.get(operationName);
+        if (operationMetrics != null || operationCount.get() >= maxOperations) {
+            return operationMetrics;
+        }
+        return addOperation(serviceId, operationName);
+    }
+
+    private synchronized OperationMetrics addOperation(String serviceId, String operationName) {
+        if (closed) {
+            return null;
+        }
+
+        Map<String, OperationMetrics> serviceOperations = operations.computeIfAbsent(serviceId, s -> new ConcurrentHashMap<>());
+        OperationMetrics operationMetrics = serviceOperations.get(operationName);
+        if (operationMetrics != null) {
+            return operationMetrics;
+        }
+
+        if (operationCount.get() >= maxOperations) {
+            if (!loggedMaxOperations) {
+                loggedMaxOperations = true;
+                log.warn(() -> "The JMX metric publisher keeps the metrics of at most " + maxOperations + " operations. The "
+                               + "metrics of " + serviceId + " " + operationName + " and other new operations are ignored.");
+            }
+            return null;
+        }
+
+        operationMetrics = new OperationMetrics(serviceId, operationName, metrics, rollingWindow, SLICE_COUNT, nanoClock);
+        serviceOperations.put(operationName, operationMetrics);
+        operationCount.incrementAndGet();
+        if (mBeanServer != null) {
+            registerMBean(operationMetrics);
+        }
+        return operationMetrics;
+    }
+
+    private void registerMBean(OperationMetrics operationMetrics) {
+        try {
+            ObjectName name = objectName(operationMetrics.serviceId(), operationMetrics.operationName());
+            mBeanServer.registerMBean(new OperationMetricsMBean(operationMetrics), name);
+            mBeanNames.put(operationMetrics, name);
+        } catch (JMException e) {
+            log.warn(() -> "Failed to register the JMX MBean of the AWS SDK client-side metrics of "
+                           + operationMetrics.serviceId() + " " + operationMetrics.operationName() + ".", e);
+        }
+    }
+
+    private void unregisterMBean(ObjectName name) {
+        try {
+            mBeanServer.unregisterMBean(name);
+        } catch (JMException e) {
+            log.warn(() -> "Failed to unregister the JMX MBean " + name + ".", e);
+        }
+    }
+
+    ObjectName objectName(String serviceId, String operationName) throws JMException {
+        return new ObjectName(OBJECT_NAME_DOMAIN + ":type=OperationMetrics"
+                              + ",publisher=" + quoteIfNeeded(publisherName)
+                              + ",serviceId=" + quoteIfNeeded(serviceId)
+                              + ",operationName=" + quoteIfNeeded(operationName));
+    }
+
+    private static String quoteIfNeeded(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (",=:\"*?\n".indexOf(value.charAt(i)) >= 0) {
+                return ObjectName.quote(value);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Create a new {@link Builder} that can be used to create {@link JmxMetricPublisher}s.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Create a {@link JmxMetricPublisher} using all default values.
+     */
+    public static JmxMetricPublisher create() {
+        return builder().build();
+    }
+
+    /**
+     * Builder class to construct {@link JmxMetricPublisher} instances. See the individual properties for which configuration
+     * settings are available.
+     */
+    public static final class Builder {
+        private String publisherName;
+        private Collection<SdkMetric<Duration>> metrics;
+        private Duration rollingWindow;
+        private Integer maxOperations;
+        private Boolean registerMBeans;
+        private MBeanServer mBeanServer;
+        private LongSupplier nanoClock;
+
+        private Builder() {
+        }
+
+        /**
+         * Configure the name of the publisher, which is part of the names of its MBeans. Publishers that register their MBeans
+         * in the same MBean server at the same time must have different names.
+         *
+         * <p>If this is not specified, {@code default} is used.
+         */
+        public Builder publisherName(String publisherName) {
+            this.publisherName = publisherName;
+            return this;
+        }
+
+        /**
+         * Configure the duration metrics whose values are kept in histograms, for example
+         * {@link CoreMetric#API_CALL_DURATION} or {@code HttpMetric.CONCURRENCY_ACQUIRE_DURATION}.
+         *
+         * <p>If this is not specified, {@link CoreMetric#API_CALL_DURATION} and {@link CoreMetric#SERVICE_CALL_DURATION} are
+         * used.
+         */
+        public Builder metrics(Collection<SdkMetric<Duration>> metrics) {
+            this.metrics = new ArrayList<>(metrics);
+            return this;
+        }
+
+        /**
+         * @see #metrics(Collection)
+         */
+        @SafeVarargs
+        public final Builder metrics(SdkMetric<Duration>... metrics) {
+            return metrics(Arrays.asList(metrics));
+        }
+
+        /**
+         * Configure the amount of time for which the values of the metrics are kept. The window is split into 4 slices, and
+         * the values of the oldest slice are discarded when a new slice starts.
+         *
+         * <p>If this is not specified, the values of the last minute are kept.
+         */
+        public Builder rollingWindow(Duration rollingWindow) {
+            this.rollingWindow = Validate.isPositiveOrNull(rollingWindow, "rollingWindow");
+            return this;
+        }
+
+        /**
+         * Configure the maximum number of operations whose metrics are kept, which bounds the memory used by the publisher.
+         *
+         * <p>If this is not specified, the metrics of at most 100 operations are kept.
+         */
+        public Builder maxOperations(Integer maxOperations) {
+            this.maxOperations = Validate.isPositiveOrNull(maxOperations, "maxOperations");
+            return this;
+        }
+
+        /**
+         * Configure whether the metrics of each operation are registered as an MBean.
+         *
+         * <p>If this is not specified, the MBeans are registered.
+         */
+        public Builder registerMBeans(Boolean registerMBeans) {
+            this.registerMBeans = registerMBeans;
+            return this;
+        }
+
+        /**
+         * Configure the {@link MBeanServer} in which the MBeans are registered.
+         *
+         * <p>If this is not specified, the {@link ManagementFactory#getPlatformMBeanServer()} is used.
+         */
+        public Builder mBeanServer(MBeanServer mBeanServer) {
+            this.mBeanServer = mBeanServer;
+            return this;
+        }
+
+        @SdkTestInternalApi
+        Builder nanoClock(LongSupplier nanoClock) {
+            this.nanoClock = nanoClock;
+            return this;
+        }
+
+        /**
+         * Build a {@link JmxMetricPublisher} using the configuration currently configured on this builder.
+         */
+        public JmxMetricPublisher build() {
+            return new JmxMetricPublisher(this);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.jmx;
+
+import java.time.Duration;
+import java.util.Arrays;
+import software.amazon.awssdk.annotations.Immutable;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * The distribution of the values of a duration metric, like {@link CoreMetric#API_CALL_DURATION}, that were published
+ * during the rolling window of a {@link JmxMetricPublisher}.
+ *
+ * <p>The {@link #percentile(double)}s are approximate: each is within 2% of a value that was published. The
+ * {@link #count()}, {@link #min()}, {@link #max()} and {@link #mean()} are exact.
+ */
+@Immutable
+@SdkPublicApi
+public final class LatencySnapshot {
+    private final long count;
+    private final long sumNanos;
+    private final long minNanos;
+    private final long maxNanos;
+    private final long[] bucketValuesNanos;
+    private final long[] cumulativeCounts;
+
+    private LatencySnapshot(long count, long sumNanos, long minNanos, long maxNanos, long[] bucketValuesNanos,
+                            long[] cumulativeCounts) {
+        this.count = count;
+        this.sumNanos = sumNanos;
+        this.minNanos = minNanos;
+        this.maxNanos = maxNanos;
+        this.bucketValuesNanos = bucketValuesNanos;
+        this.cumulativeCounts = cumulativeCounts;
+    }
+
+    /**
+     * Create a snapshot from the values of the non-empty buckets of a histogram, in ascending order, and the cumulative counts
+     * of the values up to and including each bucket.
+     */
+    @SdkInternalApi
+    public static LatencySnapshot create(long count, long sumNanos, long minNanos, long maxNanos, long[] bucketValuesNanos,
+                                         long[] cumulativeCounts) {
+        return new LatencySnapshot(count, sumNanos, minNanos, maxNanos, bucketValuesNanos, cumulativeCounts);
+    }
+
+    /**
+     * The number of values in the snapshot.
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * The smallest value, or zero if the snapshot has no values.
+     */
+    public Duration min() {
+        return Duration.ofNanos(minNanos);
+    }
+
+    /**
+     * The largest value, or zero if the snapshot has no values.
+     */
+    public Duration max() {
+        return Duration.ofNanos(maxNanos);
+    }
+
+    /**
+     * The arithmetic mean of the values, or zero if the snapshot has no values.
+     */
+    public Duration mean() {
+        return count == 0 ? Duration.ZERO : Duration.ofNanos(sumNanos / count);
+    }
+
+    /**
+     * The value below which the given percentage of the values fall, or zero if the snapshot has no values. For example,
+     * {@code percentile(99)} returns the p99 latency.
+     *
+     * @param percentile the percentage, between 0 and 100
+     */
+    public Duration percentile(double percentile) {
+        Validate.isTrue(percentile >= 0 && percentile <= 100, "The percentile must be between 0 and 100, but was %s.",
+                        percentile);
+        if (count == 0) {
+            return Duration.ZERO;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        int bucket = Arrays.binarySearch(cumulativeCounts, rank);
+        if (bucket < 0) {
+            bucket = -bucket - 1;
+        }
+        long value = bucketValuesNanos[Math.min(bucket, bucketValuesNanos.length - 1)];
+        return Duration.ofNanos(Math.max(minNanos, Math.min(maxNanos, value)));
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("LatencySnapshot")
+                       .add("count", count)
+                       .add("min", min())
+                       .add("mean", mean())
+                       .add("p50", percentile(50))
+                       .add("p99", percentile(99))
+                       .add("max", max())
+                       .build();
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.jmx;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import software.amazon.awssdk.annotations.Immutable;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.metrics.SdkMetric;
+import software.amazon.awssdk.utils.ToString;
+
+/**
+ * The metrics of the API calls to one operation of a service, identified by their {@link CoreMetric#SERVICE_ID} and
+ * {@link CoreMetric#OPERATION_NAME}, that were published during the rolling window of a {@link JmxMetricPublisher}.
+ */
+@Immutable
+@SdkPublicApi
+public final class OperationMetricsSnapshot {
+    private final String serviceId;
+    private final String operationName;
+    private final long callCount;
+    private final long failedCallCount;
+    private final Map<SdkMetric<Duration>, LatencySnapshot> latencies;
+
+    private OperationMetricsSnapshot(String serviceId, String operationName, long callCount, long failedCallCount,
+                                     Map<SdkMetric<Duration>, LatencySnapshot> latencies) {
+        this.serviceId = serviceId;
+        this.operationName = operationName;
+        this.callCount = callCount;
+        this.failedCallCount = failedCallCount;
+        this.latencies = Collections.unmodifiableMap(new LinkedHashMap<>(latencies));
+    }
+
+    @SdkInternalApi
+    public static OperationMetricsSnapshot create(String serviceId, String operationName, long callCount, long failedCallCount,
+                                                  Map<SdkMetric<Duration>, LatencySnapshot> latencies) {
+        return new OperationMetricsSnapshot(serviceId, operationName, callCount, failedCallCount, latencies);
+    }
+
+    /**
+     * The {@link CoreMetric#SERVICE_ID} of the API calls.
+     */
+    public String serviceId() {
+        return serviceId;
+    }
+
+    /**
+     * The {@link CoreMetric#OPERATION_NAME} of the API calls.
+     */
+    public String operationName() {
+        return operationName;
+    }
+
+    /**
+     * The number of API calls whose metrics were published.
+     */
+    public long callCount() {
+        return callCount;
+    }
+
+    /**
+     * The number of API calls whose {@link CoreMetric#API_CALL_SUCCESSFUL} metric was false.
+     */
+    public long failedCallCount() {
+        return failedCallCount;
+    }
+
+    /**
+     * The distributions of the values of each of the duration metrics that the publisher was configured with.
+     */
+    public Map<SdkMetric<Duration>, LatencySnapshot> latencies() {
+        return latencies;
+    }
+
+    /**
+     * The distribution of the values of the given metric, if the publisher was configured with it.
+     */
+    public Optional<LatencySnapshot> latency(SdkMetric<Duration> metric) {
+        return Optional.ofNullable(latencies.get(metric));
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("OperationMetricsSnapshot")
+                       .add("serviceId", serviceId)
+                       .add("operationName", operationName)
+                       .add("callCount", callCount)
+                       .add("failedCallCount", failedCallCount)
+                       .add("latencies", latencies)
+                       .build();
+    }
+}
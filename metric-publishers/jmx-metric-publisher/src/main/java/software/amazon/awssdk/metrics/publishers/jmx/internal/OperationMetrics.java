@@ -0,0 +1,131 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.jmx.internal;
+
+import java.time.Duration;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricRecord;
+import software.amazon.awssdk.metrics.SdkMetric;
+import software.amazon.awssdk.metrics.publishers.jmx.LatencySnapshot;
+import software.amazon.awssdk.metrics.publishers.jmx.OperationMetricsSnapshot;
+
+/**
+ * The rolling call counts and latency histograms of one operation of a service. Recording the metrics of an API call does not
+ * acquire any locks, and does not allocate memory other than to iterate over the metric collections.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class OperationMetrics {
+    private final String serviceId;
+    private final String operationName;
+    private final List<SdkMetric<Duration>> metrics;
+    private final RollingWindow<CallCounts> callCounts;
+
+    /**
+     * The histogram of each metric. This is never modified after construction, so it can be read concurrently.
+     */
+    private final Map<SdkMetric<?>, RollingLatencyHistogram> histograms;
+
+    public OperationMetrics(String serviceId,
+                            String operationName,
+                            List<SdkMetric<Duration>> metrics,
+                            Duration window,
+                            int sliceCount,
+                            LongSupplier nanoClock) {
+        this.serviceId = serviceId;
+        this.operationName = operationName;
+        this.metrics = metrics;
+        this.callCounts = new RollingWindow<>(window, sliceCount, CallCounts::new, CallCounts::reset, nanoClock);
+        this.histograms = new IdentityHashMap<>();
+        for (SdkMetric<Duration> metric : metrics) {
+            histograms.put(metric, new RollingLatencyHistogram(window, sliceCount, nanoClock));
+        }
+    }
+
+    public String serviceId() {
+        return serviceId;
+    }
+
+    public String operationName() {
+        return operationName;
+    }
+
+    public List<SdkMetric<Duration>> metrics() {
+        return metrics;
+    }
+
+    /**
+     * Record the metrics of an API call, including those of its children, like the API call attempts.
+     */
+    public void record(MetricCollection apiCallMetrics) {
+        CallCounts counts = callCounts.current();
+        counts.calls.increment();
+        recordDurations(apiCallMetrics, counts);
+    }
+
+    private void recordDurations(MetricCollection metricCollection, CallCounts counts) {
+        for (MetricRecord<?> record : metricCollection) {
+            RollingLatencyHistogram histogram = histograms.get(record.metric());
+            if (histogram != null) {
+                histogram.record(((Duration) record.value()).toNanos());
+            } else if (record.metric() == CoreMetric.API_CALL_SUCCESSFUL && Boolean.FALSE.equals(record.value())) {
+                counts.failedCalls.increment();
+            }
+        }
+
+        List<MetricCollection> children = metricCollection.children();
+        for (int i = 0; i < children.size(); i++) {
+            recordDurations(children.get(i), counts);
+        }
+    }
+
+    public OperationMetricsSnapshot snapshot() {
+        CallCounts merged = new CallCounts();
+        callCounts.forEachInWindow(merged::add);
+
+        Map<SdkMetric<Duration>, LatencySnapshot> latencies = new LinkedHashMap<>();
+        for (SdkMetric<Duration> metric : metrics) {
+            latencies.put(metric, histograms.get(metric).snapshot());
+        }
+
+        return OperationMetricsSnapshot.create(serviceId, operationName, merged.calls.sum(), merged.failedCalls.sum(),
+                                               latencies);
+    }
+
+    private static final class CallCounts {
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder failedCalls = new LongAdder();
+
+        private void add(CallCounts other) {
+            calls.add(other.calls.sum());
+            failedCalls.add(other.failedCalls.sum());
+        }
+
+        private void reset() {
+            calls.reset();
+            failedCalls.reset();
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.jmx.internal;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.ReflectionException;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.metrics.SdkMetric;
+import software.amazon.awssdk.metrics.publishers.jmx.LatencySnapshot;
+import software.amazon.awssdk.metrics.publishers.jmx.OperationMetricsSnapshot;
+
+/**
+ * A read-only MBean that exposes the snapshot of an {@link OperationMetrics}. For each duration metric, like
+ * {@code ApiCallDuration}, it has the attributes {@code ApiCallDurationCount}, and {@code ApiCallDurationMin},
+ * {@code ApiCallDurationMean}, {@code ApiCallDurationMax}, {@code ApiCallDurationP50}, {@code ApiCallDurationP90},
+ * {@code ApiCallDurationP99} and {@code ApiCallDurationP999} in milliseconds.
+ */
+@SdkInternalApi
+public final class OperationMetricsMBean implements DynamicMBean {
+    private final OperationMetrics operationMetrics;
+    private final Map<String, Function<OperationMetricsSnapshot, Object>> attributes = new LinkedHashMap<>();
+    private final MBeanInfo mBeanInfo;
+
+    public OperationMetricsMBean(OperationMetrics operationMetrics) {
+        this.operationMetrics = operationMetrics;
+
+        List<MBeanAttributeInfo> attributeInfos = new ArrayList<>();
+        addAttribute(attributeInfos, "ServiceId", String.class, "The ID of the service.", OperationMetricsSnapshot::serviceId);
+        addAttribute(attributeInfos, "OperationName", String.class, "The name of the operation.",
+                     OperationMetricsSnapshot::operationName);
+        addAttribute(attributeInfos, "CallCount", Long.class, "The number of API calls in the rolling window.",
+                     OperationMetricsSnapshot::callCount);
+        addAttribute(attributeInfos, "FailedCallCount", Long.class, "The number of failed API calls in the rolling window.",
+                     OperationMetricsSnapshot::failedCallCount);
+
+        for (SdkMetric<Duration> metric : operationMetrics.metrics()) {
+            String name = metric.name();
+            addAttribute(attributeInfos, name + "Count", Long.class, "The number of " + name + " values in the rolling window.",
+                         s -> latency(s, metric).count());
+            addLatencyAttribute(attributeInfos, metric, "Min", "The smallest", LatencySnapshot::min);
+            addLatencyAttribute(attributeInfos, metric, "Mean", "The mean", LatencySnapshot::mean);
+            addLatencyAttribute(attributeInfos, metric, "Max", "The largest", LatencySnapshot::max);
+            addLatencyAttribute(attributeInfos, metric, "P50", "The 50th percentile of the", l -> l.percentile(50));
+            addLatencyAttribute(attributeInfos, metric, "P90", "The 90th percentile of the", l -> l.percentile(90));
+            addLatencyAttribute(attributeInfos, metric, "P99", "The 99th percentile of the", l -> l.percentile(99));
+            addLatencyAttribute(attributeInfos, metric, "P999", "The 99.9th percentile of the", l -> l.percentile(99.9));
+        }
+
+        this.mBeanInfo = new MBeanInfo(OperationMetricsMBean.class.getName(),
+                                       "AWS SDK client-side metrics of the API calls to " + operationMetrics.serviceId() + " "
+                                       + operationMetrics.operationName() + ".",
+                                       attributeInfos.toArray(new MBeanAttributeInfo[0]),
+                                       null, null, null);
+    }
+
+    private void addLatencyAttribute(List<MBeanAttributeInfo> attributeInfos,
+                                     SdkMetric<Duration> metric,
+                                     String suffix,
+                                     String description,
+                                     Function<LatencySnapshot, Duration> value) {
+        addAttribute(attributeInfos, metric.name() + suffix, Double.class,
+                     description + " " + metric.name() + " value in the rolling window, in milliseconds.",
+                     s -> toMillis(value.apply(latency(s, metric))));
+    }
+
+    private void addAttribute(List<MBeanAttributeInfo> attributeInfos,
+                              String name,
+                              Class<?> type,
+                              String description,
+                              Function<OperationMetricsSnapshot, Object> value) {
+        attributeInfos.add(new MBeanAttributeInfo(name, type.getName(), description, true, false, false));
+        attributes.put(name, value);
+    }
+
+    private static LatencySnapshot latency(OperationMetricsSnapshot snapshot, SdkMetric<Duration> metric) {
+        return snapshot.latencies().get(metric);
+    }
+
+    private static double toMillis(Duration duration) {
+        return duration.toNanos() / 1_000_000.0;
+    }
+
+    @Override
+    public Object getAttribute(String attribute) throws AttributeNotFoundException {
+        Function<OperationMetricsSnapshot, Object> value = attributes.get(attribute);
+        if (value == null) {
+            throw new AttributeNotFoundException(attribute);
+        }
+        return value.apply(operationMetrics.snapshot());
+    }
+
+    @Override
+    public AttributeList getAttributes(String[] attributeNames) {
+        OperationMetricsSnapshot snapshot = operationMetrics.snapshot();
+        AttributeList result = new AttributeList();
+        for (String attributeName : attributeNames) {
+            Function<OperationMetricsSnapshot, Object> value = attributes.get(attributeName);
+            if (value != null) {
+                result.add(new Attribute(attributeName, value.apply(snapshot)));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void setAttribute(Attribute attribute) throws AttributeNotFoundException {
+        throw new AttributeNotFoundException("The attributes of " + mBeanInfo.getClassName() + " are read-only.");
+    }
+
+    @Override
+    public AttributeList setAttributes(AttributeList attributes) {
+        return new AttributeList();
+    }
+
+    @Override
+    public Object invoke(String actionName, Object[] params, String[] signature) throws ReflectionException {
+        throw new ReflectionException(new NoSuchMethodException(actionName));
+    }
+
+    @Override
+    public MBeanInfo getMBeanInfo() {
+        return mBeanInfo;
+    }
+}
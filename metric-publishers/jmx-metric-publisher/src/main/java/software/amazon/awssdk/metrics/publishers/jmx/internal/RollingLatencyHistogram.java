@@ -0,0 +1,151 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.jmx.internal;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.metrics.publishers.jmx.LatencySnapshot;
+
+/**
+ * A lock-free histogram of the durations recorded in a {@link RollingWindow}.
+ *
+ * <p>Durations are counted in buckets whose bounds grow logarithmically, so that the representative value of each bucket is
+ * within {@link #RELATIVE_ERROR} of every duration counted in it. The buckets cover durations from
+ * {@link #MIN_TRACKED_NANOS} to {@link #MAX_TRACKED_NANOS}, with one bucket for each of the shorter and longer durations, so
+ * each slice of the window has a fixed number of counters ({@link #BUCKET_COUNT}) regardless of the durations recorded.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class RollingLatencyHistogram {
+    static final double RELATIVE_ERROR = 0.02;
+    static final long MIN_TRACKED_NANOS = TimeUnit.MICROSECONDS.toNanos(1);
+    static final long MAX_TRACKED_NANOS = TimeUnit.DAYS.toNanos(1);
+
+    private static final double GAMMA = (1 + RELATIVE_ERROR) / (1 - RELATIVE_ERROR);
+    private static final double LOG_GAMMA = Math.log(GAMMA);
+
+    static final int BUCKET_COUNT = 2 + (int) Math.ceil(Math.log((double) MAX_TRACKED_NANOS / MIN_TRACKED_NANOS) / LOG_GAMMA);
+
+    private static final long[] BUCKET_VALUES = bucketValues();
+
+    private final RollingWindow<Slice> window;
+
+    public RollingLatencyHistogram(Duration window, int sliceCount, LongSupplier nanoClock) {
+        this.window = new RollingWindow<>(window, sliceCount, Slice::new, Slice::reset, nanoClock);
+    }
+
+    public void record(long nanos) {
+        window.current().record(nanos);
+    }
+
+    public LatencySnapshot snapshot() {
+        Slice merged = new Slice();
+        window.forEachInWindow(merged::add);
+
+        int nonEmptyBuckets = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            if (merged.counts.get(i) > 0) {
+                nonEmptyBuckets++;
+            }
+        }
+
+        long[] bucketValues = new long[nonEmptyBuckets];
+        long[] cumulativeCounts = new long[nonEmptyBuckets];
+        long count = 0;
+        int bucket = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            long bucketCount = merged.counts.get(i);
+            if (bucketCount > 0) {
+                count += bucketCount;
+                bucketValues[bucket] = BUCKET_VALUES[i];
+                cumulativeCounts[bucket] = count;
+                bucket++;
+            }
+        }
+
+        if (count == 0) {
+            return LatencySnapshot.create(0, 0, 0, 0, bucketValues, cumulativeCounts);
+        }
+        return LatencySnapshot.create(count, merged.sumNanos.get(), merged.minNanos.get(), merged.maxNanos.get(),
+                                      bucketValues, cumulativeCounts);
+    }
+
+    static int bucketIndex(long nanos) {
+        if (nanos < MIN_TRACKED_NANOS) {
+            return 0;
+        }
+        int index = 1 + (int) (Math.log((double) nanos / MIN_TRACKED_NANOS) / LOG_GAMMA);
+        return Math.min(index, BUCKET_COUNT - 1);
+    }
+
+    static long bucketValue(int index) {
+        return BUCKET_VALUES[index];
+    }
+
+    /**
+     * The value of each bucket. A bucket counts the durations from {@code lowerBound} to {@code GAMMA * lowerBound}, and
+     * {@code 2 * GAMMA * lowerBound / (1 + GAMMA)} is within exactly {@link #RELATIVE_ERROR} of both bounds, so it is within
+     * {@link #RELATIVE_ERROR} of every duration in the bucket (plus the rounding to whole nanoseconds). The buckets of the
+     * shorter and longer durations have the values 0 and {@link Long#MAX_VALUE}, which are clamped to the recorded minimum and
+     * maximum by the snapshot.
+     */
+    private static long[] bucketValues() {
+        long[] values = new long[BUCKET_COUNT];
+        for (int i = 1; i < BUCKET_COUNT - 1; i++) {
+            double lowerBound = MIN_TRACKED_NANOS * Math.pow(GAMMA, i - 1);
+            values[i] = Math.round(2 * GAMMA * lowerBound / (1 + GAMMA));
+        }
+        values[BUCKET_COUNT - 1] = Long.MAX_VALUE;
+        return values;
+    }
+
+    private static final class Slice {
+        private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+        private final AtomicLong sumNanos = new AtomicLong();
+        private final AtomicLong minNanos = new AtomicLong(Long.MAX_VALUE);
+        private final AtomicLong maxNanos = new AtomicLong(Long.MIN_VALUE);
+
+        private void record(long nanos) {
+            counts.incrementAndGet(bucketIndex(nanos));
+            sumNanos.addAndGet(nanos);
+            minNanos.accumulateAndGet(nanos, Math::min);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+        }
+
+        private void add(Slice other) {
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                counts.addAndGet(i, other.counts.get(i));
+            }
+            sumNanos.addAndGet(other.sumNanos.get());
+            minNanos.accumulateAndGet(other.minNanos.get(), Math::min);
+            maxNanos.accumulateAndGet(other.maxNanos.get(), Math::max);
+        }
+
+        private void reset() {
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                counts.set(i, 0);
+            }
+            sumNanos.set(0);
+            minNanos.set(Long.MAX_VALUE);
+            maxNanos.set(Long.MIN_VALUE);
+        }
+    }
+}
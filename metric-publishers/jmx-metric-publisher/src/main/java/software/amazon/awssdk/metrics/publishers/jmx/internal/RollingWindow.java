@@ -0,0 +1,95 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.jmx.internal;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+
+/**
+ * A fixed number of time slices that together cover a rolling window of time. Values are recorded into the slice of the
+ * current time, and a slice is reset when it is reused for a later time, so the memory used by the window never grows.
+ *
+ * <p>The window is lock-free: the thread that first observes that a slice must be reused claims it with a compare-and-set
+ * before resetting it. Values recorded concurrently with the reset of their slice may be lost, so the values in the window
+ * are approximate at slice boundaries.
+ *
+ * @param <T> the type of the slices, which must be thread safe
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class RollingWindow<T> {
+    private static final long UNUSED = Long.MIN_VALUE;
+
+    private final Object[] slices;
+    private final AtomicLongArray sliceEpochs;
+    private final long sliceNanos;
+    private final Consumer<T> sliceResetter;
+    private final LongSupplier nanoClock;
+
+    public RollingWindow(Duration window, int sliceCount, Supplier<T> sliceFactory, Consumer<T> sliceResetter,
+                         LongSupplier nanoClock) {
+        this.slices = new Object[sliceCount];
+        this.sliceEpochs = new AtomicLongArray(sliceCount);
+        for (int i = 0; i < sliceCount; i++) {
+            slices[i] = sliceFactory.get();
+            sliceEpochs.set(i, UNUSED);
+        }
+        this.sliceNanos = Math.max(1, window.toNanos() / sliceCount);
+        this.sliceResetter = sliceResetter;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Returns the slice of the current time, resetting it if it was last used for an earlier time.
+     */
+    @SuppressWarnings("unchecked")
+    public T current() {
+        long epoch = Math.floorDiv(nanoClock.getAsLong(), sliceNanos);
+        int index = (int) Math.floorMod(epoch, (long) slices.length);
+        T slice = (T) slices[index];
+
+        long sliceEpoch = sliceEpochs.get(index);
+        while (sliceEpoch < epoch) {
+            if (sliceEpochs.compareAndSet(index, sliceEpoch, epoch)) {
+                sliceResetter.accept(slice);
+                break;
+            }
+            sliceEpoch = sliceEpochs.get(index);
+        }
+
+        // If the slice was already claimed for a later time by a faster thread, the value is recorded in the later time
+        return slice;
+    }
+
+    /**
+     * Invokes the consumer with each slice that holds values of the current window.
+     */
+    @SuppressWarnings("unchecked")
+    public void forEachInWindow(Consumer<T> consumer) {
+        long epoch = Math.floorDiv(nanoClock.getAsLong(), sliceNanos);
+        for (int i = 0; i < slices.length; i++) {
+            long sliceEpoch = sliceEpochs.get(i);
+            if (sliceEpoch != UNUSED && sliceEpoch > epoch - slices.length) {
+                consumer.accept((T) slices[i]);
+            }
+        }
+    }
+}
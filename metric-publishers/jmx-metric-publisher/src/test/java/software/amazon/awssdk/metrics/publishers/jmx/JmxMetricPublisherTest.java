@@ -0,0 +1,242 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.jmx;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.data.Percentage.withPercentage;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+
+public class JmxMetricPublisherTest {
+    private final AtomicLong nanoTime = new AtomicLong();
+    private MBeanServer mBeanServer;
+    private JmxMetricPublisher publisher;
+
+    @BeforeEach
+    public void setUp() {
+        mBeanServer = MBeanServerFactory.newMBeanServer();
+        publisher = JmxMetricPublisher.builder()
+                                      .mBeanServer(mBeanServer)
+                                      .nanoClock(nanoTime::get)
+                                      .build();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        publisher.close();
+    }
+
+    @Test
+    public void snapshot_containsCountsAndLatenciesOfPublishedCalls() {
+        for (int i = 1; i <= 100; i++) {
+            publisher.publish(apiCall("DynamoDB", "GetItem", i, i % 10 != 0));
+        }
+        publisher.publish(apiCall("DynamoDB", "PutItem", 5, true));
+
+        List<OperationMetricsSnapshot> snapshots = publisher.snapshot();
+        assertThat(snapshots).extracting(OperationMetricsSnapshot::operationName).containsExactly("GetItem", "PutItem");
+
+        OperationMetricsSnapshot getItem = snapshots.get(0);
+        assertThat(getItem.serviceId()).isEqualTo("DynamoDB");
+        assertThat(getItem.callCount()).isEqualTo(100);
+        assertThat(getItem.failedCallCount()).isEqualTo(10);
+
+        LatencySnapshot apiCallDuration = getItem.latency(CoreMetric.API_CALL_DURATION).get();
+        assertThat(apiCallDuration.count()).isEqualTo(100);
+        assertThat(apiCallDuration.min()).isEqualTo(Duration.ofMillis(1));
+        assertThat(apiCallDuration.max()).isEqualTo(Duration.ofMillis(100));
+        assertThat(apiCallDuration.mean()).isEqualTo(Duration.ofNanos(50_500_000));
+        assertWithinRelativeError(apiCallDuration.percentile(50), Duration.ofMillis(50));
+        assertWithinRelativeError(apiCallDuration.percentile(99), Duration.ofMillis(99));
+        assertWithinRelativeError(apiCallDuration.percentile(100), Duration.ofMillis(100));
+
+        // Each API call has two attempts, whose service call durations are half of the API call duration
+        LatencySnapshot serviceCallDuration = getItem.latency(CoreMetric.SERVICE_CALL_DURATION).get();
+        assertThat(serviceCallDuration.count()).isEqualTo(200);
+        assertThat(serviceCallDuration.max()).isEqualTo(Duration.ofMillis(50));
+    }
+
+    @Test
+    public void snapshot_valuesOlderThanRollingWindow_areDiscarded() {
+        publisher.publish(apiCall("DynamoDB", "GetItem", 100, true));
+
+        nanoTime.addAndGet(Duration.ofSeconds(30).toNanos());
+        publisher.publish(apiCall("DynamoDB", "GetItem", 10, true));
+        OperationMetricsSnapshot snapshot = publisher.snapshot("DynamoDB", "GetItem").get();
+        assertThat(snapshot.callCount()).isEqualTo(2);
+        assertThat(snapshot.latency(CoreMetric.API_CALL_DURATION).get().max()).isEqualTo(Duration.ofMillis(100));
+
+        nanoTime.addAndGet(Duration.ofSeconds(45).toNanos());
+        snapshot = publisher.snapshot("DynamoDB", "GetItem").get();
+        assertThat(snapshot.callCount()).isEqualTo(1);
+        assertThat(snapshot.latency(CoreMetric.API_CALL_DURATION).get().max()).isEqualTo(Duration.ofMillis(10));
+
+        nanoTime.addAndGet(Duration.ofMinutes(1).toNanos());
+        snapshot = publisher.snapshot("DynamoDB", "GetItem").get();
+        assertThat(snapshot.callCount()).isZero();
+        assertThat(snapshot.latency(CoreMetric.API_CALL_DURATION).get().count()).isZero();
+        assertThat(snapshot.latency(CoreMetric.API_CALL_DURATION).get().percentile(99)).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    public void publish_moreOperationsThanMaximum_ignoresNewOperations() {
+        publisher.close();
+        publisher = JmxMetricPublisher.builder()
+                                      .mBeanServer(mBeanServer)
+                                      .maxOperations(2)
+                                      .build();
+
+        publisher.publish(apiCall("DynamoDB", "GetItem", 1, true));
+        publisher.publish(apiCall("DynamoDB", "PutItem", 1, true));
+        publisher.publish(apiCall("S3", "GetObject", 1, true));
+        publisher.publish(apiCall("DynamoDB", "GetItem", 1, true));
+
+        assertThat(publisher.snapshot()).extracting(OperationMetricsSnapshot::operationName)
+                                        .containsExactly("GetItem", "PutItem");
+        assertThat(publisher.snapshot("DynamoDB", "GetItem").get().callCount()).isEqualTo(2);
+        assertThat(publisher.snapshot("S3", "GetObject")).isEmpty();
+    }
+
+    @Test
+    public void publish_collectionWithoutOperation_isIgnored() {
+        MetricCollector collector = MetricCollector.create("ApiCall");
+        collector.reportMetric(CoreMetric.API_CALL_DURATION, Duration.ofMillis(1));
+        publisher.publish(collector.collect());
+
+        assertThat(publisher.snapshot()).isEmpty();
+    }
+
+    @Test
+    public void mBean_exposesSnapshotAsAttributes() throws Exception {
+        for (int i = 1; i <= 10; i++) {
+            publisher.publish(apiCall("DynamoDB", "GetItem", 10, i != 1));
+        }
+
+        ObjectName name = new ObjectName("software.amazon.awssdk:type=OperationMetrics,publisher=default,serviceId=DynamoDB,"
+                                         + "operationName=GetItem");
+        assertThat(mBeanServer.getAttribute(name, "ServiceId")).isEqualTo("DynamoDB");
+        assertThat(mBeanServer.getAttribute(name, "CallCount")).isEqualTo(10L);
+        assertThat(mBeanServer.getAttribute(name, "FailedCallCount")).isEqualTo(1L);
+        assertThat(mBeanServer.getAttribute(name, "ApiCallDurationCount")).isEqualTo(10L);
+        assertThat(mBeanServer.getAttribute(name, "ApiCallDurationMax")).isEqualTo(10.0);
+        assertThat((Double) mBeanServer.getAttribute(name, "ApiCallDurationP99")).isBetween(9.8, 10.0);
+        assertThat((Double) mBeanServer.getAttribute(name, "ServiceCallDurationP50")).isBetween(4.9, 5.1);
+        assertThat(mBeanServer.getAttributes(name, new String[] {"CallCount", "ApiCallDurationMean"}).asList())
+            .extracting(a -> a.getValue())
+            .containsExactly(10L, 10.0);
+    }
+
+    @Test
+    public void mBean_specialCharactersInName_areQuoted() throws Exception {
+        publisher.publish(apiCall("My:Service", "Get,Item", 10, true));
+
+        ObjectName name = publisher.objectName("My:Service", "Get,Item");
+        assertThat(name.getKeyProperty("serviceId")).isEqualTo("\"My:Service\"");
+        assertThat(mBeanServer.getAttribute(name, "OperationName")).isEqualTo("Get,Item");
+    }
+
+    @Test
+    public void close_unregistersMBeans() {
+        publisher.publish(apiCall("DynamoDB", "GetItem", 10, true));
+        assertThat(mBeanServer.queryNames(null, null)).anySatisfy(n -> assertThat(n.getDomain())
+            .isEqualTo(JmxMetricPublisher.OBJECT_NAME_DOMAIN));
+
+        publisher.close();
+
+        assertThat(mBeanServer.queryNames(null, null)).noneSatisfy(n -> assertThat(n.getDomain())
+            .isEqualTo(JmxMetricPublisher.OBJECT_NAME_DOMAIN));
+        publisher.publish(apiCall("DynamoDB", "GetItem", 10, true));
+        assertThat(publisher.snapshot()).isEmpty();
+    }
+
+    @Test
+    public void registerMBeansFalse_doesNotRegisterMBeans() {
+        publisher.close();
+        publisher = JmxMetricPublisher.builder()
+                                      .mBeanServer(mBeanServer)
+                                      .registerMBeans(false)
+                                      .build();
+
+        publisher.publish(apiCall("DynamoDB", "GetItem", 10, true));
+
+        assertThat(publisher.snapshot()).hasSize(1);
+        assertThat(mBeanServer.queryNames(null, null)).noneSatisfy(n -> assertThat(n.getDomain())
+            .isEqualTo(JmxMetricPublisher.OBJECT_NAME_DOMAIN));
+    }
+
+    @Test
+    public void publish_concurrently_countsAllCalls() throws Exception {
+        int threads = 8;
+        int callsPerThread = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        MetricCollection[] operations = {apiCall("DynamoDB", "GetItem", 10, true),
+                                         apiCall("DynamoDB", "PutItem", 20, true)};
+        try {
+            for (int t = 0; t < threads; t++) {
+                executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < callsPerThread; i++) {
+                        publisher.publish(operations[i % 2]);
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+            executor.shutdown();
+            assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(publisher.snapshot()).allSatisfy(s -> {
+            assertThat(s.callCount()).isEqualTo(threads * callsPerThread / 2);
+            assertThat(s.latency(CoreMetric.API_CALL_DURATION).get().count()).isEqualTo(threads * callsPerThread / 2);
+        });
+    }
+
+    private static void assertWithinRelativeError(Duration actual, Duration expected) {
+        assertThat((double) actual.toNanos()).isCloseTo(expected.toNanos(), withPercentage(2));
+    }
+
+    private static MetricCollection apiCall(String serviceId, String operationName, long durationMillis, boolean successful) {
+        MetricCollector collector = MetricCollector.create("ApiCall");
+        collector.reportMetric(CoreMetric.SERVICE_ID, serviceId);
+        collector.reportMetric(CoreMetric.OPERATION_NAME, operationName);
+        collector.reportMetric(CoreMetric.API_CALL_SUCCESSFUL, successful);
+        collector.reportMetric(CoreMetric.API_CALL_DURATION, Duration.ofMillis(durationMillis));
+        for (int i = 0; i < 2; i++) {
+            MetricCollector attempt = collector.createChild("ApiCallAttempt");
+            attempt.reportMetric(CoreMetric.SERVICE_CALL_DURATION, Duration.ofMillis(durationMillis).dividedBy(2));
+        }
+        return collector.collect();
+    }
+}
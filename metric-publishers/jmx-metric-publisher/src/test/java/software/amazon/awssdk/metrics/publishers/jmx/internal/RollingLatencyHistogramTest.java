@@ -0,0 +1,106 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.jmx.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.data.Percentage.withPercentage;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.metrics.publishers.jmx.LatencySnapshot;
+
+public class RollingLatencyHistogramTest {
+    private final AtomicLong nanoTime = new AtomicLong();
+    private final RollingLatencyHistogram histogram = new RollingLatencyHistogram(Duration.ofMinutes(1), 4, nanoTime::get);
+
+    @Test
+    public void percentiles_areWithinRelativeErrorOfExactPercentiles() {
+        Random random = new Random(0);
+        long[] values = new long[100_000];
+        for (int i = 0; i < values.length; i++) {
+            // A log-normal latency with a median of 20 milliseconds
+            values[i] = (long) (TimeUnit.MILLISECONDS.toNanos(20) * Math.exp(random.nextGaussian()));
+            histogram.record(values[i]);
+        }
+        Arrays.sort(values);
+
+        LatencySnapshot snapshot = histogram.snapshot();
+        assertThat(snapshot.count()).isEqualTo(values.length);
+        assertThat(snapshot.min().toNanos()).isEqualTo(values[0]);
+        assertThat(snapshot.max().toNanos()).isEqualTo(values[values.length - 1]);
+        for (double percentile : new double[] {1, 10, 50, 90, 99, 99.9}) {
+            long exact = values[(int) Math.ceil(percentile / 100 * values.length) - 1];
+            assertThat((double) snapshot.percentile(percentile).toNanos())
+                .as("p%s", percentile)
+                .isCloseTo(exact, withPercentage(RollingLatencyHistogram.RELATIVE_ERROR * 100));
+        }
+    }
+
+    @Test
+    public void valuesOutsideTrackedRange_areClampedToMinAndMax() {
+        histogram.record(10);
+        histogram.record(TimeUnit.DAYS.toNanos(2));
+
+        LatencySnapshot snapshot = histogram.snapshot();
+        assertThat(snapshot.percentile(50)).isEqualTo(Duration.ofNanos(10));
+        assertThat(snapshot.percentile(100)).isEqualTo(Duration.ofDays(2));
+    }
+
+    @Test
+    public void bucketIndex_coversTrackedRange() {
+        assertThat(RollingLatencyHistogram.bucketIndex(0)).isZero();
+        assertThat(RollingLatencyHistogram.bucketIndex(RollingLatencyHistogram.MIN_TRACKED_NANOS - 1)).isZero();
+        assertThat(RollingLatencyHistogram.bucketIndex(RollingLatencyHistogram.MIN_TRACKED_NANOS)).isEqualTo(1);
+        assertThat(RollingLatencyHistogram.bucketIndex(RollingLatencyHistogram.MAX_TRACKED_NANOS))
+            .isEqualTo(RollingLatencyHistogram.BUCKET_COUNT - 2);
+        assertThat(RollingLatencyHistogram.bucketIndex(Long.MAX_VALUE)).isEqualTo(RollingLatencyHistogram.BUCKET_COUNT - 1);
+    }
+
+    @Test
+    public void bucketValues_areWithinRelativeErrorOfBucketEdges() {
+        double gamma = (1 + RollingLatencyHistogram.RELATIVE_ERROR) / (1 - RollingLatencyHistogram.RELATIVE_ERROR);
+        for (int i = 1; i < RollingLatencyHistogram.BUCKET_COUNT - 1; i++) {
+            double lowerBound = RollingLatencyHistogram.MIN_TRACKED_NANOS * Math.pow(gamma, i - 1);
+            long lowestValue = (long) Math.ceil(lowerBound);
+            long highestValue = (long) Math.ceil(lowerBound * gamma) - 1;
+            for (long value : new long[] {lowestValue, highestValue}) {
+                long bucketValue = RollingLatencyHistogram.bucketValue(RollingLatencyHistogram.bucketIndex(value));
+                // The bucket values are rounded to whole nanoseconds
+                double maxError = RollingLatencyHistogram.RELATIVE_ERROR + 0.5 / value + 1e-9;
+                assertThat(Math.abs(bucketValue - value) / (double) value)
+                    .as("bucket %s, value %s", i, value)
+                    .isLessThanOrEqualTo(maxError);
+            }
+        }
+    }
+
+    @Test
+    public void slices_areReusedAfterWindow() {
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(100));
+        for (int i = 0; i < 4; i++) {
+            nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(15));
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+
+        LatencySnapshot snapshot = histogram.snapshot();
+        assertThat(snapshot.count()).isEqualTo(4);
+        assertThat(snapshot.max()).isEqualTo(Duration.ofMillis(1));
+    }
+}
@@ -0,0 +1,530 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Discovers the mapped properties of {@code @DynamoDbBean} and {@code @DynamoDbImmutable} classes from their source, following
+ * the same rules as {@code BeanTableSchema} and {@code ImmutableTableSchema} follow at runtime.
+ */
+@SdkInternalApi
+final class ItemIntrospector {
+    static final String DYNAMO_DB_BEAN = mapperAnnotation("DynamoDbBean");
+    static final String DYNAMO_DB_IMMUTABLE = mapperAnnotation("DynamoDbImmutable");
+
+    private static final String DYNAMO_DB_ATTRIBUTE = mapperAnnotation("DynamoDbAttribute");
+    private static final String DYNAMO_DB_CONVERTED_BY = mapperAnnotation("DynamoDbConvertedBy");
+    private static final String DYNAMO_DB_FLATTEN = mapperAnnotation("DynamoDbFlatten");
+    private static final String DYNAMO_DB_IGNORE = mapperAnnotation("DynamoDbIgnore");
+    private static final String DYNAMO_DB_IGNORE_NULLS = mapperAnnotation("DynamoDbIgnoreNulls");
+    private static final String DYNAMO_DB_PRESERVE_EMPTY_OBJECT = mapperAnnotation("DynamoDbPreserveEmptyObject");
+    private static final String BEAN_TABLE_SCHEMA_ATTRIBUTE_TAG = mapperAnnotation("BeanTableSchemaAttributeTag");
+    private static final String TRANSIENT = "java.beans.Transient";
+
+    private static final String MAPPER_PACKAGE = "software.amazon.awssdk.enhanced.dynamodb.mapper";
+    private static final String EXTENSIONS_PACKAGE = "software.amazon.awssdk.enhanced.dynamodb.extensions";
+    private static final String EXTENSION_ANNOTATIONS_PACKAGE = EXTENSIONS_PACKAGE + ".annotations.";
+    private static final ClassName STATIC_ATTRIBUTE_TAGS = ClassName.get(MAPPER_PACKAGE, "StaticAttributeTags");
+    private static final ClassName UPDATE_BEHAVIOR = ClassName.get(MAPPER_PACKAGE, "UpdateBehavior");
+    private static final ClassName VERSION_ATTRIBUTE_TAGS =
+        ClassName.get(EXTENSIONS_PACKAGE, "VersionedRecordExtension", "AttributeTags");
+    private static final ClassName TIMESTAMP_ATTRIBUTE_TAGS =
+        ClassName.get(EXTENSIONS_PACKAGE, "AutoGeneratedTimestampRecordExtension", "AttributeTags");
+
+    private static final String BUILD_METHOD = "build";
+    private static final String BUILDER_METHOD = "builder";
+    private static final Set<String> IMMUTABLE_METHODS_TO_IGNORE = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+        "getClass", "hashCode", "equals", "toString", "notify", "notifyAll", "wait", "toBuilder")));
+
+    private final Elements elements;
+    private final Types types;
+
+    ItemIntrospector(Elements elements, Types types) {
+        this.elements = elements;
+        this.types = types;
+    }
+
+    /**
+     * Introspects a class annotated with {@code @DynamoDbBean} or {@code @DynamoDbImmutable}.
+     *
+     * @throws UnsupportedItemException if a table schema cannot be generated for the class
+     */
+    ItemModel introspect(TypeElement itemType) {
+        Optional<AnnotationMirror> immutableAnnotation = annotation(itemType, DYNAMO_DB_IMMUTABLE);
+        if (immutableAnnotation.isPresent()) {
+            return introspectImmutable(itemType, immutableAnnotation.get());
+        }
+        return introspectBean(itemType, annotation(itemType, DYNAMO_DB_BEAN).orElseThrow(IllegalArgumentException::new));
+    }
+
+    boolean isItemType(TypeMirror type) {
+        if (type.getKind() != TypeKind.DECLARED) {
+            return false;
+        }
+        Element element = ((DeclaredType) type).asElement();
+        return annotation(element, DYNAMO_DB_BEAN).isPresent() || annotation(element, DYNAMO_DB_IMMUTABLE).isPresent();
+    }
+
+    boolean isImmutableType(TypeElement type) {
+        return annotation(type, DYNAMO_DB_IMMUTABLE).isPresent();
+    }
+
+    private ItemModel introspectBean(TypeElement beanType, AnnotationMirror beanAnnotation) {
+        validateAccessible(beanType);
+        if (beanType.getKind() != ElementKind.CLASS || beanType.getModifiers().contains(Modifier.ABSTRACT)) {
+            throw new UnsupportedItemException("A bean class must be a concrete class.", beanType);
+        }
+        validateNoArgsConstructor(beanType);
+
+        DeclaredType declaredType = (DeclaredType) beanType.asType();
+        Map<String, ExecutableElement> getGetters = new HashMap<>();
+        Map<String, ExecutableElement> isGetters = new HashMap<>();
+        Map<String, List<ExecutableElement>> setters = new HashMap<>();
+
+        for (ExecutableElement method : publicInstanceMethods(beanType)) {
+            String name = method.getSimpleName().toString();
+            TypeMirror returnType = methodType(declaredType, method).getReturnType();
+            int parameterCount = method.getParameters().size();
+
+            if (parameterCount == 0 && name.length() > 3 && name.startsWith("get") && returnType.getKind() != TypeKind.VOID) {
+                getGetters.put(decapitalize(name.substring(3)), method);
+            } else if (parameterCount == 0 && name.length() > 2 && name.startsWith("is")
+                       && returnType.getKind() == TypeKind.BOOLEAN) {
+                isGetters.put(decapitalize(name.substring(2)), method);
+            } else if (parameterCount == 1 && name.length() > 3 && name.startsWith("set")
+                       && returnType.getKind() == TypeKind.VOID) {
+                setters.computeIfAbsent(decapitalize(name.substring(3)), n -> new ArrayList<>()).add(method);
+            }
+        }
+
+        Map<String, ExecutableElement> getters = new TreeMap<>(getGetters);
+        getters.putAll(isGetters);
+
+        List<PropertyModel> properties = new ArrayList<>();
+        Set<TypeElement> referencedItemTypes = new LinkedHashSet<>();
+        getters.forEach((propertyName, getter) -> {
+            TypeMirror propertyType = methodType(declaredType, getter).getReturnType();
+            ExecutableElement setter = setters.getOrDefault(propertyName, Collections.emptyList())
+                                              .stream()
+                                              .filter(s -> types.isSameType(
+                                                  methodType(declaredType, s).getParameterTypes().get(0), propertyType))
+                                              .findFirst()
+                                              .orElse(null);
+            if (setter == null || isIgnored(getter) || isIgnored(setter)) {
+                return;
+            }
+            properties.add(propertyModel(propertyName, getter, setter, propertyType, referencedItemTypes));
+        });
+
+        return ItemModel.bean(beanType, converterProviders(beanAnnotation), properties, referencedItemTypes);
+    }
+
+    private ItemModel introspectImmutable(TypeElement immutableType, AnnotationMirror immutableAnnotation) {
+        validateAccessible(immutableType);
+        if (!immutableType.getKind().isClass() && !immutableType.getKind().isInterface()
+            || immutableType.getKind() == ElementKind.ANNOTATION_TYPE) {
+            throw new UnsupportedItemException("An immutable class must be a class or an interface.", immutableType);
+        }
+
+        TypeMirror builderTypeMirror = (TypeMirror) annotationValue(immutableAnnotation, "builder");
+        if (builderTypeMirror.getKind() != TypeKind.DECLARED) {
+            throw new UnsupportedItemException("The builder class of an immutable class must be a declared class.",
+                                               immutableType);
+        }
+        TypeElement builderType = (TypeElement) types.asElement(builderTypeMirror);
+        validateAccessible(builderType);
+
+        boolean staticBuilderMethod = hasStaticBuilderMethod(immutableType, builderType);
+        if (!staticBuilderMethod) {
+            validateNoArgsConstructor(builderType);
+        }
+
+        DeclaredType declaredImmutableType = (DeclaredType) immutableType.asType();
+        DeclaredType declaredBuilderType = (DeclaredType) builderType.asType();
+
+        Map<String, ExecutableElement> builderMethods = new HashMap<>();
+        for (ExecutableElement method : mappableImmutableMethods(builderType)) {
+            if (builderMethods.put(normalizeSetterName(method), method) != null) {
+                throw new UnsupportedItemException("The builder class of an immutable class has more than one method that "
+                                                   + "sets the same property.", method);
+            }
+        }
+
+        ExecutableElement buildMethod = builderMethods.remove(BUILD_METHOD);
+        if (buildMethod == null
+            || !buildMethod.getParameters().isEmpty()
+            || !types.isSameType(methodType(declaredBuilderType, buildMethod).getReturnType(), declaredImmutableType)) {
+            throw new UnsupportedItemException("An immutable builder class must have a public method named 'build()' that "
+                                               + "takes no arguments and returns an instance of the immutable class it "
+                                               + "builds.", builderType);
+        }
+
+        Map<String, PropertyModel> properties = new TreeMap<>();
+        Set<TypeElement> referencedItemTypes = new LinkedHashSet<>();
+        for (ExecutableElement getter : mappableImmutableMethods(immutableType)) {
+            TypeMirror propertyType = methodType(declaredImmutableType, getter).getReturnType();
+            if (!getter.getParameters().isEmpty() || propertyType.getKind() == TypeKind.VOID) {
+                throw new UnsupportedItemException("A method was found on the immutable class that does not appear to be a "
+                                                   + "valid getter.", getter);
+            }
+
+            String propertyName = normalizeGetterName(getter, propertyType);
+            ExecutableElement setter = builderMethods.remove(propertyName);
+            if (setter == null || !isValidImmutableSetter(setter, declaredBuilderType, propertyType)) {
+                throw new UnsupportedItemException("A method was found on the immutable class that does not appear to have "
+                                                   + "a matching setter on the builder class.", getter);
+            }
+
+            properties.put(propertyName, propertyModel(propertyName, getter, setter, propertyType, referencedItemTypes));
+        }
+
+        if (!builderMethods.isEmpty()) {
+            throw new UnsupportedItemException("A method was found on the immutable class builder that does not appear to "
+                                               + "have a matching getter on the immutable class.",
+                                               builderMethods.values().iterator().next());
+        }
+
+        return ItemModel.immutable(immutableType, builderType, staticBuilderMethod, converterProviders(immutableAnnotation),
+                                   new ArrayList<>(properties.values()), referencedItemTypes);
+    }
+
+    private PropertyModel propertyModel(String propertyName, ExecutableElement getter, ExecutableElement setter,
+                                        TypeMirror propertyType, Set<TypeElement> referencedItemTypes) {
+        boolean flatten = propertyAnnotation(getter, setter, DYNAMO_DB_FLATTEN).isPresent();
+        if (flatten) {
+            if (!isItemType(propertyType) || !((DeclaredType) propertyType).getTypeArguments().isEmpty()) {
+                throw new UnsupportedItemException("A flattened property must be a bean or immutable class.", getter);
+            }
+        }
+        validateType(propertyType, getter);
+        collectReferencedItemTypes(propertyType, referencedItemTypes);
+
+        String attributeName = propertyAnnotation(getter, setter, DYNAMO_DB_ATTRIBUTE)
+            .map(a -> (String) annotationValue(a, "value"))
+            .orElse(propertyName);
+
+        TypeMirror attributeConverter = propertyAnnotation(getter, setter, DYNAMO_DB_CONVERTED_BY)
+            .map(a -> (TypeMirror) annotationValue(a, "value"))
+            .orElse(null);
+        if (attributeConverter != null) {
+            validateNoArgsConstructor((TypeElement) types.asElement(attributeConverter));
+        }
+
+        List<CodeBlock> tags = new ArrayList<>();
+        addTags(getter, tags);
+        addTags(setter, tags);
+
+        return PropertyModel.builder()
+                            .attributeName(attributeName)
+                            .getterName(getter.getSimpleName().toString())
+                            .setterName(setter.getSimpleName().toString())
+                            .type(propertyType)
+                            .flatten(flatten)
+                            .preserveEmptyObject(propertyAnnotation(getter, setter, DYNAMO_DB_PRESERVE_EMPTY_OBJECT).isPresent())
+                            .ignoreNulls(propertyAnnotation(getter, setter, DYNAMO_DB_IGNORE_NULLS).isPresent())
+                            .attributeConverter(attributeConverter)
+                            .tags(tags)
+                            .build();
+    }
+
+    /**
+     * Adds the static attribute tags equivalent to the tag annotations of the given method. Tag annotations are resolved
+     * reflectively at runtime, so only the tags of the enhanced client itself can be generated.
+     */
+    private void addTags(ExecutableElement method, List<CodeBlock> tags) {
+        for (AnnotationMirror annotation : method.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+            if (!annotation(annotationType, BEAN_TABLE_SCHEMA_ATTRIBUTE_TAG).isPresent()) {
+                continue;
+            }
+
+            String name = annotationType.getQualifiedName().toString();
+            if (name.equals(mapperAnnotation("DynamoDbPartitionKey"))) {
+                tags.add(CodeBlock.of("$T.primaryPartitionKey()", STATIC_ATTRIBUTE_TAGS));
+            } else if (name.equals(mapperAnnotation("DynamoDbSortKey"))) {
+                tags.add(CodeBlock.of("$T.primarySortKey()", STATIC_ATTRIBUTE_TAGS));
+            } else if (name.equals(mapperAnnotation("DynamoDbSecondaryPartitionKey"))) {
+                tags.add(CodeBlock.of("$T.secondaryPartitionKey($L)", STATIC_ATTRIBUTE_TAGS, indexNames(annotation)));
+            } else if (name.equals(mapperAnnotation("DynamoDbSecondarySortKey"))) {
+                tags.add(CodeBlock.of("$T.secondarySortKey($L)", STATIC_ATTRIBUTE_TAGS, indexNames(annotation)));
+            } else if (name.equals(mapperAnnotation("DynamoDbUpdateBehavior"))) {
+                VariableElement updateBehavior = (VariableElement) annotationValue(annotation, "value");
+                tags.add(CodeBlock.of("$T.updateBehavior($T.$L)", STATIC_ATTRIBUTE_TAGS, UPDATE_BEHAVIOR,
+                                      updateBehavior.getSimpleName()));
+            } else if (name.equals(EXTENSION_ANNOTATIONS_PACKAGE + "DynamoDbAtomicCounter")) {
+                tags.add(CodeBlock.of("$T.atomicCounter($LL, $LL)", STATIC_ATTRIBUTE_TAGS,
+                                      annotationValue(annotation, "delta"), annotationValue(annotation, "startValue")));
+            } else if (name.equals(EXTENSION_ANNOTATIONS_PACKAGE + "DynamoDbVersionAttribute")) {
+                tags.add(CodeBlock.of("$T.versionAttribute()", VERSION_ATTRIBUTE_TAGS));
+            } else if (name.equals(EXTENSION_ANNOTATIONS_PACKAGE + "DynamoDbAutoGeneratedTimestampAttribute")) {
+                tags.add(CodeBlock.of("$T.autoGeneratedTimestampAttribute()", TIMESTAMP_ATTRIBUTE_TAGS));
+            } else {
+                throw new UnsupportedItemException("The custom attribute tag @" + annotationType.getSimpleName()
+                                                   + " can only be resolved at runtime.", method);
+            }
+        }
+    }
+
+    private CodeBlock indexNames(AnnotationMirror annotation) {
+        @SuppressWarnings("unchecked")
+        List<? extends AnnotationValue> indexNames = (List<? extends AnnotationValue>) annotationValue(annotation, "indexNames");
+        CodeBlock names = indexNames.stream()
+                                    .map(v -> CodeBlock.of("$S", v.getValue()))
+                                    .collect(CodeBlock.joining(", "));
+        return CodeBlock.of("$T.asList($L)", Arrays.class, names);
+    }
+
+    private List<TypeMirror> converterProviders(AnnotationMirror itemAnnotation) {
+        @SuppressWarnings("unchecked")
+        List<? extends AnnotationValue> providers =
+            (List<? extends AnnotationValue>) annotationValue(itemAnnotation, "converterProviders");
+        return providers.stream().map(v -> (TypeMirror) v.getValue()).collect(Collectors.toList());
+    }
+
+    /**
+     * Rejects the types that {@code EnhancedType} cannot represent, and the types that are only known once all annotation
+     * processors have run.
+     */
+    private void validateType(TypeMirror type, Element element) {
+        switch (type.getKind()) {
+            case DECLARED:
+                DeclaredType declaredType = (DeclaredType) type;
+                if (isItemType(type) && !declaredType.getTypeArguments().isEmpty()) {
+                    throw new UnsupportedItemException("Generic bean and immutable classes are not supported.", element);
+                }
+                declaredType.getTypeArguments().forEach(t -> validateType(t, element));
+                return;
+            case ARRAY:
+                TypeMirror componentType = ((ArrayType) type).getComponentType();
+                if (componentType.getKind() != TypeKind.ARRAY && !componentType.getKind().isPrimitive()
+                    && (componentType.getKind() != TypeKind.DECLARED
+                        || !((DeclaredType) componentType).getTypeArguments().isEmpty())) {
+                    throw new UnsupportedItemException("Arrays of generic types are not supported.", element);
+                }
+                validateType(componentType, element);
+                return;
+            default:
+                if (!type.getKind().isPrimitive()) {
+                    throw new UnsupportedItemException("The property type " + type + " is not supported.", element);
+                }
+        }
+    }
+
+    /**
+     * Collects the item classes used as documents, mirroring the types that the runtime table schemas map as documents:
+     * the property type itself, and the elements of lists and the values of maps.
+     */
+    private void collectReferencedItemTypes(TypeMirror type, Set<TypeElement> referencedItemTypes) {
+        if (type.getKind() != TypeKind.DECLARED) {
+            return;
+        }
+        DeclaredType declaredType = (DeclaredType) type;
+        if (isItemType(type)) {
+            referencedItemTypes.add((TypeElement) declaredType.asElement());
+        } else if (isRawType(type, List.class) && declaredType.getTypeArguments().size() == 1) {
+            collectReferencedItemTypes(declaredType.getTypeArguments().get(0), referencedItemTypes);
+        } else if (isRawType(type, Map.class) && declaredType.getTypeArguments().size() == 2) {
+            collectReferencedItemTypes(declaredType.getTypeArguments().get(1), referencedItemTypes);
+        }
+    }
+
+    boolean isRawType(TypeMirror type, Class<?> rawType) {
+        return type.getKind() == TypeKind.DECLARED
+               && ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().contentEquals(rawType.getName());
+    }
+
+    private boolean hasStaticBuilderMethod(TypeElement immutableType, TypeElement builderType) {
+        return ElementFilter.methodsIn(immutableType.getEnclosedElements())
+                            .stream()
+                            .anyMatch(m -> m.getSimpleName().contentEquals(BUILDER_METHOD)
+                                           && m.getModifiers().contains(Modifier.PUBLIC)
+                                           && m.getModifiers().contains(Modifier.STATIC)
+                                           && m.getParameters().isEmpty()
+                                           && types.isAssignable(builderType.asType(), m.getReturnType()));
+    }
+
+    private boolean isValidImmutableSetter(ExecutableElement setter, DeclaredType builderType, TypeMirror propertyType) {
+        ExecutableType setterType = methodType(builderType, setter);
+        if (setterType.getParameterTypes().size() != 1
+            || !types.isSameType(types.erasure(setterType.getParameterTypes().get(0)), types.erasure(propertyType))) {
+            return false;
+        }
+        TypeMirror returnType = setterType.getReturnType();
+        return returnType.getKind() == TypeKind.VOID || types.isAssignable(builderType, returnType);
+    }
+
+    private List<ExecutableElement> mappableImmutableMethods(TypeElement type) {
+        return publicInstanceMethods(type).stream()
+                                          .filter(m -> !IMMUTABLE_METHODS_TO_IGNORE.contains(m.getSimpleName().toString()))
+                                          .filter(m -> !isIgnored(m))
+                                          .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the public instance methods of a type, including the inherited ones, excluding the methods of {@link Object}
+     * and the methods overridden by other methods of the type.
+     */
+    private List<ExecutableElement> publicInstanceMethods(TypeElement type) {
+        List<ExecutableElement> methods =
+            ElementFilter.methodsIn(elements.getAllMembers(type))
+                         .stream()
+                         .filter(m -> m.getModifiers().contains(Modifier.PUBLIC) && !m.getModifiers().contains(Modifier.STATIC))
+                         .filter(m -> !((TypeElement) m.getEnclosingElement()).getQualifiedName()
+                                                                               .contentEquals(Object.class.getName()))
+                         .collect(Collectors.toList());
+
+        Map<ExecutableElement, Boolean> overridden = new LinkedHashMap<>();
+        for (ExecutableElement method : methods) {
+            overridden.put(method, methods.stream().anyMatch(m -> m != method && elements.overrides(m, method, type)));
+        }
+        return overridden.entrySet()
+                         .stream()
+                         .filter(e -> !e.getValue())
+                         .map(Map.Entry::getKey)
+                         .collect(Collectors.toList());
+    }
+
+    private void validateAccessible(TypeElement type) {
+        if (type.getModifiers().contains(Modifier.PRIVATE)) {
+            throw new UnsupportedItemException("Private classes are not supported.", type);
+        }
+        if (!type.getTypeParameters().isEmpty()) {
+            throw new UnsupportedItemException("Generic classes are not supported.", type);
+        }
+        if (type.getNestingKind() == NestingKind.LOCAL || type.getNestingKind() == NestingKind.ANONYMOUS) {
+            throw new UnsupportedItemException("Local and anonymous classes are not supported.", type);
+        }
+        if (type.getNestingKind() == NestingKind.MEMBER) {
+            if (!type.getModifiers().contains(Modifier.STATIC) && type.getKind() == ElementKind.CLASS) {
+                throw new UnsupportedItemException("Inner classes must be static.", type);
+            }
+            validateAccessible((TypeElement) type.getEnclosingElement());
+        }
+    }
+
+    private void validateNoArgsConstructor(TypeElement type) {
+        boolean hasConstructor = ElementFilter.constructorsIn(type.getEnclosedElements())
+                                              .stream()
+                                              .anyMatch(c -> c.getParameters().isEmpty()
+                                                             && !c.getModifiers().contains(Modifier.PRIVATE));
+        if (!hasConstructor || type.getModifiers().contains(Modifier.ABSTRACT)) {
+            throw new UnsupportedItemException("Class '" + type.getQualifiedName() + "' has no accessible no-args "
+                                               + "constructor.", type);
+        }
+    }
+
+    private ExecutableType methodType(DeclaredType containing, ExecutableElement method) {
+        return (ExecutableType) types.asMemberOf(containing, method);
+    }
+
+    private boolean isIgnored(ExecutableElement method) {
+        return annotation(method, DYNAMO_DB_IGNORE).isPresent() || annotation(method, TRANSIENT).isPresent();
+    }
+
+    private Optional<AnnotationMirror> propertyAnnotation(ExecutableElement getter, ExecutableElement setter,
+                                                          String annotationType) {
+        Optional<AnnotationMirror> getterAnnotation = annotation(getter, annotationType);
+        return getterAnnotation.isPresent() ? getterAnnotation : annotation(setter, annotationType);
+    }
+
+    private static Optional<AnnotationMirror> annotation(Element element, String annotationType) {
+        return element.getAnnotationMirrors()
+                      .stream()
+                      .filter(a -> ((TypeElement) a.getAnnotationType().asElement()).getQualifiedName()
+                                                                                    .contentEquals(annotationType))
+                      .findFirst()
+                      .map(a -> (AnnotationMirror) a);
+    }
+
+    private Object annotationValue(AnnotationMirror annotation, String name) {
+        return elements.getElementValuesWithDefaults(annotation)
+                       .entrySet()
+                       .stream()
+                       .filter(e -> e.getKey().getSimpleName().contentEquals(name))
+                       .findFirst()
+                       .map(e -> e.getValue().getValue())
+                       .orElseThrow(() -> new IllegalStateException("Missing annotation value: " + name));
+    }
+
+    private static String normalizeSetterName(ExecutableElement setter) {
+        String setterName = setter.getSimpleName().toString();
+        if (setterName.length() > 3 && Character.isUpperCase(setterName.charAt(3)) && setterName.startsWith("set")) {
+            return Character.toLowerCase(setterName.charAt(3)) + setterName.substring(4);
+        }
+        return setterName;
+    }
+
+    private static String normalizeGetterName(ExecutableElement getter, TypeMirror returnType) {
+        String getterName = getter.getSimpleName().toString();
+        boolean isBoolean = returnType.getKind() == TypeKind.BOOLEAN
+                            || returnType.toString().equals(Boolean.class.getName());
+        if (getterName.length() > 2 && Character.isUpperCase(getterName.charAt(2)) && getterName.startsWith("is")
+            && isBoolean) {
+            return Character.toLowerCase(getterName.charAt(2)) + getterName.substring(3);
+        }
+        if (getterName.length() > 3 && Character.isUpperCase(getterName.charAt(3)) && getterName.startsWith("get")) {
+            return Character.toLowerCase(getterName.charAt(3)) + getterName.substring(4);
+        }
+        return getterName;
+    }
+
+    /**
+     * Same as {@code java.beans.Introspector#decapitalize}, which is used to name bean properties.
+     */
+    private static String decapitalize(String name) {
+        if (name.length() > 1 && Character.isUpperCase(name.charAt(1)) && Character.isUpperCase(name.charAt(0))) {
+            return name;
+        }
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private static String mapperAnnotation(String simpleName) {
+        return "software.amazon.awssdk.enhanced.dynamodb.mapper.annotations." + simpleName;
+    }
+}
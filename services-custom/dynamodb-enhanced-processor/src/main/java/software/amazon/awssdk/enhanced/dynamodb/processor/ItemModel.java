@@ -0,0 +1,97 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor;
+
+import java.util.List;
+import java.util.Set;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * A {@code @DynamoDbBean} or {@code @DynamoDbImmutable} class and its mapped properties, as discovered at compile time.
+ */
+@SdkInternalApi
+final class ItemModel {
+    private final TypeElement itemType;
+    private final TypeElement builderType;
+    private final boolean staticBuilderMethod;
+    private final List<TypeMirror> converterProviders;
+    private final List<PropertyModel> properties;
+    private final Set<TypeElement> referencedItemTypes;
+
+    private ItemModel(TypeElement itemType, TypeElement builderType, boolean staticBuilderMethod,
+                      List<TypeMirror> converterProviders, List<PropertyModel> properties,
+                      Set<TypeElement> referencedItemTypes) {
+        this.itemType = itemType;
+        this.builderType = builderType;
+        this.staticBuilderMethod = staticBuilderMethod;
+        this.converterProviders = converterProviders;
+        this.properties = properties;
+        this.referencedItemTypes = referencedItemTypes;
+    }
+
+    static ItemModel bean(TypeElement beanType, List<TypeMirror> converterProviders, List<PropertyModel> properties,
+                          Set<TypeElement> referencedItemTypes) {
+        return new ItemModel(beanType, null, false, converterProviders, properties, referencedItemTypes);
+    }
+
+    static ItemModel immutable(TypeElement immutableType, TypeElement builderType, boolean staticBuilderMethod,
+                               List<TypeMirror> converterProviders, List<PropertyModel> properties,
+                               Set<TypeElement> referencedItemTypes) {
+        return new ItemModel(immutableType, builderType, staticBuilderMethod, converterProviders, properties,
+                             referencedItemTypes);
+    }
+
+    TypeElement itemType() {
+        return itemType;
+    }
+
+    boolean isImmutable() {
+        return builderType != null;
+    }
+
+    /**
+     * The builder class of an immutable class, or null for a bean class.
+     */
+    TypeElement builderType() {
+        return builderType;
+    }
+
+    /**
+     * Whether new builders of an immutable class are created with its static {@code builder()} method rather than the
+     * no-args constructor of the builder class.
+     */
+    boolean hasStaticBuilderMethod() {
+        return staticBuilderMethod;
+    }
+
+    List<TypeMirror> converterProviders() {
+        return converterProviders;
+    }
+
+    List<PropertyModel> properties() {
+        return properties;
+    }
+
+    /**
+     * The bean and immutable classes whose table schemas are needed to create the table schema of this class, because they
+     * are used as nested documents or flattened into it.
+     */
+    Set<TypeElement> referencedItemTypes() {
+        return referencedItemTypes;
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor;
+
+import com.squareup.javapoet.CodeBlock;
+import java.util.List;
+import javax.lang.model.type.TypeMirror;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * A mapped property of a bean or immutable class, as discovered at compile time.
+ */
+@SdkInternalApi
+final class PropertyModel {
+    private final String attributeName;
+    private final String getterName;
+    private final String setterName;
+    private final TypeMirror type;
+    private final boolean flatten;
+    private final boolean preserveEmptyObject;
+    private final boolean ignoreNulls;
+    private final TypeMirror attributeConverter;
+    private final List<CodeBlock> tags;
+
+    private PropertyModel(Builder builder) {
+        this.attributeName = builder.attributeName;
+        this.getterName = builder.getterName;
+        this.setterName = builder.setterName;
+        this.type = builder.type;
+        this.flatten = builder.flatten;
+        this.preserveEmptyObject = builder.preserveEmptyObject;
+        this.ignoreNulls = builder.ignoreNulls;
+        this.attributeConverter = builder.attributeConverter;
+        this.tags = builder.tags;
+    }
+
+    static Builder builder() {
+        return new Builder();
+    }
+
+    String attributeName() {
+        return attributeName;
+    }
+
+    String getterName() {
+        return getterName;
+    }
+
+    String setterName() {
+        return setterName;
+    }
+
+    /**
+     * The type of the property, as returned by its getter.
+     */
+    TypeMirror type() {
+        return type;
+    }
+
+    boolean flatten() {
+        return flatten;
+    }
+
+    boolean preserveEmptyObject() {
+        return preserveEmptyObject;
+    }
+
+    boolean ignoreNulls() {
+        return ignoreNulls;
+    }
+
+    /**
+     * The type of the converter declared with {@code @DynamoDbConvertedBy}, or null if the property has none.
+     */
+    TypeMirror attributeConverter() {
+        return attributeConverter;
+    }
+
+    /**
+     * The expressions that create the static attribute tags of the property.
+     */
+    List<CodeBlock> tags() {
+        return tags;
+    }
+
+    static final class Builder {
+        private String attributeName;
+        private String getterName;
+        private String setterName;
+        private TypeMirror type;
+        private boolean flatten;
+        private boolean preserveEmptyObject;
+        private boolean ignoreNulls;
+        private TypeMirror attributeConverter;
+        private List<CodeBlock> tags;
+
+        private Builder() {
+        }
+
+        Builder attributeName(String attributeName) {
+            this.attributeName = attributeName;
+            return this;
+        }
+
+        Builder getterName(String getterName) {
+            this.getterName = getterName;
+            return this;
+        }
+
+        Builder setterName(String setterName) {
+            this.setterName = setterName;
+            return this;
+        }
+
+        Builder type(TypeMirror type) {
+            this.type = type;
+            return this;
+        }
+
+        Builder flatten(boolean flatten) {
+            this.flatten = flatten;
+            return this;
+        }
+
+        Builder preserveEmptyObject(boolean preserveEmptyObject) {
+            this.preserveEmptyObject = preserveEmptyObject;
+            return this;
+        }
+
+        Builder ignoreNulls(boolean ignoreNulls) {
+            this.ignoreNulls = ignoreNulls;
+            return this;
+        }
+
+        Builder attributeConverter(TypeMirror attributeConverter) {
+            this.attributeConverter = attributeConverter;
+            return this;
+        }
+
+        Builder tags(List<CodeBlock> tags) {
+            this.tags = tags;
+            return this;
+        }
+
+        PropertyModel build() {
+            return new PropertyModel(this);
+        }
+    }
+}
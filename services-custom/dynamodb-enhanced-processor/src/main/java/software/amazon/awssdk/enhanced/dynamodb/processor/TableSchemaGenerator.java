@@ -0,0 +1,265 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor;
+
+import com.squareup.javapoet.AnnotationSpec;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Generates the source of the {@code StaticTableSchema} or {@code StaticImmutableTableSchema} that is equivalent to the
+ * {@code BeanTableSchema} or {@code ImmutableTableSchema} the enhanced client would create for an item class at runtime.
+ */
+@SdkInternalApi
+final class TableSchemaGenerator {
+    private static final String ENHANCED_PACKAGE = "software.amazon.awssdk.enhanced.dynamodb";
+    private static final String MAPPER_PACKAGE = ENHANCED_PACKAGE + ".mapper";
+    private static final ClassName TABLE_SCHEMA = ClassName.get(ENHANCED_PACKAGE, "TableSchema");
+    private static final ClassName ENHANCED_TYPE = ClassName.get(ENHANCED_PACKAGE, "EnhancedType");
+    private static final ClassName STATIC_TABLE_SCHEMA = ClassName.get(MAPPER_PACKAGE, "StaticTableSchema");
+    private static final ClassName STATIC_IMMUTABLE_TABLE_SCHEMA = ClassName.get(MAPPER_PACKAGE, "StaticImmutableTableSchema");
+
+    private static final String TABLE_SCHEMA_SUFFIX = "TableSchema";
+    private static final String TABLE_SCHEMA_FIELD = "TABLE_SCHEMA";
+    private static final String CREATE_METHOD = "create";
+    private static final String CREATE_TABLE_SCHEMA_METHOD = "createTableSchema";
+
+    private final Elements elements;
+    private final Types types;
+    private final ItemIntrospector introspector;
+    private final ClassName generatedAnnotation;
+
+    TableSchemaGenerator(Elements elements, Types types, ItemIntrospector introspector) {
+        this.elements = elements;
+        this.types = types;
+        this.introspector = introspector;
+        this.generatedAnnotation = generatedAnnotation(elements);
+    }
+
+    /**
+     * The name of the class generated for an item class: the simple names of the item class and the classes enclosing it
+     * joined with underscores and suffixed with {@code TableSchema}, in the package of the item class.
+     */
+    static ClassName tableSchemaClassName(TypeElement itemType) {
+        ClassName itemClass = ClassName.get(itemType);
+        return ClassName.get(itemClass.packageName(), String.join("_", itemClass.simpleNames()) + TABLE_SCHEMA_SUFFIX);
+    }
+
+    /**
+     * Generates the table schema of an item class.
+     *
+     * @param model the introspected item class
+     * @param generatedItemTypes the item classes whose table schemas are generated in the same processing round, which are
+     * referenced directly instead of being created at runtime
+     */
+    JavaFile generate(ItemModel model, Set<TypeElement> generatedItemTypes) {
+        TypeElement itemType = model.itemType();
+        ClassName itemClass = ClassName.get(itemType);
+        ClassName schemaClass = tableSchemaClassName(itemType);
+        TypeName schemaType = model.isImmutable()
+                              ? ParameterizedTypeName.get(STATIC_IMMUTABLE_TABLE_SCHEMA, itemClass,
+                                                          ClassName.get(model.builderType()))
+                              : ParameterizedTypeName.get(STATIC_TABLE_SCHEMA, itemClass);
+
+        TypeSpec.Builder type =
+            TypeSpec.classBuilder(schemaClass)
+                    .addJavadoc("The table schema of {@link $T}, generated at compile time from its annotations.\n", itemClass)
+                    .addModifiers(Modifier.FINAL)
+                    .addOriginatingElement(itemType)
+                    .addField(FieldSpec.builder(schemaType, TABLE_SCHEMA_FIELD, Modifier.PRIVATE, Modifier.STATIC,
+                                                Modifier.FINAL)
+                                       .initializer("$L()", CREATE_TABLE_SCHEMA_METHOD)
+                                       .build())
+                    .addMethod(MethodSpec.constructorBuilder().addModifiers(Modifier.PRIVATE).build())
+                    .addMethod(MethodSpec.methodBuilder(CREATE_METHOD)
+                                         .addJavadoc("Returns the table schema of {@link $T}. The same instance is returned "
+                                                     + "by every call.\n", itemClass)
+                                         .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                                         .returns(schemaType)
+                                         .addStatement("return $L", TABLE_SCHEMA_FIELD)
+                                         .build())
+                    .addMethod(MethodSpec.methodBuilder(CREATE_TABLE_SCHEMA_METHOD)
+                                         .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class)
+                                                                      .addMember("value", "{$S, $S}", "unchecked", "rawtypes")
+                                                                      .build())
+                                         .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                                         .returns(schemaType)
+                                         .addCode(tableSchema(model, itemClass, generatedItemTypes))
+                                         .build());
+
+        if (itemType.getModifiers().contains(Modifier.PUBLIC)) {
+            type.addModifiers(Modifier.PUBLIC);
+        }
+        if (generatedAnnotation != null) {
+            type.addAnnotation(AnnotationSpec.builder(generatedAnnotation)
+                                             .addMember("value", "$S", TableSchemaProcessor.class.getName())
+                                             .build());
+        }
+
+        return JavaFile.builder(schemaClass.packageName(), type.build())
+                       .skipJavaLangImports(true)
+                       .indent("    ")
+                       .build();
+    }
+
+    private CodeBlock tableSchema(ItemModel model, ClassName itemClass, Set<TypeElement> generatedItemTypes) {
+        CodeBlock.Builder code = CodeBlock.builder();
+        ClassName setterClass;
+
+        if (model.isImmutable()) {
+            setterClass = ClassName.get(model.builderType());
+            code.add("return $T.builder($T.class, $T.class)", STATIC_IMMUTABLE_TABLE_SCHEMA, itemClass, setterClass)
+                .indent()
+                .add("\n.newItemBuilder($L, $T::build)", newBuilderSupplier(model, itemClass, setterClass), setterClass);
+        } else {
+            setterClass = itemClass;
+            code.add("return $T.builder($T.class)", STATIC_TABLE_SCHEMA, itemClass)
+                .indent()
+                .add("\n.newItemSupplier($T::new)", itemClass);
+        }
+
+        CodeBlock converterProviders = model.converterProviders()
+                                            .stream()
+                                            .map(p -> CodeBlock.of("new $T()", TypeName.get(p)))
+                                            .collect(CodeBlock.joining(", "));
+        code.add("\n.attributeConverterProviders($L)", converterProviders);
+
+        for (PropertyModel property : model.properties()) {
+            if (property.flatten()) {
+                TypeElement flattenedType = (TypeElement) types.asElement(property.type());
+                code.add("\n.flatten($L, $T::$L, $T::$L)", tableSchemaOf(flattenedType, true, generatedItemTypes),
+                         itemClass, property.getterName(), setterClass, property.setterName());
+                continue;
+            }
+
+            code.add("\n.addAttribute($L, a -> a.name($S)", enhancedType(property.type(), property, generatedItemTypes),
+                     property.attributeName())
+                .indent()
+                .add("\n.getter($T::$L)", itemClass, property.getterName())
+                .add("\n.setter($T::$L)", setterClass, property.setterName());
+            if (property.attributeConverter() != null) {
+                code.add("\n.attributeConverter(new $T())", TypeName.get(property.attributeConverter()));
+            }
+            if (!property.tags().isEmpty()) {
+                code.add("\n.tags($L)", CodeBlock.join(property.tags(), ", "));
+            }
+            code.add(")").unindent();
+        }
+
+        return code.add("\n.build();\n").unindent().build();
+    }
+
+    private CodeBlock newBuilderSupplier(ItemModel model, ClassName itemClass, ClassName builderClass) {
+        if (!model.hasStaticBuilderMethod()) {
+            return CodeBlock.of("$T::new", builderClass);
+        }
+
+        ExecutableElement builderMethod =
+            ElementFilter.methodsIn(model.itemType().getEnclosedElements())
+                         .stream()
+                         .filter(m -> m.getSimpleName().contentEquals("builder") && m.getParameters().isEmpty())
+                         .findFirst()
+                         .orElseThrow(IllegalStateException::new);
+        if (types.isSameType(builderMethod.getReturnType(), model.builderType().asType())) {
+            return CodeBlock.of("$T::builder", itemClass);
+        }
+        return CodeBlock.of("() -> ($T) $T.builder()", builderClass, itemClass);
+    }
+
+    /**
+     * Creates the expression of the {@code EnhancedType} of a property, mirroring how the runtime table schemas map nested
+     * bean and immutable classes as documents.
+     */
+    private CodeBlock enhancedType(TypeMirror type, PropertyModel property, Set<TypeElement> generatedItemTypes) {
+        if (type.getKind() == TypeKind.DECLARED) {
+            DeclaredType declaredType = (DeclaredType) type;
+            List<? extends TypeMirror> typeArguments = declaredType.getTypeArguments();
+
+            if (introspector.isRawType(type, List.class) && typeArguments.size() == 1) {
+                return CodeBlock.of("$T.listOf($L)", ENHANCED_TYPE,
+                                    enhancedType(typeArguments.get(0), property, generatedItemTypes));
+            }
+            if (introspector.isRawType(type, Map.class) && typeArguments.size() == 2) {
+                return CodeBlock.of("$T.mapOf($L, $L)", ENHANCED_TYPE, plainEnhancedType(typeArguments.get(0)),
+                                    enhancedType(typeArguments.get(1), property, generatedItemTypes));
+            }
+            if (introspector.isItemType(type)) {
+                TypeElement itemType = (TypeElement) declaredType.asElement();
+                return CodeBlock.of("$T.documentOf($T.class, $L, b -> b.preserveEmptyObject($L).ignoreNulls($L))",
+                                    ENHANCED_TYPE, ClassName.get(itemType),
+                                    tableSchemaOf(itemType, false, generatedItemTypes),
+                                    property.preserveEmptyObject(), property.ignoreNulls());
+            }
+        }
+
+        return plainEnhancedType(type);
+    }
+
+    private CodeBlock plainEnhancedType(TypeMirror type) {
+        if (type.getKind() == TypeKind.DECLARED && !((DeclaredType) type).getTypeArguments().isEmpty()) {
+            TypeSpec typeToken = TypeSpec.anonymousClassBuilder("")
+                                         .superclass(ParameterizedTypeName.get(ENHANCED_TYPE, TypeName.get(type)))
+                                         .build();
+            return CodeBlock.of("$L", typeToken);
+        }
+        return CodeBlock.of("$T.of($T.class)", ENHANCED_TYPE, TypeName.get(types.erasure(type)));
+    }
+
+    /**
+     * Creates the expression of the table schema of a nested or flattened item class. The generated table schema is used
+     * when one is available, otherwise the table schema is created at runtime.
+     */
+    private CodeBlock tableSchemaOf(TypeElement itemType, boolean flatten, Set<TypeElement> generatedItemTypes) {
+        ClassName schemaClass = tableSchemaClassName(itemType);
+        if (generatedItemTypes.contains(itemType) || elements.getTypeElement(schemaClass.canonicalName()) != null) {
+            return CodeBlock.of("$T.$L()", schemaClass, CREATE_METHOD);
+        }
+        if (flatten) {
+            return CodeBlock.of("$T.fromClass($T.class)", TABLE_SCHEMA, ClassName.get(itemType));
+        }
+        return CodeBlock.of(introspector.isImmutableType(itemType) ? "$T.fromImmutableClass($T.class)" : "$T.fromBean($T.class)",
+                            TABLE_SCHEMA, ClassName.get(itemType));
+    }
+
+    private static ClassName generatedAnnotation(Elements elements) {
+        if (elements.getTypeElement("javax.annotation.processing.Generated") != null) {
+            return ClassName.get("javax.annotation.processing", "Generated");
+        }
+        if (elements.getTypeElement("javax.annotation.Generated") != null) {
+            return ClassName.get("javax.annotation", "Generated");
+        }
+        return null;
+    }
+}
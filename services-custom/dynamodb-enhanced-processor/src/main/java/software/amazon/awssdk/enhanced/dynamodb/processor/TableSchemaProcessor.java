@@ -0,0 +1,145 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+
+/**
+ * An annotation processor that generates the table schemas of classes annotated with {@code @DynamoDbBean} or
+ * {@code @DynamoDbImmutable} at compile time.
+ * <p>
+ * {@code TableSchema.fromBean} and {@code TableSchema.fromImmutableClass} introspect a class with reflection and create
+ * lambdas for its getters and setters the first time they are called, which adds to the startup latency of an application.
+ * This processor performs the same introspection while compiling, and generates a class named after the item class with a
+ * {@code TableSchema} suffix that builds the equivalent {@code StaticTableSchema} or {@code StaticImmutableTableSchema}
+ * directly:
+ *
+ * <pre>{@code
+ * DynamoDbTable<Customer> customerTable = enhancedClient.table("customers", CustomerTableSchema.create());
+ * }</pre>
+ * <p>
+ * The processor is enabled by adding the {@code dynamodb-enhanced-processor} artifact to the annotation processor path of
+ * the compiler. A class whose table schema cannot be created at compile time, for example because it uses a custom attribute
+ * tag annotation or references itself, is reported with a note and no table schema is generated for it; the reflective
+ * table schemas can still be used for such a class.
+ */
+@SdkPublicApi
+public final class TableSchemaProcessor extends AbstractProcessor {
+    private ItemIntrospector introspector;
+    private TableSchemaGenerator generator;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.introspector = new ItemIntrospector(processingEnv.getElementUtils(), processingEnv.getTypeUtils());
+        this.generator = new TableSchemaGenerator(processingEnv.getElementUtils(), processingEnv.getTypeUtils(), introspector);
+    }
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Collections.unmodifiableSet(new HashSet<>(Arrays.asList(ItemIntrospector.DYNAMO_DB_BEAN,
+                                                                       ItemIntrospector.DYNAMO_DB_IMMUTABLE)));
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Map<TypeElement, ItemModel> models = new LinkedHashMap<>();
+        for (TypeElement annotation : annotations) {
+            for (TypeElement itemType : ElementFilter.typesIn(roundEnv.getElementsAnnotatedWith(annotation))) {
+                if (models.containsKey(itemType)) {
+                    continue;
+                }
+                try {
+                    models.put(itemType, introspector.introspect(itemType));
+                } catch (UnsupportedItemException e) {
+                    skip(itemType, e.getMessage(), e.element());
+                }
+            }
+        }
+
+        for (TypeElement itemType : cyclicItemTypes(models)) {
+            models.remove(itemType);
+            skip(itemType, "The class references itself, directly or through other classes.", itemType);
+        }
+
+        Set<TypeElement> generatedItemTypes = Collections.unmodifiableSet(models.keySet());
+        for (ItemModel model : models.values()) {
+            try {
+                generator.generate(model, generatedItemTypes).writeTo(processingEnv.getFiler());
+            } catch (IOException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                                                         "Failed to write the generated table schema: " + e.getMessage(),
+                                                         model.itemType());
+            }
+        }
+
+        // The annotations are not claimed so that other processors can process them as well
+        return false;
+    }
+
+    /**
+     * Finds the item classes that can reach themselves through the item classes they reference. The table schemas of such
+     * classes are only resolvable lazily, which the reflective table schemas do at runtime.
+     */
+    private static Set<TypeElement> cyclicItemTypes(Map<TypeElement, ItemModel> models) {
+        Set<TypeElement> cyclicItemTypes = new HashSet<>();
+        for (TypeElement itemType : models.keySet()) {
+            if (reaches(models, itemType, itemType, new HashSet<>())) {
+                cyclicItemTypes.add(itemType);
+            }
+        }
+        return cyclicItemTypes;
+    }
+
+    private static boolean reaches(Map<TypeElement, ItemModel> models, TypeElement from, TypeElement target,
+                                   Set<TypeElement> visited) {
+        ItemModel model = models.get(from);
+        if (model == null || !visited.add(from)) {
+            return false;
+        }
+        for (TypeElement referenced : model.referencedItemTypes()) {
+            if (referenced.equals(target) || reaches(models, referenced, target, visited)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void skip(TypeElement itemType, String reason, Element element) {
+        String message = String.format("No table schema is generated for %s. %s", itemType.getQualifiedName(), reason);
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, message, element);
+    }
+}
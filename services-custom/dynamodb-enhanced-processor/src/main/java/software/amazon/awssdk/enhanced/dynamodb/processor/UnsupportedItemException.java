@@ -0,0 +1,39 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor;
+
+import javax.lang.model.element.Element;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Thrown when a table schema cannot be generated for a class, in which case the class can still be mapped with the
+ * table schemas that introspect it at runtime.
+ */
+@SdkInternalApi
+final class UnsupportedItemException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    private final transient Element element;
+
+    UnsupportedItemException(String message, Element element) {
+        super(message);
+        this.element = element;
+    }
+
+    Element element() {
+        return element;
+    }
+}
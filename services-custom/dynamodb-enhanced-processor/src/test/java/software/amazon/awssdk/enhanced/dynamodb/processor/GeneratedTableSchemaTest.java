@@ -0,0 +1,132 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.enhanced.dynamodb.TableMetadata;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticImmutableTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.processor.model.Address;
+import software.amazon.awssdk.enhanced.dynamodb.processor.model.Audit;
+import software.amazon.awssdk.enhanced.dynamodb.processor.model.Customer;
+import software.amazon.awssdk.enhanced.dynamodb.processor.model.CustomerTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.processor.model.Order;
+import software.amazon.awssdk.enhanced.dynamodb.processor.model.OrderTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.processor.model.TreeNode;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+class GeneratedTableSchemaTest {
+
+    @Test
+    void create_shouldReturnSameInstance() {
+        assertThat(CustomerTableSchema.create()).isSameAs(CustomerTableSchema.create());
+    }
+
+    @Test
+    void beanSchema_shouldMatchBeanTableSchema() {
+        StaticTableSchema<Customer> generated = CustomerTableSchema.create();
+        TableSchema<Customer> reflective = TableSchema.fromBean(Customer.class);
+
+        assertSameMetadata(generated.tableMetadata(), reflective.tableMetadata());
+        assertThat(generated.attributeNames()).containsExactlyInAnyOrderElementsOf(reflective.attributeNames());
+        assertThat(generated.attributeNames()).doesNotContain("nickname", "displayName");
+
+        Customer customer = customer();
+        Map<String, AttributeValue> itemMap = generated.itemToMap(customer, false);
+        assertThat(itemMap).isEqualTo(reflective.itemToMap(customer, false));
+        assertThat(generated.itemToMap(customer, true)).isEqualTo(reflective.itemToMap(customer, true));
+        assertThat(itemMap.get("customer_name")).isEqualTo(AttributeValue.fromS("name"));
+        assertThat(itemMap.get("email")).isEqualTo(AttributeValue.fromS("EMAIL@EXAMPLE.COM"));
+
+        assertThat(generated.itemToMap(generated.mapToItem(itemMap), false))
+            .isEqualTo(reflective.itemToMap(reflective.mapToItem(itemMap), false));
+    }
+
+    @Test
+    void immutableSchema_shouldMatchImmutableTableSchema() {
+        StaticImmutableTableSchema<Order, Order.Builder> generated = OrderTableSchema.create();
+        TableSchema<Order> reflective = TableSchema.fromImmutableClass(Order.class);
+
+        assertSameMetadata(generated.tableMetadata(), reflective.tableMetadata());
+        assertThat(generated.attributeNames()).containsExactlyInAnyOrderElementsOf(reflective.attributeNames());
+
+        Order order = Order.builder().id("id").quantity(3).shipped(true).shippingAddress(new Address()).build();
+        Map<String, AttributeValue> itemMap = generated.itemToMap(order, false);
+        assertThat(itemMap).isEqualTo(reflective.itemToMap(order, false));
+
+        Order roundTripped = generated.mapToItem(itemMap);
+        assertThat(roundTripped.id()).isEqualTo("id");
+        assertThat(roundTripped.quantity()).isEqualTo(3);
+        assertThat(roundTripped.isShipped()).isTrue();
+        assertThat(roundTripped.shippingAddress()).isNotNull();
+        assertThat(reflective.mapToItem(itemMap).shippingAddress()).isNotNull();
+    }
+
+    @Test
+    void selfReferencingBean_shouldNotBeGenerated() {
+        assertThatThrownBy(() -> Class.forName(TreeNode.class.getName() + "TableSchema"))
+            .isInstanceOf(ClassNotFoundException.class);
+    }
+
+    private static void assertSameMetadata(TableMetadata generated, TableMetadata reflective) {
+        assertThat(generated.primaryPartitionKey()).isEqualTo(reflective.primaryPartitionKey());
+        assertThat(generated.primarySortKey()).isEqualTo(reflective.primarySortKey());
+        assertThat(generated.keyAttributes()).containsExactlyInAnyOrderElementsOf(reflective.keyAttributes());
+        assertThat(generated.customMetadata()).isEqualTo(reflective.customMetadata());
+        generated.indices().forEach(index -> {
+            assertThat(generated.indexPartitionKey(index.name())).isEqualTo(reflective.indexPartitionKey(index.name()));
+            assertThat(generated.indexSortKey(index.name())).isEqualTo(reflective.indexSortKey(index.name()));
+        });
+        assertThat(generated.indices()).hasSameSizeAs(reflective.indices());
+    }
+
+    private static Customer customer() {
+        Address address = new Address();
+        address.setStreet("street");
+        address.setCity("city");
+
+        Audit audit = new Audit();
+        audit.setCreatedBy("creator");
+        audit.setCreatedDate(Instant.ofEpochSecond(1_000_000));
+
+        Customer customer = new Customer();
+        customer.setId("id");
+        customer.setSortKey(7);
+        customer.setName("name");
+        customer.setEmail("email@example.com");
+        customer.setActive(true);
+        customer.setVersion(2L);
+        customer.setVisits(12L);
+        customer.setHomeAddress(new Address());
+        customer.setAddresses(Arrays.asList(address, address));
+        customer.setAddressesByLabel(Collections.singletonMap("home", address));
+        customer.setTags(new HashSet<>(Arrays.asList("a", "b")));
+        customer.setAvatar("avatar".getBytes(StandardCharsets.UTF_8));
+        customer.setNickname("nickname");
+        customer.setAudit(audit);
+        return customer;
+    }
+}
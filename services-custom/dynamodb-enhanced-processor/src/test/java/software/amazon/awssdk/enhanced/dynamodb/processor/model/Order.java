@@ -0,0 +1,103 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor.model;
+
+import java.util.List;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbImmutable;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPartitionKey;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPreserveEmptyObject;
+
+@DynamoDbImmutable(builder = Order.Builder.class)
+public final class Order {
+    private final String id;
+    private final int quantity;
+    private final boolean shipped;
+    private final Address shippingAddress;
+    private final List<String> items;
+
+    private Order(Builder builder) {
+        this.id = builder.id;
+        this.quantity = builder.quantity;
+        this.shipped = builder.shipped;
+        this.shippingAddress = builder.shippingAddress;
+        this.items = builder.items;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @DynamoDbPartitionKey
+    public String id() {
+        return id;
+    }
+
+    public int quantity() {
+        return quantity;
+    }
+
+    public boolean isShipped() {
+        return shipped;
+    }
+
+    @DynamoDbPreserveEmptyObject
+    public Address shippingAddress() {
+        return shippingAddress;
+    }
+
+    public List<String> getItems() {
+        return items;
+    }
+
+    public static final class Builder {
+        private String id;
+        private int quantity;
+        private boolean shipped;
+        private Address shippingAddress;
+        private List<String> items;
+
+        private Builder() {
+        }
+
+        public Builder id(String id) {
+            this.id = id;
+            return this;
+        }
+
+        public Builder quantity(int quantity) {
+            this.quantity = quantity;
+            return this;
+        }
+
+        public Builder shipped(boolean shipped) {
+            this.shipped = shipped;
+            return this;
+        }
+
+        public Builder shippingAddress(Address shippingAddress) {
+            this.shippingAddress = shippingAddress;
+            return this;
+        }
+
+        public void setItems(List<String> items) {
+            this.items = items;
+        }
+
+        public Order build() {
+            return new Order(this);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb;
+
+import java.util.concurrent.CompletableFuture;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriterConfiguration;
+import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+/**
+ * A buffered writer that puts and deletes items across any number of tables through the BatchWriteItem operation.
+ * <p>
+ * Writes are buffered and sent in batches of up to 25 items, with a bounded number of batches in flight. A batch is sent as
+ * soon as it is full, or once its oldest write has been buffered for the {@link BatchWriterConfiguration#flushInterval()}.
+ * Writes that DynamoDb reports as unprocessed, and the writes of batches that failed with a retryable error, are sent again
+ * with a backoff. Writes to the same item are sent in the order in which they were submitted and never in the same batch.
+ * <p>
+ * Every write returns a future that completes once the write has been processed by DynamoDb, or completes exceptionally if
+ * it could not be processed. When the buffer is full, submitting a write blocks until space becomes available.
+ * <p>
+ * A batch writer is created through {@link DynamoDbEnhancedClient#batchWriter()} or
+ * {@link DynamoDbEnhancedAsyncClient#batchWriter()} and must be closed once all writes have been submitted. Closing the
+ * writer sends all buffered writes and waits for them to complete.
+ * <p>
+ * Example:
+ * <pre>
+ * {@code
+ *
+ * try (BatchWriter writer = enhancedClient.batchWriter(c -> c.maxConcurrentBatches(8))) {
+ *     items.forEach(item -> writer.putItem(mappedTable, item));
+ *     keysToDelete.forEach(key -> writer.deleteItem(mappedTable, key));
+ * }
+ * }
+ * </pre>
+ */
+@SdkPublicApi
+@ThreadSafe
+public interface BatchWriter extends SdkAutoCloseable {
+
+    /**
+     * Submits an item to be written to the mapped table, replacing any existing item with the same key.
+     *
+     * @param mappedTable the table to write the item to
+     * @param item the item to write
+     * @param <T> the type of the item
+     * @return a future that completes once the item has been written
+     */
+    <T> CompletableFuture<Void> putItem(MappedTableResource<T> mappedTable, T item);
+
+    /**
+     * Submits an item to be written to the mapped table, replacing any existing item with the same key. Only the item of
+     * the request is used, since the BatchWriteItem operation does not support conditions or return values.
+     *
+     * @param mappedTable the table to write the item to
+     * @param request a {@link PutItemEnhancedRequest} containing the item to write
+     * @param <T> the type of the item
+     * @return a future that completes once the item has been written
+     */
+    <T> CompletableFuture<Void> putItem(MappedTableResource<T> mappedTable, PutItemEnhancedRequest<T> request);
+
+    /**
+     * Submits the item with the given key to be deleted from the mapped table.
+     *
+     * @param mappedTable the table to delete the item from
+     * @param key the primary key of the item to delete
+     * @return a future that completes once the item has been deleted
+     */
+    CompletableFuture<Void> deleteItem(MappedTableResource<?> mappedTable, Key key);
+
+    /**
+     * Sends all buffered writes without waiting for the flush interval to elapse.
+     *
+     * @return a future that completes once all writes submitted before this call have completed, or completes
+     * exceptionally if any of them could not be processed
+     */
+    CompletableFuture<Void> flush();
+
+    /**
+     * Sends all buffered writes and waits for all writes to complete, then releases the resources of this writer. Writes
+     * can no longer be submitted once the writer has been closed.
+     */
+    @Override
+    void close();
+}
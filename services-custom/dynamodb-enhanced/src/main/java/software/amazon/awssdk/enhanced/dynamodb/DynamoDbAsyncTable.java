@@ -19,6 +19,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.enhanced.dynamodb.model.CreateTableEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.DeleteItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.DeleteItemEnhancedResponse;
@@ -26,6 +27,7 @@ import software.amazon.awssdk.enhanced.dynamodb.model.DescribeTableEnhancedRespo
 import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.Page;
 import software.amazon.awssdk.enhanced.dynamodb.model.PagePublisher;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedResponse;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
@@ -36,6 +38,7 @@ import software.amazon.awssdk.enhanced.dynamodb.model.UpdateItemEnhancedResponse
 import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
 import software.amazon.awssdk.services.dynamodb.model.ConsumedCapacity;
 import software.amazon.awssdk.services.dynamodb.model.DescribeTableRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
 import software.amazon.awssdk.services.dynamodb.waiters.DynamoDbAsyncWaiter;
 
 /**
@@ -724,6 +727,75 @@ public interface DynamoDbAsyncTable<T> extends MappedTableResource<T> {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Scans the table in parallel segments and retrieves all items.
+     * <p>
+     * The table is divided into {@link ParallelScanEnhancedRequest#totalSegments()} segments which are scanned
+     * concurrently, and the pages of all segments are merged into a single result in the order in which they are retrieved.
+     * Pages of different segments are therefore interleaved, and the order of the items is not defined. Each page of a
+     * segment is retrieved with a separate scan call to DynamoDb.
+     * <p>
+     * At most {@link ParallelScanEnhancedRequest#maxConcurrentSegments()} segments are scanned at the same time, and pages
+     * are only retrieved ahead of their consumption up to the same bound. A segment that fails with a retryable error is
+     * resumed from its last retrieved page, and the consumed read capacity can be limited through
+     * {@link ParallelScanEnhancedRequest#readCapacityUnitsPerSecond()}.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * PagePublisher<MyItem> results = mappedTable.parallelScan(r -> r.totalSegments(64)
+     *                                                               .maxConcurrentSegments(16)
+     *                                                               .readCapacityUnitsPerSecond(1000.0));
+     * }
+     * </pre>
+     *
+     * @see #parallelScan(Consumer)
+     * @see #parallelScan(ScanEnhancedRequest, int)
+     * @see DynamoDbAsyncClient#scan(ScanRequest)
+     * @param request A {@link ParallelScanEnhancedRequest} defining the segments and how to handle the results.
+     * @return a publisher {@link SdkPublisher} with the merged paginated results of all segments (see {@link Page}).
+     */
+    default PagePublisher<T> parallelScan(ParallelScanEnhancedRequest request) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * This is a convenience method that creates an instance of the request builder avoiding the need to create one
+     * manually via {@link ParallelScanEnhancedRequest#builder()}.
+     *
+     * @see #parallelScan(ParallelScanEnhancedRequest)
+     * @param requestConsumer A {@link Consumer} of {@link ParallelScanEnhancedRequest} defining the segments and how to
+     * handle the results.
+     * @return a publisher {@link SdkPublisher} with the merged paginated results of all segments (see {@link Page}).
+     */
+    default PagePublisher<T> parallelScan(Consumer<ParallelScanEnhancedRequest.Builder> requestConsumer) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Scans the table in the given number of parallel segments and retrieves all items, using the default bounds of
+     * {@link ParallelScanEnhancedRequest}.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * PagePublisher<MyItem> results = mappedTable.parallelScan(ScanEnhancedRequest.builder().build(), 16);
+     * results.items().subscribe(item -> System.out.println(item));
+     * }
+     * </pre>
+     *
+     * @see #parallelScan(ParallelScanEnhancedRequest)
+     * @param request A {@link ScanEnhancedRequest} executed on every segment. It must not specify a segment,
+     * totalSegments or an exclusiveStartKey.
+     * @param totalSegments The number of segments to divide the table into.
+     * @return a publisher {@link SdkPublisher} with the merged paginated results of all segments (see {@link Page}).
+     */
+    default PagePublisher<T> parallelScan(ScanEnhancedRequest request, int totalSegments) {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * Updates an item in the mapped table, or adds it if it doesn't exist.
      * <p>
@@ -27,15 +27,18 @@ import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetResultPage;
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetResultPageIterable;
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteResult;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriterConfiguration;
 import software.amazon.awssdk.enhanced.dynamodb.model.ConditionCheck;
 import software.amazon.awssdk.enhanced.dynamodb.model.DeleteItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.TransactGetItemsEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.TransactWriteItemsEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.TransactionPipelineConfiguration;
 import software.amazon.awssdk.enhanced.dynamodb.model.UpdateItemEnhancedRequest;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
 
 /**
  * Synchronous interface for running commands against a DynamoDb database.
@@ -45,7 +48,7 @@ import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
  */
 @SdkPublicApi
 @ThreadSafe
-public interface DynamoDbEnhancedClient extends DynamoDbEnhancedResource {
+public interface DynamoDbEnhancedClient extends DynamoDbEnhancedResource, SdkAutoCloseable {
 
     /**
      * Returns a mapped table that can be used to execute commands that work with mapped items against that table.
@@ -267,6 +270,56 @@ public interface DynamoDbEnhancedClient extends DynamoDbEnhancedResource {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Creates a {@link BatchWriter} that writes an unbounded number of items across tables through the BatchWriteItem
+     * operation. The writer chunks the writes into batches, sends a bounded number of batches at the same time and sends
+     * unprocessed writes again with a backoff, so the application does not have to handle the limits and partial results of
+     * {@link #batchWriteItem(BatchWriteItemEnhancedRequest)}.
+     * <p>
+     * The writer must be closed once all writes have been submitted.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * try (BatchWriter writer = enhancedClient.batchWriter(BatchWriterConfiguration.builder()
+     *                                                                             .maxConcurrentBatches(8)
+     *                                                                             .build())) {
+     *     items.forEach(item -> writer.putItem(mappedTable, item));
+     * }
+     * }
+     * </pre>
+     *
+     * @param configuration a {@link BatchWriterConfiguration} defining how writes are batched and retried.
+     * @return a new {@link BatchWriter}.
+     */
+    default BatchWriter batchWriter(BatchWriterConfiguration configuration) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Creates a {@link BatchWriter}, see {@link #batchWriter(BatchWriterConfiguration)}.
+     * <p>
+     * <b>Note:</b> This is a convenience method that creates an instance of the configuration builder avoiding the need to
+     * create one manually via {@link BatchWriterConfiguration#builder()}.
+     *
+     * @param configurationConsumer a {@link Consumer} of {@link BatchWriterConfiguration} defining how writes are batched
+     * and retried.
+     * @return a new {@link BatchWriter}.
+     */
+    default BatchWriter batchWriter(Consumer<BatchWriterConfiguration.Builder> configurationConsumer) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Creates a {@link BatchWriter} with the default configuration, see {@link #batchWriter(BatchWriterConfiguration)}.
+     *
+     * @return a new {@link BatchWriter}.
+     */
+    default BatchWriter batchWriter() {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * Retrieves multiple items from one or more tables in a single atomic transaction. TransactGetItem is a composite operation
      * where the request contains a set of get requests, each containing a table reference and a
@@ -441,6 +494,69 @@ public interface DynamoDbEnhancedClient extends DynamoDbEnhancedResource {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Creates a {@link TransactionPipeline} that executes a stream of transactions through the TransactWriteItems
+     * operation. Transactions that write different items are sent at the same time, up to a bounded number of transactions
+     * in flight, while transactions that write the same item are sent one after the other in submission order. Transactions
+     * that DynamoDb cancels because of a conflict or throttling are sent again with a backoff.
+     * <p>
+     * The pipeline must be closed once all transactions have been submitted.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * try (TransactionPipeline pipeline = enhancedClient.transactionPipeline(TransactionPipelineConfiguration.builder()
+     *                                                                                      .maxConcurrentTransactions(16)
+     *                                                                                      .build())) {
+     *     orders.forEach(order -> pipeline.transactWriteItems(r -> r.addPutItem(orderTable, order)
+     *                                                               .addUpdateItem(customerTable, order.customer())));
+     * }
+     * }
+     * </pre>
+     *
+     * @param configuration a {@link TransactionPipelineConfiguration} defining how transactions are sent and retried.
+     * @return a new {@link TransactionPipeline}.
+     */
+    default TransactionPipeline transactionPipeline(TransactionPipelineConfiguration configuration) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Creates a {@link TransactionPipeline}, see {@link #transactionPipeline(TransactionPipelineConfiguration)}.
+     * <p>
+     * <b>Note:</b> This is a convenience method that creates an instance of the configuration builder avoiding the need to
+     * create one manually via {@link TransactionPipelineConfiguration#builder()}.
+     *
+     * @param configurationConsumer a {@link Consumer} of {@link TransactionPipelineConfiguration} defining how transactions
+     * are sent and retried.
+     * @return a new {@link TransactionPipeline}.
+     */
+    default TransactionPipeline transactionPipeline(
+        Consumer<TransactionPipelineConfiguration.Builder> configurationConsumer) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Creates a {@link TransactionPipeline} with the default configuration, see
+     * {@link #transactionPipeline(TransactionPipelineConfiguration)}.
+     *
+     * @return a new {@link TransactionPipeline}.
+     */
+    default TransactionPipeline transactionPipeline() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Releases the resources that this client created. The synchronous client does not create any resources of its own, so
+     * closing it has no effect. Batch writers and transaction pipelines created by this client are closed separately.
+     * <p>
+     * The low-level {@link DynamoDbClient} is not closed.
+     */
+    @Override
+    default void close() {
+    }
+
     /**
      * Creates a default builder for {@link DynamoDbEnhancedClient}.
      */
@@ -24,6 +24,9 @@ import software.amazon.awssdk.enhanced.dynamodb.extensions.WriteModification;
  * Interface for extending the DynamoDb Enhanced client. Two hooks are provided, one that is called just before a record
  * is written to the database, and one called just after a record is read from the database. This gives the extension the
  * opportunity to act as an invisible layer between the application and the database and transform the data accordingly.
+ * Two further hooks are called before a single record is read by its key and before a record is deleted, which allows an
+ * extension such as {@link software.amazon.awssdk.enhanced.dynamodb.extensions.ItemCacheExtension} to serve reads
+ * without calling the database.
  * <p>
  * Multiple extensions can be used with the enhanced client, but the order in which they are loaded is important. For
  * instance one extension may overwrite the value of an attribute that another extension then includes in a checksum
@@ -55,4 +58,25 @@ public interface DynamoDbEnhancedClientExtension {
     default ReadModification afterRead(DynamoDbExtensionContext.AfterRead context) {
         return ReadModification.builder().build();
     }
+
+    /**
+     * This hook is called just before an operation reads a single record from the database by its primary key. If the
+     * extension returns a {@link ReadModification} with a transformed item, the database is not called and the transformed
+     * item is used as if it had been read from the database, which means that {@link #afterRead} is still called for it.
+     *
+     * @param context The {@link DynamoDbExtensionContext.BeforeRead} context containing the state of the execution.
+     * @return A {@link ReadModification} object holding the item to use instead of reading it from the database, or no
+     * item to read it from the database.
+     */
+    default ReadModification beforeRead(DynamoDbExtensionContext.BeforeRead context) {
+        return ReadModification.builder().build();
+    }
+
+    /**
+     * This hook is called just before an operation is going to delete a record from the database.
+     *
+     * @param context The {@link DynamoDbExtensionContext.BeforeDelete} context containing the state of the execution.
+     */
+    default void beforeDelete(DynamoDbExtensionContext.BeforeDelete context) {
+    }
 }
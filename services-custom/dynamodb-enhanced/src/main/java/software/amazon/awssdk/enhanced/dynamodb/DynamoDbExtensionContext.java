@@ -75,5 +75,45 @@ public final class DynamoDbExtensionContext {
     @SdkPublicApi
     @ThreadSafe
     public interface AfterRead extends Context {
+
+        /**
+         * @return The operation that read the items, or {@link OperationName#NONE} if the operation is not known.
+         */
+        default OperationName operationName() {
+            return OperationName.NONE;
+        }
+    }
+
+    /**
+     * The state of the execution when the {@link DynamoDbEnhancedClientExtension#beforeRead} method is invoked. The
+     * {@link #items()} of this context are the primary key attributes of the item that is about to be read.
+     */
+    @SdkPublicApi
+    @ThreadSafe
+    public interface BeforeRead extends Context {
+
+        /**
+         * @return The operation that is about to read the item.
+         */
+        OperationName operationName();
+
+        /**
+         * @return The consistentRead setting of the read, or null if it was not set.
+         */
+        Boolean consistentRead();
+    }
+
+    /**
+     * The state of the execution when the {@link DynamoDbEnhancedClientExtension#beforeDelete} method is invoked. The
+     * {@link #items()} of this context are the primary key attributes of the item that is about to be deleted.
+     */
+    @SdkPublicApi
+    @ThreadSafe
+    public interface BeforeDelete extends Context {
+
+        /**
+         * @return The operation that is about to delete the item.
+         */
+        OperationName operationName();
     }
 }
@@ -0,0 +1,90 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb;
+
+import java.util.concurrent.CompletableFuture;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.enhanced.dynamodb.model.TransactWriteItemsEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.TransactionPipelineConfiguration;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+/**
+ * A pipeline that executes a stream of transactions through the TransactWriteItems operation, running transactions that
+ * write different items at the same time.
+ * <p>
+ * Transactions are scheduled by the set of items they write or check. A transaction is sent as soon as none of its items is
+ * part of a transaction that was submitted before it and has not completed yet, with a bounded number of transactions in
+ * flight. Transactions that write the same item are therefore executed one after the other, in the order in which they
+ * were submitted, while other transactions are executed concurrently.
+ * <p>
+ * A transaction that DynamoDb cancels because of a conflict with another transaction or because of throttling is sent again
+ * with a backoff, up to {@link TransactionPipelineConfiguration#maxRetries()} times. Transactions that wait for it are not
+ * sent in the meantime. Any other cancellation, such as a failed condition, completes the transaction exceptionally. Other
+ * errors are only retried by the retry policy of the low-level client, since a transaction that failed with, for example, a
+ * timeout may already have been committed.
+ * <p>
+ * A transaction pipeline is created through {@link DynamoDbEnhancedClient#transactionPipeline()} or
+ * {@link DynamoDbEnhancedAsyncClient#transactionPipeline()} and must be closed once all transactions have been submitted.
+ * Closing the pipeline waits for all submitted transactions to complete.
+ * <p>
+ * Example:
+ * <pre>
+ * {@code
+ *
+ * try (TransactionPipeline pipeline = enhancedClient.transactionPipeline(c -> c.maxConcurrentTransactions(16))) {
+ *     transfers.forEach(transfer -> pipeline.transactWriteItems(r -> r.addUpdateItem(accountTable, transfer.debit())
+ *                                                                     .addUpdateItem(accountTable, transfer.credit())));
+ * }
+ * }
+ * </pre>
+ */
+@SdkPublicApi
+@ThreadSafe
+public interface TransactionPipeline extends SdkAutoCloseable {
+
+    /**
+     * Submits a transaction to be executed once no transaction submitted before it writes any of its items.
+     *
+     * @param request a {@link TransactWriteItemsEnhancedRequest} containing the actions of the transaction
+     * @return a future that completes once the transaction has been committed
+     */
+    CompletableFuture<Void> transactWriteItems(TransactWriteItemsEnhancedRequest request);
+
+    /**
+     * Submits a transaction, see {@link #transactWriteItems(TransactWriteItemsEnhancedRequest)}.
+     * <p>
+     * <b>Note:</b> This is a convenience method that creates an instance of the request builder avoiding the need to create
+     * one manually via {@link TransactWriteItemsEnhancedRequest#builder()}.
+     *
+     * @param requestConsumer a {@link java.util.function.Consumer} of {@link TransactWriteItemsEnhancedRequest.Builder}
+     * containing the actions of the transaction
+     * @return a future that completes once the transaction has been committed
+     */
+    default CompletableFuture<Void> transactWriteItems(
+        java.util.function.Consumer<TransactWriteItemsEnhancedRequest.Builder> requestConsumer) {
+        TransactWriteItemsEnhancedRequest.Builder builder = TransactWriteItemsEnhancedRequest.builder();
+        requestConsumer.accept(builder);
+        return transactWriteItems(builder.build());
+    }
+
+    /**
+     * Waits for all submitted transactions to complete, then releases the resources of this pipeline. Transactions can no
+     * longer be submitted once the pipeline has been closed.
+     */
+    @Override
+    void close();
+}
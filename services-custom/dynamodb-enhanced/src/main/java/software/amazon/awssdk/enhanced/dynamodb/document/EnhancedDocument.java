@@ -17,6 +17,7 @@ package software.amazon.awssdk.enhanced.dynamodb.document;
 
 import static software.amazon.awssdk.enhanced.dynamodb.AttributeConverterProvider.defaultProvider;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -100,10 +101,7 @@ public interface EnhancedDocument {
      */
     static EnhancedDocument fromAttributeValueMap(Map<String, AttributeValue> attributeValueMap) {
         Validate.paramNotNull(attributeValueMap, "attributeValueMap");
-        return DefaultEnhancedDocument.builder()
-                                      .attributeValueMap(attributeValueMap)
-                                      .attributeConverterProviders(defaultProvider())
-                                      .build();
+        return DefaultEnhancedDocument.fromAttributeValueMap(attributeValueMap, Collections.singletonList(defaultProvider()));
     }
 
     /**
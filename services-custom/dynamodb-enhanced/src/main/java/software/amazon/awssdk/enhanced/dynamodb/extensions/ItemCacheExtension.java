@@ -0,0 +1,460 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.extensions;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClientExtension;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbExtensionContext;
+import software.amazon.awssdk.enhanced.dynamodb.TableMetadata;
+import software.amazon.awssdk.enhanced.dynamodb.internal.extensions.DefaultDynamoDbExtensionContext;
+import software.amazon.awssdk.enhanced.dynamodb.internal.operations.OperationName;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * This extension caches the items that are read by their primary key, so that subsequent GetItem calls for the same key are
+ * served locally instead of calling the database.
+ * <p>
+ *     This extension is not loaded by default when you instantiate a
+ *     {@link software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient}. Thus you need to specify it in custom extension
+ *     while creating the enhanced client. It should be the last extension of the list, so that it caches the items as they
+ *     were read from the database, before the other extensions transform them.
+ *     <p>
+ *         Example to add ItemCacheExtension along with default extensions is
+ *         <code>DynamoDbEnhancedClient.builder().extensions(Stream.concat(ExtensionResolver.defaultExtensions().stream(),
+ *         Stream.of(ItemCacheExtension.create())).collect(Collectors.toList())).build();</code>
+ *     </p>
+ * </p>
+ * <p>
+ * Items read through GetItem and BatchGetItem are added to the cache, and GetItem calls are served from it. GetItem calls with
+ * consistentRead set to true bypass the cache. An item is removed from the cache when it is written or deleted through a
+ * client that uses the same extension instance, including batch and transactional writes. An item is not added to the cache
+ * when a write or delete of the same item started after it was requested from the database, or, for BatchGetItem, within its
+ * time to live before it was read. Items written by other clients can be served stale until their time to live expires.
+ * <p>
+ * The cache is bounded by the number of items and by their approximate size, and evicts the least recently used items first.
+ * The number of hits, misses and evictions can be retrieved with {@link #hitCount()}, {@link #missCount()} and
+ * {@link #evictionCount()}.
+ */
+@SdkPublicApi
+@ThreadSafe
+public final class ItemCacheExtension implements DynamoDbEnhancedClientExtension {
+    private static final int DEFAULT_MAX_ITEMS = 1_000;
+    private static final long DEFAULT_MAX_SIZE_IN_BYTES = 16L * 1024 * 1024;
+    private static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofMinutes(1);
+
+    private final int maxItems;
+    private final long maxSizeInBytes;
+    private final Duration timeToLive;
+    private final Clock clock;
+
+    private final Map<CacheKey, CacheEntry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private long sizeInBytes;
+
+    /**
+     * The value of {@link System#nanoTime()} when the last write or delete of each key started, oldest first. Keys are removed
+     * once they were last written more than the time to live ago.
+     */
+    private final Map<CacheKey, Long> writeStartedNanos = new LinkedHashMap<>();
+
+    private ItemCacheExtension(Builder builder) {
+        this.maxItems = builder.maxItems != null ? builder.maxItems : DEFAULT_MAX_ITEMS;
+        this.maxSizeInBytes = builder.maxSizeInBytes != null ? builder.maxSizeInBytes : DEFAULT_MAX_SIZE_IN_BYTES;
+        this.timeToLive = builder.timeToLive != null ? builder.timeToLive : DEFAULT_TIME_TO_LIVE;
+        this.clock = builder.baseClock != null ? builder.baseClock : Clock.systemUTC();
+        Validate.isPositive(maxItems, "maxItems");
+        Validate.isPositive(maxSizeInBytes, "maxSizeInBytes");
+        Validate.isPositive(timeToLive, "timeToLive");
+    }
+
+    /**
+     * Create a builder that can be used to create a {@link ItemCacheExtension}.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Create a {@link ItemCacheExtension} that caches up to 1000 items, up to 16 MiB in total, for one minute each.
+     */
+    public static ItemCacheExtension create() {
+        return builder().build();
+    }
+
+    /**
+     * Returns a builder initialized with all existing values on the Extension object.
+     */
+    public Builder toBuilder() {
+        return builder().maxItems(maxItems)
+                        .maxSizeInBytes(maxSizeInBytes)
+                        .timeToLive(timeToLive)
+                        .baseClock(clock);
+    }
+
+    @Override
+    public ReadModification beforeRead(DynamoDbExtensionContext.BeforeRead context) {
+        if (!isPrimaryIndex(context) || Boolean.TRUE.equals(context.consistentRead())) {
+            return ReadModification.builder().build();
+        }
+
+        CacheKey key = new CacheKey(context.operationContext().tableName(), context.items());
+        Map<String, AttributeValue> item = null;
+        synchronized (this) {
+            CacheEntry entry = entries.get(key);
+            if (entry != null) {
+                if (entry.expiresAt.isAfter(clock.instant())) {
+                    item = entry.item;
+                } else {
+                    remove(key);
+                }
+            }
+        }
+
+        if (item == null) {
+            misses.incrementAndGet();
+            return ReadModification.builder().build();
+        }
+        hits.incrementAndGet();
+        return ReadModification.builder().transformedItem(item).build();
+    }
+
+    @Override
+    public ReadModification afterRead(DynamoDbExtensionContext.AfterRead context) {
+        OperationName operationName = context.operationName();
+        if ((operationName == OperationName.GET_ITEM || operationName == OperationName.BATCH_GET_ITEM)
+            && isPrimaryIndex(context)) {
+            Map<String, AttributeValue> key = primaryKey(context);
+            if (key != null) {
+                put(new CacheKey(context.operationContext().tableName(), key), context.items(),
+                    DefaultDynamoDbExtensionContext.readStartedNanos(context));
+            }
+        }
+        return ReadModification.builder().build();
+    }
+
+    @Override
+    public WriteModification beforeWrite(DynamoDbExtensionContext.BeforeWrite context) {
+        invalidate(context);
+        return WriteModification.builder().build();
+    }
+
+    @Override
+    public void beforeDelete(DynamoDbExtensionContext.BeforeDelete context) {
+        invalidate(context);
+    }
+
+    /**
+     * @return the number of reads that were served from the cache
+     */
+    public long hitCount() {
+        return hits.get();
+    }
+
+    /**
+     * @return the number of reads that were not found in the cache, not counting reads that bypassed it
+     */
+    public long missCount() {
+        return misses.get();
+    }
+
+    /**
+     * @return the number of items that were removed from the cache to keep it within its bounds
+     */
+    public long evictionCount() {
+        return evictions.get();
+    }
+
+    /**
+     * @return the number of items in the cache, including the ones that have expired but were not removed yet
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Removes all the items from the cache.
+     */
+    public synchronized void invalidateAll() {
+        entries.clear();
+        sizeInBytes = 0;
+    }
+
+    private synchronized void put(CacheKey key, Map<String, AttributeValue> item, Long readStartedNanos) {
+        CacheEntry existing = entries.get(key);
+        if (existing != null && existing.item == item) {
+            // The item was served from the cache
+            return;
+        }
+
+        if (writtenSince(key, readStartedNanos)) {
+            // The item may have been read before the write was applied
+            return;
+        }
+
+        long itemSize = sizeInBytes(item);
+        if (itemSize > maxSizeInBytes) {
+            remove(key);
+            return;
+        }
+
+        CacheEntry previous = entries.put(key, new CacheEntry(item, itemSize, clock.instant().plus(timeToLive)));
+        if (previous != null) {
+            sizeInBytes -= previous.sizeInBytes;
+        }
+        sizeInBytes += itemSize;
+
+        Iterator<CacheEntry> eldest = entries.values().iterator();
+        while (entries.size() > maxItems || sizeInBytes > maxSizeInBytes) {
+            sizeInBytes -= eldest.next().sizeInBytes;
+            eldest.remove();
+            evictions.incrementAndGet();
+        }
+    }
+
+    private void invalidate(DynamoDbExtensionContext.Context context) {
+        if (context.items() == null) {
+            return;
+        }
+        Map<String, AttributeValue> key = primaryKey(context);
+        if (key != null) {
+            CacheKey cacheKey = new CacheKey(context.operationContext().tableName(), key);
+            long now = System.nanoTime();
+            synchronized (this) {
+                remove(cacheKey);
+                writeStartedNanos.remove(cacheKey);
+                writeStartedNanos.put(cacheKey, now);
+                pruneWrites(now);
+            }
+        }
+    }
+
+    /**
+     * Returns whether a write of the key started after the read did, or within the time to live if the read start is not known.
+     */
+    private boolean writtenSince(CacheKey key, Long readStartedNanos) {
+        pruneWrites(System.nanoTime());
+        Long writeStarted = writeStartedNanos.get(key);
+        return writeStarted != null && (readStartedNanos == null || writeStarted - readStartedNanos >= 0);
+    }
+
+    private void pruneWrites(long now) {
+        long timeToLiveNanos = timeToLive.toNanos();
+        Iterator<Long> oldest = writeStartedNanos.values().iterator();
+        while (oldest.hasNext() && now - oldest.next() > timeToLiveNanos) {
+            oldest.remove();
+        }
+    }
+
+    private void remove(CacheKey key) {
+        CacheEntry removed = entries.remove(key);
+        if (removed != null) {
+            sizeInBytes -= removed.sizeInBytes;
+        }
+    }
+
+    private static boolean isPrimaryIndex(DynamoDbExtensionContext.Context context) {
+        return TableMetadata.primaryIndexName().equals(context.operationContext().indexName());
+    }
+
+    /**
+     * Projects the items of the context onto the primary key attributes of the table, or returns null if the items do not
+     * contain all of them.
+     */
+    private static Map<String, AttributeValue> primaryKey(DynamoDbExtensionContext.Context context) {
+        Collection<String> keyAttributes = context.tableMetadata().primaryKeys();
+        Map<String, AttributeValue> key = new HashMap<>(keyAttributes.size() * 2);
+        for (String keyAttribute : keyAttributes) {
+            AttributeValue value = context.items().get(keyAttribute);
+            if (value == null) {
+                return null;
+            }
+            key.put(keyAttribute, value);
+        }
+        return key;
+    }
+
+    /**
+     * Approximates the size of an item the way DynamoDB does, from the lengths of its attribute names and values.
+     */
+    private static long sizeInBytes(Map<String, AttributeValue> item) {
+        long size = 0;
+        for (Map.Entry<String, AttributeValue> attribute : item.entrySet()) {
+            size += sizeInBytes(attribute.getKey()) + sizeInBytes(attribute.getValue());
+        }
+        return size;
+    }
+
+    private static long sizeInBytes(AttributeValue value) {
+        if (value.s() != null) {
+            return sizeInBytes(value.s());
+        }
+        if (value.n() != null) {
+            return value.n().length();
+        }
+        if (value.b() != null) {
+            return value.b().asByteArrayUnsafe().length;
+        }
+        if (value.hasM()) {
+            return 3 + sizeInBytes(value.m());
+        }
+        if (value.hasL()) {
+            long size = 3;
+            for (AttributeValue element : value.l()) {
+                size += 1 + sizeInBytes(element);
+            }
+            return size;
+        }
+        if (value.hasSs()) {
+            return value.ss().stream().mapToLong(ItemCacheExtension::sizeInBytes).sum();
+        }
+        if (value.hasNs()) {
+            return value.ns().stream().mapToLong(String::length).sum();
+        }
+        if (value.hasBs()) {
+            List<SdkBytes> values = value.bs();
+            return values.stream().mapToLong(b -> b.asByteArrayUnsafe().length).sum();
+        }
+        return 1;
+    }
+
+    private static long sizeInBytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    /**
+     * Builder for a {@link ItemCacheExtension}
+     */
+    @NotThreadSafe
+    public static final class Builder {
+        private Integer maxItems;
+        private Long maxSizeInBytes;
+        private Duration timeToLive;
+        private Clock baseClock;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the maximum number of items in the cache. By default, up to 1000 items are cached.
+         *
+         * @param maxItems the maximum number of items in the cache
+         * @return This builder for method chaining.
+         */
+        public Builder maxItems(Integer maxItems) {
+            this.maxItems = maxItems;
+            return this;
+        }
+
+        /**
+         * Sets the maximum total size of the items in the cache, as approximated from the lengths of their attribute names
+         * and values. Items that are larger than this size are not cached. By default, up to 16 MiB of items are cached.
+         *
+         * @param maxSizeInBytes the maximum total size of the items in the cache
+         * @return This builder for method chaining.
+         */
+        public Builder maxSizeInBytes(Long maxSizeInBytes) {
+            this.maxSizeInBytes = maxSizeInBytes;
+            return this;
+        }
+
+        /**
+         * Sets how long an item is served from the cache after it was read from the database. By default, items are cached
+         * for one minute.
+         *
+         * @param timeToLive how long an item is served from the cache
+         * @return This builder for method chaining.
+         */
+        public Builder timeToLive(Duration timeToLive) {
+            this.timeToLive = timeToLive;
+            return this;
+        }
+
+        /**
+         * Sets the clock that is used to expire the items in the cache, else Clock.systemUTC() is used by default.
+         *
+         * @param clock Clock instance used to expire the items in the cache.
+         * @return This builder for method chaining.
+         */
+        public Builder baseClock(Clock clock) {
+            this.baseClock = clock;
+            return this;
+        }
+
+        /**
+         * Builds an {@link ItemCacheExtension} based on the values stored in this builder
+         */
+        public ItemCacheExtension build() {
+            return new ItemCacheExtension(this);
+        }
+    }
+
+    private static final class CacheKey {
+        private final String tableName;
+        private final Map<String, AttributeValue> key;
+
+        private CacheKey(String tableName, Map<String, AttributeValue> key) {
+            this.tableName = tableName;
+            this.key = key;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            CacheKey cacheKey = (CacheKey) o;
+            return Objects.equals(tableName, cacheKey.tableName) && Objects.equals(key, cacheKey.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Objects.hashCode(tableName) + Objects.hashCode(key);
+        }
+    }
+
+    private static final class CacheEntry {
+        private final Map<String, AttributeValue> item;
+        private final long sizeInBytes;
+        private final Instant expiresAt;
+
+        private CacheEntry(Map<String, AttributeValue> item, long sizeInBytes, Instant expiresAt) {
+            this.item = item;
+            this.sizeInBytes = sizeInBytes;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
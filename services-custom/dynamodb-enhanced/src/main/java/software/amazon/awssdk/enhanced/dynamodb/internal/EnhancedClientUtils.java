@@ -15,22 +15,30 @@
 
 package software.amazon.awssdk.enhanced.dynamodb.internal;
 
+import java.io.IOException;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.retry.RetryUtils;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClientExtension;
 import software.amazon.awssdk.enhanced.dynamodb.Key;
 import software.amazon.awssdk.enhanced.dynamodb.OperationContext;
 import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
 import software.amazon.awssdk.enhanced.dynamodb.extensions.ReadModification;
 import software.amazon.awssdk.enhanced.dynamodb.internal.extensions.DefaultDynamoDbExtensionContext;
+import software.amazon.awssdk.enhanced.dynamodb.internal.operations.OperationName;
 import software.amazon.awssdk.enhanced.dynamodb.model.Page;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 
@@ -84,6 +92,29 @@ public final class EnhancedClientUtils {
                                             TableSchema<T> tableSchema,
                                             OperationContext operationContext,
                                             DynamoDbEnhancedClientExtension dynamoDbEnhancedClientExtension) {
+        return readAndTransformSingleItem(itemMap, tableSchema, operationContext, dynamoDbEnhancedClientExtension,
+                                          OperationName.NONE);
+    }
+
+    public static <T> T readAndTransformSingleItem(Map<String, AttributeValue> itemMap,
+                                                   TableSchema<T> tableSchema,
+                                                   OperationContext operationContext,
+                                                   DynamoDbEnhancedClientExtension dynamoDbEnhancedClientExtension,
+                                                   OperationName operationName) {
+        return readAndTransformSingleItem(itemMap, tableSchema, operationContext, dynamoDbEnhancedClientExtension,
+                                          operationName, null);
+    }
+
+    /**
+     * Transforms the item with the extension and maps it. The time the item was requested from the database at, as returned by
+     * {@link System#nanoTime()}, lets the extension tell whether the item may have been written while it was being read.
+     */
+    public static <T> T readAndTransformSingleItem(Map<String, AttributeValue> itemMap,
+                                                   TableSchema<T> tableSchema,
+                                                   OperationContext operationContext,
+                                                   DynamoDbEnhancedClientExtension dynamoDbEnhancedClientExtension,
+                                                   OperationName operationName,
+                                                   Long readStartedNanos) {
         if (itemMap == null || itemMap.isEmpty()) {
             return null;
         }
@@ -95,6 +126,8 @@ public final class EnhancedClientUtils {
                                                .tableSchema(tableSchema)
                                                .operationContext(operationContext)
                                                .tableMetadata(tableSchema.tableMetadata())
+                                               .operationName(operationName)
+                                               .readStartedNanos(readStartedNanos)
                                                .build());
             if (readModification != null && readModification.transformedItem() != null) {
                 return tableSchema.mapToItem(readModification.transformedItem());
@@ -104,6 +137,33 @@ public final class EnhancedClientUtils {
         return tableSchema.mapToItem(itemMap);
     }
 
+    /**
+     * Gives the extension the opportunity to provide the item with the given key before it is read from the database.
+     *
+     * @return the item provided by the extension, or null if the item should be read from the database
+     */
+    public static Map<String, AttributeValue> readItemFromExtension(Map<String, AttributeValue> key,
+                                                                    TableSchema<?> tableSchema,
+                                                                    OperationContext operationContext,
+                                                                    DynamoDbEnhancedClientExtension extension,
+                                                                    OperationName operationName,
+                                                                    Boolean consistentRead) {
+        if (extension == null) {
+            return null;
+        }
+
+        ReadModification readModification = extension.beforeRead(
+            DefaultDynamoDbExtensionContext.builder()
+                                           .items(key)
+                                           .tableSchema(tableSchema)
+                                           .operationContext(operationContext)
+                                           .tableMetadata(tableSchema.tableMetadata())
+                                           .operationName(operationName)
+                                           .consistentRead(consistentRead)
+                                           .build());
+        return readModification == null ? null : readModification.transformedItem();
+    }
+
     public static <ResponseT, ItemT> Page<ItemT> readAndTransformPaginatedItems(
         ResponseT response,
         TableSchema<ItemT> tableSchema,
@@ -134,6 +194,23 @@ public final class EnhancedClientUtils {
         }
     }
 
+    /**
+     * Returns an iterator that reads and transforms the items of a paginated response one at a time, as they are iterated.
+     */
+    public static <ResponseT, ItemT> Iterator<ItemT> readAndTransformPaginatedItemsLazily(
+        ResponseT response,
+        TableSchema<ItemT> tableSchema,
+        OperationContext operationContext,
+        DynamoDbEnhancedClientExtension dynamoDbEnhancedClientExtension,
+        Function<ResponseT, List<Map<String, AttributeValue>>> getItems) {
+
+        return TransformIterator.create(getItems.apply(response).iterator(),
+                                        itemMap -> readAndTransformSingleItem(itemMap,
+                                                                              tableSchema,
+                                                                              operationContext,
+                                                                              dynamoDbEnhancedClientExtension));
+    }
+
     public static <T> Key createKeyFromItem(T item, TableSchema<T> tableSchema, String indexName) {
         String partitionKeyName = tableSchema.tableMetadata().indexPartitionKey(indexName);
         Optional<String> sortKeyName = tableSchema.tableMetadata().indexSortKey(indexName);
@@ -186,4 +263,34 @@ public final class EnhancedClientUtils {
     public static boolean isNullAttributeValue(AttributeValue attributeValue) {
         return attributeValue.nul() != null && attributeValue.nul();
     }
+
+    /**
+     * A helper method to test if a failed DynamoDb call may succeed when it is made again, after the retries of the
+     * low-level client have been exhausted. Throttling, server errors and I/O failures are considered retryable.
+     * @param throwable The failure of the call, unwrapped from any {@link CompletionException}.
+     * @return true if the call may be made again, or false if it will fail again.
+     */
+    public static boolean isRetryableException(Throwable throwable) {
+        if (!(throwable instanceof SdkException)) {
+            return false;
+        }
+        SdkException exception = (SdkException) throwable;
+        return exception.retryable()
+               || RetryUtils.isThrottlingException(exception)
+               || RetryUtils.isServiceException(exception) && RetryUtils.toServiceException(exception).statusCode() >= 500
+               || exception.getCause() instanceof IOException;
+    }
+
+    /**
+     * A helper method to retrieve the cause of a failed {@link CompletableFuture}.
+     * @param throwable The failure the future was completed with.
+     * @return The failure unwrapped from any {@link CompletionException} or {@link ExecutionException}.
+     */
+    public static Throwable unwrapCompletionException(Throwable throwable) {
+        Throwable cause = throwable;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
 }
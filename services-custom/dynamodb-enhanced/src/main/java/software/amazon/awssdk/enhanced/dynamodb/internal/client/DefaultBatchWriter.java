@@ -0,0 +1,423 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.client;
+
+import static software.amazon.awssdk.enhanced.dynamodb.internal.EnhancedClientUtils.isRetryableException;
+import static software.amazon.awssdk.enhanced.dynamodb.internal.EnhancedClientUtils.unwrapCompletionException;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.retry.RetryPolicyContext;
+import software.amazon.awssdk.core.retry.backoff.BackoffStrategy;
+import software.amazon.awssdk.enhanced.dynamodb.BatchWriter;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.MappedTableResource;
+import software.amazon.awssdk.enhanced.dynamodb.internal.operations.DefaultOperationContext;
+import software.amazon.awssdk.enhanced.dynamodb.internal.operations.DeleteItemOperation;
+import software.amazon.awssdk.enhanced.dynamodb.internal.operations.PutItemOperation;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriterConfiguration;
+import software.amazon.awssdk.enhanced.dynamodb.model.DeleteItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+
+/**
+ * The default {@link BatchWriter}.
+ * <p>
+ * Submitted writes are queued in submission order. A batch is assembled from the queue by skipping the writes whose item is
+ * already part of the batch or of a batch in flight, so that writes to the same item are never sent in the same batch and
+ * are processed in submission order. Writes that have to be sent again stay blocked during their backoff, and are then
+ * returned to the front of the queue.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class DefaultBatchWriter implements BatchWriter {
+    private static final Logger log = Logger.loggerFor(DefaultBatchWriter.class);
+    private static final BackoffStrategy BACKOFF_STRATEGY = BackoffStrategy.defaultThrottlingStrategy();
+
+    private final Function<BatchWriteItemRequest, CompletableFuture<BatchWriteItemResponse>> batchWriteItem;
+    private final ExecutorService executor;
+    private final ScheduledExecutorService scheduler;
+    private final int maxBatchSize;
+    private final int maxConcurrentBatches;
+    private final int maxBufferedWrites;
+    private final int maxRetries;
+    private final long flushIntervalNanos;
+
+    private final Deque<PendingWrite> queuedWrites = new ArrayDeque<>();
+    private final Set<PendingWrite> outstandingWrites = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Set<ItemKey> blockedKeys = new HashSet<>();
+    private long nextSequence;
+    private long flushSequence = -1;
+    private int batchesInFlight;
+    private boolean closed;
+    private ScheduledFuture<?> flushTimer;
+
+    private DefaultBatchWriter(BatchWriterConfiguration configuration,
+                               Function<BatchWriteItemRequest, CompletableFuture<BatchWriteItemResponse>> batchWriteItem,
+                               ExecutorService executor) {
+        this.batchWriteItem = batchWriteItem;
+        this.executor = executor;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder().threadNamePrefix("sdk-ddb-batch-writer").daemonThreads(true).build());
+        this.maxBatchSize = configuration.maxBatchSize();
+        this.maxConcurrentBatches = configuration.maxConcurrentBatches();
+        this.maxBufferedWrites = configuration.maxBufferedWrites();
+        this.maxRetries = configuration.maxRetries();
+        this.flushIntervalNanos = configuration.flushInterval().toNanos();
+    }
+
+    /**
+     * Creates a writer that makes the BatchWriteItem calls of the synchronous client on a thread pool with a thread per
+     * batch in flight.
+     */
+    public static DefaultBatchWriter create(BatchWriterConfiguration configuration, DynamoDbClient dynamoDbClient) {
+        int threads = configuration.maxConcurrentBatches();
+        ThreadPoolExecutor executor =
+            new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                                   new ThreadFactoryBuilder().threadNamePrefix("sdk-ddb-batch-writer-worker")
+                                                             .daemonThreads(true)
+                                                             .build());
+        executor.allowCoreThreadTimeOut(true);
+        return new DefaultBatchWriter(configuration,
+                                      request -> CompletableFuture.supplyAsync(() -> dynamoDbClient.batchWriteItem(request),
+                                                                               executor),
+                                      executor);
+    }
+
+    public static DefaultBatchWriter create(BatchWriterConfiguration configuration, DynamoDbAsyncClient dynamoDbAsyncClient) {
+        return new DefaultBatchWriter(configuration, dynamoDbAsyncClient::batchWriteItem, null);
+    }
+
+    @Override
+    public <T> CompletableFuture<Void> putItem(MappedTableResource<T> mappedTable, T item) {
+        return putItem(mappedTable, PutItemEnhancedRequest.builder(mappedTable.tableSchema().itemType().rawClass())
+                                                          .item(item)
+                                                          .build());
+    }
+
+    @Override
+    public <T> CompletableFuture<Void> putItem(MappedTableResource<T> mappedTable, PutItemEnhancedRequest<T> request) {
+        WriteRequest writeRequest =
+            PutItemOperation.create(request).generateWriteRequest(mappedTable.tableSchema(),
+                                                                  DefaultOperationContext.create(mappedTable.tableName()),
+                                                                  mappedTable.mapperExtension());
+        Map<String, AttributeValue> item = writeRequest.putRequest().item();
+        Map<String, AttributeValue> key = new HashMap<>();
+        mappedTable.tableSchema().tableMetadata().primaryKeys().forEach(name -> key.put(name, item.get(name)));
+        return submit(mappedTable.tableName(), writeRequest, key);
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteItem(MappedTableResource<?> mappedTable, Key key) {
+        return submit(mappedTable.tableName(), deleteWriteRequest(mappedTable, key), null);
+    }
+
+    private static <T> WriteRequest deleteWriteRequest(MappedTableResource<T> mappedTable, Key key) {
+        DeleteItemOperation<T> operation = DeleteItemOperation.create(DeleteItemEnhancedRequest.builder().key(key).build());
+        return operation.generateWriteRequest(mappedTable.tableSchema(),
+                                              DefaultOperationContext.create(mappedTable.tableName()),
+                                              mappedTable.mapperExtension());
+    }
+
+    @Override
+    public CompletableFuture<Void> flush() {
+        CompletableFuture<?>[] futures;
+        synchronized (this) {
+            flushSequence = nextSequence - 1;
+            futures = outstandingWrites.stream().map(write -> write.future).toArray(CompletableFuture[]::new);
+        }
+        dispatch();
+        return CompletableFuture.allOf(futures);
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            closed = true;
+            notifyAll();
+        }
+        CompletableFutureUtils.joinInterruptiblyIgnoringFailures(flush());
+        scheduler.shutdownNow();
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    private CompletableFuture<Void> submit(String tableName, WriteRequest writeRequest, Map<String, AttributeValue> key) {
+        Map<String, AttributeValue> itemKey = key != null ? key : writeRequest.deleteRequest().key();
+        PendingWrite write = new PendingWrite(tableName, writeRequest, new ItemKey(tableName, itemKey));
+        synchronized (this) {
+            while (!closed && outstandingWrites.size() >= maxBufferedWrites) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw SdkClientException.create("Interrupted while waiting for space in the batch writer buffer", e);
+                }
+            }
+            if (closed) {
+                throw new IllegalStateException("The batch writer has been closed.");
+            }
+            write.sequence = nextSequence++;
+            write.queuedNanos = System.nanoTime();
+            queuedWrites.addLast(write);
+            outstandingWrites.add(write);
+        }
+        dispatch();
+        return write.future;
+    }
+
+    /**
+     * Sends batches until the maximum number of batches is in flight or no batch is due.
+     */
+    private void dispatch() {
+        while (true) {
+            List<PendingWrite> batch;
+            synchronized (this) {
+                if (batchesInFlight >= maxConcurrentBatches) {
+                    return;
+                }
+                batch = nextBatch();
+                if (batch == null) {
+                    return;
+                }
+                batchesInFlight++;
+            }
+            send(batch);
+        }
+    }
+
+    /**
+     * Removes the next batch from the queue if it is full, or if any of its writes is due because it is retried, was
+     * flushed or has been queued for the flush interval. Otherwise, schedules a timer for when the batch becomes due.
+     */
+    private List<PendingWrite> nextBatch() {
+        List<PendingWrite> batch = new ArrayList<>(maxBatchSize);
+        Set<ItemKey> batchKeys = new HashSet<>();
+        long now = System.nanoTime();
+        long oldestQueuedNanos = now;
+        boolean due = closed;
+
+        for (PendingWrite write : queuedWrites) {
+            if (blockedKeys.contains(write.key) || !batchKeys.add(write.key)) {
+                continue;
+            }
+            batch.add(write);
+            oldestQueuedNanos = Math.min(oldestQueuedNanos, write.queuedNanos);
+            due |= write.attempts > 0 || write.sequence <= flushSequence;
+            if (batch.size() == maxBatchSize) {
+                due = true;
+                break;
+            }
+        }
+
+        if (batch.isEmpty()) {
+            return null;
+        }
+        long delayNanos = oldestQueuedNanos + flushIntervalNanos - now;
+        if (!due && delayNanos > 0) {
+            if (flushTimer == null) {
+                flushTimer = schedule(this::onFlushTimer, delayNanos);
+            }
+            return null;
+        }
+
+        Set<PendingWrite> batchWrites = Collections.newSetFromMap(new IdentityHashMap<>());
+        batchWrites.addAll(batch);
+        queuedWrites.removeIf(batchWrites::contains);
+        blockedKeys.addAll(batchKeys);
+        return batch;
+    }
+
+    private void onFlushTimer() {
+        synchronized (this) {
+            flushTimer = null;
+        }
+        dispatch();
+    }
+
+    private void send(List<PendingWrite> batch) {
+        Map<String, List<WriteRequest>> requestItems = new HashMap<>();
+        batch.forEach(write -> requestItems.computeIfAbsent(write.tableName, t -> new ArrayList<>()).add(write.writeRequest));
+        BatchWriteItemRequest request = BatchWriteItemRequest.builder().requestItems(requestItems).build();
+
+        CompletableFuture<BatchWriteItemResponse> future;
+        try {
+            future = batchWriteItem.apply(request);
+        } catch (Throwable t) {
+            future = CompletableFutureUtils.failedFuture(t);
+        }
+        future.whenComplete((response, throwable) -> onBatchComplete(batch, response, throwable));
+    }
+
+    private void onBatchComplete(List<PendingWrite> batch, BatchWriteItemResponse response, Throwable throwable) {
+        List<PendingWrite> completed = new ArrayList<>();
+        List<PendingWrite> retried = new ArrayList<>();
+        List<PendingWrite> failed = new ArrayList<>();
+        Throwable failure = null;
+
+        if (throwable != null) {
+            failure = unwrapCompletionException(throwable);
+            boolean retryable = isRetryableException(failure);
+            for (PendingWrite write : batch) {
+                (retryable && write.attempts < maxRetries ? retried : failed).add(write);
+            }
+        } else {
+            for (PendingWrite write : batch) {
+                List<WriteRequest> unprocessed = response.unprocessedItems().get(write.tableName);
+                if (unprocessed == null || !unprocessed.contains(write.writeRequest)) {
+                    completed.add(write);
+                } else if (write.attempts < maxRetries) {
+                    retried.add(write);
+                } else {
+                    failed.add(write);
+                }
+            }
+            if (!failed.isEmpty()) {
+                failure = SdkClientException.create("The write was not processed by DynamoDb after " + (maxRetries + 1)
+                                                    + " attempts.");
+            }
+        }
+
+        synchronized (this) {
+            batchesInFlight--;
+            release(completed);
+            release(failed);
+            retried.forEach(write -> write.attempts++);
+        }
+
+        completed.forEach(write -> write.future.complete(null));
+        for (PendingWrite write : failed) {
+            write.future.completeExceptionally(failure);
+        }
+
+        if (!retried.isEmpty()) {
+            int attempts = retried.stream().mapToInt(write -> write.attempts).max().getAsInt();
+            Duration backoff = BACKOFF_STRATEGY.computeDelayBeforeNextRetry(
+                RetryPolicyContext.builder().retriesAttempted(attempts - 1).build());
+            log.debug(() -> String.format("Sending %d writes again in %d ms (attempt %d)", retried.size(), backoff.toMillis(),
+                                          attempts + 1), throwable);
+            if (schedule(() -> requeue(retried), backoff.toNanos()) == null) {
+                requeue(retried);
+            }
+        }
+        dispatch();
+    }
+
+    /**
+     * Returns writes that have to be sent again to the front of the queue, preserving their order, and unblocks their keys.
+     */
+    private void requeue(List<PendingWrite> writes) {
+        synchronized (this) {
+            for (int i = writes.size() - 1; i >= 0; i--) {
+                queuedWrites.addFirst(writes.get(i));
+                blockedKeys.remove(writes.get(i).key);
+            }
+        }
+        dispatch();
+    }
+
+    private void release(List<PendingWrite> writes) {
+        for (PendingWrite write : writes) {
+            blockedKeys.remove(write.key);
+            outstandingWrites.remove(write);
+        }
+        if (!writes.isEmpty()) {
+            notifyAll();
+        }
+    }
+
+    private ScheduledFuture<?> schedule(Runnable task, long delayNanos) {
+        try {
+            return scheduler.schedule(task, delayNanos, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            return null;
+        }
+    }
+
+    private static final class PendingWrite {
+        private final String tableName;
+        private final WriteRequest writeRequest;
+        private final ItemKey key;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+        private long sequence;
+        private long queuedNanos;
+        private int attempts;
+
+        private PendingWrite(String tableName, WriteRequest writeRequest, ItemKey key) {
+            this.tableName = tableName;
+            this.writeRequest = writeRequest;
+            this.key = key;
+        }
+    }
+
+    private static final class ItemKey {
+        private final String tableName;
+        private final Map<String, AttributeValue> key;
+
+        private ItemKey(String tableName, Map<String, AttributeValue> key) {
+            this.tableName = tableName;
+            this.key = key;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            ItemKey that = (ItemKey) o;
+            return tableName.equals(that.tableName) && key.equals(that.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * tableName.hashCode() + key.hashCode();
+        }
+    }
+}
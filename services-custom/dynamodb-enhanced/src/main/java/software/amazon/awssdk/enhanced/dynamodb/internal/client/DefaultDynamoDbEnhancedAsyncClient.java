@@ -17,15 +17,20 @@ package software.amazon.awssdk.enhanced.dynamodb.internal.client;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.NotThreadSafe;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.enhanced.dynamodb.BatchWriter;
 import software.amazon.awssdk.enhanced.dynamodb.Document;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClientExtension;
 import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.TransactionPipeline;
 import software.amazon.awssdk.enhanced.dynamodb.internal.operations.BatchGetItemOperation;
 import software.amazon.awssdk.enhanced.dynamodb.internal.operations.BatchWriteItemOperation;
 import software.amazon.awssdk.enhanced.dynamodb.internal.operations.TransactGetItemsOperation;
@@ -34,18 +39,28 @@ import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetItemEnhancedReques
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetResultPagePublisher;
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteResult;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriterConfiguration;
+import software.amazon.awssdk.enhanced.dynamodb.model.GetItemCoalescingConfiguration;
 import software.amazon.awssdk.enhanced.dynamodb.model.TransactGetItemsEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.TransactWriteItemsEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.TransactionPipelineConfiguration;
 import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
 
 @SdkInternalApi
 public final class DefaultDynamoDbEnhancedAsyncClient implements DynamoDbEnhancedAsyncClient {
     private final DynamoDbAsyncClient dynamoDbClient;
     private final DynamoDbEnhancedClientExtension extension;
+    private final Map<String, TableSchema<?>> tableSchemas = new ConcurrentHashMap<>();
+    private final GetItemCoalescingConfiguration getItemCoalescingConfiguration;
+    private final GetItemCoalescer getItemCoalescer;
 
     private DefaultDynamoDbEnhancedAsyncClient(Builder builder) {
         this.dynamoDbClient = builder.dynamoDbClient == null ? DynamoDbAsyncClient.create() : builder.dynamoDbClient;
         this.extension = ExtensionResolver.resolveExtensions(builder.dynamoDbEnhancedClientExtensions);
+        this.getItemCoalescingConfiguration = builder.getItemCoalescingConfiguration;
+        this.getItemCoalescer = getItemCoalescingConfiguration == null
+                                ? null
+                                : GetItemCoalescer.create(dynamoDbClient, getItemCoalescingConfiguration);
     }
 
     public static Builder builder() {
@@ -54,7 +69,8 @@ public final class DefaultDynamoDbEnhancedAsyncClient implements DynamoDbEnhance
 
     @Override
     public <T> DefaultDynamoDbAsyncTable<T> table(String tableName, TableSchema<T> tableSchema) {
-        return new DefaultDynamoDbAsyncTable<>(dynamoDbClient, extension, tableSchema, tableName);
+        tableSchemas.putIfAbsent(tableName, tableSchema);
+        return new DefaultDynamoDbAsyncTable<>(dynamoDbClient, extension, tableSchema, tableName, getItemCoalescer);
     }
 
     @Override
@@ -87,6 +103,23 @@ public final class DefaultDynamoDbEnhancedAsyncClient implements DynamoDbEnhance
         return batchWriteItem(builder.build());
     }
 
+    @Override
+    public BatchWriter batchWriter(BatchWriterConfiguration configuration) {
+        return DefaultBatchWriter.create(configuration, dynamoDbClient);
+    }
+
+    @Override
+    public BatchWriter batchWriter(Consumer<BatchWriterConfiguration.Builder> configurationConsumer) {
+        BatchWriterConfiguration.Builder builder = BatchWriterConfiguration.builder();
+        configurationConsumer.accept(builder);
+        return batchWriter(builder.build());
+    }
+
+    @Override
+    public BatchWriter batchWriter() {
+        return batchWriter(BatchWriterConfiguration.builder().build());
+    }
+
     @Override
     public CompletableFuture<List<Document>> transactGetItems(TransactGetItemsEnhancedRequest request) {
         TransactGetItemsOperation operation = TransactGetItemsOperation.create(request);
@@ -116,6 +149,30 @@ public final class DefaultDynamoDbEnhancedAsyncClient implements DynamoDbEnhance
         return transactWriteItems(builder.build());
     }
 
+    @Override
+    public TransactionPipeline transactionPipeline(TransactionPipelineConfiguration configuration) {
+        return DefaultTransactionPipeline.create(configuration, dynamoDbClient, this::primaryKeyAttributeNames);
+    }
+
+    @Override
+    public TransactionPipeline transactionPipeline(Consumer<TransactionPipelineConfiguration.Builder> configurationConsumer) {
+        TransactionPipelineConfiguration.Builder builder = TransactionPipelineConfiguration.builder();
+        configurationConsumer.accept(builder);
+        return transactionPipeline(builder.build());
+    }
+
+    @Override
+    public TransactionPipeline transactionPipeline() {
+        return transactionPipeline(TransactionPipelineConfiguration.builder().build());
+    }
+
+    @Override
+    public void close() {
+        if (getItemCoalescer != null) {
+            getItemCoalescer.close();
+        }
+    }
+
     public DynamoDbAsyncClient dynamoDbAsyncClient() {
         return dynamoDbClient;
     }
@@ -125,7 +182,9 @@ public final class DefaultDynamoDbEnhancedAsyncClient implements DynamoDbEnhance
     }
 
     public Builder toBuilder() {
-        return builder().dynamoDbClient(this.dynamoDbClient).extensions(this.extension);
+        return builder().dynamoDbClient(this.dynamoDbClient)
+                        .extensions(this.extension)
+                        .getItemCoalescing(this.getItemCoalescingConfiguration);
     }
 
     @Override
@@ -154,11 +213,20 @@ public final class DefaultDynamoDbEnhancedAsyncClient implements DynamoDbEnhance
         return result;
     }
 
+    /**
+     * Returns the names of the primary key attributes of a table created by this client, or null if it is not known.
+     */
+    private Collection<String> primaryKeyAttributeNames(String tableName) {
+        TableSchema<?> tableSchema = tableSchemas.get(tableName);
+        return tableSchema == null ? null : tableSchema.tableMetadata().primaryKeys();
+    }
+
     @NotThreadSafe
     public static final class Builder implements DynamoDbEnhancedAsyncClient.Builder {
         private DynamoDbAsyncClient dynamoDbClient;
         private List<DynamoDbEnhancedClientExtension> dynamoDbEnhancedClientExtensions =
             new ArrayList<>(ExtensionResolver.defaultExtensions());
+        private GetItemCoalescingConfiguration getItemCoalescingConfiguration;
 
         @Override
         public DefaultDynamoDbEnhancedAsyncClient build() {
@@ -182,5 +250,11 @@ public final class DefaultDynamoDbEnhancedAsyncClient implements DynamoDbEnhance
             this.dynamoDbEnhancedClientExtensions = new ArrayList<>(dynamoDbEnhancedClientExtensions);
             return this;
         }
+
+        @Override
+        public Builder getItemCoalescing(GetItemCoalescingConfiguration getItemCoalescingConfiguration) {
+            this.getItemCoalescingConfiguration = getItemCoalescingConfiguration;
+            return this;
+        }
     }
 }
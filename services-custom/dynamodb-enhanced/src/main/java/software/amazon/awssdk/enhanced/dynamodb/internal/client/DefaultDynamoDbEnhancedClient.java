@@ -17,14 +17,19 @@ package software.amazon.awssdk.enhanced.dynamodb.internal.client;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.NotThreadSafe;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.enhanced.dynamodb.BatchWriter;
 import software.amazon.awssdk.enhanced.dynamodb.Document;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClientExtension;
 import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.TransactionPipeline;
 import software.amazon.awssdk.enhanced.dynamodb.internal.operations.BatchGetItemOperation;
 import software.amazon.awssdk.enhanced.dynamodb.internal.operations.BatchWriteItemOperation;
 import software.amazon.awssdk.enhanced.dynamodb.internal.operations.TransactGetItemsOperation;
@@ -33,14 +38,17 @@ import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetItemEnhancedReques
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetResultPageIterable;
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteResult;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriterConfiguration;
 import software.amazon.awssdk.enhanced.dynamodb.model.TransactGetItemsEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.TransactWriteItemsEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.TransactionPipelineConfiguration;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 
 @SdkInternalApi
 public final class DefaultDynamoDbEnhancedClient implements DynamoDbEnhancedClient {
     private final DynamoDbClient dynamoDbClient;
     private final DynamoDbEnhancedClientExtension extension;
+    private final Map<String, TableSchema<?>> tableSchemas = new ConcurrentHashMap<>();
 
     private DefaultDynamoDbEnhancedClient(Builder builder) {
         this.dynamoDbClient = builder.dynamoDbClient == null ? DynamoDbClient.create() : builder.dynamoDbClient;
@@ -53,6 +61,7 @@ public final class DefaultDynamoDbEnhancedClient implements DynamoDbEnhancedClie
 
     @Override
     public <T> DefaultDynamoDbTable<T> table(String tableName, TableSchema<T> tableSchema) {
+        tableSchemas.putIfAbsent(tableName, tableSchema);
         return new DefaultDynamoDbTable<>(dynamoDbClient, extension, tableSchema, tableName);
     }
 
@@ -82,6 +91,23 @@ public final class DefaultDynamoDbEnhancedClient implements DynamoDbEnhancedClie
         return batchWriteItem(builder.build());
     }
 
+    @Override
+    public BatchWriter batchWriter(BatchWriterConfiguration configuration) {
+        return DefaultBatchWriter.create(configuration, dynamoDbClient);
+    }
+
+    @Override
+    public BatchWriter batchWriter(Consumer<BatchWriterConfiguration.Builder> configurationConsumer) {
+        BatchWriterConfiguration.Builder builder = BatchWriterConfiguration.builder();
+        configurationConsumer.accept(builder);
+        return batchWriter(builder.build());
+    }
+
+    @Override
+    public BatchWriter batchWriter() {
+        return batchWriter(BatchWriterConfiguration.builder().build());
+    }
+
     @Override
     public List<Document> transactGetItems(TransactGetItemsEnhancedRequest request) {
         TransactGetItemsOperation operation = TransactGetItemsOperation.create(request);
@@ -110,6 +136,23 @@ public final class DefaultDynamoDbEnhancedClient implements DynamoDbEnhancedClie
         return transactWriteItems(builder.build());
     }
 
+    @Override
+    public TransactionPipeline transactionPipeline(TransactionPipelineConfiguration configuration) {
+        return DefaultTransactionPipeline.create(configuration, dynamoDbClient, this::primaryKeyAttributeNames);
+    }
+
+    @Override
+    public TransactionPipeline transactionPipeline(Consumer<TransactionPipelineConfiguration.Builder> configurationConsumer) {
+        TransactionPipelineConfiguration.Builder builder = TransactionPipelineConfiguration.builder();
+        configurationConsumer.accept(builder);
+        return transactionPipeline(builder.build());
+    }
+
+    @Override
+    public TransactionPipeline transactionPipeline() {
+        return transactionPipeline(TransactionPipelineConfiguration.builder().build());
+    }
+
     public DynamoDbClient dynamoDbClient() {
         return dynamoDbClient;
     }
@@ -149,6 +192,14 @@ public final class DefaultDynamoDbEnhancedClient implements DynamoDbEnhancedClie
         return result;
     }
 
+    /**
+     * Returns the names of the primary key attributes of a table created by this client, or null if it is not known.
+     */
+    private Collection<String> primaryKeyAttributeNames(String tableName) {
+        TableSchema<?> tableSchema = tableSchemas.get(tableName);
+        return tableSchema == null ? null : tableSchema.tableMetadata().primaryKeys();
+    }
+
     @NotThreadSafe
     public static final class Builder implements DynamoDbEnhancedClient.Builder {
         private DynamoDbClient dynamoDbClient;
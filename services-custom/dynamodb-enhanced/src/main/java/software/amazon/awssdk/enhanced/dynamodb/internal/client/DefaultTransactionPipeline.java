@@ -0,0 +1,371 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.client;
+
+import static software.amazon.awssdk.enhanced.dynamodb.internal.EnhancedClientUtils.unwrapCompletionException;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.retry.RetryPolicyContext;
+import software.amazon.awssdk.core.retry.backoff.BackoffStrategy;
+import software.amazon.awssdk.enhanced.dynamodb.TransactionPipeline;
+import software.amazon.awssdk.enhanced.dynamodb.internal.operations.TransactWriteItemsOperation;
+import software.amazon.awssdk.enhanced.dynamodb.model.TransactWriteItemsEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.TransactionPipelineConfiguration;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItem;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsResponse;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+
+/**
+ * The default {@link TransactionPipeline}.
+ * <p>
+ * Submitted transactions are queued in submission order, and each transaction locks the items it writes or checks while it
+ * is in flight or waiting to be sent again. A queued transaction is sent if none of its items is locked or part of a
+ * transaction queued before it, so that conflicting transactions are sent one at a time in submission order while the
+ * transactions behind them that do not conflict are sent concurrently.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class DefaultTransactionPipeline implements TransactionPipeline {
+    private static final Logger log = Logger.loggerFor(DefaultTransactionPipeline.class);
+    private static final BackoffStrategy BACKOFF_STRATEGY = BackoffStrategy.defaultThrottlingStrategy();
+    private static final Set<String> RETRYABLE_CANCELLATION_CODES;
+
+    static {
+        Set<String> codes = new HashSet<>();
+        codes.add("None");
+        codes.add("TransactionConflict");
+        codes.add("ThrottlingError");
+        codes.add("ProvisionedThroughputExceeded");
+        RETRYABLE_CANCELLATION_CODES = Collections.unmodifiableSet(codes);
+    }
+
+    private final Function<TransactWriteItemsRequest, CompletableFuture<TransactWriteItemsResponse>> transactWriteItems;
+    private final Function<String, Collection<String>> primaryKeyAttributeNames;
+    private final ExecutorService executor;
+    private final ScheduledExecutorService scheduler;
+    private final int maxConcurrentTransactions;
+    private final int maxPendingTransactions;
+    private final int maxRetries;
+
+    private final Deque<PendingTransaction> queuedTransactions = new ArrayDeque<>();
+    private final Set<PendingTransaction> outstandingTransactions = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Set<ItemKey> lockedKeys = new HashSet<>();
+    private int transactionsInFlight;
+    private boolean closed;
+
+    private DefaultTransactionPipeline(
+        TransactionPipelineConfiguration configuration,
+        Function<TransactWriteItemsRequest, CompletableFuture<TransactWriteItemsResponse>> transactWriteItems,
+        Function<String, Collection<String>> primaryKeyAttributeNames,
+        ExecutorService executor) {
+        this.transactWriteItems = transactWriteItems;
+        this.primaryKeyAttributeNames = primaryKeyAttributeNames;
+        this.executor = executor;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder().threadNamePrefix("sdk-ddb-transaction-pipeline").daemonThreads(true).build());
+        this.maxConcurrentTransactions = configuration.maxConcurrentTransactions();
+        this.maxPendingTransactions = configuration.maxPendingTransactions();
+        this.maxRetries = configuration.maxRetries();
+    }
+
+    /**
+     * Creates a pipeline that makes the TransactWriteItems calls of the synchronous client on a thread pool with a thread
+     * per transaction in flight. The names of the primary key attributes of a table, or null if they are not known, are used
+     * to identify the items written by put actions.
+     */
+    public static DefaultTransactionPipeline create(TransactionPipelineConfiguration configuration,
+                                                    DynamoDbClient dynamoDbClient,
+                                                    Function<String, Collection<String>> primaryKeyAttributeNames) {
+        int threads = configuration.maxConcurrentTransactions();
+        ThreadPoolExecutor executor =
+            new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                                   new ThreadFactoryBuilder().threadNamePrefix("sdk-ddb-transaction-pipeline-worker")
+                                                             .daemonThreads(true)
+                                                             .build());
+        executor.allowCoreThreadTimeOut(true);
+        return new DefaultTransactionPipeline(
+            configuration,
+            request -> CompletableFuture.supplyAsync(() -> dynamoDbClient.transactWriteItems(request), executor),
+            primaryKeyAttributeNames,
+            executor);
+    }
+
+    public static DefaultTransactionPipeline create(TransactionPipelineConfiguration configuration,
+                                                    DynamoDbAsyncClient dynamoDbAsyncClient,
+                                                    Function<String, Collection<String>> primaryKeyAttributeNames) {
+        return new DefaultTransactionPipeline(configuration, dynamoDbAsyncClient::transactWriteItems,
+                                              primaryKeyAttributeNames, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> transactWriteItems(TransactWriteItemsEnhancedRequest request) {
+        TransactWriteItemsRequest transactWriteItemsRequest = TransactWriteItemsOperation.create(request).generateRequest(null);
+        PendingTransaction transaction = new PendingTransaction(transactWriteItemsRequest, itemKeys(request));
+        synchronized (this) {
+            while (!closed && outstandingTransactions.size() >= maxPendingTransactions) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw SdkClientException.create("Interrupted while waiting for space in the transaction pipeline", e);
+                }
+            }
+            if (closed) {
+                throw new IllegalStateException("The transaction pipeline has been closed.");
+            }
+            queuedTransactions.addLast(transaction);
+            outstandingTransactions.add(transaction);
+        }
+        dispatch();
+        return transaction.future;
+    }
+
+    @Override
+    public void close() {
+        CompletableFuture<?>[] futures;
+        synchronized (this) {
+            closed = true;
+            notifyAll();
+            futures = outstandingTransactions.stream().map(transaction -> transaction.future)
+                                             .toArray(CompletableFuture[]::new);
+        }
+        CompletableFutureUtils.joinInterruptiblyIgnoringFailures(CompletableFuture.allOf(futures));
+        scheduler.shutdownNow();
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Sends transactions until the maximum number of transactions is in flight or no queued transaction can be sent.
+     */
+    private void dispatch() {
+        while (true) {
+            PendingTransaction transaction;
+            synchronized (this) {
+                if (transactionsInFlight >= maxConcurrentTransactions) {
+                    return;
+                }
+                transaction = nextTransaction();
+                if (transaction == null) {
+                    return;
+                }
+                transactionsInFlight++;
+            }
+            send(transaction);
+        }
+    }
+
+    /**
+     * Removes the first queued transaction that does not conflict with a locked item or with a transaction queued before it,
+     * and locks its items. A transaction that is sent again already holds the locks on its items.
+     */
+    private PendingTransaction nextTransaction() {
+        Set<ItemKey> claimedKeys = new HashSet<>();
+        Iterator<PendingTransaction> iterator = queuedTransactions.iterator();
+        while (iterator.hasNext()) {
+            PendingTransaction transaction = iterator.next();
+            if (transaction.attempts > 0
+                || !containsAny(lockedKeys, transaction.keys) && !containsAny(claimedKeys, transaction.keys)) {
+                iterator.remove();
+                lockedKeys.addAll(transaction.keys);
+                return transaction;
+            }
+            claimedKeys.addAll(transaction.keys);
+        }
+        return null;
+    }
+
+    private void send(PendingTransaction transaction) {
+        CompletableFuture<TransactWriteItemsResponse> future;
+        try {
+            future = transactWriteItems.apply(transaction.request);
+        } catch (Throwable t) {
+            future = CompletableFutureUtils.failedFuture(t);
+        }
+        future.whenComplete((response, throwable) -> onTransactionComplete(transaction, throwable));
+    }
+
+    private void onTransactionComplete(PendingTransaction transaction, Throwable throwable) {
+        Throwable failure = throwable == null ? null : unwrapCompletionException(throwable);
+        boolean retry = failure != null && transaction.attempts < maxRetries && isRetryable(failure);
+
+        synchronized (this) {
+            transactionsInFlight--;
+            if (retry) {
+                transaction.attempts++;
+            } else {
+                lockedKeys.removeAll(transaction.keys);
+                outstandingTransactions.remove(transaction);
+                notifyAll();
+            }
+        }
+
+        if (retry) {
+            Duration backoff = BACKOFF_STRATEGY.computeDelayBeforeNextRetry(
+                RetryPolicyContext.builder().retriesAttempted(transaction.attempts - 1).build());
+            log.debug(() -> String.format("Sending transaction again in %d ms (attempt %d)", backoff.toMillis(),
+                                          transaction.attempts + 1), failure);
+            try {
+                scheduler.schedule(() -> requeue(transaction), backoff.toNanos(), TimeUnit.NANOSECONDS);
+            } catch (RejectedExecutionException e) {
+                requeue(transaction);
+            }
+        } else if (failure != null) {
+            transaction.future.completeExceptionally(failure);
+        } else {
+            transaction.future.complete(null);
+        }
+        dispatch();
+    }
+
+    /**
+     * Returns a transaction that has to be sent again to the front of the queue. Its items stay locked, so that the
+     * transactions that conflict with it are not sent in the meantime.
+     */
+    private void requeue(PendingTransaction transaction) {
+        synchronized (this) {
+            queuedTransactions.addFirst(transaction);
+        }
+        dispatch();
+    }
+
+    /**
+     * A transaction is sent again only if it was cancelled because of a conflict with another transaction or because of
+     * throttling, in which case none of its writes were applied. Other errors, such as timeouts, are left to the retry policy
+     * of the low-level client, since the transaction may have been committed and sending it again could apply it twice.
+     */
+    private static boolean isRetryable(Throwable failure) {
+        if (!(failure instanceof TransactionCanceledException)) {
+            return false;
+        }
+        TransactionCanceledException exception = (TransactionCanceledException) failure;
+        return exception.hasCancellationReasons()
+               && exception.cancellationReasons().stream()
+                           .allMatch(reason -> reason.code() == null
+                                               || RETRYABLE_CANCELLATION_CODES.contains(reason.code()));
+    }
+
+    private static boolean containsAny(Set<ItemKey> keys, Set<ItemKey> candidates) {
+        if (keys.isEmpty()) {
+            return false;
+        }
+        for (ItemKey candidate : candidates) {
+            if (keys.contains(candidate)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the keys of the items written or checked by a transaction. The key of a put action is projected from its item
+     * using the primary key attributes of the table, or is the whole item if they are not known.
+     */
+    private Set<ItemKey> itemKeys(TransactWriteItemsEnhancedRequest request) {
+        Set<ItemKey> keys = new HashSet<>();
+        for (TransactWriteItem item : request.transactWriteItems()) {
+            if (item.put() != null) {
+                String tableName = item.put().tableName();
+                keys.add(new ItemKey(tableName, projectKey(item.put().item(), primaryKeyAttributeNames.apply(tableName))));
+            } else if (item.update() != null) {
+                keys.add(new ItemKey(item.update().tableName(), item.update().key()));
+            } else if (item.delete() != null) {
+                keys.add(new ItemKey(item.delete().tableName(), item.delete().key()));
+            } else if (item.conditionCheck() != null) {
+                keys.add(new ItemKey(item.conditionCheck().tableName(), item.conditionCheck().key()));
+            }
+        }
+        return keys;
+    }
+
+    private static Map<String, AttributeValue> projectKey(Map<String, AttributeValue> item, Collection<String> keyNames) {
+        if (keyNames == null) {
+            return item;
+        }
+        Map<String, AttributeValue> key = new HashMap<>();
+        keyNames.forEach(name -> key.put(name, item.get(name)));
+        return key;
+    }
+
+    private static final class PendingTransaction {
+        private final TransactWriteItemsRequest request;
+        private final Set<ItemKey> keys;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+        private int attempts;
+
+        private PendingTransaction(TransactWriteItemsRequest request, Set<ItemKey> keys) {
+            this.request = request;
+            this.keys = keys;
+        }
+    }
+
+    private static final class ItemKey {
+        private final String tableName;
+        private final Map<String, AttributeValue> key;
+
+        private ItemKey(String tableName, Map<String, AttributeValue> key) {
+            this.tableName = tableName;
+            this.key = key;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            ItemKey that = (ItemKey) o;
+            return tableName.equals(that.tableName) && key.equals(that.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * tableName.hashCode() + key.hashCode();
+        }
+    }
+}
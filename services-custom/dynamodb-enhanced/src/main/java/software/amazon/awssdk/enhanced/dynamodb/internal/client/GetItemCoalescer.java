@@ -0,0 +1,381 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.client;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonMap;
+import static software.amazon.awssdk.enhanced.dynamodb.internal.EnhancedClientUtils.isRetryableException;
+import static software.amazon.awssdk.enhanced.dynamodb.internal.EnhancedClientUtils.unwrapCompletionException;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.retry.RetryPolicyContext;
+import software.amazon.awssdk.core.retry.backoff.BackoffStrategy;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClientExtension;
+import software.amazon.awssdk.enhanced.dynamodb.OperationContext;
+import software.amazon.awssdk.enhanced.dynamodb.TableMetadata;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.internal.EnhancedClientUtils;
+import software.amazon.awssdk.enhanced.dynamodb.internal.operations.DefaultOperationContext;
+import software.amazon.awssdk.enhanced.dynamodb.internal.operations.OperationName;
+import software.amazon.awssdk.enhanced.dynamodb.model.GetItemCoalescingConfiguration;
+import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+
+/**
+ * Coalesces concurrent getItem() operations of the tables of an enhanced async client into BatchGetItem calls.
+ * <p>
+ * Operations are grouped by table and read consistency, since a BatchGetItem call can only specify the consistency per
+ * table. A group is sent once the coalescing window of its first key has elapsed, or as soon as it is full. Operations on the
+ * same key share a single key of the call, after the numbers in the key have been normalized the same way DynamoDb normalizes
+ * them. Keys that DynamoDb reports as unprocessed are requested again with a backoff. Keys whose items cannot be told apart
+ * from the response, and keys of a call that failed with a non-retryable service error, are requested with a GetItem call
+ * each, so that the result of one key does not affect the others.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class GetItemCoalescer implements SdkAutoCloseable {
+    private static final Logger log = Logger.loggerFor(GetItemCoalescer.class);
+    private static final BackoffStrategy BACKOFF_STRATEGY = BackoffStrategy.defaultThrottlingStrategy();
+
+    private final DynamoDbAsyncClient dynamoDbClient;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final int maxRetries;
+    private final Map<GroupKey, PendingBatch> pendingBatches = new HashMap<>();
+    private ScheduledExecutorService scheduler;
+    private boolean closed;
+
+    private GetItemCoalescer(DynamoDbAsyncClient dynamoDbClient, GetItemCoalescingConfiguration configuration) {
+        this.dynamoDbClient = dynamoDbClient;
+        this.windowNanos = configuration.window().toNanos();
+        this.maxBatchSize = configuration.maxBatchSize();
+        this.maxRetries = configuration.maxRetries();
+    }
+
+    public static GetItemCoalescer create(DynamoDbAsyncClient dynamoDbClient, GetItemCoalescingConfiguration configuration) {
+        return new GetItemCoalescer(dynamoDbClient, configuration);
+    }
+
+    public <T> CompletableFuture<T> getItem(TableSchema<T> tableSchema,
+                                            String tableName,
+                                            DynamoDbEnhancedClientExtension extension,
+                                            GetItemEnhancedRequest request) {
+        OperationContext context = DefaultOperationContext.create(tableName, TableMetadata.primaryIndexName());
+        Map<String, AttributeValue> key = normalizeKey(request.key().keyMap(tableSchema, context.indexName()));
+        ItemReader<T> reader = new ItemReader<>(tableSchema, context, extension);
+
+        Map<String, AttributeValue> extensionItem =
+            EnhancedClientUtils.readItemFromExtension(key, tableSchema, context, extension, OperationName.GET_ITEM,
+                                                      request.consistentRead());
+        if (extensionItem != null) {
+            reader.complete(extensionItem);
+            return reader.future;
+        }
+        GroupKey groupKey = new GroupKey(tableName, Boolean.TRUE.equals(request.consistentRead()));
+
+        PendingBatch fullBatch = null;
+        synchronized (this) {
+            if (closed) {
+                reader.future.completeExceptionally(new IllegalStateException("The enhanced client has been closed."));
+                return reader.future;
+            }
+            PendingBatch batch = pendingBatches.get(groupKey);
+            if (batch == null) {
+                PendingBatch newBatch = new PendingBatch(groupKey);
+                newBatch.timer = scheduler().schedule(() -> onWindowElapsed(newBatch), windowNanos, TimeUnit.NANOSECONDS);
+                pendingBatches.put(groupKey, newBatch);
+                batch = newBatch;
+            }
+            batch.readers.computeIfAbsent(key, k -> new ArrayList<>()).add(reader);
+            if (batch.readers.size() >= maxBatchSize) {
+                pendingBatches.remove(groupKey);
+                batch.timer.cancel(false);
+                fullBatch = batch;
+            }
+        }
+
+        if (fullBatch != null) {
+            send(groupKey, fullBatch.readers, 0);
+        }
+        return reader.future;
+    }
+
+    private void onWindowElapsed(PendingBatch batch) {
+        synchronized (this) {
+            if (!pendingBatches.remove(batch.groupKey, batch)) {
+                return;
+            }
+        }
+        send(batch.groupKey, batch.readers, 0);
+    }
+
+    private void send(GroupKey groupKey, Map<Map<String, AttributeValue>, List<ItemReader<?>>> readers, int retries) {
+        KeysAndAttributes keysAndAttributes = KeysAndAttributes.builder()
+                                                               .keys(readers.keySet())
+                                                               .consistentRead(groupKey.consistentRead ? Boolean.TRUE : null)
+                                                               .build();
+        BatchGetItemRequest request = BatchGetItemRequest.builder()
+                                                         .requestItems(singletonMap(groupKey.tableName, keysAndAttributes))
+                                                         .build();
+
+        CompletableFuture<BatchGetItemResponse> future;
+        try {
+            future = dynamoDbClient.batchGetItem(request);
+        } catch (Throwable t) {
+            future = CompletableFutureUtils.failedFuture(t);
+        }
+        future.whenComplete((response, throwable) -> {
+            if (throwable != null) {
+                Throwable cause = unwrapCompletionException(throwable);
+                if (readers.size() > 1 && cause instanceof DynamoDbException && !isRetryableException(cause)) {
+                    // The error may be caused by a single key, such as one that does not match the key schema of the table
+                    log.debug(() -> String.format("Requesting %d keys of table %s one by one after the batch failed",
+                                                  readers.size(), groupKey.tableName), cause);
+                    readers.forEach((key, keyReaders) -> getItem(groupKey, key, keyReaders));
+                } else {
+                    readers.values().forEach(keyReaders -> fail(keyReaders, cause));
+                }
+            } else {
+                onResponse(groupKey, readers, retries, response);
+            }
+        });
+    }
+
+    private void onResponse(GroupKey groupKey,
+                            Map<Map<String, AttributeValue>, List<ItemReader<?>>> readers,
+                            int retries,
+                            BatchGetItemResponse response) {
+        Map<Map<String, AttributeValue>, List<ItemReader<?>>> remaining = new HashMap<>(readers);
+        Set<String> keyAttributes = readers.keySet().iterator().next().keySet();
+        boolean allItemsMatched = true;
+
+        for (Map<String, AttributeValue> item : response.responses().getOrDefault(groupKey.tableName, emptyList())) {
+            Map<String, AttributeValue> key = new HashMap<>();
+            keyAttributes.forEach(name -> key.put(name, item.get(name)));
+            List<ItemReader<?>> keyReaders = remaining.remove(normalizeKey(key));
+            if (keyReaders != null) {
+                keyReaders.forEach(reader -> reader.complete(item));
+            } else {
+                allItemsMatched = false;
+            }
+        }
+
+        Map<Map<String, AttributeValue>, List<ItemReader<?>>> unprocessed = new LinkedHashMap<>();
+        KeysAndAttributes unprocessedKeys = response.unprocessedKeys().get(groupKey.tableName);
+        if (unprocessedKeys != null) {
+            unprocessedKeys.keys().forEach(key -> {
+                Map<String, AttributeValue> normalizedKey = normalizeKey(key);
+                List<ItemReader<?>> keyReaders = remaining.remove(normalizedKey);
+                if (keyReaders != null) {
+                    unprocessed.put(normalizedKey, keyReaders);
+                }
+            });
+        }
+
+        if (allItemsMatched) {
+            // Keys that were neither returned nor unprocessed do not exist
+            remaining.values().forEach(keyReaders -> keyReaders.forEach(reader -> reader.complete(null)));
+        } else {
+            // One of the returned items may belong to any of the remaining keys, so ask for each of them
+            remaining.forEach((key, keyReaders) -> getItem(groupKey, key, keyReaders));
+        }
+
+        if (unprocessed.isEmpty()) {
+            return;
+        }
+        if (retries >= maxRetries) {
+            SdkClientException exception = SdkClientException.create("The key was not processed by DynamoDb after "
+                                                                      + (maxRetries + 1) + " attempts.");
+            unprocessed.values().forEach(keyReaders -> fail(keyReaders, exception));
+            return;
+        }
+
+        Duration backoff = BACKOFF_STRATEGY.computeDelayBeforeNextRetry(
+            RetryPolicyContext.builder().retriesAttempted(retries).build());
+        log.debug(() -> String.format("Requesting %d unprocessed keys of table %s again in %d ms", unprocessed.size(),
+                                      groupKey.tableName, backoff.toMillis()));
+        try {
+            scheduler().schedule(() -> send(groupKey, unprocessed, retries + 1), backoff.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            IllegalStateException exception = new IllegalStateException("The enhanced client has been closed.", e);
+            unprocessed.values().forEach(keyReaders -> fail(keyReaders, exception));
+        }
+    }
+
+    private void getItem(GroupKey groupKey, Map<String, AttributeValue> key, List<ItemReader<?>> keyReaders) {
+        GetItemRequest request = GetItemRequest.builder()
+                                               .tableName(groupKey.tableName)
+                                               .key(key)
+                                               .consistentRead(groupKey.consistentRead ? Boolean.TRUE : null)
+                                               .build();
+        CompletableFuture<GetItemResponse> future;
+        try {
+            future = dynamoDbClient.getItem(request);
+        } catch (Throwable t) {
+            future = CompletableFutureUtils.failedFuture(t);
+        }
+        future.whenComplete((response, throwable) -> {
+            if (throwable != null) {
+                fail(keyReaders, unwrapCompletionException(throwable));
+            } else {
+                keyReaders.forEach(reader -> reader.complete(response.item()));
+            }
+        });
+    }
+
+    private static void fail(List<ItemReader<?>> keyReaders, Throwable cause) {
+        keyReaders.forEach(reader -> reader.future.completeExceptionally(cause));
+    }
+
+    /**
+     * Returns the key with its numbers in the form DynamoDb returns them in, such as 1 for 1.0, so that the keys of the returned
+     * items match the requested keys.
+     */
+    static Map<String, AttributeValue> normalizeKey(Map<String, AttributeValue> key) {
+        Map<String, AttributeValue> normalizedKey = null;
+        for (Map.Entry<String, AttributeValue> entry : key.entrySet()) {
+            String number = entry.getValue() == null ? null : entry.getValue().n();
+            if (number == null) {
+                continue;
+            }
+            String normalizedNumber = normalizeNumber(number);
+            if (!normalizedNumber.equals(number)) {
+                if (normalizedKey == null) {
+                    normalizedKey = new HashMap<>(key);
+                }
+                normalizedKey.put(entry.getKey(), AttributeValue.fromN(normalizedNumber));
+            }
+        }
+        return normalizedKey == null ? key : normalizedKey;
+    }
+
+    private static String normalizeNumber(String number) {
+        BigDecimal value;
+        try {
+            value = new BigDecimal(number);
+        } catch (NumberFormatException e) {
+            // DynamoDb rejects the key
+            return number;
+        }
+        return value.signum() == 0 ? "0" : value.stripTrailingZeros().toPlainString();
+    }
+
+    private synchronized ScheduledExecutorService scheduler() {
+        if (scheduler == null) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder().threadNamePrefix("sdk-ddb-get-item-coalescer").daemonThreads(true).build());
+        }
+        return scheduler;
+    }
+
+    /**
+     * Stops accepting new operations. Operations that are already waiting for their coalescing window are still sent.
+     */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+    }
+
+    private static final class ItemReader<T> {
+        private final TableSchema<T> tableSchema;
+        private final OperationContext context;
+        private final DynamoDbEnhancedClientExtension extension;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+        private final long readStartedNanos = System.nanoTime();
+
+        private ItemReader(TableSchema<T> tableSchema, OperationContext context, DynamoDbEnhancedClientExtension extension) {
+            this.tableSchema = tableSchema;
+            this.context = context;
+            this.extension = extension;
+        }
+
+        private void complete(Map<String, AttributeValue> item) {
+            try {
+                future.complete(EnhancedClientUtils.readAndTransformSingleItem(item, tableSchema, context, extension,
+                                                                               OperationName.GET_ITEM, readStartedNanos));
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        }
+    }
+
+    private static final class PendingBatch {
+        private final GroupKey groupKey;
+        private final Map<Map<String, AttributeValue>, List<ItemReader<?>>> readers = new LinkedHashMap<>();
+        private ScheduledFuture<?> timer;
+
+        private PendingBatch(GroupKey groupKey) {
+            this.groupKey = groupKey;
+        }
+    }
+
+    private static final class GroupKey {
+        private final String tableName;
+        private final boolean consistentRead;
+
+        private GroupKey(String tableName, boolean consistentRead) {
+            this.tableName = tableName;
+            this.consistentRead = consistentRead;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            GroupKey that = (GroupKey) o;
+            return consistentRead == that.consistentRead && tableName.equals(that.tableName);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * tableName.hashCode() + (consistentRead ? 1 : 0);
+        }
+    }
+}
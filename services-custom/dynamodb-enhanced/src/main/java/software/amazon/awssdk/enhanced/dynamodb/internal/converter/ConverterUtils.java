@@ -38,7 +38,7 @@ public class ConverterUtils {
      * Validates that a given Double input is a valid double supported by {@link DoubleAttributeConverter}.
      * @param input
      */
-    public static void validateDouble(Double input) {
+    public static void validateDouble(double input) {
         Validate.isTrue(!Double.isNaN(input), "NaN is not supported by the default converters.");
         Validate.isTrue(Double.isFinite(input), "Infinite numbers are not supported by the default converters.");
     }
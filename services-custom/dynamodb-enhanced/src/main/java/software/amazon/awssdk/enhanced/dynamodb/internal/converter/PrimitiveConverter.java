@@ -19,6 +19,7 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.annotations.ThreadSafe;
 import software.amazon.awssdk.enhanced.dynamodb.AttributeConverter;
 import software.amazon.awssdk.enhanced.dynamodb.EnhancedType;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 
 /**
  * Interface for {@link StringConverter} and {@link AttributeConverter} implementations
@@ -31,4 +32,40 @@ public interface PrimitiveConverter<T> {
      * The type supported by this converter.
      */
     EnhancedType<T> primitiveType();
+
+    /**
+     * An {@link AttributeConverter} for {@link Integer} that can also convert {@code int} values without boxing them.
+     */
+    interface OfInt extends PrimitiveConverter<Integer> {
+        AttributeValue transformFromInt(int input);
+
+        int transformToInt(AttributeValue input);
+    }
+
+    /**
+     * An {@link AttributeConverter} for {@link Long} that can also convert {@code long} values without boxing them.
+     */
+    interface OfLong extends PrimitiveConverter<Long> {
+        AttributeValue transformFromLong(long input);
+
+        long transformToLong(AttributeValue input);
+    }
+
+    /**
+     * An {@link AttributeConverter} for {@link Double} that can also convert {@code double} values without boxing them.
+     */
+    interface OfDouble extends PrimitiveConverter<Double> {
+        AttributeValue transformFromDouble(double input);
+
+        double transformToDouble(AttributeValue input);
+    }
+
+    /**
+     * An {@link AttributeConverter} for {@link Boolean} that can also convert {@code boolean} values without boxing them.
+     */
+    interface OfBoolean extends PrimitiveConverter<Boolean> {
+        AttributeValue transformFromBoolean(boolean input);
+
+        boolean transformToBoolean(AttributeValue input);
+    }
 }
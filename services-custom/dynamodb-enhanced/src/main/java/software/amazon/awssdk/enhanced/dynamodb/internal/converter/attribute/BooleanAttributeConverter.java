@@ -43,9 +43,11 @@ import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 @SdkInternalApi
 @ThreadSafe
 @Immutable
-public final class BooleanAttributeConverter implements AttributeConverter<Boolean>, PrimitiveConverter<Boolean> {
+public final class BooleanAttributeConverter implements AttributeConverter<Boolean>, PrimitiveConverter.OfBoolean {
     private static final Visitor VISITOR = new Visitor();
     private static final BooleanStringConverter STRING_CONVERTER = BooleanStringConverter.create();
+    private static final AttributeValue TRUE_VALUE = AttributeValue.builder().bool(true).build();
+    private static final AttributeValue FALSE_VALUE = AttributeValue.builder().bool(false).build();
 
     private BooleanAttributeConverter() {
     }
@@ -82,6 +84,20 @@ public final class BooleanAttributeConverter implements AttributeConverter<Boole
         return EnhancedType.of(boolean.class);
     }
 
+    @Override
+    public AttributeValue transformFromBoolean(boolean input) {
+        return input ? TRUE_VALUE : FALSE_VALUE;
+    }
+
+    @Override
+    public boolean transformToBoolean(AttributeValue input) {
+        if (input.bool() != null) {
+            return input.bool();
+        }
+
+        return transformTo(input);
+    }
+
     private static final class Visitor extends TypeConvertingVisitor<Boolean> {
         private Visitor() {
             super(Boolean.class, BooleanAttributeConverter.class);
@@ -48,7 +48,7 @@ import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 @SdkInternalApi
 @ThreadSafe
 @Immutable
-public final class DoubleAttributeConverter implements AttributeConverter<Double>, PrimitiveConverter<Double> {
+public final class DoubleAttributeConverter implements AttributeConverter<Double>, PrimitiveConverter.OfDouble {
     private static final Visitor VISITOR = new Visitor();
     private static final DoubleStringConverter STRING_CONVERTER = DoubleStringConverter.create();
 
@@ -93,6 +93,23 @@ public final class DoubleAttributeConverter implements AttributeConverter<Double
         return EnhancedType.of(double.class);
     }
 
+    @Override
+    public AttributeValue transformFromDouble(double input) {
+        ConverterUtils.validateDouble(input);
+        return AttributeValue.builder().n(Double.toString(input)).build();
+    }
+
+    @Override
+    public double transformToDouble(AttributeValue input) {
+        if (input.n() != null) {
+            double result = Double.parseDouble(input.n());
+            ConverterUtils.validateDouble(result);
+            return result;
+        }
+
+        return transformTo(input);
+    }
+
     private static final class Visitor extends TypeConvertingVisitor<Double> {
         private Visitor() {
             super(Double.class, DoubleAttributeConverter.class);
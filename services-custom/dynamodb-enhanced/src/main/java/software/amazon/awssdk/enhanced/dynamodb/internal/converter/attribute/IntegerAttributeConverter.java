@@ -47,7 +47,7 @@ import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 @SdkInternalApi
 @ThreadSafe
 @Immutable
-public final class IntegerAttributeConverter implements AttributeConverter<Integer>, PrimitiveConverter<Integer> {
+public final class IntegerAttributeConverter implements AttributeConverter<Integer>, PrimitiveConverter.OfInt {
     public static final IntegerStringConverter INTEGER_STRING_CONVERTER = IntegerStringConverter.create();
 
     private IntegerAttributeConverter() {
@@ -86,6 +86,20 @@ public final class IntegerAttributeConverter implements AttributeConverter<Integ
         return EnhancedType.of(int.class);
     }
 
+    @Override
+    public AttributeValue transformFromInt(int input) {
+        return AttributeValue.builder().n(Integer.toString(input)).build();
+    }
+
+    @Override
+    public int transformToInt(AttributeValue input) {
+        if (input.n() != null) {
+            return Integer.parseInt(input.n());
+        }
+
+        return transformTo(input);
+    }
+
     private static final class Visitor extends TypeConvertingVisitor<Integer> {
         private static final Visitor INSTANCE = new Visitor();
 
@@ -46,7 +46,7 @@ import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 @SdkInternalApi
 @ThreadSafe
 @Immutable
-public final class LongAttributeConverter implements AttributeConverter<Long>, PrimitiveConverter<Long> {
+public final class LongAttributeConverter implements AttributeConverter<Long>, PrimitiveConverter.OfLong {
     private static final Visitor VISITOR = new Visitor();
     private static final LongStringConverter STRING_CONVERTER = LongStringConverter.create();
 
@@ -86,6 +86,20 @@ public final class LongAttributeConverter implements AttributeConverter<Long>, P
         return EnhancedType.of(long.class);
     }
 
+    @Override
+    public AttributeValue transformFromLong(long input) {
+        return AttributeValue.builder().n(Long.toString(input)).build();
+    }
+
+    @Override
+    public long transformToLong(AttributeValue input) {
+        if (input.n() != null) {
+            return Long.parseLong(input.n());
+        }
+
+        return transformTo(input);
+    }
+
     private static final class Visitor extends TypeConvertingVisitor<Long> {
         private Visitor() {
             super(Long.class, LongAttributeConverter.class);
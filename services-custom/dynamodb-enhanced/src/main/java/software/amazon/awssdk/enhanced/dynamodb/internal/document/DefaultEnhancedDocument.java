@@ -17,12 +17,14 @@ package software.amazon.awssdk.enhanced.dynamodb.internal.document;
 
 import static java.util.Collections.unmodifiableList;
 import static java.util.Collections.unmodifiableMap;
-import static software.amazon.awssdk.enhanced.dynamodb.internal.document.JsonStringFormatHelper.addEscapeCharacters;
-import static software.amazon.awssdk.enhanced.dynamodb.internal.document.JsonStringFormatHelper.stringValue;
+import static software.amazon.awssdk.enhanced.dynamodb.internal.document.JsonStringFormatHelper.appendEscapeCharacters;
+import static software.amazon.awssdk.enhanced.dynamodb.internal.document.JsonStringFormatHelper.appendJson;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -30,6 +32,8 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import software.amazon.awssdk.annotations.Immutable;
 import software.amazon.awssdk.annotations.SdkInternalApi;
@@ -59,6 +63,10 @@ import software.amazon.awssdk.utils.Validate;
  * value map. Custom objects or collections are saved in the enhancedTypeMap to preserve the generic class information. Note that
  * no default ConverterProviders are assigned, so ConverterProviders must be passed in the builder when creating enhanced
  * documents.
+ * <p>
+ * Documents created from an AttributeValueMap, such as the ones read from DynamoDB, keep the map as is and only decode the
+ * attributes that are accessed. Decoded String, Number, Bytes, Boolean and Json values are memoized per attribute, so
+ * repeated reads of the same attribute are not converted again.
  */
 @Immutable
 @SdkInternalApi
@@ -71,23 +79,60 @@ public class DefaultEnhancedDocument implements EnhancedDocument {
     private static final String VALIDATE_TYPE_ERROR = "Values of type %s are not supported by this API, please use the "
                                                      + "%s%s API instead";
     private static final AttributeValue NULL_ATTRIBUTE_VALUE = AttributeValue.fromNul(true);
+    private static final Set<EnhancedType<?>> MEMOIZED_TYPES = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+        EnhancedType.of(String.class), EnhancedType.of(SdkNumber.class), EnhancedType.of(SdkBytes.class),
+        EnhancedType.of(Boolean.class), EnhancedType.of(JsonNode.class))));
+    /**
+     * The key under which {@link #getJson} memoizes the JSON string of an attribute. It is distinct from every
+     * {@link EnhancedType}, so the JSON string is never confused with a value decoded by {@link #get(String, EnhancedType)}.
+     */
+    private static final Object JSON_STRING_KEY = new Object();
     private final Map<String, Object> nonAttributeValueMap;
     private final Map<String, EnhancedType> enhancedTypeMap;
     private final List<AttributeConverterProvider> attributeConverterProviders;
     private final ChainConverterProvider attributeConverterChain;
-    private final Lazy<Map<String, AttributeValue>> attributeValueMap = new Lazy<>(this::initializeAttributeValueMap);
+    private final Lazy<Map<String, AttributeValue>> attributeValueMap;
+    private final Map<String, DecodedValue> decodedValues = new ConcurrentHashMap<>();
 
     public DefaultEnhancedDocument(DefaultBuilder builder) {
         this.nonAttributeValueMap = unmodifiableMap(new LinkedHashMap<>(builder.nonAttributeValueMap));
         this.attributeConverterProviders = unmodifiableList(new ArrayList<>(builder.attributeConverterProviders));
         this.attributeConverterChain = ChainConverterProvider.create(attributeConverterProviders);
         this.enhancedTypeMap = unmodifiableMap(builder.enhancedTypeMap);
+        this.attributeValueMap = new Lazy<>(this::initializeAttributeValueMap);
+    }
+
+    private DefaultEnhancedDocument(Map<String, AttributeValue> attributeValueMap,
+                                    List<AttributeConverterProvider> attributeConverterProviders) {
+        Map<String, AttributeValue> unmodifiableAttributeValueMap = unmodifiableMap(attributeValueMap);
+        this.nonAttributeValueMap = unmodifiableMap(unmodifiableAttributeValueMap);
+        this.attributeConverterProviders = unmodifiableList(new ArrayList<>(attributeConverterProviders));
+        this.attributeConverterChain = ChainConverterProvider.create(this.attributeConverterProviders);
+        this.enhancedTypeMap = Collections.emptyMap();
+        this.attributeValueMap = Lazy.withValue(unmodifiableAttributeValueMap);
     }
 
     public static Builder builder() {
         return new DefaultBuilder();
     }
 
+    /**
+     * Creates a document that keeps a copy of the given AttributeValueMap as its attribute values, without converting any of
+     * them up front. This is equivalent to, but cheaper than, building a document with
+     * {@link Builder#attributeValueMap(Map)}.
+     */
+    public static DefaultEnhancedDocument fromAttributeValueMap(Map<String, AttributeValue> attributeValueMap,
+                                                                List<AttributeConverterProvider> attributeConverterProviders) {
+        Validate.paramNotNull(attributeValueMap, "attributeValueMap");
+        Validate.paramNotNull(attributeConverterProviders, "attributeConverterProviders");
+        Map<String, AttributeValue> copy = new LinkedHashMap<>(attributeValueMap.size() * 4 / 3 + 1);
+        attributeValueMap.forEach((attributeName, value) -> {
+            DefaultBuilder.checkInvalidAttribute(attributeName, value);
+            copy.put(attributeName, value);
+        });
+        return new DefaultEnhancedDocument(copy, attributeConverterProviders);
+    }
+
     public static <T> AttributeConverter<T> converterForClass(EnhancedType<T> type,
                                                               ChainConverterProvider chainConverterProvider) {
 
@@ -137,7 +182,10 @@ public class DefaultEnhancedDocument implements EnhancedDocument {
         if (attributeValue == null) {
             return null;
         }
-        return fromAttributeValue(attributeValue, type);
+        if (!MEMOIZED_TYPES.contains(type)) {
+            return fromAttributeValue(attributeValue, type);
+        }
+        return decode(attributeName, type, () -> fromAttributeValue(attributeValue, type));
     }
 
     @Override
@@ -193,7 +241,11 @@ public class DefaultEnhancedDocument implements EnhancedDocument {
         if (attributeValue == null) {
             return null;
         }
-        return stringValue(JSON_ATTRIBUTE_CONVERTER.transformTo(attributeValue));
+        return decode(attributeName, JSON_STRING_KEY, () -> {
+            StringBuilder json = new StringBuilder();
+            appendJson(json, attributeValue);
+            return json.toString();
+        });
     }
 
     @Override
@@ -230,12 +282,20 @@ public class DefaultEnhancedDocument implements EnhancedDocument {
         if (nonAttributeValueMap.isEmpty()) {
             return "{}";
         }
-        return attributeValueMap.getValue().entrySet().stream()
-                                .map(entry -> "\""
-                                              + addEscapeCharacters(entry.getKey())
-                                              + "\":"
-                                              + stringValue(JSON_ATTRIBUTE_CONVERTER.transformTo(entry.getValue())))
-                                .collect(Collectors.joining(",", "{", "}"));
+        StringBuilder json = new StringBuilder();
+        json.append('{');
+        boolean first = true;
+        for (Map.Entry<String, AttributeValue> entry : attributeValueMap.getValue().entrySet()) {
+            if (!first) {
+                json.append(',');
+            }
+            first = false;
+            json.append('"');
+            appendEscapeCharacters(json, entry.getKey());
+            json.append("\":");
+            appendJson(json, entry.getValue());
+        }
+        return json.append('}').toString();
     }
 
     @Override
@@ -264,6 +324,19 @@ public class DefaultEnhancedDocument implements EnhancedDocument {
         return converterForClass(enhancedType, attributeConverterChain).transformFrom(value);
     }
 
+    /**
+     * Returns the value of the attribute decoded as the given type, decoding it only if it was not already decoded as that type.
+     */
+    private <T> T decode(String attributeName, Object key, Supplier<T> decoder) {
+        DecodedValue decodedValue = decodedValues.get(attributeName);
+        if (decodedValue != null && decodedValue.key.equals(key)) {
+            return (T) decodedValue.value;
+        }
+        T value = decoder.get();
+        decodedValues.put(attributeName, new DecodedValue(key, value));
+        return value;
+    }
+
     private <T> T fromAttributeValue(AttributeValue attributeValue, EnhancedType<T> type) {
         if (type.rawClass().equals(AttributeValue.class)) {
             return (T) attributeValue;
@@ -271,6 +344,16 @@ public class DefaultEnhancedDocument implements EnhancedDocument {
         return converterForClass(type, attributeConverterChain).transformTo(attributeValue);
     }
 
+    private static final class DecodedValue {
+        private final Object key;
+        private final Object value;
+
+        private DecodedValue(Object key, Object value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
     public static class DefaultBuilder implements EnhancedDocument.Builder {
 
         Map<String, Object> nonAttributeValueMap = new LinkedHashMap<>();
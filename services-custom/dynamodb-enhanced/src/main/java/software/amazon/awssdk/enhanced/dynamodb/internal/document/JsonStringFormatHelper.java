@@ -15,14 +15,20 @@
 
 package software.amazon.awssdk.enhanced.dynamodb.internal.document;
 
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.enhanced.dynamodb.internal.converter.attribute.JsonItemAttributeConverter;
 import software.amazon.awssdk.protocols.jsoncore.JsonNode;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.utils.BinaryUtils;
 
 @SdkInternalApi
 public final class JsonStringFormatHelper {
+    private static final JsonItemAttributeConverter JSON_ATTRIBUTE_CONVERTER = JsonItemAttributeConverter.create();
 
     private JsonStringFormatHelper() {
     }
@@ -52,7 +58,68 @@ public final class JsonStringFormatHelper {
      * @return String with escaped characters.
      */
     public static String addEscapeCharacters(String input) {
-        StringBuilder output = new StringBuilder();
+        StringBuilder output = new StringBuilder(input.length());
+        appendEscapeCharacters(output, input);
+        return output.toString();
+    }
+
+    /**
+     * Writes the Json String representation of an {@link AttributeValue} to the given output, without creating an intermediate
+     * {@link JsonNode} or String for each nested value. The output is identical to
+     * {@code stringValue(JsonItemAttributeConverter.create().transformTo(attributeValue))}.
+     *
+     * @param output The output the Json String is appended to.
+     * @param attributeValue The AttributeValue that needs to be converted to Json String.
+     */
+    public static void appendJson(StringBuilder output, AttributeValue attributeValue) {
+        if (attributeValue.s() != null) {
+            appendString(output, attributeValue.s());
+        } else if (attributeValue.n() != null) {
+            output.append(attributeValue.n());
+        } else if (attributeValue.bool() != null) {
+            output.append(attributeValue.bool().booleanValue());
+        } else if (Boolean.TRUE.equals(attributeValue.nul())) {
+            output.append("null");
+        } else if (attributeValue.b() != null) {
+            appendBytes(output, attributeValue.b());
+        } else if (attributeValue.hasM()) {
+            appendMap(output, attributeValue.m());
+        } else if (attributeValue.hasL()) {
+            appendList(output, attributeValue.l());
+        } else if (attributeValue.hasBs()) {
+            output.append('[');
+            List<SdkBytes> values = attributeValue.bs();
+            for (int i = 0; i < values.size(); i++) {
+                appendSeparator(output, i);
+                appendBytes(output, values.get(i));
+            }
+            output.append(']');
+        } else if (attributeValue.hasSs()) {
+            output.append('[');
+            List<String> values = attributeValue.ss();
+            for (int i = 0; i < values.size(); i++) {
+                appendSeparator(output, i);
+                appendString(output, values.get(i));
+            }
+            output.append(']');
+        } else if (attributeValue.hasNs()) {
+            output.append('[');
+            List<String> values = attributeValue.ns();
+            for (int i = 0; i < values.size(); i++) {
+                appendSeparator(output, i);
+                output.append(values.get(i));
+            }
+            output.append(']');
+        } else {
+            // Let the converter report the attribute value it does not support
+            output.append(stringValue(JSON_ATTRIBUTE_CONVERTER.transformTo(attributeValue)));
+        }
+    }
+
+    /**
+     * Writes the given string to the output, escaping the characters that are not allowed in a Json String.
+     */
+    public static void appendEscapeCharacters(StringBuilder output, String input) {
         for (int i = 0; i < input.length(); i++) {
             char ch = input.charAt(i);
             switch (ch) {
@@ -79,7 +146,46 @@ public final class JsonStringFormatHelper {
                     break;
             }
         }
-        return output.toString();
+    }
+
+    private static void appendString(StringBuilder output, String value) {
+        output.append('"');
+        appendEscapeCharacters(output, value);
+        output.append('"');
+    }
+
+    private static void appendBytes(StringBuilder output, SdkBytes value) {
+        appendString(output, BinaryUtils.toBase64(value.asByteArray()));
+    }
+
+    private static void appendMap(StringBuilder output, Map<String, AttributeValue> value) {
+        output.append('{');
+        boolean first = true;
+        for (Map.Entry<String, AttributeValue> entry : value.entrySet()) {
+            if (!first) {
+                output.append(',');
+            }
+            first = false;
+            // Nested keys are written as is, matching mapToString
+            output.append('"').append(entry.getKey()).append("\":");
+            appendJson(output, entry.getValue());
+        }
+        output.append('}');
+    }
+
+    private static void appendList(StringBuilder output, List<AttributeValue> value) {
+        output.append('[');
+        for (int i = 0; i < value.size(); i++) {
+            appendSeparator(output, i);
+            appendJson(output, value.get(i));
+        }
+        output.append(']');
+    }
+
+    private static void appendSeparator(StringBuilder output, int index) {
+        if (index > 0) {
+            output.append(',');
+        }
     }
 
     private static String mapToString(JsonNode jsonNode) {
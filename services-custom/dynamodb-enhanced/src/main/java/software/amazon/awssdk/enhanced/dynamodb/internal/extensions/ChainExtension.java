@@ -55,6 +55,10 @@ import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
  * This is designed to create a layered pattern when dealing with multiple extensions. One thing to note is that
  * UpdateItem acts as both a write operation and a read operation so the chain will be called both ways within a
  * single operation.
+ *
+ * <p>
+ * The beforeRead() and beforeDelete() methods are called in forward order. The first extension that returns an item from
+ * beforeRead() provides the item for the read, and the remaining extensions are not called.
  */
 @SdkInternalApi
 public final class ChainExtension implements DynamoDbEnhancedClientExtension {
@@ -171,6 +175,8 @@ public final class ChainExtension implements DynamoDbEnhancedClientExtension {
                                                .operationContext(context.operationContext())
                                                .tableMetadata(context.tableMetadata())
                                                .tableSchema(context.tableSchema())
+                                               .operationName(context.operationName())
+                                               .readStartedNanos(DefaultDynamoDbExtensionContext.readStartedNanos(context))
                                                .build();
 
             ReadModification readModification = iterator.next().afterRead(afterRead);
@@ -184,4 +190,37 @@ public final class ChainExtension implements DynamoDbEnhancedClientExtension {
                                .transformedItem(transformedItem)
                                .build();
     }
+
+    /**
+     * Implementation of the {@link DynamoDbEnhancedClientExtension} interface that will call the chained extensions in
+     * forward order until one of them returns an item to use for the read.
+     *
+     * @param context A {@link DynamoDbExtensionContext.BeforeRead} context
+     * @return The {@link ReadModification} of the first extension that returned an item, or an empty one.
+     */
+    @Override
+    public ReadModification beforeRead(DynamoDbExtensionContext.BeforeRead context) {
+        for (DynamoDbEnhancedClientExtension extension : this.extensionChain) {
+            ReadModification readModification = extension.beforeRead(context);
+
+            if (readModification != null && readModification.transformedItem() != null) {
+                return readModification;
+            }
+        }
+
+        return ReadModification.builder().build();
+    }
+
+    /**
+     * Implementation of the {@link DynamoDbEnhancedClientExtension} interface that will call all the chained extensions
+     * in forward order.
+     *
+     * @param context A {@link DynamoDbExtensionContext.BeforeDelete} context
+     */
+    @Override
+    public void beforeDelete(DynamoDbExtensionContext.BeforeDelete context) {
+        for (DynamoDbEnhancedClientExtension extension : this.extensionChain) {
+            extension.beforeDelete(context);
+        }
+    }
 }
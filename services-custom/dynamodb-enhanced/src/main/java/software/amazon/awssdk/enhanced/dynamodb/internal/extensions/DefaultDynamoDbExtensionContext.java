@@ -27,17 +27,21 @@ import software.amazon.awssdk.enhanced.dynamodb.internal.operations.OperationNam
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 
 /**
- * An SDK-internal implementation of {@link DynamoDbExtensionContext.BeforeWrite} and
- * {@link DynamoDbExtensionContext.AfterRead}.
+ * An SDK-internal implementation of {@link DynamoDbExtensionContext.BeforeWrite}, {@link DynamoDbExtensionContext.AfterRead},
+ * {@link DynamoDbExtensionContext.BeforeRead} and {@link DynamoDbExtensionContext.BeforeDelete}.
  */
 @SdkInternalApi
 public final class DefaultDynamoDbExtensionContext implements DynamoDbExtensionContext.BeforeWrite,
-                                                              DynamoDbExtensionContext.AfterRead {
+                                                              DynamoDbExtensionContext.AfterRead,
+                                                              DynamoDbExtensionContext.BeforeRead,
+                                                              DynamoDbExtensionContext.BeforeDelete {
     private final Map<String, AttributeValue> items;
     private final OperationContext operationContext;
     private final TableMetadata tableMetadata;
     private final TableSchema<?> tableSchema;
     private final OperationName operationName;
+    private final Boolean consistentRead;
+    private final Long readStartedNanos;
 
     private DefaultDynamoDbExtensionContext(Builder builder) {
         this.items = builder.items;
@@ -45,6 +49,8 @@ public final class DefaultDynamoDbExtensionContext implements DynamoDbExtensionC
         this.tableMetadata = builder.tableMetadata;
         this.tableSchema = builder.tableSchema;
         this.operationName = builder.operationName != null ? builder.operationName : OperationName.NONE;
+        this.consistentRead = builder.consistentRead;
+        this.readStartedNanos = builder.readStartedNanos;
     }
 
     public static Builder builder() {
@@ -76,6 +82,27 @@ public final class DefaultDynamoDbExtensionContext implements DynamoDbExtensionC
         return operationName;
     }
 
+    @Override
+    public Boolean consistentRead() {
+        return consistentRead;
+    }
+
+    /**
+     * The value of {@link System#nanoTime()} before the item was requested from the database, or null if it is not known.
+     */
+    public Long readStartedNanos() {
+        return readStartedNanos;
+    }
+
+    /**
+     * Returns {@link #readStartedNanos()} if the context was created by the SDK, or null otherwise.
+     */
+    public static Long readStartedNanos(DynamoDbExtensionContext.Context context) {
+        return context instanceof DefaultDynamoDbExtensionContext
+               ? ((DefaultDynamoDbExtensionContext) context).readStartedNanos
+               : null;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -99,7 +126,13 @@ public final class DefaultDynamoDbExtensionContext implements DynamoDbExtensionC
         if (!Objects.equals(tableSchema, that.tableSchema)) {
             return false;
         }
-        return Objects.equals(operationName, that.operationName);
+        if (!Objects.equals(operationName, that.operationName)) {
+            return false;
+        }
+        if (!Objects.equals(consistentRead, that.consistentRead)) {
+            return false;
+        }
+        return Objects.equals(readStartedNanos, that.readStartedNanos);
     }
 
     @Override
@@ -109,6 +142,8 @@ public final class DefaultDynamoDbExtensionContext implements DynamoDbExtensionC
         result = 31 * result + (tableMetadata != null ? tableMetadata.hashCode() : 0);
         result = 31 * result + (tableSchema != null ? tableSchema.hashCode() : 0);
         result = 31 * result + (operationName != null ? operationName.hashCode() : 0);
+        result = 31 * result + (consistentRead != null ? consistentRead.hashCode() : 0);
+        result = 31 * result + (readStartedNanos != null ? readStartedNanos.hashCode() : 0);
         return result;
     }
 
@@ -119,6 +154,8 @@ public final class DefaultDynamoDbExtensionContext implements DynamoDbExtensionC
         private TableMetadata tableMetadata;
         private TableSchema<?> tableSchema;
         private OperationName operationName;
+        private Boolean consistentRead;
+        private Long readStartedNanos;
 
         public Builder items(Map<String, AttributeValue> item) {
             this.items = item;
@@ -145,6 +182,16 @@ public final class DefaultDynamoDbExtensionContext implements DynamoDbExtensionC
             return this;
         }
 
+        public Builder consistentRead(Boolean consistentRead) {
+            this.consistentRead = consistentRead;
+            return this;
+        }
+
+        public Builder readStartedNanos(Long readStartedNanos) {
+            this.readStartedNanos = readStartedNanos;
+            return this;
+        }
+
         public DefaultDynamoDbExtensionContext build() {
             return new DefaultDynamoDbExtensionContext(this);
         }
@@ -17,6 +17,9 @@ package software.amazon.awssdk.enhanced.dynamodb.internal.mapper;
 
 import java.lang.reflect.Method;
 import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.utils.Validate;
 
@@ -29,6 +32,17 @@ public interface BeanAttributeGetter<BeanT, GetterT> extends Function<BeanT, Get
                         "%s.%s has parameters, despite being named like a getter.",
                         beanClass, getter.getName());
 
+        Class<?> returnType = getter.getReturnType();
+        if (returnType == int.class) {
+            return primitiveGetter(OfInt.class, "applyAsInt", beanClass, getter);
+        }
+        if (returnType == long.class) {
+            return primitiveGetter(OfLong.class, "applyAsLong", beanClass, getter);
+        }
+        if (returnType == double.class) {
+            return primitiveGetter(OfDouble.class, "applyAsDouble", beanClass, getter);
+        }
+
         return LambdaToMethodBridgeBuilder.create(BeanAttributeGetter.class)
                                           .lambdaMethodName("apply")
                                           .runtimeLambdaSignature(Object.class, Object.class)
@@ -37,4 +51,50 @@ public interface BeanAttributeGetter<BeanT, GetterT> extends Function<BeanT, Get
                                           .build();
 
     }
+
+    static <BeanT, GetterT> BeanAttributeGetter<BeanT, GetterT> primitiveGetter(Class<?> getterType,
+                                                                               String lambdaMethodName,
+                                                                               Class<BeanT> beanClass,
+                                                                               Method getter) {
+        Class<?> returnType = getter.getReturnType();
+        return (BeanAttributeGetter<BeanT, GetterT>) LambdaToMethodBridgeBuilder.create(getterType)
+                                                                               .lambdaMethodName(lambdaMethodName)
+                                                                               .runtimeLambdaSignature(returnType, Object.class)
+                                                                               .compileTimeLambdaSignature(returnType, beanClass)
+                                                                               .targetMethod(getter)
+                                                                               .build();
+    }
+
+    /**
+     * A getter of an {@code int} property that can be called without boxing its result.
+     */
+    @FunctionalInterface
+    interface OfInt<BeanT> extends BeanAttributeGetter<BeanT, Integer>, ToIntFunction<BeanT> {
+        @Override
+        default Integer apply(BeanT bean) {
+            return applyAsInt(bean);
+        }
+    }
+
+    /**
+     * A getter of a {@code long} property that can be called without boxing its result.
+     */
+    @FunctionalInterface
+    interface OfLong<BeanT> extends BeanAttributeGetter<BeanT, Long>, ToLongFunction<BeanT> {
+        @Override
+        default Long apply(BeanT bean) {
+            return applyAsLong(bean);
+        }
+    }
+
+    /**
+     * A getter of a {@code double} property that can be called without boxing its result.
+     */
+    @FunctionalInterface
+    interface OfDouble<BeanT> extends BeanAttributeGetter<BeanT, Double>, ToDoubleFunction<BeanT> {
+        @Override
+        default Double apply(BeanT bean) {
+            return applyAsDouble(bean);
+        }
+    }
 }
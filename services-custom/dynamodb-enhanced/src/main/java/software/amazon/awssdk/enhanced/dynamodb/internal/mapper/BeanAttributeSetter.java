@@ -17,6 +17,9 @@ package software.amazon.awssdk.enhanced.dynamodb.internal.mapper;
 
 import java.lang.reflect.Method;
 import java.util.function.BiConsumer;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.utils.Validate;
 import software.amazon.awssdk.utils.internal.ReflectionUtils;
@@ -31,6 +34,16 @@ public interface BeanAttributeSetter<BeanT, GetterT> extends BiConsumer<BeanT, G
                         beanClass, setter.getName());
 
         Class<?> setterInputClass = setter.getParameters()[0].getType();
+        if (setterInputClass == int.class) {
+            return primitiveSetter(OfInt.class, beanClass, setter);
+        }
+        if (setterInputClass == long.class) {
+            return primitiveSetter(OfLong.class, beanClass, setter);
+        }
+        if (setterInputClass == double.class) {
+            return primitiveSetter(OfDouble.class, beanClass, setter);
+        }
+
         Class<?> boxedInputClass = ReflectionUtils.getWrappedClass(setterInputClass);
 
         return LambdaToMethodBridgeBuilder.create(BeanAttributeSetter.class)
@@ -40,4 +53,52 @@ public interface BeanAttributeSetter<BeanT, GetterT> extends BiConsumer<BeanT, G
                                           .targetMethod(setter)
                                           .build();
     }
+
+    @SuppressWarnings("unchecked")
+    static <BeanT, SetterT> BeanAttributeSetter<BeanT, SetterT> primitiveSetter(Class<?> setterType,
+                                                                               Class<BeanT> beanClass,
+                                                                               Method setter) {
+        Class<?> setterInputClass = setter.getParameters()[0].getType();
+        return (BeanAttributeSetter<BeanT, SetterT>) LambdaToMethodBridgeBuilder.create(setterType)
+                                                                               .lambdaMethodName("accept")
+                                                                               .runtimeLambdaSignature(void.class, Object.class,
+                                                                                                       setterInputClass)
+                                                                               .compileTimeLambdaSignature(void.class, beanClass,
+                                                                                                           setterInputClass)
+                                                                               .targetMethod(setter)
+                                                                               .build();
+    }
+
+    /**
+     * A setter of an {@code int} property that can be called without boxing its argument.
+     */
+    @FunctionalInterface
+    interface OfInt<BeanT> extends BeanAttributeSetter<BeanT, Integer>, ObjIntConsumer<BeanT> {
+        @Override
+        default void accept(BeanT bean, Integer value) {
+            accept(bean, value.intValue());
+        }
+    }
+
+    /**
+     * A setter of a {@code long} property that can be called without boxing its argument.
+     */
+    @FunctionalInterface
+    interface OfLong<BeanT> extends BeanAttributeSetter<BeanT, Long>, ObjLongConsumer<BeanT> {
+        @Override
+        default void accept(BeanT bean, Long value) {
+            accept(bean, value.longValue());
+        }
+    }
+
+    /**
+     * A setter of a {@code double} property that can be called without boxing its argument.
+     */
+    @FunctionalInterface
+    interface OfDouble<BeanT> extends BeanAttributeSetter<BeanT, Double>, ObjDoubleConsumer<BeanT> {
+        @Override
+        default void accept(BeanT bean, Double value) {
+            accept(bean, value.doubleValue());
+        }
+    }
 }
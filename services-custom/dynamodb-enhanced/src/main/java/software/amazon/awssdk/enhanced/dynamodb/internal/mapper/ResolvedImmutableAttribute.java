@@ -20,8 +20,15 @@ import static software.amazon.awssdk.enhanced.dynamodb.internal.EnhancedClientUt
 
 import java.util.function.BiConsumer;
 import java.util.function.Function;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.enhanced.dynamodb.AttributeConverter;
+import software.amazon.awssdk.enhanced.dynamodb.internal.converter.PrimitiveConverter;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.ImmutableAttribute;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableMetadata;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
@@ -50,15 +57,21 @@ public final class ResolvedImmutableAttribute<T, B> {
                                                                     AttributeConverter<R> attributeConverter) {
 
         AttributeType<R> attributeType = StaticAttributeType.create(attributeConverter);
-        Function<T, AttributeValue> getAttributeValueWithTransform = item -> {
-            R value = immutableAttribute.getter().apply(item);
-            return value == null ? nullAttributeValue() : attributeType.objectToAttributeValue(value);
-        };
+        Function<T, AttributeValue> getAttributeValueWithTransform =
+            primitiveGetAttributeMethod(immutableAttribute.getter(), attributeConverter);
+        if (getAttributeValueWithTransform == null) {
+            getAttributeValueWithTransform = item -> {
+                R value = immutableAttribute.getter().apply(item);
+                return value == null ? nullAttributeValue() : attributeType.objectToAttributeValue(value);
+            };
+        }
 
         // When setting a value on the java object, do not explicitly set nulls as this can cause an NPE to be thrown
         // if the target attribute type is a primitive.
         BiConsumer<B, AttributeValue> updateBuilderWithTransform =
-            (builder, attributeValue) -> {
+            primitiveUpdateBuilderMethod(immutableAttribute.setter(), attributeConverter);
+        if (updateBuilderWithTransform == null) {
+            updateBuilderWithTransform = (builder, attributeValue) -> {
                 // If the attributeValue is null, do not attempt to marshal
                 if (isNullAttributeValue(attributeValue)) {
                     return;
@@ -70,6 +83,7 @@ public final class ResolvedImmutableAttribute<T, B> {
                     immutableAttribute.setter().accept(builder, value);
                 }
             };
+        }
 
         StaticTableMetadata.Builder tableMetadataBuilder = StaticTableMetadata.builder();
         immutableAttribute.tags().forEach(tag -> {
@@ -84,6 +98,86 @@ public final class ResolvedImmutableAttribute<T, B> {
                                                 attributeConverter);
     }
 
+    /**
+     * Returns a method that reads a primitive attribute and converts it without boxing its value, if both the getter and the
+     * converter of the attribute support it, or null otherwise.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> Function<T, AttributeValue> primitiveGetAttributeMethod(Function<T, ?> getter,
+                                                                              AttributeConverter<?> converter) {
+        if (getter instanceof ToIntFunction && converter instanceof PrimitiveConverter.OfInt) {
+            ToIntFunction<T> intGetter = (ToIntFunction<T>) getter;
+            PrimitiveConverter.OfInt intConverter = (PrimitiveConverter.OfInt) converter;
+            return item -> intConverter.transformFromInt(intGetter.applyAsInt(item));
+        }
+        if (getter instanceof ToLongFunction && converter instanceof PrimitiveConverter.OfLong) {
+            ToLongFunction<T> longGetter = (ToLongFunction<T>) getter;
+            PrimitiveConverter.OfLong longConverter = (PrimitiveConverter.OfLong) converter;
+            return item -> longConverter.transformFromLong(longGetter.applyAsLong(item));
+        }
+        if (getter instanceof ToDoubleFunction && converter instanceof PrimitiveConverter.OfDouble) {
+            ToDoubleFunction<T> doubleGetter = (ToDoubleFunction<T>) getter;
+            PrimitiveConverter.OfDouble doubleConverter = (PrimitiveConverter.OfDouble) converter;
+            return item -> doubleConverter.transformFromDouble(doubleGetter.applyAsDouble(item));
+        }
+        if (converter instanceof PrimitiveConverter.OfBoolean) {
+            // Boxed booleans are cached, so only the conversion needs to be specialized
+            Function<T, Boolean> booleanGetter = (Function<T, Boolean>) getter;
+            PrimitiveConverter.OfBoolean booleanConverter = (PrimitiveConverter.OfBoolean) converter;
+            return item -> {
+                Boolean value = booleanGetter.apply(item);
+                return value == null ? nullAttributeValue() : booleanConverter.transformFromBoolean(value);
+            };
+        }
+        return null;
+    }
+
+    /**
+     * Returns a method that converts an attribute value and sets it on a primitive attribute without boxing it, if both the
+     * setter and the converter of the attribute support it, or null otherwise.
+     */
+    @SuppressWarnings("unchecked")
+    private static <B> BiConsumer<B, AttributeValue> primitiveUpdateBuilderMethod(BiConsumer<B, ?> setter,
+                                                                                 AttributeConverter<?> converter) {
+        if (setter instanceof ObjIntConsumer && converter instanceof PrimitiveConverter.OfInt) {
+            ObjIntConsumer<B> intSetter = (ObjIntConsumer<B>) setter;
+            PrimitiveConverter.OfInt intConverter = (PrimitiveConverter.OfInt) converter;
+            return (builder, attributeValue) -> {
+                if (!isNullAttributeValue(attributeValue)) {
+                    intSetter.accept(builder, intConverter.transformToInt(attributeValue));
+                }
+            };
+        }
+        if (setter instanceof ObjLongConsumer && converter instanceof PrimitiveConverter.OfLong) {
+            ObjLongConsumer<B> longSetter = (ObjLongConsumer<B>) setter;
+            PrimitiveConverter.OfLong longConverter = (PrimitiveConverter.OfLong) converter;
+            return (builder, attributeValue) -> {
+                if (!isNullAttributeValue(attributeValue)) {
+                    longSetter.accept(builder, longConverter.transformToLong(attributeValue));
+                }
+            };
+        }
+        if (setter instanceof ObjDoubleConsumer && converter instanceof PrimitiveConverter.OfDouble) {
+            ObjDoubleConsumer<B> doubleSetter = (ObjDoubleConsumer<B>) setter;
+            PrimitiveConverter.OfDouble doubleConverter = (PrimitiveConverter.OfDouble) converter;
+            return (builder, attributeValue) -> {
+                if (!isNullAttributeValue(attributeValue)) {
+                    doubleSetter.accept(builder, doubleConverter.transformToDouble(attributeValue));
+                }
+            };
+        }
+        if (converter instanceof PrimitiveConverter.OfBoolean) {
+            BiConsumer<B, Boolean> booleanSetter = (BiConsumer<B, Boolean>) setter;
+            PrimitiveConverter.OfBoolean booleanConverter = (PrimitiveConverter.OfBoolean) converter;
+            return (builder, attributeValue) -> {
+                if (!isNullAttributeValue(attributeValue)) {
+                    booleanSetter.accept(builder, booleanConverter.transformToBoolean(attributeValue));
+                }
+            };
+        }
+        return null;
+    }
+
     public <T1, B1> ResolvedImmutableAttribute<T1, B1> transform(
         Function<T1, T> transformItem,
         Function<B1, B> transformBuilder) {
@@ -0,0 +1,137 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.operations;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+
+/**
+ * Exposes a publisher as an iterable. Every iterator subscribes to the publisher, requests one element at a time and blocks
+ * until the element is published.
+ */
+@SdkInternalApi
+final class BlockingPublisherIterable<T> implements SdkIterable<T> {
+    private static final Object COMPLETE = new Object();
+
+    private final SdkPublisher<T> publisher;
+
+    private BlockingPublisherIterable(SdkPublisher<T> publisher) {
+        this.publisher = publisher;
+    }
+
+    static <T> BlockingPublisherIterable<T> create(SdkPublisher<T> publisher) {
+        return new BlockingPublisherIterable<>(publisher);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        BlockingIterator iterator = new BlockingIterator();
+        publisher.subscribe(iterator);
+        return iterator;
+    }
+
+    private static final class Failure {
+        private final Throwable throwable;
+
+        private Failure(Throwable throwable) {
+            this.throwable = throwable;
+        }
+    }
+
+    private final class BlockingIterator implements Iterator<T>, Subscriber<T> {
+        private final BlockingQueue<Object> signals = new LinkedBlockingQueue<>();
+        private volatile Subscription subscription;
+        private T next;
+        private boolean finished;
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            subscription = s;
+            s.request(1);
+        }
+
+        @Override
+        public void onNext(T item) {
+            signals.add(item);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            signals.add(new Failure(t));
+        }
+
+        @Override
+        public void onComplete() {
+            signals.add(COMPLETE);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean hasNext() {
+            if (next != null || finished) {
+                return next != null;
+            }
+
+            Object signal = take();
+            if (signal == COMPLETE) {
+                finished = true;
+            } else if (signal instanceof Failure) {
+                finished = true;
+                Throwable throwable = ((Failure) signal).throwable;
+                if (throwable instanceof RuntimeException) {
+                    throw (RuntimeException) throwable;
+                }
+                if (throwable instanceof Error) {
+                    throw (Error) throwable;
+                }
+                throw SdkClientException.create(throwable.getMessage(), throwable);
+            } else {
+                next = (T) signal;
+            }
+            return next != null;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            T result = next;
+            next = null;
+            subscription.request(1);
+            return result;
+        }
+
+        private Object take() {
+            try {
+                return signals.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                finished = true;
+                subscription.cancel();
+                throw SdkClientException.create("Interrupted while waiting for the next element", e);
+            }
+        }
+    }
+}
@@ -27,6 +27,7 @@ import software.amazon.awssdk.enhanced.dynamodb.OperationContext;
 import software.amazon.awssdk.enhanced.dynamodb.TableMetadata;
 import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
 import software.amazon.awssdk.enhanced.dynamodb.internal.EnhancedClientUtils;
+import software.amazon.awssdk.enhanced.dynamodb.internal.extensions.DefaultDynamoDbExtensionContext;
 import software.amazon.awssdk.enhanced.dynamodb.model.DeleteItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.DeleteItemEnhancedResponse;
 import software.amazon.awssdk.enhanced.dynamodb.model.TransactDeleteItemEnhancedRequest;
@@ -81,11 +82,22 @@ public class DeleteItemOperation<T>
         }
 
         Key key = request.map(DeleteItemEnhancedRequest::key, TransactDeleteItemEnhancedRequest::key);
+        Map<String, AttributeValue> keyMap = key.keyMap(tableSchema, operationContext.indexName());
+
+        if (extension != null) {
+            extension.beforeDelete(DefaultDynamoDbExtensionContext.builder()
+                                                                  .items(keyMap)
+                                                                  .tableSchema(tableSchema)
+                                                                  .operationContext(operationContext)
+                                                                  .tableMetadata(tableSchema.tableMetadata())
+                                                                  .operationName(operationName())
+                                                                  .build());
+        }
 
         DeleteItemRequest.Builder requestBuilder =
             DeleteItemRequest.builder()
                              .tableName(operationContext.tableName())
-                             .key(key.keyMap(tableSchema, operationContext.indexName()))
+                             .key(keyMap)
                              .returnValues(ReturnValue.ALL_OLD);
 
         if (request.left().isPresent()) {
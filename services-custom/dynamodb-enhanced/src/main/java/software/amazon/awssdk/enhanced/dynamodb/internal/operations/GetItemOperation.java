@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.enhanced.dynamodb.internal.operations;
 
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import software.amazon.awssdk.annotations.SdkInternalApi;
@@ -27,6 +28,7 @@ import software.amazon.awssdk.enhanced.dynamodb.internal.EnhancedClientUtils;
 import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedRequest;
 import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 import software.amazon.awssdk.services.dynamodb.model.Get;
 import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
@@ -82,7 +84,57 @@ public class GetItemOperation<T> implements TableOperation<T, GetItemRequest, Ge
                                TableSchema<T> tableSchema,
                                OperationContext context,
                                DynamoDbEnhancedClientExtension extension) {
-        return EnhancedClientUtils.readAndTransformSingleItem(response.item(), tableSchema, context, extension);
+        return transformResponse(response, tableSchema, context, extension, null);
+    }
+
+    private T transformResponse(GetItemResponse response,
+                                TableSchema<T> tableSchema,
+                                OperationContext context,
+                                DynamoDbEnhancedClientExtension extension,
+                                Long readStartedNanos) {
+        return EnhancedClientUtils.readAndTransformSingleItem(response.item(), tableSchema, context, extension,
+                                                              operationName(), readStartedNanos);
+    }
+
+    /**
+     * Executes the operation, unless the extension provides the item in which case the database is not called.
+     */
+    @Override
+    public T execute(TableSchema<T> tableSchema,
+                     OperationContext context,
+                     DynamoDbEnhancedClientExtension extension,
+                     DynamoDbClient dynamoDbClient) {
+        GetItemRequest request = generateRequest(tableSchema, context, extension);
+        long readStartedNanos = System.nanoTime();
+        Map<String, AttributeValue> item = readItemFromExtension(request, tableSchema, context, extension);
+        GetItemResponse response = item != null ? GetItemResponse.builder().item(item).build()
+                                                : serviceCall(dynamoDbClient).apply(request);
+        return transformResponse(response, tableSchema, context, extension, readStartedNanos);
+    }
+
+    /**
+     * Executes the operation, unless the extension provides the item in which case the database is not called.
+     */
+    @Override
+    public CompletableFuture<T> executeAsync(TableSchema<T> tableSchema,
+                                             OperationContext context,
+                                             DynamoDbEnhancedClientExtension extension,
+                                             DynamoDbAsyncClient dynamoDbAsyncClient) {
+        GetItemRequest request = generateRequest(tableSchema, context, extension);
+        long readStartedNanos = System.nanoTime();
+        Map<String, AttributeValue> item = readItemFromExtension(request, tableSchema, context, extension);
+        CompletableFuture<GetItemResponse> response =
+            item != null ? CompletableFuture.completedFuture(GetItemResponse.builder().item(item).build())
+                         : asyncServiceCall(dynamoDbAsyncClient).apply(request);
+        return response.thenApply(r -> transformResponse(r, tableSchema, context, extension, readStartedNanos));
+    }
+
+    private Map<String, AttributeValue> readItemFromExtension(GetItemRequest request,
+                                                              TableSchema<T> tableSchema,
+                                                              OperationContext context,
+                                                              DynamoDbEnhancedClientExtension extension) {
+        return EnhancedClientUtils.readItemFromExtension(request.key(), tableSchema, context, extension, operationName(),
+                                                         request.consistentRead());
     }
 
     @Override
@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.enhanced.dynamodb.internal.operations;
 
+import java.util.Iterator;
 import java.util.function.Function;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.async.SdkPublisher;
@@ -98,6 +99,24 @@ public interface PaginatedOperation<ItemT, RequestT, ResponseT> {
                                   OperationContext context,
                                   DynamoDbEnhancedClientExtension dynamoDbEnhancedClientExtension);
 
+    /**
+     * Takes the response object returned by the actual DynamoDb call and returns an iterator that maps the items it
+     * contains one at a time, as they are iterated. This is used to stream the items of a page without mapping all of
+     * them up front. The default implementation maps the whole page using {@link #transformResponse}.
+     * @param response The response object returned by the DynamoDb call for this operation.
+     * @param tableSchema A {@link TableSchema} that maps the table to a modelled object.
+     * @param context An object containing the context, or target, of the command execution.
+     * @param dynamoDbEnhancedClientExtension A {@link DynamoDbEnhancedClientExtension} that may modify the result of
+     *                                        this operation. A null value here will result in no modifications.
+     * @return An iterator over the modelled items of the response.
+     */
+    default Iterator<ItemT> transformResponseItems(ResponseT response,
+                                                   TableSchema<ItemT> tableSchema,
+                                                   OperationContext context,
+                                                   DynamoDbEnhancedClientExtension dynamoDbEnhancedClientExtension) {
+        return transformResponse(response, tableSchema, context, dynamoDbEnhancedClientExtension).items().iterator();
+    }
+
     /**
      * Default implementation of a complete synchronous execution of this operation against either the primary or a
      * secondary index.
@@ -138,7 +157,8 @@ public interface PaginatedOperation<ItemT, RequestT, ResponseT> {
      * <li> Call {@link #generateRequest} to get the request object.
      * <li> Call {@link #asyncServiceCall} and call it using the request object generated in the previous step.
      * <li> Wraps the {@link SdkPublisher} returned by the SDK in a new one that calls transformResponse() to
-     * convert the response objects published to a high level result.
+     * convert the response objects published to a high level result. The items publisher of the result calls
+     * transformResponseItems() instead, so that items are mapped one at a time as they are requested.
      * </ol>
      *
      * @param tableSchema A {@link TableSchema} that maps the table to a modelled object.
@@ -155,6 +175,8 @@ public interface PaginatedOperation<ItemT, RequestT, ResponseT> {
                                                DynamoDbAsyncClient dynamoDbAsyncClient) {
         RequestT request = generateRequest(tableSchema, context, extension);
         SdkPublisher<ResponseT> response = asyncServiceCall(dynamoDbAsyncClient).apply(request);
-        return PagePublisher.create(response.map(r -> transformResponse(r, tableSchema, context, extension)));
+        return StreamingPagePublisher.create(response,
+                                             r -> transformResponse(r, tableSchema, context, extension),
+                                             r -> transformResponseItems(r, tableSchema, context, extension));
     }
 }
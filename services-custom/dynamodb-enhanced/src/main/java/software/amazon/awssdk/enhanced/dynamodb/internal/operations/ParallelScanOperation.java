@@ -0,0 +1,162 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.operations;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClientExtension;
+import software.amazon.awssdk.enhanced.dynamodb.OperationContext;
+import software.amazon.awssdk.enhanced.dynamodb.TableMetadata;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.enhanced.dynamodb.model.PageIterable;
+import software.amazon.awssdk.enhanced.dynamodb.model.PagePublisher;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ReturnConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+
+/**
+ * Scans all segments of a table in parallel. Every page of a segment is retrieved with a single Scan call generated by
+ * {@link ScanOperation}, and the pages of all segments are merged by a {@link ParallelScanPublisher}.
+ */
+@SdkInternalApi
+public class ParallelScanOperation<T> {
+    private final ParallelScanEnhancedRequest request;
+    private final ReadCapacityRateLimiter rateLimiter;
+
+    private ParallelScanOperation(ParallelScanEnhancedRequest request) {
+        this.request = request;
+        this.rateLimiter = request.readCapacityUnitsPerSecond() == null
+                           ? null
+                           : ReadCapacityRateLimiter.create(request.readCapacityUnitsPerSecond());
+    }
+
+    public static <T> ParallelScanOperation<T> create(ParallelScanEnhancedRequest request) {
+        return new ParallelScanOperation<>(request);
+    }
+
+    /**
+     * Scans the primary index of the table with a synchronous client. The Scan calls are made on a thread pool with a thread
+     * per concurrently scanned segment, which is created for every iteration and shut down when the iteration ends.
+     */
+    public PageIterable<T> executeOnPrimaryIndex(TableSchema<T> tableSchema,
+                                                 String tableName,
+                                                 DynamoDbEnhancedClientExtension extension,
+                                                 DynamoDbClient dynamoDbClient) {
+        OperationContext context = DefaultOperationContext.create(tableName, TableMetadata.primaryIndexName());
+        ParallelScanPublisher<T> publisher = createPublisher(() -> {
+            ExecutorService executor = createExecutor();
+            return new ScanPageFetcher(tableSchema, context, extension, executor,
+                                       scanRequest -> CompletableFuture.supplyAsync(() -> dynamoDbClient.scan(scanRequest),
+                                                                                    executor));
+        });
+        return PageIterable.create(BlockingPublisherIterable.create(publisher));
+    }
+
+    /**
+     * Scans the primary index of the table with an asynchronous client.
+     */
+    public PagePublisher<T> executeOnPrimaryIndexAsync(TableSchema<T> tableSchema,
+                                                       String tableName,
+                                                       DynamoDbEnhancedClientExtension extension,
+                                                       DynamoDbAsyncClient dynamoDbAsyncClient) {
+        OperationContext context = DefaultOperationContext.create(tableName, TableMetadata.primaryIndexName());
+        return PagePublisher.create(createPublisher(
+            () -> new ScanPageFetcher(tableSchema, context, extension, null, dynamoDbAsyncClient::scan)));
+    }
+
+    private ParallelScanPublisher<T> createPublisher(Supplier<ParallelScanPublisher.PageFetcher<T>> pageFetcherFactory) {
+        return ParallelScanPublisher.create(pageFetcherFactory,
+                                            request.totalSegments(),
+                                            request.maxConcurrentSegments(),
+                                            request.maxSegmentRetries(),
+                                            rateLimiter);
+    }
+
+    private ExecutorService createExecutor() {
+        int threads = request.maxConcurrentSegments();
+        ThreadPoolExecutor executor =
+            new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                                   new ThreadFactoryBuilder().threadNamePrefix("sdk-ddb-parallel-scan-worker")
+                                                             .daemonThreads(true)
+                                                             .build());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private final class ScanPageFetcher implements ParallelScanPublisher.PageFetcher<T> {
+        private final TableSchema<T> tableSchema;
+        private final OperationContext context;
+        private final DynamoDbEnhancedClientExtension extension;
+        private final ExecutorService executor;
+        private final Function<ScanRequest, CompletableFuture<ScanResponse>> scan;
+
+        private ScanPageFetcher(TableSchema<T> tableSchema,
+                                OperationContext context,
+                                DynamoDbEnhancedClientExtension extension,
+                                ExecutorService executor,
+                                Function<ScanRequest, CompletableFuture<ScanResponse>> scan) {
+            this.tableSchema = tableSchema;
+            this.context = context;
+            this.extension = extension;
+            this.executor = executor;
+            this.scan = scan;
+        }
+
+        @Override
+        public CompletableFuture<Page<T>> fetchPage(int segment, Map<String, AttributeValue> exclusiveStartKey) {
+            ScanEnhancedRequest segmentRequest = request.scanEnhancedRequest()
+                                                        .toBuilder()
+                                                        .segment(segment)
+                                                        .totalSegments(request.totalSegments())
+                                                        .exclusiveStartKey(exclusiveStartKey)
+                                                        .build();
+            ScanOperation<T> operation = ScanOperation.create(segmentRequest);
+            ScanRequest scanRequest = operation.generateRequest(tableSchema, context, extension);
+            if (rateLimiter != null) {
+                scanRequest = scanRequest.toBuilder().returnConsumedCapacity(ReturnConsumedCapacity.TOTAL).build();
+            }
+
+            return scan.apply(scanRequest).thenApply(response -> {
+                if (rateLimiter != null && response.consumedCapacity() != null
+                    && response.consumedCapacity().capacityUnits() != null) {
+                    rateLimiter.consume(response.consumedCapacity().capacityUnits());
+                }
+                return operation.transformResponse(response, tableSchema, context, extension);
+            });
+        }
+
+        @Override
+        public void close() {
+            if (executor != null) {
+                executor.shutdown();
+            }
+        }
+    }
+}
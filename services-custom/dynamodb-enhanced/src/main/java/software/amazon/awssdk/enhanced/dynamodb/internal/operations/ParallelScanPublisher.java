@@ -0,0 +1,322 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.operations;
+
+import static software.amazon.awssdk.enhanced.dynamodb.internal.EnhancedClientUtils.isRetryableException;
+import static software.amazon.awssdk.enhanced.dynamodb.internal.EnhancedClientUtils.unwrapCompletionException;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.core.retry.RetryPolicyContext;
+import software.amazon.awssdk.core.retry.backoff.BackoffStrategy;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+
+/**
+ * Publishes the pages of all segments of a parallel scan as a single stream of pages, in the order in which they are
+ * retrieved.
+ * <p>
+ * Every subscription scans the segments independently, with at most one page request in flight per segment. The number of
+ * page requests in flight plus the number of pages that were retrieved but not yet delivered to the subscriber is bounded by
+ * {@code maxConcurrentSegments}, so a slow subscriber slows down the scan rather than accumulating pages in memory. Segments
+ * are started lazily, and a segment that has more pages is resumed before a new segment is started.
+ * <p>
+ * A page request that fails with a retryable error is retried from the last key retrieved for its segment, up to
+ * {@code maxSegmentRetries} times in a row. Any other failure is delivered to the subscriber and stops the scan.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class ParallelScanPublisher<T> implements SdkPublisher<Page<T>> {
+    private static final Logger log = Logger.loggerFor(ParallelScanPublisher.class);
+    private static final BackoffStrategy BACKOFF_STRATEGY = BackoffStrategy.defaultStrategy();
+
+    private final Supplier<? extends PageFetcher<T>> pageFetcherFactory;
+    private final int totalSegments;
+    private final int maxConcurrentSegments;
+    private final int maxSegmentRetries;
+    private final ReadCapacityRateLimiter rateLimiter;
+
+    private ParallelScanPublisher(Supplier<? extends PageFetcher<T>> pageFetcherFactory,
+                                  int totalSegments,
+                                  int maxConcurrentSegments,
+                                  int maxSegmentRetries,
+                                  ReadCapacityRateLimiter rateLimiter) {
+        this.pageFetcherFactory = pageFetcherFactory;
+        this.totalSegments = totalSegments;
+        this.maxConcurrentSegments = maxConcurrentSegments;
+        this.maxSegmentRetries = maxSegmentRetries;
+        this.rateLimiter = rateLimiter;
+    }
+
+    /**
+     * @param pageFetcherFactory creates the fetcher used by a single subscription, it is closed when the subscription ends
+     * @param totalSegments the number of segments to scan
+     * @param maxConcurrentSegments the maximum number of page requests in flight plus pages buffered
+     * @param maxSegmentRetries the number of times in a row a segment is resumed after a retryable failure
+     * @param rateLimiter the limiter that delays page requests, or null if page requests are not limited
+     */
+    public static <T> ParallelScanPublisher<T> create(Supplier<? extends PageFetcher<T>> pageFetcherFactory,
+                                                      int totalSegments,
+                                                      int maxConcurrentSegments,
+                                                      int maxSegmentRetries,
+                                                      ReadCapacityRateLimiter rateLimiter) {
+        return new ParallelScanPublisher<>(pageFetcherFactory, totalSegments, maxConcurrentSegments, maxSegmentRetries,
+                                           rateLimiter);
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super Page<T>> subscriber) {
+        ParallelScanSubscription subscription = new ParallelScanSubscription(subscriber, pageFetcherFactory.get());
+        subscriber.onSubscribe(subscription);
+        subscription.drain();
+    }
+
+    /**
+     * Retrieves a single page of a segment.
+     */
+    @FunctionalInterface
+    public interface PageFetcher<T> {
+        /**
+         * @param segment the segment to retrieve a page of
+         * @param exclusiveStartKey the last key retrieved for the segment, or null to retrieve its first page
+         */
+        CompletableFuture<Page<T>> fetchPage(int segment, Map<String, AttributeValue> exclusiveStartKey);
+
+        /**
+         * Releases the resources of this fetcher once the subscription that uses it has ended.
+         */
+        default void close() {
+        }
+    }
+
+    private static final class SegmentCursor {
+        private final int segment;
+        private Map<String, AttributeValue> lastEvaluatedKey;
+        private int failedAttempts;
+
+        private SegmentCursor(int segment) {
+            this.segment = segment;
+        }
+    }
+
+    private final class ParallelScanSubscription implements Subscription {
+        private final Subscriber<? super Page<T>> subscriber;
+        private final PageFetcher<T> pageFetcher;
+        private final Deque<Page<T>> bufferedPages = new ArrayDeque<>();
+        private final Deque<SegmentCursor> resumableSegments = new ArrayDeque<>();
+        private int nextSegment;
+        private int pageRequestsInFlight;
+        private long demand;
+        private boolean draining;
+        private boolean terminated;
+        private Throwable failure;
+        private ScheduledExecutorService scheduler;
+
+        private ParallelScanSubscription(Subscriber<? super Page<T>> subscriber, PageFetcher<T> pageFetcher) {
+            this.subscriber = subscriber;
+            this.pageFetcher = pageFetcher;
+        }
+
+        @Override
+        public void request(long n) {
+            synchronized (this) {
+                if (terminated) {
+                    return;
+                }
+                if (n <= 0) {
+                    failure = new IllegalArgumentException("A downstream publisher requested an invalid amount of data: " + n);
+                } else {
+                    demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+                }
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            synchronized (this) {
+                if (terminated) {
+                    return;
+                }
+                terminated = true;
+            }
+            release();
+        }
+
+        /**
+         * Delivers buffered pages and starts page requests until neither is possible. Only one thread drains at a time, and
+         * because the decision to stop draining is made while holding the lock, a state change made by another thread is
+         * either observed by the draining thread or followed by its own call to this method.
+         */
+        private void drain() {
+            synchronized (this) {
+                if (draining) {
+                    return;
+                }
+                draining = true;
+            }
+
+            while (true) {
+                Page<T> page = null;
+                SegmentCursor cursor = null;
+                Throwable error = null;
+                boolean complete = false;
+
+                synchronized (this) {
+                    if (terminated) {
+                        draining = false;
+                        return;
+                    }
+                    if (failure != null) {
+                        terminated = true;
+                        error = failure;
+                    } else if (demand > 0 && !bufferedPages.isEmpty()) {
+                        demand--;
+                        page = bufferedPages.poll();
+                    } else if (bufferedPages.isEmpty() && pageRequestsInFlight == 0 && resumableSegments.isEmpty()
+                               && nextSegment == totalSegments) {
+                        terminated = true;
+                        complete = true;
+                    } else if (pageRequestsInFlight + bufferedPages.size() < maxConcurrentSegments
+                               && (!resumableSegments.isEmpty() || nextSegment < totalSegments)) {
+                        cursor = resumableSegments.isEmpty() ? new SegmentCursor(nextSegment++) : resumableSegments.poll();
+                        pageRequestsInFlight++;
+                    } else {
+                        draining = false;
+                        return;
+                    }
+                }
+
+                if (error != null) {
+                    release();
+                    subscriber.onError(error);
+                    return;
+                }
+                if (complete) {
+                    release();
+                    subscriber.onComplete();
+                    return;
+                }
+                if (page != null) {
+                    subscriber.onNext(page);
+                }
+                if (cursor != null) {
+                    fetchPage(cursor);
+                }
+            }
+        }
+
+        private void fetchPage(SegmentCursor cursor) {
+            long delayNanos = rateLimiter == null ? 0 : rateLimiter.delayNanos();
+            if (delayNanos > 0) {
+                schedule(() -> fetchPage(cursor), delayNanos);
+                return;
+            }
+
+            CompletableFuture<Page<T>> future;
+            try {
+                future = pageFetcher.fetchPage(cursor.segment, cursor.lastEvaluatedKey);
+            } catch (Throwable t) {
+                future = CompletableFutureUtils.failedFuture(t);
+            }
+            future.whenComplete((page, t) -> onPageFetched(cursor, page, t));
+        }
+
+        private void onPageFetched(SegmentCursor cursor, Page<T> page, Throwable throwable) {
+            boolean retry = false;
+            synchronized (this) {
+                if (terminated) {
+                    return;
+                }
+                if (throwable == null) {
+                    pageRequestsInFlight--;
+                    cursor.failedAttempts = 0;
+                    bufferedPages.add(page);
+                    if (page.lastEvaluatedKey() != null) {
+                        cursor.lastEvaluatedKey = page.lastEvaluatedKey();
+                        resumableSegments.add(cursor);
+                    }
+                } else {
+                    Throwable cause = unwrapCompletionException(throwable);
+                    if (cursor.failedAttempts < maxSegmentRetries && isRetryableException(cause)) {
+                        cursor.failedAttempts++;
+                        retry = true;
+                    } else {
+                        pageRequestsInFlight--;
+                        failure = cause;
+                    }
+                }
+            }
+
+            if (retry) {
+                Duration backoff = BACKOFF_STRATEGY.computeDelayBeforeNextRetry(
+                    RetryPolicyContext.builder().retriesAttempted(cursor.failedAttempts - 1).build());
+                log.debug(() -> String.format("Retrying segment %d of the parallel scan in %d ms after a failure (attempt %d)",
+                                              cursor.segment, backoff.toMillis(), cursor.failedAttempts), throwable);
+                schedule(() -> fetchPage(cursor), backoff.toNanos());
+            } else {
+                drain();
+            }
+        }
+
+        private void schedule(Runnable task, long delayNanos) {
+            ScheduledExecutorService executor;
+            synchronized (this) {
+                if (terminated) {
+                    return;
+                }
+                if (scheduler == null) {
+                    scheduler = Executors.newSingleThreadScheduledExecutor(
+                        new ThreadFactoryBuilder().threadNamePrefix("sdk-ddb-parallel-scan").daemonThreads(true).build());
+                }
+                executor = scheduler;
+            }
+            try {
+                executor.schedule(task, delayNanos, TimeUnit.NANOSECONDS);
+            } catch (RejectedExecutionException e) {
+                // The subscription was terminated concurrently
+            }
+        }
+
+        private void release() {
+            ScheduledExecutorService executor;
+            synchronized (this) {
+                executor = scheduler;
+                scheduler = null;
+            }
+            if (executor != null) {
+                executor.shutdownNow();
+            }
+            pageFetcher.close();
+        }
+    }
+}
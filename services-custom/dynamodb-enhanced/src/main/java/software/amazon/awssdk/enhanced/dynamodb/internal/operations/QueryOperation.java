@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.enhanced.dynamodb.internal.operations;
 
+import java.util.Iterator;
 import java.util.Map;
 import java.util.function.Function;
 import software.amazon.awssdk.annotations.SdkInternalApi;
@@ -120,4 +121,17 @@ public class QueryOperation<T> implements PaginatedTableOperation<T, QueryReques
                                                                   QueryResponse::lastEvaluatedKey);
     }
 
+    @Override
+    public Iterator<T> transformResponseItems(QueryResponse response,
+                                              TableSchema<T> tableSchema,
+                                              OperationContext context,
+                                              DynamoDbEnhancedClientExtension dynamoDbEnhancedClientExtension) {
+
+        return EnhancedClientUtils.readAndTransformPaginatedItemsLazily(response,
+                                                                        tableSchema,
+                                                                        context,
+                                                                        dynamoDbEnhancedClientExtension,
+                                                                        QueryResponse::items);
+    }
+
 }
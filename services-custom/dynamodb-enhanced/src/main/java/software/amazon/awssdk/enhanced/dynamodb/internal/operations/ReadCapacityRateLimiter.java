@@ -0,0 +1,71 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.operations;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+
+/**
+ * Limits the rate at which read capacity is consumed. The capacity consumed by a request is only known once its response has
+ * been received, so the limiter charges the consumed capacity after the fact: every consumed unit pushes back the time at
+ * which the next request may be sent by {@code 1 / readCapacityUnitsPerSecond} seconds.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class ReadCapacityRateLimiter {
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final double nanosPerUnit;
+    private final LongSupplier nanoClock;
+    private long nextFreeNanos;
+
+    private ReadCapacityRateLimiter(double readCapacityUnitsPerSecond, LongSupplier nanoClock) {
+        this.nanosPerUnit = NANOS_PER_SECOND / readCapacityUnitsPerSecond;
+        this.nanoClock = nanoClock;
+        this.nextFreeNanos = nanoClock.getAsLong();
+    }
+
+    public static ReadCapacityRateLimiter create(double readCapacityUnitsPerSecond) {
+        return new ReadCapacityRateLimiter(readCapacityUnitsPerSecond, System::nanoTime);
+    }
+
+    @SdkTestInternalApi
+    static ReadCapacityRateLimiter create(double readCapacityUnitsPerSecond, LongSupplier nanoClock) {
+        return new ReadCapacityRateLimiter(readCapacityUnitsPerSecond, nanoClock);
+    }
+
+    /**
+     * @return the number of nanoseconds to wait before the next request may be sent, zero if it may be sent immediately
+     */
+    public synchronized long delayNanos() {
+        return Math.max(0, nextFreeNanos - nanoClock.getAsLong());
+    }
+
+    /**
+     * Charges the capacity consumed by a request.
+     */
+    public synchronized void consume(double capacityUnits) {
+        if (capacityUnits <= 0) {
+            return;
+        }
+        // Unused capacity does not accumulate, so that an idle period is not followed by a burst of requests
+        long now = nanoClock.getAsLong();
+        nextFreeNanos = Math.max(nextFreeNanos, now) + (long) (capacityUnits * nanosPerUnit);
+    }
+}
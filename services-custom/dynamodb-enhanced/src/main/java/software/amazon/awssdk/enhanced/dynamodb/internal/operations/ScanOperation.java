@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.enhanced.dynamodb.internal.operations;
 
+import java.util.Iterator;
 import java.util.Map;
 import java.util.function.Function;
 import software.amazon.awssdk.annotations.SdkInternalApi;
@@ -110,6 +111,19 @@ public class ScanOperation<T> implements PaginatedTableOperation<T, ScanRequest,
                                                                   ScanResponse::lastEvaluatedKey);
     }
 
+    @Override
+    public Iterator<T> transformResponseItems(ScanResponse response,
+                                              TableSchema<T> tableSchema,
+                                              OperationContext context,
+                                              DynamoDbEnhancedClientExtension dynamoDbEnhancedClientExtension) {
+
+        return EnhancedClientUtils.readAndTransformPaginatedItemsLazily(response,
+                                                                        tableSchema,
+                                                                        context,
+                                                                        dynamoDbEnhancedClientExtension,
+                                                                        ScanResponse::items);
+    }
+
     @Override
     public Function<ScanRequest, SdkIterable<ScanResponse>> serviceCall(DynamoDbClient dynamoDbClient) {
         return dynamoDbClient::scanPaginator;
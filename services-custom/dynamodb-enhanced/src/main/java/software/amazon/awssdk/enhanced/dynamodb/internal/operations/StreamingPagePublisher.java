@@ -0,0 +1,226 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.operations;
+
+import java.util.Iterator;
+import java.util.function.Function;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.enhanced.dynamodb.model.PagePublisher;
+
+/**
+ * A {@link PagePublisher} whose {@link #items()} publisher maps and emits the items of each response one at a time, as
+ * they are requested by the subscriber, instead of flattening fully mapped {@link Page}s.
+ * <p>
+ * At most one response is requested from the underlying publisher at a time, and the next response is only requested once
+ * all items of the current one have been delivered. At any time the items publisher therefore holds a single unmapped
+ * response and no mapped items, regardless of the page size.
+ *
+ * @param <ResponseT> The type of the response object for the paginated DynamoDb call.
+ * @param <T> The modelled type of the items in a page.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class StreamingPagePublisher<ResponseT, T> implements PagePublisher<T> {
+    private final SdkPublisher<ResponseT> responsePublisher;
+    private final Function<ResponseT, Page<T>> pageFunction;
+    private final Function<ResponseT, Iterator<T>> itemsFunction;
+
+    private StreamingPagePublisher(SdkPublisher<ResponseT> responsePublisher,
+                                   Function<ResponseT, Page<T>> pageFunction,
+                                   Function<ResponseT, Iterator<T>> itemsFunction) {
+        this.responsePublisher = responsePublisher;
+        this.pageFunction = pageFunction;
+        this.itemsFunction = itemsFunction;
+    }
+
+    /**
+     * @param responsePublisher the publisher of the responses of the paginated DynamoDb call
+     * @param pageFunction maps a response to a page of items
+     * @param itemsFunction returns an iterator that lazily maps the items of a response
+     */
+    public static <ResponseT, T> StreamingPagePublisher<ResponseT, T> create(SdkPublisher<ResponseT> responsePublisher,
+                                                                            Function<ResponseT, Page<T>> pageFunction,
+                                                                            Function<ResponseT, Iterator<T>> itemsFunction) {
+        return new StreamingPagePublisher<>(responsePublisher, pageFunction, itemsFunction);
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super Page<T>> subscriber) {
+        responsePublisher.map(pageFunction).subscribe(subscriber);
+    }
+
+    @Override
+    public SdkPublisher<T> items() {
+        return subscriber -> responsePublisher.subscribe(new ItemSubscription(subscriber));
+    }
+
+    private final class ItemSubscription implements Subscriber<ResponseT>, Subscription {
+        private final Subscriber<? super T> subscriber;
+        private Subscription upstream;
+        private Iterator<T> currentItems;
+        private long demand;
+        private boolean responseRequested;
+        private boolean upstreamComplete;
+        private Throwable failure;
+        private boolean draining;
+        private boolean terminated;
+
+        private ItemSubscription(Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            synchronized (this) {
+                if (upstream != null) {
+                    subscription.cancel();
+                    return;
+                }
+                upstream = subscription;
+            }
+            subscriber.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(ResponseT response) {
+            Iterator<T> items = itemsFunction.apply(response);
+            synchronized (this) {
+                responseRequested = false;
+                currentItems = items;
+            }
+            drain();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            synchronized (this) {
+                failure = t;
+            }
+            drain();
+        }
+
+        @Override
+        public void onComplete() {
+            synchronized (this) {
+                upstreamComplete = true;
+            }
+            drain();
+        }
+
+        @Override
+        public void request(long n) {
+            synchronized (this) {
+                if (terminated) {
+                    return;
+                }
+                if (n <= 0) {
+                    failure = new IllegalArgumentException("A downstream publisher requested an invalid amount of data: " + n);
+                    upstream.cancel();
+                } else {
+                    demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+                }
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            synchronized (this) {
+                if (terminated) {
+                    return;
+                }
+                terminated = true;
+                currentItems = null;
+            }
+            upstream.cancel();
+        }
+
+        /**
+         * Delivers items and requests responses until neither is possible. Only one thread drains at a time, and because the
+         * decision to stop draining is made while holding the lock, a state change made by another thread is either observed
+         * by the draining thread or followed by its own call to this method. The iterator of the current response is only
+         * used by the draining thread.
+         */
+        private void drain() {
+            synchronized (this) {
+                if (draining) {
+                    return;
+                }
+                draining = true;
+            }
+
+            while (true) {
+                Iterator<T> items = null;
+                Throwable error = null;
+                boolean complete = false;
+                boolean requestResponse = false;
+
+                synchronized (this) {
+                    if (terminated) {
+                        draining = false;
+                        return;
+                    }
+                    if (currentItems != null && !currentItems.hasNext()) {
+                        currentItems = null;
+                    }
+
+                    if (failure != null) {
+                        terminated = true;
+                        currentItems = null;
+                        error = failure;
+                    } else if (currentItems != null && demand > 0) {
+                        demand--;
+                        items = currentItems;
+                    } else if (currentItems == null && upstreamComplete) {
+                        terminated = true;
+                        complete = true;
+                    } else if (currentItems == null && demand > 0 && !responseRequested) {
+                        responseRequested = true;
+                        requestResponse = true;
+                    } else {
+                        draining = false;
+                        return;
+                    }
+                }
+
+                if (error != null) {
+                    subscriber.onError(error);
+                } else if (complete) {
+                    subscriber.onComplete();
+                } else if (requestResponse) {
+                    upstream.request(1);
+                } else {
+                    T item;
+                    try {
+                        item = items.next();
+                    } catch (RuntimeException e) {
+                        synchronized (this) {
+                            failure = e;
+                        }
+                        upstream.cancel();
+                        continue;
+                    }
+                    subscriber.onNext(item);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import java.time.Duration;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.enhanced.dynamodb.BatchWriter;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Defines the parameters of a {@link BatchWriter} created through the batchWriter() operation (such as
+ * {@link DynamoDbEnhancedClient#batchWriter(BatchWriterConfiguration)}).
+ * <p>
+ * All parameters are optional.
+ */
+@SdkPublicApi
+@ThreadSafe
+public final class BatchWriterConfiguration {
+    private static final int MAX_BATCH_SIZE = 25;
+    private static final int DEFAULT_MAX_CONCURRENT_BATCHES = 4;
+    private static final int DEFAULT_MAX_BUFFERED_WRITES = 1000;
+    private static final int DEFAULT_MAX_RETRIES = 10;
+    private static final Duration DEFAULT_FLUSH_INTERVAL = Duration.ofMillis(100);
+
+    private final int maxBatchSize;
+    private final int maxConcurrentBatches;
+    private final int maxBufferedWrites;
+    private final int maxRetries;
+    private final Duration flushInterval;
+
+    private BatchWriterConfiguration(Builder builder) {
+        this.maxBatchSize = builder.maxBatchSize != null ? builder.maxBatchSize : MAX_BATCH_SIZE;
+        Validate.isTrue(maxBatchSize >= 1 && maxBatchSize <= MAX_BATCH_SIZE,
+                        "maxBatchSize must be between 1 and %s.", MAX_BATCH_SIZE);
+        this.maxConcurrentBatches = builder.maxConcurrentBatches != null
+                                    ? Validate.isPositive(builder.maxConcurrentBatches, "maxConcurrentBatches")
+                                    : DEFAULT_MAX_CONCURRENT_BATCHES;
+        this.maxBufferedWrites = builder.maxBufferedWrites != null
+                                 ? Validate.isPositive(builder.maxBufferedWrites, "maxBufferedWrites")
+                                 : DEFAULT_MAX_BUFFERED_WRITES;
+        this.maxRetries = builder.maxRetries != null
+                          ? Validate.isNotNegative(builder.maxRetries, "maxRetries")
+                          : DEFAULT_MAX_RETRIES;
+        this.flushInterval = builder.flushInterval != null
+                             ? Validate.isPositive(builder.flushInterval, "flushInterval")
+                             : DEFAULT_FLUSH_INTERVAL;
+    }
+
+    /**
+     * Creates a newly initialized builder for a configuration object.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns a builder initialized with all existing values on the configuration object.
+     */
+    public Builder toBuilder() {
+        return builder().maxBatchSize(maxBatchSize)
+                        .maxConcurrentBatches(maxConcurrentBatches)
+                        .maxBufferedWrites(maxBufferedWrites)
+                        .maxRetries(maxRetries)
+                        .flushInterval(flushInterval);
+    }
+
+    /**
+     * Returns the maximum number of writes sent in a single BatchWriteItem call.
+     */
+    public int maxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * Returns the maximum number of BatchWriteItem calls in flight at the same time.
+     */
+    public int maxConcurrentBatches() {
+        return maxConcurrentBatches;
+    }
+
+    /**
+     * Returns the maximum number of writes that have been submitted but not yet completed.
+     */
+    public int maxBufferedWrites() {
+        return maxBufferedWrites;
+    }
+
+    /**
+     * Returns the number of times a write is sent again after it was not processed.
+     */
+    public int maxRetries() {
+        return maxRetries;
+    }
+
+    /**
+     * Returns the maximum time a write is buffered before it is sent in a batch that is not full.
+     */
+    public Duration flushInterval() {
+        return flushInterval;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        BatchWriterConfiguration that = (BatchWriterConfiguration) o;
+
+        if (maxBatchSize != that.maxBatchSize) {
+            return false;
+        }
+        if (maxConcurrentBatches != that.maxConcurrentBatches) {
+            return false;
+        }
+        if (maxBufferedWrites != that.maxBufferedWrites) {
+            return false;
+        }
+        if (maxRetries != that.maxRetries) {
+            return false;
+        }
+        return flushInterval.equals(that.flushInterval);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = maxBatchSize;
+        result = 31 * result + maxConcurrentBatches;
+        result = 31 * result + maxBufferedWrites;
+        result = 31 * result + maxRetries;
+        result = 31 * result + flushInterval.hashCode();
+        return result;
+    }
+
+    /**
+     * A builder that is used to create a configuration with the desired parameters.
+     */
+    @NotThreadSafe
+    public static final class Builder {
+        private Integer maxBatchSize;
+        private Integer maxConcurrentBatches;
+        private Integer maxBufferedWrites;
+        private Integer maxRetries;
+        private Duration flushInterval;
+
+        private Builder() {
+        }
+
+        /**
+         * The maximum number of writes sent in a single BatchWriteItem call, between 1 and 25. The writes of a batch may
+         * target different tables.
+         * <p>
+         * By default, batches contain up to 25 writes, the limit of the BatchWriteItem operation.
+         *
+         * @param maxBatchSize the maximum number of writes in a batch
+         * @return a builder of this type
+         */
+        public Builder maxBatchSize(Integer maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        /**
+         * The maximum number of BatchWriteItem calls in flight at the same time. When the writer is created by a
+         * {@link DynamoDbEnhancedClient}, the calls are made on a thread pool of this size.
+         * <p>
+         * By default, 4 batches are sent at the same time.
+         *
+         * @param maxConcurrentBatches the maximum number of batches in flight
+         * @return a builder of this type
+         */
+        public Builder maxConcurrentBatches(Integer maxConcurrentBatches) {
+            this.maxConcurrentBatches = maxConcurrentBatches;
+            return this;
+        }
+
+        /**
+         * The maximum number of writes that have been submitted but not yet completed, including the writes in flight and
+         * the writes waiting to be sent again. Submitting a write blocks while the buffer is full.
+         * <p>
+         * By default, up to 1000 writes are buffered.
+         *
+         * @param maxBufferedWrites the maximum number of buffered writes
+         * @return a builder of this type
+         */
+        public Builder maxBufferedWrites(Integer maxBufferedWrites) {
+            this.maxBufferedWrites = maxBufferedWrites;
+            return this;
+        }
+
+        /**
+         * The number of times a write is sent again after DynamoDb reported it as unprocessed, or after its batch failed with
+         * a retryable error. These retries are made in addition to the retries of the low-level client, with a backoff
+         * between attempts.
+         * <p>
+         * By default, a write is sent again up to 10 times.
+         *
+         * @param maxRetries the maximum number of retries of a write
+         * @return a builder of this type
+         */
+        public Builder maxRetries(Integer maxRetries) {
+            this.maxRetries = maxRetries;
+            return this;
+        }
+
+        /**
+         * The maximum time a write is buffered before it is sent in a batch that is not full.
+         * <p>
+         * By default, writes are buffered for up to 100 milliseconds.
+         *
+         * @param flushInterval the maximum time a write is buffered
+         * @return a builder of this type
+         */
+        public Builder flushInterval(Duration flushInterval) {
+            this.flushInterval = flushInterval;
+            return this;
+        }
+
+        public BatchWriterConfiguration build() {
+            return new BatchWriterConfiguration(this);
+        }
+    }
+}
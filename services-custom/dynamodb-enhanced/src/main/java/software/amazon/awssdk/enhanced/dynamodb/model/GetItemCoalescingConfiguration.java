@@ -0,0 +1,172 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import java.time.Duration;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Defines how concurrent getItem() operations of the tables of a {@link DynamoDbEnhancedAsyncClient} are coalesced into
+ * BatchGetItem calls, see {@link DynamoDbEnhancedAsyncClient.Builder#getItemCoalescing(GetItemCoalescingConfiguration)}.
+ * <p>
+ * All parameters are optional.
+ */
+@SdkPublicApi
+@ThreadSafe
+public final class GetItemCoalescingConfiguration {
+    private static final int MAX_BATCH_SIZE = 100;
+    private static final Duration DEFAULT_WINDOW = Duration.ofMillis(2);
+    private static final int DEFAULT_MAX_RETRIES = 10;
+
+    private final Duration window;
+    private final int maxBatchSize;
+    private final int maxRetries;
+
+    private GetItemCoalescingConfiguration(Builder builder) {
+        this.window = builder.window != null ? Validate.isPositive(builder.window, "window") : DEFAULT_WINDOW;
+        this.maxBatchSize = builder.maxBatchSize != null ? builder.maxBatchSize : MAX_BATCH_SIZE;
+        Validate.isTrue(maxBatchSize >= 1 && maxBatchSize <= MAX_BATCH_SIZE,
+                        "maxBatchSize must be between 1 and %s.", MAX_BATCH_SIZE);
+        this.maxRetries = builder.maxRetries != null
+                          ? Validate.isNotNegative(builder.maxRetries, "maxRetries")
+                          : DEFAULT_MAX_RETRIES;
+    }
+
+    /**
+     * Creates a newly initialized builder for a configuration object.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns a builder initialized with all existing values on the configuration object.
+     */
+    public Builder toBuilder() {
+        return builder().window(window).maxBatchSize(maxBatchSize).maxRetries(maxRetries);
+    }
+
+    /**
+     * Returns the maximum time a getItem() operation waits for other operations to be coalesced with.
+     */
+    public Duration window() {
+        return window;
+    }
+
+    /**
+     * Returns the maximum number of keys retrieved by a single BatchGetItem call.
+     */
+    public int maxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * Returns the number of times unprocessed keys are requested again.
+     */
+    public int maxRetries() {
+        return maxRetries;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        GetItemCoalescingConfiguration that = (GetItemCoalescingConfiguration) o;
+
+        if (maxBatchSize != that.maxBatchSize) {
+            return false;
+        }
+        if (maxRetries != that.maxRetries) {
+            return false;
+        }
+        return window.equals(that.window);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = window.hashCode();
+        result = 31 * result + maxBatchSize;
+        result = 31 * result + maxRetries;
+        return result;
+    }
+
+    /**
+     * A builder that is used to create a configuration with the desired parameters.
+     */
+    @NotThreadSafe
+    public static final class Builder {
+        private Duration window;
+        private Integer maxBatchSize;
+        private Integer maxRetries;
+
+        private Builder() {
+        }
+
+        /**
+         * The maximum time a getItem() operation waits for other operations to be coalesced with. A BatchGetItem call is
+         * made once the window of its first key has elapsed, or as soon as it contains {@link #maxBatchSize(Integer)} keys.
+         * <p>
+         * By default, the window is 2 milliseconds.
+         *
+         * @param window the maximum time an operation is delayed
+         * @return a builder of this type
+         */
+        public Builder window(Duration window) {
+            this.window = window;
+            return this;
+        }
+
+        /**
+         * The maximum number of keys retrieved by a single BatchGetItem call, between 1 and 100.
+         * <p>
+         * By default, up to 100 keys are retrieved by a call, the limit of the BatchGetItem operation.
+         *
+         * @param maxBatchSize the maximum number of keys in a call
+         * @return a builder of this type
+         */
+        public Builder maxBatchSize(Integer maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        /**
+         * The number of times keys that DynamoDb reported as unprocessed are requested again, with a backoff between
+         * attempts. The operations of keys that are still unprocessed afterwards fail.
+         * <p>
+         * By default, unprocessed keys are requested again up to 10 times.
+         *
+         * @param maxRetries the maximum number of retries of a key
+         * @return a builder of this type
+         */
+        public Builder maxRetries(Integer maxRetries) {
+            this.maxRetries = maxRetries;
+            return this;
+        }
+
+        public GetItemCoalescingConfiguration build() {
+            return new GetItemCoalescingConfiguration(this);
+        }
+    }
+}
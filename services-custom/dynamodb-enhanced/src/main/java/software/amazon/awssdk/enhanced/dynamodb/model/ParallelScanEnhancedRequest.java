@@ -0,0 +1,256 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import java.util.function.Consumer;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Defines parameters used when scanning a DynamoDb table in parallel segments using the parallelScan() operation (such as
+ * {@link DynamoDbTable#parallelScan(ParallelScanEnhancedRequest)}).
+ * <p>
+ * The total number of segments is required, all other parameters are optional.
+ */
+@SdkPublicApi
+@ThreadSafe
+public final class ParallelScanEnhancedRequest {
+    private static final int MAX_TOTAL_SEGMENTS = 1_000_000;
+    private static final int DEFAULT_MAX_CONCURRENT_SEGMENTS = 8;
+    private static final int DEFAULT_MAX_SEGMENT_RETRIES = 3;
+
+    private final ScanEnhancedRequest scanEnhancedRequest;
+    private final int totalSegments;
+    private final int maxConcurrentSegments;
+    private final int maxSegmentRetries;
+    private final Double readCapacityUnitsPerSecond;
+
+    private ParallelScanEnhancedRequest(Builder builder) {
+        this.scanEnhancedRequest = builder.scanEnhancedRequest != null ? builder.scanEnhancedRequest
+                                                                       : ScanEnhancedRequest.builder().build();
+        this.totalSegments = Validate.paramNotNull(builder.totalSegments, "totalSegments");
+        Validate.isTrue(totalSegments >= 1 && totalSegments <= MAX_TOTAL_SEGMENTS,
+                        "totalSegments must be between 1 and %s.", MAX_TOTAL_SEGMENTS);
+        this.maxConcurrentSegments = builder.maxConcurrentSegments != null
+                                     ? Validate.isPositive(builder.maxConcurrentSegments, "maxConcurrentSegments")
+                                     : Math.min(totalSegments, DEFAULT_MAX_CONCURRENT_SEGMENTS);
+        this.maxSegmentRetries = builder.maxSegmentRetries != null
+                                 ? Validate.isNotNegative(builder.maxSegmentRetries, "maxSegmentRetries")
+                                 : DEFAULT_MAX_SEGMENT_RETRIES;
+        this.readCapacityUnitsPerSecond = builder.readCapacityUnitsPerSecond;
+        if (readCapacityUnitsPerSecond != null) {
+            Validate.isTrue(readCapacityUnitsPerSecond > 0, "readCapacityUnitsPerSecond must be positive.");
+        }
+        Validate.isTrue(scanEnhancedRequest.segment() == null && scanEnhancedRequest.totalSegments() == null,
+                        "The scan request of a parallel scan must not specify a segment or totalSegments.");
+        Validate.isTrue(scanEnhancedRequest.exclusiveStartKey() == null,
+                        "The scan request of a parallel scan must not specify an exclusiveStartKey.");
+    }
+
+    /**
+     * Creates a newly initialized builder for a request object.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns a builder initialized with all existing values on the request object.
+     */
+    public Builder toBuilder() {
+        return builder().scanEnhancedRequest(scanEnhancedRequest)
+                        .totalSegments(totalSegments)
+                        .maxConcurrentSegments(maxConcurrentSegments)
+                        .maxSegmentRetries(maxSegmentRetries)
+                        .readCapacityUnitsPerSecond(readCapacityUnitsPerSecond);
+    }
+
+    /**
+     * Returns the scan request that is executed on every segment.
+     */
+    public ScanEnhancedRequest scanEnhancedRequest() {
+        return scanEnhancedRequest;
+    }
+
+    /**
+     * Returns the number of segments the table is divided into.
+     */
+    public int totalSegments() {
+        return totalSegments;
+    }
+
+    /**
+     * Returns the maximum number of segments that are scanned at the same time.
+     */
+    public int maxConcurrentSegments() {
+        return maxConcurrentSegments;
+    }
+
+    /**
+     * Returns the number of times a segment is resumed after a page of it failed to be retrieved.
+     */
+    public int maxSegmentRetries() {
+        return maxSegmentRetries;
+    }
+
+    /**
+     * Returns the read capacity units per second the scan is limited to consume, or null if it is not limited.
+     */
+    public Double readCapacityUnitsPerSecond() {
+        return readCapacityUnitsPerSecond;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        ParallelScanEnhancedRequest that = (ParallelScanEnhancedRequest) o;
+
+        if (totalSegments != that.totalSegments) {
+            return false;
+        }
+        if (maxConcurrentSegments != that.maxConcurrentSegments) {
+            return false;
+        }
+        if (maxSegmentRetries != that.maxSegmentRetries) {
+            return false;
+        }
+        if (!scanEnhancedRequest.equals(that.scanEnhancedRequest)) {
+            return false;
+        }
+        return readCapacityUnitsPerSecond != null ? readCapacityUnitsPerSecond.equals(that.readCapacityUnitsPerSecond)
+                                                  : that.readCapacityUnitsPerSecond == null;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = scanEnhancedRequest.hashCode();
+        result = 31 * result + totalSegments;
+        result = 31 * result + maxConcurrentSegments;
+        result = 31 * result + maxSegmentRetries;
+        result = 31 * result + (readCapacityUnitsPerSecond != null ? readCapacityUnitsPerSecond.hashCode() : 0);
+        return result;
+    }
+
+    /**
+     * A builder that is used to create a request with the desired parameters.
+     */
+    @NotThreadSafe
+    public static final class Builder {
+        private ScanEnhancedRequest scanEnhancedRequest;
+        private Integer totalSegments;
+        private Integer maxConcurrentSegments;
+        private Integer maxSegmentRetries;
+        private Double readCapacityUnitsPerSecond;
+
+        private Builder() {
+        }
+
+        /**
+         * The scan request that is executed on every segment, such as a filter expression or the attributes to project.
+         * The request must not specify a segment, totalSegments or an exclusiveStartKey, since these are managed by the
+         * parallel scan. By default, all items of every segment are scanned.
+         *
+         * @param scanEnhancedRequest the scan request executed on every segment
+         * @return a builder of this type
+         */
+        public Builder scanEnhancedRequest(ScanEnhancedRequest scanEnhancedRequest) {
+            this.scanEnhancedRequest = scanEnhancedRequest;
+            return this;
+        }
+
+        /**
+         * The scan request that is executed on every segment, created through a consumer of its builder.
+         *
+         * @see #scanEnhancedRequest(ScanEnhancedRequest)
+         * @param scanEnhancedRequest a consumer of the builder of the scan request executed on every segment
+         * @return a builder of this type
+         */
+        public Builder scanEnhancedRequest(Consumer<ScanEnhancedRequest.Builder> scanEnhancedRequest) {
+            ScanEnhancedRequest.Builder builder = ScanEnhancedRequest.builder();
+            scanEnhancedRequest.accept(builder);
+            return scanEnhancedRequest(builder.build());
+        }
+
+        /**
+         * The total number of segments the table is divided into, between 1 and 1,000,000. This parameter is required.
+         *
+         * @param totalSegments the total number of segments to divide the table into
+         * @return a builder of this type
+         */
+        public Builder totalSegments(Integer totalSegments) {
+            this.totalSegments = totalSegments;
+            return this;
+        }
+
+        /**
+         * The maximum number of segments that are scanned at the same time. Each segment that is being scanned has at most
+         * one page request in flight, and the pages that were retrieved but not yet consumed are bounded by the same number.
+         * <p>
+         * By default, at most 8 segments are scanned at the same time.
+         *
+         * @param maxConcurrentSegments the maximum number of segments scanned at the same time
+         * @return a builder of this type
+         */
+        public Builder maxConcurrentSegments(Integer maxConcurrentSegments) {
+            this.maxConcurrentSegments = maxConcurrentSegments;
+            return this;
+        }
+
+        /**
+         * The number of times a segment is resumed from its last retrieved page when retrieving its next page failed with
+         * a retryable error, after the retries of the DynamoDb client itself have been exhausted. The count is reset every
+         * time a page of the segment is retrieved. If a segment fails more often, the whole scan fails.
+         * <p>
+         * By default, a segment is resumed 3 times.
+         *
+         * @param maxSegmentRetries the number of times a segment is resumed after a failure
+         * @return a builder of this type
+         */
+        public Builder maxSegmentRetries(Integer maxSegmentRetries) {
+            this.maxSegmentRetries = maxSegmentRetries;
+            return this;
+        }
+
+        /**
+         * Limits the rate at which the scan consumes read capacity of the table, in read capacity units per second. The
+         * consumed capacity of every page is requested from DynamoDb, and the next pages of all segments are delayed until
+         * the consumed capacity is within the limit. This leaves capacity for the other readers of the table, for example
+         * while exporting a table that also serves production traffic.
+         * <p>
+         * By default, the consumed capacity is not limited.
+         *
+         * @param readCapacityUnitsPerSecond the maximum read capacity units consumed per second
+         * @return a builder of this type
+         */
+        public Builder readCapacityUnitsPerSecond(Double readCapacityUnitsPerSecond) {
+            this.readCapacityUnitsPerSecond = readCapacityUnitsPerSecond;
+            return this;
+        }
+
+        public ParallelScanEnhancedRequest build() {
+            return new ParallelScanEnhancedRequest(this);
+        }
+    }
+}
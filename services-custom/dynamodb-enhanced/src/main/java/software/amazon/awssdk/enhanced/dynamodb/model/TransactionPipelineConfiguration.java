@@ -0,0 +1,179 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.TransactionPipeline;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Defines the parameters of a {@link TransactionPipeline} created through the transactionPipeline() operation (such as
+ * {@link DynamoDbEnhancedClient#transactionPipeline(TransactionPipelineConfiguration)}).
+ * <p>
+ * All parameters are optional.
+ */
+@SdkPublicApi
+@ThreadSafe
+public final class TransactionPipelineConfiguration {
+    private static final int DEFAULT_MAX_CONCURRENT_TRANSACTIONS = 8;
+    private static final int DEFAULT_MAX_PENDING_TRANSACTIONS = 1000;
+    private static final int DEFAULT_MAX_RETRIES = 5;
+
+    private final int maxConcurrentTransactions;
+    private final int maxPendingTransactions;
+    private final int maxRetries;
+
+    private TransactionPipelineConfiguration(Builder builder) {
+        this.maxConcurrentTransactions = builder.maxConcurrentTransactions != null
+                                         ? Validate.isPositive(builder.maxConcurrentTransactions, "maxConcurrentTransactions")
+                                         : DEFAULT_MAX_CONCURRENT_TRANSACTIONS;
+        this.maxPendingTransactions = builder.maxPendingTransactions != null
+                                      ? Validate.isPositive(builder.maxPendingTransactions, "maxPendingTransactions")
+                                      : DEFAULT_MAX_PENDING_TRANSACTIONS;
+        this.maxRetries = builder.maxRetries != null
+                          ? Validate.isNotNegative(builder.maxRetries, "maxRetries")
+                          : DEFAULT_MAX_RETRIES;
+    }
+
+    /**
+     * Creates a newly initialized builder for a configuration object.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns a builder initialized with all existing values on the configuration object.
+     */
+    public Builder toBuilder() {
+        return builder().maxConcurrentTransactions(maxConcurrentTransactions)
+                        .maxPendingTransactions(maxPendingTransactions)
+                        .maxRetries(maxRetries);
+    }
+
+    /**
+     * Returns the maximum number of TransactWriteItems calls in flight at the same time.
+     */
+    public int maxConcurrentTransactions() {
+        return maxConcurrentTransactions;
+    }
+
+    /**
+     * Returns the maximum number of transactions that have been submitted but not yet completed.
+     */
+    public int maxPendingTransactions() {
+        return maxPendingTransactions;
+    }
+
+    /**
+     * Returns the number of times a transaction is sent again after it was cancelled because of a conflict or throttling.
+     */
+    public int maxRetries() {
+        return maxRetries;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        TransactionPipelineConfiguration that = (TransactionPipelineConfiguration) o;
+
+        if (maxConcurrentTransactions != that.maxConcurrentTransactions) {
+            return false;
+        }
+        if (maxPendingTransactions != that.maxPendingTransactions) {
+            return false;
+        }
+        return maxRetries == that.maxRetries;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = maxConcurrentTransactions;
+        result = 31 * result + maxPendingTransactions;
+        result = 31 * result + maxRetries;
+        return result;
+    }
+
+    /**
+     * A builder that is used to create a configuration with the desired parameters.
+     */
+    @NotThreadSafe
+    public static final class Builder {
+        private Integer maxConcurrentTransactions;
+        private Integer maxPendingTransactions;
+        private Integer maxRetries;
+
+        private Builder() {
+        }
+
+        /**
+         * The maximum number of TransactWriteItems calls in flight at the same time. When the pipeline is created by a
+         * {@link DynamoDbEnhancedClient}, the calls are made on a thread pool of this size.
+         * <p>
+         * By default, 8 transactions are sent at the same time.
+         *
+         * @param maxConcurrentTransactions the maximum number of transactions in flight
+         * @return a builder of this type
+         */
+        public Builder maxConcurrentTransactions(Integer maxConcurrentTransactions) {
+            this.maxConcurrentTransactions = maxConcurrentTransactions;
+            return this;
+        }
+
+        /**
+         * The maximum number of transactions that have been submitted but not yet completed, including the transactions in
+         * flight, the transactions waiting for a conflicting transaction to complete and the transactions waiting to be sent
+         * again. Submitting a transaction blocks while this limit is reached.
+         * <p>
+         * By default, up to 1000 transactions are pending.
+         *
+         * @param maxPendingTransactions the maximum number of pending transactions
+         * @return a builder of this type
+         */
+        public Builder maxPendingTransactions(Integer maxPendingTransactions) {
+            this.maxPendingTransactions = maxPendingTransactions;
+            return this;
+        }
+
+        /**
+         * The number of times a transaction is sent again after DynamoDb cancelled it because of a conflict with another
+         * transaction or because of throttling. These retries are made in addition to the retries of the low-level client,
+         * with a backoff between attempts. Other errors are only retried by the low-level client.
+         * <p>
+         * By default, a transaction is sent again up to 5 times.
+         *
+         * @param maxRetries the maximum number of retries of a transaction
+         * @return a builder of this type
+         */
+        public Builder maxRetries(Integer maxRetries) {
+            this.maxRetries = maxRetries;
+            return this;
+        }
+
+        public TransactionPipelineConfiguration build() {
+            return new TransactionPipelineConfiguration(this);
+        }
+    }
+}
@@ -39,6 +39,7 @@ import software.amazon.awssdk.enhanced.dynamodb.internal.converter.attribute.Int
 import software.amazon.awssdk.enhanced.dynamodb.internal.converter.attribute.LongAttributeConverter;
 import software.amazon.awssdk.enhanced.dynamodb.internal.converter.attribute.SetAttributeConverter;
 import software.amazon.awssdk.enhanced.dynamodb.internal.converter.attribute.ShortAttributeConverter;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 
 public class NumberAttributeConvertersTest {
     private static String TIIIINY_NUMBER = tiiiinyNumber();
@@ -265,6 +266,26 @@ public class NumberAttributeConvertersTest {
                 .isEqualTo(Long.MAX_VALUE);
     }
 
+    @Test
+    public void primitiveConvertersBehaveLikeBoxedConverters() {
+        IntegerAttributeConverter intConverter = IntegerAttributeConverter.create();
+        assertThat(intConverter.transformFromInt(-42)).isEqualTo(intConverter.transformFrom(-42));
+        assertThat(intConverter.transformToInt(AttributeValue.fromN("42"))).isEqualTo(42);
+        assertThat(intConverter.transformToInt(AttributeValue.fromS("42"))).isEqualTo(42);
+        assertFails(() -> intConverter.transformToInt(AttributeValue.fromN("1.0")));
+
+        LongAttributeConverter longConverter = LongAttributeConverter.create();
+        assertThat(longConverter.transformFromLong(Long.MIN_VALUE)).isEqualTo(longConverter.transformFrom(Long.MIN_VALUE));
+        assertThat(longConverter.transformToLong(AttributeValue.fromN(Long.toString(Long.MAX_VALUE)))).isEqualTo(Long.MAX_VALUE);
+        assertFails(() -> longConverter.transformToLong(AttributeValue.fromN("1.0")));
+
+        DoubleAttributeConverter doubleConverter = DoubleAttributeConverter.create();
+        assertThat(doubleConverter.transformFromDouble(42.42)).isEqualTo(doubleConverter.transformFrom(42.42));
+        assertThat(doubleConverter.transformToDouble(AttributeValue.fromN("-42.42"))).isCloseTo(-42.42d, offset(1E-10));
+        assertFails(() -> doubleConverter.transformFromDouble(Double.NaN));
+        assertFails(() -> doubleConverter.transformToDouble(AttributeValue.fromN("2E308")));
+    }
+
     @Test
     public void setOfLongsAttributeConverter_ReturnsNSType() {
         SetAttributeConverter<Set<Long>> longSet = SetAttributeConverter.setConverter(LongAttributeConverter.create());
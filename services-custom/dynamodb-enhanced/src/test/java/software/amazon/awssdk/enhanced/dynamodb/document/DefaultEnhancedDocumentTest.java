@@ -19,8 +19,20 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static software.amazon.awssdk.enhanced.dynamodb.AttributeConverterProvider.defaultProvider;
 import static software.amazon.awssdk.enhanced.dynamodb.document.EnhancedDocumentTestData.defaultDocBuilder;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.SdkNumber;
+import software.amazon.awssdk.enhanced.dynamodb.AttributeConverter;
+import software.amazon.awssdk.enhanced.dynamodb.AttributeConverterProvider;
+import software.amazon.awssdk.enhanced.dynamodb.EnhancedType;
+import software.amazon.awssdk.enhanced.dynamodb.internal.converter.attribute.JsonItemAttributeConverter;
 import software.amazon.awssdk.enhanced.dynamodb.internal.document.DefaultEnhancedDocument;
+import software.amazon.awssdk.enhanced.dynamodb.internal.document.JsonStringFormatHelper;
+import software.amazon.awssdk.protocols.jsoncore.JsonNode;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 
 class DefaultEnhancedDocumentTest {
@@ -63,4 +75,86 @@ class DefaultEnhancedDocumentTest {
         DefaultEnhancedDocument document = (DefaultEnhancedDocument) builder.build();
         assertThat(document.isNull("nullAttribute")).isTrue();
     }
+
+    @Test
+    void fromAttributeValueMap_keepsAttributeValuesAndMemoizesDecodedValues() {
+        Map<String, AttributeValue> attributeValueMap = new LinkedHashMap<>();
+        attributeValueMap.put("number", AttributeValue.fromN("10"));
+        attributeValueMap.put("string", AttributeValue.fromS("value"));
+        attributeValueMap.put("stringSet", AttributeValue.fromSs(Arrays.asList("a", "b")));
+
+        DefaultEnhancedDocument document =
+            DefaultEnhancedDocument.fromAttributeValueMap(attributeValueMap, Collections.singletonList(defaultProvider()));
+        attributeValueMap.remove("string");
+
+        assertThat(document.toMap()).containsOnlyKeys("number", "string", "stringSet");
+        SdkNumber number = document.getNumber("number");
+        assertThat(number).isEqualTo(SdkNumber.fromInteger(10));
+        assertThat(document.getNumber("number")).isSameAs(number);
+        assertThat(document.getString("number")).isEqualTo("10");
+        assertThat(document.getStringSet("stringSet")).isNotSameAs(document.getStringSet("stringSet"));
+        assertThat(document.getJson("stringSet")).isSameAs(document.getJson("stringSet"));
+        assertThat(document.toBuilder().build().toMap()).isEqualTo(document.toMap());
+    }
+
+    @Test
+    void getJsonAndGetJsonNode_onSameAttribute_doNotShareMemoizedValue() {
+        Map<String, AttributeValue> attributeValueMap = new LinkedHashMap<>();
+        attributeValueMap.put("map", AttributeValue.fromM(Collections.singletonMap("key", AttributeValue.fromS("value"))));
+
+        AttributeConverterProvider jsonNodeProvider = new AttributeConverterProvider() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <T> AttributeConverter<T> converterFor(EnhancedType<T> enhancedType) {
+                return enhancedType.rawClass() == JsonNode.class
+                       ? (AttributeConverter<T>) JsonItemAttributeConverter.create()
+                       : null;
+            }
+        };
+        DefaultEnhancedDocument document =
+            DefaultEnhancedDocument.fromAttributeValueMap(attributeValueMap, Arrays.asList(jsonNodeProvider, defaultProvider()));
+
+        JsonNode jsonNode = document.get("map", EnhancedType.of(JsonNode.class));
+        assertThat(document.getJson("map")).isEqualTo("{\"key\":\"value\"}");
+        assertThat(document.get("map", EnhancedType.of(JsonNode.class))).isEqualTo(jsonNode);
+        assertThat(document.getJson("map")).isEqualTo("{\"key\":\"value\"}");
+    }
+
+    @Test
+    void toJson_matchesJsonNodeConversion() {
+        Map<String, AttributeValue> nested = new LinkedHashMap<>();
+        nested.put("nestedString", AttributeValue.fromS("quote\" and \\ tab\t"));
+        nested.put("nestedNull", AttributeValue.fromNul(true));
+        nested.put("nestedList", AttributeValue.fromL(Arrays.asList(AttributeValue.fromN("1.5"),
+                                                                    AttributeValue.fromBool(false),
+                                                                    AttributeValue.fromNul(true),
+                                                                    AttributeValue.fromM(Collections.emptyMap()))));
+
+        Map<String, AttributeValue> attributeValueMap = new LinkedHashMap<>();
+        attributeValueMap.put("key \"with\" quotes", AttributeValue.fromS("value\n"));
+        attributeValueMap.put("number", AttributeValue.fromN("-12.0e3"));
+        attributeValueMap.put("bool", AttributeValue.fromBool(true));
+        attributeValueMap.put("null", AttributeValue.fromNul(true));
+        attributeValueMap.put("bytes", AttributeValue.fromB(SdkBytes.fromUtf8String("bytes")));
+        attributeValueMap.put("stringSet", AttributeValue.fromSs(Arrays.asList("a", "b\"")));
+        attributeValueMap.put("numberSet", AttributeValue.fromNs(Arrays.asList("1", "2")));
+        attributeValueMap.put("bytesSet", AttributeValue.fromBs(Arrays.asList(SdkBytes.fromUtf8String("a"),
+                                                                              SdkBytes.fromUtf8String("b"))));
+        attributeValueMap.put("emptyList", AttributeValue.fromL(Collections.emptyList()));
+        attributeValueMap.put("map", AttributeValue.fromM(nested));
+
+        EnhancedDocument document = EnhancedDocument.fromAttributeValueMap(attributeValueMap);
+
+        JsonItemAttributeConverter converter = JsonItemAttributeConverter.create();
+        StringBuilder expected = new StringBuilder("{");
+        attributeValueMap.forEach((k, v) -> expected.append(expected.length() > 1 ? "," : "")
+                                                    .append('"').append(JsonStringFormatHelper.addEscapeCharacters(k))
+                                                    .append("\":")
+                                                    .append(JsonStringFormatHelper.stringValue(converter.transformTo(v))));
+        expected.append('}');
+
+        assertThat(document.toJson()).isEqualTo(expected.toString());
+        assertThat(document.getJson("map")).isEqualTo(JsonStringFormatHelper.stringValue(converter.transformTo(
+            attributeValueMap.get("map"))));
+    }
 }
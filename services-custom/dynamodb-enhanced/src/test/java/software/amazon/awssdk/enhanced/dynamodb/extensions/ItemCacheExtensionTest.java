@@ -0,0 +1,224 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.extensions;
+
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.functionaltests.models.FakeItem;
+import software.amazon.awssdk.enhanced.dynamodb.model.ReadBatch;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutItemResponse;
+import software.amazon.awssdk.services.dynamodb.paginators.BatchGetItemIterable;
+
+class ItemCacheExtensionTest {
+    private static final String TABLE_NAME = "table-name";
+
+    private final FakeItem item = FakeItem.createUniqueFakeItem();
+    private DynamoDbClient client;
+    private Clock clock;
+
+    @BeforeEach
+    void setUp() {
+        client = mock(DynamoDbClient.class);
+        clock = mock(Clock.class);
+        when(clock.instant()).thenReturn(Instant.EPOCH);
+        when(client.getItem(any(GetItemRequest.class)))
+            .thenReturn(GetItemResponse.builder().item(FakeItem.getTableSchema().itemToMap(item, true)).build());
+        when(client.putItem(any(PutItemRequest.class))).thenReturn(PutItemResponse.builder().build());
+        when(client.deleteItem(any(DeleteItemRequest.class))).thenReturn(DeleteItemResponse.builder().build());
+    }
+
+    @Test
+    void getItem_cachedItem_shouldNotCallDatabase() {
+        ItemCacheExtension cache = ItemCacheExtension.builder().baseClock(clock).build();
+        DynamoDbTable<FakeItem> table = table(cache);
+
+        assertThat(table.getItem(key(item))).isEqualTo(item);
+        assertThat(table.getItem(key(item))).isEqualTo(item);
+
+        verify(client, times(1)).getItem(any(GetItemRequest.class));
+        assertThat(cache.hitCount()).isEqualTo(1);
+        assertThat(cache.missCount()).isEqualTo(1);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void getItem_consistentRead_shouldBypassCache() {
+        ItemCacheExtension cache = ItemCacheExtension.builder().baseClock(clock).build();
+        DynamoDbTable<FakeItem> table = table(cache);
+
+        table.getItem(key(item));
+        assertThat(table.getItem(r -> r.key(key(item)).consistentRead(true))).isEqualTo(item);
+
+        verify(client, times(2)).getItem(any(GetItemRequest.class));
+        assertThat(cache.hitCount()).isZero();
+    }
+
+    @Test
+    void getItem_expiredItem_shouldCallDatabase() {
+        ItemCacheExtension cache = ItemCacheExtension.builder().baseClock(clock).timeToLive(Duration.ofSeconds(10)).build();
+        DynamoDbTable<FakeItem> table = table(cache);
+
+        table.getItem(key(item));
+        when(clock.instant()).thenReturn(Instant.EPOCH.plusSeconds(10));
+        table.getItem(key(item));
+
+        verify(client, times(2)).getItem(any(GetItemRequest.class));
+        assertThat(cache.missCount()).isEqualTo(2);
+    }
+
+    @Test
+    void putItem_shouldInvalidateItem() {
+        ItemCacheExtension cache = ItemCacheExtension.builder().baseClock(clock).build();
+        DynamoDbTable<FakeItem> table = table(cache);
+
+        table.getItem(key(item));
+        table.putItem(item);
+        table.getItem(key(item));
+
+        verify(client, times(2)).getItem(any(GetItemRequest.class));
+    }
+
+    @Test
+    void deleteItem_shouldInvalidateItem() {
+        ItemCacheExtension cache = ItemCacheExtension.builder().baseClock(clock).build();
+        DynamoDbTable<FakeItem> table = table(cache);
+
+        table.getItem(key(item));
+        table.deleteItem(key(item));
+        table.getItem(key(item));
+
+        verify(client, times(2)).getItem(any(GetItemRequest.class));
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void getItem_itemWrittenWhileReading_shouldNotBeCached() {
+        ItemCacheExtension cache = ItemCacheExtension.builder().baseClock(clock).build();
+        DynamoDbTable<FakeItem> table = table(cache);
+        GetItemResponse staleResponse =
+            GetItemResponse.builder().item(FakeItem.getTableSchema().itemToMap(item, true)).build();
+        when(client.getItem(any(GetItemRequest.class))).thenAnswer(i -> {
+            table.putItem(item);
+            return staleResponse;
+        });
+
+        assertThat(table.getItem(key(item))).isEqualTo(item);
+
+        assertThat(cache.size()).isZero();
+        table.getItem(key(item));
+        verify(client, times(2)).getItem(any(GetItemRequest.class));
+    }
+
+    @Test
+    void getItem_itemWrittenBeforeReading_shouldBeCached() {
+        ItemCacheExtension cache = ItemCacheExtension.builder().baseClock(clock).build();
+        DynamoDbTable<FakeItem> table = table(cache);
+
+        table.putItem(item);
+        table.getItem(key(item));
+        table.getItem(key(item));
+
+        verify(client, times(1)).getItem(any(GetItemRequest.class));
+        assertThat(cache.hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void getItem_maxItemsExceeded_shouldEvictLeastRecentlyUsedItem() {
+        FakeItem otherItem = FakeItem.createUniqueFakeItem();
+        when(client.getItem(any(GetItemRequest.class)))
+            .thenReturn(GetItemResponse.builder().item(FakeItem.getTableSchema().itemToMap(item, true)).build(),
+                        GetItemResponse.builder().item(FakeItem.getTableSchema().itemToMap(otherItem, true)).build());
+        ItemCacheExtension cache = ItemCacheExtension.builder().baseClock(clock).maxItems(1).build();
+        DynamoDbTable<FakeItem> table = table(cache);
+
+        table.getItem(key(item));
+        table.getItem(key(otherItem));
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.evictionCount()).isEqualTo(1);
+        assertThat(table.getItem(key(otherItem))).isEqualTo(otherItem);
+        assertThat(cache.hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void getItem_itemLargerThanMaxSize_shouldNotBeCached() {
+        ItemCacheExtension cache = ItemCacheExtension.builder().baseClock(clock).maxSizeInBytes(1L).build();
+        DynamoDbTable<FakeItem> table = table(cache);
+
+        table.getItem(key(item));
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void batchGetItem_shouldPopulateCache() {
+        when(client.batchGetItem(any(BatchGetItemRequest.class)))
+            .thenReturn(BatchGetItemResponse.builder()
+                                            .responses(singletonMap(TABLE_NAME, singletonList(
+                                                FakeItem.getTableSchema().itemToMap(item, true))))
+                                            .build());
+        when(client.batchGetItemPaginator(any(BatchGetItemRequest.class)))
+            .thenAnswer(i -> new BatchGetItemIterable(client, i.getArgument(0)));
+        ItemCacheExtension cache = ItemCacheExtension.builder().baseClock(clock).build();
+        DynamoDbEnhancedClient enhancedClient = enhancedClient(cache);
+        DynamoDbTable<FakeItem> table = enhancedClient.table(TABLE_NAME, FakeItem.getTableSchema());
+
+        assertThat(enhancedClient.batchGetItem(r -> r.addReadBatch(ReadBatch.builder(FakeItem.class)
+                                                                            .mappedTableResource(table)
+                                                                            .addGetItem(key(item))
+                                                                            .build()))
+                                 .resultsForTable(table))
+            .containsExactly(item);
+
+        assertThat(table.getItem(key(item))).isEqualTo(item);
+        verify(client, times(0)).getItem(any(GetItemRequest.class));
+    }
+
+    private DynamoDbTable<FakeItem> table(ItemCacheExtension cache) {
+        return enhancedClient(cache).table(TABLE_NAME, FakeItem.getTableSchema());
+    }
+
+    private DynamoDbEnhancedClient enhancedClient(ItemCacheExtension cache) {
+        return DynamoDbEnhancedClient.builder().dynamoDbClient(client).extensions(cache).build();
+    }
+
+    private static Key key(FakeItem item) {
+        return Key.builder().partitionValue(item.getId()).build();
+    }
+}
@@ -17,15 +17,18 @@ package software.amazon.awssdk.enhanced.dynamodb.internal;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.enhanced.dynamodb.Key;
 import software.amazon.awssdk.enhanced.dynamodb.TableMetadata;
 import software.amazon.awssdk.enhanced.dynamodb.functionaltests.models.FakeItem;
 import software.amazon.awssdk.enhanced.dynamodb.functionaltests.models.FakeItemWithSort;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
 
 public class EnhancedClientUtilsTest {
     private static final AttributeValue PARTITION_VALUE = AttributeValue.builder().s("id123").build();
@@ -64,4 +67,12 @@ public class EnhancedClientUtilsTest {
         
         assertThat(result).isEqualTo("a_b_c_d_e_f_g_h_i_j_k_l_m_n_o_p_q_r_s_t_u");
     }
-}
\ No newline at end of file
+
+    @Test
+    public void isRetryableException_classifiesFailures() {
+        assertThat(EnhancedClientUtils.isRetryableException(DynamoDbException.builder().statusCode(500).build())).isTrue();
+        assertThat(EnhancedClientUtils.isRetryableException(DynamoDbException.builder().statusCode(400).build())).isFalse();
+        assertThat(EnhancedClientUtils.isRetryableException(SdkClientException.create("reset", new IOException()))).isTrue();
+        assertThat(EnhancedClientUtils.isRetryableException(new IllegalStateException())).isFalse();
+    }
+}
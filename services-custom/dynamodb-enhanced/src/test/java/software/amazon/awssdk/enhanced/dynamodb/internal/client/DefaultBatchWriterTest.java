@@ -0,0 +1,233 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.client;
+
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.enhanced.dynamodb.BatchWriter;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.functionaltests.models.FakeItem;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriterConfiguration;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+class DefaultBatchWriterTest {
+    private static final String TABLE_NAME = "table-name";
+
+    private final List<BatchWriteItemRequest> requests = Collections.synchronizedList(new ArrayList<>());
+    private DynamoDbAsyncClient client;
+    private DynamoDbAsyncTable<FakeItem> table;
+
+    @BeforeEach
+    void setUp() {
+        client = mock(DynamoDbAsyncClient.class);
+        table = DynamoDbEnhancedAsyncClient.builder()
+                                           .dynamoDbClient(client)
+                                           .extensions()
+                                           .build()
+                                           .table(TABLE_NAME, FakeItem.getTableSchema());
+    }
+
+    @Test
+    void flush_shouldChunkWritesIntoFullBatches() throws Exception {
+        succeedAll();
+        BatchWriter writer = DefaultBatchWriter.create(config(c -> c.flushInterval(Duration.ofMinutes(1))), client);
+
+        List<CompletableFuture<Void>> futures = IntStream.range(0, 60)
+                                                         .mapToObj(i -> writer.putItem(table, FakeItem.createUniqueFakeItem()))
+                                                         .collect(Collectors.toList());
+        writer.flush().get(5, TimeUnit.SECONDS);
+
+        assertThat(futures).allMatch(f -> f.isDone() && !f.isCompletedExceptionally());
+        assertThat(requests.stream().map(r -> r.requestItems().get(TABLE_NAME).size()))
+            .containsExactlyInAnyOrder(25, 25, 10);
+        writer.close();
+    }
+
+    @Test
+    void putItem_shouldBeSentOnceFlushIntervalElapsed() throws Exception {
+        succeedAll();
+        try (BatchWriter writer = DefaultBatchWriter.create(config(c -> c.flushInterval(Duration.ofMillis(10))), client)) {
+            writer.putItem(table, FakeItem.createUniqueFakeItem()).get(5, TimeUnit.SECONDS);
+        }
+        assertThat(requests).hasSize(1);
+    }
+
+    @Test
+    void unprocessedWrites_shouldBeSentAgain() throws Exception {
+        when(client.batchWriteItem(any(BatchWriteItemRequest.class))).thenAnswer(invocation -> {
+            BatchWriteItemRequest request = invocation.getArgument(0);
+            requests.add(request);
+            List<WriteRequest> writes = request.requestItems().get(TABLE_NAME);
+            BatchWriteItemResponse.Builder response = BatchWriteItemResponse.builder();
+            if (requests.size() == 1) {
+                response.unprocessedItems(singletonMap(TABLE_NAME, writes.subList(0, 2)));
+            }
+            return CompletableFuture.completedFuture(response.build());
+        });
+        BatchWriter writer = DefaultBatchWriter.create(config(c -> c.maxBatchSize(5)), client);
+
+        List<CompletableFuture<Void>> futures = IntStream.range(0, 5)
+                                                         .mapToObj(i -> writer.putItem(table, FakeItem.createUniqueFakeItem()))
+                                                         .collect(Collectors.toList());
+        writer.flush().get(5, TimeUnit.SECONDS);
+
+        assertThat(futures).allMatch(f -> f.isDone() && !f.isCompletedExceptionally());
+        assertThat(requests).hasSize(2);
+        assertThat(requests.get(1).requestItems().get(TABLE_NAME))
+            .containsExactlyElementsOf(requests.get(0).requestItems().get(TABLE_NAME).subList(0, 2));
+        writer.close();
+    }
+
+    @Test
+    void unprocessedWrites_retriesExhausted_shouldFail() {
+        when(client.batchWriteItem(any(BatchWriteItemRequest.class))).thenAnswer(invocation -> {
+            BatchWriteItemRequest request = invocation.getArgument(0);
+            requests.add(request);
+            return CompletableFuture.completedFuture(BatchWriteItemResponse.builder()
+                                                                           .unprocessedItems(request.requestItems())
+                                                                           .build());
+        });
+        BatchWriter writer = DefaultBatchWriter.create(config(c -> c.maxRetries(1)), client);
+
+        CompletableFuture<Void> future = writer.putItem(table, FakeItem.createUniqueFakeItem());
+        writer.close();
+
+        assertThatThrownBy(future::join).hasCauseInstanceOf(SdkClientException.class);
+        assertThat(requests).hasSize(2);
+    }
+
+    @Test
+    void nonRetryableFailure_shouldFailWrites() {
+        when(client.batchWriteItem(any(BatchWriteItemRequest.class))).thenAnswer(invocation -> {
+            requests.add(invocation.getArgument(0));
+            CompletableFuture<BatchWriteItemResponse> failed = new CompletableFuture<>();
+            failed.completeExceptionally(DynamoDbException.builder().statusCode(400).message("Validation").build());
+            return failed;
+        });
+        BatchWriter writer = DefaultBatchWriter.create(config(c -> { }), client);
+
+        CompletableFuture<Void> future = writer.putItem(table, FakeItem.createUniqueFakeItem());
+
+        assertThatThrownBy(() -> writer.flush().get(5, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class)
+                                                                          .hasCauseInstanceOf(DynamoDbException.class);
+        assertThat(future).isCompletedExceptionally();
+        assertThat(requests).hasSize(1);
+        writer.close();
+    }
+
+    @Test
+    void writesToSameItem_shouldBeSentInSeparateBatchesInOrder() throws Exception {
+        List<CompletableFuture<BatchWriteItemResponse>> responses = Collections.synchronizedList(new ArrayList<>());
+        when(client.batchWriteItem(any(BatchWriteItemRequest.class))).thenAnswer(invocation -> {
+            requests.add(invocation.getArgument(0));
+            CompletableFuture<BatchWriteItemResponse> response = new CompletableFuture<>();
+            responses.add(response);
+            return response;
+        });
+        BatchWriter writer = DefaultBatchWriter.create(config(c -> c.maxConcurrentBatches(2)), client);
+        FakeItem item = FakeItem.createUniqueFakeItem();
+        FakeItem other = FakeItem.createUniqueFakeItem();
+
+        writer.putItem(table, item);
+        writer.deleteItem(table, Key.builder().partitionValue(item.getId()).build());
+        writer.putItem(table, other);
+        CompletableFuture<Void> flushed = writer.flush();
+
+        assertThat(requests).hasSize(1);
+        assertThat(requests.get(0).requestItems().get(TABLE_NAME)).hasSize(2)
+                                                                  .allMatch(w -> w.putRequest() != null);
+        responses.get(0).complete(BatchWriteItemResponse.builder().build());
+
+        assertThat(requests).hasSize(2);
+        assertThat(requests.get(1).requestItems().get(TABLE_NAME)).singleElement()
+                                                                  .matches(w -> w.deleteRequest() != null);
+        responses.get(1).complete(BatchWriteItemResponse.builder().build());
+        flushed.get(5, TimeUnit.SECONDS);
+        writer.close();
+    }
+
+    @Test
+    void batchesInFlight_shouldBeBounded() {
+        List<CompletableFuture<BatchWriteItemResponse>> responses = Collections.synchronizedList(new ArrayList<>());
+        when(client.batchWriteItem(any(BatchWriteItemRequest.class))).thenAnswer(invocation -> {
+            requests.add(invocation.getArgument(0));
+            CompletableFuture<BatchWriteItemResponse> response = new CompletableFuture<>();
+            responses.add(response);
+            return response;
+        });
+        BatchWriter writer = DefaultBatchWriter.create(config(c -> c.maxConcurrentBatches(2)), client);
+
+        IntStream.range(0, 100).forEach(i -> writer.putItem(table, FakeItem.createUniqueFakeItem()));
+        assertThat(requests).hasSize(2);
+
+        responses.get(0).complete(BatchWriteItemResponse.builder().build());
+        assertThat(requests).hasSize(3);
+
+        // Completing a batch sends the next one, which is appended to the responses
+        for (int i = 1; i < responses.size(); i++) {
+            responses.get(i).complete(BatchWriteItemResponse.builder().build());
+        }
+        writer.close();
+        assertThat(requests).hasSize(4);
+    }
+
+    @Test
+    void close_shouldRejectFurtherWrites() {
+        succeedAll();
+        BatchWriter writer = DefaultBatchWriter.create(config(c -> { }), client);
+        writer.close();
+
+        assertThatThrownBy(() -> writer.putItem(table, FakeItem.createUniqueFakeItem()))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    private void succeedAll() {
+        when(client.batchWriteItem(any(BatchWriteItemRequest.class))).thenAnswer(invocation -> {
+            requests.add(invocation.getArgument(0));
+            return CompletableFuture.completedFuture(BatchWriteItemResponse.builder().build());
+        });
+    }
+
+    private static BatchWriterConfiguration config(Consumer<BatchWriterConfiguration.Builder> consumer) {
+        BatchWriterConfiguration.Builder builder = BatchWriterConfiguration.builder();
+        consumer.accept(builder);
+        return builder.build();
+    }
+}
@@ -19,6 +19,8 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertNotNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 import java.util.Arrays;
 import org.junit.Before;
@@ -117,4 +119,11 @@ public class DefaultDynamoDbEnhancedAsyncClientTest {
 
         assertThat(copiedObject, is(dynamoDbEnhancedAsyncClient));
     }
+
+    @Test
+    public void close_shouldNotCloseLowLevelClient() {
+        dynamoDbEnhancedAsyncClient.close();
+
+        verify(mockDynamoDbAsyncClient, never()).close();
+    }
 }
@@ -18,6 +18,8 @@ package software.amazon.awssdk.enhanced.dynamodb.internal.client;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 import java.util.Arrays;
 import org.junit.Before;
@@ -116,4 +118,11 @@ public class DefaultDynamoDbEnhancedClientTest {
 
         assertThat(copiedObject, is(dynamoDbEnhancedClient));
     }
+
+    @Test
+    public void close_shouldNotCloseLowLevelClient() {
+        dynamoDbEnhancedClient.close();
+
+        verify(mockDynamoDbClient, never()).close();
+    }
 }
@@ -0,0 +1,240 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.TransactionPipeline;
+import software.amazon.awssdk.enhanced.dynamodb.functionaltests.models.FakeItem;
+import software.amazon.awssdk.enhanced.dynamodb.model.TransactionPipelineConfiguration;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.CancellationReason;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsResponse;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
+
+class DefaultTransactionPipelineTest {
+    private static final String TABLE_NAME = "table-name";
+
+    private final List<TransactWriteItemsRequest> requests = Collections.synchronizedList(new ArrayList<>());
+    private final List<CompletableFuture<TransactWriteItemsResponse>> responses =
+        Collections.synchronizedList(new ArrayList<>());
+    private DynamoDbAsyncClient client;
+    private DynamoDbEnhancedAsyncClient enhancedClient;
+    private DynamoDbAsyncTable<FakeItem> table;
+
+    @BeforeEach
+    void setUp() {
+        client = mock(DynamoDbAsyncClient.class);
+        enhancedClient = DynamoDbEnhancedAsyncClient.builder()
+                                                    .dynamoDbClient(client)
+                                                    .extensions()
+                                                    .build();
+        table = enhancedClient.table(TABLE_NAME, FakeItem.getTableSchema());
+    }
+
+    @Test
+    void nonConflictingTransactions_shouldBeSentConcurrently() throws Exception {
+        respondManually();
+        TransactionPipeline pipeline = enhancedClient.transactionPipeline(config(c -> { }));
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        IntStream.range(0, 3).forEach(i -> futures.add(pipeline.transactWriteItems(
+            r -> r.addPutItem(table, FakeItem.createUniqueFakeItem()))));
+
+        assertThat(requests).hasSize(3);
+        responses.forEach(response -> response.complete(TransactWriteItemsResponse.builder().build()));
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+        pipeline.close();
+    }
+
+    @Test
+    void conflictingTransactions_shouldBeSentInSubmissionOrder() throws Exception {
+        respondManually();
+        TransactionPipeline pipeline = enhancedClient.transactionPipeline(config(c -> { }));
+        FakeItem item = FakeItem.createUniqueFakeItem();
+        FakeItem other = FakeItem.createUniqueFakeItem();
+
+        pipeline.transactWriteItems(r -> r.addPutItem(table, item));
+        CompletableFuture<Void> delete =
+            pipeline.transactWriteItems(r -> r.addDeleteItem(table, Key.builder().partitionValue(item.getId()).build()));
+        pipeline.transactWriteItems(r -> r.addPutItem(table, other));
+
+        assertThat(requests).hasSize(2);
+        assertThat(requests.get(0).transactItems()).singleElement().matches(i -> i.put() != null);
+        assertThat(requests.get(1).transactItems()).singleElement()
+                                                   .matches(i -> i.put() != null && i.put().item().get("id").s()
+                                                                                        .equals(other.getId()));
+
+        responses.get(0).complete(TransactWriteItemsResponse.builder().build());
+        assertThat(requests).hasSize(3);
+        assertThat(requests.get(2).transactItems()).singleElement().matches(i -> i.delete() != null);
+
+        responses.get(1).complete(TransactWriteItemsResponse.builder().build());
+        responses.get(2).complete(TransactWriteItemsResponse.builder().build());
+        delete.get(5, TimeUnit.SECONDS);
+        pipeline.close();
+    }
+
+    @Test
+    void transactionsInFlight_shouldBeBounded() {
+        respondManually();
+        TransactionPipeline pipeline = enhancedClient.transactionPipeline(config(c -> c.maxConcurrentTransactions(2)));
+
+        IntStream.range(0, 5).forEach(i -> pipeline.transactWriteItems(
+            r -> r.addPutItem(table, FakeItem.createUniqueFakeItem())));
+        assertThat(requests).hasSize(2);
+
+        responses.get(0).complete(TransactWriteItemsResponse.builder().build());
+        assertThat(requests).hasSize(3);
+
+        // Completing a transaction sends the next one, which is appended to the responses
+        for (int i = 1; i < responses.size(); i++) {
+            responses.get(i).complete(TransactWriteItemsResponse.builder().build());
+        }
+        pipeline.close();
+        assertThat(requests).hasSize(5);
+    }
+
+    @Test
+    void transactionConflict_shouldBeSentAgainBeforeConflictingTransactions() throws Exception {
+        when(client.transactWriteItems(any(TransactWriteItemsRequest.class))).thenAnswer(invocation -> {
+            requests.add(invocation.getArgument(0));
+            CompletableFuture<TransactWriteItemsResponse> response = new CompletableFuture<>();
+            if (requests.size() == 1) {
+                response.completeExceptionally(cancelled("None", "TransactionConflict"));
+            } else {
+                response.complete(TransactWriteItemsResponse.builder().build());
+            }
+            return response;
+        });
+        TransactionPipeline pipeline = enhancedClient.transactionPipeline(config(c -> { }));
+        FakeItem item = FakeItem.createUniqueFakeItem();
+
+        CompletableFuture<Void> first = pipeline.transactWriteItems(r -> r.addPutItem(table, item));
+        CompletableFuture<Void> second =
+            pipeline.transactWriteItems(r -> r.addDeleteItem(table, Key.builder().partitionValue(item.getId()).build()));
+        CompletableFuture.allOf(first, second).get(5, TimeUnit.SECONDS);
+
+        assertThat(requests).hasSize(3);
+        assertThat(requests.get(1)).isEqualTo(requests.get(0));
+        assertThat(requests.get(2).transactItems()).singleElement().matches(i -> i.delete() != null);
+        pipeline.close();
+    }
+
+    @Test
+    void conditionalCheckFailed_shouldFailTransaction() {
+        when(client.transactWriteItems(any(TransactWriteItemsRequest.class))).thenAnswer(invocation -> {
+            requests.add(invocation.getArgument(0));
+            CompletableFuture<TransactWriteItemsResponse> response = new CompletableFuture<>();
+            response.completeExceptionally(cancelled("ConditionalCheckFailed"));
+            return response;
+        });
+        TransactionPipeline pipeline = enhancedClient.transactionPipeline(config(c -> { }));
+
+        CompletableFuture<Void> future = pipeline.transactWriteItems(r -> r.addPutItem(table,
+                                                                                        FakeItem.createUniqueFakeItem()));
+        pipeline.close();
+
+        assertThatThrownBy(future::join).hasCauseInstanceOf(TransactionCanceledException.class);
+        assertThat(requests).hasSize(1);
+    }
+
+    @Test
+    void serviceError_shouldNotBeSentAgainByPipeline() {
+        when(client.transactWriteItems(any(TransactWriteItemsRequest.class))).thenAnswer(invocation -> {
+            requests.add(invocation.getArgument(0));
+            CompletableFuture<TransactWriteItemsResponse> response = new CompletableFuture<>();
+            response.completeExceptionally(DynamoDbException.builder().statusCode(500).build());
+            return response;
+        });
+        TransactionPipeline pipeline = enhancedClient.transactionPipeline(config(c -> { }));
+
+        CompletableFuture<Void> future = pipeline.transactWriteItems(r -> r.addPutItem(table,
+                                                                                        FakeItem.createUniqueFakeItem()));
+        pipeline.close();
+
+        assertThatThrownBy(future::join).hasCauseInstanceOf(DynamoDbException.class);
+        assertThat(requests).hasSize(1);
+    }
+
+    @Test
+    void transactionConflict_retriesExhausted_shouldFailTransaction() {
+        when(client.transactWriteItems(any(TransactWriteItemsRequest.class))).thenAnswer(invocation -> {
+            requests.add(invocation.getArgument(0));
+            CompletableFuture<TransactWriteItemsResponse> response = new CompletableFuture<>();
+            response.completeExceptionally(cancelled("TransactionConflict"));
+            return response;
+        });
+        TransactionPipeline pipeline = enhancedClient.transactionPipeline(config(c -> c.maxRetries(1)));
+
+        CompletableFuture<Void> future = pipeline.transactWriteItems(r -> r.addPutItem(table,
+                                                                                        FakeItem.createUniqueFakeItem()));
+        pipeline.close();
+
+        assertThatThrownBy(future::join).hasCauseInstanceOf(TransactionCanceledException.class);
+        assertThat(requests).hasSize(2);
+    }
+
+    @Test
+    void close_shouldRejectFurtherTransactions() {
+        TransactionPipeline pipeline = enhancedClient.transactionPipeline(config(c -> { }));
+        pipeline.close();
+
+        assertThatThrownBy(() -> pipeline.transactWriteItems(r -> r.addPutItem(table, FakeItem.createUniqueFakeItem())))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    private void respondManually() {
+        when(client.transactWriteItems(any(TransactWriteItemsRequest.class))).thenAnswer(invocation -> {
+            requests.add(invocation.getArgument(0));
+            CompletableFuture<TransactWriteItemsResponse> response = new CompletableFuture<>();
+            responses.add(response);
+            return response;
+        });
+    }
+
+    private static TransactionCanceledException cancelled(String... codes) {
+        List<CancellationReason> reasons = new ArrayList<>();
+        for (String code : codes) {
+            reasons.add(CancellationReason.builder().code(code).build());
+        }
+        return TransactionCanceledException.builder().cancellationReasons(reasons).build();
+    }
+
+    private static TransactionPipelineConfiguration config(Consumer<TransactionPipelineConfiguration.Builder> consumer) {
+        TransactionPipelineConfiguration.Builder builder = TransactionPipelineConfiguration.builder();
+        consumer.accept(builder);
+        return builder.build();
+    }
+}
@@ -0,0 +1,316 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.client;
+
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static software.amazon.awssdk.enhanced.dynamodb.internal.AttributeValues.stringValue;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.functionaltests.models.FakeItem;
+import software.amazon.awssdk.enhanced.dynamodb.functionaltests.models.FakeItemWithNumericSort;
+import software.amazon.awssdk.enhanced.dynamodb.model.GetItemCoalescingConfiguration;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
+
+class GetItemCoalescerTest {
+    private static final String TABLE_NAME = "table-name";
+
+    private final List<BatchGetItemRequest> requests = Collections.synchronizedList(new ArrayList<>());
+    private DynamoDbAsyncClient client;
+
+    @BeforeEach
+    void setUp() {
+        client = mock(DynamoDbAsyncClient.class);
+    }
+
+    @Test
+    void getItem_concurrentOperations_shouldBeCoalesced() throws Exception {
+        FakeItem item1 = FakeItem.createUniqueFakeItem();
+        FakeItem item2 = FakeItem.createUniqueFakeItem();
+        respondWith(item1, item2);
+        DynamoDbAsyncTable<FakeItem> table = table(c -> c.window(Duration.ofMillis(50)));
+
+        CompletableFuture<FakeItem> get1 = table.getItem(key(item1));
+        CompletableFuture<FakeItem> get2 = table.getItem(key(item2));
+        CompletableFuture<FakeItem> get1Again = table.getItem(key(item1));
+        CompletableFuture<FakeItem> missing = table.getItem(Key.builder().partitionValue("missing").build());
+
+        assertThat(get1.get(5, TimeUnit.SECONDS)).isEqualTo(item1);
+        assertThat(get2.get(5, TimeUnit.SECONDS)).isEqualTo(item2);
+        assertThat(get1Again.get(5, TimeUnit.SECONDS)).isEqualTo(item1);
+        assertThat(missing.get(5, TimeUnit.SECONDS)).isNull();
+        assertThat(requests).hasSize(1);
+        assertThat(requests.get(0).requestItems().get(TABLE_NAME).keys()).hasSize(3);
+        verify(client, never()).getItem(any(GetItemRequest.class));
+    }
+
+    @Test
+    void getItem_fullBatch_shouldBeSentBeforeWindowElapsed() throws Exception {
+        FakeItem item1 = FakeItem.createUniqueFakeItem();
+        FakeItem item2 = FakeItem.createUniqueFakeItem();
+        respondWith(item1, item2);
+        DynamoDbAsyncTable<FakeItem> table = table(c -> c.window(Duration.ofMinutes(1)).maxBatchSize(2));
+
+        CompletableFuture<FakeItem> get1 = table.getItem(key(item1));
+        CompletableFuture<FakeItem> get2 = table.getItem(key(item2));
+
+        assertThat(get1.get(5, TimeUnit.SECONDS)).isEqualTo(item1);
+        assertThat(get2.get(5, TimeUnit.SECONDS)).isEqualTo(item2);
+    }
+
+    @Test
+    void getItem_differentConsistency_shouldNotBeCoalesced() throws Exception {
+        FakeItem item1 = FakeItem.createUniqueFakeItem();
+        FakeItem item2 = FakeItem.createUniqueFakeItem();
+        respondWith(item1, item2);
+        DynamoDbAsyncTable<FakeItem> table = table(c -> c.window(Duration.ofMillis(20)));
+
+        CompletableFuture<FakeItem> get1 = table.getItem(r -> r.key(key(item1)).consistentRead(true));
+        CompletableFuture<FakeItem> get2 = table.getItem(key(item2));
+
+        assertThat(get1.get(5, TimeUnit.SECONDS)).isEqualTo(item1);
+        assertThat(get2.get(5, TimeUnit.SECONDS)).isEqualTo(item2);
+        assertThat(requests).hasSize(2);
+        assertThat(requests.stream().map(r -> r.requestItems().get(TABLE_NAME).consistentRead()))
+            .containsExactlyInAnyOrder(true, null);
+    }
+
+    @Test
+    void getItem_unprocessedKeys_shouldBeRequestedAgain() throws Exception {
+        FakeItem item1 = FakeItem.createUniqueFakeItem();
+        FakeItem item2 = FakeItem.createUniqueFakeItem();
+        when(client.batchGetItem(any(BatchGetItemRequest.class))).thenAnswer(invocation -> {
+            BatchGetItemRequest request = invocation.getArgument(0);
+            requests.add(request);
+            if (requests.size() == 1) {
+                KeysAndAttributes unprocessed = KeysAndAttributes.builder().keys(keyMap(item2)).build();
+                return CompletableFuture.completedFuture(
+                    BatchGetItemResponse.builder()
+                                        .responses(singletonMap(TABLE_NAME, singletonList(itemMap(item1))))
+                                        .unprocessedKeys(singletonMap(TABLE_NAME, unprocessed))
+                                        .build());
+            }
+            return CompletableFuture.completedFuture(
+                BatchGetItemResponse.builder().responses(singletonMap(TABLE_NAME, singletonList(itemMap(item2)))).build());
+        });
+        DynamoDbAsyncTable<FakeItem> table = table(c -> c.window(Duration.ofMillis(20)));
+
+        CompletableFuture<FakeItem> get1 = table.getItem(key(item1));
+        CompletableFuture<FakeItem> get2 = table.getItem(key(item2));
+
+        assertThat(get1.get(5, TimeUnit.SECONDS)).isEqualTo(item1);
+        assertThat(get2.get(5, TimeUnit.SECONDS)).isEqualTo(item2);
+        assertThat(requests).hasSize(2);
+        assertThat(requests.get(1).requestItems().get(TABLE_NAME).keys()).containsExactly(keyMap(item2));
+    }
+
+    @Test
+    void getItem_unprocessedKeysRetriesExhausted_shouldFail() {
+        when(client.batchGetItem(any(BatchGetItemRequest.class))).thenAnswer(invocation -> {
+            BatchGetItemRequest request = invocation.getArgument(0);
+            requests.add(request);
+            return CompletableFuture.completedFuture(BatchGetItemResponse.builder()
+                                                                         .unprocessedKeys(request.requestItems())
+                                                                         .build());
+        });
+        DynamoDbAsyncTable<FakeItem> table = table(c -> c.window(Duration.ofMillis(1)).maxRetries(0));
+
+        assertThatThrownBy(() -> table.getItem(key(FakeItem.createUniqueFakeItem())).join())
+            .hasCauseInstanceOf(SdkClientException.class);
+        assertThat(requests).hasSize(1);
+    }
+
+    @Test
+    void getItem_retryableCallFailure_shouldFailAllOperations() {
+        DynamoDbException exception = (DynamoDbException) DynamoDbException.builder().statusCode(500).message("Internal").build();
+        when(client.batchGetItem(any(BatchGetItemRequest.class))).thenReturn(failedFuture(exception));
+        DynamoDbAsyncTable<FakeItem> table = table(c -> c.window(Duration.ofMillis(10)));
+
+        CompletableFuture<FakeItem> get1 = table.getItem(key(FakeItem.createUniqueFakeItem()));
+        CompletableFuture<FakeItem> get2 = table.getItem(key(FakeItem.createUniqueFakeItem()));
+
+        assertThatThrownBy(get1::join).hasCause(exception);
+        assertThatThrownBy(get2::join).hasCause(exception);
+        verify(client, never()).getItem(any(GetItemRequest.class));
+    }
+
+    @Test
+    void getItem_nonRetryableCallFailure_shouldOnlyFailOffendingOperation() throws Exception {
+        FakeItem item = FakeItem.createUniqueFakeItem();
+        FakeItem invalid = FakeItem.createUniqueFakeItem();
+        DynamoDbException exception = (DynamoDbException) DynamoDbException.builder().statusCode(400).message("Validation").build();
+        when(client.batchGetItem(any(BatchGetItemRequest.class))).thenReturn(failedFuture(exception));
+        when(client.getItem(any(GetItemRequest.class))).thenAnswer(invocation -> {
+            GetItemRequest request = invocation.getArgument(0);
+            if (request.key().equals(keyMap(invalid))) {
+                return failedFuture(exception);
+            }
+            return CompletableFuture.completedFuture(GetItemResponse.builder().item(itemMap(item)).build());
+        });
+        DynamoDbAsyncTable<FakeItem> table = table(c -> c.window(Duration.ofMillis(10)));
+
+        CompletableFuture<FakeItem> get = table.getItem(key(item));
+        CompletableFuture<FakeItem> getInvalid = table.getItem(key(invalid));
+
+        assertThat(get.get(5, TimeUnit.SECONDS)).isEqualTo(item);
+        assertThatThrownBy(getInvalid::join).hasCause(exception);
+    }
+
+    @Test
+    void getItem_numberKey_shouldMatchItemWithNormalizedNumber() throws Exception {
+        FakeItemWithNumericSort item = new FakeItemWithNumericSort("id", 1);
+        when(client.batchGetItem(any(BatchGetItemRequest.class))).thenAnswer(invocation -> {
+            BatchGetItemRequest request = invocation.getArgument(0);
+            requests.add(request);
+            return CompletableFuture.completedFuture(BatchGetItemResponse.builder().responses(
+                singletonMap(TABLE_NAME, singletonList(FakeItemWithNumericSort.getTableSchema().itemToMap(item, true))))
+                                                                         .build());
+        });
+        DynamoDbAsyncTable<FakeItemWithNumericSort> table =
+            enhancedClient(c -> c.window(Duration.ofMillis(20))).table(TABLE_NAME, FakeItemWithNumericSort.getTableSchema());
+
+        CompletableFuture<FakeItemWithNumericSort> get1 =
+            table.getItem(Key.builder().partitionValue("id").sortValue(new BigDecimal("1.0")).build());
+        CompletableFuture<FakeItemWithNumericSort> get2 =
+            table.getItem(Key.builder().partitionValue("id").sortValue(new BigDecimal("1.00")).build());
+
+        assertThat(get1.get(5, TimeUnit.SECONDS)).isNotNull();
+        assertThat(get2.get(5, TimeUnit.SECONDS)).isNotNull();
+        assertThat(get1.join().getSort()).isEqualTo(1);
+        assertThat(requests).hasSize(1);
+        assertThat(requests.get(0).requestItems().get(TABLE_NAME).keys()).hasSize(1);
+        verify(client, never()).getItem(any(GetItemRequest.class));
+    }
+
+    @Test
+    void getItem_unmatchedItem_shouldRequestRemainingKeysIndividually() throws Exception {
+        FakeItem item = FakeItem.createUniqueFakeItem();
+        FakeItem unknown = FakeItem.createUniqueFakeItem();
+        when(client.batchGetItem(any(BatchGetItemRequest.class))).thenReturn(CompletableFuture.completedFuture(
+            BatchGetItemResponse.builder().responses(singletonMap(TABLE_NAME, singletonList(itemMap(unknown)))).build()));
+        when(client.getItem(any(GetItemRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(GetItemResponse.builder().item(itemMap(item)).build()));
+        DynamoDbAsyncTable<FakeItem> table = table(c -> c.window(Duration.ofMillis(10)));
+
+        assertThat(table.getItem(key(item)).get(5, TimeUnit.SECONDS)).isEqualTo(item);
+        verify(client).getItem(GetItemRequest.builder().tableName(TABLE_NAME).key(keyMap(item)).build());
+    }
+
+    @Test
+    void close_shouldSendPendingOperationsAndRejectNewOnes() throws Exception {
+        FakeItem item = FakeItem.createUniqueFakeItem();
+        respondWith(item);
+        DynamoDbEnhancedAsyncClient enhancedClient = enhancedClient(c -> c.window(Duration.ofMillis(50)));
+        DynamoDbAsyncTable<FakeItem> table = enhancedClient.table(TABLE_NAME, FakeItem.getTableSchema());
+
+        CompletableFuture<FakeItem> pending = table.getItem(key(item));
+        enhancedClient.close();
+
+        assertThat(pending.get(5, TimeUnit.SECONDS)).isEqualTo(item);
+        assertThatThrownBy(() -> table.getItem(key(item)).join()).hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void normalizeKey_shouldUseTheFormOfNumbersReturnedByDynamoDb() {
+        Map<String, AttributeValue> key = new HashMap<>();
+        key.put("id", stringValue("1.0"));
+        key.put("sort", AttributeValue.fromN("1.50"));
+
+        assertThat(GetItemCoalescer.normalizeKey(key)).containsEntry("id", stringValue("1.0"))
+                                                      .containsEntry("sort", AttributeValue.fromN("1.5"));
+        assertThat(GetItemCoalescer.normalizeKey(singletonMap("n", AttributeValue.fromN("-0.00"))))
+            .containsEntry("n", AttributeValue.fromN("0"));
+        assertThat(GetItemCoalescer.normalizeKey(singletonMap("n", AttributeValue.fromN("1E+2"))))
+            .containsEntry("n", AttributeValue.fromN("100"));
+        assertThat(GetItemCoalescer.normalizeKey(singletonMap("n", AttributeValue.fromN("42"))))
+            .containsEntry("n", AttributeValue.fromN("42"));
+    }
+
+    private DynamoDbAsyncTable<FakeItem> table(Consumer<GetItemCoalescingConfiguration.Builder> c) {
+        return enhancedClient(c).table(TABLE_NAME, FakeItem.getTableSchema());
+    }
+
+    private DynamoDbEnhancedAsyncClient enhancedClient(Consumer<GetItemCoalescingConfiguration.Builder> c) {
+        return DynamoDbEnhancedAsyncClient.builder()
+                                          .dynamoDbClient(client)
+                                          .extensions()
+                                          .getItemCoalescing(c)
+                                          .build();
+    }
+
+    private static <T> CompletableFuture<T> failedFuture(Throwable t) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(t);
+        return future;
+    }
+
+    private void respondWith(FakeItem... items) {
+        when(client.batchGetItem(any(BatchGetItemRequest.class))).thenAnswer(invocation -> {
+            BatchGetItemRequest request = invocation.getArgument(0);
+            requests.add(request);
+            List<Map<String, AttributeValue>> keys = request.requestItems().get(TABLE_NAME).keys();
+            List<Map<String, AttributeValue>> found = new ArrayList<>();
+            for (FakeItem item : items) {
+                if (keys.contains(keyMap(item))) {
+                    found.add(itemMap(item));
+                }
+            }
+            return CompletableFuture.completedFuture(
+                BatchGetItemResponse.builder().responses(singletonMap(TABLE_NAME, found)).build());
+        });
+    }
+
+    private static Key key(FakeItem item) {
+        return Key.builder().partitionValue(item.getId()).build();
+    }
+
+    private static Map<String, AttributeValue> keyMap(FakeItem item) {
+        return singletonMap("id", stringValue(item.getId()));
+    }
+
+    private static Map<String, AttributeValue> itemMap(FakeItem item) {
+        return FakeItem.getTableSchema().itemToMap(item, true);
+    }
+}
@@ -227,6 +227,7 @@ public class GetItemOperationTest {
                                                               .tableMetadata(FakeItem.getTableMetadata())
                                                               .operationContext(PRIMARY_CONTEXT)
                                                               .tableSchema(FakeItem.getTableSchema())
+                                                              .operationName(OperationName.GET_ITEM)
                                                               .items(baseFakeItemMap).build());
     }
 }
@@ -0,0 +1,122 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.operations;
+
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static software.amazon.awssdk.enhanced.dynamodb.functionaltests.models.FakeItem.createUniqueFakeItem;
+import static software.amazon.awssdk.enhanced.dynamodb.internal.AttributeValues.stringValue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.stubbing.Answer;
+import software.amazon.awssdk.enhanced.dynamodb.functionaltests.models.FakeItem;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.ConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.ReturnConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
+
+class ParallelScanOperationTest {
+    private static final String TABLE_NAME = "table-name";
+    private static final int TOTAL_SEGMENTS = 4;
+
+    private final List<FakeItem> items = new ArrayList<>();
+
+    @Test
+    void executeOnPrimaryIndex_shouldScanEverySegmentAndMergePages() {
+        DynamoDbClient client = mock(DynamoDbClient.class);
+        when(client.scan(any(ScanRequest.class))).thenAnswer(scanAnswer());
+        ParallelScanOperation<FakeItem> operation =
+            ParallelScanOperation.create(ParallelScanEnhancedRequest.builder()
+                                                                    .scanEnhancedRequest(r -> r.consistentRead(true))
+                                                                    .totalSegments(TOTAL_SEGMENTS)
+                                                                    .build());
+
+        List<FakeItem> results = new ArrayList<>();
+        operation.executeOnPrimaryIndex(FakeItem.getTableSchema(), TABLE_NAME, null, client)
+                 .items()
+                 .forEach(results::add);
+
+        assertThat(results).containsExactlyInAnyOrderElementsOf(items);
+        ArgumentCaptor<ScanRequest> requests = ArgumentCaptor.forClass(ScanRequest.class);
+        verify(client, times(2 * TOTAL_SEGMENTS)).scan(requests.capture());
+        assertThat(requests.getAllValues()).allSatisfy(request -> {
+            assertThat(request.tableName()).isEqualTo(TABLE_NAME);
+            assertThat(request.totalSegments()).isEqualTo(TOTAL_SEGMENTS);
+            assertThat(request.consistentRead()).isTrue();
+            assertThat(request.returnConsumedCapacity()).isNull();
+        });
+    }
+
+    @Test
+    void executeOnPrimaryIndexAsync_rateLimited_shouldRequestConsumedCapacity() throws Exception {
+        DynamoDbAsyncClient client = mock(DynamoDbAsyncClient.class);
+        Answer<ScanResponse> answer = scanAnswer();
+        when(client.scan(any(ScanRequest.class)))
+            .thenAnswer(invocation -> CompletableFuture.completedFuture(answer.answer(invocation)));
+        ParallelScanOperation<FakeItem> operation =
+            ParallelScanOperation.create(ParallelScanEnhancedRequest.builder()
+                                                                    .totalSegments(TOTAL_SEGMENTS)
+                                                                    .readCapacityUnitsPerSecond(1000.0)
+                                                                    .build());
+
+        List<FakeItem> results = new ArrayList<>();
+        operation.executeOnPrimaryIndexAsync(FakeItem.getTableSchema(), TABLE_NAME, null, client)
+                 .items()
+                 .subscribe(results::add)
+                 .get(5, TimeUnit.SECONDS);
+
+        assertThat(results).containsExactlyInAnyOrderElementsOf(items);
+        ArgumentCaptor<ScanRequest> requests = ArgumentCaptor.forClass(ScanRequest.class);
+        verify(client, times(2 * TOTAL_SEGMENTS)).scan(requests.capture());
+        assertThat(requests.getAllValues())
+            .allSatisfy(request -> assertThat(request.returnConsumedCapacity()).isEqualTo(ReturnConsumedCapacity.TOTAL));
+    }
+
+    /**
+     * Returns two pages with one item each for every segment.
+     */
+    private Answer<ScanResponse> scanAnswer() {
+        return invocation -> {
+            ScanRequest request = invocation.getArgument(0);
+            FakeItem item = createUniqueFakeItem();
+            synchronized (items) {
+                items.add(item);
+            }
+            ScanResponse.Builder response =
+                ScanResponse.builder()
+                            .items(singletonList(FakeItem.getTableSchema().itemToMap(item, true)))
+                            .consumedCapacity(ConsumedCapacity.builder().capacityUnits(1.0).build());
+            if (request.exclusiveStartKey().isEmpty()) {
+                response.lastEvaluatedKey(singletonMap("id", stringValue(item.getId())));
+            }
+            return response.build();
+        };
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.operations;
+
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static software.amazon.awssdk.enhanced.dynamodb.internal.AttributeValues.numberValue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
+
+class ParallelScanPublisherTest {
+    private static final int PAGES_PER_SEGMENT = 3;
+
+    @Test
+    void subscribe_shouldPublishAllPagesOfAllSegments() throws Exception {
+        FakePageFetcher fetcher = new FakePageFetcher();
+        ParallelScanPublisher<String> publisher = ParallelScanPublisher.create(() -> fetcher, 5, 2, 0, null);
+
+        List<String> items = new ArrayList<>();
+        publisher.subscribe(page -> items.addAll(page.items())).get(5, TimeUnit.SECONDS);
+
+        List<String> expected = new ArrayList<>();
+        for (int segment = 0; segment < 5; segment++) {
+            for (int page = 0; page < PAGES_PER_SEGMENT; page++) {
+                expected.add(segment + "-" + page);
+            }
+        }
+        assertThat(items).containsExactlyInAnyOrderElementsOf(expected);
+        assertThat(fetcher.closed).isTrue();
+    }
+
+    @Test
+    void subscribe_shouldNotExceedMaxConcurrentSegments() throws Exception {
+        FakePageFetcher fetcher = new FakePageFetcher();
+        fetcher.completeAsynchronously = true;
+        ParallelScanPublisher<String> publisher = ParallelScanPublisher.create(() -> fetcher, 20, 4, 0, null);
+
+        AtomicInteger pages = new AtomicInteger();
+        publisher.subscribe(page -> pages.incrementAndGet()).get(5, TimeUnit.SECONDS);
+
+        assertThat(pages).hasValue(20 * PAGES_PER_SEGMENT);
+        assertThat(fetcher.maxInFlight.get()).isBetween(1, 4);
+    }
+
+    @Test
+    void subscribe_retryableFailure_shouldResumeSegmentFromLastKey() throws Exception {
+        FakePageFetcher fetcher = new FakePageFetcher();
+        fetcher.failures.put("1-1", 2);
+        ParallelScanPublisher<String> publisher = ParallelScanPublisher.create(() -> fetcher, 2, 2, 2, null);
+
+        List<String> items = new ArrayList<>();
+        publisher.subscribe(page -> items.addAll(page.items())).get(10, TimeUnit.SECONDS);
+
+        assertThat(items).hasSize(2 * PAGES_PER_SEGMENT).doesNotHaveDuplicates();
+        assertThat(fetcher.requests.stream().filter("1-1"::equals).count()).isEqualTo(3);
+        assertThat(fetcher.requests.stream().filter("1-0"::equals).count()).isEqualTo(1);
+    }
+
+    @Test
+    void subscribe_retriesExhausted_shouldFail() {
+        FakePageFetcher fetcher = new FakePageFetcher();
+        fetcher.failures.put("0-2", 2);
+        ParallelScanPublisher<String> publisher = ParallelScanPublisher.create(() -> fetcher, 1, 1, 1, null);
+
+        assertThatThrownBy(() -> publisher.subscribe(page -> { }).get(10, TimeUnit.SECONDS))
+            .hasCauseInstanceOf(SdkClientException.class);
+        assertThat(fetcher.closed).isTrue();
+    }
+
+    @Test
+    void subscribe_nonRetryableFailure_shouldFailWithoutRetrying() {
+        FakePageFetcher fetcher = new FakePageFetcher();
+        fetcher.nonRetryableFailure = "0-1";
+        ParallelScanPublisher<String> publisher = ParallelScanPublisher.create(() -> fetcher, 1, 1, 3, null);
+
+        assertThatThrownBy(() -> publisher.subscribe(page -> { }).get(5, TimeUnit.SECONDS))
+            .hasCauseInstanceOf(DynamoDbException.class);
+        assertThat(fetcher.requests.stream().filter("0-1"::equals).count()).isEqualTo(1);
+    }
+
+    @Test
+    void blockingIterable_shouldIterateAllPagesAndPropagateFailures() {
+        FakePageFetcher fetcher = new FakePageFetcher();
+        ParallelScanPublisher<String> publisher = ParallelScanPublisher.create(() -> fetcher, 3, 2, 0, null);
+
+        List<String> items = new ArrayList<>();
+        BlockingPublisherIterable.create(publisher).forEach(page -> items.addAll(page.items()));
+        assertThat(items).hasSize(3 * PAGES_PER_SEGMENT);
+
+        FakePageFetcher failingFetcher = new FakePageFetcher();
+        failingFetcher.nonRetryableFailure = "2-0";
+        ParallelScanPublisher<String> failingPublisher = ParallelScanPublisher.create(() -> failingFetcher, 3, 2, 0, null);
+        assertThatThrownBy(() -> BlockingPublisherIterable.create(failingPublisher).forEach(page -> { }))
+            .isInstanceOf(DynamoDbException.class);
+    }
+
+    /**
+     * Serves {@link #PAGES_PER_SEGMENT} pages for every segment, each containing a single item named after its segment and
+     * page number. The last evaluated key of a page is its page number.
+     */
+    private static final class FakePageFetcher implements ParallelScanPublisher.PageFetcher<String> {
+        private final List<String> requests = new ArrayList<>();
+        private final Map<String, Integer> failures = new ConcurrentHashMap<>();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger maxInFlight = new AtomicInteger();
+        private volatile String nonRetryableFailure;
+        private volatile boolean completeAsynchronously;
+        private volatile boolean closed;
+
+        @Override
+        public CompletableFuture<Page<String>> fetchPage(int segment, Map<String, AttributeValue> exclusiveStartKey) {
+            int pageNumber = exclusiveStartKey == null ? 0 : Integer.parseInt(exclusiveStartKey.get("page").n()) + 1;
+            String name = segment + "-" + pageNumber;
+            synchronized (requests) {
+                requests.add(name);
+            }
+
+            if (name.equals(nonRetryableFailure)) {
+                throw DynamoDbException.builder().statusCode(400).message("Bad request").build();
+            }
+            Integer remainingFailures = failures.get(name);
+            if (remainingFailures != null && remainingFailures > 0) {
+                failures.put(name, remainingFailures - 1);
+                CompletableFuture<Page<String>> failed = new CompletableFuture<>();
+                failed.completeExceptionally(SdkClientException.create("Connection reset", new IOException()));
+                return failed;
+            }
+
+            Page<String> page = pageNumber == PAGES_PER_SEGMENT - 1
+                                ? Page.create(singletonList(name))
+                                : Page.create(singletonList(name), singletonMap("page", numberValue(pageNumber)));
+            if (!completeAsynchronously) {
+                return CompletableFuture.completedFuture(page);
+            }
+
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            return CompletableFuture.supplyAsync(() -> {
+                sleep();
+                inFlight.decrementAndGet();
+                return page;
+            });
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+
+        private static void sleep() {
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
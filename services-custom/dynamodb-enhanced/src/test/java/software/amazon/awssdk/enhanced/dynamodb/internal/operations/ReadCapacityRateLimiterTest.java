@@ -0,0 +1,55 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.operations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class ReadCapacityRateLimiterTest {
+    private final AtomicLong clock = new AtomicLong(TimeUnit.SECONDS.toNanos(100));
+    private final ReadCapacityRateLimiter rateLimiter = ReadCapacityRateLimiter.create(10, clock::get);
+
+    @Test
+    void delayNanos_nothingConsumed_shouldNotDelay() {
+        assertThat(rateLimiter.delayNanos()).isZero();
+    }
+
+    @Test
+    void consume_shouldDelayUntilConsumedCapacityIsWithinRate() {
+        rateLimiter.consume(5);
+        assertThat(rateLimiter.delayNanos()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(500));
+
+        rateLimiter.consume(5);
+        assertThat(rateLimiter.delayNanos()).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(400));
+        assertThat(rateLimiter.delayNanos()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(600));
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertThat(rateLimiter.delayNanos()).isZero();
+    }
+
+    @Test
+    void consume_afterIdlePeriod_shouldNotAccumulateUnusedCapacity() {
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(60));
+        rateLimiter.consume(20);
+
+        assertThat(rateLimiter.delayNanos()).isEqualTo(TimeUnit.SECONDS.toNanos(2));
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.operations;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.enhanced.dynamodb.internal.TransformIterator;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+
+class StreamingPagePublisherTest {
+    private final AtomicInteger mappedItems = new AtomicInteger();
+
+    @Test
+    void items_shouldMapItemsOnDemandAndRequestOneResponseAtATime() {
+        FakeResponsePublisher responses = new FakeResponsePublisher(asList(asList("a", "b", "c"), emptyList(), asList("d")));
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher(responses).items().subscribe(subscriber);
+
+        subscriber.subscription.request(1);
+        assertThat(subscriber.items).containsExactly("A");
+        assertThat(mappedItems).hasValue(1);
+        assertThat(responses.requested).hasValue(1);
+
+        subscriber.subscription.request(2);
+        assertThat(subscriber.items).containsExactly("A", "B", "C");
+        assertThat(mappedItems).hasValue(3);
+        assertThat(responses.requested).hasValue(1);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+        assertThat(subscriber.items).containsExactly("A", "B", "C", "D");
+        assertThat(responses.requested).hasValue(4);
+        assertThat(subscriber.completed).isTrue();
+    }
+
+    @Test
+    void items_mappingFailure_shouldCancelUpstreamAndFail() {
+        FakeResponsePublisher responses = new FakeResponsePublisher(asList(asList("a", "fail", "b"), asList("c")));
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher(responses).items().subscribe(subscriber);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        assertThat(subscriber.items).containsExactly("A");
+        assertThat(subscriber.error).isInstanceOf(IllegalArgumentException.class);
+        assertThat(responses.cancelled).isTrue();
+        assertThat(responses.requested).hasValue(1);
+    }
+
+    @Test
+    void subscribe_shouldPublishMappedPages() throws Exception {
+        FakeResponsePublisher responses = new FakeResponsePublisher(asList(asList("a", "b"), asList("c")));
+
+        List<List<String>> pages = new ArrayList<>();
+        publisher(responses).subscribe(page -> pages.add(page.items())).get(5, TimeUnit.SECONDS);
+
+        assertThat(pages).containsExactly(asList("A", "B"), asList("C"));
+    }
+
+    private StreamingPagePublisher<List<String>, String> publisher(FakeResponsePublisher responses) {
+        return StreamingPagePublisher.create(responses,
+                                             r -> Page.create(toList(mapItems(r))),
+                                             this::mapItems);
+    }
+
+    private Iterator<String> mapItems(List<String> response) {
+        return TransformIterator.create(response.iterator(), item -> {
+            if ("fail".equals(item)) {
+                throw new IllegalArgumentException("Unable to map " + item);
+            }
+            mappedItems.incrementAndGet();
+            return item.toUpperCase();
+        });
+    }
+
+    private static List<String> toList(Iterator<String> items) {
+        List<String> list = new ArrayList<>();
+        items.forEachRemaining(list::add);
+        return list;
+    }
+
+    /**
+     * Synchronously publishes one response for every request, recording the number of requests.
+     */
+    private static final class FakeResponsePublisher implements SdkPublisher<List<String>> {
+        private final List<List<String>> responses;
+        private final AtomicInteger requested = new AtomicInteger();
+        private volatile boolean cancelled;
+
+        private FakeResponsePublisher(List<List<String>> responses) {
+            this.responses = responses;
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super List<String>> subscriber) {
+            Iterator<List<String>> remaining = responses.iterator();
+            subscriber.onSubscribe(new Subscription() {
+                @Override
+                public void request(long n) {
+                    for (long i = 0; i < n && !cancelled; i++) {
+                        requested.incrementAndGet();
+                        if (!remaining.hasNext()) {
+                            subscriber.onComplete();
+                            return;
+                        }
+                        subscriber.onNext(remaining.next());
+                    }
+                }
+
+                @Override
+                public void cancel() {
+                    cancelled = true;
+                }
+            });
+        }
+    }
+
+    private static final class RecordingSubscriber implements Subscriber<String> {
+        private final List<String> items = new ArrayList<>();
+        private Subscription subscription;
+        private Throwable error;
+        private boolean completed;
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            subscription = s;
+        }
+
+        @Override
+        public void onNext(String item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            error = t;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+}
@@ -23,6 +23,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Test;
 import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
@@ -153,6 +154,30 @@ public class StaticImmutableTableSchemaFlattenTest {
         assertThat(result).isEqualTo(ITEM_MAP);
     }
 
+    @Test
+    public void itemToMap_flattenedSchema_readsFlattenedObjectOnce() {
+        AtomicInteger child1Reads = new AtomicInteger();
+        TableSchema<ImmutableRecord> tableSchema =
+            TableSchema.builder(ImmutableRecord.class, ImmutableRecord.Builder.class)
+                       .newItemBuilder(ImmutableRecord::builder, ImmutableRecord.Builder::build)
+                       .addAttribute(String.class, a -> a.name("id")
+                                                         .getter(ImmutableRecord::id)
+                                                         .setter(ImmutableRecord.Builder::id)
+                                                         .tags(primaryPartitionKey()))
+                       .flatten(childTableSchema2a,
+                                r -> {
+                                    child1Reads.incrementAndGet();
+                                    return r.getChild1();
+                                },
+                                ImmutableRecord.Builder::child1)
+                       .build();
+
+        Map<String, AttributeValue> result = tableSchema.itemToMap(TEST_RECORD, false);
+
+        assertThat(result).containsOnlyKeys("id", "attribute2a", "attribute3a", "attribute3b");
+        assertThat(child1Reads).hasValue(1);
+    }
+
     @Test
     public void itemToMap_specificAttributes() {
         Map<String, AttributeValue> result =
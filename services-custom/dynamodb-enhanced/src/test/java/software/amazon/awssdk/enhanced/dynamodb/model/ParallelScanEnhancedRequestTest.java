@@ -0,0 +1,83 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static software.amazon.awssdk.enhanced.dynamodb.internal.AttributeValues.stringValue;
+
+import org.junit.jupiter.api.Test;
+
+class ParallelScanEnhancedRequestTest {
+
+    @Test
+    void builder_minimal() {
+        ParallelScanEnhancedRequest request = ParallelScanEnhancedRequest.builder().totalSegments(4).build();
+
+        assertThat(request.scanEnhancedRequest()).isEqualTo(ScanEnhancedRequest.builder().build());
+        assertThat(request.totalSegments()).isEqualTo(4);
+        assertThat(request.maxConcurrentSegments()).isEqualTo(4);
+        assertThat(request.maxSegmentRetries()).isEqualTo(3);
+        assertThat(request.readCapacityUnitsPerSecond()).isNull();
+    }
+
+    @Test
+    void builder_maximal() {
+        ParallelScanEnhancedRequest request = ParallelScanEnhancedRequest.builder()
+                                                                         .scanEnhancedRequest(r -> r.limit(10))
+                                                                         .totalSegments(100)
+                                                                         .maxConcurrentSegments(20)
+                                                                         .maxSegmentRetries(0)
+                                                                         .readCapacityUnitsPerSecond(500.0)
+                                                                         .build();
+
+        assertThat(request.scanEnhancedRequest().limit()).isEqualTo(10);
+        assertThat(request.totalSegments()).isEqualTo(100);
+        assertThat(request.maxConcurrentSegments()).isEqualTo(20);
+        assertThat(request.maxSegmentRetries()).isZero();
+        assertThat(request.readCapacityUnitsPerSecond()).isEqualTo(500.0);
+        assertThat(request.toBuilder().build()).isEqualTo(request).hasSameHashCodeAs(request);
+    }
+
+    @Test
+    void builder_defaultMaxConcurrentSegments_shouldBeBounded() {
+        assertThat(ParallelScanEnhancedRequest.builder().totalSegments(1000).build().maxConcurrentSegments()).isEqualTo(8);
+    }
+
+    @Test
+    void builder_invalidParameters_shouldThrowException() {
+        assertThatThrownBy(() -> ParallelScanEnhancedRequest.builder().build())
+            .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> ParallelScanEnhancedRequest.builder().totalSegments(0).build())
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ParallelScanEnhancedRequest.builder().totalSegments(2).maxConcurrentSegments(0).build())
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ParallelScanEnhancedRequest.builder().totalSegments(2).readCapacityUnitsPerSecond(0.0).build())
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ParallelScanEnhancedRequest.builder()
+                                                            .totalSegments(2)
+                                                            .scanEnhancedRequest(r -> r.segment(0).totalSegments(2))
+                                                            .build())
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ParallelScanEnhancedRequest.builder()
+                                                            .totalSegments(2)
+                                                            .scanEnhancedRequest(r -> r.exclusiveStartKey(
+                                                                singletonMap("id", stringValue("id"))))
+                                                            .build())
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
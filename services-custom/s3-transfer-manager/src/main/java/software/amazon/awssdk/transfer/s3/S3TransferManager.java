@@ -29,10 +29,13 @@ import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.UploadPartCopyRequest;
 import software.amazon.awssdk.transfer.s3.internal.TransferManagerFactory;
+import software.amazon.awssdk.transfer.s3.model.CompletedDirectoryCopy;
 import software.amazon.awssdk.transfer.s3.model.CompletedDirectoryDownload;
 import software.amazon.awssdk.transfer.s3.model.CompletedDirectoryUpload;
 import software.amazon.awssdk.transfer.s3.model.Copy;
+import software.amazon.awssdk.transfer.s3.model.CopyDirectoryRequest;
 import software.amazon.awssdk.transfer.s3.model.CopyRequest;
+import software.amazon.awssdk.transfer.s3.model.DirectoryCopy;
 import software.amazon.awssdk.transfer.s3.model.DirectoryDownload;
 import software.amazon.awssdk.transfer.s3.model.DirectoryUpload;
 import software.amazon.awssdk.transfer.s3.model.Download;
@@ -491,6 +494,11 @@ public interface S3TransferManager extends SdkAutoCloseable {
      * The current user must have read access to all directories and files.
      *
      * <p>
+     * A directory upload can be paused and resumed, or recovered after the process is terminated mid-flight, by configuring
+     * a checkpoint file via {@link UploadDirectoryRequest.Builder#checkpointFile(java.nio.file.Path)}. Submitting a request
+     * with the same checkpoint file skips the files that have already been uploaded. See {@link DirectoryUpload#pause()}.
+     *
+     * <p>
      * <b>Usage Example:</b>
      * {@snippet :
      *         S3TransferManager transferManager = S3TransferManager.create();
@@ -574,6 +582,12 @@ public interface S3TransferManager extends SdkAutoCloseable {
      * The current user must have write access to all directories and files
      *
      * <p>
+     * A directory download can be paused and resumed, or recovered after the process is terminated mid-flight, by
+     * configuring a checkpoint file via {@link DownloadDirectoryRequest.Builder#checkpointFile(java.nio.file.Path)}.
+     * Submitting a request with the same checkpoint file skips the objects that have already been downloaded. See
+     * {@link DirectoryDownload#pause()}.
+     *
+     * <p>
      * <b>Usage Example:</b>
      * {@snippet :
      *        S3TransferManager transferManager = S3TransferManager.create();
@@ -675,6 +689,60 @@ public interface S3TransferManager extends SdkAutoCloseable {
         return copy(CopyRequest.builder().applyMutation(copyRequestBuilder).build());
     }
 
+    /**
+     * Copies all objects under a bucket, or under a prefix of a bucket, to another bucket or prefix. The objects are copied
+     * server-side via {@link #copy(CopyRequest)}, so their content is never downloaded; depending on the underlying S3Client,
+     * larger objects may be copied with multiple parallel {@link UploadPartCopyRequest}s.
+     * <p>
+     * The source objects are listed page by page and each page is copied as soon as it is received, so copies start before
+     * the whole listing is retrieved and the number of concurrent copies is bounded.
+     * <p>
+     * The source prefix and delimiter can be configured via
+     * {@link CopyDirectoryRequest.Builder#listObjectsV2RequestTransformer(Consumer)}. When a
+     * {@link CopyDirectoryRequest.Builder#destinationPrefix(String) destination prefix} is provided, it replaces the source
+     * prefix in the keys of the copied objects; otherwise objects are copied to the same keys in the destination bucket.
+     * <p>
+     * The returned {@link CompletableFuture} only completes exceptionally if the request cannot be attempted as a whole (the
+     * source bucket does not exist for example). The future completes successfully for partial successful requests, i.e.,
+     * there might be failed copies in a successfully completed response. As a result, you should check for errors in the
+     * response via {@link CompletedDirectoryCopy#failedTransfers()} even when the future completes successfully.
+     *
+     * <p>
+     * <b>Usage Example:</b>
+     * {@snippet :
+     *         DirectoryCopy directoryCopy =
+     *             transferManager.copyDirectory(CopyDirectoryRequest.builder()
+     *                                                               .sourceBucket("source_bucket")
+     *                                                               .destinationBucket("dest_bucket")
+     *                                                               .listObjectsV2RequestTransformer(l -> l.prefix("photos/"))
+     *                                                               .destinationPrefix("archive/photos/")
+     *                                                               .build());
+     *         // Wait for the transfer to complete
+     *         CompletedDirectoryCopy completedDirectoryCopy = directoryCopy.completionFuture().join();
+     *
+     *         // Print out any failed copies
+     *         completedDirectoryCopy.failedTransfers().forEach(System.out::println);
+     * }
+     *
+     * @param copyDirectoryRequest the copy directory request
+     * @see #copyDirectory(Consumer)
+     * @see #copy(CopyRequest)
+     */
+    default DirectoryCopy copyDirectory(CopyDirectoryRequest copyDirectoryRequest) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * This is a convenience method that creates an instance of the {@link CopyDirectoryRequest} builder, avoiding the need to
+     * create one manually via {@link CopyDirectoryRequest#builder()}.
+     *
+     * @see #copyDirectory(CopyDirectoryRequest)
+     */
+    default DirectoryCopy copyDirectory(Consumer<CopyDirectoryRequest.Builder> requestBuilder) {
+        Validate.paramNotNull(requestBuilder, "requestBuilder");
+        return copyDirectory(CopyDirectoryRequest.builder().applyMutation(requestBuilder).build());
+    }
+
     /**
      * Create an {@code S3TransferManager} using the default values.
      * <p>
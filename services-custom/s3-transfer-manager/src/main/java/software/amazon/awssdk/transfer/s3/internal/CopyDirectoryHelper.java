@@ -0,0 +1,182 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.DEFAULT_COPY_DIRECTORY_MAX_CONCURRENCY;
+import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.DEFAULT_PREFIX;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Function;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.transfer.s3.S3TransferManager;
+import software.amazon.awssdk.transfer.s3.internal.model.DefaultDirectoryCopy;
+import software.amazon.awssdk.transfer.s3.model.CompletedCopy;
+import software.amazon.awssdk.transfer.s3.model.CompletedDirectoryCopy;
+import software.amazon.awssdk.transfer.s3.model.Copy;
+import software.amazon.awssdk.transfer.s3.model.CopyDirectoryRequest;
+import software.amazon.awssdk.transfer.s3.model.CopyRequest;
+import software.amazon.awssdk.transfer.s3.model.DirectoryCopy;
+import software.amazon.awssdk.transfer.s3.model.FailedObjectCopy;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * An internal helper class that sends {@link CopyRequest}s while it retrieves the objects to copy from S3 recursively. Each
+ * page of the listing is handed to the copies as soon as it is received, so copies start before the listing completes and
+ * the number of in-flight copies is bounded by {@link TransferConfigurationOption#DEFAULT_COPY_DIRECTORY_MAX_CONCURRENCY}.
+ */
+@SdkInternalApi
+public class CopyDirectoryHelper {
+    private static final Logger log = Logger.loggerFor(S3TransferManager.class);
+    private final TransferManagerConfiguration transferConfiguration;
+    private final Function<CopyRequest, Copy> copyFunction;
+    private final ListObjectsHelper listObjectsHelper;
+
+    public CopyDirectoryHelper(TransferManagerConfiguration transferConfiguration,
+                               ListObjectsHelper listObjectsHelper,
+                               Function<CopyRequest, Copy> copyFunction) {
+        this.transferConfiguration = transferConfiguration;
+        this.copyFunction = copyFunction;
+        this.listObjectsHelper = listObjectsHelper;
+    }
+
+    public DirectoryCopy copyDirectory(CopyDirectoryRequest copyDirectoryRequest) {
+        CompletableFuture<CompletedDirectoryCopy> returnFuture = new CompletableFuture<>();
+
+        CompletableFuture.runAsync(() -> doCopyDirectory(returnFuture, copyDirectoryRequest),
+                                   transferConfiguration.option(TransferConfigurationOption.EXECUTOR))
+                         .whenComplete((r, t) -> {
+                             if (t != null) {
+                                 returnFuture.completeExceptionally(t);
+                             }
+                         });
+
+        return new DefaultDirectoryCopy(returnFuture);
+    }
+
+    private void doCopyDirectory(CompletableFuture<CompletedDirectoryCopy> returnFuture,
+                                 CopyDirectoryRequest copyDirectoryRequest) {
+        // Delimiter is null by default. See https://github.com/aws/aws-sdk-java/issues/1215
+        ListObjectsV2Request request =
+            ListObjectsV2Request.builder()
+                                .bucket(copyDirectoryRequest.sourceBucket())
+                                .prefix(DEFAULT_PREFIX)
+                                .applyMutation(copyDirectoryRequest.listObjectsRequestTransformer())
+                                .build();
+
+        Queue<FailedObjectCopy> failedObjectCopies = new ConcurrentLinkedQueue<>();
+
+        CompletableFuture<Void> allOfFutures = new CompletableFuture<>();
+
+        AsyncBufferingSubscriber<S3Object> asyncBufferingSubscriber =
+            new AsyncBufferingSubscriber<>(copySingleObject(returnFuture, copyDirectoryRequest, request, failedObjectCopies),
+                                           allOfFutures,
+                                           DEFAULT_COPY_DIRECTORY_MAX_CONCURRENCY);
+        listObjectsHelper.listS3ObjectsRecursively(request)
+                         .filter(copyDirectoryRequest.filter())
+                         .subscribe(asyncBufferingSubscriber);
+
+        allOfFutures.whenComplete((r, t) -> {
+            if (t != null) {
+                returnFuture.completeExceptionally(SdkClientException.create("Failed to send request", t));
+            } else {
+                returnFuture.complete(CompletedDirectoryCopy.builder()
+                                                            .failedTransfers(failedObjectCopies)
+                                                            .build());
+            }
+        });
+    }
+
+    private Function<S3Object, CompletableFuture<?>> copySingleObject(CompletableFuture<CompletedDirectoryCopy> returnFuture,
+                                                                      CopyDirectoryRequest copyDirectoryRequest,
+                                                                      ListObjectsV2Request listRequest,
+                                                                      Queue<FailedObjectCopy> failedObjectCopies) {
+        return s3Object -> {
+            CompletableFuture<CompletedCopy> future = doCopySingleObject(copyDirectoryRequest, listRequest, s3Object,
+                                                                         failedObjectCopies);
+            CompletableFutureUtils.forwardExceptionTo(returnFuture, future);
+            return future;
+        };
+    }
+
+    private CompletableFuture<CompletedCopy> doCopySingleObject(CopyDirectoryRequest copyDirectoryRequest,
+                                                                ListObjectsV2Request listRequest,
+                                                                S3Object s3Object,
+                                                                Queue<FailedObjectCopy> failedObjectCopies) {
+        CopyRequest copyRequest = copyRequest(copyDirectoryRequest, listRequest, s3Object);
+
+        try {
+            log.debug(() -> "Sending copy request " + copyRequest);
+            CompletableFuture<CompletedCopy> executionFuture = copyFunction.apply(copyRequest).completionFuture();
+            CompletableFuture<CompletedCopy> future = executionFuture.whenComplete((r, t) -> {
+                if (t != null) {
+                    failedObjectCopies.add(FailedObjectCopy.builder()
+                                                           .exception(t instanceof CompletionException ? t.getCause() : t)
+                                                           .request(copyRequest)
+                                                           .build());
+                }
+            });
+            CompletableFutureUtils.forwardExceptionTo(future, executionFuture);
+            return future;
+        } catch (Throwable throwable) {
+            failedObjectCopies.add(FailedObjectCopy.builder()
+                                                   .exception(throwable)
+                                                   .request(copyRequest)
+                                                   .build());
+            return CompletableFutureUtils.failedFuture(throwable);
+        }
+    }
+
+    private static CopyRequest copyRequest(CopyDirectoryRequest copyDirectoryRequest,
+                                           ListObjectsV2Request listRequest,
+                                           S3Object s3Object) {
+        CopyObjectRequest copyObjectRequest =
+            CopyObjectRequest.builder()
+                             .sourceBucket(copyDirectoryRequest.sourceBucket())
+                             .sourceKey(s3Object.key())
+                             .destinationBucket(copyDirectoryRequest.destinationBucket())
+                             .destinationKey(destinationKey(copyDirectoryRequest, listRequest, s3Object.key()))
+                             .build();
+        return CopyRequest.builder()
+                          .copyObjectRequest(copyObjectRequest)
+                          .applyMutation(copyDirectoryRequest.copyRequestTransformer())
+                          .build();
+    }
+
+    /**
+     * If a destination prefix is provided, replace the prefix of the list request with it. For example: given a request with
+     * prefix = "notes/2021/", destination prefix = "archive/" and key = "notes/2021/1.txt", the destination key should be
+     * "archive/1.txt".
+     */
+    private static String destinationKey(CopyDirectoryRequest copyDirectoryRequest,
+                                         ListObjectsV2Request listRequest,
+                                         String key) {
+        if (!copyDirectoryRequest.destinationPrefix().isPresent()) {
+            return key;
+        }
+
+        String prefix = listRequest.prefix() == null ? DEFAULT_PREFIX : listRequest.prefix();
+        String relativeKey = key.startsWith(prefix) ? key.substring(prefix.length()) : key;
+        return copyDirectoryRequest.destinationPrefix().get() + relativeKey;
+    }
+}
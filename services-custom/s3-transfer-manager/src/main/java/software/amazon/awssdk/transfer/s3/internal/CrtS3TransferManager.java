@@ -37,10 +37,13 @@ import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectResponse;
 import software.amazon.awssdk.transfer.s3.S3TransferManager;
 import software.amazon.awssdk.transfer.s3.internal.model.CrtFileUpload;
+import software.amazon.awssdk.transfer.s3.internal.model.DefaultDirectoryUpload;
 import software.amazon.awssdk.transfer.s3.internal.progress.TransferProgressUpdater;
 import software.amazon.awssdk.transfer.s3.model.CompletedFileUpload;
+import software.amazon.awssdk.transfer.s3.model.DirectoryUpload;
 import software.amazon.awssdk.transfer.s3.model.FileUpload;
 import software.amazon.awssdk.transfer.s3.model.ResumableFileUpload;
+import software.amazon.awssdk.transfer.s3.model.UploadDirectoryRequest;
 import software.amazon.awssdk.transfer.s3.model.UploadFileRequest;
 import software.amazon.awssdk.utils.CompletableFutureUtils;
 import software.amazon.awssdk.utils.Logger;
@@ -53,11 +56,15 @@ import software.amazon.awssdk.utils.Validate;
 class CrtS3TransferManager extends DelegatingS3TransferManager {
     private static final Logger log = Logger.loggerFor(S3TransferManager.class);
     private final S3AsyncClient s3AsyncClient;
+    private final UploadDirectoryHelper uploadDirectoryHelper;
 
     CrtS3TransferManager(TransferManagerConfiguration transferConfiguration, S3AsyncClient s3AsyncClient,
                          boolean isDefaultS3AsyncClient) {
         super(new GenericS3TransferManager(transferConfiguration, s3AsyncClient, isDefaultS3AsyncClient));
         this.s3AsyncClient = s3AsyncClient;
+        // Use the pausable CRT file uploads so that directory uploads can checkpoint in-progress multipart uploads
+        this.uploadDirectoryHelper = new UploadDirectoryHelper(transferConfiguration, this::uploadFile,
+                                                               this::resumeUploadFile);
     }
 
     @Override
@@ -104,6 +111,19 @@ class CrtS3TransferManager extends DelegatingS3TransferManager {
         return new CrtFileUpload(returnFuture, progressUpdater.progress(), observable, uploadFileRequest);
     }
 
+    @Override
+    public DirectoryUpload uploadDirectory(UploadDirectoryRequest uploadDirectoryRequest) {
+        Validate.paramNotNull(uploadDirectoryRequest, "uploadDirectoryRequest");
+
+        try {
+            assertNotUnsupportedArn(uploadDirectoryRequest.bucket(), "uploadDirectory");
+
+            return uploadDirectoryHelper.uploadDirectory(uploadDirectoryRequest);
+        } catch (Throwable throwable) {
+            return new DefaultDirectoryUpload(CompletableFutureUtils.failedFuture(throwable));
+        }
+    }
+
     private FileUpload uploadFromBeginning(ResumableFileUpload resumableFileUpload, boolean fileModified,
                                            boolean noResumeToken) {
         UploadFileRequest uploadFileRequest = resumableFileUpload.uploadFileRequest();
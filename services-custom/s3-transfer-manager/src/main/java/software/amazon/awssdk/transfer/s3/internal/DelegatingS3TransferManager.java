@@ -18,7 +18,9 @@ package software.amazon.awssdk.transfer.s3.internal;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.transfer.s3.S3TransferManager;
 import software.amazon.awssdk.transfer.s3.model.Copy;
+import software.amazon.awssdk.transfer.s3.model.CopyDirectoryRequest;
 import software.amazon.awssdk.transfer.s3.model.CopyRequest;
+import software.amazon.awssdk.transfer.s3.model.DirectoryCopy;
 import software.amazon.awssdk.transfer.s3.model.DirectoryDownload;
 import software.amazon.awssdk.transfer.s3.model.DirectoryUpload;
 import software.amazon.awssdk.transfer.s3.model.Download;
@@ -85,6 +87,11 @@ abstract class DelegatingS3TransferManager implements S3TransferManager {
         return delegate.copy(copyRequest);
     }
 
+    @Override
+    public DirectoryCopy copyDirectory(CopyDirectoryRequest copyDirectoryRequest) {
+        return delegate.copyDirectory(copyDirectoryRequest);
+    }
+
     @Override
     public void close() {
         delegate.close();
@@ -0,0 +1,132 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.transfer.s3.S3TransferManager;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Tracks the file transfers of a single directory transfer and records their progress in a {@link DirectoryTransferJournal},
+ * so that the directory transfer can be paused and resumed.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class DirectoryTransferCheckpoint {
+    private static final Logger log = Logger.loggerFor(S3TransferManager.class);
+
+    private final Path checkpointFile;
+    private final Map<String, InFlightTransfer> inFlightTransfers = new ConcurrentHashMap<>();
+    private volatile DirectoryTransferJournal journal;
+    private volatile boolean paused;
+
+    public DirectoryTransferCheckpoint(Path checkpointFile) {
+        this.checkpointFile = checkpointFile;
+    }
+
+    /**
+     * Opens the underlying journal and loads the progress recorded by previous attempts.
+     */
+    public void open() {
+        journal = DirectoryTransferJournal.open(checkpointFile);
+        log.debug(() -> String.format("Loaded checkpoint file (%s) with %d completed transfers", checkpointFile,
+                                      journal.completedCount()));
+    }
+
+    public boolean isPaused() {
+        return paused;
+    }
+
+    /**
+     * @return true if the object with the given key was transferred by a previous attempt
+     */
+    public boolean isCompleted(String key) {
+        return journal.isCompleted(key);
+    }
+
+    /**
+     * @return the serialized resumable state of the file transfer for the given key, if it was paused
+     */
+    public Optional<byte[]> resumableState(String key) {
+        return journal.inProgressState(key);
+    }
+
+    /**
+     * Tracks an in-flight file transfer until its future completes. The key is recorded as completed in the journal if the
+     * future completes successfully.
+     *
+     * @param key the key of the object being transferred
+     * @param future the completion future of the file transfer
+     * @param pauseFunction pauses the file transfer and returns its serialized resumable state
+     * @return a future that completes with the result of the given future once its outcome has been recorded
+     */
+    public <T> CompletableFuture<T> track(String key, CompletableFuture<T> future, Supplier<byte[]> pauseFunction) {
+        InFlightTransfer transfer = new InFlightTransfer(future, pauseFunction);
+        inFlightTransfers.put(key, transfer);
+        return future.whenComplete((r, t) -> {
+            inFlightTransfers.remove(key, transfer);
+            if (t == null) {
+                journal.recordCompleted(key);
+            }
+        });
+    }
+
+    /**
+     * Stops new file transfers from being started and records the resumable state of all in-flight file transfers.
+     */
+    public void pause() {
+        paused = true;
+        if (journal == null) {
+            return;
+        }
+        inFlightTransfers.forEach((key, transfer) -> {
+            if (transfer.future.isDone()) {
+                return;
+            }
+            try {
+                journal.recordInProgress(key, transfer.pauseFunction.get());
+            } catch (UnsupportedOperationException e) {
+                log.debug(() -> String.format("Pausing the transfer of (%s) is not supported, it will be restarted from the "
+                                              + "beginning when resumed", key));
+                transfer.future.cancel(true);
+            }
+        });
+        journal.flush();
+    }
+
+    public void close() {
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    private static final class InFlightTransfer {
+        private final CompletableFuture<?> future;
+        private final Supplier<byte[]> pauseFunction;
+
+        private InFlightTransfer(CompletableFuture<?> future, Supplier<byte[]> pauseFunction) {
+            this.future = future;
+            this.pauseFunction = pauseFunction;
+        }
+    }
+}
@@ -0,0 +1,259 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.utils.IoUtils;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+/**
+ * An append-only, on-disk journal that records the progress of a directory transfer.
+ *
+ * <p>
+ * The journal starts with a short header followed by a sequence of binary records, each of which has the following layout:
+ * <pre>
+ *     | type (1 byte) | key length (4 bytes) | key (UTF-8) | state length (4 bytes) | state | CRC32 of the preceding bytes |
+ * </pre>
+ * A {@link #COMPLETED} record marks the object with the given key as transferred, and an {@link #IN_PROGRESS} record holds
+ * the serialized resumable state of a paused file transfer. A completed record always takes precedence, and the latest
+ * in-progress record for a key wins. A record that is only partially written, for example because the process was
+ * terminated in the middle of an append, is detected through its checksum and truncated when the journal is reopened.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class DirectoryTransferJournal implements SdkAutoCloseable {
+    static final byte COMPLETED = 1;
+    static final byte IN_PROGRESS = 2;
+
+    private static final Logger log = Logger.loggerFor(DirectoryTransferJournal.class);
+    private static final byte[] HEADER = {'S', '3', 'T', 'M', 'J', 1};
+    private static final int RECORD_OVERHEAD = 1 + Integer.BYTES + Integer.BYTES + Integer.BYTES;
+    private static final byte[] NO_STATE = new byte[0];
+
+    private final Path path;
+    private final FileChannel channel;
+    private final Set<String> completedKeys;
+    private final Map<String, byte[]> inProgressStates;
+
+    private DirectoryTransferJournal(Path path, FileChannel channel, Set<String> completedKeys,
+                                     Map<String, byte[]> inProgressStates) {
+        this.path = path;
+        this.channel = channel;
+        this.completedKeys = completedKeys;
+        this.inProgressStates = inProgressStates;
+    }
+
+    /**
+     * Opens the journal at the given path, creating it if it does not exist, and loads the records that were previously
+     * written to it.
+     */
+    public static DirectoryTransferJournal open(Path path) {
+        FileChannel channel = null;
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            Set<String> completedKeys = ConcurrentHashMap.newKeySet();
+            Map<String, byte[]> inProgressStates = new ConcurrentHashMap<>();
+
+            if (channel.size() == 0) {
+                writeFully(channel, ByteBuffer.wrap(HEADER));
+            } else {
+                long validLength = load(path, channel, completedKeys, inProgressStates);
+                if (validLength < channel.size()) {
+                    log.debug(() -> String.format("Truncating partially written record at offset %d of checkpoint file (%s)",
+                                                  validLength, path));
+                    channel.truncate(validLength);
+                }
+            }
+            channel.position(channel.size());
+            return new DirectoryTransferJournal(path, channel, completedKeys, inProgressStates);
+        } catch (IOException e) {
+            IoUtils.closeQuietly(channel, log.logger());
+            throw SdkClientException.create("Failed to open the checkpoint file " + path, e);
+        } catch (RuntimeException e) {
+            IoUtils.closeQuietly(channel, log.logger());
+            throw e;
+        }
+    }
+
+    /**
+     * @return true if the object with the given key was recorded as transferred
+     */
+    public boolean isCompleted(String key) {
+        return completedKeys.contains(key);
+    }
+
+    /**
+     * @return the serialized resumable state recorded for the given key, if the key was paused and has not been completed
+     */
+    public Optional<byte[]> inProgressState(String key) {
+        return Optional.ofNullable(inProgressStates.get(key));
+    }
+
+    /**
+     * @return the number of objects recorded as transferred
+     */
+    public int completedCount() {
+        return completedKeys.size();
+    }
+
+    public void recordCompleted(String key) {
+        if (completedKeys.add(key)) {
+            inProgressStates.remove(key);
+            append(COMPLETED, key, NO_STATE);
+        }
+    }
+
+    public void recordInProgress(String key, byte[] state) {
+        if (!completedKeys.contains(key)) {
+            inProgressStates.put(key, state);
+            append(IN_PROGRESS, key, state);
+        }
+    }
+
+    private synchronized void append(byte type, String key, byte[] state) {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer record = ByteBuffer.allocate(RECORD_OVERHEAD + keyBytes.length + state.length);
+        record.put(type)
+              .putInt(keyBytes.length)
+              .put(keyBytes)
+              .putInt(state.length)
+              .put(state);
+
+        CRC32 crc = new CRC32();
+        crc.update(record.array(), 0, record.position());
+        record.putInt((int) crc.getValue());
+
+        try {
+            writeFully(channel, ByteBuffer.wrap(record.array()));
+        } catch (IOException e) {
+            throw SdkClientException.create("Failed to write to the checkpoint file " + path, e);
+        }
+    }
+
+    /**
+     * Flushes the records written so far to the storage device.
+     */
+    public synchronized void flush() {
+        if (!channel.isOpen()) {
+            return;
+        }
+        try {
+            channel.force(false);
+        } catch (IOException e) {
+            throw SdkClientException.create("Failed to flush the checkpoint file " + path, e);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        flush();
+        IoUtils.closeQuietly(channel, log.logger());
+    }
+
+    /**
+     * Reads all records from the channel, returning the length of the journal up to the end of the last valid record.
+     */
+    private static long load(Path path, FileChannel channel, Set<String> completedKeys,
+                             Map<String, byte[]> inProgressStates) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER.length);
+        readFully(channel, header, 0);
+        if (header.hasRemaining() || !Arrays.equals(header.array(), HEADER)) {
+            throw SdkClientException.create("The file " + path + " is not a valid checkpoint file");
+        }
+
+        long position = HEADER.length;
+        long size = channel.size();
+        ByteBuffer intBuffer = ByteBuffer.allocate(Integer.BYTES);
+        CRC32 crc = new CRC32();
+
+        while (position + RECORD_OVERHEAD <= size) {
+            ByteBuffer typeAndKeyLength = ByteBuffer.allocate(1 + Integer.BYTES);
+            readFully(channel, typeAndKeyLength, position);
+            byte type = typeAndKeyLength.get(0);
+            int keyLength = typeAndKeyLength.getInt(1);
+            if ((type != COMPLETED && type != IN_PROGRESS) || keyLength < 0
+                || position + RECORD_OVERHEAD + keyLength > size) {
+                break;
+            }
+
+            ByteBuffer key = ByteBuffer.allocate(keyLength);
+            readFully(channel, key, position + 1 + Integer.BYTES);
+            intBuffer.clear();
+            readFully(channel, intBuffer, position + 1 + Integer.BYTES + keyLength);
+            int stateLength = intBuffer.getInt(0);
+            long recordLength = (long) RECORD_OVERHEAD + keyLength + stateLength;
+            if (stateLength < 0 || position + recordLength > size) {
+                break;
+            }
+
+            ByteBuffer state = ByteBuffer.allocate(stateLength);
+            readFully(channel, state, position + 1 + Integer.BYTES + keyLength + Integer.BYTES);
+            intBuffer.clear();
+            readFully(channel, intBuffer, position + recordLength - Integer.BYTES);
+
+            crc.reset();
+            crc.update(typeAndKeyLength.array());
+            crc.update(key.array());
+            ByteBuffer stateLengthBytes = ByteBuffer.allocate(Integer.BYTES).putInt(0, stateLength);
+            crc.update(stateLengthBytes.array());
+            crc.update(state.array());
+            if ((int) crc.getValue() != intBuffer.getInt(0)) {
+                break;
+            }
+
+            String keyString = new String(key.array(), StandardCharsets.UTF_8);
+            if (type == COMPLETED) {
+                completedKeys.add(keyString);
+                inProgressStates.remove(keyString);
+            } else if (!completedKeys.contains(keyString)) {
+                inProgressStates.put(keyString, state.array());
+            }
+            position += recordLength;
+        }
+
+        return position;
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + buffer.position());
+            if (read < 0) {
+                return;
+            }
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
@@ -24,6 +24,7 @@ import java.nio.file.FileSystem;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Collection;
+import java.util.Optional;
 import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
@@ -36,6 +37,7 @@ import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
 import software.amazon.awssdk.services.s3.model.S3Object;
 import software.amazon.awssdk.transfer.s3.S3TransferManager;
 import software.amazon.awssdk.transfer.s3.internal.model.DefaultDirectoryDownload;
+import software.amazon.awssdk.transfer.s3.internal.serialization.ResumableFileDownloadSerializer;
 import software.amazon.awssdk.transfer.s3.model.CompletedDirectoryDownload;
 import software.amazon.awssdk.transfer.s3.model.CompletedFileDownload;
 import software.amazon.awssdk.transfer.s3.model.DirectoryDownload;
@@ -43,6 +45,7 @@ import software.amazon.awssdk.transfer.s3.model.DownloadDirectoryRequest;
 import software.amazon.awssdk.transfer.s3.model.DownloadFileRequest;
 import software.amazon.awssdk.transfer.s3.model.FailedFileDownload;
 import software.amazon.awssdk.transfer.s3.model.FileDownload;
+import software.amazon.awssdk.transfer.s3.model.ResumableFileDownload;
 import software.amazon.awssdk.utils.CompletableFutureUtils;
 import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.StringUtils;
@@ -57,30 +60,46 @@ public class DownloadDirectoryHelper {
     private static final Logger log = Logger.loggerFor(S3TransferManager.class);
     private final TransferManagerConfiguration transferConfiguration;
     private final Function<DownloadFileRequest, FileDownload> downloadFileFunction;
+    private final Function<ResumableFileDownload, FileDownload> resumeDownloadFileFunction;
     private final ListObjectsHelper listObjectsHelper;
 
     public DownloadDirectoryHelper(TransferManagerConfiguration transferConfiguration,
                                    ListObjectsHelper listObjectsHelper,
                                    Function<DownloadFileRequest, FileDownload> downloadFileFunction) {
+        this(transferConfiguration, listObjectsHelper, downloadFileFunction,
+             r -> downloadFileFunction.apply(r.downloadFileRequest()));
+    }
+
+    public DownloadDirectoryHelper(TransferManagerConfiguration transferConfiguration,
+                                   ListObjectsHelper listObjectsHelper,
+                                   Function<DownloadFileRequest, FileDownload> downloadFileFunction,
+                                   Function<ResumableFileDownload, FileDownload> resumeDownloadFileFunction) {
 
         this.transferConfiguration = transferConfiguration;
         this.downloadFileFunction = downloadFileFunction;
+        this.resumeDownloadFileFunction = resumeDownloadFileFunction;
         this.listObjectsHelper = listObjectsHelper;
     }
 
     public DirectoryDownload downloadDirectory(DownloadDirectoryRequest downloadDirectoryRequest) {
 
         CompletableFuture<CompletedDirectoryDownload> returnFuture = new CompletableFuture<>();
+        DirectoryTransferCheckpoint checkpoint = downloadDirectoryRequest.checkpointFile()
+                                                                         .map(DirectoryTransferCheckpoint::new)
+                                                                         .orElse(null);
 
-        CompletableFuture.runAsync(() -> doDownloadDirectory(returnFuture, downloadDirectoryRequest),
+        CompletableFuture.runAsync(() -> doDownloadDirectory(returnFuture, downloadDirectoryRequest, checkpoint),
                                    transferConfiguration.option(TransferConfigurationOption.EXECUTOR))
                          .whenComplete((r, t) -> {
                              if (t != null) {
+                                 if (checkpoint != null) {
+                                     checkpoint.close();
+                                 }
                                  returnFuture.completeExceptionally(t);
                              }
                          });
 
-        return new DefaultDirectoryDownload(returnFuture);
+        return new DefaultDirectoryDownload(returnFuture, checkpoint);
     }
 
     private static void validateDirectoryIfExists(Path directory) {
@@ -91,8 +110,12 @@ public class DownloadDirectoryHelper {
     }
 
     private void doDownloadDirectory(CompletableFuture<CompletedDirectoryDownload> returnFuture,
-                                     DownloadDirectoryRequest downloadDirectoryRequest) {
+                                     DownloadDirectoryRequest downloadDirectoryRequest,
+                                     DirectoryTransferCheckpoint checkpoint) {
         validateDirectoryIfExists(downloadDirectoryRequest.destination());
+        if (checkpoint != null) {
+            checkpoint.open();
+        }
         String bucket = downloadDirectoryRequest.bucket();
 
         // Delimiter is null by default. See https://github.com/aws/aws-sdk-java/issues/1215
@@ -109,7 +132,7 @@ public class DownloadDirectoryHelper {
 
         AsyncBufferingSubscriber<S3Object> asyncBufferingSubscriber =
             new AsyncBufferingSubscriber<>(downloadSingleFile(returnFuture, downloadDirectoryRequest, request,
-                                                              failedFileDownloads),
+                                                              failedFileDownloads, checkpoint),
                                            allOfFutures,
                                            DEFAULT_DOWNLOAD_DIRECTORY_MAX_CONCURRENCY);
         listObjectsHelper.listS3ObjectsRecursively(request)
@@ -117,6 +140,9 @@ public class DownloadDirectoryHelper {
                          .subscribe(asyncBufferingSubscriber);
 
         allOfFutures.whenComplete((r, t) -> {
+            if (checkpoint != null) {
+                checkpoint.close();
+            }
             if (t != null) {
                 returnFuture.completeExceptionally(SdkClientException.create("Failed to send request", t));
             } else {
@@ -131,18 +157,40 @@ public class DownloadDirectoryHelper {
         CompletableFuture<CompletedDirectoryDownload> returnFuture,
         DownloadDirectoryRequest downloadDirectoryRequest,
         ListObjectsV2Request listRequest,
-        Queue<FailedFileDownload> failedFileDownloads) {
+        Queue<FailedFileDownload> failedFileDownloads,
+        DirectoryTransferCheckpoint checkpoint) {
 
         return s3Object -> {
+            if (!shouldDownload(checkpoint, s3Object)) {
+                return CompletableFuture.completedFuture(null);
+            }
             CompletableFuture<CompletedFileDownload> future = doDownloadSingleFile(downloadDirectoryRequest,
                                                                                    failedFileDownloads,
                                                                                    listRequest,
-                                                                                   s3Object);
+                                                                                   s3Object,
+                                                                                   checkpoint);
             CompletableFutureUtils.forwardExceptionTo(returnFuture, future);
             return future;
         };
     }
 
+    private static boolean shouldDownload(DirectoryTransferCheckpoint checkpoint, S3Object s3Object) {
+        if (checkpoint == null) {
+            return true;
+        }
+
+        if (checkpoint.isPaused()) {
+            return false;
+        }
+
+        if (checkpoint.isCompleted(s3Object.key())) {
+            log.debug(() -> String.format("Skipping download for object (%s) since it was downloaded by a previous attempt",
+                                          s3Object.key()));
+            return false;
+        }
+        return true;
+    }
+
     private Path determineDestinationPath(DownloadDirectoryRequest downloadDirectoryRequest,
                                           ListObjectsV2Request listRequest,
                                           S3Object s3Object) {
@@ -165,7 +213,8 @@ public class DownloadDirectoryHelper {
     private CompletableFuture<CompletedFileDownload> doDownloadSingleFile(DownloadDirectoryRequest downloadDirectoryRequest,
                                                                           Collection<FailedFileDownload> failedFileDownloads,
                                                                           ListObjectsV2Request listRequest,
-                                                                          S3Object s3Object) {
+                                                                          S3Object s3Object,
+                                                                          DirectoryTransferCheckpoint checkpoint) {
 
         Path destinationPath = determineDestinationPath(downloadDirectoryRequest, listRequest, s3Object);
 
@@ -175,8 +224,15 @@ public class DownloadDirectoryHelper {
             log.debug(() -> "Sending download request " + downloadFileRequest);
             createParentDirectoriesIfNeeded(destinationPath);
 
-            CompletableFuture<CompletedFileDownload> executionFuture =
-                downloadFileFunction.apply(downloadFileRequest).completionFuture();
+            FileDownload fileDownload = startDownload(checkpoint, downloadFileRequest);
+            CompletableFuture<CompletedFileDownload> executionFuture = fileDownload.completionFuture();
+            if (checkpoint != null) {
+                CompletableFuture<CompletedFileDownload> trackedFuture =
+                    checkpoint.track(s3Object.key(), executionFuture,
+                                     () -> ResumableFileDownloadSerializer.toJson(fileDownload.pause()));
+                CompletableFutureUtils.forwardExceptionTo(trackedFuture, executionFuture);
+                executionFuture = trackedFuture;
+            }
             CompletableFuture<CompletedFileDownload> future = executionFuture.whenComplete((r, t) -> {
                 if (t != null) {
                     failedFileDownloads.add(FailedFileDownload.builder()
@@ -197,6 +253,23 @@ public class DownloadDirectoryHelper {
         }
     }
 
+    private FileDownload startDownload(DirectoryTransferCheckpoint checkpoint, DownloadFileRequest downloadFileRequest) {
+        Optional<byte[]> resumableState =
+            checkpoint == null ? Optional.empty() : checkpoint.resumableState(downloadFileRequest.getObjectRequest().key());
+
+        if (!resumableState.isPresent()) {
+            return downloadFileFunction.apply(downloadFileRequest);
+        }
+
+        // The serialized request does not retain transfer listeners, so the newly constructed request is used instead
+        ResumableFileDownload resumableFileDownload = ResumableFileDownloadSerializer.fromJson(resumableState.get())
+                                                                                     .toBuilder()
+                                                                                     .downloadFileRequest(downloadFileRequest)
+                                                                                     .build();
+        log.debug(() -> "Resuming download request paused by a previous attempt " + downloadFileRequest);
+        return resumeDownloadFileFunction.apply(resumableFileDownload);
+    }
+
     /**
      * If the prefix is not empty AND the key contains the delimiter, normalize the key by stripping the prefix from the key.
      *
@@ -41,6 +41,7 @@ import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectResponse;
 import software.amazon.awssdk.transfer.s3.S3TransferManager;
 import software.amazon.awssdk.transfer.s3.internal.model.DefaultCopy;
+import software.amazon.awssdk.transfer.s3.internal.model.DefaultDirectoryCopy;
 import software.amazon.awssdk.transfer.s3.internal.model.DefaultDirectoryDownload;
 import software.amazon.awssdk.transfer.s3.internal.model.DefaultDirectoryUpload;
 import software.amazon.awssdk.transfer.s3.internal.model.DefaultDownload;
@@ -55,7 +56,9 @@ import software.amazon.awssdk.transfer.s3.model.CompletedFileDownload;
 import software.amazon.awssdk.transfer.s3.model.CompletedFileUpload;
 import software.amazon.awssdk.transfer.s3.model.CompletedUpload;
 import software.amazon.awssdk.transfer.s3.model.Copy;
+import software.amazon.awssdk.transfer.s3.model.CopyDirectoryRequest;
 import software.amazon.awssdk.transfer.s3.model.CopyRequest;
+import software.amazon.awssdk.transfer.s3.model.DirectoryCopy;
 import software.amazon.awssdk.transfer.s3.model.DirectoryDownload;
 import software.amazon.awssdk.transfer.s3.model.DirectoryUpload;
 import software.amazon.awssdk.transfer.s3.model.Download;
@@ -83,6 +86,7 @@ class GenericS3TransferManager implements S3TransferManager {
     private final S3AsyncClient s3AsyncClient;
     private final UploadDirectoryHelper uploadDirectoryHelper;
     private final DownloadDirectoryHelper downloadDirectoryHelper;
+    private final CopyDirectoryHelper copyDirectoryHelper;
     private final boolean isDefaultS3AsyncClient;
 
     private final TransferManagerConfiguration transferConfiguration;
@@ -96,7 +100,9 @@ class GenericS3TransferManager implements S3TransferManager {
         ListObjectsHelper listObjectsHelper = new ListObjectsHelper(s3AsyncClient::listObjectsV2);
         downloadDirectoryHelper = new DownloadDirectoryHelper(transferConfiguration,
                                                               listObjectsHelper,
-                                                              this::downloadFile);
+                                                              this::downloadFile,
+                                                              this::resumeDownloadFile);
+        copyDirectoryHelper = new CopyDirectoryHelper(transferConfiguration, listObjectsHelper, this::copy);
         this.isDefaultS3AsyncClient = isDefaultS3AsyncClient;
     }
 
@@ -110,6 +116,9 @@ class GenericS3TransferManager implements S3TransferManager {
         this.transferConfiguration = configuration;
         this.uploadDirectoryHelper = uploadDirectoryHelper;
         this.downloadDirectoryHelper = downloadDirectoryHelper;
+        this.copyDirectoryHelper = new CopyDirectoryHelper(configuration,
+                                                           new ListObjectsHelper(s3CrtAsyncClient::listObjectsV2),
+                                                           this::copy);
     }
 
     @Override
@@ -383,6 +392,20 @@ class GenericS3TransferManager implements S3TransferManager {
         return new DefaultCopy(returnFuture, progressUpdater.progress());
     }
 
+    @Override
+    public DirectoryCopy copyDirectory(CopyDirectoryRequest copyDirectoryRequest) {
+        Validate.paramNotNull(copyDirectoryRequest, "copyDirectoryRequest");
+
+        try {
+            assertNotUnsupportedArn(copyDirectoryRequest.sourceBucket(), "copyDirectory sourceBucket");
+            assertNotUnsupportedArn(copyDirectoryRequest.destinationBucket(), "copyDirectory destinationBucket");
+
+            return copyDirectoryHelper.copyDirectory(copyDirectoryRequest);
+        } catch (Throwable throwable) {
+            return new DefaultDirectoryCopy(CompletableFutureUtils.failedFuture(throwable));
+        }
+    }
+
     @Override
     public void close() {
         if (isDefaultS3AsyncClient) {
@@ -25,6 +25,7 @@ import java.nio.file.LinkOption;
 import java.nio.file.Path;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentLinkedQueue;
@@ -36,11 +37,13 @@ import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.transfer.s3.S3TransferManager;
 import software.amazon.awssdk.transfer.s3.internal.model.DefaultDirectoryUpload;
+import software.amazon.awssdk.transfer.s3.internal.serialization.ResumableFileUploadSerializer;
 import software.amazon.awssdk.transfer.s3.model.CompletedDirectoryUpload;
 import software.amazon.awssdk.transfer.s3.model.CompletedFileUpload;
 import software.amazon.awssdk.transfer.s3.model.DirectoryUpload;
 import software.amazon.awssdk.transfer.s3.model.FailedFileUpload;
 import software.amazon.awssdk.transfer.s3.model.FileUpload;
+import software.amazon.awssdk.transfer.s3.model.ResumableFileUpload;
 import software.amazon.awssdk.transfer.s3.model.UploadDirectoryRequest;
 import software.amazon.awssdk.transfer.s3.model.UploadFileRequest;
 import software.amazon.awssdk.utils.CompletableFutureUtils;
@@ -58,55 +61,101 @@ public class UploadDirectoryHelper {
 
     private final TransferManagerConfiguration transferConfiguration;
     private final Function<UploadFileRequest, FileUpload> uploadFunction;
+    private final Function<ResumableFileUpload, FileUpload> resumeUploadFunction;
 
     public UploadDirectoryHelper(TransferManagerConfiguration transferConfiguration,
                                  Function<UploadFileRequest, FileUpload> uploadFunction) {
+        this(transferConfiguration, uploadFunction, r -> uploadFunction.apply(r.uploadFileRequest()));
+    }
+
+    public UploadDirectoryHelper(TransferManagerConfiguration transferConfiguration,
+                                 Function<UploadFileRequest, FileUpload> uploadFunction,
+                                 Function<ResumableFileUpload, FileUpload> resumeUploadFunction) {
 
         this.transferConfiguration = transferConfiguration;
         this.uploadFunction = uploadFunction;
+        this.resumeUploadFunction = resumeUploadFunction;
     }
 
     public DirectoryUpload uploadDirectory(UploadDirectoryRequest uploadDirectoryRequest) {
 
         CompletableFuture<CompletedDirectoryUpload> returnFuture = new CompletableFuture<>();
+        DirectoryTransferCheckpoint checkpoint = uploadDirectoryRequest.checkpointFile()
+                                                                       .map(DirectoryTransferCheckpoint::new)
+                                                                       .orElse(null);
 
         // offload the execution to the transfer manager executor
-        CompletableFuture.runAsync(() -> doUploadDirectory(returnFuture, uploadDirectoryRequest),
+        CompletableFuture.runAsync(() -> doUploadDirectory(returnFuture, uploadDirectoryRequest, checkpoint),
                                    transferConfiguration.option(TransferConfigurationOption.EXECUTOR))
                          .whenComplete((r, t) -> {
                              if (t != null) {
+                                 if (checkpoint != null) {
+                                     checkpoint.close();
+                                 }
                                  returnFuture.completeExceptionally(t);
                              }
                          });
 
-        return new DefaultDirectoryUpload(returnFuture);
+        return new DefaultDirectoryUpload(returnFuture, checkpoint);
     }
 
     private void doUploadDirectory(CompletableFuture<CompletedDirectoryUpload> returnFuture,
-                                   UploadDirectoryRequest uploadDirectoryRequest) {
+                                   UploadDirectoryRequest uploadDirectoryRequest,
+                                   DirectoryTransferCheckpoint checkpoint) {
 
         Path directory = uploadDirectoryRequest.source();
 
         validateDirectory(uploadDirectoryRequest);
 
+        if (checkpoint != null) {
+            checkpoint.open();
+        }
+
         Collection<FailedFileUpload> failedFileUploads = new ConcurrentLinkedQueue<>();
         List<CompletableFuture<CompletedFileUpload>> futures;
+        int nameCount = directory.getNameCount();
 
         try (Stream<Path> entries = listFiles(directory, uploadDirectoryRequest)) {
-            futures = entries.map(path -> {
-                CompletableFuture<CompletedFileUpload> future = uploadSingleFile(uploadDirectoryRequest,
-                                                                                 failedFileUploads, path);
-
-                // Forward cancellation of the return future to all individual futures.
-                CompletableFutureUtils.forwardExceptionTo(returnFuture, future);
-                return future;
-            }).collect(Collectors.toList());
+            futures = entries.map(path -> constructUploadRequest(uploadDirectoryRequest, nameCount, path))
+                             .filter(request -> shouldUpload(checkpoint, request))
+                             .map(request -> {
+                                 CompletableFuture<CompletedFileUpload> future = uploadSingleFile(checkpoint,
+                                                                                                  failedFileUploads,
+                                                                                                  request);
+
+                                 // Forward cancellation of the return future to all individual futures.
+                                 CompletableFutureUtils.forwardExceptionTo(returnFuture, future);
+                                 return future;
+                             }).collect(Collectors.toList());
         }
 
         CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
-                         .whenComplete((r, t) -> returnFuture.complete(CompletedDirectoryUpload.builder()
-                                                                                               .failedTransfers(failedFileUploads)
-                                                                                               .build()));
+                         .whenComplete((r, t) -> {
+                             if (checkpoint != null) {
+                                 checkpoint.close();
+                             }
+                             returnFuture.complete(CompletedDirectoryUpload.builder()
+                                                                           .failedTransfers(failedFileUploads)
+                                                                           .build());
+                         });
+    }
+
+    private static boolean shouldUpload(DirectoryTransferCheckpoint checkpoint, UploadFileRequest uploadFileRequest) {
+        if (checkpoint == null) {
+            return true;
+        }
+
+        if (checkpoint.isPaused()) {
+            return false;
+        }
+
+        String key = uploadFileRequest.putObjectRequest().key();
+        if (checkpoint.isCompleted(key)) {
+            log.debug(() -> String.format("Skipping upload for path (%s) since it was uploaded by a previous attempt",
+                                          uploadFileRequest.source()));
+            return false;
+        }
+        return true;
     }
 
     private void validateDirectory(UploadDirectoryRequest uploadDirectoryRequest) {
@@ -123,13 +172,20 @@ public class UploadDirectoryHelper {
         }
     }
 
-    private CompletableFuture<CompletedFileUpload> uploadSingleFile(UploadDirectoryRequest uploadDirectoryRequest,
+    private CompletableFuture<CompletedFileUpload> uploadSingleFile(DirectoryTransferCheckpoint checkpoint,
                                                                     Collection<FailedFileUpload> failedFileUploads,
-                                                                    Path path) {
-        int nameCount = uploadDirectoryRequest.source().getNameCount();
-        UploadFileRequest uploadFileRequest = constructUploadRequest(uploadDirectoryRequest, nameCount, path);
-        log.debug(() -> String.format("Sending upload request (%s) for path (%s)", uploadFileRequest, path));
-        CompletableFuture<CompletedFileUpload> executionFuture = uploadFunction.apply(uploadFileRequest).completionFuture();
+                                                                    UploadFileRequest uploadFileRequest) {
+        log.debug(() -> String.format("Sending upload request (%s) for path (%s)", uploadFileRequest,
+                                      uploadFileRequest.source()));
+        FileUpload fileUpload = startUpload(checkpoint, uploadFileRequest);
+        CompletableFuture<CompletedFileUpload> executionFuture = fileUpload.completionFuture();
+        if (checkpoint != null) {
+            String key = uploadFileRequest.putObjectRequest().key();
+            CompletableFuture<CompletedFileUpload> trackedFuture =
+                checkpoint.track(key, executionFuture, () -> ResumableFileUploadSerializer.toJson(fileUpload.pause()));
+            CompletableFutureUtils.forwardExceptionTo(trackedFuture, executionFuture);
+            executionFuture = trackedFuture;
+        }
         CompletableFuture<CompletedFileUpload> future = executionFuture.whenComplete((r, t) -> {
             if (t != null) {
                 failedFileUploads.add(FailedFileUpload.builder()
@@ -142,6 +198,24 @@ public class UploadDirectoryHelper {
         return future;
     }
 
+    private FileUpload startUpload(DirectoryTransferCheckpoint checkpoint, UploadFileRequest uploadFileRequest) {
+        Optional<byte[]> resumableState =
+            checkpoint == null ? Optional.empty() : checkpoint.resumableState(uploadFileRequest.putObjectRequest().key());
+
+        if (!resumableState.isPresent()) {
+            return uploadFunction.apply(uploadFileRequest);
+        }
+
+        // The serialized request does not retain transfer listeners, so the newly constructed request is used instead
+        ResumableFileUpload resumableFileUpload = ResumableFileUploadSerializer.fromJson(resumableState.get())
+                                                                               .toBuilder()
+                                                                               .uploadFileRequest(uploadFileRequest)
+                                                                               .build();
+        log.debug(() -> String.format("Resuming upload for path (%s) paused by a previous attempt",
+                                      uploadFileRequest.source()));
+        return resumeUploadFunction.apply(resumableFileUpload);
+    }
+
     private Stream<Path> listFiles(Path directory, UploadDirectoryRequest request) {
 
         try {
@@ -18,6 +18,7 @@ package software.amazon.awssdk.transfer.s3.internal.model;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.transfer.s3.internal.DirectoryTransferCheckpoint;
 import software.amazon.awssdk.transfer.s3.model.CompletedDirectoryDownload;
 import software.amazon.awssdk.transfer.s3.model.DirectoryDownload;
 import software.amazon.awssdk.utils.ToString;
@@ -27,9 +28,26 @@ import software.amazon.awssdk.utils.Validate;
 public final class DefaultDirectoryDownload implements DirectoryDownload {
 
     private final CompletableFuture<CompletedDirectoryDownload> completionFuture;
+    private final DirectoryTransferCheckpoint checkpoint;
 
     public DefaultDirectoryDownload(CompletableFuture<CompletedDirectoryDownload> completionFuture) {
+        this(completionFuture, null);
+    }
+
+    public DefaultDirectoryDownload(CompletableFuture<CompletedDirectoryDownload> completionFuture,
+                                    DirectoryTransferCheckpoint checkpoint) {
         this.completionFuture = Validate.paramNotNull(completionFuture, "completionFuture");
+        this.checkpoint = checkpoint;
+    }
+
+    @Override
+    public void pause() {
+        if (checkpoint == null) {
+            DirectoryDownload.super.pause();
+            return;
+        }
+        checkpoint.pause();
+        completionFuture.cancel(true);
     }
 
     @Override
@@ -48,12 +66,17 @@ public final class DefaultDirectoryDownload implements DirectoryDownload {
 
         DefaultDirectoryDownload that = (DefaultDirectoryDownload) o;
 
-        return Objects.equals(completionFuture, that.completionFuture);
+        if (!Objects.equals(completionFuture, that.completionFuture)) {
+            return false;
+        }
+        return Objects.equals(checkpoint, that.checkpoint);
     }
 
     @Override
     public int hashCode() {
-        return completionFuture != null ? completionFuture.hashCode() : 0;
+        int result = completionFuture != null ? completionFuture.hashCode() : 0;
+        result = 31 * result + (checkpoint != null ? checkpoint.hashCode() : 0);
+        return result;
     }
 
     @Override
@@ -0,0 +1,156 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.transfer.s3.S3TransferManager;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.builder.CopyableBuilder;
+import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
+
+/**
+ * Represents a completed copy directory transfer within Amazon S3. It can be used to track
+ * failed single object copies.
+ *
+ * @see S3TransferManager#copyDirectory(CopyDirectoryRequest)
+ */
+@SdkPublicApi
+public final class CompletedDirectoryCopy implements CompletedDirectoryTransfer,
+                                                     ToCopyableBuilder<CompletedDirectoryCopy.Builder,
+                                                         CompletedDirectoryCopy> {
+
+    private final List<FailedObjectCopy> failedTransfers;
+
+    private CompletedDirectoryCopy(DefaultBuilder builder) {
+        this.failedTransfers = Collections.unmodifiableList(
+            new ArrayList<>(Validate.paramNotNull(builder.failedTransfers, "failedTransfers")));
+    }
+
+    @Override
+    public List<FailedObjectCopy> failedTransfers() {
+        return failedTransfers;
+    }
+
+    /**
+     * Creates a default builder for {@link CompletedDirectoryCopy}.
+     */
+    public static Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        CompletedDirectoryCopy that = (CompletedDirectoryCopy) o;
+
+        return Objects.equals(failedTransfers, that.failedTransfers);
+    }
+
+    @Override
+    public int hashCode() {
+        return failedTransfers != null ? failedTransfers.hashCode() : 0;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("CompletedDirectoryCopy")
+                       .add("failedTransfers", failedTransfers)
+                       .build();
+    }
+
+    public static Class<? extends Builder> serializableBuilderClass() {
+        return DefaultBuilder.class;
+    }
+
+    @Override
+    public Builder toBuilder() {
+        return new DefaultBuilder(this);
+    }
+
+    public interface Builder extends CopyableBuilder<CompletedDirectoryCopy.Builder,
+        CompletedDirectoryCopy>  {
+
+        /**
+         * Sets a collection of {@link FailedObjectCopy}s
+         *
+         * @param failedTransfers failed copy
+         * @return This builder for method chaining.
+         */
+        Builder failedTransfers(Collection<FailedObjectCopy> failedTransfers);
+
+        /**
+         * Adds a {@link FailedObjectCopy}
+         *
+         * @param failedTransfer failed copy
+         * @return This builder for method chaining.
+         */
+        Builder addFailedTransfer(FailedObjectCopy failedTransfer);
+
+        /**
+         * Builds a {@link CompletedDirectoryCopy} based on the properties supplied to this builder
+         * @return An initialized {@link CompletedDirectoryCopy}
+         */
+        CompletedDirectoryCopy build();
+    }
+
+    private static final class DefaultBuilder implements Builder {
+        private Collection<FailedObjectCopy> failedTransfers = new ArrayList<>();
+
+        private DefaultBuilder() {
+        }
+
+        private DefaultBuilder(CompletedDirectoryCopy completedDirectoryCopy) {
+            this.failedTransfers = new ArrayList<>(completedDirectoryCopy.failedTransfers);
+        }
+
+        @Override
+        public Builder failedTransfers(Collection<FailedObjectCopy> failedTransfers) {
+            this.failedTransfers = new ArrayList<>(failedTransfers);
+            return this;
+        }
+
+        @Override
+        public Builder addFailedTransfer(FailedObjectCopy failedTransfer) {
+            failedTransfers.add(failedTransfer);
+            return this;
+        }
+
+        public Collection<FailedObjectCopy> getFailedTransfers() {
+            return Collections.unmodifiableCollection(failedTransfers);
+        }
+
+        public void setFailedTransfers(Collection<FailedObjectCopy> failedTransfers) {
+            failedTransfers(failedTransfers);
+        }
+
+        @Override
+        public CompletedDirectoryCopy build() {
+            return new CompletedDirectoryCopy(this);
+        }
+    }
+}
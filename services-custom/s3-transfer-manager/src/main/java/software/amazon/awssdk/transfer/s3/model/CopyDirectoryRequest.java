@@ -0,0 +1,333 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.model;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.transfer.s3.S3TransferManager;
+import software.amazon.awssdk.transfer.s3.config.DownloadFilter;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.builder.CopyableBuilder;
+import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
+
+/**
+ * Request object to copy the objects in the provided S3 bucket to another bucket or prefix using the Transfer Manager. The
+ * objects are copied server-side, so their content is never downloaded.
+ *
+ * @see S3TransferManager#copyDirectory(CopyDirectoryRequest)
+ */
+@SdkPublicApi
+public final class CopyDirectoryRequest
+    implements TransferDirectoryRequest, ToCopyableBuilder<CopyDirectoryRequest.Builder, CopyDirectoryRequest> {
+
+    private final String sourceBucket;
+    private final String destinationBucket;
+    private final String destinationPrefix;
+    private final DownloadFilter filter;
+    private final Consumer<CopyRequest.Builder> copyRequestTransformer;
+    private final Consumer<ListObjectsV2Request.Builder> listObjectsRequestTransformer;
+
+    public CopyDirectoryRequest(DefaultBuilder builder) {
+        this.sourceBucket = Validate.paramNotNull(builder.sourceBucket, "sourceBucket");
+        this.destinationBucket = Validate.paramNotNull(builder.destinationBucket, "destinationBucket");
+        this.destinationPrefix = builder.destinationPrefix;
+        this.filter = builder.filter;
+        this.copyRequestTransformer = builder.copyRequestTransformer;
+        this.listObjectsRequestTransformer = builder.listObjectsRequestTransformer;
+    }
+
+    /**
+     * The name of the bucket to copy objects from
+     *
+     * @return source bucket name
+     * @see Builder#sourceBucket(String)
+     */
+    public String sourceBucket() {
+        return sourceBucket;
+    }
+
+    /**
+     * The name of the bucket to copy objects to
+     *
+     * @return destination bucket name
+     * @see Builder#destinationBucket(String)
+     */
+    public String destinationBucket() {
+        return destinationBucket;
+    }
+
+    /**
+     * @return the optional prefix that replaces the source prefix in the keys of the copied objects
+     * @see Builder#destinationPrefix(String)
+     */
+    public Optional<String> destinationPrefix() {
+        return Optional.ofNullable(destinationPrefix);
+    }
+
+    /**
+     * @return the optional filter, or {@link DownloadFilter#allObjects()} if no filter was provided
+     * @see Builder#filter(DownloadFilter)
+     */
+    public DownloadFilter filter() {
+        return filter == null ? DownloadFilter.allObjects() : filter;
+    }
+
+    /**
+     * @return the {@link ListObjectsV2Request} transformer if not null, otherwise no-op
+     * @see Builder#listObjectsV2RequestTransformer(Consumer)
+     */
+    public Consumer<ListObjectsV2Request.Builder> listObjectsRequestTransformer() {
+        return listObjectsRequestTransformer == null ? ignore -> { } : listObjectsRequestTransformer;
+    }
+
+    /**
+     * @return the copy request transformer if not null, otherwise no-op
+     * @see Builder#copyRequestTransformer(Consumer)
+     */
+    public Consumer<CopyRequest.Builder> copyRequestTransformer() {
+        return copyRequestTransformer == null ? ignore -> { } : copyRequestTransformer;
+    }
+
+    public static Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    public static Class<? extends Builder> serializableBuilderClass() {
+        return DefaultBuilder.class;
+    }
+
+    @Override
+    public Builder toBuilder() {
+        return new DefaultBuilder(this);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        CopyDirectoryRequest that = (CopyDirectoryRequest) o;
+
+        if (!Objects.equals(sourceBucket, that.sourceBucket)) {
+            return false;
+        }
+        if (!Objects.equals(destinationBucket, that.destinationBucket)) {
+            return false;
+        }
+        if (!Objects.equals(destinationPrefix, that.destinationPrefix)) {
+            return false;
+        }
+        if (!Objects.equals(copyRequestTransformer, that.copyRequestTransformer)) {
+            return false;
+        }
+        if (!Objects.equals(listObjectsRequestTransformer, that.listObjectsRequestTransformer)) {
+            return false;
+        }
+        return Objects.equals(filter, that.filter);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = sourceBucket != null ? sourceBucket.hashCode() : 0;
+        result = 31 * result + (destinationBucket != null ? destinationBucket.hashCode() : 0);
+        result = 31 * result + (destinationPrefix != null ? destinationPrefix.hashCode() : 0);
+        result = 31 * result + (filter != null ? filter.hashCode() : 0);
+        result = 31 * result + (copyRequestTransformer != null ? copyRequestTransformer.hashCode() : 0);
+        result = 31 * result + (listObjectsRequestTransformer != null ? listObjectsRequestTransformer.hashCode() : 0);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("CopyDirectoryRequest")
+                       .add("sourceBucket", sourceBucket)
+                       .add("destinationBucket", destinationBucket)
+                       .add("destinationPrefix", destinationPrefix)
+                       .add("filter", filter)
+                       .add("copyRequestTransformer", copyRequestTransformer)
+                       .add("listObjectsRequestTransformer", listObjectsRequestTransformer)
+                       .build();
+    }
+
+    public interface Builder extends CopyableBuilder<Builder, CopyDirectoryRequest> {
+        /**
+         * The name of the bucket to copy objects from.
+         *
+         * @param sourceBucket the source bucket name
+         * @return This builder for method chaining.
+         */
+        Builder sourceBucket(String sourceBucket);
+
+        /**
+         * The name of the bucket to copy objects to. It can be the same as the source bucket if a different
+         * {@link #destinationPrefix(String)} is provided.
+         *
+         * @param destinationBucket the destination bucket name
+         * @return This builder for method chaining.
+         */
+        Builder destinationBucket(String destinationBucket);
+
+        /**
+         * Specifies the prefix of the copied objects in the destination bucket. When provided, the prefix of the
+         * {@link ListObjectsV2Request} used to list the source objects is replaced with this prefix. When not provided,
+         * objects are copied to the same keys in the destination bucket.
+         * <p>
+         * For example, given a source prefix of "photos/2022/" and a destination prefix of "archive/photos-2022/", the
+         * object "photos/2022/January/sample.jpg" is copied to "archive/photos-2022/January/sample.jpg".
+         *
+         * @param destinationPrefix the destination prefix
+         * @return This builder for method chaining.
+         */
+        Builder destinationPrefix(String destinationPrefix);
+
+        /**
+         * Specifies a filter that will be used to evaluate which objects should be copied from the source bucket.
+         * <p>
+         * By default, if no filter is specified, all objects will be copied.
+         *
+         * @param filter the filter
+         * @return This builder for method chaining.
+         * @see DownloadFilter
+         */
+        Builder filter(DownloadFilter filter);
+
+        /**
+         * Specifies a function used to transform the {@link CopyRequest}s generated by this {@link CopyDirectoryRequest}. The
+         * provided function is called once for each object that is copied, allowing you to modify the created
+         * {@link CopyObjectRequest} before it is passed to S3, or add {@link CopyRequest.Builder#addTransferListener
+         * transfer listeners}.
+         *
+         * @param copyRequestTransformer A transformer to use for modifying the object-level copy requests before execution
+         * @return This builder for method chaining
+         */
+        Builder copyRequestTransformer(Consumer<CopyRequest.Builder> copyRequestTransformer);
+
+        /**
+         * Specifies a function used to transform the {@link ListObjectsV2Request}s generated by this
+         * {@link CopyDirectoryRequest}. The provided function is called once, allowing you to modify
+         * {@link ListObjectsV2Request} before it is passed to S3, for example to set the prefix of the objects to copy.
+         *
+         * @param listObjectsV2RequestTransformer A transformer to use for modifying ListObjectsV2Request before execution
+         * @return This builder for method chaining
+         * @see DownloadDirectoryRequest.Builder#listObjectsV2RequestTransformer(Consumer)
+         */
+        Builder listObjectsV2RequestTransformer(Consumer<ListObjectsV2Request.Builder> listObjectsV2RequestTransformer);
+    }
+
+    private static final class DefaultBuilder implements Builder {
+
+        private String sourceBucket;
+        private String destinationBucket;
+        private String destinationPrefix;
+        private DownloadFilter filter;
+        private Consumer<CopyRequest.Builder> copyRequestTransformer;
+        private Consumer<ListObjectsV2Request.Builder> listObjectsRequestTransformer;
+
+        private DefaultBuilder() {
+        }
+
+        private DefaultBuilder(CopyDirectoryRequest request) {
+            this.sourceBucket = request.sourceBucket;
+            this.destinationBucket = request.destinationBucket;
+            this.destinationPrefix = request.destinationPrefix;
+            this.filter = request.filter;
+            this.copyRequestTransformer = request.copyRequestTransformer;
+            this.listObjectsRequestTransformer = request.listObjectsRequestTransformer;
+        }
+
+        @Override
+        public Builder sourceBucket(String sourceBucket) {
+            this.sourceBucket = sourceBucket;
+            return this;
+        }
+
+        public void setSourceBucket(String sourceBucket) {
+            sourceBucket(sourceBucket);
+        }
+
+        public String getSourceBucket() {
+            return sourceBucket;
+        }
+
+        @Override
+        public Builder destinationBucket(String destinationBucket) {
+            this.destinationBucket = destinationBucket;
+            return this;
+        }
+
+        public void setDestinationBucket(String destinationBucket) {
+            destinationBucket(destinationBucket);
+        }
+
+        public String getDestinationBucket() {
+            return destinationBucket;
+        }
+
+        @Override
+        public Builder destinationPrefix(String destinationPrefix) {
+            this.destinationPrefix = destinationPrefix;
+            return this;
+        }
+
+        public void setDestinationPrefix(String destinationPrefix) {
+            destinationPrefix(destinationPrefix);
+        }
+
+        public String getDestinationPrefix() {
+            return destinationPrefix;
+        }
+
+        @Override
+        public Builder filter(DownloadFilter filter) {
+            this.filter = filter;
+            return this;
+        }
+
+        public void setFilter(DownloadFilter filter) {
+            filter(filter);
+        }
+
+        public DownloadFilter getFilter() {
+            return filter;
+        }
+
+        @Override
+        public Builder copyRequestTransformer(Consumer<CopyRequest.Builder> copyRequestTransformer) {
+            this.copyRequestTransformer = copyRequestTransformer;
+            return this;
+        }
+
+        @Override
+        public Builder listObjectsV2RequestTransformer(Consumer<ListObjectsV2Request.Builder> listObjectsRequestTransformer) {
+            this.listObjectsRequestTransformer = listObjectsRequestTransformer;
+            return this;
+        }
+
+        @Override
+        public CopyDirectoryRequest build() {
+            return new CopyDirectoryRequest(this);
+        }
+    }
+}
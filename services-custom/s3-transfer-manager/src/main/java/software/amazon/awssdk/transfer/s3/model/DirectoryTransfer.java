@@ -24,4 +24,21 @@ import software.amazon.awssdk.annotations.SdkPublicApi;
  */
 @SdkPublicApi
 public interface DirectoryTransfer extends Transfer {
+
+    /**
+     * Pauses the current directory transfer. No new file transfers are started, and the state of the file transfers that
+     * are in progress is recorded in the checkpoint file configured on the request, e.g.
+     * {@link UploadDirectoryRequest.Builder#checkpointFile(java.nio.file.Path)}. The {@link #completionFuture()} is
+     * cancelled once all in-progress file transfers have been paused.
+     * <p>
+     * To resume the transfer, submit a request with the same checkpoint file to the {@code S3TransferManager}. Files
+     * that were already transferred are skipped and paused file transfers are resumed where they left off, if the
+     * underlying S3 client supports it.
+     *
+     * @throws UnsupportedOperationException if the request was not configured with a checkpoint file
+     */
+    default void pause() {
+        throw new UnsupportedOperationException("Pausing a directory transfer requires a checkpoint file to be configured "
+                                                + "on the request");
+    }
 }
@@ -18,6 +18,7 @@ package software.amazon.awssdk.transfer.s3.model;
 
 import java.nio.file.Path;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
@@ -44,6 +45,7 @@ public final class DownloadDirectoryRequest
     private final DownloadFilter filter;
     private final Consumer<DownloadFileRequest.Builder> downloadFileRequestTransformer;
     private final Consumer<ListObjectsV2Request.Builder> listObjectsRequestTransformer;
+    private final Path checkpointFile;
 
     public DownloadDirectoryRequest(DefaultBuilder builder) {
         this.destination = Validate.paramNotNull(builder.destination, "destination");
@@ -51,6 +53,7 @@ public final class DownloadDirectoryRequest
         this.filter = builder.filter;
         this.downloadFileRequestTransformer = builder.downloadFileRequestTransformer;
         this.listObjectsRequestTransformer = builder.listObjectsRequestTransformer;
+        this.checkpointFile = builder.checkpointFile;
     }
 
     /**
@@ -97,6 +100,14 @@ public final class DownloadDirectoryRequest
         return downloadFileRequestTransformer == null ? ignore -> { } : downloadFileRequestTransformer;
     }
 
+    /**
+     * @return the optional checkpoint file used to pause and resume this transfer
+     * @see Builder#checkpointFile(Path)
+     */
+    public Optional<Path> checkpointFile() {
+        return Optional.ofNullable(checkpointFile);
+    }
+
     public static Builder builder() {
         return new DefaultBuilder();
     }
@@ -133,6 +144,9 @@ public final class DownloadDirectoryRequest
         if (!Objects.equals(listObjectsRequestTransformer, that.listObjectsRequestTransformer)) {
             return false;
         }
+        if (!Objects.equals(checkpointFile, that.checkpointFile)) {
+            return false;
+        }
         return Objects.equals(filter, that.filter);
     }
 
@@ -143,6 +157,7 @@ public final class DownloadDirectoryRequest
         result = 31 * result + (filter != null ? filter.hashCode() : 0);
         result = 31 * result + (downloadFileRequestTransformer != null ? downloadFileRequestTransformer.hashCode() : 0);
         result = 31 * result + (listObjectsRequestTransformer != null ? listObjectsRequestTransformer.hashCode() : 0);
+        result = 31 * result + (checkpointFile != null ? checkpointFile.hashCode() : 0);
         return result;
     }
 
@@ -154,6 +169,7 @@ public final class DownloadDirectoryRequest
                        .add("filter", filter)
                        .add("downloadFileRequestTransformer", downloadFileRequestTransformer)
                        .add("listObjectsRequestTransformer", listObjectsRequestTransformer)
+                       .add("checkpointFile", checkpointFile)
                        .build();
     }
 
@@ -328,6 +344,26 @@ public final class DownloadDirectoryRequest
          */
         Builder listObjectsV2RequestTransformer(Consumer<ListObjectsV2Request.Builder> listObjectsV2RequestTransformer);
 
+        /**
+         * Specifies a local file used to checkpoint the progress of this directory download so that it can be paused and
+         * resumed, or recovered after the process is terminated mid-flight.
+         *
+         * <p>
+         * The checkpoint file is an append-only journal. The key of every object that is downloaded successfully is recorded
+         * as soon as its download completes, and the state of in-progress downloads is recorded when the transfer is paused
+         * via {@link DirectoryDownload#pause()}. When a request with the same checkpoint file is submitted again, objects
+         * that were already downloaded are skipped and paused downloads are resumed via
+         * {@link S3TransferManager#resumeDownloadFile(ResumableFileDownload)}. Downloads that were in progress when the
+         * process was terminated without pausing are restarted from the beginning.
+         *
+         * <p>
+         * The checkpoint file is created if it does not exist and is retained after the transfer completes. It must not be
+         * shared by concurrent transfers.
+         *
+         * @param checkpointFile the checkpoint file
+         * @return This builder for method chaining.
+         */
+        Builder checkpointFile(Path checkpointFile);
     }
 
     private static final class DefaultBuilder implements Builder {
@@ -337,6 +373,7 @@ public final class DownloadDirectoryRequest
         private DownloadFilter filter;
         private Consumer<DownloadFileRequest.Builder> downloadFileRequestTransformer;
         private Consumer<ListObjectsV2Request.Builder> listObjectsRequestTransformer;
+        private Path checkpointFile;
 
         private DefaultBuilder() {
         }
@@ -347,6 +384,7 @@ public final class DownloadDirectoryRequest
             this.filter = request.filter;
             this.downloadFileRequestTransformer = request.downloadFileRequestTransformer;
             this.listObjectsRequestTransformer = request.listObjectsRequestTransformer;
+            this.checkpointFile = request.checkpointFile;
         }
 
         @Override
@@ -403,6 +441,20 @@ public final class DownloadDirectoryRequest
             return filter;
         }
 
+        @Override
+        public Builder checkpointFile(Path checkpointFile) {
+            this.checkpointFile = checkpointFile;
+            return this;
+        }
+
+        public void setCheckpointFile(Path checkpointFile) {
+            checkpointFile(checkpointFile);
+        }
+
+        public Path getCheckpointFile() {
+            return checkpointFile;
+        }
+
         @Override
         public DownloadDirectoryRequest build() {
             return new DownloadDirectoryRequest(this);
@@ -46,6 +46,7 @@ public final class UploadDirectoryRequest
     private final Boolean followSymbolicLinks;
     private final Integer maxDepth;
     private final Consumer<UploadFileRequest.Builder> uploadFileRequestTransformer;
+    private final Path checkpointFile;
 
 
     public UploadDirectoryRequest(DefaultBuilder builder) {
@@ -56,6 +57,7 @@ public final class UploadDirectoryRequest
         this.followSymbolicLinks = builder.followSymbolicLinks;
         this.maxDepth = builder.maxDepth;
         this.uploadFileRequestTransformer = builder.uploadFileRequestTransformer;
+        this.checkpointFile = builder.checkpointFile;
     }
 
     /**
@@ -119,6 +121,14 @@ public final class UploadDirectoryRequest
         return uploadFileRequestTransformer == null ? ignore -> { } : uploadFileRequestTransformer;
     }
 
+    /**
+     * @return the optional checkpoint file used to pause and resume this transfer
+     * @see Builder#checkpointFile(Path)
+     */
+    public Optional<Path> checkpointFile() {
+        return Optional.ofNullable(checkpointFile);
+    }
+
 
     public static Builder builder() {
         return new DefaultBuilder();
@@ -162,6 +172,9 @@ public final class UploadDirectoryRequest
         if (!Objects.equals(uploadFileRequestTransformer, that.uploadFileRequestTransformer)) {
             return false;
         }
+        if (!Objects.equals(checkpointFile, that.checkpointFile)) {
+            return false;
+        }
         return Objects.equals(s3Delimiter, that.s3Delimiter);
     }
 
@@ -174,6 +187,7 @@ public final class UploadDirectoryRequest
         result = 31 * result + (followSymbolicLinks != null ? followSymbolicLinks.hashCode() : 0);
         result = 31 * result + (maxDepth != null ? maxDepth.hashCode() : 0);
         result = 31 * result + (uploadFileRequestTransformer != null ? uploadFileRequestTransformer.hashCode() : 0);
+        result = 31 * result + (checkpointFile != null ? checkpointFile.hashCode() : 0);
         return result;
     }
 
@@ -187,6 +201,7 @@ public final class UploadDirectoryRequest
                        .add("followSymbolicLinks", followSymbolicLinks)
                        .add("maxDepth", maxDepth)
                        .add("uploadFileRequestTransformer", uploadFileRequestTransformer)
+                       .add("checkpointFile", checkpointFile)
                        .build();
     }
 
@@ -331,7 +346,26 @@ public final class UploadDirectoryRequest
          */
         Builder uploadFileRequestTransformer(Consumer<UploadFileRequest.Builder> uploadFileRequestTransformer);
 
-
+        /**
+         * Specifies a local file used to checkpoint the progress of this directory upload so that it can be paused and
+         * resumed, or recovered after the process is terminated mid-flight.
+         *
+         * <p>
+         * The checkpoint file is an append-only journal. The key of every object that is uploaded successfully is recorded
+         * as soon as its upload completes, and the multipart state of in-progress uploads is recorded when the transfer is
+         * paused via {@link DirectoryUpload#pause()}. When a request with the same checkpoint file is submitted again, files
+         * that were already uploaded are skipped and paused uploads are resumed via
+         * {@link S3TransferManager#resumeUploadFile(ResumableFileUpload)}. Uploads that were in progress when the process
+         * was terminated without pausing are restarted from the beginning.
+         *
+         * <p>
+         * The checkpoint file is created if it does not exist and is retained after the transfer completes. It must not be
+         * shared by concurrent transfers.
+         *
+         * @param checkpointFile the checkpoint file
+         * @return This builder for method chaining.
+         */
+        Builder checkpointFile(Path checkpointFile);
 
         @Override
         UploadDirectoryRequest build();
@@ -347,6 +381,7 @@ public final class UploadDirectoryRequest
         private Boolean followSymbolicLinks;
         private Integer maxDepth;
         private Consumer<UploadFileRequest.Builder> uploadFileRequestTransformer;
+        private Path checkpointFile;
 
         private DefaultBuilder() {
         }
@@ -359,6 +394,7 @@ public final class UploadDirectoryRequest
             this.followSymbolicLinks = request.followSymbolicLinks;
             this.maxDepth = request.maxDepth;
             this.uploadFileRequestTransformer = request.uploadFileRequestTransformer;
+            this.checkpointFile = request.checkpointFile;
         }
 
         @Override
@@ -459,6 +495,20 @@ public final class UploadDirectoryRequest
             this.uploadFileRequestTransformer = uploadFileRequestTransformer;
         }
 
+        @Override
+        public Builder checkpointFile(Path checkpointFile) {
+            this.checkpointFile = checkpointFile;
+            return this;
+        }
+
+        public void setCheckpointFile(Path checkpointFile) {
+            checkpointFile(checkpointFile);
+        }
+
+        public Path getCheckpointFile() {
+            return checkpointFile;
+        }
+
         @Override
         public UploadDirectoryRequest build() {
             return new UploadDirectoryRequest(this);
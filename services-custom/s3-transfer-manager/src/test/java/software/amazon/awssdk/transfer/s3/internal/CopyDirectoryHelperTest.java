@@ -0,0 +1,202 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static software.amazon.awssdk.transfer.s3.util.S3ApiCallMockUtils.stubSuccessfulListObjects;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.s3.model.CopyObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.transfer.s3.internal.model.DefaultCopy;
+import software.amazon.awssdk.transfer.s3.internal.progress.DefaultTransferProgress;
+import software.amazon.awssdk.transfer.s3.internal.progress.DefaultTransferProgressSnapshot;
+import software.amazon.awssdk.transfer.s3.model.CompletedCopy;
+import software.amazon.awssdk.transfer.s3.model.CompletedDirectoryCopy;
+import software.amazon.awssdk.transfer.s3.model.Copy;
+import software.amazon.awssdk.transfer.s3.model.CopyDirectoryRequest;
+import software.amazon.awssdk.transfer.s3.model.CopyRequest;
+import software.amazon.awssdk.transfer.s3.model.DirectoryCopy;
+import software.amazon.awssdk.transfer.s3.progress.LoggingTransferListener;
+
+class CopyDirectoryHelperTest {
+    private Function<CopyRequest, Copy> singleCopyFunction;
+    private CopyDirectoryHelper copyDirectoryHelper;
+    private ListObjectsHelper listObjectsHelper;
+
+    @BeforeEach
+    void methodSetup() {
+        listObjectsHelper = mock(ListObjectsHelper.class);
+        singleCopyFunction = mock(Function.class);
+        copyDirectoryHelper = new CopyDirectoryHelper(TransferManagerConfiguration.builder().build(),
+                                                      listObjectsHelper,
+                                                      singleCopyFunction);
+    }
+
+    @Test
+    void copyDirectory_allCopiesSucceed_failedCopiesShouldBeEmpty() throws Exception {
+        stubSuccessfulListObjects(listObjectsHelper, "key1", "key2");
+
+        when(singleCopyFunction.apply(any(CopyRequest.class))).thenReturn(newSuccessfulCopy(), newSuccessfulCopy());
+
+        DirectoryCopy directoryCopy =
+            copyDirectoryHelper.copyDirectory(CopyDirectoryRequest.builder()
+                                                                  .sourceBucket("source")
+                                                                  .destinationBucket("destination")
+                                                                  .build());
+
+        CompletedDirectoryCopy completedDirectoryCopy = directoryCopy.completionFuture().get(5, TimeUnit.SECONDS);
+
+        ArgumentCaptor<CopyRequest> argumentCaptor = ArgumentCaptor.forClass(CopyRequest.class);
+        verify(singleCopyFunction, times(2)).apply(argumentCaptor.capture());
+
+        assertThat(completedDirectoryCopy.failedTransfers()).isEmpty();
+        assertThat(argumentCaptor.getAllValues()).extracting(CopyRequest::copyObjectRequest).allSatisfy(r -> {
+            assertThat(r.sourceBucket()).isEqualTo("source");
+            assertThat(r.destinationBucket()).isEqualTo("destination");
+            assertThat(r.destinationKey()).isEqualTo(r.sourceKey());
+        });
+        assertThat(argumentCaptor.getAllValues()).extracting(r -> r.copyObjectRequest().sourceKey())
+                                                 .containsExactly("key1", "key2");
+    }
+
+    @Test
+    void copyDirectory_withDestinationPrefix_shouldReplaceSourcePrefix() throws Exception {
+        stubSuccessfulListObjects(listObjectsHelper, "photos/2022/sample.jpg", "photos/2022/January/sample.jpg");
+
+        when(singleCopyFunction.apply(any(CopyRequest.class))).thenReturn(newSuccessfulCopy(), newSuccessfulCopy());
+
+        DirectoryCopy directoryCopy =
+            copyDirectoryHelper.copyDirectory(CopyDirectoryRequest.builder()
+                                                                  .sourceBucket("bucket")
+                                                                  .destinationBucket("bucket")
+                                                                  .listObjectsV2RequestTransformer(l -> l.prefix("photos/2022/"))
+                                                                  .destinationPrefix("archive/")
+                                                                  .build());
+
+        directoryCopy.completionFuture().get(5, TimeUnit.SECONDS);
+
+        ArgumentCaptor<CopyRequest> argumentCaptor = ArgumentCaptor.forClass(CopyRequest.class);
+        verify(singleCopyFunction, times(2)).apply(argumentCaptor.capture());
+        ArgumentCaptor<ListObjectsV2Request> listCaptor = ArgumentCaptor.forClass(ListObjectsV2Request.class);
+        verify(listObjectsHelper).listS3ObjectsRecursively(listCaptor.capture());
+
+        assertThat(listCaptor.getValue().prefix()).isEqualTo("photos/2022/");
+        assertThat(argumentCaptor.getAllValues()).extracting(r -> r.copyObjectRequest().destinationKey())
+                                                 .containsExactly("archive/sample.jpg", "archive/January/sample.jpg");
+    }
+
+    @Test
+    void copyDirectory_withFilterAndTransformer_shouldApplyBoth() throws Exception {
+        stubSuccessfulListObjects(listObjectsHelper, "key1", "key2");
+
+        when(singleCopyFunction.apply(any(CopyRequest.class))).thenReturn(newSuccessfulCopy());
+
+        DirectoryCopy directoryCopy =
+            copyDirectoryHelper.copyDirectory(CopyDirectoryRequest.builder()
+                                                                  .sourceBucket("source")
+                                                                  .destinationBucket("destination")
+                                                                  .filter(o -> o.key().equals("key2"))
+                                                                  .copyRequestTransformer(r -> r.addTransferListener(
+                                                                      LoggingTransferListener.create()))
+                                                                  .build());
+
+        directoryCopy.completionFuture().get(5, TimeUnit.SECONDS);
+
+        ArgumentCaptor<CopyRequest> argumentCaptor = ArgumentCaptor.forClass(CopyRequest.class);
+        verify(singleCopyFunction).apply(argumentCaptor.capture());
+
+        assertThat(argumentCaptor.getValue().copyObjectRequest().sourceKey()).isEqualTo("key2");
+        assertThat(argumentCaptor.getValue().transferListeners()).hasSize(1);
+    }
+
+    @Test
+    void copyDirectory_partialSuccess_shouldProvideFailedCopy() throws Exception {
+        stubSuccessfulListObjects(listObjectsHelper, "key1", "key2");
+
+        SdkClientException exception = SdkClientException.create("failed");
+        CompletableFuture<CompletedCopy> failedFuture = new CompletableFuture<>();
+        failedFuture.completeExceptionally(exception);
+
+        when(singleCopyFunction.apply(any(CopyRequest.class))).thenReturn(newSuccessfulCopy(), newCopy(failedFuture));
+
+        DirectoryCopy directoryCopy =
+            copyDirectoryHelper.copyDirectory(CopyDirectoryRequest.builder()
+                                                                  .sourceBucket("source")
+                                                                  .destinationBucket("destination")
+                                                                  .build());
+
+        CompletedDirectoryCopy completedDirectoryCopy = directoryCopy.completionFuture().get(5, TimeUnit.SECONDS);
+
+        assertThat(completedDirectoryCopy.failedTransfers()).hasSize(1)
+                                                            .element(0).satisfies(failedCopy -> {
+                                                                assertThat(failedCopy.exception()).isEqualTo(exception);
+                                                                assertThat(failedCopy.request().copyObjectRequest().sourceKey())
+                                                                    .isEqualTo("key2");
+                                                            });
+    }
+
+    @Test
+    void copyDirectory_cancel_shouldCancelAllFutures() throws Exception {
+        stubSuccessfulListObjects(listObjectsHelper, "key1", "key2");
+
+        CompletableFuture<CompletedCopy> future = new CompletableFuture<>();
+        CompletableFuture<CompletedCopy> future2 = new CompletableFuture<>();
+
+        when(singleCopyFunction.apply(any(CopyRequest.class))).thenReturn(newCopy(future), newCopy(future2));
+
+        DirectoryCopy directoryCopy =
+            copyDirectoryHelper.copyDirectory(CopyDirectoryRequest.builder()
+                                                                  .sourceBucket("source")
+                                                                  .destinationBucket("destination")
+                                                                  .build());
+        verify(singleCopyFunction, timeout(1000).times(2)).apply(any(CopyRequest.class));
+        directoryCopy.completionFuture().cancel(true);
+
+        assertThatThrownBy(() -> future.get(1, TimeUnit.SECONDS))
+            .isInstanceOf(CancellationException.class);
+
+        assertThatThrownBy(() -> future2.get(1, TimeUnit.SECONDS))
+            .isInstanceOf(CancellationException.class);
+    }
+
+    private static Copy newSuccessfulCopy() {
+        return newCopy(CompletableFuture.completedFuture(CompletedCopy.builder()
+                                                                      .response(CopyObjectResponse.builder().build())
+                                                                      .build()));
+    }
+
+    private static Copy newCopy(CompletableFuture<CompletedCopy> future) {
+        return new DefaultCopy(future,
+                               new DefaultTransferProgress(DefaultTransferProgressSnapshot.builder()
+                                                                                          .transferredBytes(0L)
+                                                                                          .build()));
+    }
+}
@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.transfer.s3.internal;
 
+import java.nio.file.Paths;
 import nl.jqno.equalsverifier.EqualsVerifier;
 import org.junit.jupiter.api.Test;
 import software.amazon.awssdk.transfer.s3.internal.model.DefaultDirectoryDownload;
@@ -25,6 +26,9 @@ class DefaultDirectoryDownloadTest {
     void equals_hashcode() {
         EqualsVerifier.forClass(DefaultDirectoryDownload.class)
                       .withNonnullFields("completionFuture")
+                      .withPrefabValues(DirectoryTransferCheckpoint.class,
+                                        new DirectoryTransferCheckpoint(Paths.get("checkpoint1")),
+                                        new DirectoryTransferCheckpoint(Paths.get("checkpoint2")))
                       .verify();
     }
 
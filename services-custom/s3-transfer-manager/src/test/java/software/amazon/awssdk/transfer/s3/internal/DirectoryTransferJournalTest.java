@@ -0,0 +1,143 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.common.jimfs.Jimfs;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystem;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.exception.SdkClientException;
+
+class DirectoryTransferJournalTest {
+    private FileSystem jimfs;
+    private Path journalFile;
+
+    @BeforeEach
+    void setUp() {
+        jimfs = Jimfs.newFileSystem();
+        journalFile = jimfs.getPath("journal");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        jimfs.close();
+    }
+
+    @Test
+    void open_newFile_shouldBeEmpty() {
+        try (DirectoryTransferJournal journal = DirectoryTransferJournal.open(journalFile)) {
+            assertThat(journal.completedCount()).isZero();
+            assertThat(journal.isCompleted("key")).isFalse();
+            assertThat(journal.inProgressState("key")).isEmpty();
+        }
+        assertThat(Files.exists(journalFile)).isTrue();
+    }
+
+    @Test
+    void reopen_shouldLoadRecords() {
+        try (DirectoryTransferJournal journal = DirectoryTransferJournal.open(journalFile)) {
+            journal.recordCompleted("completed");
+            journal.recordInProgress("paused", bytes("state1"));
+            journal.recordInProgress("paused", bytes("state2"));
+            journal.recordInProgress("pausedThenCompleted", bytes("state"));
+            journal.recordCompleted("pausedThenCompleted");
+        }
+
+        try (DirectoryTransferJournal journal = DirectoryTransferJournal.open(journalFile)) {
+            assertThat(journal.completedCount()).isEqualTo(2);
+            assertThat(journal.isCompleted("completed")).isTrue();
+            assertThat(journal.isCompleted("pausedThenCompleted")).isTrue();
+            assertThat(journal.inProgressState("pausedThenCompleted")).isEmpty();
+            assertThat(journal.isCompleted("paused")).isFalse();
+            assertThat(journal.inProgressState("paused")).hasValueSatisfying(s -> assertThat(s).isEqualTo(bytes("state2")));
+        }
+    }
+
+    @Test
+    void recordInProgress_afterCompleted_shouldBeIgnored() {
+        try (DirectoryTransferJournal journal = DirectoryTransferJournal.open(journalFile)) {
+            journal.recordCompleted("key");
+            journal.recordInProgress("key", bytes("state"));
+        }
+
+        try (DirectoryTransferJournal journal = DirectoryTransferJournal.open(journalFile)) {
+            assertThat(journal.isCompleted("key")).isTrue();
+            assertThat(journal.inProgressState("key")).isEmpty();
+        }
+    }
+
+    @Test
+    void reopen_partiallyWrittenRecord_shouldTruncateAndAppendAfterLastValidRecord() throws IOException {
+        try (DirectoryTransferJournal journal = DirectoryTransferJournal.open(journalFile)) {
+            journal.recordCompleted("key1");
+        }
+        long validLength = Files.size(journalFile);
+
+        // Simulate the process being terminated in the middle of appending a record
+        Files.write(journalFile, new byte[] {DirectoryTransferJournal.COMPLETED, 0, 0, 0, 4, 'k', 'e'},
+                    StandardOpenOption.APPEND);
+
+        try (DirectoryTransferJournal journal = DirectoryTransferJournal.open(journalFile)) {
+            assertThat(Files.size(journalFile)).isEqualTo(validLength);
+            assertThat(journal.completedCount()).isEqualTo(1);
+            journal.recordCompleted("key2");
+        }
+
+        try (DirectoryTransferJournal journal = DirectoryTransferJournal.open(journalFile)) {
+            assertThat(journal.isCompleted("key1")).isTrue();
+            assertThat(journal.isCompleted("key2")).isTrue();
+        }
+    }
+
+    @Test
+    void reopen_corruptedRecord_shouldIgnoreRecord() throws IOException {
+        try (DirectoryTransferJournal journal = DirectoryTransferJournal.open(journalFile)) {
+            journal.recordCompleted("key1");
+            journal.recordCompleted("key2");
+        }
+
+        byte[] contents = Files.readAllBytes(journalFile);
+        contents[contents.length - 10] = (byte) 'x';
+        Files.write(journalFile, contents);
+
+        try (DirectoryTransferJournal journal = DirectoryTransferJournal.open(journalFile)) {
+            assertThat(journal.isCompleted("key1")).isTrue();
+            assertThat(journal.isCompleted("key2")).isFalse();
+        }
+    }
+
+    @Test
+    void open_notAJournal_shouldThrowException() throws IOException {
+        Files.write(journalFile, bytes("{\"not\": \"a journal\"}"));
+
+        assertThatThrownBy(() -> DirectoryTransferJournal.open(journalFile))
+            .isInstanceOf(SdkClientException.class)
+            .hasMessageContaining("not a valid checkpoint file");
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
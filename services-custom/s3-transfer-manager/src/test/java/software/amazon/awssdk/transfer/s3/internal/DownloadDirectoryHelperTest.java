@@ -19,6 +19,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -32,6 +33,7 @@ import java.nio.file.FileSystem;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
@@ -63,6 +65,7 @@ import software.amazon.awssdk.transfer.s3.model.DirectoryDownload;
 import software.amazon.awssdk.transfer.s3.model.DownloadDirectoryRequest;
 import software.amazon.awssdk.transfer.s3.model.DownloadFileRequest;
 import software.amazon.awssdk.transfer.s3.model.FileDownload;
+import software.amazon.awssdk.transfer.s3.model.ResumableFileDownload;
 import software.amazon.awssdk.transfer.s3.progress.LoggingTransferListener;
 import software.amazon.awssdk.transfer.s3.progress.TransferListener;
 
@@ -439,6 +442,54 @@ public class DownloadDirectoryHelperTest {
             .hasMessageContaining("is not a directory").hasCauseInstanceOf(IllegalArgumentException.class);
     }
 
+    @Test
+    void downloadDirectory_withCheckpoint_pauseAndResume_shouldSkipCompletedAndResumeInProgressDownloads() throws Exception {
+        stubSuccessfulListObjects(listObjectsHelper, "key1", "key2");
+        TransferManagerConfiguration configuration = TransferManagerConfiguration.builder().executor(Runnable::run).build();
+        DownloadDirectoryRequest request = DownloadDirectoryRequest.builder()
+                                                                   .destination(directory)
+                                                                   .bucket("bucket")
+                                                                   .checkpointFile(fs.getPath("checkpoint"))
+                                                                   .build();
+
+        FileDownload inFlightDownload = mock(FileDownload.class);
+        when(inFlightDownload.completionFuture()).thenReturn(new CompletableFuture<>());
+        when(inFlightDownload.pause()).thenReturn(ResumableFileDownload.builder()
+                                                                       .downloadFileRequest(b -> b.destination(Paths.get("key2"))
+                                                                                                  .getObjectRequest(g -> g.bucket(
+                                                                                                      "bucket").key("key2")))
+                                                                       .bytesTransferred(5L)
+                                                                       .fileLastModified(Instant.EPOCH)
+                                                                       .build());
+        when(singleDownloadFunction.apply(any(DownloadFileRequest.class))).thenAnswer(i -> {
+            DownloadFileRequest downloadFileRequest = i.getArgument(0);
+            return "key1".equals(downloadFileRequest.getObjectRequest().key()) ? newSuccessfulDownload() : inFlightDownload;
+        });
+
+        DirectoryDownload directoryDownload =
+            new DownloadDirectoryHelper(configuration, listObjectsHelper, singleDownloadFunction).downloadDirectory(request);
+        directoryDownload.pause();
+
+        assertThatThrownBy(() -> directoryDownload.completionFuture().get(1, TimeUnit.SECONDS))
+            .isInstanceOf(CancellationException.class);
+
+        Function<DownloadFileRequest, FileDownload> resumedDownloadFunction = mock(Function.class);
+        Function<ResumableFileDownload, FileDownload> resumeFunction = mock(Function.class);
+        when(resumeFunction.apply(any(ResumableFileDownload.class))).thenReturn(newSuccessfulDownload());
+        DirectoryDownload resumedDownload =
+            new DownloadDirectoryHelper(configuration, listObjectsHelper, resumedDownloadFunction, resumeFunction)
+                .downloadDirectory(request);
+
+        assertThat(resumedDownload.completionFuture().get(5, TimeUnit.SECONDS).failedTransfers()).isEmpty();
+        verify(resumedDownloadFunction, never()).apply(any(DownloadFileRequest.class));
+
+        ArgumentCaptor<ResumableFileDownload> argumentCaptor = ArgumentCaptor.forClass(ResumableFileDownload.class);
+        verify(resumeFunction, times(1)).apply(argumentCaptor.capture());
+        ResumableFileDownload resumableFileDownload = argumentCaptor.getValue();
+        assertThat(resumableFileDownload.bytesTransferred()).isEqualTo(5L);
+        assertThat(resumableFileDownload.downloadFileRequest().destination()).isEqualTo(directory.resolve("key2"));
+    }
+
     private static DefaultFileDownload completedDownload() {
         return new DefaultFileDownload(CompletableFuture.completedFuture(CompletedFileDownload.builder()
                                                                                               .response(GetObjectResponse.builder().build())
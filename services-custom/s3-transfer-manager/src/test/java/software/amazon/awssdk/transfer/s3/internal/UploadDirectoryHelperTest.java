@@ -19,17 +19,23 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.common.jimfs.Configuration;
 import com.google.common.jimfs.Jimfs;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.FileSystem;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
@@ -60,6 +66,7 @@ import software.amazon.awssdk.transfer.s3.model.CompletedDirectoryUpload;
 import software.amazon.awssdk.transfer.s3.model.CompletedFileUpload;
 import software.amazon.awssdk.transfer.s3.model.DirectoryUpload;
 import software.amazon.awssdk.transfer.s3.model.FileUpload;
+import software.amazon.awssdk.transfer.s3.model.ResumableFileUpload;
 import software.amazon.awssdk.transfer.s3.model.UploadDirectoryRequest;
 import software.amazon.awssdk.transfer.s3.model.UploadFileRequest;
 import software.amazon.awssdk.transfer.s3.progress.LoggingTransferListener;
@@ -436,6 +443,106 @@ public class UploadDirectoryHelperTest {
         assertThat(keys).containsOnly("2.txt");
     }
 
+    @Test
+    void uploadDirectory_withCheckpoint_terminatedMidFlight_shouldOnlyUploadRemainingFilesWhenRestarted() throws Exception {
+        Path checkpointFile = jimfs.getPath("checkpoint");
+        TransferManagerConfiguration configuration = TransferManagerConfiguration.builder().executor(Runnable::run).build();
+        UploadDirectoryRequest request = UploadDirectoryRequest.builder()
+                                                               .source(directory)
+                                                               .bucket("bucket")
+                                                               .checkpointFile(checkpointFile)
+                                                               .build();
+
+        when(singleUploadFunction.apply(any(UploadFileRequest.class))).thenAnswer(i -> {
+            UploadFileRequest uploadFileRequest = i.getArgument(0);
+            return "1".equals(uploadFileRequest.putObjectRequest().key()) ? completedUpload()
+                                                                          : newUpload(new CompletableFuture<>());
+        });
+        new UploadDirectoryHelper(configuration, singleUploadFunction).uploadDirectory(request);
+
+        // Simulate the process being killed while the upload of "2" is in flight and a record is being appended
+        try (OutputStream outputStream = Files.newOutputStream(checkpointFile, StandardOpenOption.APPEND)) {
+            outputStream.write(new byte[] {1, 0, 0});
+        }
+
+        Function<UploadFileRequest, FileUpload> restartedUploadFunction = mock(Function.class);
+        when(restartedUploadFunction.apply(any(UploadFileRequest.class))).thenReturn(completedUpload());
+        DirectoryUpload restartedUpload = new UploadDirectoryHelper(configuration, restartedUploadFunction)
+            .uploadDirectory(request);
+
+        CompletedDirectoryUpload completedDirectoryUpload = restartedUpload.completionFuture().get(5, TimeUnit.SECONDS);
+        assertThat(completedDirectoryUpload.failedTransfers()).isEmpty();
+
+        ArgumentCaptor<UploadFileRequest> argumentCaptor = ArgumentCaptor.forClass(UploadFileRequest.class);
+        verify(restartedUploadFunction, times(1)).apply(argumentCaptor.capture());
+        assertThat(argumentCaptor.getValue().putObjectRequest().key()).isEqualTo("2");
+    }
+
+    @Test
+    void uploadDirectory_withCheckpoint_pauseAndResume_shouldResumeInProgressUploads() throws Exception {
+        Path checkpointFile = jimfs.getPath("checkpoint");
+        TransferManagerConfiguration configuration = TransferManagerConfiguration.builder().executor(Runnable::run).build();
+        UploadDirectoryRequest request = UploadDirectoryRequest.builder()
+                                                               .source(directory)
+                                                               .bucket("bucket")
+                                                               .checkpointFile(checkpointFile)
+                                                               .build();
+
+        FileUpload inFlightUpload = mock(FileUpload.class);
+        when(inFlightUpload.completionFuture()).thenReturn(new CompletableFuture<>());
+        when(inFlightUpload.pause()).thenReturn(ResumableFileUpload.builder()
+                                                                   .uploadFileRequest(b -> b.source(Paths.get("2"))
+                                                                                            .putObjectRequest(p -> p.bucket(
+                                                                                                "bucket").key("2")))
+                                                                   .fileLength(10L)
+                                                                   .fileLastModified(Instant.EPOCH)
+                                                                   .multipartUploadId("uploadId")
+                                                                   .partSizeInBytes(5L)
+                                                                   .totalParts(2L)
+                                                                   .transferredParts(1L)
+                                                                   .build());
+        when(singleUploadFunction.apply(any(UploadFileRequest.class))).thenAnswer(i -> {
+            UploadFileRequest uploadFileRequest = i.getArgument(0);
+            return "1".equals(uploadFileRequest.putObjectRequest().key()) ? completedUpload() : inFlightUpload;
+        });
+
+        DirectoryUpload directoryUpload = new UploadDirectoryHelper(configuration, singleUploadFunction).uploadDirectory(request);
+        directoryUpload.pause();
+
+        assertThatThrownBy(() -> directoryUpload.completionFuture().get(1, TimeUnit.SECONDS))
+            .isInstanceOf(CancellationException.class);
+
+        Function<UploadFileRequest, FileUpload> resumedUploadFunction = mock(Function.class);
+        Function<ResumableFileUpload, FileUpload> resumeFunction = mock(Function.class);
+        when(resumeFunction.apply(any(ResumableFileUpload.class))).thenReturn(completedUpload());
+        DirectoryUpload resumedUpload = new UploadDirectoryHelper(configuration, resumedUploadFunction, resumeFunction)
+            .uploadDirectory(request);
+
+        assertThat(resumedUpload.completionFuture().get(5, TimeUnit.SECONDS).failedTransfers()).isEmpty();
+        verify(resumedUploadFunction, never()).apply(any(UploadFileRequest.class));
+
+        ArgumentCaptor<ResumableFileUpload> argumentCaptor = ArgumentCaptor.forClass(ResumableFileUpload.class);
+        verify(resumeFunction, times(1)).apply(argumentCaptor.capture());
+        ResumableFileUpload resumableFileUpload = argumentCaptor.getValue();
+        assertThat(resumableFileUpload.multipartUploadId()).hasValue("uploadId");
+        assertThat(resumableFileUpload.transferredParts()).hasValue(1L);
+        assertThat(resumableFileUpload.uploadFileRequest().source()).isEqualTo(directory.resolve("2"));
+    }
+
+    @Test
+    void uploadDirectory_withoutCheckpoint_pause_shouldThrowException() {
+        when(singleUploadFunction.apply(any(UploadFileRequest.class))).thenReturn(newUpload(new CompletableFuture<>()));
+
+        DirectoryUpload directoryUpload =
+            uploadDirectoryHelper.uploadDirectory(UploadDirectoryRequest.builder()
+                                                                        .source(directory)
+                                                                        .bucket("bucket")
+                                                                        .build());
+
+        assertThatThrownBy(directoryUpload::pause).isInstanceOf(UnsupportedOperationException.class)
+                                                  .hasMessageContaining("checkpoint file");
+    }
+
     private DefaultFileUpload completedUpload() {
         return new DefaultFileUpload(CompletableFuture.completedFuture(CompletedFileUpload.builder()
                                                                                           .response(PutObjectResponse.builder().build())
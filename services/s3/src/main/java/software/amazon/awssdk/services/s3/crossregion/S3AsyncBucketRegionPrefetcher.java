@@ -0,0 +1,71 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.crossregion;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.core.SdkClient;
+import software.amazon.awssdk.services.s3.DelegatingS3AsyncClient;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3AsyncClientBuilder;
+
+/**
+ * Resolves the regions of buckets ahead of time for an {@link S3AsyncClient} built with cross-region access enabled, see
+ * {@link S3AsyncClientBuilder#crossRegionAccessEnabled(Boolean)}. Use {@link #of(S3AsyncClient)} to get the prefetcher of a
+ * client.
+ * <p>
+ * Example:
+ * {@snippet :
+ * S3AsyncClient s3 = S3AsyncClient.builder().crossRegionAccessEnabled(true).build();
+ * S3AsyncBucketRegionPrefetcher.of(s3)
+ *                              .ifPresent(prefetcher -> prefetcher.prefetchBucketRegions(Arrays.asList("bucket-1", "bucket-2"))
+ *                                                                 .join());
+ * }
+ */
+@SdkPublicApi
+public interface S3AsyncBucketRegionPrefetcher {
+
+    /**
+     * Resolves the regions of the given buckets and caches them, so that the first request to each bucket is sent to the
+     * right region instead of being redirected. Buckets whose region is already cached are not looked up again.
+     *
+     * @param buckets the buckets to resolve the region of
+     * @return a future that completes once the regions of all buckets are resolved, or completes exceptionally if any of
+     * the lookups fails
+     */
+    CompletableFuture<Void> prefetchBucketRegions(Collection<String> buckets);
+
+    /**
+     * Returns the prefetcher of the given client, or an empty optional if cross-region access is not enabled on the client.
+     *
+     * @param s3AsyncClient the client to return the prefetcher of
+     * @return the prefetcher of the client
+     */
+    static Optional<S3AsyncBucketRegionPrefetcher> of(S3AsyncClient s3AsyncClient) {
+        SdkClient client = s3AsyncClient;
+        while (true) {
+            if (client instanceof S3AsyncBucketRegionPrefetcher) {
+                return Optional.of((S3AsyncBucketRegionPrefetcher) client);
+            }
+            if (!(client instanceof DelegatingS3AsyncClient)) {
+                return Optional.empty();
+            }
+            client = ((DelegatingS3AsyncClient) client).delegate();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.crossregion;
+
+import java.util.Collection;
+import java.util.Optional;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.core.SdkClient;
+import software.amazon.awssdk.services.s3.DelegatingS3Client;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+
+/**
+ * Resolves the regions of buckets ahead of time for an {@link S3Client} built with cross-region access enabled, see
+ * {@link S3ClientBuilder#crossRegionAccessEnabled(Boolean)}. Use {@link #of(S3Client)} to get the prefetcher of a client.
+ * <p>
+ * Example:
+ * {@snippet :
+ * S3Client s3 = S3Client.builder().crossRegionAccessEnabled(true).build();
+ * S3BucketRegionPrefetcher.of(s3)
+ *                         .ifPresent(prefetcher -> prefetcher.prefetchBucketRegions(Arrays.asList("bucket-1", "bucket-2")));
+ * }
+ */
+@SdkPublicApi
+public interface S3BucketRegionPrefetcher {
+
+    /**
+     * Resolves the regions of the given buckets and caches them, so that the first request to each bucket is sent to the
+     * right region instead of being redirected. Buckets whose region is already cached are not looked up again. The
+     * lookups are sent sequentially on the calling thread.
+     *
+     * @param buckets the buckets to resolve the region of
+     */
+    void prefetchBucketRegions(Collection<String> buckets);
+
+    /**
+     * Returns the prefetcher of the given client, or an empty optional if cross-region access is not enabled on the client.
+     *
+     * @param s3Client the client to return the prefetcher of
+     * @return the prefetcher of the client
+     */
+    static Optional<S3BucketRegionPrefetcher> of(S3Client s3Client) {
+        SdkClient client = s3Client;
+        while (true) {
+            if (client instanceof S3BucketRegionPrefetcher) {
+                return Optional.of((S3BucketRegionPrefetcher) client);
+            }
+            if (!(client instanceof DelegatingS3Client)) {
+                return Optional.empty();
+            }
+            client = ((DelegatingS3Client) client).delegate();
+        }
+    }
+}
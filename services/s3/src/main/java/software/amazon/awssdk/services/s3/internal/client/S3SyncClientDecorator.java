@@ -23,6 +23,8 @@ import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.endpoints.S3ClientContextParams;
 import software.amazon.awssdk.services.s3.internal.crossregion.S3CrossRegionSyncClient;
+import software.amazon.awssdk.services.s3.internal.multipart.MultipartS3Client;
+import software.amazon.awssdk.services.s3.multipart.MultipartConfiguration;
 import software.amazon.awssdk.utils.AttributeMap;
 import software.amazon.awssdk.utils.ConditionalDecorator;
 
@@ -39,6 +41,13 @@ public class S3SyncClientDecorator {
         decorators.add(ConditionalDecorator.create(isCrossRegionEnabledSync(clientContextParams),
                                                    S3CrossRegionSyncClient::new));
 
+        decorators.add(ConditionalDecorator.create(
+            isMultipartEnabled(clientContextParams),
+            client -> {
+                MultipartConfiguration multipartConfiguration =
+                    clientContextParams.get(S3AsyncClientDecorator.MULTIPART_CONFIGURATION_KEY);
+                return MultipartS3Client.create(client, multipartConfiguration);
+            }));
         return ConditionalDecorator.decorate(base, decorators);
     }
 
@@ -46,4 +55,9 @@ public class S3SyncClientDecorator {
         Boolean crossRegionEnabled = clientContextParams.get(S3ClientContextParams.CROSS_REGION_ACCESS_ENABLED);
         return  client ->  crossRegionEnabled != null && crossRegionEnabled.booleanValue();
     }
+
+    private Predicate<S3Client> isMultipartEnabled(AttributeMap clientContextParams) {
+        Boolean multipartEnabled = clientContextParams.get(S3AsyncClientDecorator.MULTIPART_ENABLED_KEY);
+        return client -> multipartEnabled != null && multipartEnabled.booleanValue();
+    }
 }
@@ -0,0 +1,172 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.crossregion;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A bounded cache of bucket regions used by the cross-region clients.
+ * <p>
+ * Entries expire after a fixed time-to-live, and the least recently used entry is evicted once the cache holds
+ * {@link #DEFAULT_MAX_SIZE} buckets. Concurrent lookups for the region of the same bucket are coalesced, so that only one
+ * lookup request is sent no matter how many requests for that bucket are redirected at the same time.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class BucketRegionCache {
+    static final int DEFAULT_MAX_SIZE = 10_000;
+    static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofHours(1);
+
+    private final Map<String, CompletableFuture<Region>> inFlightLookups = new ConcurrentHashMap<>();
+    private final Map<String, CacheEntry> entries;
+    private final Duration timeToLive;
+    private final Clock clock;
+
+    private BucketRegionCache(int maxSize, Duration timeToLive, Clock clock) {
+        Validate.isPositive(maxSize, "maxSize");
+        this.timeToLive = Validate.isPositive(timeToLive, "timeToLive");
+        this.clock = Validate.paramNotNull(clock, "clock");
+        this.entries = new LinkedHashMap<String, CacheEntry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public static BucketRegionCache create() {
+        return new BucketRegionCache(DEFAULT_MAX_SIZE, DEFAULT_TIME_TO_LIVE, Clock.systemUTC());
+    }
+
+    @SdkTestInternalApi
+    static BucketRegionCache create(int maxSize, Duration timeToLive, Clock clock) {
+        return new BucketRegionCache(maxSize, timeToLive, clock);
+    }
+
+    /**
+     * @return the cached region of the given bucket, if it is present and has not expired
+     */
+    public Optional<Region> get(String bucket) {
+        synchronized (entries) {
+            CacheEntry entry = entries.get(bucket);
+            if (entry == null) {
+                return Optional.empty();
+            }
+            if (entry.isExpired(clock.instant())) {
+                entries.remove(bucket);
+                return Optional.empty();
+            }
+            return Optional.of(entry.region);
+        }
+    }
+
+    public void put(String bucket, Region region) {
+        synchronized (entries) {
+            entries.put(bucket, new CacheEntry(region, clock.instant().plus(timeToLive)));
+        }
+    }
+
+    public void remove(String bucket) {
+        synchronized (entries) {
+            entries.remove(bucket);
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Returns the region of the given bucket, invoking the lookup function if it is not cached. If a lookup for the same
+     * bucket is already in progress, the result of that lookup is returned instead of invoking the lookup function again.
+     * A successfully resolved region is added to the cache.
+     *
+     * @param bucket the bucket name
+     * @param lookup sends a request to determine the region of the bucket
+     * @return a future that completes with the region of the bucket
+     */
+    public CompletableFuture<Region> resolve(String bucket, Function<String, CompletableFuture<Region>> lookup) {
+        Optional<Region> cachedRegion = get(bucket);
+        if (cachedRegion.isPresent()) {
+            return CompletableFuture.completedFuture(cachedRegion.get());
+        }
+
+        CompletableFuture<Region> lookupFuture = new CompletableFuture<>();
+        CompletableFuture<Region> inFlightLookup = inFlightLookups.putIfAbsent(bucket, lookupFuture);
+        if (inFlightLookup != null) {
+            return dependentFuture(inFlightLookup);
+        }
+
+        CompletableFuture<Region> regionFuture;
+        try {
+            regionFuture = lookup.apply(bucket);
+        } catch (Throwable t) {
+            regionFuture = CompletableFutureUtils.failedFuture(t);
+        }
+
+        regionFuture.whenComplete((region, throwable) -> {
+            if (throwable == null && region != null) {
+                put(bucket, region);
+            }
+            // Remove the lookup only after the cache is updated, so callers always find either the region or the lookup
+            inFlightLookups.remove(bucket, lookupFuture);
+            if (throwable != null) {
+                lookupFuture.completeExceptionally(throwable);
+            } else {
+                lookupFuture.complete(region);
+            }
+        });
+        return dependentFuture(lookupFuture);
+    }
+
+    /**
+     * The lookup future is shared between callers, so each caller gets a dependent future that it can cancel without
+     * affecting the other callers.
+     */
+    private static CompletableFuture<Region> dependentFuture(CompletableFuture<Region> lookupFuture) {
+        return lookupFuture.thenApply(Function.identity());
+    }
+
+    private static final class CacheEntry {
+        private final Region region;
+        private final Instant expiresAt;
+
+        private CacheEntry(Region region, Instant expiresAt) {
+            this.region = region;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(Instant now) {
+            return !now.isBefore(expiresAt);
+        }
+    }
+}
@@ -16,32 +16,48 @@
 package software.amazon.awssdk.services.s3.internal.crossregion;
 
 import static software.amazon.awssdk.services.s3.internal.crossregion.utils.CrossRegionUtils.getBucketRegionFromException;
+import static software.amazon.awssdk.services.s3.internal.crossregion.utils.CrossRegionUtils.getBucketRegionFromResponse;
 import static software.amazon.awssdk.services.s3.internal.crossregion.utils.CrossRegionUtils.isS3RedirectException;
 import static software.amazon.awssdk.services.s3.internal.crossregion.utils.CrossRegionUtils.requestWithDecoratedEndpointProvider;
 import static software.amazon.awssdk.services.s3.internal.crossregion.utils.CrossRegionUtils.updateUserAgentInConfig;
 
-import java.util.Map;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
 import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.DelegatingS3AsyncClient;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.crossregion.S3AsyncBucketRegionPrefetcher;
 import software.amazon.awssdk.services.s3.model.S3Exception;
 import software.amazon.awssdk.services.s3.model.S3Request;
 import software.amazon.awssdk.utils.CompletableFutureUtils;
 
 @SdkInternalApi
-public final class S3CrossRegionAsyncClient extends DelegatingS3AsyncClient {
+public final class S3CrossRegionAsyncClient extends DelegatingS3AsyncClient implements S3AsyncBucketRegionPrefetcher {
 
-    private final Map<String, Region> bucketToRegionCache = new ConcurrentHashMap<>();
+    private final BucketRegionCache bucketRegionCache;
 
     public S3CrossRegionAsyncClient(S3AsyncClient s3Client) {
+        this(s3Client, BucketRegionCache.create());
+    }
+
+    @SdkTestInternalApi
+    S3CrossRegionAsyncClient(S3AsyncClient s3Client, BucketRegionCache bucketRegionCache) {
         super(s3Client);
+        this.bucketRegionCache = bucketRegionCache;
+    }
+
+    @Override
+    public CompletableFuture<Void> prefetchBucketRegions(Collection<String> buckets) {
+        CompletableFuture<?>[] lookups = buckets.stream()
+                                                .map(bucket -> bucketRegionCache.resolve(bucket, this::fetchBucketRegion))
+                                                .toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(lookups);
     }
 
     @Override
@@ -59,11 +75,12 @@ public final class S3CrossRegionAsyncClient extends DelegatingS3AsyncClient {
         String bucketName = bucket.get();
 
         CompletableFuture<ReturnT> returnFuture = new CompletableFuture<>();
-        CompletableFuture<ReturnT> apiOperationFuture = bucketToRegionCache.containsKey(bucketName) ?
+        Optional<Region> cachedRegion = bucketRegionCache.get(bucketName);
+        CompletableFuture<ReturnT> apiOperationFuture = cachedRegion.isPresent() ?
                                                         operation.apply(
                                                             requestWithDecoratedEndpointProvider(
                                                                 userAgentUpdatedRequest,
-                                                                () -> bucketToRegionCache.get(bucketName),
+                                                                cachedRegion::get,
                                                                 serviceClientConfiguration().endpointProvider().get()
                                                             )
                                                         ) :
@@ -84,7 +101,7 @@ public final class S3CrossRegionAsyncClient extends DelegatingS3AsyncClient {
         return (response, throwable) -> {
             if (throwable != null) {
                 if (isS3RedirectException(throwable)) {
-                    bucketToRegionCache.remove(bucketName);
+                    bucketRegionCache.remove(bucketName);
                     requestWithCrossRegion(userAgentUpdatedRequest, operation, bucketName, returnFuture, throwable);
                 } else {
                     returnFuture.completeExceptionally(throwable);
@@ -103,7 +120,9 @@ public final class S3CrossRegionAsyncClient extends DelegatingS3AsyncClient {
 
         Optional<String> bucketRegionFromException = getBucketRegionFromException((S3Exception) throwable.getCause());
         if (bucketRegionFromException.isPresent()) {
-            sendRequestWithRightRegion(request, operation, bucketName, returnFuture, bucketRegionFromException.get());
+            Region region = Region.of(bucketRegionFromException.get());
+            bucketRegionCache.put(bucketName, region);
+            sendRequestWithRightRegion(request, operation, returnFuture, region);
         } else {
             fetchRegionAndSendRequest(request, operation, bucketName, returnFuture);
         }
@@ -113,36 +132,47 @@ public final class S3CrossRegionAsyncClient extends DelegatingS3AsyncClient {
                                                                           Function<T, CompletableFuture<ReturnT>> operation,
                                                                           String bucketName,
                                                                           CompletableFuture<ReturnT> returnFuture) {
+        CompletableFuture<Region> regionFuture = bucketRegionCache.resolve(bucketName, this::fetchBucketRegion);
+        CompletableFutureUtils.forwardExceptionTo(returnFuture, regionFuture);
+        regionFuture.whenComplete((region, throwable) -> {
+            if (throwable != null) {
+                returnFuture.completeExceptionally(throwable);
+            } else {
+                sendRequestWithRightRegion(request, operation, returnFuture, region);
+            }
+        });
+    }
+
+    /**
+     * Sends a HeadBucket request to determine the region of the bucket. The region is returned in the response headers for
+     * buckets in the region of the client, and in the redirect error for buckets in other regions.
+     */
+    private CompletableFuture<Region> fetchBucketRegion(String bucketName) {
         // // TODO: Need to change codegen of Delegating Client to avoid the cast, have taken a backlog item to fix this.
-        ((S3AsyncClient) delegate()).headBucket(b -> b.bucket(bucketName)).whenComplete((response,
-                                                                                         throwable) -> {
+        return ((S3AsyncClient) delegate()).headBucket(b -> b.bucket(bucketName)).handle((response, throwable) -> {
             if (throwable != null) {
                 if (isS3RedirectException(throwable)) {
-                    bucketToRegionCache.remove(bucketName);
                     Optional<String> bucketRegion = getBucketRegionFromException((S3Exception) throwable.getCause());
                     if (bucketRegion.isPresent()) {
-                        sendRequestWithRightRegion(request, operation, bucketName, returnFuture, bucketRegion.get());
-                    } else {
-                        returnFuture.completeExceptionally(throwable);
+                        return Region.of(bucketRegion.get());
                     }
-                } else {
-                    returnFuture.completeExceptionally(throwable);
                 }
+                throw CompletableFutureUtils.errorAsCompletionException(throwable);
             }
+            return getBucketRegionFromResponse(response).map(Region::of)
+                                                        .orElseGet(() -> serviceClientConfiguration().region());
         });
     }
 
     private <T extends S3Request, ReturnT> void sendRequestWithRightRegion(T request,
                                                                            Function<T, CompletableFuture<ReturnT>> operation,
-                                                                           String bucketName,
                                                                            CompletableFuture<ReturnT> returnFuture,
-                                                                           String region) {
-        bucketToRegionCache.put(bucketName, Region.of(region));
+                                                                           Region region) {
         CompletableFuture<ReturnT> newFuture = operation.apply(
             requestWithDecoratedEndpointProvider(request,
-                                                 () -> Region.of(region),
+                                                 () -> region,
                                                  serviceClientConfiguration().endpointProvider().get()));
         CompletableFutureUtils.forwardResultTo(newFuture, returnFuture);
         CompletableFutureUtils.forwardExceptionTo(returnFuture, newFuture);
     }
-}
\ No newline at end of file
+}
@@ -16,40 +16,57 @@
 package software.amazon.awssdk.services.s3.internal.crossregion;
 
 import static software.amazon.awssdk.services.s3.internal.crossregion.utils.CrossRegionUtils.getBucketRegionFromException;
+import static software.amazon.awssdk.services.s3.internal.crossregion.utils.CrossRegionUtils.getBucketRegionFromResponse;
 import static software.amazon.awssdk.services.s3.internal.crossregion.utils.CrossRegionUtils.isS3RedirectException;
 import static software.amazon.awssdk.services.s3.internal.crossregion.utils.CrossRegionUtils.requestWithDecoratedEndpointProvider;
 import static software.amazon.awssdk.services.s3.internal.crossregion.utils.CrossRegionUtils.updateUserAgentInConfig;
 
-import java.util.Map;
+import java.util.Collection;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.Function;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
 import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.DelegatingS3Client;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.crossregion.S3BucketRegionPrefetcher;
 import software.amazon.awssdk.services.s3.model.HeadBucketRequest;
+import software.amazon.awssdk.services.s3.model.HeadBucketResponse;
 import software.amazon.awssdk.services.s3.model.S3Exception;
 import software.amazon.awssdk.services.s3.model.S3Request;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
 
 /**
  * Decorator S3 Sync client that will fetch the region name whenever there is Redirect 301 error due to cross region bucket
  * access.
  */
 @SdkInternalApi
-public final class S3CrossRegionSyncClient extends DelegatingS3Client {
+public final class S3CrossRegionSyncClient extends DelegatingS3Client implements S3BucketRegionPrefetcher {
 
-    private final Map<String, Region> bucketToRegionCache = new ConcurrentHashMap<>();
+    private final BucketRegionCache bucketRegionCache;
 
     public S3CrossRegionSyncClient(S3Client s3Client) {
+        this(s3Client, BucketRegionCache.create());
+    }
+
+    @SdkTestInternalApi
+    S3CrossRegionSyncClient(S3Client s3Client, BucketRegionCache bucketRegionCache) {
         super(s3Client);
+        this.bucketRegionCache = bucketRegionCache;
     }
 
     private static <T extends S3Request> Optional<String> bucketNameFromRequest(T request) {
         return request.getValueForField("Bucket", String.class);
     }
 
+    @Override
+    public void prefetchBucketRegions(Collection<String> buckets) {
+        buckets.forEach(this::resolveBucketRegion);
+    }
+
     @Override
     protected <T extends S3Request, ReturnT> ReturnT invokeOperation(T request, Function<T, ReturnT> operation) {
 
@@ -64,44 +81,67 @@ public final class S3CrossRegionSyncClient extends DelegatingS3Client {
         }
         String bucketName = bucketRequest.get();
         try {
-            if (bucketToRegionCache.containsKey(bucketName)) {
+            Optional<Region> cachedRegion = bucketRegionCache.get(bucketName);
+            if (cachedRegion.isPresent()) {
                 return operation.apply(
                     requestWithDecoratedEndpointProvider(userAgentUpdatedRequest,
-                                                         () -> bucketToRegionCache.get(bucketName),
+                                                         cachedRegion::get,
                                                          serviceClientConfiguration().endpointProvider().get()));
             }
             return operation.apply(userAgentUpdatedRequest);
         } catch (S3Exception exception) {
             if (isS3RedirectException(exception)) {
-                updateCacheFromRedirectException(exception, bucketName);
+                Region region = updateCacheFromRedirectException(exception, bucketName);
                 return operation.apply(
                     requestWithDecoratedEndpointProvider(
                         userAgentUpdatedRequest,
-                        () -> bucketToRegionCache.computeIfAbsent(bucketName, this::fetchBucketRegion),
+                        () -> region,
                         serviceClientConfiguration().endpointProvider().get()));
             }
             throw exception;
         }
     }
 
-    private void updateCacheFromRedirectException(S3Exception exception, String bucketName) {
+    private Region updateCacheFromRedirectException(S3Exception exception, String bucketName) {
         Optional<String> regionStr = getBucketRegionFromException(exception);
         // If redirected, clear previous values due to region change.
-        bucketToRegionCache.remove(bucketName);
-        regionStr.ifPresent(region -> bucketToRegionCache.put(bucketName, Region.of(region)));
+        bucketRegionCache.remove(bucketName);
+        if (regionStr.isPresent()) {
+            Region region = Region.of(regionStr.get());
+            bucketRegionCache.put(bucketName, region);
+            return region;
+        }
+        return resolveBucketRegion(bucketName);
+    }
+
+    /**
+     * Returns the region of the bucket from the cache, or fetches it if it is not cached. Concurrent lookups for the same
+     * bucket are coalesced into a single HeadBucket request.
+     */
+    private Region resolveBucketRegion(String bucketName) {
+        CompletableFuture<Region> regionFuture =
+            bucketRegionCache.resolve(bucketName, b -> CompletableFuture.completedFuture(fetchBucketRegion(b)));
+        try {
+            return CompletableFutureUtils.joinInterruptibly(regionFuture);
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
     }
 
     private Region fetchBucketRegion(String bucketName) {
+        HeadBucketResponse response;
         try {
-            ((S3Client) delegate()).headBucket(HeadBucketRequest.builder().bucket(bucketName).build());
+            response = ((S3Client) delegate()).headBucket(HeadBucketRequest.builder().bucket(bucketName).build());
         } catch (S3Exception exception) {
             if (isS3RedirectException(exception)) {
                 return Region.of(getBucketRegionFromException(exception).orElseThrow(() -> exception));
             }
             throw exception;
         }
-        return null;
+        return getBucketRegionFromResponse(response).map(Region::of)
+                                                    .orElseGet(() -> serviceClientConfiguration().region());
     }
-
-
 }
@@ -23,6 +23,7 @@ import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
 import software.amazon.awssdk.core.ApiName;
+import software.amazon.awssdk.core.SdkResponse;
 import software.amazon.awssdk.endpoints.EndpointProvider;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.endpoints.S3EndpointProvider;
@@ -48,6 +49,11 @@ public final class CrossRegionUtils {
                         .firstMatchingHeader(AMZ_BUCKET_REGION_HEADER);
     }
 
+    public static Optional<String> getBucketRegionFromResponse(SdkResponse response) {
+        return Optional.ofNullable(response.sdkHttpResponse())
+                       .flatMap(r -> r.firstMatchingHeader(AMZ_BUCKET_REGION_HEADER));
+    }
+
     public static boolean isS3RedirectException(Throwable exception) {
         Throwable exceptionToBeChecked = exception instanceof CompletionException ? exception.getCause() : exception;
         return exceptionToBeChecked instanceof S3Exception
@@ -0,0 +1,73 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import java.util.function.Function;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.ApiName;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.DelegatingS3Client;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.internal.UserAgentUtils;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Request;
+import software.amazon.awssdk.services.s3.multipart.MultipartConfiguration;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * An {@link S3Client} that automatically converts put requests to their respective multipart call. Note: copy and get are not
+ * yet supported, and are sent as regular requests.
+ *
+ * @see MultipartConfiguration
+ */
+@SdkInternalApi
+public final class MultipartS3Client extends DelegatingS3Client {
+
+    private static final ApiName USER_AGENT_API_NAME = ApiName.builder().name("hll").version("s3Multipart").build();
+
+    private final SyncUploadObjectHelper mpuHelper;
+
+    private MultipartS3Client(S3Client delegate, MultipartConfiguration multipartConfiguration) {
+        super(delegate);
+        MultipartConfiguration validConfiguration = Validate.getOrDefault(multipartConfiguration,
+                                                                          MultipartConfiguration.builder()::build);
+        MultipartConfigurationResolver resolver = new MultipartConfigurationResolver(validConfiguration);
+        mpuHelper = new SyncUploadObjectHelper(delegate, resolver);
+    }
+
+    @Override
+    public PutObjectResponse putObject(PutObjectRequest putObjectRequest, RequestBody requestBody) {
+        return mpuHelper.uploadObject(putObjectRequest, requestBody);
+    }
+
+    @Override
+    public void close() {
+        mpuHelper.close();
+        delegate().close();
+    }
+
+    public static MultipartS3Client create(S3Client client, MultipartConfiguration multipartConfiguration) {
+        S3Client clientWithUserAgent = new DelegatingS3Client(client) {
+            @Override
+            protected <T extends S3Request, ReturnT> ReturnT invokeOperation(T request, Function<T, ReturnT> operation) {
+                T requestWithUserAgent = UserAgentUtils.applyUserAgentInfo(request, c -> c.addApiName(USER_AGENT_API_NAME));
+                return operation.apply(requestWithUserAgent);
+            }
+        };
+        return new MultipartS3Client(clientWithUserAgent, multipartConfiguration);
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+
+/**
+ * A bounded pool of the buffers used to hold the parts of the multipart uploads of a sync client. At most {@code maxBuffers}
+ * buffers can be acquired at the same time, so the memory used by the in-flight parts of all uploads of the client is bounded.
+ * Buffers of the standard part size are reused by subsequent parts, buffers of any other size are allocated on demand and are
+ * not retained once released.
+ */
+@SdkInternalApi
+@ThreadSafe
+final class PartBufferPool {
+    private final int bufferSize;
+    private final Semaphore permits;
+    private final Queue<byte[]> buffers = new ConcurrentLinkedQueue<>();
+
+    PartBufferPool(int bufferSize, int maxBuffers) {
+        this.bufferSize = bufferSize;
+        this.permits = new Semaphore(maxBuffers);
+    }
+
+    /**
+     * Acquires a buffer of the given size, blocking until the number of acquired buffers drops below the maximum.
+     */
+    byte[] acquire(int size) throws InterruptedException {
+        permits.acquire();
+        try {
+            if (size != bufferSize) {
+                return new byte[size];
+            }
+            byte[] buffer = buffers.poll();
+            return buffer != null ? buffer : new byte[bufferSize];
+        } catch (Throwable t) {
+            permits.release();
+            throw t;
+        }
+    }
+
+    /**
+     * Returns a buffer acquired from this pool. The buffer must not be used after it has been released.
+     */
+    void release(byte[] buffer) {
+        if (buffer.length == bufferSize) {
+            buffers.offer(buffer);
+        }
+        permits.release();
+    }
+
+    int bufferSize() {
+        return bufferSize;
+    }
+}
@@ -0,0 +1,307 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntFunction;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * An internal helper class that automatically uses multipart upload for the put requests of a sync client, based on the size
+ * of the object.
+ *
+ * <p>
+ * The content of the {@link RequestBody} is read sequentially into part buffers taken from a {@link PartBufferPool} that is
+ * shared by all uploads of the client, and each part is uploaded on a bounded thread pool as soon as its buffer is full. The
+ * number of part buffers, and therefore the number of parts uploaded in parallel, is derived from the configured
+ * {@code apiCallBufferSizeInBytes}, so reading the content blocks once that many parts are in flight.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class SyncUploadObjectHelper implements SdkAutoCloseable {
+    private static final Logger log = Logger.loggerFor(SyncUploadObjectHelper.class);
+
+    /**
+     * The max number of parts on S3 side is 10,000
+     */
+    private static final long MAX_UPLOAD_PARTS = 10_000;
+    private static final String OCTET_STREAM = "application/octet-stream";
+
+    private final S3Client s3Client;
+    private final long partSizeInBytes;
+    private final long multipartUploadThresholdInBytes;
+    private final PartBufferPool bufferPool;
+    private final ExecutorService executor;
+
+    public SyncUploadObjectHelper(S3Client s3Client, MultipartConfigurationResolver resolver) {
+        this(s3Client, resolver, SyncUploadObjectHelper::createExecutor);
+    }
+
+    @SdkTestInternalApi
+    SyncUploadObjectHelper(S3Client s3Client, MultipartConfigurationResolver resolver,
+                           IntFunction<ExecutorService> executorFactory) {
+        this.s3Client = s3Client;
+        this.partSizeInBytes = resolver.minimalPartSizeInBytes();
+        this.multipartUploadThresholdInBytes = resolver.thresholdInBytes();
+        Validate.isTrue(partSizeInBytes <= Integer.MAX_VALUE,
+                        "minimumPartSizeInBytes must not exceed %s for the sync client", Integer.MAX_VALUE);
+
+        int maxPartsInFlight = (int) Math.max(1, Math.min(Integer.MAX_VALUE, resolver.apiCallBufferSize() / partSizeInBytes));
+        this.bufferPool = new PartBufferPool((int) partSizeInBytes, maxPartsInFlight);
+        this.executor = executorFactory.apply(maxPartsInFlight);
+    }
+
+    public PutObjectResponse uploadObject(PutObjectRequest putObjectRequest, RequestBody requestBody) {
+        Long contentLength = requestBody.optionalContentLength().orElseGet(putObjectRequest::contentLength);
+
+        if (contentLength != null
+            && (contentLength <= multipartUploadThresholdInBytes || contentLength <= partSizeInBytes)) {
+            log.debug(() -> "Starting the upload as a single object upload request");
+            return s3Client.putObject(putObjectRequest, requestBody);
+        }
+
+        long partSize = contentLength == null ? partSizeInBytes : calculateOptimalPartSizeFor(contentLength);
+        if (partSize > Integer.MAX_VALUE) {
+            throw SdkClientException.create("The content length " + contentLength + " requires parts larger than the "
+                                            + "maximum part size supported by the sync client");
+        }
+
+        PutObjectRequest request = putObjectRequest;
+        if (request.contentType() == null && requestBody.contentType() != null) {
+            request = request.toBuilder().contentType(requestBody.contentType()).build();
+        }
+
+        try (InputStream content = requestBody.contentStreamProvider().newStream()) {
+            return uploadInParts(request, content, (int) partSize);
+        } catch (IOException e) {
+            throw SdkClientException.create("Failed to read the request body", e);
+        }
+    }
+
+    private PutObjectResponse uploadInParts(PutObjectRequest putObjectRequest, InputStream content, int partSize)
+            throws IOException {
+        byte[] buffer = acquireBuffer(partSize);
+        int length;
+        try {
+            length = readFully(content, buffer);
+        } catch (IOException | RuntimeException e) {
+            bufferPool.release(buffer);
+            throw e;
+        }
+
+        if (length < partSize) {
+            log.debug(() -> "The request body is smaller than a part, starting the upload as a single object upload request");
+            return putObject(putObjectRequest, buffer, length);
+        }
+
+        String uploadId;
+        try {
+            uploadId = s3Client.createMultipartUpload(SdkPojoConversionUtils.toCreateMultipartUploadRequest(putObjectRequest))
+                               .uploadId();
+        } catch (RuntimeException e) {
+            bufferPool.release(buffer);
+            throw e;
+        }
+        log.debug(() -> "Initiated a new multipart upload, uploadId: " + uploadId);
+
+        List<CompletableFuture<CompletedPart>> partFutures = new ArrayList<>();
+        AtomicBoolean failed = new AtomicBoolean();
+        try {
+            int partNumber = 1;
+            while (true) {
+                byte[] partBuffer = buffer;
+                buffer = null;
+                partFutures.add(uploadPart(putObjectRequest, uploadId, partNumber++, partBuffer, length, failed));
+                if (length < partSize || failed.get()) {
+                    break;
+                }
+                buffer = acquireBuffer(partSize);
+                length = readFully(content, buffer);
+                if (length == 0) {
+                    break;
+                }
+            }
+
+            CompletableFuture.allOf(partFutures.toArray(new CompletableFuture[0])).join();
+            CompletedPart[] parts = partFutures.stream().map(CompletableFuture::join).toArray(CompletedPart[]::new);
+            return SdkPojoConversionUtils.toPutObjectResponse(completeMultipartUpload(putObjectRequest, uploadId, parts));
+        } catch (Throwable t) {
+            failed.set(true);
+            awaitQuietly(partFutures);
+            abortMultipartUpload(putObjectRequest, uploadId);
+            Throwable cause = t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw SdkClientException.create("Failed to send multipart upload requests", cause);
+        } finally {
+            if (buffer != null) {
+                bufferPool.release(buffer);
+            }
+        }
+    }
+
+    private CompletableFuture<CompletedPart> uploadPart(PutObjectRequest putObjectRequest, String uploadId, int partNumber,
+                                                        byte[] buffer, int length, AtomicBoolean failed) {
+        UploadPartRequest uploadPartRequest =
+            SdkPojoConversionUtils.toUploadPartRequest(putObjectRequest, partNumber, uploadId)
+                                  .toBuilder()
+                                  .contentLength((long) length)
+                                  .build();
+        try {
+            CompletableFuture<CompletedPart> future = CompletableFuture.supplyAsync(() -> {
+                try {
+                    if (failed.get()) {
+                        throw SdkClientException.create("Skipped part " + partNumber + " because another part failed");
+                    }
+                    log.debug(() -> "Sending uploadPartRequest: " + partNumber + " uploadId: " + uploadId
+                                    + " contentLength " + length);
+                    UploadPartResponse response = s3Client.uploadPart(uploadPartRequest, partBody(buffer, length));
+                    return SdkPojoConversionUtils.toCompletedPart(response, partNumber);
+                } finally {
+                    bufferPool.release(buffer);
+                }
+            }, executor);
+            future.whenComplete((r, t) -> {
+                if (t != null) {
+                    failed.set(true);
+                }
+            });
+            return future;
+        } catch (RejectedExecutionException e) {
+            bufferPool.release(buffer);
+            throw SdkClientException.create("The client has been closed", e);
+        }
+    }
+
+    private PutObjectResponse putObject(PutObjectRequest putObjectRequest, byte[] buffer, int length) {
+        try {
+            return s3Client.putObject(putObjectRequest, partBody(buffer, length));
+        } finally {
+            bufferPool.release(buffer);
+        }
+    }
+
+    private CompleteMultipartUploadResponse completeMultipartUpload(PutObjectRequest putObjectRequest, String uploadId,
+                                                                    CompletedPart[] parts) {
+        log.debug(() -> String.format("Sending completeMultipartUploadRequest, uploadId: %s", uploadId));
+        CompleteMultipartUploadRequest request =
+            CompleteMultipartUploadRequest.builder()
+                                          .bucket(putObjectRequest.bucket())
+                                          .key(putObjectRequest.key())
+                                          .uploadId(uploadId)
+                                          .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                                          .build();
+        return s3Client.completeMultipartUpload(request);
+    }
+
+    private void abortMultipartUpload(PutObjectRequest putObjectRequest, String uploadId) {
+        log.debug(() -> "Aborting multipart upload: " + uploadId);
+        try {
+            s3Client.abortMultipartUpload(SdkPojoConversionUtils.toAbortMultipartUploadRequest(putObjectRequest)
+                                                                .uploadId(uploadId)
+                                                                .build());
+        } catch (RuntimeException e) {
+            log.warn(() -> String.format("Failed to abort previous multipart upload (id: %s). You may need to call "
+                                         + "S3Client#abortMultiPartUpload to free all storage consumed by all parts. ",
+                                         uploadId), e);
+        }
+    }
+
+    private byte[] acquireBuffer(int size) {
+        try {
+            return bufferPool.acquire(size);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw SdkClientException.create("Interrupted while waiting for a part buffer", e);
+        }
+    }
+
+    private long calculateOptimalPartSizeFor(long contentLength) {
+        return Math.max((long) Math.ceil(contentLength / (double) MAX_UPLOAD_PARTS), partSizeInBytes);
+    }
+
+    private static RequestBody partBody(byte[] buffer, int length) {
+        return RequestBody.fromContentProvider(() -> new ByteArrayInputStream(buffer, 0, length), length, OCTET_STREAM);
+    }
+
+    private static int readFully(InputStream content, byte[] buffer) throws IOException {
+        int offset = 0;
+        while (offset < buffer.length) {
+            int read = content.read(buffer, offset, buffer.length - offset);
+            if (read < 0) {
+                break;
+            }
+            offset += read;
+        }
+        return offset;
+    }
+
+    private static void awaitQuietly(List<CompletableFuture<CompletedPart>> partFutures) {
+        for (CompletableFuture<CompletedPart> future : partFutures) {
+            try {
+                future.join();
+            } catch (RuntimeException e) {
+                // The first failure is reported to the caller
+            }
+        }
+    }
+
+    private static ExecutorService createExecutor(int threads) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                                                             new LinkedBlockingQueue<>(),
+                                                             new ThreadFactoryBuilder()
+                                                                 .threadNamePrefix("sdk-s3-multipart-upload")
+                                                                 .daemonThreads(true)
+                                                                 .build());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+}
@@ -21,9 +21,13 @@ import static software.amazon.awssdk.utils.CollectionUtils.mergeLists;
 import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
 
 import java.net.URI;
+import java.time.Clock;
 import java.time.Instant;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -57,6 +61,7 @@ import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
 import software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute;
 import software.amazon.awssdk.core.signer.Presigner;
 import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.endpoints.Endpoint;
 import software.amazon.awssdk.http.ContentStreamProvider;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.http.SdkHttpMethod;
@@ -67,6 +72,7 @@ import software.amazon.awssdk.regions.ServiceMetadataAdvancedOption;
 import software.amazon.awssdk.services.s3.S3Configuration;
 import software.amazon.awssdk.services.s3.endpoints.S3ClientContextParams;
 import software.amazon.awssdk.services.s3.endpoints.S3EndpointProvider;
+import software.amazon.awssdk.services.s3.endpoints.internal.AwsEndpointProviderUtils;
 import software.amazon.awssdk.services.s3.endpoints.internal.S3EndpointAuthSchemeInterceptor;
 import software.amazon.awssdk.services.s3.endpoints.internal.S3RequestSetEndpointInterceptor;
 import software.amazon.awssdk.services.s3.endpoints.internal.S3ResolveEndpointInterceptor;
@@ -117,7 +123,7 @@ public final class DefaultS3Presigner extends DefaultSdkPresigner implements S3P
     private static final String SIGNING_NAME = "s3";
 
     private final S3Configuration serviceConfiguration;
-    private final List<ExecutionInterceptor> clientInterceptors;
+    private final ExecutionInterceptorChain clientInterceptorChain;
     private final GetObjectRequestMarshaller getObjectRequestMarshaller;
     private final PutObjectRequestMarshaller putObjectRequestMarshaller;
     private final CreateMultipartUploadRequestMarshaller createMultipartUploadRequestMarshaller;
@@ -156,7 +162,7 @@ public final class DefaultS3Presigner extends DefaultSdkPresigner implements S3P
 
         this.serviceConfiguration = serviceConfigBuilder.build();
 
-        this.clientInterceptors = initializeInterceptors();
+        this.clientInterceptorChain = new ExecutionInterceptorChain(initializeInterceptors());
 
         this.clientConfiguration = createClientConfiguration();
 
@@ -244,6 +250,26 @@ public final class DefaultS3Presigner extends DefaultSdkPresigner implements S3P
             .build();
     }
 
+    @Override
+    public List<PresignedGetObjectRequest> presignGetObjects(List<GetObjectPresignRequest> requests) {
+        Validate.paramNotNull(requests, "requests");
+
+        // Group the requests that only differ in their key, so that they can share a single execution context
+        Map<GetObjectPresignRequest, List<Integer>> requestIndexesByGroup = new LinkedHashMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            GetObjectPresignRequest request = requests.get(i);
+            GetObjectPresignRequest group =
+                request.toBuilder()
+                       .getObjectRequest(request.getObjectRequest().toBuilder().key(null).build())
+                       .build();
+            requestIndexesByGroup.computeIfAbsent(group, g -> new ArrayList<>()).add(i);
+        }
+
+        PresignedGetObjectRequest[] presignedRequests = new PresignedGetObjectRequest[requests.size()];
+        requestIndexesByGroup.values().forEach(indexes -> presignGetObjectGroup(requests, indexes, presignedRequests));
+        return Arrays.asList(presignedRequests);
+    }
+
     @Override
     public PresignedPutObjectRequest presignPutObject(PutObjectPresignRequest request) {
         return presign(PresignedPutObjectRequest.builder(),
@@ -340,6 +366,67 @@ public final class DefaultS3Presigner extends DefaultSdkPresigner implements S3P
         return presignedRequest;
     }
 
+    /**
+     * Presign a group of {@link GetObjectRequest}s that only differ in their key. The interceptors, endpoint resolution and
+     * credential resolution are only invoked for the first request of the group, and the resulting HTTP request is reused
+     * for the other requests by replacing its path. All requests of the group are signed with the same signing time.
+     */
+    private void presignGetObjectGroup(List<GetObjectPresignRequest> requests,
+                                       List<Integer> indexes,
+                                       PresignedGetObjectRequest[] presignedRequests) {
+        GetObjectPresignRequest firstRequest = requests.get(indexes.get(0));
+        Instant signingTime = Instant.now();
+
+        ExecutionContext execCtx = invokeInterceptorsAndCreateExecutionContext(firstRequest,
+                                                                               firstRequest.getObjectRequest(),
+                                                                               "GetObject");
+        execCtx.executionAttributes()
+               .putAttribute(AwsSignerExecutionAttribute.SIGNING_CLOCK, Clock.fixed(signingTime, ZoneOffset.UTC))
+               .putAttribute(PRESIGNER_EXPIRATION, signingTime.plus(firstRequest.signatureDuration()));
+
+        callBeforeMarshallingHooks(execCtx);
+        marshalRequestAndUpdateContext(execCtx, GetObjectRequest.class, getObjectRequestMarshaller::marshall);
+        SdkHttpRequest marshalledRequest = execCtx.interceptorContext().httpRequest();
+        callAfterMarshallingHooks(execCtx);
+        addRequestLevelHeadersAndQueryParameters(execCtx);
+        callModifyHttpRequestHooksAndUpdateContext(execCtx);
+
+        SdkHttpFullRequest httpRequest = getHttpFullRequest(execCtx);
+        URI clientEndpoint = execCtx.executionAttributes().getAttribute(SdkExecutionAttribute.CLIENT_ENDPOINT);
+        Endpoint endpoint = execCtx.executionAttributes().getAttribute(SdkInternalExecutionAttribute.RESOLVED_ENDPOINT);
+
+        if (!firstRequest.getObjectRequest().equalsBySdkFields(execCtx.interceptorContext().request())
+            || endpoint == null
+            || !resolvePath(marshalledRequest, clientEndpoint, endpoint).equals(httpRequest.encodedPath())) {
+            log.debug(() -> "The GetObject request or its path was modified by an interceptor, presigning each request "
+                            + "of the batch separately.");
+            indexes.forEach(i -> presignedRequests[i] = presignGetObject(requests.get(i)));
+            return;
+        }
+
+        for (int index : indexes) {
+            SdkHttpFullRequest objectMarshalledRequest = getObjectRequestMarshaller.marshall(requests.get(index)
+                                                                                                    .getObjectRequest());
+            SdkHttpFullRequest objectHttpRequest =
+                httpRequest.toBuilder()
+                           .encodedPath(resolvePath(objectMarshalledRequest, clientEndpoint, endpoint))
+                           .build();
+
+            SdkHttpFullRequest signedHttpRequest = presignRequest(execCtx, objectHttpRequest);
+
+            PresignedGetObjectRequest.Builder presignedRequest = PresignedGetObjectRequest.builder();
+            initializePresignedRequest(presignedRequest, execCtx, signedHttpRequest);
+            presignedRequests[index] = presignedRequest.build();
+        }
+    }
+
+    /**
+     * Resolve the path of a marshalled request against the resolved endpoint, as done by {@link S3RequestSetEndpointInterceptor}.
+     */
+    private static String resolvePath(SdkHttpRequest marshalledRequest, URI clientEndpoint, Endpoint endpoint) {
+        return AwsEndpointProviderUtils.setUri(marshalledRequest, clientEndpoint, endpoint.url()).encodedPath();
+    }
+
     /**
      * Creates an execution context from the provided request information.
      */
@@ -366,14 +453,12 @@ public final class DefaultS3Presigner extends DefaultSdkPresigner implements S3P
             .putAttribute(AwsExecutionAttribute.USE_GLOBAL_ENDPOINT, useGlobalEndpointResolver.resolve(region()))
             .putAttribute(SdkInternalExecutionAttribute.CLIENT_CONTEXT_PARAMS, clientContextParams);
 
-        ExecutionInterceptorChain executionInterceptorChain = new ExecutionInterceptorChain(clientInterceptors);
-
         InterceptorContext interceptorContext = InterceptorContext.builder()
                                                                   .request(sdkRequest)
                                                                   .build();
         interceptorContext = AwsExecutionContextBuilder.runInitialInterceptors(interceptorContext,
                                                                                executionAttributes,
-                                                                               executionInterceptorChain);
+                                                                               clientInterceptorChain);
         AwsCredentialsAuthorizationStrategy authorizationContext =
             AwsCredentialsAuthorizationStrategy.builder()
                                                .request(interceptorContext.request())
@@ -385,7 +470,7 @@ public final class DefaultS3Presigner extends DefaultSdkPresigner implements S3P
         authorizationContext.addCredentialsToExecutionAttributes(executionAttributes);
 
         return ExecutionContext.builder()
-                               .interceptorChain(executionInterceptorChain)
+                               .interceptorChain(clientInterceptorChain)
                                .interceptorContext(interceptorContext)
                                .executionAttributes(executionAttributes)
                                .signer(authorizationContext.resolveSigner())
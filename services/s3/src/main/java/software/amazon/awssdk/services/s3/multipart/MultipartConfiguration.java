@@ -19,10 +19,14 @@ import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3AsyncClientBuilder;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
 import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.utils.builder.CopyableBuilder;
 import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
 
@@ -35,6 +39,10 @@ import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
  * <em>Note</em>: The multipart operation for {@link S3AsyncClient#getObject(GetObjectRequest, AsyncResponseTransformer)} is
  * temporarily disabled and will result in throwing a {@link UnsupportedOperationException} if called when configured for
  * multipart operation.
+ * <p>
+ * This class can also be passed to the {@link S3ClientBuilder#multipartConfiguration(MultipartConfiguration)}, which will enable
+ * automatic conversion of {@link S3Client#putObject(PutObjectRequest, RequestBody)} to the multipart upload operation. The
+ * parts are read from the {@link RequestBody} into buffers shared by all requests of the client and are uploaded in parallel.
  */
 @SdkPublicApi
 public final class MultipartConfiguration implements ToCopyableBuilder<MultipartConfiguration.Builder, MultipartConfiguration> {
@@ -149,6 +157,9 @@ public final class MultipartConfiguration implements ToCopyableBuilder<Multipart
          * Configures the maximum amount of memory, in bytes, the SDK will use to buffer content of requests in memory.
          * Increasing this value may lead to better performance at the cost of using more memory.
          * <p>
+         * For a {@link S3Client}, this value divided by the part size is the maximum number of parts that are buffered and
+         * uploaded in parallel across all requests of the client.
+         * <p>
          * Default value: If not specified, the SDK will use the equivalent of four parts worth of memory, so 32 Mib by default.
          *
          * @param apiCallBufferSizeInBytes the value of the maximum memory usage.
@@ -17,6 +17,8 @@ package software.amazon.awssdk.services.s3.presigner;
 
 import java.net.URI;
 import java.net.URLConnection;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.Immutable;
 import software.amazon.awssdk.annotations.NotThreadSafe;
@@ -299,6 +301,45 @@ public interface S3Presigner extends SdkPresigner {
         return presignGetObject(builder.build());
     }
 
+    /**
+     * Presign a batch of {@link GetObjectRequest}s so that they can be executed at a later time without requiring additional
+     * signing or authentication.
+     * <p/>
+     * This is equivalent to invoking {@link #presignGetObject(GetObjectPresignRequest)} for each of the provided requests, but
+     * is optimized for presigning a large number of objects. Requests that only differ in their {@link GetObjectRequest#key()}
+     * share a single endpoint resolution, credential resolution and execution of the configured execution interceptors, and
+     * are signed with the same signing time and expiration. For this reason, execution interceptors must not modify the
+     * request based on the object key when using this method.
+     * <p/>
+     *
+     * <b>Example Usage</b>
+     * <p/>
+     *
+     * <pre>
+     * {@code
+     *     S3Presigner presigner = ...;
+     *
+     *     List<GetObjectPresignRequest> presignRequests =
+     *         keys.stream()
+     *             .map(key -> GetObjectPresignRequest.builder()
+     *                                                .signatureDuration(Duration.ofMinutes(10))
+     *                                                .getObjectRequest(r -> r.bucket("bucket").key(key))
+     *                                                .build())
+     *             .collect(Collectors.toList());
+     *
+     *     List<PresignedGetObjectRequest> presignedRequests = presigner.presignGetObjects(presignRequests);
+     * }
+     * </pre>
+     *
+     * @param requests the requests to presign
+     * @return the presigned requests, in the same order as the provided requests
+     */
+    default List<PresignedGetObjectRequest> presignGetObjects(List<GetObjectPresignRequest> requests) {
+        List<PresignedGetObjectRequest> presignedRequests = new ArrayList<>(requests.size());
+        requests.forEach(request -> presignedRequests.add(presignGetObject(request)));
+        return presignedRequests;
+    }
+
     /**
      * Presign a {@link PutObjectRequest} so that it can be executed at a later time without requiring additional
      * signing or authentication.
@@ -25,6 +25,11 @@ import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.assertj.core.data.Offset;
 import org.junit.After;
 import org.junit.Before;
@@ -47,6 +52,7 @@ import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.RequestPayer;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedDeleteObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
@@ -107,6 +113,108 @@ public class S3PresignerTest {
         generateMinimal();
     }
 
+    @Test
+    public void presignGetObjects_sameSigningTime_matchesIndividualPresigning() {
+        Instant signingTime = Instant.parse("2021-08-27T00:00:00Z");
+        TestS3V4Signer signer = new TestS3V4Signer(Clock.fixed(signingTime, ZoneId.of("UTC")),
+                                                   signingTime.plus(Duration.ofMinutes(5)));
+
+        List<GetObjectPresignRequest> requests =
+            Stream.of("key1", "dir/key 2", "key+3?")
+                  .map(key -> GetObjectPresignRequest.builder()
+                                                     .signatureDuration(Duration.ofMinutes(5))
+                                                     .getObjectRequest(go -> go.bucket(BUCKET)
+                                                                               .key(key)
+                                                                               .overrideConfiguration(o -> o.signer(signer)))
+                                                     .build())
+                  .collect(Collectors.toList());
+
+        List<PresignedGetObjectRequest> presigned = presigner.presignGetObjects(requests);
+
+        assertThat(presigned).hasSize(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            assertThat(presigned.get(i).url()).isEqualTo(presigner.presignGetObject(requests.get(i)).url());
+        }
+    }
+
+    @Test
+    public void presignGetObjects_sharedGroup_usesSameSigningTimeAndExpiration() {
+        List<GetObjectPresignRequest> requests =
+            Stream.of("key1", "key2", "key3")
+                  .map(key -> GetObjectPresignRequest.builder()
+                                                     .signatureDuration(Duration.ofMinutes(5))
+                                                     .getObjectRequest(go -> go.bucket(BUCKET).key(key))
+                                                     .build())
+                  .collect(Collectors.toList());
+
+        List<PresignedGetObjectRequest> presigned = presigner.presignGetObjects(requests);
+
+        assertThat(presigned).extracting(PresignedGetObjectRequest::expiration).containsOnly(presigned.get(0).expiration());
+        assertThat(presigned).extracting(p -> p.httpRequest().firstMatchingRawQueryParameter("X-Amz-Date").get())
+                             .containsOnly(presigned.get(0).httpRequest().firstMatchingRawQueryParameter("X-Amz-Date").get());
+        assertThat(presigned).extracting(p -> p.url().getPath()).containsExactly("/key1", "/key2", "/key3");
+        assertThat(presigned).extracting(p -> p.httpRequest().firstMatchingRawQueryParameter("X-Amz-Signature").get())
+                             .doesNotHaveDuplicates();
+        assertThat(presigned).allMatch(PresignedGetObjectRequest::isBrowserExecutable);
+    }
+
+    @Test
+    public void presignGetObjects_multipleGroups_preservesOrder() {
+        List<GetObjectPresignRequest> requests = Arrays.asList(
+            GetObjectPresignRequest.builder()
+                                   .signatureDuration(Duration.ofMinutes(5))
+                                   .getObjectRequest(go -> go.bucket("bucket-a").key("key1"))
+                                   .build(),
+            GetObjectPresignRequest.builder()
+                                   .signatureDuration(Duration.ofMinutes(5))
+                                   .getObjectRequest(go -> go.bucket("bucket-b").key("key2"))
+                                   .build(),
+            GetObjectPresignRequest.builder()
+                                   .signatureDuration(Duration.ofMinutes(5))
+                                   .getObjectRequest(go -> go.bucket("bucket-a").key("key3").versionId("version"))
+                                   .build(),
+            GetObjectPresignRequest.builder()
+                                   .signatureDuration(Duration.ofMinutes(10))
+                                   .getObjectRequest(go -> go.bucket("bucket-a").key("key4"))
+                                   .build());
+
+        List<PresignedGetObjectRequest> presigned = presigner.presignGetObjects(requests);
+
+        assertThat(presigned).extracting(p -> p.url().getHost() + p.url().getPath())
+                             .containsExactly("bucket-a.s3.us-west-2.amazonaws.com/key1",
+                                              "bucket-b.s3.us-west-2.amazonaws.com/key2",
+                                              "bucket-a.s3.us-west-2.amazonaws.com/key3",
+                                              "bucket-a.s3.us-west-2.amazonaws.com/key4");
+        assertThat(presigned.get(2).httpRequest().firstMatchingRawQueryParameter("versionId")).hasValue("version");
+        assertThat(presigned.get(3).expiration()).isAfter(presigned.get(0).expiration());
+    }
+
+    @Test
+    public void presignGetObjects_pathStyle_includesBucketInPath() {
+        S3Presigner pathStylePresigner =
+            presignerBuilder().serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build())
+                              .build();
+
+        List<GetObjectPresignRequest> requests =
+            Stream.of("key1", "key2")
+                  .map(key -> GetObjectPresignRequest.builder()
+                                                     .signatureDuration(Duration.ofMinutes(5))
+                                                     .getObjectRequest(go -> go.bucket(BUCKET).key(key))
+                                                     .build())
+                  .collect(Collectors.toList());
+
+        List<PresignedGetObjectRequest> presigned = pathStylePresigner.presignGetObjects(requests);
+
+        assertThat(presigned).extracting(p -> p.url().getHost() + p.url().getPath())
+                             .containsExactly("s3.us-west-2.amazonaws.com/" + BUCKET + "/key1",
+                                              "s3.us-west-2.amazonaws.com/" + BUCKET + "/key2");
+    }
+
+    @Test
+    public void presignGetObjects_emptyList_returnsEmptyList() {
+        assertThat(presigner.presignGetObjects(Collections.emptyList())).isEmpty();
+    }
+
     @Test
     public void getObject_SignatureIsUrlCompatible() {
         PresignedGetObjectRequest presigned =
@@ -0,0 +1,170 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.crossregion;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.regions.Region;
+
+class BucketRegionCacheTest {
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    private MutableClock clock;
+    private BucketRegionCache cache;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock();
+        cache = BucketRegionCache.create(2, TTL, clock);
+    }
+
+    @Test
+    void get_notCached_shouldBeEmpty() {
+        assertThat(cache.get("bucket")).isEmpty();
+    }
+
+    @Test
+    void put_shouldBeReturnedUntilExpired() {
+        cache.put("bucket", Region.EU_WEST_1);
+        assertThat(cache.get("bucket")).contains(Region.EU_WEST_1);
+
+        clock.advance(TTL.minusSeconds(1));
+        assertThat(cache.get("bucket")).contains(Region.EU_WEST_1);
+
+        clock.advance(Duration.ofSeconds(1));
+        assertThat(cache.get("bucket")).isEmpty();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void put_exceedsMaxSize_shouldEvictLeastRecentlyUsed() {
+        cache.put("bucket1", Region.EU_WEST_1);
+        cache.put("bucket2", Region.EU_WEST_2);
+        cache.get("bucket1");
+        cache.put("bucket3", Region.EU_WEST_3);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("bucket1")).contains(Region.EU_WEST_1);
+        assertThat(cache.get("bucket2")).isEmpty();
+        assertThat(cache.get("bucket3")).contains(Region.EU_WEST_3);
+    }
+
+    @Test
+    void remove_shouldRemoveEntry() {
+        cache.put("bucket", Region.EU_WEST_1);
+        cache.remove("bucket");
+        assertThat(cache.get("bucket")).isEmpty();
+    }
+
+    @Test
+    void resolve_cached_shouldNotInvokeLookup() {
+        cache.put("bucket", Region.EU_WEST_1);
+        AtomicInteger lookups = new AtomicInteger();
+
+        Region region = cache.resolve("bucket", b -> {
+            lookups.incrementAndGet();
+            return CompletableFuture.completedFuture(Region.US_EAST_1);
+        }).join();
+
+        assertThat(region).isEqualTo(Region.EU_WEST_1);
+        assertThat(lookups).hasValue(0);
+    }
+
+    @Test
+    void resolve_concurrentLookups_shouldBeCoalesced() {
+        CompletableFuture<Region> lookupFuture = new CompletableFuture<>();
+        AtomicInteger lookups = new AtomicInteger();
+
+        CompletableFuture<Region> first = cache.resolve("bucket", b -> {
+            lookups.incrementAndGet();
+            return lookupFuture;
+        });
+        CompletableFuture<Region> second = cache.resolve("bucket", b -> {
+            lookups.incrementAndGet();
+            return lookupFuture;
+        });
+
+        assertThat(first).isNotDone();
+        assertThat(second).isNotDone();
+
+        lookupFuture.complete(Region.EU_WEST_1);
+
+        assertThat(first.join()).isEqualTo(Region.EU_WEST_1);
+        assertThat(second.join()).isEqualTo(Region.EU_WEST_1);
+        assertThat(lookups).hasValue(1);
+        assertThat(cache.get("bucket")).contains(Region.EU_WEST_1);
+    }
+
+    @Test
+    void resolve_cancelledByOneCaller_shouldNotAffectOtherCallers() {
+        CompletableFuture<Region> lookupFuture = new CompletableFuture<>();
+
+        CompletableFuture<Region> first = cache.resolve("bucket", b -> lookupFuture);
+        CompletableFuture<Region> second = cache.resolve("bucket", b -> lookupFuture);
+        first.cancel(true);
+
+        lookupFuture.complete(Region.EU_WEST_1);
+
+        assertThat(second.join()).isEqualTo(Region.EU_WEST_1);
+    }
+
+    @Test
+    void resolve_lookupFails_shouldNotCacheAndAllowRetry() {
+        RuntimeException exception = new RuntimeException("failed");
+
+        assertThatThrownBy(() -> cache.resolve("bucket", b -> {
+            throw exception;
+        }).join()).isInstanceOf(CompletionException.class).hasCause(exception);
+        assertThat(cache.get("bucket")).isEmpty();
+
+        Region region = cache.resolve("bucket", b -> CompletableFuture.completedFuture(Region.EU_WEST_1)).join();
+        assertThat(region).isEqualTo(Region.EU_WEST_1);
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.now();
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -57,6 +57,7 @@ import software.amazon.awssdk.services.s3.S3AsyncClientBuilder;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.S3Configuration;
 import software.amazon.awssdk.services.s3.S3ServiceClientConfiguration;
+import software.amazon.awssdk.services.s3.crossregion.S3AsyncBucketRegionPrefetcher;
 import software.amazon.awssdk.services.s3.endpoints.internal.DefaultS3EndpointProvider;
 import software.amazon.awssdk.services.s3.internal.crossregion.endpointprovider.BucketEndpointProvider;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
@@ -317,6 +318,55 @@ class S3CrossRegionAsyncClientTest {
     }
 
 
+    @Test
+    void prefetchBucketRegions_shouldSendFirstRequestToResolvedRegion() {
+        mockAsyncHttpClient.stubResponses(customHttpResponse(200, CROSS_REGION.id()), successHttpResponse());
+        S3CrossRegionAsyncClient crossRegionClient =
+            new S3CrossRegionAsyncClient(clientBuilder().endpointOverride(null).region(OVERRIDE_CONFIGURED_REGION).build());
+
+        crossRegionClient.prefetchBucketRegions(Arrays.asList(BUCKET)).join();
+        crossRegionClient.prefetchBucketRegions(Arrays.asList(BUCKET)).join();
+        crossRegionClient.getObject(r -> r.bucket(BUCKET).key(KEY), AsyncResponseTransformer.toBytes()).join();
+
+        List<SdkHttpRequest> requests = mockAsyncHttpClient.getRequests();
+        assertThat(requests.stream().map(req -> req.host().substring(10,req.host().length() - 14 )).collect(Collectors.toList()))
+            .isEqualTo(Arrays.asList(OVERRIDE_CONFIGURED_REGION.id(), CROSS_REGION.id()));
+        assertThat(requests.stream().map(req -> req.method()).collect(Collectors.toList()))
+            .isEqualTo(Arrays.asList(SdkHttpMethod.HEAD, SdkHttpMethod.GET));
+    }
+
+    @Test
+    void prefetchBucketRegions_headBucketRedirects_shouldUseRegionFromRedirect() {
+        mockAsyncHttpClient.stubResponses(customHttpResponse(301, CROSS_REGION.id()), successHttpResponse());
+        S3CrossRegionAsyncClient crossRegionClient =
+            new S3CrossRegionAsyncClient(clientBuilder().endpointOverride(null).region(OVERRIDE_CONFIGURED_REGION).build());
+
+        crossRegionClient.prefetchBucketRegions(Arrays.asList(BUCKET)).join();
+        crossRegionClient.getObject(r -> r.bucket(BUCKET).key(KEY), AsyncResponseTransformer.toBytes()).join();
+
+        assertThat(mockAsyncHttpClient.getLastRequest().host()).contains(CROSS_REGION.id());
+        assertThat(captureInterceptor.endpointProvider).isInstanceOf(BucketEndpointProvider.class);
+    }
+
+    @Test
+    void bucketRegionPrefetcher_crossRegionEnabled_shouldResolveRegionsThroughOtherDecorators() {
+        mockAsyncHttpClient.stubResponses(customHttpResponse(200, CROSS_REGION.id()));
+        S3AsyncClient client = clientBuilder().endpointOverride(null)
+                                              .region(OVERRIDE_CONFIGURED_REGION)
+                                              .crossRegionAccessEnabled(true)
+                                              .multipartEnabled(true)
+                                              .build();
+
+        S3AsyncBucketRegionPrefetcher.of(client).get().prefetchBucketRegions(Arrays.asList(BUCKET)).join();
+
+        assertThat(mockAsyncHttpClient.getLastRequest().method()).isEqualTo(SdkHttpMethod.HEAD);
+    }
+
+    @Test
+    void bucketRegionPrefetcher_crossRegionDisabled_shouldBeEmpty() {
+        assertThat(S3AsyncBucketRegionPrefetcher.of(clientBuilder().multipartEnabled(true).build())).isEmpty();
+    }
+
     @Test
     void standardOp_crossRegionClient_containUserAgent() {
         mockAsyncHttpClient.stubResponses(successHttpResponse());
@@ -44,6 +44,7 @@ import software.amazon.awssdk.http.SdkHttpRequest;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.crossregion.S3BucketRegionPrefetcher;
 import software.amazon.awssdk.services.s3.endpoints.internal.DefaultS3EndpointProvider;
 import software.amazon.awssdk.services.s3.internal.crossregion.endpointprovider.BucketEndpointProvider;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
@@ -339,6 +340,45 @@ class S3CrossRegionSyncClientTest {
     }
 
 
+    @Test
+    void prefetchBucketRegions_shouldSendFirstRequestToResolvedRegion() {
+        mockSyncHttpClient.stubResponses(customHttpResponse(200, CROSS_REGION.id()), successHttpResponse());
+        S3CrossRegionSyncClient crossRegionClient =
+            new S3CrossRegionSyncClient(clientBuilder().endpointOverride(null).region(OVERRIDE_CONFIGURED_REGION).build());
+
+        crossRegionClient.prefetchBucketRegions(Arrays.asList(BUCKET));
+        crossRegionClient.prefetchBucketRegions(Arrays.asList(BUCKET));
+        crossRegionClient.getObject(r -> r.bucket(BUCKET).key(KEY));
+
+        List<SdkHttpRequest> requests = mockSyncHttpClient.getRequests();
+        assertThat(requests.stream().map(req -> req.host().substring(10,req.host().length() - 14 )).collect(Collectors.toList()))
+            .isEqualTo(Arrays.asList(OVERRIDE_CONFIGURED_REGION.id(), CROSS_REGION.id()));
+        assertThat(requests.stream().map(req -> req.method()).collect(Collectors.toList()))
+            .isEqualTo(Arrays.asList(SdkHttpMethod.HEAD, SdkHttpMethod.GET));
+    }
+
+    @Test
+    void bucketRegionPrefetcher_crossRegionEnabled_shouldSendFirstRequestToResolvedRegion() {
+        mockSyncHttpClient.stubResponses(customHttpResponse(200, CROSS_REGION.id()), successHttpResponse());
+        S3Client client = clientBuilder().endpointOverride(null)
+                                         .region(OVERRIDE_CONFIGURED_REGION)
+                                         .crossRegionAccessEnabled(true)
+                                         .build();
+
+        S3BucketRegionPrefetcher.of(client).get().prefetchBucketRegions(Arrays.asList(BUCKET));
+        client.getObject(r -> r.bucket(BUCKET).key(KEY));
+
+        List<SdkHttpRequest> requests = mockSyncHttpClient.getRequests();
+        assertThat(requests.stream().map(req -> req.method()).collect(Collectors.toList()))
+            .isEqualTo(Arrays.asList(SdkHttpMethod.HEAD, SdkHttpMethod.GET));
+        assertThat(mockSyncHttpClient.getLastRequest().host()).contains(CROSS_REGION.id());
+    }
+
+    @Test
+    void bucketRegionPrefetcher_crossRegionDisabled_shouldBeEmpty() {
+        assertThat(S3BucketRegionPrefetcher.of(clientBuilder().build())).isEmpty();
+    }
+
     @Test
     void standardOp_crossRegionClient_containUserAgent() {
         mockSyncHttpClient.stubResponses(successHttpResponse());
@@ -20,6 +20,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import org.junit.jupiter.api.Test;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.multipart.MultipartConfiguration;
 
 class S3MultipartClientBuilderTest {
@@ -60,4 +61,24 @@ class S3MultipartClientBuilderTest {
                                             .build();
         assertThat(client).isNotInstanceOf(MultipartS3AsyncClient.class);
     }
+
+    @Test
+    void syncClient_multipartEnabled_shouldBuildMultipartClient() {
+        S3Client client = S3Client.builder()
+                                  .multipartEnabled(true)
+                                  .multipartConfiguration(b -> b.minimumPartSizeInBytes(5L * 1024 * 1024))
+                                  .region(Region.US_EAST_1)
+                                  .build();
+        assertThat(client).isInstanceOf(MultipartS3Client.class);
+        client.close();
+    }
+
+    @Test
+    void syncClient_noMultipart_shouldNotBeMultipartClient() {
+        S3Client client = S3Client.builder()
+                                  .multipartConfiguration(MultipartConfiguration.builder().build())
+                                  .region(Region.US_EAST_1)
+                                  .build();
+        assertThat(client).isNotInstanceOf(MultipartS3Client.class);
+    }
 }
@@ -0,0 +1,271 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+import software.amazon.awssdk.services.s3.multipart.MultipartConfiguration;
+import software.amazon.awssdk.utils.IoUtils;
+
+class SyncUploadObjectHelperTest {
+    private static final String BUCKET = "bucket";
+    private static final String KEY = "key";
+    private static final String UPLOAD_ID = "1234";
+    private static final int PART_SIZE = 8 * 1024;
+
+    // Should contain four parts: [8KB, 8KB, 8KB, 1KB]
+    private static final int MPU_CONTENT_SIZE = 25 * 1024;
+
+    private S3Client s3Client;
+    private ExecutorService executor;
+    private SyncUploadObjectHelper uploadHelper;
+    private Map<Integer, byte[]> uploadedParts;
+    private AtomicInteger partsInFlight;
+    private AtomicInteger maxPartsInFlight;
+
+    @BeforeEach
+    void setUp() {
+        s3Client = Mockito.mock(S3Client.class);
+        uploadedParts = new ConcurrentHashMap<>();
+        partsInFlight = new AtomicInteger();
+        maxPartsInFlight = new AtomicInteger();
+        MultipartConfiguration configuration = MultipartConfiguration.builder()
+                                                                     .minimumPartSizeInBytes((long) PART_SIZE)
+                                                                     .thresholdInBytes((long) PART_SIZE)
+                                                                     .apiCallBufferSizeInBytes(2L * PART_SIZE)
+                                                                     .build();
+        uploadHelper = new SyncUploadObjectHelper(s3Client, new MultipartConfigurationResolver(configuration), threads -> {
+            executor = Executors.newFixedThreadPool(threads);
+            return executor;
+        });
+
+        when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+            .thenReturn(CreateMultipartUploadResponse.builder().uploadId(UPLOAD_ID).build());
+        when(s3Client.completeMultipartUpload(any(CompleteMultipartUploadRequest.class)))
+            .thenReturn(CompleteMultipartUploadResponse.builder().eTag("etag").build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        uploadHelper.close();
+    }
+
+    @Test
+    void uploadObject_contentLengthDoesNotExceedPartSize_shouldUploadInOneRequest() {
+        PutObjectRequest putObjectRequest = putObjectRequest();
+        RequestBody requestBody = RequestBody.fromBytes(randomBytes(PART_SIZE));
+        when(s3Client.putObject(putObjectRequest, requestBody)).thenReturn(PutObjectResponse.builder().build());
+
+        uploadHelper.uploadObject(putObjectRequest, requestBody);
+
+        verify(s3Client).putObject(putObjectRequest, requestBody);
+        verify(s3Client, never()).createMultipartUpload(any(CreateMultipartUploadRequest.class));
+    }
+
+    @Test
+    void uploadObject_knownContentLength_shouldUploadPartsInOrder() {
+        byte[] content = randomBytes(MPU_CONTENT_SIZE);
+        stubSuccessfulUploadPart();
+
+        PutObjectResponse response = uploadHelper.uploadObject(putObjectRequest(), RequestBody.fromBytes(content));
+
+        assertThat(response.eTag()).isEqualTo("etag");
+        assertThat(uploadedParts).hasSize(4);
+        assertThat(uploadedParts.get(4)).hasSize(1024);
+        assertThat(concatenateParts()).isEqualTo(content);
+        assertThat(maxPartsInFlight.get()).isLessThanOrEqualTo(2);
+
+        ArgumentCaptor<CompleteMultipartUploadRequest> completeRequest =
+            ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        verify(s3Client).completeMultipartUpload(completeRequest.capture());
+        List<CompletedPart> parts = completeRequest.getValue().multipartUpload().parts();
+        assertThat(parts).extracting(CompletedPart::partNumber).containsExactly(1, 2, 3, 4);
+        assertThat(parts).extracting(CompletedPart::eTag).containsExactly("etag1", "etag2", "etag3", "etag4");
+    }
+
+    @Test
+    void uploadObject_unknownContentLength_shouldUploadInParts() {
+        byte[] content = randomBytes(MPU_CONTENT_SIZE);
+        stubSuccessfulUploadPart();
+
+        uploadHelper.uploadObject(putObjectRequest(),
+                                  RequestBody.fromContentProvider(() -> new ByteArrayInputStream(content), "text/plain"));
+
+        assertThat(concatenateParts()).isEqualTo(content);
+        ArgumentCaptor<CreateMultipartUploadRequest> createRequest = ArgumentCaptor.forClass(CreateMultipartUploadRequest.class);
+        verify(s3Client).createMultipartUpload(createRequest.capture());
+        assertThat(createRequest.getValue().contentType()).isEqualTo("text/plain");
+    }
+
+    @Test
+    void uploadObject_unknownContentLengthSmallerThanPart_shouldUploadInOneRequest() throws IOException {
+        byte[] content = randomBytes(PART_SIZE - 1);
+        ArgumentCaptor<RequestBody> requestBody = ArgumentCaptor.forClass(RequestBody.class);
+        when(s3Client.putObject(any(PutObjectRequest.class), requestBody.capture()))
+            .thenReturn(PutObjectResponse.builder().build());
+
+        uploadHelper.uploadObject(putObjectRequest(),
+                                  RequestBody.fromContentProvider(() -> new ByteArrayInputStream(content), "text/plain"));
+
+        verify(s3Client, never()).createMultipartUpload(any(CreateMultipartUploadRequest.class));
+        assertThat(requestBody.getValue().optionalContentLength()).hasValue((long) content.length);
+        assertThat(IoUtils.toByteArray(requestBody.getValue().contentStreamProvider().newStream())).isEqualTo(content);
+    }
+
+    @Test
+    void uploadObject_partFails_shouldAbortMultipartUpload() {
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+            .thenReturn(UploadPartResponse.builder().eTag("etag").build())
+            .thenThrow(S3Exception.builder().message("Part failed").build());
+
+        assertThatThrownBy(() -> uploadHelper.uploadObject(putObjectRequest(),
+                                                           RequestBody.fromBytes(randomBytes(MPU_CONTENT_SIZE))))
+            .isInstanceOf(SdkClientException.class)
+            .hasMessageContaining("Failed to send multipart upload requests")
+            .hasRootCauseInstanceOf(S3Exception.class);
+
+        ArgumentCaptor<AbortMultipartUploadRequest> abortRequest = ArgumentCaptor.forClass(AbortMultipartUploadRequest.class);
+        verify(s3Client).abortMultipartUpload(abortRequest.capture());
+        assertThat(abortRequest.getValue().uploadId()).isEqualTo(UPLOAD_ID);
+        verify(s3Client, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+    }
+
+    @Test
+    void uploadObject_readFails_shouldAbortMultipartUpload() {
+        stubSuccessfulUploadPart();
+        byte[] content = randomBytes(MPU_CONTENT_SIZE);
+        RequestBody requestBody = RequestBody.fromContentProvider(() -> new FailingInputStream(content, 2 * PART_SIZE),
+                                                                  "text/plain");
+
+        assertThatThrownBy(() -> uploadHelper.uploadObject(putObjectRequest(), requestBody))
+            .isInstanceOf(SdkClientException.class)
+            .hasRootCauseInstanceOf(IOException.class);
+
+        verify(s3Client, times(2)).uploadPart(any(UploadPartRequest.class), any(RequestBody.class));
+        verify(s3Client).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+    }
+
+    @Test
+    void uploadObject_sequentialUploads_shouldReuseBuffers() {
+        stubSuccessfulUploadPart();
+
+        for (int i = 0; i < 3; i++) {
+            uploadedParts.clear();
+            byte[] content = randomBytes(MPU_CONTENT_SIZE);
+            uploadHelper.uploadObject(putObjectRequest(), RequestBody.fromBytes(content));
+            assertThat(concatenateParts()).isEqualTo(content);
+        }
+        assertThat(maxPartsInFlight.get()).isLessThanOrEqualTo(2);
+    }
+
+    private void stubSuccessfulUploadPart() {
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class))).thenAnswer(invocation -> {
+            int inFlight = partsInFlight.incrementAndGet();
+            maxPartsInFlight.accumulateAndGet(inFlight, Math::max);
+            try {
+                UploadPartRequest request = invocation.getArgument(0);
+                RequestBody body = invocation.getArgument(1);
+                byte[] bytes = IoUtils.toByteArray(body.contentStreamProvider().newStream());
+                assertThat(request.contentLength()).isEqualTo(bytes.length);
+                uploadedParts.put(request.partNumber(), bytes);
+                return UploadPartResponse.builder().eTag("etag" + request.partNumber()).build();
+            } finally {
+                partsInFlight.decrementAndGet();
+            }
+        });
+    }
+
+    private byte[] concatenateParts() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (int i = 1; i <= uploadedParts.size(); i++) {
+            byte[] part = uploadedParts.get(i);
+            out.write(part, 0, part.length);
+        }
+        return out.toByteArray();
+    }
+
+    private static PutObjectRequest putObjectRequest() {
+        return PutObjectRequest.builder().bucket(BUCKET).key(KEY).build();
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        ThreadLocalRandom.current().nextBytes(bytes);
+        return bytes;
+    }
+
+    private static final class FailingInputStream extends InputStream {
+        private final InputStream delegate;
+        private int remaining;
+
+        private FailingInputStream(byte[] content, int failAfter) {
+            this.delegate = new ByteArrayInputStream(content);
+            this.remaining = failAfter;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] b = new byte[1];
+            return read(b, 0, 1) < 0 ? -1 : b[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (remaining <= 0) {
+                throw new IOException("Read failed");
+            }
+            int read = delegate.read(b, off, Math.min(len, remaining));
+            remaining -= read;
+            return read;
+        }
+    }
+}
@@ -177,6 +177,8 @@ public abstract class BaseAsyncCoreMetricsTest {
             .isGreaterThanOrEqualTo(Duration.ZERO);
         assertThat(attemptCollection.metricValues(CoreMetric.SIGNING_DURATION).get(0))
             .isGreaterThanOrEqualTo(Duration.ZERO);
+        assertThat(attemptCollection.metricValues(CoreMetric.RESPONSE_BYTES_READ))
+            .containsExactly(2L);
     }
 
     private void verifyFailedApiCallCollection(MetricCollection capturedCollection) {
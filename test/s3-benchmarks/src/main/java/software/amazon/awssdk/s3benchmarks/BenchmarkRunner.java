@@ -61,6 +61,7 @@ public final class BenchmarkRunner {
         OPERATION_TO_BENCHMARK_V2.put(TransferManagerOperation.UPLOAD, TransferManagerBenchmark::v2Upload);
         OPERATION_TO_BENCHMARK_V2.put(TransferManagerOperation.DOWNLOAD_DIRECTORY, TransferManagerBenchmark::downloadDirectory);
         OPERATION_TO_BENCHMARK_V2.put(TransferManagerOperation.UPLOAD_DIRECTORY, TransferManagerBenchmark::uploadDirectory);
+        OPERATION_TO_BENCHMARK_V2.put(TransferManagerOperation.COPY_DIRECTORY, TransferManagerBenchmark::copyDirectory);
 
         OPERATION_TO_BENCHMARK_V1.put(TransferManagerOperation.COPY, TransferManagerBenchmark::v1Copy);
         OPERATION_TO_BENCHMARK_V1.put(TransferManagerOperation.DOWNLOAD, TransferManagerBenchmark::v1Download);
@@ -80,7 +81,7 @@ public final class BenchmarkRunner {
         options.addRequiredOption(null, BUCKET, true, "The s3 bucket");
         options.addOption(null, KEY, true, "The s3 key");
         options.addRequiredOption(null, OPERATION, true, "The operation to run tests: download | upload | download_directory | "
-                                                         + "upload_directory | copy");
+                                                         + "upload_directory | copy | copy_directory");
         options.addOption(null, FILE, true, "Destination file path to be written to or source file path to be "
                                             + "uploaded");
         options.addOption(null, PART_SIZE_IN_MB, true, "Part size in MB");
@@ -90,7 +91,7 @@ public final class BenchmarkRunner {
         options.addOption(null, READ_BUFFER_IN_MB, true, "Read buffer size in MB");
         options.addOption(null, VERSION, true, "The major version of the transfer manager to run test: "
                                                + "v1 | v2 | crt | java, default: v2");
-        options.addOption(null, PREFIX, true, "S3 Prefix used in downloadDirectory and uploadDirectory");
+        options.addOption(null, PREFIX, true, "S3 Prefix used in downloadDirectory, uploadDirectory and copyDirectory");
 
         options.addOption(null, CONTENT_LENGTH, true, "Content length to upload from memory. Used only in the "
                                                       + "CRT Upload Benchmark, but "
@@ -213,7 +214,8 @@ public final class BenchmarkRunner {
         UPLOAD,
         COPY,
         DOWNLOAD_DIRECTORY,
-        UPLOAD_DIRECTORY
+        UPLOAD_DIRECTORY,
+        COPY_DIRECTORY
     }
 
     private enum SdkVersion {
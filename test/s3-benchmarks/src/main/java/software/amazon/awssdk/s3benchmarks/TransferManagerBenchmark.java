@@ -48,6 +48,10 @@ public interface TransferManagerBenchmark {
         return new TransferManagerCopyBenchmark(config);
     }
 
+    static TransferManagerBenchmark copyDirectory(TransferManagerBenchmarkConfig config) {
+        return new TransferManagerCopyDirectoryBenchmark(config);
+    }
+
     static TransferManagerBenchmark v1Download(TransferManagerBenchmarkConfig config) {
         return new V1TransferManagerDownloadBenchmark(config);
     }
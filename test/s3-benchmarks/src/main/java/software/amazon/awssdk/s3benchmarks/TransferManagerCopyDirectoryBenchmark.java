@@ -0,0 +1,76 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.s3benchmarks;
+
+import static software.amazon.awssdk.s3benchmarks.BenchmarkUtils.COPY_SUFFIX;
+import static software.amazon.awssdk.s3benchmarks.BenchmarkUtils.printOutResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import software.amazon.awssdk.transfer.s3.model.CompletedDirectoryCopy;
+import software.amazon.awssdk.transfer.s3.model.DirectoryCopy;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Validate;
+
+public class TransferManagerCopyDirectoryBenchmark extends BaseTransferManagerBenchmark {
+    private static final Logger logger = Logger.loggerFor("TransferManagerCopyDirectoryBenchmark");
+    private final String prefix;
+    private final String destinationPrefix;
+
+    public TransferManagerCopyDirectoryBenchmark(TransferManagerBenchmarkConfig config) {
+        super(config);
+        this.prefix = Validate.notNull(config.prefix(), "Prefix must not be null");
+        this.destinationPrefix = prefix.endsWith("/") ? prefix.substring(0, prefix.length() - 1) + COPY_SUFFIX + "/"
+                                                      : prefix + COPY_SUFFIX;
+    }
+
+    @Override
+    protected void doRunBenchmark() {
+        try {
+            copyDirectory(iteration, true);
+        } catch (Exception exception) {
+            logger.error(() -> "Request failed: ", exception);
+        }
+    }
+
+    private void copyDirectory(int count, boolean printoutResult) throws Exception {
+        List<Double> metrics = new ArrayList<>();
+        logger.info(() -> "Starting to copy directory");
+        for (int i = 0; i < count; i++) {
+            copyOnce(metrics);
+        }
+        if (printoutResult) {
+            printOutResult(metrics, "TM v2 Copy Directory");
+        }
+    }
+
+    private void copyOnce(List<Double> latencies) throws Exception {
+        long start = System.currentTimeMillis();
+        DirectoryCopy copy =
+            transferManager.copyDirectory(b -> b.sourceBucket(bucket)
+                                                .destinationBucket(bucket)
+                                                .listObjectsV2RequestTransformer(l -> l.prefix(prefix))
+                                                .destinationPrefix(destinationPrefix));
+        CompletedDirectoryCopy completedDirectoryCopy = copy.completionFuture().get(timeout.getSeconds(), TimeUnit.SECONDS);
+        if (completedDirectoryCopy.failedTransfers().isEmpty()) {
+            long end = System.currentTimeMillis();
+            latencies.add((end - start) / 1000.0);
+        } else {
+            logger.error(() -> "Some transfers failed: " + completedDirectoryCopy.failedTransfers());
+        }
+    }
+}
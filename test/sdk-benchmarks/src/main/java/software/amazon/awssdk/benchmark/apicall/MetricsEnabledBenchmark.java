@@ -15,6 +15,8 @@
 
 package software.amazon.awssdk.benchmark.apicall;
 
+import java.net.URI;
+import java.time.Duration;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Level;
@@ -23,6 +25,7 @@ import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.options.Options;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
@@ -30,11 +33,16 @@ import software.amazon.awssdk.benchmark.utils.MockServer;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.core.client.builder.SdkClientBuilder;
+import software.amazon.awssdk.core.metrics.CoreMetric;
 import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.http.HttpMetric;
 import software.amazon.awssdk.http.apache.ApacheHttpClient;
 import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
 import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
 import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.awssdk.metrics.MetricRecord;
+import software.amazon.awssdk.metrics.NoOpMetricCollector;
 import software.amazon.awssdk.services.protocolrestjson.ProtocolRestJsonAsyncClient;
 import software.amazon.awssdk.services.protocolrestjson.ProtocolRestJsonAsyncClientBuilder;
 import software.amazon.awssdk.services.protocolrestjson.ProtocolRestJsonClient;
@@ -44,13 +52,20 @@ import software.amazon.awssdk.services.protocolrestjson.model.StreamingOutputOpe
 
 /**
  * Benchmarking comparing metrics-enabled versus metrics-disabled performance.
+ * <p>
+ * The {@code collector*} benchmarks isolate the cost of the default {@link MetricCollector} by reporting the metrics of a
+ * typical API call attempt and reading them back, compared to the same calls on a {@link NoOpMetricCollector}.
  */
 @State(Scope.Benchmark)
 @BenchmarkMode(Mode.Throughput)
 public class MetricsEnabledBenchmark {
+    private static final URI SERVICE_ENDPOINT = URI.create("http://localhost");
+
     private MockServer mockServer;
     private ProtocolRestJsonClient enabledMetricsSyncClient;
     private ProtocolRestJsonAsyncClient enabledMetricsAsyncClient;
+    private ProtocolRestJsonClient disabledMetricsSyncClient;
+    private ProtocolRestJsonAsyncClient disabledMetricsAsyncClient;
 
     @Setup(Level.Trial)
     public void setup() throws Exception {
@@ -58,6 +73,8 @@ public class MetricsEnabledBenchmark {
         mockServer.start();
         enabledMetricsSyncClient = enableMetrics(syncClientBuilder()).build();
         enabledMetricsAsyncClient = enableMetrics(asyncClientBuilder()).build();
+        disabledMetricsSyncClient = syncClientBuilder().build();
+        disabledMetricsAsyncClient = asyncClientBuilder().build();
     }
 
     private <T extends SdkClientBuilder<T, ?>> T enableMetrics(T syncClientBuilder) {
@@ -81,6 +98,8 @@ public class MetricsEnabledBenchmark {
         mockServer.stop();
         enabledMetricsSyncClient.close();
         enabledMetricsAsyncClient.close();
+        disabledMetricsSyncClient.close();
+        disabledMetricsAsyncClient.close();
     }
 
     @Benchmark
@@ -93,6 +112,26 @@ public class MetricsEnabledBenchmark {
         enabledMetricsAsyncClient.allTypes().join();
     }
 
+    @Benchmark
+    public void metricsDisabledSync() {
+        disabledMetricsSyncClient.allTypes();
+    }
+
+    @Benchmark
+    public void metricsDisabledAsync() {
+        disabledMetricsAsyncClient.allTypes().join();
+    }
+
+    @Benchmark
+    public void collectorDefault(Blackhole blackhole) {
+        reportAndCollect(MetricCollector.create("ApiCall"), blackhole);
+    }
+
+    @Benchmark
+    public void collectorNoOp(Blackhole blackhole) {
+        reportAndCollect(NoOpMetricCollector.create(), blackhole);
+    }
+
     @Benchmark
     public void metricsEnabledSyncStreamingInput() {
         enabledMetricsSyncClient.streamingInputOperation(streamingInputRequest(), RequestBody.fromString(""));
@@ -113,6 +152,42 @@ public class MetricsEnabledBenchmark {
         enabledMetricsAsyncClient.streamingOutputOperation(streamingOutputRequest(), AsyncResponseTransformer.toBytes()).join();
     }
 
+    private static void reportAndCollect(MetricCollector apiCallCollector, Blackhole blackhole) {
+        MetricCollector attemptCollector = apiCallCollector.createChild("ApiCallAttempt");
+        MetricCollector httpClientCollector = attemptCollector.createChild("HttpClient");
+
+        httpClientCollector.reportMetric(HttpMetric.HTTP_CLIENT_NAME, "Apache");
+        httpClientCollector.reportMetric(HttpMetric.MAX_CONCURRENCY, 50);
+        httpClientCollector.reportMetric(HttpMetric.AVAILABLE_CONCURRENCY, 49);
+        httpClientCollector.reportMetric(HttpMetric.LEASED_CONCURRENCY, 1);
+        httpClientCollector.reportMetric(HttpMetric.PENDING_CONCURRENCY_ACQUIRES, 0);
+        httpClientCollector.reportMetric(HttpMetric.CONCURRENCY_ACQUIRE_DURATION, Duration.ofNanos(1_000));
+
+        attemptCollector.reportMetric(CoreMetric.SERVICE_ENDPOINT, SERVICE_ENDPOINT);
+        attemptCollector.reportMetric(CoreMetric.SIGNING_DURATION, Duration.ofNanos(20_000));
+        attemptCollector.reportMetric(CoreMetric.SERVICE_CALL_DURATION, Duration.ofNanos(500_000));
+        attemptCollector.reportMetric(HttpMetric.HTTP_STATUS_CODE, 200);
+        attemptCollector.reportMetric(CoreMetric.AWS_REQUEST_ID, "request-id");
+        attemptCollector.reportMetric(CoreMetric.UNMARSHALLING_DURATION, Duration.ofNanos(30_000));
+
+        apiCallCollector.reportMetric(CoreMetric.SERVICE_ID, "ProtocolRestJson");
+        apiCallCollector.reportMetric(CoreMetric.OPERATION_NAME, "AllTypes");
+        apiCallCollector.reportMetric(CoreMetric.MARSHALLING_DURATION, Duration.ofNanos(10_000));
+        apiCallCollector.reportMetric(CoreMetric.CREDENTIALS_FETCH_DURATION, Duration.ofNanos(1_000));
+        apiCallCollector.reportMetric(CoreMetric.RETRY_COUNT, 0);
+        apiCallCollector.reportMetric(CoreMetric.API_CALL_SUCCESSFUL, true);
+        apiCallCollector.reportMetric(CoreMetric.API_CALL_DURATION, Duration.ofNanos(600_000));
+
+        consume(apiCallCollector.collect(), blackhole);
+    }
+
+    private static void consume(MetricCollection collection, Blackhole blackhole) {
+        for (MetricRecord<?> record : collection) {
+            blackhole.consume(record.value());
+        }
+        collection.children().forEach(c -> consume(c, blackhole));
+    }
+
     private StreamingInputOperationRequest streamingInputRequest() {
         return StreamingInputOperationRequest.builder().build();
     }
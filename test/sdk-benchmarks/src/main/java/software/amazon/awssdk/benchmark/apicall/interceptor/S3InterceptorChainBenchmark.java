@@ -0,0 +1,103 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.apicall.interceptor;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.benchmark.utils.MockHttpClient;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+/**
+ * Measures the overhead of the execution interceptor chain on API calls of an S3 client, which registers a large set of
+ * service-specific interceptors, against a mock HTTP client.
+ * <p>
+ * Run with the {@link GCProfiler} and compare both the average time and the {@code gc.alloc.rate.norm} (bytes per operation)
+ * results.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 10, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class S3InterceptorChainBenchmark {
+
+    private static final HeadObjectRequest HEAD_OBJECT_REQUEST = HeadObjectRequest.builder()
+                                                                                  .bucket("benchmark-bucket")
+                                                                                  .key("benchmark-key")
+                                                                                  .build();
+
+    private static final PutObjectRequest PUT_OBJECT_REQUEST = PutObjectRequest.builder()
+                                                                               .bucket("benchmark-bucket")
+                                                                               .key("benchmark-key")
+                                                                               .build();
+
+    private S3Client client;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        client = S3Client.builder()
+                         .region(Region.US_WEST_2)
+                         .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("akid", "skid")))
+                         .httpClient(new MockHttpClient("", ""))
+                         .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.close();
+    }
+
+    @Benchmark
+    public void headObject(Blackhole blackhole) {
+        blackhole.consume(client.headObject(HEAD_OBJECT_REQUEST));
+    }
+
+    @Benchmark
+    public void putObject(Blackhole blackhole) {
+        blackhole.consume(client.putObject(PUT_OBJECT_REQUEST, RequestBody.fromString("benchmark-content")));
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(S3InterceptorChainBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.core;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.awscore.AwsExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute;
+
+/**
+ * Measures the cost of reading, writing and copying {@link ExecutionAttributes}, with a number of attributes similar to the
+ * ones set during an API call. Run with the {@link GCProfiler} to compare the bytes allocated by {@link #copy}.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ExecutionAttributesBenchmark {
+    private static final ExecutionAttribute<Object>[] ATTRIBUTES = attributes();
+
+    private ExecutionAttributes executionAttributes;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        executionAttributes = populate(new ExecutionAttributes());
+    }
+
+    @Benchmark
+    public void get(Blackhole blackhole) {
+        for (ExecutionAttribute<Object> attribute : ATTRIBUTES) {
+            blackhole.consume(executionAttributes.getAttribute(attribute));
+        }
+    }
+
+    @Benchmark
+    public ExecutionAttributes put() {
+        return populate(new ExecutionAttributes());
+    }
+
+    @Benchmark
+    public ExecutionAttributes copy() {
+        return executionAttributes.copy();
+    }
+
+    private static ExecutionAttributes populate(ExecutionAttributes executionAttributes) {
+        for (ExecutionAttribute<Object> attribute : ATTRIBUTES) {
+            executionAttributes.putAttribute(attribute, Boolean.TRUE);
+        }
+        return executionAttributes;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ExecutionAttribute<Object>[] attributes() {
+        return new ExecutionAttribute[] {
+            SdkExecutionAttribute.SERVICE_NAME,
+            SdkExecutionAttribute.OPERATION_NAME,
+            SdkExecutionAttribute.CLIENT_TYPE,
+            SdkExecutionAttribute.SERVICE_CONFIG,
+            SdkExecutionAttribute.ENDPOINT_OVERRIDDEN,
+            SdkExecutionAttribute.CLIENT_ENDPOINT,
+            SdkExecutionAttribute.API_CALL_ATTEMPT_METRIC_COLLECTOR,
+            SdkExecutionAttribute.TIME_OFFSET,
+            SdkExecutionAttribute.PROFILE_FILE_SUPPLIER,
+            SdkExecutionAttribute.PROFILE_NAME,
+            SdkInternalExecutionAttribute.IS_FULL_DUPLEX,
+            SdkInternalExecutionAttribute.HAS_INITIAL_REQUEST_EVENT,
+            SdkInternalExecutionAttribute.HTTP_CHECKSUM,
+            SdkInternalExecutionAttribute.HTTP_CHECKSUM_REQUIRED,
+            SdkInternalExecutionAttribute.DISABLE_HOST_PREFIX_INJECTION,
+            SdkInternalExecutionAttribute.ENDPOINT_PROVIDER,
+            SdkInternalExecutionAttribute.CLIENT_CONTEXT_PARAMS,
+            SdkInternalExecutionAttribute.IS_DISCOVERED_ENDPOINT,
+            SdkInternalExecutionAttribute.RESOLVED_ENDPOINT,
+            SdkInternalExecutionAttribute.SDK_HTTP_EXECUTION_ATTRIBUTES,
+            SdkInternalExecutionAttribute.REQUEST_COMPRESSION,
+            AwsExecutionAttribute.AWS_REGION,
+            AwsExecutionAttribute.ENDPOINT_PREFIX,
+            AwsExecutionAttribute.DUALSTACK_ENDPOINT_ENABLED,
+            AwsExecutionAttribute.FIPS_ENDPOINT_ENABLED,
+            AwsExecutionAttribute.USE_GLOBAL_ENDPOINT
+        };
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(ExecutionAttributesBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.enhanced.dynamodb;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * Measures the cost of converting items to and from the attribute value maps that are sent to and received from DynamoDB,
+ * without any network or marshalling overhead. Run with {@code -prof gc} to compare the allocation rate per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(2)
+@State(Scope.Benchmark)
+public class EnhancedClientItemMappingBenchmark {
+    @Param({"TINY", "SMALL", "HUGE", "HUGE_FLAT"})
+    private TestItem testItem;
+
+    @Benchmark
+    public Map<String, AttributeValue> itemToMap() {
+        return testItem.tableSchema.itemToMap(testItem.bean, true);
+    }
+
+    @Benchmark
+    public Object mapToItem() {
+        return testItem.tableSchema.mapToItem(testItem.av);
+    }
+
+    public enum TestItem {
+        TINY,
+        SMALL,
+        HUGE,
+        HUGE_FLAT
+        ;
+
+        private static final V2ItemFactory FACTORY = new V2ItemFactory();
+
+        private Map<String, AttributeValue> av;
+
+        private TableSchema tableSchema;
+        private Object bean;
+
+        static {
+            TINY.av = FACTORY.tiny();
+            TINY.tableSchema = V2ItemFactory.TINY_BEAN_TABLE_SCHEMA;
+            TINY.bean = FACTORY.tinyBean();
+
+            SMALL.av = FACTORY.small();
+            SMALL.tableSchema = V2ItemFactory.SMALL_BEAN_TABLE_SCHEMA;
+            SMALL.bean = FACTORY.smallBean();
+
+            HUGE.av = FACTORY.huge();
+            HUGE.tableSchema = V2ItemFactory.HUGE_BEAN_TABLE_SCHEMA;
+            HUGE.bean = FACTORY.hugeBean();
+
+            HUGE_FLAT.av = FACTORY.hugeFlat();
+            HUGE_FLAT.tableSchema = V2ItemFactory.HUGE_BEAN_FLAT_TABLE_SCHEMA;
+            HUGE_FLAT.bean = FACTORY.hugeBeanFlat();
+        }
+    }
+
+    public static void main(String... args) throws RunnerException, CommandLineOptionException {
+        Options opt = new OptionsBuilder()
+            .parent(new CommandLineOptions(args))
+            .include(EnhancedClientItemMappingBenchmark.class.getSimpleName())
+            .build();
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,407 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.enhanced.dynamodb;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPartitionKey;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * Compares the cost of mapping a numeric-heavy item whose properties are declared with primitive types against the same
+ * item declared with boxed types. Properties of type {@code int}, {@code long} and {@code double} are read and written
+ * without boxing their values. Run with {@code -prof gc} to compare the allocation rate per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(2)
+@State(Scope.Benchmark)
+public class EnhancedClientPrimitiveMappingBenchmark {
+    private static final TableSchema<PrimitiveTelemetryBean> PRIMITIVE_TABLE_SCHEMA =
+        TableSchema.fromBean(PrimitiveTelemetryBean.class);
+    private static final TableSchema<BoxedTelemetryBean> BOXED_TABLE_SCHEMA = TableSchema.fromBean(BoxedTelemetryBean.class);
+
+    private PrimitiveTelemetryBean primitiveBean;
+    private BoxedTelemetryBean boxedBean;
+    private Map<String, AttributeValue> itemMap;
+
+    @Setup
+    public void setup() {
+        primitiveBean = new PrimitiveTelemetryBean();
+        primitiveBean.setId("telemetry-1");
+        primitiveBean.setInt1(100007);
+        primitiveBean.setInt2(200007);
+        primitiveBean.setInt3(300007);
+        primitiveBean.setInt4(400007);
+        primitiveBean.setLong1(10000000007L);
+        primitiveBean.setLong2(20000000007L);
+        primitiveBean.setLong3(30000000007L);
+        primitiveBean.setLong4(40000000007L);
+        primitiveBean.setDouble1(1000.25);
+        primitiveBean.setDouble2(2000.25);
+        primitiveBean.setDouble3(3000.25);
+        primitiveBean.setDouble4(4000.25);
+        primitiveBean.setFlag1(true);
+        primitiveBean.setFlag2(false);
+
+        boxedBean = new BoxedTelemetryBean();
+        boxedBean.setId("telemetry-1");
+        boxedBean.setInt1(100007);
+        boxedBean.setInt2(200007);
+        boxedBean.setInt3(300007);
+        boxedBean.setInt4(400007);
+        boxedBean.setLong1(10000000007L);
+        boxedBean.setLong2(20000000007L);
+        boxedBean.setLong3(30000000007L);
+        boxedBean.setLong4(40000000007L);
+        boxedBean.setDouble1(1000.25);
+        boxedBean.setDouble2(2000.25);
+        boxedBean.setDouble3(3000.25);
+        boxedBean.setDouble4(4000.25);
+        boxedBean.setFlag1(true);
+        boxedBean.setFlag2(false);
+
+        itemMap = PRIMITIVE_TABLE_SCHEMA.itemToMap(primitiveBean, true);
+    }
+
+    @Benchmark
+    public Map<String, AttributeValue> primitiveItemToMap() {
+        return PRIMITIVE_TABLE_SCHEMA.itemToMap(primitiveBean, true);
+    }
+
+    @Benchmark
+    public Map<String, AttributeValue> boxedItemToMap() {
+        return BOXED_TABLE_SCHEMA.itemToMap(boxedBean, true);
+    }
+
+    @Benchmark
+    public PrimitiveTelemetryBean primitiveMapToItem() {
+        return PRIMITIVE_TABLE_SCHEMA.mapToItem(itemMap);
+    }
+
+    @Benchmark
+    public BoxedTelemetryBean boxedMapToItem() {
+        return BOXED_TABLE_SCHEMA.mapToItem(itemMap);
+    }
+
+    public static void main(String... args) throws RunnerException, CommandLineOptionException {
+        Options opt = new OptionsBuilder()
+            .parent(new CommandLineOptions(args))
+            .include(EnhancedClientPrimitiveMappingBenchmark.class.getSimpleName())
+            .build();
+        new Runner(opt).run();
+    }
+
+    @DynamoDbBean
+    public static class PrimitiveTelemetryBean {
+        private String id;
+        private int int1;
+        private int int2;
+        private int int3;
+        private int int4;
+        private long long1;
+        private long long2;
+        private long long3;
+        private long long4;
+        private double double1;
+        private double double2;
+        private double double3;
+        private double double4;
+        private boolean flag1;
+        private boolean flag2;
+
+        @DynamoDbPartitionKey
+        public String getId() {
+            return id;
+        }
+
+        public void setId(String id) {
+            this.id = id;
+        }
+
+        public int getInt1() {
+            return int1;
+        }
+
+        public void setInt1(int int1) {
+            this.int1 = int1;
+        }
+
+        public int getInt2() {
+            return int2;
+        }
+
+        public void setInt2(int int2) {
+            this.int2 = int2;
+        }
+
+        public int getInt3() {
+            return int3;
+        }
+
+        public void setInt3(int int3) {
+            this.int3 = int3;
+        }
+
+        public int getInt4() {
+            return int4;
+        }
+
+        public void setInt4(int int4) {
+            this.int4 = int4;
+        }
+
+        public long getLong1() {
+            return long1;
+        }
+
+        public void setLong1(long long1) {
+            this.long1 = long1;
+        }
+
+        public long getLong2() {
+            return long2;
+        }
+
+        public void setLong2(long long2) {
+            this.long2 = long2;
+        }
+
+        public long getLong3() {
+            return long3;
+        }
+
+        public void setLong3(long long3) {
+            this.long3 = long3;
+        }
+
+        public long getLong4() {
+            return long4;
+        }
+
+        public void setLong4(long long4) {
+            this.long4 = long4;
+        }
+
+        public double getDouble1() {
+            return double1;
+        }
+
+        public void setDouble1(double double1) {
+            this.double1 = double1;
+        }
+
+        public double getDouble2() {
+            return double2;
+        }
+
+        public void setDouble2(double double2) {
+            this.double2 = double2;
+        }
+
+        public double getDouble3() {
+            return double3;
+        }
+
+        public void setDouble3(double double3) {
+            this.double3 = double3;
+        }
+
+        public double getDouble4() {
+            return double4;
+        }
+
+        public void setDouble4(double double4) {
+            this.double4 = double4;
+        }
+
+        public boolean isFlag1() {
+            return flag1;
+        }
+
+        public void setFlag1(boolean flag1) {
+            this.flag1 = flag1;
+        }
+
+        public boolean isFlag2() {
+            return flag2;
+        }
+
+        public void setFlag2(boolean flag2) {
+            this.flag2 = flag2;
+        }
+    }
+
+    @DynamoDbBean
+    public static class BoxedTelemetryBean {
+        private String id;
+        private Integer int1;
+        private Integer int2;
+        private Integer int3;
+        private Integer int4;
+        private Long long1;
+        private Long long2;
+        private Long long3;
+        private Long long4;
+        private Double double1;
+        private Double double2;
+        private Double double3;
+        private Double double4;
+        private Boolean flag1;
+        private Boolean flag2;
+
+        @DynamoDbPartitionKey
+        public String getId() {
+            return id;
+        }
+
+        public void setId(String id) {
+            this.id = id;
+        }
+
+        public Integer getInt1() {
+            return int1;
+        }
+
+        public void setInt1(Integer int1) {
+            this.int1 = int1;
+        }
+
+        public Integer getInt2() {
+            return int2;
+        }
+
+        public void setInt2(Integer int2) {
+            this.int2 = int2;
+        }
+
+        public Integer getInt3() {
+            return int3;
+        }
+
+        public void setInt3(Integer int3) {
+            this.int3 = int3;
+        }
+
+        public Integer getInt4() {
+            return int4;
+        }
+
+        public void setInt4(Integer int4) {
+            this.int4 = int4;
+        }
+
+        public Long getLong1() {
+            return long1;
+        }
+
+        public void setLong1(Long long1) {
+            this.long1 = long1;
+        }
+
+        public Long getLong2() {
+            return long2;
+        }
+
+        public void setLong2(Long long2) {
+            this.long2 = long2;
+        }
+
+        public Long getLong3() {
+            return long3;
+        }
+
+        public void setLong3(Long long3) {
+            this.long3 = long3;
+        }
+
+        public Long getLong4() {
+            return long4;
+        }
+
+        public void setLong4(Long long4) {
+            this.long4 = long4;
+        }
+
+        public Double getDouble1() {
+            return double1;
+        }
+
+        public void setDouble1(Double double1) {
+            this.double1 = double1;
+        }
+
+        public Double getDouble2() {
+            return double2;
+        }
+
+        public void setDouble2(Double double2) {
+            this.double2 = double2;
+        }
+
+        public Double getDouble3() {
+            return double3;
+        }
+
+        public void setDouble3(Double double3) {
+            this.double3 = double3;
+        }
+
+        public Double getDouble4() {
+            return double4;
+        }
+
+        public void setDouble4(Double double4) {
+            this.double4 = double4;
+        }
+
+        public Boolean getFlag1() {
+            return flag1;
+        }
+
+        public void setFlag1(Boolean flag1) {
+            this.flag1 = flag1;
+        }
+
+        public Boolean getFlag2() {
+            return flag2;
+        }
+
+        public void setFlag2(Boolean flag2) {
+            this.flag2 = flag2;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.enhanced.dynamodb;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.enhanced.dynamodb.DefaultAttributeConverterProvider;
+import software.amazon.awssdk.enhanced.dynamodb.EnhancedType;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * Measures the cold start cost of creating a table schema and mapping the first item with it, comparing the reflective
+ * {@link TableSchema#fromBean(Class)} with the table schema generated at compile time by the annotation processor. Every
+ * measurement runs in a new JVM, so it includes the class loading and the reflective introspection of the bean.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(30)
+@State(Scope.Benchmark)
+public class EnhancedClientTableSchemaCreationBenchmark {
+    private final CustomerBean customer = customer();
+
+    /**
+     * Loads the converters that both table schemas share, so that only the cost of creating the table schema is measured.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        DefaultAttributeConverterProvider.create().converterFor(EnhancedType.of(String.class));
+    }
+
+    @Benchmark
+    public Map<String, AttributeValue> beanTableSchema() {
+        return TableSchema.fromBean(CustomerBean.class).itemToMap(customer, true);
+    }
+
+    @Benchmark
+    public Map<String, AttributeValue> generatedTableSchema() {
+        return CustomerBeanTableSchema.create().itemToMap(customer, true);
+    }
+
+    private static CustomerBean customer() {
+        CustomerBean customer = new CustomerBean();
+        customer.setId("id");
+        customer.setSortKey("sort");
+        customer.setName("name");
+        customer.setEmail("name@example.com");
+        customer.setCity("city");
+        customer.setAge(42);
+        customer.setBalance(1_000L);
+        customer.setActive(true);
+        customer.setCreatedDate(Instant.EPOCH);
+        customer.setTags(Arrays.asList("a", "b", "c"));
+        customer.setAttributes(Collections.singletonMap("key", "value"));
+        return customer;
+    }
+
+    public static void main(String... args) throws RunnerException, CommandLineOptionException {
+        Options opt = new OptionsBuilder()
+            .parent(new CommandLineOptions(args))
+            .include(EnhancedClientTableSchemaCreationBenchmark.class.getSimpleName())
+            .build();
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.metricpublisher;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.metrics.MetricCategory;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.MetricLevel;
+import software.amazon.awssdk.metrics.SdkMetric;
+import software.amazon.awssdk.metrics.publishers.cloudwatch.internal.transform.MetricCollectionAggregator;
+import software.amazon.awssdk.services.cloudwatch.model.PutMetricDataRequest;
+
+/**
+ * Measures the time taken to aggregate a million metric collections with a high-cardinality detailed metric, and to create
+ * the put-metric-data requests for them, with the exact values and with the log-bucketed histogram.
+ *
+ * <p>The number of requests and values that are uploaded are reported as secondary results. Run with the {@link GCProfiler}
+ * to compare the bytes allocated.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(2)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CloudWatchMetricAggregationBenchmark {
+    private static final int COLLECTIONS = 1_000_000;
+    private static final int UNIQUE_COLLECTIONS = 100_000;
+    private static final SdkMetric<Double> LATENCY = SdkMetric.create("BenchmarkLatency", Double.class, MetricLevel.INFO,
+                                                                      MetricCategory.CUSTOM);
+
+    /**
+     * The relative error of the detailed metric values, or 0 to keep the exact values.
+     */
+    @Param({"0", "0.01"})
+    private double relativeError;
+
+    private MetricCollection[] collections;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(0);
+        collections = new MetricCollection[UNIQUE_COLLECTIONS];
+        for (int i = 0; i < UNIQUE_COLLECTIONS; i++) {
+            MetricCollector collector = MetricCollector.create("ApiCall");
+            collector.reportMetric(CoreMetric.SERVICE_ID, "DynamoDB");
+            collector.reportMetric(CoreMetric.OPERATION_NAME, "GetItem");
+            // A log-normal latency with a median of 20 milliseconds, with nanosecond precision
+            collector.reportMetric(LATENCY, Math.exp(Math.log(20) + random.nextGaussian()));
+            collections[i] = collector.collect();
+        }
+    }
+
+    @Benchmark
+    public int aggregate(UploadCounters counters) {
+        MetricCollectionAggregator aggregator =
+            new MetricCollectionAggregator("AwsSdk/JavaSdk2",
+                                           Collections.singleton(CoreMetric.OPERATION_NAME),
+                                           Collections.singleton(MetricCategory.ALL),
+                                           MetricLevel.INFO,
+                                           Collections.singleton(LATENCY),
+                                           relativeError == 0 ? null : relativeError);
+
+        for (int i = 0; i < COLLECTIONS; i++) {
+            aggregator.addCollection(collections[i % UNIQUE_COLLECTIONS]);
+        }
+
+        List<PutMetricDataRequest> requests = aggregator.getRequests();
+        counters.requests = requests.size();
+        counters.values = requests.stream().flatMap(r -> r.metricData().stream()).mapToInt(d -> d.values().size()).sum();
+        return requests.size();
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class UploadCounters {
+        public int requests;
+        public int values;
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(CloudWatchMetricAggregationBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.metricpublisher;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.publishers.jmx.JmxMetricPublisher;
+import software.amazon.awssdk.metrics.publishers.jmx.OperationMetricsSnapshot;
+
+/**
+ * Measures the throughput of publishing the metrics of API calls to the {@link JmxMetricPublisher} from one thread, from 8
+ * threads, and from 7 threads while another thread takes snapshots, like a JMX client polling the MBeans would.
+ *
+ * <p>The publisher does not acquire locks when publishing, so the throughput with 8 threads should scale with the number of
+ * available cores. Run with the {@link GCProfiler} to check the bytes allocated per published collection.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(2)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JmxMetricPublisherBenchmark {
+    private static final String[] OPERATIONS = {"GetItem", "PutItem", "Query", "UpdateItem"};
+    private static final int UNIQUE_COLLECTIONS = 4096;
+
+    private JmxMetricPublisher publisher;
+    private MetricCollection[] collections;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        publisher = JmxMetricPublisher.create();
+
+        Random random = new Random(0);
+        collections = new MetricCollection[UNIQUE_COLLECTIONS];
+        for (int i = 0; i < UNIQUE_COLLECTIONS; i++) {
+            // A log-normal latency with a median of 20 milliseconds
+            Duration latency = Duration.ofNanos((long) (TimeUnit.MILLISECONDS.toNanos(20) * Math.exp(random.nextGaussian())));
+
+            MetricCollector collector = MetricCollector.create("ApiCall");
+            collector.reportMetric(CoreMetric.SERVICE_ID, "DynamoDB");
+            collector.reportMetric(CoreMetric.OPERATION_NAME, OPERATIONS[i % OPERATIONS.length]);
+            collector.reportMetric(CoreMetric.API_CALL_SUCCESSFUL, true);
+            collector.reportMetric(CoreMetric.API_CALL_DURATION, latency);
+            MetricCollector attempt = collector.createChild("ApiCallAttempt");
+            attempt.reportMetric(CoreMetric.SERVICE_CALL_DURATION, latency.multipliedBy(9).dividedBy(10));
+            collections[i] = collector.collect();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        publisher.close();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void publishSingleThread(CollectionIndex index) {
+        publisher.publish(collections[index.next()]);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void publishEightThreads(CollectionIndex index) {
+        publisher.publish(collections[index.next()]);
+    }
+
+    @Benchmark
+    @Group("publishWhileTakingSnapshots")
+    @GroupThreads(7)
+    public void publish(CollectionIndex index) {
+        publisher.publish(collections[index.next()]);
+    }
+
+    @Benchmark
+    @Group("publishWhileTakingSnapshots")
+    @GroupThreads(1)
+    public List<OperationMetricsSnapshot> snapshot() {
+        return publisher.snapshot();
+    }
+
+    @State(Scope.Thread)
+    public static class CollectionIndex {
+        private int index;
+
+        public int next() {
+            index = (index + 1) % UNIQUE_COLLECTIONS;
+            return index;
+        }
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(JmxMetricPublisherBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(opt).run();
+    }
+}